@@ -0,0 +1,257 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.base.data.aggregation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.knime.base.data.aggregation.general.ApproximateUniqueCountOperator;
+import org.knime.base.data.aggregation.general.CountOperator;
+import org.knime.base.data.aggregation.general.FirstOperator;
+import org.knime.base.data.aggregation.general.LastOperator;
+import org.knime.base.data.aggregation.general.ListCellOperator;
+import org.knime.base.data.aggregation.general.MaxOperator;
+import org.knime.base.data.aggregation.general.MinOperator;
+import org.knime.base.data.aggregation.general.MissingValueCountOperator;
+import org.knime.base.data.aggregation.general.UniqueCountOperator;
+import org.knime.base.data.aggregation.numerical.ApproximateMedianOperator;
+import org.knime.base.data.aggregation.numerical.ApproximateQuantileOperator;
+import org.knime.base.data.aggregation.numerical.MeanOperator;
+import org.knime.base.data.aggregation.numerical.MedianOperator;
+import org.knime.base.data.aggregation.numerical.QuantileOperator;
+import org.knime.base.data.aggregation.numerical.RangeOperator;
+import org.knime.base.data.aggregation.numerical.StdDeviationOperator;
+import org.knime.base.data.aggregation.numerical.SumOperator;
+import org.knime.base.data.aggregation.numerical.VarianceOperator;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+
+/**
+ * Checks that merging the partial results of an {@link AggregationOperator} gives the same result as aggregating
+ * all cells with a single operator.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class AggregationOperatorMergeTest {
+
+    private static final DataColumnSpec COL_SPEC = new DataColumnSpecCreator("value", DoubleCell.TYPE).createSpec();
+
+    private static final GlobalSettings SETTINGS = GlobalSettings.builder()
+        .setDataTableSpec(new DataTableSpec(COL_SPEC)).setMaxUniqueValues(10000).build();
+
+    /**
+     * Merges operators that support merging in various split positions.
+     */
+    @Test
+    public void testMergeEqualsSequentialAggregation() {
+        final List<DataRow> rows = createRows(500, 42);
+        final AggregationOperator[] templates = new AggregationOperator[] {
+            new CountOperator(GlobalSettings.DEFAULT, OperatorColumnSettings.DEFAULT_INCL_MISSING),
+            new MissingValueCountOperator(GlobalSettings.DEFAULT, OperatorColumnSettings.DEFAULT_INCL_MISSING),
+            new SumOperator(GlobalSettings.DEFAULT, OperatorColumnSettings.DEFAULT_EXCL_MISSING),
+            new MeanOperator(GlobalSettings.DEFAULT, OperatorColumnSettings.DEFAULT_EXCL_MISSING),
+            new VarianceOperator(GlobalSettings.DEFAULT, OperatorColumnSettings.DEFAULT_EXCL_MISSING),
+            new StdDeviationOperator(GlobalSettings.DEFAULT, OperatorColumnSettings.DEFAULT_EXCL_MISSING),
+            new MinOperator(GlobalSettings.DEFAULT, OperatorColumnSettings.DEFAULT_EXCL_MISSING),
+            new MaxOperator(GlobalSettings.DEFAULT, OperatorColumnSettings.DEFAULT_EXCL_MISSING),
+            new RangeOperator(GlobalSettings.DEFAULT, OperatorColumnSettings.DEFAULT_EXCL_MISSING),
+            new FirstOperator(GlobalSettings.DEFAULT, OperatorColumnSettings.DEFAULT_INCL_MISSING),
+            new LastOperator(GlobalSettings.DEFAULT, OperatorColumnSettings.DEFAULT_INCL_MISSING),
+            new UniqueCountOperator(GlobalSettings.DEFAULT, OperatorColumnSettings.DEFAULT_INCL_MISSING),
+            new ApproximateUniqueCountOperator(GlobalSettings.DEFAULT, OperatorColumnSettings.DEFAULT_INCL_MISSING),
+            new ListCellOperator(GlobalSettings.DEFAULT, OperatorColumnSettings.DEFAULT_INCL_MISSING),
+            new MedianOperator(GlobalSettings.DEFAULT, OperatorColumnSettings.DEFAULT_EXCL_MISSING),
+            new QuantileOperator(GlobalSettings.DEFAULT, OperatorColumnSettings.DEFAULT_EXCL_MISSING)};
+        for (final AggregationOperator template : templates) {
+            Assert.assertTrue(template.getLabel() + " should support merging", template.supportsMerge());
+            final DataCell expected = aggregate(template, rows, 0, rows.size()).getResult();
+            for (final int split : new int[]{0, 1, 137, rows.size() - 1, rows.size()}) {
+                final AggregationOperator first = aggregate(template, rows, 0, split);
+                first.merge(aggregate(template, rows, split, rows.size()));
+                assertCellEquals(template.getLabel() + " split at " + split, expected, first.getResult());
+                Assert.assertEquals(template.getLabel() + " missing values",
+                    aggregate(template, rows, 0, rows.size()).getMissingValuesCount(),
+                    first.getMissingValuesCount());
+            }
+        }
+    }
+
+    /**
+     * The approximate median and quantile operators are exact for small groups and close to the exact result for
+     * larger ones, also when merged.
+     */
+    @Test
+    public void testMergeApproximateQuantiles() {
+        final List<DataRow> rows = createRows(5000, 11);
+        final AggregationOperator[][] templates = new AggregationOperator[][]{
+            {new MedianOperator(GlobalSettings.DEFAULT, OperatorColumnSettings.DEFAULT_EXCL_MISSING),
+                new ApproximateMedianOperator(GlobalSettings.DEFAULT, OperatorColumnSettings.DEFAULT_EXCL_MISSING)},
+            {new QuantileOperator(GlobalSettings.DEFAULT, OperatorColumnSettings.DEFAULT_EXCL_MISSING),
+                new ApproximateQuantileOperator(GlobalSettings.DEFAULT, OperatorColumnSettings.DEFAULT_EXCL_MISSING)}};
+        // less than 200 values are kept completely
+        assertCellEquals("Median (approximate)", aggregate(templates[0][0], rows, 0, 150).getResult(),
+            aggregate(templates[0][1], rows, 0, 150).getResult());
+        for (final AggregationOperator[] pair : templates) {
+            final AggregationOperator approximate = pair[1];
+            Assert.assertTrue(approximate.getLabel() + " should support merging", approximate.supportsMerge());
+            final double expected =
+                ((DoubleValue)aggregate(pair[0], rows, 0, rows.size()).getResult()).getDoubleValue();
+            for (final int split : new int[]{0, 137, 2500, rows.size()}) {
+                final AggregationOperator first = aggregate(approximate, rows, 0, split);
+                first.merge(aggregate(approximate, rows, split, rows.size()));
+                // the values are evenly distributed between 0 and 50
+                Assert.assertEquals(approximate.getLabel() + " split at " + split, expected,
+                    ((DoubleValue)first.getResult()).getDoubleValue(), 2);
+            }
+        }
+    }
+
+    /**
+     * Merging a skipped operator skips the result as well.
+     */
+    @Test
+    public void testMergeExceedingMaxUniqueValues() {
+        final GlobalSettings settings = GlobalSettings.builder()
+            .setDataTableSpec(new DataTableSpec(COL_SPEC)).setMaxUniqueValues(300).build();
+        final List<DataRow> rows = createRows(500, 7);
+        final AggregationOperator template =
+            new ListCellOperator(GlobalSettings.DEFAULT, OperatorColumnSettings.DEFAULT_INCL_MISSING);
+        final AggregationOperator first = template.createOperator(settings, createColumnSettings(template));
+        final AggregationOperator second = template.createOperator(settings, createColumnSettings(template));
+        for (int i = 0; i < 250; i++) {
+            first.compute(rows.get(i), 0);
+            second.compute(rows.get(250 + i), 0);
+        }
+        Assert.assertFalse(first.isSkipped());
+        first.merge(second);
+        Assert.assertTrue("Merged operator exceeds maximum unique values", first.isSkipped());
+        Assert.assertTrue(first.getResult().isMissing());
+    }
+
+    /**
+     * Operators that don't support merging throw an exception.
+     */
+    @Test(expected = UnsupportedOperationException.class)
+    public void testMergeUnsupported() {
+        final AggregationOperator operator = new AggregationOperator(
+            new OperatorData("Test", false, false, DoubleValue.class, false)) {
+            @Override
+            public AggregationOperator createInstance(final GlobalSettings globalSettings,
+                final OperatorColumnSettings opColSettings) {
+                return this;
+            }
+            @Override
+            protected DataType getDataType(final DataType origType) {
+                return origType;
+            }
+            @Override
+            protected boolean computeInternal(final DataCell cell) {
+                return false;
+            }
+            @Override
+            protected DataCell getResultInternal() {
+                return DataType.getMissingCell();
+            }
+            @Override
+            protected void resetInternal() {
+                // nothing to reset
+            }
+            @Override
+            public String getDescription() {
+                return "Test";
+            }
+        };
+        Assert.assertFalse(operator.supportsMerge());
+        operator.merge(operator);
+    }
+
+    private static AggregationOperator aggregate(final AggregationOperator template, final List<DataRow> rows,
+        final int from, final int to) {
+        final AggregationOperator operator = template.createOperator(SETTINGS, createColumnSettings(template));
+        for (int i = from; i < to; i++) {
+            operator.compute(rows.get(i), 0);
+        }
+        return operator;
+    }
+
+    private static OperatorColumnSettings createColumnSettings(final AggregationOperator template) {
+        return new OperatorColumnSettings(template.inclMissingCells(), COL_SPEC);
+    }
+
+    private static void assertCellEquals(final String msg, final DataCell expected, final DataCell actual) {
+        if (expected instanceof DoubleCell && actual instanceof DoubleCell) {
+            final double value = ((DoubleValue)expected).getDoubleValue();
+            final double delta = 1e-9 * Math.max(1, Math.abs(value));
+            Assert.assertEquals(msg, value, ((DoubleValue)actual).getDoubleValue(), delta);
+        } else {
+            Assert.assertEquals(msg, expected, actual);
+        }
+    }
+
+    /** Creates rows with values from a small range so that the cells contain duplicates and some missing cells. */
+    private static List<DataRow> createRows(final int count, final long seed) {
+        final Random random = new Random(seed);
+        final List<DataRow> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final DataCell cell =
+                random.nextInt(20) == 0 ? DataType.getMissingCell() : new DoubleCell(random.nextInt(200) / 4.0);
+            rows.add(new DefaultRow("Row" + i, cell));
+        }
+        return rows;
+    }
+}
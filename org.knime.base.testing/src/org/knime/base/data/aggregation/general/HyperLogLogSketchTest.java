@@ -0,0 +1,162 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.base.data.aggregation.general;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * Tests the {@link HyperLogLogSketch}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class HyperLogLogSketchTest {
+
+    /**
+     * Small cardinalities are counted exactly.
+     */
+    @Test
+    public void testExactForSmallCardinalities() {
+        final HyperLogLogSketch sketch = new HyperLogLogSketch(HyperLogLogSketch.DEFAULT_PRECISION);
+        for (int i = 0; i < 3000; i++) {
+            sketch.add(HyperLogLogSketch.hash(new StringCell("Value " + (i % 300))));
+        }
+        Assert.assertEquals(300, sketch.estimate());
+        sketch.reset();
+        Assert.assertEquals(0, sketch.estimate());
+    }
+
+    /**
+     * Distinct values whose 32 bit hash codes collide are counted exactly, equal cells are counted once.
+     */
+    @Test
+    public void testHashCollisions() {
+        final HyperLogLogSketch sketch = new HyperLogLogSketch(HyperLogLogSketch.DEFAULT_PRECISION);
+        for (long i = 1; i <= 256; i++) {
+            //both cells have the hash code i
+            final LongCell low = new LongCell(i);
+            final LongCell high = new LongCell(i << 32);
+            Assert.assertEquals(low.hashCode(), high.hashCode());
+            sketch.add(HyperLogLogSketch.hash(low));
+            sketch.add(HyperLogLogSketch.hash(high));
+        }
+        Assert.assertEquals(512, sketch.estimate());
+
+        sketch.reset();
+        sketch.add(HyperLogLogSketch.hash(new DoubleCell(0.0)));
+        sketch.add(HyperLogLogSketch.hash(new DoubleCell(-0.0)));
+        sketch.add(HyperLogLogSketch.hash(new DoubleCell(Double.NaN)));
+        sketch.add(HyperLogLogSketch.hash(new DoubleCell(0.0 / 0.0)));
+        sketch.add(HyperLogLogSketch.hash(new StringCell("Aa")));
+        //same hash code as "Aa"
+        sketch.add(HyperLogLogSketch.hash(new StringCell("BB")));
+        sketch.add(HyperLogLogSketch.hash(new IntCell(1)));
+        //cells of different classes are never equal
+        sketch.add(HyperLogLogSketch.hash(new LongCell(1)));
+        Assert.assertEquals(6, sketch.estimate());
+    }
+
+    /**
+     * Large cardinalities are estimated within a few standard errors.
+     */
+    @Test
+    public void testEstimateLargeCardinalities() {
+        for (final int count : new int[]{1000, 10000, 100000, 1000000}) {
+            final HyperLogLogSketch sketch = new HyperLogLogSketch(HyperLogLogSketch.DEFAULT_PRECISION);
+            for (int i = 0; i < count; i++) {
+                sketch.add(HyperLogLogSketch.hash(new IntCell(i)));
+                //duplicates must not change the estimate
+                sketch.add(HyperLogLogSketch.hash(new IntCell(i / 2)));
+            }
+            final double error = Math.abs(sketch.estimate() - count) / (double)count;
+            Assert.assertTrue("Estimate " + sketch.estimate() + " for " + count + " values", error < 0.05);
+        }
+    }
+
+    /**
+     * Merging sketches of disjoint and overlapping value sets.
+     */
+    @Test
+    public void testMerge() {
+        final HyperLogLogSketch all = new HyperLogLogSketch(HyperLogLogSketch.DEFAULT_PRECISION);
+        final HyperLogLogSketch first = new HyperLogLogSketch(HyperLogLogSketch.DEFAULT_PRECISION);
+        final HyperLogLogSketch second = new HyperLogLogSketch(HyperLogLogSketch.DEFAULT_PRECISION);
+        final HyperLogLogSketch small = new HyperLogLogSketch(HyperLogLogSketch.DEFAULT_PRECISION);
+        for (int i = 0; i < 50000; i++) {
+            final long hash = HyperLogLogSketch.hash(new IntCell(i));
+            all.add(hash);
+            if (i < 30000) {
+                first.add(hash);
+            }
+            if (i >= 20000) {
+                second.add(hash);
+            }
+            if (i < 100) {
+                small.add(hash);
+            }
+        }
+        first.merge(second);
+        Assert.assertEquals(all.estimate(), first.estimate());
+        first.merge(small);
+        Assert.assertEquals(all.estimate(), first.estimate());
+        small.merge(all);
+        Assert.assertEquals(all.estimate(), small.estimate());
+    }
+
+    /**
+     * Sketches with different precision can't be merged.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testMergeDifferentPrecision() {
+        new HyperLogLogSketch(10).merge(new HyperLogLogSketch(12));
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.base.data.statistics;
+
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the {@link QuantileSketch}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class QuantileSketchTest {
+
+    private static final double[] QUANTILES = new double[]{0.01, 0.1, 0.25, 0.5, 0.75, 0.9, 0.99};
+
+    /**
+     * Small streams are kept completely and give the exact (linearly interpolated) quantiles.
+     */
+    @Test
+    public void testExactForSmallStreams() {
+        final QuantileSketch sketch = new QuantileSketch();
+        Assert.assertTrue(Double.isNaN(sketch.getQuantile(0.5)));
+        for (final double value : new double[]{5, 1, 4, 2}) {
+            sketch.update(value);
+        }
+        Assert.assertTrue(sketch.isExact());
+        Assert.assertEquals(3, sketch.getQuantile(0.5), 0);
+        Assert.assertEquals(1.75, sketch.getQuantile(0.25), 1e-12);
+        Assert.assertEquals(1, sketch.getQuantile(0), 0);
+        Assert.assertEquals(5, sketch.getQuantile(1), 0);
+        sketch.reset();
+        Assert.assertEquals(0, sketch.getCount());
+    }
+
+    /**
+     * The rank of the estimated quantiles of a large stream is within the error bound.
+     */
+    @Test
+    public void testRankErrorLargeStream() {
+        final Random random = new Random(42);
+        final double[] values = new double[1000000];
+        final QuantileSketch sketch = new QuantileSketch();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextGaussian();
+            sketch.update(values[i]);
+        }
+        Assert.assertFalse(sketch.isExact());
+        Assert.assertEquals(values.length, sketch.getCount());
+        checkRankError(sketch, values);
+    }
+
+    /**
+     * Merged sketches of partitions have the same error bound as a single sketch.
+     */
+    @Test
+    public void testMerge() {
+        final Random random = new Random(7);
+        final double[] values = new double[300000];
+        final QuantileSketch[] parts = new QuantileSketch[7];
+        for (int i = 0; i < parts.length; i++) {
+            parts[i] = new QuantileSketch();
+        }
+        for (int i = 0; i < values.length; i++) {
+            // partitions with different distributions and sizes
+            final int part = Math.min(parts.length - 1, (int)Math.sqrt(random.nextInt(parts.length * parts.length)));
+            values[i] = part * 10 + random.nextDouble() * 20;
+            parts[part].update(values[i]);
+        }
+        final QuantileSketch merged = new QuantileSketch();
+        merged.merge(new QuantileSketch());
+        for (final QuantileSketch part : parts) {
+            merged.merge(part);
+        }
+        Assert.assertEquals(values.length, merged.getCount());
+        checkRankError(merged, values);
+    }
+
+    /**
+     * Sketches with different accuracy can't be merged.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testMergeDifferentAccuracy() {
+        new QuantileSketch(100).merge(new QuantileSketch(200));
+    }
+
+    private static void checkRankError(final QuantileSketch sketch, final double[] values) {
+        final double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        for (final double q : QUANTILES) {
+            final double estimate = sketch.getQuantile(q);
+            int rank = Arrays.binarySearch(sorted, estimate);
+            if (rank < 0) {
+                rank = -rank - 1;
+            }
+            final double error = Math.abs(rank / (double)sorted.length - q);
+            Assert.assertTrue("Rank error " + error + " for quantile " + q, error < 0.02);
+        }
+        Assert.assertEquals(sorted[0], sketch.getMin(), 0);
+        Assert.assertEquals(sorted[sorted.length - 1], sketch.getMax(), 0);
+    }
+}
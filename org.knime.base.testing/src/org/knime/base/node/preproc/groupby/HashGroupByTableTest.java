@@ -0,0 +1,209 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.base.node.preproc.groupby;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.knime.base.data.aggregation.ColumnAggregator;
+import org.knime.base.data.aggregation.GlobalSettings;
+import org.knime.base.data.aggregation.OperatorColumnSettings;
+import org.knime.base.data.aggregation.general.CountOperator;
+import org.knime.base.data.aggregation.numerical.SumOperator;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.util.memory.MemoryAlertSystem.MemoryActionIndicator;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.workflow.SingleNodeContainer;
+
+/**
+ * Compares the result of the {@link HashGroupByTable} with the one of the {@link BigGroupByTable}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class HashGroupByTableTest {
+
+    private static final int ROW_COUNT = 20000;
+
+    private static final int GROUP_COUNT = 3000;
+
+    private static ExecutionContext EXEC_CONTEXT;
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @BeforeClass
+    public static void setUpBeforeClass() throws Exception {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        NodeFactory<NodeModel> factory = (NodeFactory)new GroupByNodeFactory();
+        EXEC_CONTEXT = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(factory),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, new HashMap<Integer, ContainerTable>());
+    }
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @AfterClass
+    public static void tearDownAfterClass() throws Exception {
+        EXEC_CONTEXT = null;
+    }
+
+    /**
+     * Groups without swapping partitions to disk.
+     * @throws Exception if grouping fails
+     */
+    @Test
+    public void testInMemory() throws Exception {
+        testGroupBy(false, false, false);
+        testGroupBy(false, true, false);
+    }
+
+    /**
+     * Groups with partitions swapped to disk on all levels.
+     * @throws Exception if grouping fails
+     */
+    @Test
+    public void testSpilling() throws Exception {
+        testGroupBy(true, false, false);
+        testGroupBy(true, true, false);
+    }
+
+    /**
+     * Groups with the original row order retained.
+     * @throws Exception if grouping fails
+     */
+    @Test
+    public void testRetainOrder() throws Exception {
+        testGroupBy(false, true, true);
+        testGroupBy(true, true, true);
+    }
+
+    private static void testGroupBy(final boolean forceSpilling, final boolean enableHilite,
+        final boolean retainOrder) throws Exception {
+        final BufferedDataTable table = createTable();
+        final DataTableSpec spec = table.getDataTableSpec();
+        final List<String> groupCols = Arrays.asList("group");
+        final GlobalSettings globalSettings = GlobalSettings.builder().setDataTableSpec(spec)
+            .setGroupColNames(groupCols).setNoOfRows(table.size()).build();
+
+        final GroupByTable expected = new BigGroupByTable(EXEC_CONTEXT, table, groupCols,
+            createAggregators(spec), globalSettings, enableHilite, ColumnNamePolicy.AGGREGATION_METHOD_COLUMN_NAME,
+            retainOrder);
+        final GroupByTable actual;
+        if (forceSpilling) {
+            actual = new HashGroupByTable(EXEC_CONTEXT, table, groupCols, createAggregators(spec), globalSettings,
+                enableHilite, ColumnNamePolicy.AGGREGATION_METHOD_COLUMN_NAME, retainOrder) {
+                @Override
+                boolean isSpillRequired(final MemoryActionIndicator indicator, final long groupCount) {
+                    return groupCount > 50;
+                }
+            };
+        } else {
+            actual = new HashGroupByTable(EXEC_CONTEXT, table, groupCols, createAggregators(spec), globalSettings,
+                enableHilite, ColumnNamePolicy.AGGREGATION_METHOD_COLUMN_NAME, retainOrder);
+        }
+
+        final BufferedDataTable expectedTable = expected.getBufferedTable();
+        final BufferedDataTable actualTable = actual.getBufferedTable();
+        Assert.assertEquals("Wrong spec", expectedTable.getDataTableSpec(), actualTable.getDataTableSpec());
+        Assert.assertEquals("Wrong number of groups", GROUP_COUNT, actualTable.size());
+        final Iterator<DataRow> expectedIt = expectedTable.iterator();
+        for (final DataRow row : actualTable) {
+            final DataRow expectedRow = expectedIt.next();
+            Assert.assertEquals("Wrong row key", expectedRow.getKey(), row.getKey());
+            for (int i = 0; i < row.getNumCells(); i++) {
+                Assert.assertEquals("Wrong cell in row " + row.getKey(), expectedRow.getCell(i), row.getCell(i));
+            }
+        }
+        if (enableHilite) {
+            Assert.assertEquals("Wrong hilite mapping", expected.getHiliteMapping(), actual.getHiliteMapping());
+        } else {
+            Assert.assertNull("Unexpected hilite mapping", actual.getHiliteMapping());
+        }
+    }
+
+    private static ColumnAggregator[] createAggregators(final DataTableSpec spec) {
+        final GlobalSettings settings = new GlobalSettings(0);
+        return new ColumnAggregator[] {
+            new ColumnAggregator(spec.getColumnSpec("value"),
+                new SumOperator(settings, OperatorColumnSettings.DEFAULT_EXCL_MISSING)),
+            new ColumnAggregator(spec.getColumnSpec("value"),
+                new CountOperator(settings, OperatorColumnSettings.DEFAULT_EXCL_MISSING))};
+    }
+
+    private static BufferedDataTable createTable() {
+        final DataTableSpec spec = new DataTableSpec(
+            new DataColumnSpecCreator("group", StringCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("value", DataType.getType(IntCell.class)).createSpec());
+        final BufferedDataContainer container = EXEC_CONTEXT.createDataContainer(spec);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            final int group = (int)((i * 7919L) % GROUP_COUNT);
+            container.addRowToTable(new DefaultRow("Row" + i, new StringCell("Group " + group), new IntCell(i)));
+        }
+        container.close();
+        return container.getTable();
+    }
+}
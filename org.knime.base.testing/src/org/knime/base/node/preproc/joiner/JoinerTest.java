@@ -52,6 +52,7 @@
 
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Random;
 
 import org.junit.Before;
@@ -63,6 +64,7 @@
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
 import org.knime.core.data.RowIterator;
+import org.knime.core.data.RowKey;
 import org.knime.core.data.container.ContainerTable;
 import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.IntCell;
@@ -405,6 +407,65 @@ public void testSortPartitionsFullOuterJoin() throws Exception {
     }
 
 
+    /**
+     * Checks whether a full outer join on an integer column gives the same rows when the row order is not retained.
+     * The right table is large enough to be probed in parallel.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testUnorderedFullOuterJoinOnIntegerColumn() throws Exception {
+        Joiner2Settings settingsRef = createReferenceSettings("Index");
+        settingsRef.setJoinMode(JoinMode.FullOuterJoin);
+
+        Joiner2Settings settingsTest = createReferenceSettings("Index");
+        settingsTest.setJoinMode(JoinMode.FullOuterJoin);
+        settingsTest.setRetainRowOrder(false);
+
+        BufferedDataTable leftTable = m_exec.createBufferedDataTable(new TestData(3000, 1), m_exec);
+        BufferedDataTable rightTable = m_exec.createBufferedDataTable(new TestData(6000, 1), m_exec);
+
+        // run joiner with reference settings
+        Joiner joinerRef = new Joiner(leftTable.getDataTableSpec(), rightTable.getDataTableSpec(), settingsRef);
+        BufferedDataTable reference = joinerRef.computeJoinTable(leftTable, rightTable, m_exec);
+
+        // run joiner with test settings
+        Joiner joinerTest = new Joiner(leftTable.getDataTableSpec(), rightTable.getDataTableSpec(), settingsTest);
+        joinerTest.setRowsAddedBeforeOOM(500);
+        joinerTest.setNumBitsInitial(0);
+        joinerTest.setNumBitsMaximal(6);
+        BufferedDataTable test = joinerTest.computeJoinTable(leftTable, rightTable, m_exec);
+        compareTablesIgnoreOrder(reference, test);
+    }
+
+    /**
+     * Checks whether a left outer join on a string column gives the same rows when the row order is not retained.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testUnorderedLeftOuterJoin() throws Exception {
+        Joiner2Settings settingsRef = createReferenceSettings("Data");
+        settingsRef.setJoinMode(JoinMode.LeftOuterJoin);
+
+        Joiner2Settings settingsTest = createReferenceSettings("Data");
+        settingsTest.setJoinMode(JoinMode.LeftOuterJoin);
+        settingsTest.setRetainRowOrder(false);
+
+        BufferedDataTable leftTable = m_exec.createBufferedDataTable(new TestData(200, 1), m_exec);
+        BufferedDataTable rightTable = m_exec.createBufferedDataTable(new TestData(100, 1), m_exec);
+
+        // run joiner with reference settings
+        Joiner joinerRef = new Joiner(leftTable.getDataTableSpec(), rightTable.getDataTableSpec(), settingsRef);
+        BufferedDataTable reference = joinerRef.computeJoinTable(leftTable, rightTable, m_exec);
+
+        // run joiner with test settings
+        Joiner joinerTest = new Joiner(leftTable.getDataTableSpec(), rightTable.getDataTableSpec(), settingsTest);
+        joinerTest.setRowsAddedBeforeOOM(10);
+        BufferedDataTable test = joinerTest.computeJoinTable(leftTable, rightTable, m_exec);
+        compareTablesIgnoreOrder(reference, test);
+    }
+
     private Joiner2Settings createReferenceSettings(final String col) {
         Joiner2Settings settingsRef = new Joiner2Settings();
         String[] joinColumns = new String[]{col};
@@ -431,6 +492,23 @@ private void compareTables(final BufferedDataTable reference, final BufferedData
         }
     }
 
+    private void compareTablesIgnoreOrder(final BufferedDataTable reference, final BufferedDataTable test) {
+        assertThat("Unequal number of rows in result table", test.size(), is(reference.size()));
+        Map<RowKey, DataRow> testRows = new HashMap<RowKey, DataRow>();
+        for (DataRow testRow : test) {
+            testRows.put(testRow.getKey(), testRow);
+        }
+        for (DataRow refRow : reference) {
+            DataRow testRow = testRows.get(refRow.getKey());
+            assertThat("Missing row " + refRow.getKey(), testRow != null, is(true));
+            Iterator<DataCell> refCell = refRow.iterator();
+            Iterator<DataCell> testCell = testRow.iterator();
+            while (refCell.hasNext()) {
+                assertThat("Unexpected cell in row " + refRow.getKey(), testCell.next(), is(refCell.next()));
+            }
+        }
+    }
+
     private static class TestData implements DataTable {
         private final int m_size;
 
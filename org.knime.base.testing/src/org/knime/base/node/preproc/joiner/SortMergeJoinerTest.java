@@ -0,0 +1,262 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.base.node.preproc.joiner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.fail;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.base.node.preproc.joiner.Joiner2Settings.JoinMode;
+import org.knime.base.node.preproc.joiner.SortMergeJoiner.UnsortedInputException;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.streamable.BufferedDataTableRowOutput;
+import org.knime.core.node.streamable.DataTableRowInput;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+
+/**
+ * Tests for {@link SortMergeJoiner}, the results are compared to the ones of the hash join.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class SortMergeJoinerTest {
+    private static final DataTableSpec SPEC =
+        new DataTableSpec(new String[]{"Key", "Data"}, new DataType[]{IntCell.TYPE, StringCell.TYPE});
+
+    private ExecutionContext m_exec;
+
+    /**
+     * @throws Exception if the execution context cannot be created
+     */
+    @Before
+    public void setUp() throws Exception {
+        NodeFactory<NodeModel> dummyFactory =
+            (NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+        m_exec = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(dummyFactory),
+            SingleNodeContainer.MemoryPolicy.CacheOnDisc, new HashMap<Integer, ContainerTable>());
+    }
+
+    /**
+     * Inner join of tables with duplicate keys and missing values.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testInnerJoin() throws Exception {
+        checkJoin(JoinMode.InnerJoin);
+    }
+
+    /**
+     * Left outer join of tables with duplicate keys and missing values.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testLeftOuterJoin() throws Exception {
+        checkJoin(JoinMode.LeftOuterJoin);
+    }
+
+    /**
+     * Right outer join of tables with duplicate keys and missing values.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testRightOuterJoin() throws Exception {
+        checkJoin(JoinMode.RightOuterJoin);
+    }
+
+    /**
+     * Full outer join of tables with duplicate keys and missing values.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testFullOuterJoin() throws Exception {
+        checkJoin(JoinMode.FullOuterJoin);
+    }
+
+    /**
+     * Checks that an unsorted input is detected.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testUnsortedInput() throws Exception {
+        BufferedDataTable left = createTable(500, 1, true);
+        BufferedDataTable right = createTable(500, 2, false);
+        try {
+            join(left, right, createSettings(JoinMode.InnerJoin));
+            fail("Unsorted input not detected");
+        } catch (UnsortedInputException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Integer and double keys that compare as equal must not match, as in the hash join.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testMixedKeyTypes() throws Exception {
+        DataTableSpec rightSpec =
+            new DataTableSpec(new String[]{"Key", "Data"}, new DataType[]{DoubleCell.TYPE, StringCell.TYPE});
+        BufferedDataContainer leftCont = m_exec.createDataContainer(SPEC);
+        BufferedDataContainer rightCont = m_exec.createDataContainer(rightSpec);
+        for (int i = 0; i < 5; i++) {
+            leftCont.addRowToTable(new DefaultRow("Left" + i, new IntCell(i), new StringCell("l" + i)));
+            rightCont.addRowToTable(new DefaultRow("Right" + i, new DoubleCell(i), new StringCell("r" + i)));
+        }
+        leftCont.close();
+        rightCont.close();
+        BufferedDataTable left = leftCont.getTable();
+        BufferedDataTable right = rightCont.getTable();
+
+        Joiner2Settings settings = createSettings(JoinMode.InnerJoin);
+        long reference = new Joiner(SPEC, rightSpec, settings).computeJoinTable(left, right, m_exec).size();
+        assertEquals("Unexpected matches for mixed key types", reference,
+            join(left, right, SPEC, rightSpec, settings).size());
+
+        settings = createSettings(JoinMode.FullOuterJoin);
+        reference = new Joiner(SPEC, rightSpec, settings).computeJoinTable(left, right, m_exec).size();
+        assertEquals("Unexpected size of full outer join", reference,
+            join(left, right, SPEC, rightSpec, settings).size());
+    }
+
+    private void checkJoin(final JoinMode mode) throws Exception {
+        BufferedDataTable left = createTable(2000, 1, true);
+        BufferedDataTable right = createTable(1500, 2, true);
+        Joiner2Settings settings = createSettings(mode);
+
+        BufferedDataTable reference =
+            new Joiner(SPEC, SPEC, settings).computeJoinTable(left, right, m_exec);
+        BufferedDataTable test = join(left, right, settings);
+
+        assertEquals("Unequal number of rows in result table", reference.size(), test.size());
+        Map<RowKey, DataRow> testRows = new HashMap<RowKey, DataRow>();
+        for (DataRow row : test) {
+            testRows.put(row.getKey(), row);
+        }
+        for (DataRow refRow : reference) {
+            DataRow testRow = testRows.get(refRow.getKey());
+            assertNotNull("Missing row " + refRow.getKey(), testRow);
+            for (int i = 0; i < refRow.getNumCells(); i++) {
+                assertEquals("Unexpected cell in row " + refRow.getKey(), refRow.getCell(i), testRow.getCell(i));
+            }
+        }
+    }
+
+    private BufferedDataTable join(final BufferedDataTable left, final BufferedDataTable right,
+        final Joiner2Settings settings) throws Exception {
+        return join(left, right, SPEC, SPEC, settings);
+    }
+
+    private BufferedDataTable join(final BufferedDataTable left, final BufferedDataTable right,
+        final DataTableSpec leftSpec, final DataTableSpec rightSpec, final Joiner2Settings settings)
+        throws Exception {
+        SortMergeJoiner joiner = new SortMergeJoiner(leftSpec, rightSpec, settings, false);
+        BufferedDataTableRowOutput output =
+            new BufferedDataTableRowOutput(m_exec.createDataContainer(joiner.getOutputSpec()));
+        joiner.join(new DataTableRowInput(left), new DataTableRowInput(right), output, m_exec, left.size());
+        output.close();
+        return output.getDataTable();
+    }
+
+    private static Joiner2Settings createSettings(final JoinMode mode) {
+        Joiner2Settings settings = new Joiner2Settings();
+        settings.setLeftJoinColumns(new String[]{"Key"});
+        settings.setRightJoinColumns(new String[]{"Key"});
+        settings.setJoinMode(mode);
+        return settings;
+    }
+
+    /** Creates a table whose keys repeat up to three times, every 20th key is missing. */
+    private BufferedDataTable createTable(final int size, final long seed, final boolean sorted) {
+        Random rand = new Random(seed);
+        BufferedDataContainer cont = m_exec.createDataContainer(SPEC);
+        int key = 0;
+        for (int i = 0; i < size; i++) {
+            if (rand.nextInt(3) == 0) {
+                key += 1 + rand.nextInt(2);
+            }
+            DataCell keyCell;
+            if (rand.nextInt(20) == 0) {
+                keyCell = DataType.getMissingCell();
+            } else {
+                keyCell = new IntCell(sorted ? key : rand.nextInt(size));
+            }
+            cont.addRowToTable(new DefaultRow("Row" + i, keyCell, new StringCell(Integer.toString(i))));
+        }
+        cont.close();
+        return cont.getTable();
+    }
+}
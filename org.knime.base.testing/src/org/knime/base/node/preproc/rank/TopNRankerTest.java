@@ -0,0 +1,181 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.base.node.preproc.rank;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.sort.BufferedDataTableSorter;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.streamable.BufferedDataTableRowOutput;
+import org.knime.core.node.streamable.DataTableRowInput;
+import org.knime.core.node.workflow.SingleNodeContainer;
+
+/**
+ * Tests for {@link TopNRanker}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class TopNRankerTest {
+
+    private static final DataTableSpec SPEC = new DataTableSpec(
+        new DataColumnSpecCreator("Group", StringCell.TYPE).createSpec(),
+        new DataColumnSpecCreator("Value", IntCell.TYPE).createSpec());
+
+    private static final DataTableSpec OUT_SPEC =
+        new DataTableSpec(SPEC, new DataTableSpec(new DataColumnSpecCreator("Rank", LongCell.TYPE).createSpec()));
+
+    private static ExecutionContext EXEC_CONTEXT;
+
+    /**
+     * @throws Exception if the context can't be created
+     */
+    @BeforeClass
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static void setUpBeforeClass() throws Exception {
+        NodeFactory<NodeModel> factory = (NodeFactory)new RankNodeFactory();
+        EXEC_CONTEXT = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(factory),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, new HashMap<Integer, ContainerTable>());
+    }
+
+    /**
+     * Ten rows of group "A" with descending values, followed by ten rows with a group of their own.
+     */
+    private static BufferedDataTable createTable() {
+        BufferedDataContainer cont = EXEC_CONTEXT.createDataContainer(SPEC);
+        for (int i = 0; i < 20; i++) {
+            String group = i < 10 ? "A" : ("G" + i);
+            cont.addRowToTable(new DefaultRow("Row" + i, new StringCell(group), new IntCell(100 - i)));
+        }
+        cont.close();
+        return cont.getTable();
+    }
+
+    private static TopNRanker createRanker() {
+        return new TopNRanker(BufferedDataTableSorter.createRowComparator(SPEC,
+            Collections.singletonList("Value"), new boolean[]{true}, false), new int[]{0}, new int[]{1},
+            "Ordinal", 1, true, false);
+    }
+
+    private static List<String> getKeys(final Iterable<DataRow> rows) {
+        List<String> keys = new ArrayList<String>();
+        for (DataRow row : rows) {
+            keys.add(row.getKey().getString());
+        }
+        return keys;
+    }
+
+    /**
+     * Selects the first row of each group in memory.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testRankInMemory() throws Exception {
+        BufferedDataTableRowOutput out = new BufferedDataTableRowOutput(
+            EXEC_CONTEXT.createDataContainer(OUT_SPEC));
+        assertNull("All rows should have been ranked in memory",
+            createRanker().rank(new DataTableRowInput(createTable()), out, EXEC_CONTEXT, 20));
+        out.close();
+        List<String> expected = new ArrayList<String>();
+        for (int i = 19; i >= 9; i--) {
+            expected.add("Row" + i);
+        }
+        BufferedDataTable result = out.getDataTable();
+        assertEquals("Wrong rows or order", expected, getKeys(result));
+        for (DataRow row : result) {
+            assertEquals("Wrong rank", 1, ((LongValue)row.getCell(2)).getLongValue());
+        }
+    }
+
+    /**
+     * Exceeds the number of rows selected in memory: the selected rows and the rows not read yet must be returned in
+     * the order of the input, the dropped rows of group "A" must not.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testRowsReturnedWhenLimitExceeded() throws Exception {
+        TopNRanker ranker = createRanker();
+        ranker.setMaxRowsInMemory(5);
+        BufferedDataTableRowOutput out = new BufferedDataTableRowOutput(
+            EXEC_CONTEXT.createDataContainer(OUT_SPEC));
+        BufferedDataTable remaining = ranker.rank(new DataTableRowInput(createTable()), out, EXEC_CONTEXT, 20);
+        out.close();
+        assertNotNull("Rows should have been returned", remaining);
+        assertEquals("No rows should have been pushed", 0, out.getDataTable().size());
+        List<String> expected = new ArrayList<String>();
+        for (int i = 9; i < 20; i++) {
+            expected.add("Row" + i);
+        }
+        assertEquals("Wrong rows or order", expected, getKeys(remaining));
+    }
+}
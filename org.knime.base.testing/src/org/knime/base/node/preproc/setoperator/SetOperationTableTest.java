@@ -0,0 +1,312 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.base.node.preproc.setoperator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.workflow.SingleNodeContainer;
+
+/**
+ * Compares the hash-based strategy of the {@link SetOperationTable} (with sorted and unsorted output) with the
+ * sort-based strategy.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class SetOperationTableTest {
+
+    private static final int ROW_COUNT = 300;
+
+    private static ExecutionContext EXEC_CONTEXT;
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @BeforeClass
+    public static void setUpBeforeClass() throws Exception {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        NodeFactory<NodeModel> factory = (NodeFactory)new SetOperatorNodeFactory();
+        EXEC_CONTEXT = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(factory),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, new HashMap<Integer, ContainerTable>());
+    }
+
+    /**
+     * @throws java.lang.Exception
+     */
+    @AfterClass
+    public static void tearDownAfterClass() throws Exception {
+        EXEC_CONTEXT = null;
+    }
+
+    /**
+     * Hashing with sorted output must create the same table as the sort-based strategy.
+     * @throws Exception if the set operation fails
+     */
+    @Test
+    public void testSortedOutput() throws Exception {
+        for (final BufferedDataTable[] tables : createInputs()) {
+            for (final SetOperation op : SetOperation.values()) {
+                for (final boolean skipMissing : new boolean[]{true, false}) {
+                    final SetOperationTable expected = new SetOperationTable(EXEC_CONTEXT, false, "element",
+                        tables[0], false, "element", tables[1], op, true, skipMissing, false, true);
+                    final SetOperationTable actual = new SetOperationTable(EXEC_CONTEXT, false, "element",
+                        tables[0], false, "element", tables[1], op, true, skipMissing, true, true);
+                    assertSameRows(op, expected.getBufferedTable(), actual.getBufferedTable());
+                    checkHiliteMapping(op, tables, actual);
+                }
+            }
+        }
+    }
+
+    /**
+     * Hashing with unsorted output must create the same elements as the sort-based strategy.
+     * @throws Exception if the set operation fails
+     */
+    @Test
+    public void testUnsortedOutput() throws Exception {
+        for (final BufferedDataTable[] tables : createInputs()) {
+            for (final SetOperation op : SetOperation.values()) {
+                final SetOperationTable expected = new SetOperationTable(EXEC_CONTEXT, false, "element",
+                    tables[0], false, "element", tables[1], op, true, true, false, true);
+                final SetOperationTable actual = new SetOperationTable(EXEC_CONTEXT, false, "element",
+                    tables[0], false, "element", tables[1], op, true, true, true, false);
+                assertSameElements(op, expected.getBufferedTable(), actual.getBufferedTable());
+                checkHiliteMapping(op, tables, actual);
+            }
+        }
+    }
+
+    /**
+     * Large inputs are split into partitions that are processed in parallel, with sorted and unsorted output.
+     * @throws Exception if the set operation fails
+     */
+    @Test
+    public void testPartitioned() throws Exception {
+        final Random random = new Random(17);
+        final BufferedDataTable table1 = createTable("a", IntCell.TYPE, randomInts(random, 5000, 0, 2000, true));
+        final BufferedDataTable table2 = createTable("b", IntCell.TYPE, randomInts(random, 5000, 1000, 3000, true));
+        final DataColumnSpec colSpec = table1.getDataTableSpec().getColumnSpec("element");
+        for (final SetOperation op : SetOperation.values()) {
+            final SetOperationTable expected = new SetOperationTable(EXEC_CONTEXT, false, "element", table1, false,
+                "element", table2, op, false, true, false, true);
+            final DataTableSpec resultSpec = SetOperationTable.createResultTableSpec(op, colSpec, colSpec);
+            for (final boolean sort : new boolean[]{true, false}) {
+                final HashSetOperation hashOp =
+                    new HashSetOperation(op, 1, 1, IntCell.TYPE, true, false, 500);
+                final BufferedDataTable actual = hashOp.execute(EXEC_CONTEXT, table1, table2, resultSpec,
+                    sort ? op.getComparator(colSpec, colSpec) : null, null, null);
+                if (sort) {
+                    assertSameRows(op, expected.getBufferedTable(), actual);
+                } else {
+                    assertSameElements(op, expected.getBufferedTable(), actual);
+                }
+            }
+        }
+    }
+
+    /**
+     * Elements are compared as the comparator does, i.e. 0.0 and -0.0 are different elements whereas all NaN
+     * values are the same element.
+     * @throws Exception if the set operation fails
+     */
+    @Test
+    public void testSignedZeroAndNaN() throws Exception {
+        final BufferedDataTable table1 = createTable("a", DoubleCell.TYPE,
+            new DataCell[]{new DoubleCell(0.0), new DoubleCell(Double.NaN), new DoubleCell(1.0)});
+        final BufferedDataTable table2 = createTable("b", DoubleCell.TYPE, new DataCell[]{new DoubleCell(-0.0),
+            new DoubleCell(Double.longBitsToDouble(0x7ff8000000000001L)), new DoubleCell(1.0)});
+        for (final boolean sort : new boolean[]{true, false}) {
+            final SetOperationTable and = new SetOperationTable(EXEC_CONTEXT, false, "element", table1, false,
+                "element", table2, SetOperation.AND, false, true, true, sort);
+            Assert.assertEquals("Wrong intersection", 2, and.getBufferedTable().size());
+            final SetOperationTable or = new SetOperationTable(EXEC_CONTEXT, false, "element", table1, false,
+                "element", table2, SetOperation.OR, false, true, true, sort);
+            Assert.assertEquals("Wrong union", 4, or.getBufferedTable().size());
+        }
+    }
+
+    /**
+     * @return pairs of tables: integers, strings and integers/strings (compared as strings, without missing values
+     *         as those are sorted before the other elements by the sort-based strategy but converted to "?")
+     */
+    private static List<BufferedDataTable[]> createInputs() {
+        final Random random = new Random(42);
+        final DataCell[] ints1 = randomInts(random, ROW_COUNT, 0, 100, true);
+        final DataCell[] ints2 = randomInts(random, ROW_COUNT, 50, 150, true);
+        final List<BufferedDataTable[]> inputs = new ArrayList<BufferedDataTable[]>();
+        inputs.add(new BufferedDataTable[]{createTable("a", IntCell.TYPE, ints1),
+            createTable("b", IntCell.TYPE, ints2)});
+        inputs.add(new BufferedDataTable[]{createTable("a", StringCell.TYPE, toStrings(ints1)),
+            createTable("b", StringCell.TYPE, toStrings(ints2))});
+        inputs.add(new BufferedDataTable[]{createTable("a", IntCell.TYPE, randomInts(random, ROW_COUNT, 0, 100, false)),
+            createTable("b", StringCell.TYPE, toStrings(randomInts(random, ROW_COUNT, 50, 150, false)))});
+        return inputs;
+    }
+
+    /** @return integers in the given range, with duplicates and optionally some missing values */
+    private static DataCell[] randomInts(final Random random, final int count, final int from, final int to,
+        final boolean withMissing) {
+        final DataCell[] cells = new DataCell[count];
+        for (int i = 0; i < count; i++) {
+            cells[i] = withMissing && random.nextInt(20) == 0 ? DataType.getMissingCell()
+                : new IntCell(from + random.nextInt(to - from));
+        }
+        return cells;
+    }
+
+    private static DataCell[] toStrings(final DataCell[] cells) {
+        final DataCell[] strings = new DataCell[cells.length];
+        for (int i = 0; i < cells.length; i++) {
+            strings[i] = cells[i].isMissing() ? cells[i] : new StringCell(cells[i].toString());
+        }
+        return strings;
+    }
+
+    /** Creates a table with the elements in the second column "element" and row keys "prefix0", "prefix1", ... */
+    private static BufferedDataTable createTable(final String keyPrefix, final DataType type,
+        final DataCell[] elements) {
+        final DataTableSpec spec = new DataTableSpec(
+            new DataColumnSpecCreator("other", IntCell.TYPE).createSpec(),
+            new DataColumnSpecCreator("element", type).createSpec());
+        final BufferedDataContainer container = EXEC_CONTEXT.createDataContainer(spec);
+        for (int i = 0; i < elements.length; i++) {
+            container.addRowToTable(new DefaultRow(keyPrefix + i, new IntCell(i), elements[i]));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    private static void assertSameRows(final SetOperation op, final BufferedDataTable expected,
+        final BufferedDataTable actual) {
+        Assert.assertEquals("Wrong spec (" + op + ")", expected.getDataTableSpec(), actual.getDataTableSpec());
+        Assert.assertEquals("Wrong number of rows (" + op + ")", expected.size(), actual.size());
+        final Iterator<DataRow> expectedIt = expected.iterator();
+        for (final DataRow row : actual) {
+            final DataRow expectedRow = expectedIt.next();
+            Assert.assertEquals("Wrong row key (" + op + ")", expectedRow.getKey(), row.getKey());
+            Assert.assertEquals("Wrong element in row " + row.getKey() + " (" + op + ")", expectedRow.getCell(0),
+                row.getCell(0));
+        }
+    }
+
+    private static void assertSameElements(final SetOperation op, final BufferedDataTable expected,
+        final BufferedDataTable actual) {
+        Assert.assertEquals("Wrong spec (" + op + ")", expected.getDataTableSpec(), actual.getDataTableSpec());
+        Assert.assertEquals("Wrong number of rows (" + op + ")", expected.size(), actual.size());
+        Assert.assertEquals("Wrong elements (" + op + ")", getElements(expected), getElements(actual));
+    }
+
+    private static Set<DataCell> getElements(final BufferedDataTable table) {
+        final Set<DataCell> elements = new HashSet<DataCell>();
+        for (final DataRow row : table) {
+            elements.add(row.getCell(0));
+        }
+        return elements;
+    }
+
+    /** Each result row must be mapped to all input rows with the same element. */
+    private static void checkHiliteMapping(final SetOperation op, final BufferedDataTable[] tables,
+        final SetOperationTable result) {
+        final boolean differentType =
+            !tables[0].getDataTableSpec().getColumnSpec(1).getType().equals(
+                tables[1].getDataTableSpec().getColumnSpec(1).getType());
+        for (final DataRow row : result.getBufferedTable()) {
+            final DataCell element = row.getCell(0);
+            Assert.assertEquals("Wrong hilite mapping of first set for " + element + " (" + op + ")",
+                getKeys(tables[0], element, differentType), getMapping(result.getHiliteMapping0(), row.getKey()));
+            Assert.assertEquals("Wrong hilite mapping of second set for " + element + " (" + op + ")",
+                getKeys(tables[1], element, differentType), getMapping(result.getHiliteMapping1(), row.getKey()));
+        }
+    }
+
+    private static Set<RowKey> getKeys(final BufferedDataTable table, final DataCell element,
+        final boolean differentType) {
+        final Set<RowKey> keys = new HashSet<RowKey>();
+        for (final DataRow row : table) {
+            final DataCell cell = differentType ? new StringCell(row.getCell(1).toString()) : row.getCell(1);
+            if (cell.equals(element)) {
+                keys.add(row.getKey());
+            }
+        }
+        return keys;
+    }
+
+    private static Set<RowKey> getMapping(final Map<RowKey, Set<RowKey>> mapping, final RowKey key) {
+        final Set<RowKey> keys = mapping.get(key);
+        return keys == null ? new HashSet<RowKey>() : new HashSet<RowKey>(keys);
+    }
+}
@@ -0,0 +1,305 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.base.node.preproc.transpose;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+
+/**
+ * Tests for {@link TransposeTableNodeModel}, the in-memory and the tiled transpose are compared to the output of the
+ * transpose as implemented before 3.6 (which read the input once per chunk of columns).
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class TransposeTableNodeModelTest {
+    private ExecutionContext m_exec;
+
+    /**
+     * @throws Exception if the execution context cannot be created
+     */
+    @Before
+    public void setUp() throws Exception {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        NodeFactory<NodeModel> dummyFactory =
+            (NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+        m_exec = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(dummyFactory),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, new HashMap<Integer, ContainerTable>());
+    }
+
+    /**
+     * Input without rows, the output contains one empty row per input column.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testEmptyTable() throws Exception {
+        final BufferedDataTable table = createTable(0, 5);
+        final BufferedDataTable reference = transposeReference(table, 10);
+        final BufferedDataTable result =
+            new TransposeTableNodeModel().execute(new BufferedDataTable[]{table}, m_exec)[0];
+        assertTablesEqual(reference, result);
+        assertTablesEqual(reference, TransposeTableNodeModel.transposeInMemory(table, m_exec));
+        assertTablesEqual(reference, TransposeTableNodeModel.transposeTiled(table, 1, m_exec));
+    }
+
+    /**
+     * Input with rows but without columns.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testNoColumns() throws Exception {
+        final BufferedDataTable table = createTable(7, 0);
+        final BufferedDataTable reference = transposeReference(table, 10);
+        assertTablesEqual(reference, TransposeTableNodeModel.transposeInMemory(table, m_exec));
+        assertTablesEqual(reference, TransposeTableNodeModel.transposeTiled(table, 1, m_exec));
+    }
+
+    /**
+     * Table that fits into memory.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testInMemory() throws Exception {
+        final BufferedDataTable table = createTable(23, 17);
+        assertTablesEqual(transposeReference(table, 4), TransposeTableNodeModel.transposeInMemory(table, m_exec));
+    }
+
+    /**
+     * Memory budgets whose bands and row blocks don't evenly divide the columns and rows, down to single cell tiles.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testTileEdges() throws Exception {
+        final BufferedDataTable table = createTable(23, 17);
+        final BufferedDataTable reference = transposeReference(table, 4);
+        // band width 1 (17 bands) and block size 1
+        assertTablesEqual(reference, TransposeTableNodeModel.transposeTiled(table, 1, m_exec));
+        // band width 1 and block size 2
+        assertTablesEqual(reference, TransposeTableNodeModel.transposeTiled(table, 2 * 17 * 2, m_exec));
+        // band width 2 (the last band has a single column) and block size 2
+        assertTablesEqual(reference, TransposeTableNodeModel.transposeTiled(table, 2 * 23 * 2, m_exec));
+        // band width 5 and block size 6
+        assertTablesEqual(reference, TransposeTableNodeModel.transposeTiled(table, 2 * 23 * 5 + 1, m_exec));
+        // a single band holding all columns
+        assertTablesEqual(reference, TransposeTableNodeModel.transposeTiled(table, 2 * 23 * 17, m_exec));
+    }
+
+    /**
+     * More bands than can be written in a single pass over the input.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testMultiplePasses() throws Exception {
+        final int nrCols = 2 * TransposeTableNodeModel.MAX_OPEN_BANDS + 3;
+        final BufferedDataTable table = createTable(5, nrCols);
+        final BufferedDataTable reference = transposeReference(table, 50);
+        assertTablesEqual(reference, TransposeTableNodeModel.transposeTiled(table, 1, m_exec));
+        assertTablesEqual(reference, TransposeTableNodeModel.transposeInMemory(table, m_exec));
+    }
+
+    /**
+     * Table whose columns have different types, such that the output column types are common super types.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testMixedColumnTypes() throws Exception {
+        final BufferedDataTable table = createTable(11, 9);
+        final BufferedDataTable reference = transposeReference(table, 2);
+        final BufferedDataTable inMemory = TransposeTableNodeModel.transposeInMemory(table, m_exec);
+        assertTablesEqual(reference, inMemory);
+        assertTablesEqual(reference, TransposeTableNodeModel.transposeTiled(table, 7, m_exec));
+        assertEquals("Unexpected type of mixed row", DataType.getCommonSuperType(
+            DataType.getCommonSuperType(IntCell.TYPE, DoubleCell.TYPE), StringCell.TYPE),
+            inMemory.getDataTableSpec().getColumnSpec(0).getType());
+
+        // rows with integer and double cells only result in double columns
+        final BufferedDataTable numbers = createTable(2, 2);
+        final BufferedDataTable numbersTransposed = TransposeTableNodeModel.transposeTiled(numbers, 1, m_exec);
+        assertTablesEqual(transposeReference(numbers, 1), numbersTransposed);
+        assertEquals("Unexpected type of numeric row", DoubleCell.TYPE,
+            numbersTransposed.getDataTableSpec().getColumnSpec(0).getType());
+    }
+
+    private static void assertTablesEqual(final BufferedDataTable expected, final BufferedDataTable actual) {
+        assertEquals("Unequal spec", expected.getDataTableSpec(), actual.getDataTableSpec());
+        assertEquals("Unequal number of rows", expected.size(), actual.size());
+        final Iterator<DataRow> actualIt = actual.iterator();
+        for (DataRow expectedRow : expected) {
+            final DataRow actualRow = actualIt.next();
+            assertEquals("Unexpected row key", expectedRow.getKey(), actualRow.getKey());
+            assertEquals("Unexpected number of cells", expectedRow.getNumCells(), actualRow.getNumCells());
+            for (int i = 0; i < expectedRow.getNumCells(); i++) {
+                assertEquals("Unexpected cell in row " + expectedRow.getKey(), expectedRow.getCell(i),
+                    actualRow.getCell(i));
+            }
+        }
+    }
+
+    /**
+     * Creates a table with integer, double and string columns (in turn). Every 3rd row contains missing cells and the
+     * row keys of every 5th row are whitespace only.
+     */
+    private BufferedDataTable createTable(final int nrRows, final int nrCols) {
+        final DataColumnSpec[] colSpecs = new DataColumnSpec[nrCols];
+        for (int c = 0; c < nrCols; c++) {
+            final DataType type = c % 3 == 0 ? IntCell.TYPE : c % 3 == 1 ? DoubleCell.TYPE : StringCell.TYPE;
+            colSpecs[c] = new DataColumnSpecCreator("Col" + c, type).createSpec();
+        }
+        final DataTableSpec spec = new DataTableSpec(colSpecs);
+        final BufferedDataContainer cont = m_exec.createDataContainer(spec);
+        for (int r = 0; r < nrRows; r++) {
+            final DataCell[] cells = new DataCell[nrCols];
+            for (int c = 0; c < nrCols; c++) {
+                if (r % 3 == 2 && c % 4 == 1) {
+                    cells[c] = DataType.getMissingCell();
+                } else if (c % 3 == 0) {
+                    cells[c] = new IntCell(r * nrCols + c);
+                } else if (c % 3 == 1) {
+                    cells[c] = new DoubleCell(r + c / 10.0);
+                } else {
+                    cells[c] = new StringCell("r" + r + "c" + c);
+                }
+            }
+            final String key = r % 5 == 4 ? String.format("%" + (r / 5 + 1) + "s", "") : "Row" + r;
+            cont.addRowToTable(new DefaultRow(key, cells));
+        }
+        cont.close();
+        return cont.getTable();
+    }
+
+    /** The transpose as implemented before 3.6, which reads the input once per chunk of columns. */
+    private BufferedDataTable transposeReference(final BufferedDataTable table, final int chunkSize) {
+        final DataTableSpec spec = table.getDataTableSpec();
+        if (table.size() == 0) {
+            final BufferedDataContainer cont = m_exec.createDataContainer(new DataTableSpec());
+            for (int i = 0; i < spec.getNumColumns(); i++) {
+                cont.addRowToTable(new DefaultRow(spec.getColumnSpec(i).getName(), new DataCell[0]));
+            }
+            cont.close();
+            return cont.getTable();
+        }
+        final int newNrCols = (int)table.size();
+        final List<DataColumnSpec> colSpecs = new ArrayList<DataColumnSpec>();
+        int idx = 0;
+        for (DataRow row : table) {
+            DataType type = null;
+            for (int i = 0; i < row.getNumCells(); i++) {
+                final DataType newType = row.getCell(i).getType();
+                type = type == null ? newType : DataType.getCommonSuperType(type, newType);
+            }
+            if (type == null) {
+                type = DataType.getType(DataCell.class);
+            }
+            String colName = row.getKey().getString().trim();
+            if (colName.isEmpty()) {
+                colName = "<empty_" + idx + ">";
+                idx++;
+            }
+            colSpecs.add(new DataColumnSpecCreator(colName, type).createSpec());
+        }
+        final BufferedDataContainer cont =
+            m_exec.createDataContainer(new DataTableSpec(colSpecs.toArray(new DataColumnSpec[0])));
+        final int newNrRows = spec.getNumColumns();
+        for (int colIdx = 0; colIdx < newNrRows; colIdx += chunkSize) {
+            final Map<String, DataCell[]> map = new LinkedHashMap<String, DataCell[]>();
+            int rowIdx = 0;
+            for (DataRow row : table) {
+                for (int r = colIdx; r < Math.min(newNrRows, colIdx + chunkSize); r++) {
+                    final String newRowKey = spec.getColumnSpec(r).getName();
+                    DataCell[] cellArray = map.get(newRowKey);
+                    if (cellArray == null) {
+                        cellArray = new DataCell[newNrCols];
+                        map.put(newRowKey, cellArray);
+                    }
+                    cellArray[rowIdx] = row.getCell(r);
+                }
+                rowIdx++;
+            }
+            for (Map.Entry<String, DataCell[]> e : map.entrySet()) {
+                cont.addRowToTable(new DefaultRow(e.getKey(), e.getValue()));
+            }
+        }
+        cont.close();
+        return cont.getTable();
+    }
+}
@@ -449,6 +449,83 @@ public final void reset() {
      */
     protected abstract void resetInternal();
 
+    /**
+     * Override this method and return <code>true</code> if the state of the
+     * operator can be combined with the state of another instance using the
+     * {@link #merge(AggregationOperator)} method. This allows to aggregate
+     * independent partitions of a group e.g. in different threads and to
+     * combine the partial results afterwards. Operators that return
+     * <code>true</code> have to implement
+     * {@link #mergeInternal(AggregationOperator)}. Implementations should
+     * only return <code>true</code> for their own class (i.e. check
+     * <code>getClass() == MyOperator.class</code>) since a subclass might
+     * maintain additional state or compute its result differently; subclasses
+     * that support merging as well have to override this method again.
+     * @return <code>true</code> if the operator supports merging, the default
+     * is <code>false</code>
+     * @since 3.6
+     */
+    public boolean supportsMerge() {
+        return false;
+    }
+
+    /**
+     * Merges the state of the given operator into this operator. Afterwards
+     * this operator returns the same result as if it had computed the cells of
+     * both operators, the cells of the given operator following its own cells.
+     * The given operator has to be of the same class and has to be created
+     * with the same settings, e.g. by calling
+     * {@link #createInstance(GlobalSettings, OperatorColumnSettings)} on the
+     * same template. It must not be used after it was merged.
+     * @param other the {@link AggregationOperator} to merge into this one
+     * @throws UnsupportedOperationException if the operator does not support
+     * merging
+     * @throws IllegalArgumentException if the given operator is of a different
+     * class
+     * @see #supportsMerge()
+     * @since 3.6
+     */
+    public final void merge(final AggregationOperator other) {
+        if (!supportsMerge()) {
+            throw new UnsupportedOperationException(
+                "Operator '" + getLabel() + "' does not support merging");
+        }
+        if (other == null) {
+            throw new NullPointerException("operator must not be null");
+        }
+        if (!getClass().equals(other.getClass())) {
+            throw new IllegalArgumentException("Operator of class "
+                + other.getClass().getName() + " can't be merged into "
+                + getClass().getName());
+        }
+        if (m_skipped) {
+            return;
+        }
+        if (other.m_skipped) {
+            m_skipped = true;
+            m_skipMsg = other.m_skipMsg;
+            return;
+        }
+        m_missingValuesCount += other.m_missingValuesCount;
+        m_skipped = mergeInternal(other);
+    }
+
+    /**
+     * Override this method together with {@link #supportsMerge()} to combine
+     * the state of the given operator with the state of this operator.
+     * @param other the operator to merge, always of the same class as this
+     * operator and not skipped
+     * @return <code>true</code> if this column should be skipped in further
+     * calculations e.g. because the merged state exceeds the maximum number
+     * of unique values
+     * @see #merge(AggregationOperator)
+     * @since 3.6
+     */
+    protected boolean mergeInternal(final AggregationOperator other) {
+        throw new UnsupportedOperationException(
+            "Operator '" + getLabel() + "' does not support merging");
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -160,4 +160,27 @@ protected void resetInternal() {
         m_min = null;
         m_max = null;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final AbstractRangeOperator operator = (AbstractRangeOperator)other;
+        if (operator.m_min == null || operator.m_max == null) {
+            return false;
+        }
+        if (m_min == null || m_max == null) {
+            m_min = operator.m_min;
+            m_max = operator.m_max;
+            return false;
+        }
+        if (m_comparator.compare(m_min, operator.m_min) > 0) {
+            m_min = operator.m_min;
+        }
+        if (m_comparator.compare(m_max, operator.m_max) < 0) {
+            m_max = operator.m_max;
+        }
+        return false;
+    }
 }
@@ -130,6 +130,24 @@ protected void resetInternal() {
         m_counter = 0;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsMerge() {
+        return getClass() == CountOperator.class;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final CountOperator operator = (CountOperator)other;
+        m_counter += operator.m_counter;
+        return false;
+    }
+
     /**
      * {@inheritDoc}
      */
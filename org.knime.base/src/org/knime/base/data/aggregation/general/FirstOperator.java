@@ -131,6 +131,26 @@ protected void resetInternal() {
         m_firstCell = null;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsMerge() {
+        return getClass() == FirstOperator.class;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final FirstOperator operator = (FirstOperator)other;
+        if (m_firstCell == null) {
+            m_firstCell = operator.m_firstCell;
+        }
+        return false;
+    }
+
     /**
      * {@inheritDoc}
      */
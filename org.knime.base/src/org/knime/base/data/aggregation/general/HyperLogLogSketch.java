@@ -0,0 +1,308 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.base.data.aggregation.general;
+
+import java.util.Arrays;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * Estimates the number of distinct values with the HyperLogLog algorithm by Flajolet et al. As long as only a few
+ * distinct hashes have been added they are stored in a sorted array and counted exactly, which keeps the footprint
+ * of small groups low. The registers are allocated once the array would exceed their size. Two sketches of the same
+ * precision can be merged.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class HyperLogLogSketch {
+
+    /** Default precision, 4096 registers with a standard error of about 1.6%. */
+    static final int DEFAULT_PRECISION = 12;
+
+    /** Seeds that separate the hashes of different kinds of values. */
+    private static final long MISSING_SEED = 0x5DEECE66DL;
+
+    private static final long INT_SEED = 0xD6E8FEB86659FD93L;
+
+    private static final long LONG_SEED = 0x2545F4914F6CDD1DL;
+
+    private static final long DOUBLE_SEED = 0x9E3779B97F4A7C15L;
+
+    private static final long BOOLEAN_SEED = 0xBF58476D1CE4E5B9L;
+
+    private static final long STRING_SEED = 0x94D049BB133111EBL;
+
+    private final int m_precision;
+
+    /** Maximum number of hashes kept in the exact representation. */
+    private final int m_sparseLimit;
+
+    private long[] m_sparse = new long[8];
+
+    private int m_sparseSize;
+
+    /** The registers, <code>null</code> while the hashes are counted exactly. */
+    private byte[] m_registers;
+
+    /**
+     * @param precision number of bits used to select the register, between 4 and 18
+     */
+    HyperLogLogSketch(final int precision) {
+        if (precision < 4 || precision > 18) {
+            throw new IllegalArgumentException("Precision must be between 4 and 18: " + precision);
+        }
+        m_precision = precision;
+        //a long takes as much memory as eight registers
+        m_sparseLimit = (1 << precision) / 8;
+    }
+
+    /**
+     * Computes a 64 bit hash of the value of the cell. Equal cells have equal hashes whereas distinct values collide
+     * with negligible probability (unlike the 32 bit {@link DataCell#hashCode()}), hence groups with few distinct
+     * values are counted exactly. Numbers, booleans and strings are hashed by their value, other cells by their
+     * string representation and their hash code.
+     *
+     * @param cell the cell to hash
+     * @return a well distributed 64 bit hash of the cell
+     */
+    static long hash(final DataCell cell) {
+        if (cell.isMissing()) {
+            return mix(MISSING_SEED);
+        }
+        if (cell instanceof IntCell) {
+            return mix(INT_SEED ^ mix(((IntCell)cell).getIntValue()));
+        }
+        if (cell instanceof LongCell) {
+            return mix(LONG_SEED ^ mix(((LongCell)cell).getLongValue()));
+        }
+        if (cell instanceof DoubleCell) {
+            final double value = ((DoubleCell)cell).getDoubleValue();
+            //0.0 and -0.0 are equal cells, all NaNs are canonicalized by doubleToLongBits
+            return mix(DOUBLE_SEED ^ mix(Double.doubleToLongBits(value == 0 ? 0.0 : value)));
+        }
+        if (cell instanceof BooleanCell) {
+            return mix(BOOLEAN_SEED ^ (((BooleanCell)cell).getBooleanValue() ? 1 : 0));
+        }
+        if (cell instanceof StringCell) {
+            return mix(STRING_SEED ^ hash(((StringCell)cell).getStringValue()));
+        }
+        return mix(hash(cell.toString()) ^ mix(cell.hashCode()));
+    }
+
+    /**
+     * @param s the string to hash
+     * @return a 64 bit hash of all characters of the string (murmur3 like mixing of four chars at a time)
+     */
+    static long hash(final String s) {
+        final int length = s.length();
+        long h = 0x9E3779B97F4A7C15L ^ length;
+        int i = 0;
+        for (; i + 4 <= length; i += 4) {
+            final long k = s.charAt(i) | (long)s.charAt(i + 1) << 16 | (long)s.charAt(i + 2) << 32
+                | (long)s.charAt(i + 3) << 48;
+            h ^= mixKey(k);
+            h = Long.rotateLeft(h, 27) * 5 + 0x52DCE729L;
+        }
+        long k = 0;
+        for (int shift = 0; i < length; i++, shift += 16) {
+            k |= (long)s.charAt(i) << shift;
+        }
+        return h ^ mixKey(k);
+    }
+
+    private static long mixKey(final long k) {
+        return Long.rotateLeft(k * 0x87C37B91114253D5L, 31) * 0x4CF5AD432745937FL;
+    }
+
+    /** Finalization step of the 64 bit MurmurHash3. */
+    private static long mix(final long value) {
+        long h = value;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    /**
+     * @param hash the hash of the value to add
+     */
+    void add(final long hash) {
+        if (m_registers == null) {
+            final int pos = Arrays.binarySearch(m_sparse, 0, m_sparseSize, hash);
+            if (pos >= 0) {
+                return;
+            }
+            if (m_sparseSize < m_sparseLimit) {
+                final int insertPos = -pos - 1;
+                if (m_sparseSize == m_sparse.length) {
+                    m_sparse = Arrays.copyOf(m_sparse, Math.min(2 * m_sparse.length, m_sparseLimit));
+                }
+                System.arraycopy(m_sparse, insertPos, m_sparse, insertPos + 1, m_sparseSize - insertPos);
+                m_sparse[insertPos] = hash;
+                m_sparseSize++;
+                return;
+            }
+            convertToRegisters();
+        }
+        addToRegisters(hash);
+    }
+
+    private void addToRegisters(final long hash) {
+        final int index = (int)(hash >>> (64 - m_precision));
+        //the guard bit limits the rank if all remaining bits are zero
+        final long remainder = (hash << m_precision) | (1L << (m_precision - 1));
+        final byte rank = (byte)(Long.numberOfLeadingZeros(remainder) + 1);
+        if (rank > m_registers[index]) {
+            m_registers[index] = rank;
+        }
+    }
+
+    private void convertToRegisters() {
+        m_registers = new byte[1 << m_precision];
+        for (int i = 0; i < m_sparseSize; i++) {
+            addToRegisters(m_sparse[i]);
+        }
+        m_sparse = null;
+        m_sparseSize = 0;
+    }
+
+    /**
+     * @param other the sketch to merge into this one, must have the same precision
+     */
+    void merge(final HyperLogLogSketch other) {
+        if (other.m_precision != m_precision) {
+            throw new IllegalArgumentException("Sketches with different precision (" + other.m_precision + " vs. "
+                + m_precision + ") can't be merged");
+        }
+        if (other.m_registers == null) {
+            for (int i = 0; i < other.m_sparseSize; i++) {
+                add(other.m_sparse[i]);
+            }
+            return;
+        }
+        if (m_registers == null) {
+            convertToRegisters();
+        }
+        for (int i = 0; i < m_registers.length; i++) {
+            if (other.m_registers[i] > m_registers[i]) {
+                m_registers[i] = other.m_registers[i];
+            }
+        }
+    }
+
+    /**
+     * @return the estimated number of distinct values, exact for small cardinalities
+     */
+    long estimate() {
+        if (m_registers == null) {
+            return m_sparseSize;
+        }
+        //improved estimator by Ertl ("New cardinality estimation algorithms for HyperLogLog sketches", 2017),
+        //which is unbiased over the whole range without empirical bias correction
+        final int m = m_registers.length;
+        final int q = 64 - m_precision;
+        final int[] histogram = new int[q + 2];
+        for (final byte register : m_registers) {
+            histogram[register]++;
+        }
+        double z = m * tau(1 - histogram[q + 1] / (double)m);
+        for (int k = q; k >= 1; k--) {
+            z = 0.5 * (z + histogram[k]);
+        }
+        z += m * sigma(histogram[0] / (double)m);
+        return Math.round(m * m / (2 * Math.log(2)) / z);
+    }
+
+    private static double sigma(final double value) {
+        if (value == 1) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double x = value;
+        double y = 1;
+        double z = x;
+        double zPrev;
+        do {
+            x *= x;
+            zPrev = z;
+            z += x * y;
+            y += y;
+        } while (z != zPrev);
+        return z;
+    }
+
+    private static double tau(final double value) {
+        if (value == 0 || value == 1) {
+            return 0;
+        }
+        double x = value;
+        double y = 1;
+        double z = 1 - x;
+        double zPrev;
+        do {
+            x = Math.sqrt(x);
+            zPrev = z;
+            y *= 0.5;
+            z -= (1 - x) * (1 - x) * y;
+        } while (z != zPrev);
+        return z / 3;
+    }
+
+    /** Removes all values from the sketch. */
+    void reset() {
+        m_registers = null;
+        m_sparse = new long[8];
+        m_sparseSize = 0;
+    }
+}
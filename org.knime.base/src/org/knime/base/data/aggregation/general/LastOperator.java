@@ -130,6 +130,26 @@ protected void resetInternal() {
         m_lastCell = null;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsMerge() {
+        return getClass() == LastOperator.class;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final LastOperator operator = (LastOperator)other;
+        if (operator.m_lastCell != null) {
+            m_lastCell = operator.m_lastCell;
+        }
+        return false;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -151,6 +151,28 @@ protected void resetInternal() {
         m_cells.clear();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsMerge() {
+        return getClass() == ListCellOperator.class;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final ListCellOperator operator = (ListCellOperator)other;
+        if (m_cells.size() + operator.m_cells.size() > getMaxUniqueValues()) {
+            setSkipMessage("Group contains too many values");
+            return true;
+        }
+        m_cells.addAll(operator.m_cells);
+        return false;
+    }
+
     /**
      * {@inheritDoc}
      */
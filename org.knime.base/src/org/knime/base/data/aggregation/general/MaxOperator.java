@@ -147,6 +147,27 @@ protected void resetInternal() {
         m_maxVal = null;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsMerge() {
+        return getClass() == MaxOperator.class;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final MaxOperator operator = (MaxOperator)other;
+        if (operator.m_maxVal != null && (m_maxVal == null
+                || m_comparator.compare(operator.m_maxVal, m_maxVal) > 0)) {
+            m_maxVal = operator.m_maxVal;
+        }
+        return false;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -146,6 +146,27 @@ protected void resetInternal() {
         m_minVal = null;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsMerge() {
+        return getClass() == MinOperator.class;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final MinOperator operator = (MinOperator)other;
+        if (operator.m_minVal != null && (m_minVal == null
+                || m_comparator.compare(operator.m_minVal, m_minVal) < 0)) {
+            m_minVal = operator.m_minVal;
+        }
+        return false;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -145,6 +145,24 @@ protected void resetInternal() {
         m_counter = 0;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsMerge() {
+        return getClass() == MissingValueCountOperator.class;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final MissingValueCountOperator operator = (MissingValueCountOperator)other;
+        m_counter += operator.m_counter;
+        return false;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -151,6 +151,33 @@ protected void resetInternal() {
         m_cells.clear();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsMerge() {
+        return getClass() == SetCellOperator.class;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final SetCellOperator operator = (SetCellOperator)other;
+        for (final DataCell cell : operator.m_cells) {
+            if (m_cells.contains(cell)) {
+                continue;
+            }
+            if (m_cells.size() >= getMaxUniqueValues()) {
+                setSkipMessage("Group contains too many unique values");
+                return true;
+            }
+            m_cells.add(cell);
+        }
+        return false;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -129,6 +129,14 @@ protected void sortCells(final List<DataCell> cells) {
         Collections.sort(cells, m_comparator);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsMerge() {
+        return getClass() == SortedListCellOperator.class;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -118,6 +118,14 @@ protected DataCell getResultInternal() {
         return new StringCell(buf.toString());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsMerge() {
+        return getClass() == UniqueConcatenateOperator.class;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -110,6 +110,14 @@ protected DataCell getResultInternal() {
         return new IntCell(getGroupMembers().size());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsMerge() {
+        return getClass() == UniqueCountOperator.class;
+    }
+
     /**
      * {@inheritDoc}
      */
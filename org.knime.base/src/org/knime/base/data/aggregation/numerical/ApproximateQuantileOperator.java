@@ -0,0 +1,216 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.base.data.aggregation.numerical;
+
+
+import javax.swing.JPanel;
+
+import org.knime.base.data.aggregation.AggregationOperator;
+import org.knime.base.data.aggregation.GlobalSettings;
+import org.knime.base.data.aggregation.OperatorColumnSettings;
+import org.knime.base.data.aggregation.OperatorData;
+import org.knime.base.data.statistics.QuantileSketch;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.NotConfigurableException;
+import org.knime.core.node.defaultnodesettings.DialogComponentNumber;
+import org.knime.core.node.defaultnodesettings.SettingsModelDouble;
+
+/**
+ * Estimates the pth quantile per group in constant memory using a {@link QuantileSketch}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.6
+ * @see QuantileOperator
+ */
+public class ApproximateQuantileOperator extends AbstractQuantileSketchOperator {
+
+    private static final String CFG_CUSTOM_QUANTILE = "customQuantile";
+
+    /** The default quantile. */
+    private static final double DEFAULT_QUANTILE = 0.5;
+
+    private final SettingsModelDouble m_quantile = new SettingsModelDouble(CFG_CUSTOM_QUANTILE, DEFAULT_QUANTILE);
+
+    private DialogComponentNumber m_quantileComponent;
+
+    private JPanel m_settingsPanel;
+
+    /**Constructor for class ApproximateQuantileOperator.
+     * @param globalSettings the global settings
+     * @param opColSettings the operator column specific settings
+     */
+    public ApproximateQuantileOperator(final GlobalSettings globalSettings,
+            final OperatorColumnSettings opColSettings) {
+        this(new OperatorData("Quantile (approximate)", false, false, DoubleValue.class, false), globalSettings,
+            opColSettings, DEFAULT_QUANTILE);
+    }
+
+    /**Constructor for class ApproximateQuantileOperator.
+     * @param operatorData the operator data
+     * @param globalSettings the global settings
+     * @param opColSettings the operator column specific settings
+     * @param quantile the quantile to estimate
+     */
+    protected ApproximateQuantileOperator(final OperatorData operatorData, final GlobalSettings globalSettings,
+            final OperatorColumnSettings opColSettings, final double quantile) {
+        super(operatorData, globalSettings, opColSettings);
+        m_quantile.setDoubleValue(quantile);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected double getQuantile() {
+        return m_quantile.getDoubleValue();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public AggregationOperator createInstance(final GlobalSettings globalSettings,
+            final OperatorColumnSettings opColSettings) {
+        return new ApproximateQuantileOperator(getOperatorData(), globalSettings, opColSettings,
+            m_quantile.getDoubleValue());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getColumnLabel() {
+        return m_quantile.getDoubleValue() + "-quantile (approximate)";
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsMerge() {
+        return getClass() == ApproximateQuantileOperator.class;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getDescription() {
+        return "Estimates the quantile per group in a single pass with constant memory per group.";
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getDetailedDescription() {
+        return "Estimates the quantile per group by skipping missing cells using a mergeable quantile sketch (KLL). "
+            + "Groups with up to 200 values are computed exactly (interpolating linearly between the closest ranks, "
+            + "like the R-7 estimation of the quantile method), for larger groups the rank of the result deviates by "
+            + "less than about 2% of the group size from the rank of the exact quantile. Unlike the quantile method "
+            + "it requires only a few KB of memory per group.";
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasOptionalSettings() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public JPanel getSettingsPanel() {
+        if (m_settingsPanel == null) {
+            m_quantileComponent = new DialogComponentNumber(m_quantile, "Quantile: ", 0.1);
+            m_settingsPanel = new JPanel();
+            m_settingsPanel.add(m_quantileComponent.getComponentPanel());
+        }
+        return m_settingsPanel;
+    }
+
+    @Override
+    public void loadValidatedSettings(final NodeSettingsRO settings) throws InvalidSettingsException {
+        m_quantile.loadSettingsFrom(settings);
+    }
+
+    @Override
+    public void loadSettingsFrom(final NodeSettingsRO settings, final DataTableSpec spec)
+        throws NotConfigurableException {
+        getSettingsPanel();
+        m_quantileComponent.loadSettingsFrom(settings, new DataTableSpec[]{spec});
+    }
+
+    @Override
+    public void saveSettingsTo(final NodeSettingsWO settings) {
+        m_quantile.saveSettingsTo(settings);
+    }
+
+    @Override
+    public void validateSettings(final NodeSettingsRO settings) throws InvalidSettingsException {
+        checkQuantile(((SettingsModelDouble)m_quantile.createCloneWithValidatedValue(settings)).getDoubleValue());
+    }
+
+    @Override
+    public void validate() throws InvalidSettingsException {
+        checkQuantile(m_quantile.getDoubleValue());
+    }
+
+    private static void checkQuantile(final double quantile) throws InvalidSettingsException {
+        if (!(quantile >= 0 && quantile <= 1)) {
+            throw new InvalidSettingsException("Quantile must be between 0 and 1");
+        }
+    }
+}
@@ -108,6 +108,14 @@ protected DataCell getResultInternal() {
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsMerge() {
+        return getClass() == GeometricStdDeviationOperator.class;
+    }
+
     /**
      * {@inheritDoc}
      */
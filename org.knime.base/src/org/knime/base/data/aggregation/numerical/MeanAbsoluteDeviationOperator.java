@@ -92,6 +92,14 @@ public MeanAbsoluteDeviationOperator(final GlobalSettings globalSettings,
             setInclMissingFlag(opColSettings, false));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsMerge() {
+        return getClass() == MeanAbsoluteDeviationOperator.class;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -136,6 +136,29 @@ protected void resetInternal() {
         m_count = 0;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsMerge() {
+        return getClass() == MeanOperator.class;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final MeanOperator operator = (MeanOperator)other;
+        if (operator.m_count > 0) {
+            final int count = m_count + operator.m_count;
+            m_mean = m_mean * ((double)m_count / count)
+                    + operator.m_mean * ((double)operator.m_count / count);
+            m_count = count;
+        }
+        return false;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -92,6 +92,14 @@ public MedianAbsoluteDeviationOperator(final GlobalSettings globalSettings,
             setInclMissingFlag(opColSettings, false));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsMerge() {
+        return getClass() == MedianAbsoluteDeviationOperator.class;
+    }
+
     /**
      * {@inheritDoc}
      */
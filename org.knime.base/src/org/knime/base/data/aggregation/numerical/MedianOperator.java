@@ -149,6 +149,14 @@ private DataCell convertToDoubleCellIfNecessary(final DataCell cell) {
         return new DoubleCell(((DoubleValue)cell).getDoubleValue());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsMerge() {
+        return getClass() == MedianOperator.class;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -169,6 +169,14 @@ protected DataCell getResultInternal() {
         return new DoubleCell(evaluate);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsMerge() {
+        return getClass() == QuantileOperator.class;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -95,6 +95,14 @@ public RangeOperator(final GlobalSettings globalSettings,
                 globalSettings, AggregationOperator.setInclMissingFlag(opColSettings, false));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsMerge() {
+        return getClass() == RangeOperator.class;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -106,6 +106,14 @@ protected DataCell getResultInternal() {
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsMerge() {
+        return getClass() == StdDeviationOperator.class;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -107,6 +107,23 @@ protected void resetInternal() {
         m_cells.clear();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final StoreResizableDoubleArrayOperator operator = (StoreResizableDoubleArrayOperator)other;
+        final ResizableDoubleArray cells = operator.m_cells;
+        if (m_cells.getNumElements() + cells.getNumElements() > getMaxUniqueValues()) {
+            setSkipMessage("Group contains too many values");
+            return true;
+        }
+        for (final double value : cells.getElements()) {
+            m_cells.addElement(value);
+        }
+        return false;
+    }
+
     /**
      * @return ResizableDoubleArray m_cells
      */
@@ -176,6 +176,27 @@ protected void resetInternal() {
         m_sum = 0;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsMerge() {
+        return getClass() == SumOperator.class;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final SumOperator operator = (SumOperator)other;
+        if (operator.m_valid) {
+            m_valid = true;
+            m_sum += operator.m_sum;
+        }
+        return false;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -151,6 +151,26 @@ protected void resetInternal() {
         m_validCount = 0;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsMerge() {
+        return getClass() == VarianceOperator.class;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected boolean mergeInternal(final AggregationOperator other) {
+        final VarianceOperator operator = (VarianceOperator)other;
+        m_validCount += operator.m_validCount;
+        m_sum += operator.m_sum;
+        m_sumSquare += operator.m_sumSquare;
+        return false;
+    }
+
     /**
      * {@inheritDoc}
      */
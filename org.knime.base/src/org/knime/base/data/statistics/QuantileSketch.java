@@ -0,0 +1,337 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.base.data.statistics;
+
+
+import java.util.Arrays;
+
+/**
+ * Mergeable sketch to estimate quantiles of a stream of doubles in constant memory (KLL sketch by Karnin, Lang and
+ * Liberty, "Optimal Quantile Approximation in Streams", 2016). The values are kept in a hierarchy of compactors:
+ * level <i>h</i> holds values with weight 2<sup><i>h</i></sup>. If the sketch exceeds its capacity, the lowest full
+ * level is sorted and every other value (starting at a pseudo random offset) is promoted to the next level.
+ *
+ * <p>With the default accuracy of 200 the rank of an estimated quantile deviates by less than about 1.7% of the
+ * number of values with high probability, the sketch keeps at most about 600 values. As long as no values have been
+ * compacted (up to about 200 values) the quantiles are exact. The pseudo random offsets are derived from a fixed
+ * seed, i.e. the estimates are reproducible for the same input order. {@link Double#NaN} is larger than all other
+ * values, as in {@link Arrays#sort(double[])}.
+ *
+ * <p>Note: This implementation is not thread-safe.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.6
+ */
+public final class QuantileSketch {
+
+    /** The default accuracy parameter. */
+    public static final int DEFAULT_ACCURACY = 200;
+
+    /** Capacities of the levels shrink by this factor from the top level downwards. */
+    private static final double CAPACITY_DECAY = 2.0 / 3;
+
+    private static final int MIN_LEVEL_CAPACITY = 8;
+
+    private final int m_accuracy;
+
+    /** The values per level, only the first {@link #m_sizes} entries are used. */
+    private double[][] m_levels;
+
+    private int[] m_sizes;
+
+    private int m_nrLevels;
+
+    private long m_count;
+
+    private double m_min;
+
+    private double m_max;
+
+    private long m_random;
+
+    /** Creates a new empty sketch with the {@link #DEFAULT_ACCURACY}. */
+    public QuantileSketch() {
+        this(DEFAULT_ACCURACY);
+    }
+
+    /**
+     * Creates a new empty sketch.
+     *
+     * @param accuracy the capacity of the top level, at least 8; the rank error is proportional to its inverse and
+     *            the memory to the value
+     */
+    public QuantileSketch(final int accuracy) {
+        if (accuracy < MIN_LEVEL_CAPACITY) {
+            throw new IllegalArgumentException("Accuracy must be at least " + MIN_LEVEL_CAPACITY + ": " + accuracy);
+        }
+        m_accuracy = accuracy;
+        reset();
+    }
+
+    /**
+     * @param value the value to add
+     */
+    public void update(final double value) {
+        if (m_count == 0 || Double.compare(value, m_min) < 0) {
+            m_min = value;
+        }
+        if (m_count == 0 || Double.compare(value, m_max) > 0) {
+            m_max = value;
+        }
+        m_count++;
+        append(0, value);
+        if (m_sizes[0] >= capacity(0)) {
+            compress();
+        }
+    }
+
+    /**
+     * Adds all values of another sketch to this one. The result has the same error guarantee as if all values had
+     * been added to a single sketch.
+     *
+     * @param other the sketch to merge into this one, must have the same accuracy
+     */
+    public void merge(final QuantileSketch other) {
+        if (other.m_accuracy != m_accuracy) {
+            throw new IllegalArgumentException("Sketches with different accuracy (" + other.m_accuracy + " vs. "
+                + m_accuracy + ") can't be merged");
+        }
+        if (other.m_count == 0) {
+            return;
+        }
+        if (m_count == 0 || Double.compare(other.m_min, m_min) < 0) {
+            m_min = other.m_min;
+        }
+        if (m_count == 0 || Double.compare(other.m_max, m_max) > 0) {
+            m_max = other.m_max;
+        }
+        m_count += other.m_count;
+        for (int h = 0; h < other.m_nrLevels; h++) {
+            for (int i = 0; i < other.m_sizes[h]; i++) {
+                append(h, other.m_levels[h][i]);
+            }
+        }
+        compress();
+    }
+
+    /**
+     * @return the number of values added to the sketch (also through merges)
+     */
+    public long getCount() {
+        return m_count;
+    }
+
+    /**
+     * @return whether the sketch still contains all values, i.e. the quantiles are exact
+     */
+    public boolean isExact() {
+        return m_nrLevels == 1;
+    }
+
+    /**
+     * Estimates a quantile. Like the default method of R (type 7) it interpolates linearly between the values at the
+     * ranks closest to <code>q * (n - 1)</code>, i.e. for an even number of values the median is the mean of the
+     * two middle values.
+     *
+     * @param q the quantile, between 0 and 1
+     * @return the estimated quantile, {@link Double#NaN} if the sketch is empty
+     */
+    public double getQuantile(final double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1: " + q);
+        }
+        if (m_count == 0) {
+            return Double.NaN;
+        }
+        if (q == 0) {
+            return m_min;
+        }
+        if (q == 1) {
+            return m_max;
+        }
+        // all retained values sorted, together with their weights
+        int size = 0;
+        for (int h = 0; h < m_nrLevels; h++) {
+            size += m_sizes[h];
+        }
+        final double[] values = new double[size];
+        final long[] weights = new long[size];
+        int pos = 0;
+        for (int h = 0; h < m_nrLevels; h++) {
+            System.arraycopy(m_levels[h], 0, values, pos, m_sizes[h]);
+            Arrays.fill(weights, pos, pos + m_sizes[h], 1L << h);
+            pos += m_sizes[h];
+        }
+        sortByValue(values, weights);
+        // the total weight equals the count, compaction preserves it
+        final double rank = q * (m_count - 1);
+        final long lower = (long)Math.floor(rank);
+        final double lowerValue = valueAtRank(values, weights, lower);
+        final double fraction = rank - lower;
+        if (fraction == 0) {
+            return lowerValue;
+        }
+        final double upperValue = valueAtRank(values, weights, lower + 1);
+        return lowerValue + fraction * (upperValue - lowerValue);
+    }
+
+    /**
+     * @return the smallest value added, {@link Double#NaN} if the sketch is empty
+     */
+    public double getMin() {
+        return m_count == 0 ? Double.NaN : m_min;
+    }
+
+    /**
+     * @return the largest value added, {@link Double#NaN} if the sketch is empty
+     */
+    public double getMax() {
+        return m_count == 0 ? Double.NaN : m_max;
+    }
+
+    /** Removes all values from the sketch. */
+    public void reset() {
+        m_levels = new double[][]{new double[MIN_LEVEL_CAPACITY]};
+        m_sizes = new int[1];
+        m_nrLevels = 1;
+        m_count = 0;
+        m_min = Double.NaN;
+        m_max = Double.NaN;
+        m_random = 0x9E3779B97F4A7C15L;
+    }
+
+    private static double valueAtRank(final double[] values, final long[] weights, final long rank) {
+        long cumulative = 0;
+        for (int i = 0; i < values.length; i++) {
+            cumulative += weights[i];
+            if (rank < cumulative) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    /** Sorts the values in ascending order and permutes the weights accordingly. */
+    private static void sortByValue(final double[] values, final long[] weights) {
+        final Integer[] order = new Integer[values.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+        final double[] valuesCopy = values.clone();
+        final long[] weightsCopy = weights.clone();
+        for (int i = 0; i < order.length; i++) {
+            values[i] = valuesCopy[order[i]];
+            weights[i] = weightsCopy[order[i]];
+        }
+    }
+
+    /** @return the capacity of the level for the current number of levels */
+    private int capacity(final int level) {
+        final int depth = m_nrLevels - level - 1;
+        return Math.max(MIN_LEVEL_CAPACITY, (int)Math.ceil(m_accuracy * Math.pow(CAPACITY_DECAY, depth)));
+    }
+
+    private void append(final int level, final double value) {
+        if (level >= m_nrLevels) {
+            if (level >= m_levels.length) {
+                m_levels = Arrays.copyOf(m_levels, level + 1);
+                m_sizes = Arrays.copyOf(m_sizes, level + 1);
+            }
+            for (int h = m_nrLevels; h <= level; h++) {
+                m_levels[h] = new double[MIN_LEVEL_CAPACITY];
+            }
+            m_nrLevels = level + 1;
+        }
+        if (m_sizes[level] == m_levels[level].length) {
+            m_levels[level] = Arrays.copyOf(m_levels[level], 2 * m_levels[level].length);
+        }
+        m_levels[level][m_sizes[level]++] = value;
+    }
+
+    /** Compacts full levels, from the bottom up, until each level is within its capacity. */
+    private void compress() {
+        for (int h = 0; h < m_nrLevels; h++) {
+            if (m_sizes[h] >= capacity(h)) {
+                compact(h);
+            }
+        }
+    }
+
+    /** Promotes every other value of the sorted level to the next level, an odd value out stays on the level. */
+    private void compact(final int level) {
+        final double[] values = m_levels[level];
+        final int size = m_sizes[level];
+        final int pairs = size / 2;
+        // an odd value out (the largest one) stays on the level
+        Arrays.sort(values, 0, size);
+        final int offset = nextRandomBit();
+        // append() may reallocate m_levels, so the promoted values are collected first
+        final double[] promoted = new double[pairs];
+        for (int i = 0; i < pairs; i++) {
+            promoted[i] = values[2 * i + offset];
+        }
+        if ((size & 1) == 1) {
+            values[0] = values[size - 1];
+            m_sizes[level] = 1;
+        } else {
+            m_sizes[level] = 0;
+        }
+        for (final double value : promoted) {
+            append(level + 1, value);
+        }
+    }
+
+    private int nextRandomBit() {
+        // xorshift64
+        m_random ^= m_random << 13;
+        m_random ^= m_random >>> 7;
+        m_random ^= m_random << 17;
+        return (int)(m_random >>> 63);
+    }
+}
@@ -212,6 +212,28 @@ public Statistics3Table(final BufferedDataTable table, final boolean computeMedi
             table.getDataTableSpec(), nominalValueColumns));
     }
 
+    /**
+     * Create new statistic table from an existing one. This constructor calculates all values. It needs to traverse
+     * the entire specified table once, and a second time if the exact median has to be computed. User can cancel
+     * action if an execution monitor is passed.
+     *
+     * @param table table to be wrapped
+     * @param computeMedian if the median has to be computed
+     * @param approximateMedian if the median is estimated with a {@link QuantileSketch} (constant memory, no
+     *            sorting) rather than computed exactly
+     * @param numNomValuesOutput number of possible values in output table
+     * @param nominalValueColumns columns used to determine all poss. values
+     * @param exec an object to check with if user canceled operation
+     * @throws CanceledExecutionException if user canceled
+     * @since 3.6
+     */
+    public Statistics3Table(final BufferedDataTable table, final boolean computeMedian,
+        final boolean approximateMedian, final int numNomValuesOutput, final List<String> nominalValueColumns,
+        final ExecutionContext exec) throws CanceledExecutionException {
+        this(table, computeMedian, approximateMedian, numNomValuesOutput, nominalValueColumns, exec,
+            allApplicableColumns(table.getDataTableSpec(), nominalValueColumns));
+    }
+
     /**
      * Finds those columns that have applicable columns.
      *
@@ -272,6 +294,29 @@ private static int[] allColumns(final int numberOfColumns) {
     public Statistics3Table(final BufferedDataTable table, final boolean computeMedian, final int numNomValuesOutput,
         final List<String> nominalValueColumns, final ExecutionContext exec, final int... selectedColumnIndices)
         throws CanceledExecutionException {
+        this(table, computeMedian, false, numNomValuesOutput, nominalValueColumns, exec, selectedColumnIndices);
+    }
+
+    /**
+     * Create new statistic table from an existing one. This constructor calculates all values. It needs to traverse
+     * the entire specified table once, and a second time if the exact median has to be computed. User can cancel
+     * action if an execution monitor is passed.
+     *
+     * @param table table to be wrapped
+     * @param computeMedian if the median has to be computed
+     * @param approximateMedian if the median is estimated with a {@link QuantileSketch} in the first pass (constant
+     *            memory, no sorting) rather than computed exactly by sorting the table; ignored if
+     *            <code>computeMedian</code> is <code>false</code>
+     * @param numNomValuesOutput number of possible values in output table
+     * @param nominalValueColumns columns used to determine all poss. values
+     * @param exec an object to check with if user canceled operation
+     * @param selectedColumnIndices The indices of columns to compute the statistics.
+     * @throws CanceledExecutionException if user canceled
+     * @since 3.6
+     */
+    public Statistics3Table(final BufferedDataTable table, final boolean computeMedian,
+        final boolean approximateMedian, final int numNomValuesOutput, final List<String> nominalValueColumns,
+        final ExecutionContext exec, final int... selectedColumnIndices) throws CanceledExecutionException {
         final int[] colIndices = check(selectedColumnIndices, table.getSpec(), nominalValueColumns);
         int nrCols = table.getDataTableSpec().getNumColumns();
         m_spec = table.getDataTableSpec();
@@ -311,6 +356,12 @@ public Statistics3Table(final BufferedDataTable table, final boolean computeMedi
             skewness[i] = new Skewness();
             kurtosis[i] = new Kurtosis();
         }
+        final QuantileSketch[] medianSketches = new QuantileSketch[nrCols];
+        if (computeMedian && approximateMedian) {
+            for (int i : filter(table.getSpec(), colIndices)) {
+                medianSketches[i] = new QuantileSketch();
+            }
+        }
 
         Set<String> nominalValueColumnsSet = new HashSet<String>(nominalValueColumns);
 
@@ -345,7 +396,7 @@ public Statistics3Table(final BufferedDataTable table, final boolean computeMedi
 
         final int rowCnt = table.getRowCount();
         double diffProgress = rowCnt;
-        if (computeMedian) {
+        if (computeMedian && !approximateMedian) {
             for (int i : colIndices) {
                 if (m_spec.getColumnSpec(i).getType().isCompatible(DoubleValue.class)) {
                     diffProgress += rowCnt;
@@ -382,6 +433,9 @@ public Statistics3Table(final BufferedDataTable table, final boolean computeMedi
                         }
                         skewness[c].increment(d);
                         kurtosis[c].increment(d);
+                        if (medianSketches[c] != null) {
+                            medianSketches[c].update(d);
+                        }
                         sumsquare[c] += d * d;
                         validCount[c]++;
                     }
@@ -486,7 +540,13 @@ public int compare(final Entry<DataCell, MutableInteger> o1, final Entry<DataCel
         }
 
         // compute median values if desired
-        if (computeMedian) {
+        if (computeMedian && approximateMedian) {
+            for (int c : colIndices) {
+                if (medianSketches[c] != null) {
+                    m_median[c] = medianSketches[c].getQuantile(0.5);
+                }
+            }
+        } else if (computeMedian) {
             final int[] filteredIndices = filter(table.getSpec(), colIndices);
             final MedianTable medianTable = new MedianTable(table, filteredIndices);
             medianTable.setInMemory(table.getRowCount() < Runtime.getRuntime().freeMemory() / Double.SIZE / 2);
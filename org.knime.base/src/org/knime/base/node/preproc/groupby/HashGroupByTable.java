@@ -0,0 +1,646 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.base.node.preproc.groupby;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.base.data.aggregation.AggregationOperator;
+import org.knime.base.data.aggregation.ColumnAggregator;
+import org.knime.base.data.aggregation.GlobalSettings;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.append.AppendedColumnRow;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.data.util.memory.MemoryAlertSystem.MemoryActionIndicator;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.util.ThreadPool;
+import org.knime.core.util.ThreadUtils;
+
+/**
+ * A data table that groups a given input table by the given columns and calculates the aggregation values of the
+ * remaining rows. Unlike the {@link BigGroupByTable} the input table is not sorted. Instead the groups are
+ * distributed across a fixed number of partitions by the hash code of their group values and the partitions are
+ * aggregated in memory, concurrently by threads of the {@link KNIMEConstants#GLOBAL_THREAD_POOL}. Whenever the
+ * {@link MemoryAlertSystem} reports low memory the largest partition of a worker is dropped. The rows of all dropped
+ * partitions are written to disk afterwards and each of these tables is aggregated recursively with a different
+ * hash function. The row keys of the input rows are only memorized if hiliting is enabled.
+ * <p>
+ * The result table contains the groups in the same order as the one created by the {@link BigGroupByTable}, i.e.
+ * sorted by the group values, and can therefore be used as a drop-in replacement. The GroupBy node only uses it if
+ * the system property {@link KNIMEConstants#PROPERTY_GROUPBY_HASH} is set.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.6
+ */
+public class HashGroupByTable extends GroupByTable {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(HashGroupByTable.class);
+
+    /** Number of partitions the groups are distributed to in each pass, must be a power of two. */
+    static final int PARTITION_COUNT = 32;
+
+    /** Recursion level from which on partitions are aggregated in memory in any case. */
+    static final int MAX_LEVEL = 4;
+
+    /** Number of rows handed over to a worker at once. */
+    private static final int BATCH_SIZE = 1024;
+
+    /** Number of batches that may queue up for a single worker. */
+    private static final int MAX_PENDING_BATCHES = 4;
+
+    private static final String FIRST_ROW_COL_NAME = "First row";
+
+    private static final List<PendingRow> END_OF_INPUT = new ArrayList<>(0);
+
+
+    //the fields are set in createGroupByTable which is called from the super constructor, don't initialize them
+    private int[] m_groupColIdx;
+
+    private int[] m_aggrColIdx;
+
+    private BufferedDataContainer m_groupContainer;
+
+    private Map<Long, Set<RowKey>> m_rowKeysByFirstRow;
+
+    /**Constructor for class HashGroupByTable.
+     * @param exec the <code>ExecutionContext</code>
+     * @param inDataTable the table to aggregate
+     * @param groupByCols the name of all columns to group by
+     * @param colAggregators the aggregation columns with the aggregation method
+     * to use in the order the columns should be appear in the result table
+     * numerical columns
+     * @param globalSettings the global settings
+     * @param enableHilite <code>true</code> if a row key map should be
+     * maintained to enable hiliting
+     * @param colNamePolicy the {@link ColumnNamePolicy} for the
+     * aggregation columns
+     * @param retainOrder returns the row of the table in the same order as the
+     * input table if set to <code>true</code>
+     * @throws CanceledExecutionException if the user has canceled the execution
+     */
+    public HashGroupByTable(final ExecutionContext exec,
+            final BufferedDataTable inDataTable,
+            final List<String> groupByCols,
+            final ColumnAggregator[] colAggregators,
+            final GlobalSettings globalSettings, final boolean enableHilite,
+            final ColumnNamePolicy colNamePolicy, final boolean retainOrder)
+    throws CanceledExecutionException {
+        super(exec, inDataTable, groupByCols, colAggregators, globalSettings,
+                enableHilite, colNamePolicy, retainOrder);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected BufferedDataTable createGroupByTable(final ExecutionContext exec,
+            final BufferedDataTable dataTable, final DataTableSpec resultSpec,
+            final int[] groupColIdx) throws CanceledExecutionException {
+        LOGGER.debug("Entering createGroupByTable(exec, table) "
+                + "of class HashGroupByTable.");
+        final DataTableSpec spec = dataTable.getDataTableSpec();
+        final ColumnAggregator[] colAggregators = getColAggregators();
+        m_groupColIdx = groupColIdx;
+        m_aggrColIdx = new int[colAggregators.length];
+        for (int i = 0, length = colAggregators.length; i < length; i++) {
+            m_aggrColIdx[i] = spec.findColumnIndex(colAggregators[i].getOriginalColName());
+        }
+        m_rowKeysByFirstRow = isEnableHilite() ? new HashMap<>() : null;
+        //the groups are written with the index of their first row, which is used to restore the group order
+        final String firstRowColName = DataTableSpec.getUniqueColumnName(resultSpec, FIRST_ROW_COL_NAME);
+        final DataTableSpec groupSpec = new DataTableSpec(resultSpec,
+            new DataTableSpec(new DataColumnSpecCreator(firstRowColName, LongCell.TYPE).createSpec()));
+        m_groupContainer = exec.createDataContainer(groupSpec);
+        exec.setMessage("Creating groups");
+        try {
+            aggregate(exec.createSubExecutionContext(0.6), dataTable, -1, 0);
+        } finally {
+            m_groupContainer.close();
+        }
+        final BufferedDataTable groupTable = m_groupContainer.getTable();
+        m_groupContainer = null;
+        //bring the groups into the order of the BigGroupByTable, which also determines the row keys
+        exec.setMessage("Sorting groups");
+        final List<String> sortCols = new ArrayList<>(getGroupCols());
+        sortCols.add(firstRowColName);
+        final BufferedDataTable sortedTable = sortTable(exec.createSubExecutionContext(0.3), groupTable, sortCols);
+        exec.clearTable(groupTable);
+        final ExecutionMonitor writeExec = exec.createSubProgress(0.1);
+        final BufferedDataContainer dc = exec.createDataContainer(resultSpec);
+        final int firstRowIdx = resultSpec.getNumColumns();
+        final long groupCount = sortedTable.size();
+        long groupCounter = 0;
+        for (final DataRow row : sortedTable) {
+            writeExec.checkCanceled();
+            final long currentGroup = groupCounter;
+            writeExec.setProgress(currentGroup / (double)groupCount,
+                () -> "Writing group " + currentGroup + " of " + groupCount);
+            final RowKey rowKey = RowKey.createRowKey(groupCounter++);
+            final DataCell[] rowVals = new DataCell[firstRowIdx];
+            for (int i = 0; i < firstRowIdx; i++) {
+                rowVals[i] = row.getCell(i);
+            }
+            dc.addRowToTable(new DefaultRow(rowKey, rowVals));
+            if (isEnableHilite()) {
+                final long firstRow = ((LongValue)row.getCell(firstRowIdx)).getLongValue();
+                addHiliteMapping(rowKey, m_rowKeysByFirstRow.remove(firstRow));
+            }
+        }
+        dc.close();
+        exec.clearTable(sortedTable);
+        m_rowKeysByFirstRow = null;
+        return dc.getTable();
+    }
+
+    /**
+     * Aggregates all rows of the given table and writes the groups to the group container. Groups of partitions
+     * that have been dropped due to low memory are aggregated by a recursive call on a table that contains the rows
+     * of the partition only.
+     *
+     * @param exec the {@link ExecutionContext}
+     * @param table the table to aggregate
+     * @param indexCol the index of the column holding the original row index, -1 if the table is the input table
+     * @param level the recursion level, determines the hash function
+     * @throws CanceledExecutionException if the operation has been canceled
+     */
+    private void aggregate(final ExecutionContext exec, final BufferedDataTable table, final int indexCol,
+        final int level) throws CanceledExecutionException {
+        final Partition[] partitions = new Partition[PARTITION_COUNT];
+        for (int i = 0; i < PARTITION_COUNT; i++) {
+            partitions[i] = new Partition(i);
+        }
+        final long rowCount = table.size();
+        final int workerCount = getWorkerCount(rowCount);
+        final PartitionWorker[] workers = new PartitionWorker[workerCount];
+        for (int i = 0; i < workerCount; i++) {
+            workers[i] = new PartitionWorker(level);
+        }
+        for (final Partition partition : partitions) {
+            workers[partition.m_index % workerCount].m_partitions.add(partition);
+        }
+        final ExecutionMonitor readExec = exec.createSubProgress(0.5);
+        try {
+            if (workerCount > 1) {
+                final ThreadPool pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(workerCount);
+                for (final PartitionWorker worker : workers) {
+                    worker.m_future = pool.enqueue(worker);
+                }
+            }
+            long rowCounter = 0;
+            for (final DataRow row : table) {
+                readExec.checkCanceled();
+                final long currentRow = rowCounter;
+                readExec.setProgress(currentRow / (double)rowCount,
+                    () -> "Analyzing row " + currentRow + " of " + rowCount);
+                final long firstRow =
+                    indexCol < 0 ? rowCounter : ((LongValue)row.getCell(indexCol)).getLongValue();
+                rowCounter++;
+                final GroupKey groupKey = createGroupKey(row);
+                final Partition partition = partitions[getPartition(groupKey, level)];
+                if (partition.m_spilled) {
+                    //the rows are read again from the table when the partition is processed
+                    continue;
+                }
+                final PartitionWorker worker = workers[partition.m_index % workerCount];
+                worker.m_batch.add(new PendingRow(row, groupKey, firstRow, partition));
+                if (worker.m_batch.size() >= BATCH_SIZE) {
+                    dispatch(worker, readExec);
+                }
+            }
+            for (final PartitionWorker worker : workers) {
+                if (!worker.m_batch.isEmpty()) {
+                    dispatch(worker, readExec);
+                }
+                if (worker.m_future != null) {
+                    worker.m_batch = END_OF_INPUT;
+                    dispatch(worker, readExec);
+                }
+            }
+            for (final PartitionWorker worker : workers) {
+                if (worker.m_future != null) {
+                    waitFor(worker.m_future, readExec);
+                }
+            }
+        } finally {
+            for (final PartitionWorker worker : workers) {
+                if (worker.m_future != null) {
+                    worker.m_future.cancel(true);
+                }
+            }
+        }
+        final List<Partition> spilledPartitions = new ArrayList<>();
+        for (final Partition partition : partitions) {
+            if (partition.m_spilled) {
+                spilledPartitions.add(partition);
+            } else {
+                writeGroups(partition);
+            }
+        }
+        exec.setProgress(0.6);
+        if (spilledPartitions.isEmpty()) {
+            exec.setProgress(1.0);
+            return;
+        }
+        LOGGER.debug(spilledPartitions.size() + " of " + PARTITION_COUNT + " partitions were swapped to disk on level "
+                + level + ", processing them separately");
+        exec.setMessage("Writing partitions to disk");
+        final DataTableSpec spec = table.getDataTableSpec();
+        final DataTableSpec spillSpec;
+        final int spillIndexCol;
+        if (indexCol < 0) {
+            spillSpec = new DataTableSpec(spec, new DataTableSpec(new DataColumnSpecCreator(
+                DataTableSpec.getUniqueColumnName(spec, FIRST_ROW_COL_NAME), LongCell.TYPE).createSpec()));
+            spillIndexCol = spec.getNumColumns();
+        } else {
+            spillSpec = spec;
+            spillIndexCol = indexCol;
+        }
+        final BufferedDataContainer[] containers = new BufferedDataContainer[PARTITION_COUNT];
+        for (final Partition partition : spilledPartitions) {
+            containers[partition.m_index] = exec.createDataContainer(spillSpec, false, 0);
+        }
+        final ExecutionMonitor spillExec = exec.createSubProgress(0.1);
+        final BufferedDataTable[] spillTables = new BufferedDataTable[PARTITION_COUNT];
+        try {
+            long rowCounter = 0;
+            for (final DataRow row : table) {
+                spillExec.checkCanceled();
+                spillExec.setProgress(rowCounter / (double)rowCount);
+                final BufferedDataContainer container = containers[getPartition(createGroupKey(row), level)];
+                if (container != null) {
+                    container.addRowToTable(indexCol < 0 ? new AppendedColumnRow(row, new LongCell(rowCounter)) : row);
+                }
+                rowCounter++;
+            }
+        } finally {
+            for (final Partition partition : spilledPartitions) {
+                containers[partition.m_index].close();
+                spillTables[partition.m_index] = containers[partition.m_index].getTable();
+            }
+        }
+        for (final Partition partition : spilledPartitions) {
+            final BufferedDataTable spillTable = spillTables[partition.m_index];
+            try {
+                aggregate(exec.createSubExecutionContext(0.3 * spillTable.size() / rowCount), spillTable,
+                    spillIndexCol, level + 1);
+            } finally {
+                exec.clearTable(spillTable);
+            }
+        }
+    }
+
+    /**
+     * Hands the pending batch of the worker over to it, or processes it in the calling thread if the worker isn't
+     * running in a separate thread. The workers of a pass may wait for a free thread of the pool, therefore the
+     * calling thread doesn't occupy one while it waits for the queue of a worker.
+     */
+    private static void dispatch(final PartitionWorker worker, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        final List<PendingRow> batch = worker.m_batch;
+        worker.m_batch = new ArrayList<>(BATCH_SIZE);
+        if (worker.m_future == null) {
+            worker.process(batch);
+            return;
+        }
+        if (worker.m_queue.offer(batch)) {
+            return;
+        }
+        final boolean accepted;
+        try {
+            accepted = ThreadUtils.runInvisible(() -> {
+                while (!worker.m_queue.offer(batch, 250, TimeUnit.MILLISECONDS)) {
+                    exec.checkCanceled();
+                    if (worker.m_future.isDone()) {
+                        return false;
+                    }
+                }
+                return true;
+            });
+        } catch (CanceledExecutionException | RuntimeException e) {
+            throw e;
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new CanceledExecutionException("Interrupted while grouping rows");
+        } catch (Exception e) {
+            throw new IllegalStateException("Unable to group rows: " + e.getMessage(), e);
+        }
+        if (!accepted) {
+            //rethrows the exception of the failed worker
+            waitFor(worker.m_future, exec);
+            throw new IllegalStateException("Group worker terminated before the end of input");
+        }
+    }
+
+    /**
+     * Waits for the worker while checking for cancelation and rethrows the exception of the worker.
+     */
+    private static void waitFor(final Future<Void> future, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        try {
+            ThreadUtils.waitFor(future, exec);
+        } catch (ExecutionException ee) {
+            final Throwable cause = ee.getCause();
+            throw new IllegalStateException("Unable to group rows: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Writes the groups of the partition to the group container and releases them. Must be called in the thread
+     * that created the table since it adds skipped groups.
+     */
+    private void writeGroups(final Partition partition) {
+        final int aggrCount = m_aggrColIdx.length;
+        for (final Map.Entry<GroupKey, GroupState> e : partition.m_groups.entrySet()) {
+            final DataCell[] groupVals = e.getKey().getGroupVals();
+            final GroupState state = e.getValue();
+            final DataCell[] rowVals = new DataCell[groupVals.length + aggrCount + 1];
+            //add the group values first
+            System.arraycopy(groupVals, 0, rowVals, 0, groupVals.length);
+            int valIdx = groupVals.length;
+            //add the aggregation values
+            for (final ColumnAggregator colAggr : state.m_aggregators) {
+                final AggregationOperator operator = colAggr.getOperator(getGlobalSettings());
+                rowVals[valIdx++] = operator.getResult();
+                if (operator.isSkipped()) {
+                    //add skipped groups and the column that causes the
+                    //skipping into the skipped groups map
+                    addSkippedGroup(colAggr.getOriginalColName(),
+                            operator.getSkipMessage(), groupVals);
+                }
+            }
+            rowVals[valIdx] = new LongCell(state.m_firstRow);
+            m_groupContainer.addRowToTable(new DefaultRow(RowKey.createRowKey(state.m_firstRow), rowVals));
+            if (state.m_rowKeys != null) {
+                m_rowKeysByFirstRow.put(state.m_firstRow, state.m_rowKeys);
+            }
+        }
+        partition.m_groups = null;
+    }
+
+    private GroupKey createGroupKey(final DataRow row) {
+        final DataCell[] groupVals = new DataCell[m_groupColIdx.length];
+        for (int i = 0, length = m_groupColIdx.length; i < length; i++) {
+            groupVals[i] = row.getCell(m_groupColIdx[i]);
+        }
+        return new GroupKey(groupVals);
+    }
+
+    /**
+     * @return a copy of the column aggregators
+     */
+    private ColumnAggregator[] cloneColumnAggregators() {
+        final ColumnAggregator[] origAggregators = getColAggregators();
+        final ColumnAggregator[] aggregators =
+            new ColumnAggregator[origAggregators.length];
+        for (int i = 0, length = origAggregators.length; i < length; i++) {
+            aggregators[i] = origAggregators[i].clone();
+        }
+        return aggregators;
+    }
+
+    /**
+     * Returns the partition of a group. Each level uses a different hash function so that the groups of a spilled
+     * partition are spread across all partitions of the next level.
+     *
+     * @param groupKey the group
+     * @param level the recursion level
+     * @return the partition index, between 0 (inclusive) and {@link #PARTITION_COUNT} (exclusive)
+     */
+    static int getPartition(final GroupKey groupKey, final int level) {
+        //finalization step of MurmurHash3 with a seed derived from the level
+        int h = groupKey.hashCode() ^ (level * 0x9E3779B9);
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h & (PARTITION_COUNT - 1);
+    }
+
+    private static int getWorkerCount(final long rowCount) {
+        final int maxThreads = KNIMEConstants.GLOBAL_THREAD_POOL.getMaxThreads();
+        if (maxThreads < 2 || rowCount < 4L * BATCH_SIZE) {
+            return 1;
+        }
+        return Math.min(maxThreads, PARTITION_COUNT);
+    }
+
+    /**
+     * Called by the workers after each batch of rows to decide whether the largest partition should be dropped. Only
+     * changed in unit tests to force partitions being swapped to disk.
+     *
+     * @param indicator the memory indicator of the worker
+     * @param groupCount the number of groups the worker currently keeps in memory
+     * @return <code>true</code> if a partition should be written to disk
+     */
+    boolean isSpillRequired(final MemoryActionIndicator indicator, final long groupCount) {
+        return indicator.lowMemoryActionRequired();
+    }
+
+    /** The groups of a partition, accessed by the worker owning the partition only. */
+    private static final class Partition {
+
+        private final int m_index;
+
+        private Map<GroupKey, GroupState> m_groups = new HashMap<>();
+
+        /** Set by the owning worker, read by the thread reading the table to skip rows of the partition. */
+        private volatile boolean m_spilled;
+
+        Partition(final int index) {
+            m_index = index;
+        }
+    }
+
+    /** The aggregation state of a group. */
+    private static final class GroupState {
+
+        private final ColumnAggregator[] m_aggregators;
+
+        /** Index of the first row of the group in the input table. */
+        private final long m_firstRow;
+
+        /** The row keys of the group, <code>null</code> if hiliting is disabled. */
+        private final Set<RowKey> m_rowKeys;
+
+        GroupState(final ColumnAggregator[] aggregators, final long firstRow, final Set<RowKey> rowKeys) {
+            m_aggregators = aggregators;
+            m_firstRow = firstRow;
+            m_rowKeys = rowKeys;
+        }
+    }
+
+    /** A row with its group and partition that was read but not yet aggregated. */
+    private static final class PendingRow {
+
+        private final DataRow m_row;
+
+        private final GroupKey m_groupKey;
+
+        private final long m_rowIndex;
+
+        private final Partition m_partition;
+
+        PendingRow(final DataRow row, final GroupKey groupKey, final long rowIndex, final Partition partition) {
+            m_row = row;
+            m_groupKey = groupKey;
+            m_rowIndex = rowIndex;
+            m_partition = partition;
+        }
+    }
+
+    /** Aggregates the rows of a fixed set of partitions. */
+    private final class PartitionWorker implements Callable<Void> {
+
+        private final List<Partition> m_partitions = new ArrayList<>();
+
+        private final BlockingQueue<List<PendingRow>> m_queue = new ArrayBlockingQueue<>(MAX_PENDING_BATCHES);
+
+        private final MemoryActionIndicator m_indicator = MemoryAlertSystem.getInstance().newIndicator();
+
+        private final int m_level;
+
+        /** The rows collected for this worker, only accessed by the thread reading the table. */
+        private List<PendingRow> m_batch = new ArrayList<>(BATCH_SIZE);
+
+        /** The future of the worker, <code>null</code> if the rows are processed by the reading thread. */
+        private Future<Void> m_future;
+
+        private long m_groupCount;
+
+        PartitionWorker(final int level) {
+            m_level = level;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Void call() throws Exception {
+            while (true) {
+                List<PendingRow> batch = m_queue.poll();
+                if (batch == null) {
+                    //don't occupy a thread of the pool that another worker of this pass may need
+                    batch = ThreadUtils.runInvisible(m_queue::take);
+                }
+                if (batch == END_OF_INPUT) {
+                    return null;
+                }
+                process(batch);
+            }
+        }
+
+        void process(final List<PendingRow> batch) {
+            final GlobalSettings globalSettings = getGlobalSettings();
+            for (final PendingRow pendingRow : batch) {
+                final Partition partition = pendingRow.m_partition;
+                if (partition.m_spilled) {
+                    continue;
+                }
+                GroupState state = partition.m_groups.get(pendingRow.m_groupKey);
+                if (state == null) {
+                    final Set<RowKey> rowKeys = isEnableHilite() ? new HashSet<>() : null;
+                    state = new GroupState(cloneColumnAggregators(), pendingRow.m_rowIndex, rowKeys);
+                    partition.m_groups.put(pendingRow.m_groupKey, state);
+                    m_groupCount++;
+                }
+                final DataRow row = pendingRow.m_row;
+                final ColumnAggregator[] aggregators = state.m_aggregators;
+                for (int i = 0, length = aggregators.length; i < length; i++) {
+                    aggregators[i].getOperator(globalSettings).compute(row, m_aggrColIdx[i]);
+                }
+                if (state.m_rowKeys != null) {
+                    state.m_rowKeys.add(row.getKey());
+                }
+            }
+            if (m_level < MAX_LEVEL && isSpillRequired(m_indicator, m_groupCount)) {
+                spillLargestPartition();
+            }
+        }
+
+        /** Drops the groups of the largest partition, its rows are aggregated in a separate pass. */
+        private void spillLargestPartition() {
+            Partition largest = null;
+            for (final Partition partition : m_partitions) {
+                if (!partition.m_spilled
+                    && (largest == null || partition.m_groups.size() > largest.m_groups.size())) {
+                    largest = partition;
+                }
+            }
+            if (largest == null || largest.m_groups.isEmpty()) {
+                return;
+            }
+            LOGGER.debug("Low memory, swapping partition " + largest.m_index + " with " + largest.m_groups.size()
+                + " groups to disk (level " + m_level + ")");
+            m_groupCount -= largest.m_groups.size();
+            largest.m_spilled = true;
+            largest.m_groups = new HashMap<>();
+        }
+    }
+}
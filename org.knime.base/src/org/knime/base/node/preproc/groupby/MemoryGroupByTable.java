@@ -45,13 +45,19 @@
 
 package org.knime.base.node.preproc.groupby;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.knime.base.data.aggregation.AggregationOperator;
 import org.knime.base.data.aggregation.ColumnAggregator;
@@ -66,14 +72,26 @@
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.util.ThreadPool;
+import org.knime.core.util.ThreadUtils;
 
 
 /**
+ * Groups the rows in memory. If all aggregation operators support merging (see
+ * {@link AggregationOperator#supportsMerge()}) larger tables are split into segments of consecutive rows, which are
+ * aggregated concurrently and merged in the order of the rows afterwards.
  *
  * @author Tobias Koetter, University of Konstanz
  */
 public class MemoryGroupByTable extends GroupByTable {
 
+    /** Number of consecutive rows aggregated by one task if the table is grouped concurrently. */
+    static final int SEGMENT_SIZE = 8192;
+
+    /** Number of segments per thread that are read ahead before the oldest one is merged. */
+    private static final int SEGMENTS_AHEAD_PER_THREAD = 2;
+
     private Map<GroupKey, Set<RowKey>> m_rowKeys;
     private Map<GroupKey, ColumnAggregator[]> m_vals;
 
@@ -154,23 +172,129 @@ protected BufferedDataTable createGroupByTable(final ExecutionContext exec,
         final ExecutionMonitor groupExec = exec.createSubProgress(0.7);
         final DataTableSpec spec = dataTable.getDataTableSpec();
         final long rowCount = dataTable.size();
-        long rowCounter = 0;
-        for (final DataRow row : dataTable) {
-            groupExec.checkCanceled();
-            groupExec.setProgress(rowCounter++ / (double) rowCount,
-                    "Analyzing row " + rowCounter + " of " + rowCount);
-            final DataCell[] currentGroup = new DataCell[groupColIdx.length];
-            //fetch the current group column values
-            for (int i = 0, length = groupColIdx.length; i < length; i++) {
-                currentGroup[i] = row.getCell(groupColIdx[i]);
+        final int threadCount = getThreadCount(rowCount);
+        if (threadCount > 1) {
+            groupConcurrently(groupExec, dataTable, groupColIdx, threadCount);
+        } else {
+            long rowCounter = 0;
+            for (final DataRow row : dataTable) {
+                groupExec.checkCanceled();
+                groupExec.setProgress(rowCounter++ / (double) rowCount,
+                        "Analyzing row " + rowCounter + " of " + rowCount);
+                addRow(m_vals, m_rowKeys, spec, groupColIdx, row);
             }
-            final GroupKey groupKey = new GroupKey(currentGroup);
-            addRowKey(groupKey, row.getKey());
-            addRow(spec, groupKey, row);
         }
         return createResultTable(exec.createSubExecutionContext(0.3), resultSpec);
     }
 
+    /**
+     * @param rowCount the number of rows to group
+     * @return the number of threads that group the rows, 1 if the table is small or if not all operators support
+     * merging
+     */
+    private int getThreadCount(final long rowCount) {
+        final int segmentSize = getSegmentSize();
+        if (rowCount < 2L * segmentSize) {
+            return 1;
+        }
+        for (final ColumnAggregator aggregator : getColAggregators()) {
+            if (!aggregator.clone().getOperator(getGlobalSettings()).supportsMerge()) {
+                return 1;
+            }
+        }
+        final long segmentCount = (rowCount + segmentSize - 1) / segmentSize;
+        return (int)Math.min(segmentCount, KNIMEConstants.GLOBAL_THREAD_POOL.getMaxThreads());
+    }
+
+    /**
+     * Returns the number of consecutive rows aggregated by one task. Only changed in unit tests to group small tables
+     * concurrently.
+     *
+     * @return the segment size, by default {@link #SEGMENT_SIZE}
+     */
+    int getSegmentSize() {
+        return SEGMENT_SIZE;
+    }
+
+    /**
+     * Reads the table once and aggregates segments of consecutive rows concurrently. The segments are merged in the
+     * order of their rows, hence groups and order dependent results (e.g. first value or lists) are the same as if
+     * the rows were aggregated one after the other. Floating point results such as sums, means or variances are
+     * added up in a different order though and may differ in the last digits.
+     */
+    private void groupConcurrently(final ExecutionMonitor exec, final BufferedDataTable dataTable,
+        final int[] groupColIdx, final int threadCount) throws CanceledExecutionException {
+        final ThreadPool pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(threadCount);
+        final DataTableSpec spec = dataTable.getDataTableSpec();
+        final int segmentSize = getSegmentSize();
+        final long rowCount = dataTable.size();
+        final Queue<Future<Segment>> pendingSegments = new ArrayDeque<>();
+        long rowCounter = 0;
+        try {
+            List<DataRow> rows = new ArrayList<>(segmentSize);
+            for (final DataRow row : dataTable) {
+                exec.checkCanceled();
+                exec.setProgress(rowCounter++ / (double) rowCount,
+                        "Analyzing row " + rowCounter + " of " + rowCount);
+                rows.add(row);
+                if (rows.size() == segmentSize) {
+                    pendingSegments.add(pool.enqueue(new Segment(rows, spec, groupColIdx)));
+                    rows = new ArrayList<>(segmentSize);
+                    while (pendingSegments.size() > SEGMENTS_AHEAD_PER_THREAD * threadCount) {
+                        mergeSegment(waitFor(pendingSegments.poll(), exec));
+                    }
+                }
+            }
+            if (!rows.isEmpty()) {
+                pendingSegments.add(pool.enqueue(new Segment(rows, spec, groupColIdx)));
+            }
+            while (!pendingSegments.isEmpty()) {
+                mergeSegment(waitFor(pendingSegments.poll(), exec));
+            }
+        } finally {
+            for (final Future<Segment> segment : pendingSegments) {
+                segment.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Waits for the segment; the calling thread doesn't count towards the limit of the global thread pool meanwhile,
+     * so that the segments are grouped even if all threads of the pool are busy.
+     */
+    private static Segment waitFor(final Future<Segment> segment, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        try {
+            return ThreadUtils.waitFor(segment, exec);
+        } catch (ExecutionException ee) {
+            throw new IllegalStateException("Grouping rows failed: " + ee.getCause().getMessage(), ee.getCause());
+        }
+    }
+
+    /** Merges the groups of the segment into the groups of the preceding rows. */
+    private void mergeSegment(final Segment segment) {
+        for (final Entry<GroupKey, ColumnAggregator[]> entry : segment.m_vals.entrySet()) {
+            final ColumnAggregator[] aggregators = m_vals.get(entry.getKey());
+            if (aggregators == null) {
+                m_vals.put(entry.getKey(), entry.getValue());
+            } else {
+                final ColumnAggregator[] segmentAggregators = entry.getValue();
+                for (int i = 0, length = aggregators.length; i < length; i++) {
+                    aggregators[i].getOperator(getGlobalSettings())
+                        .merge(segmentAggregators[i].getOperator(getGlobalSettings()));
+                }
+            }
+        }
+        for (final Entry<GroupKey, Set<RowKey>> entry : segment.m_rowKeys.entrySet()) {
+            final Set<RowKey> keySet = m_rowKeys.get(entry.getKey());
+            if (keySet == null) {
+                m_rowKeys.put(entry.getKey(), entry.getValue());
+            } else {
+                keySet.addAll(entry.getValue());
+            }
+        }
+    }
+
     private BufferedDataTable createResultTable(final ExecutionContext exec,
             final DataTableSpec resultSpec) throws CanceledExecutionException {
         final BufferedDataContainer dc = exec.createDataContainer(resultSpec);
@@ -218,16 +342,24 @@ private BufferedDataTable createResultTable(final ExecutionContext exec,
         return dc.getTable();
     }
 
-    private void addRow(final DataTableSpec spec, final GroupKey groupKey,
-            final DataRow row) {
-        ColumnAggregator[] aggregators = m_vals.get(groupKey);
+    private void addRow(final Map<GroupKey, ColumnAggregator[]> vals,
+            final Map<GroupKey, Set<RowKey>> rowKeys, final DataTableSpec spec,
+            final int[] groupColIdx, final DataRow row) {
+        final DataCell[] currentGroup = new DataCell[groupColIdx.length];
+        //fetch the current group column values
+        for (int i = 0, length = groupColIdx.length; i < length; i++) {
+            currentGroup[i] = row.getCell(groupColIdx[i]);
+        }
+        final GroupKey groupKey = new GroupKey(currentGroup);
+        addRowKey(rowKeys, groupKey, row.getKey());
+        ColumnAggregator[] aggregators = vals.get(groupKey);
         if (aggregators == null) {
             final ColumnAggregator[] origAggregators = getColAggregators();
             aggregators = new ColumnAggregator[origAggregators.length];
             for (int i = 0, length = origAggregators.length; i < length; i++) {
                 aggregators[i] = origAggregators[i].clone();
             }
-            m_vals.put(groupKey, aggregators);
+            vals.put(groupKey, aggregators);
         }
         for (final ColumnAggregator aggregator : aggregators) {
             final int colIdx =
@@ -236,14 +368,44 @@ private void addRow(final DataTableSpec spec, final GroupKey groupKey,
         }
     }
 
-    private void addRowKey(final GroupKey groupKey, final RowKey key) {
+    private void addRowKey(final Map<GroupKey, Set<RowKey>> rowKeys,
+            final GroupKey groupKey, final RowKey key) {
         if (isEnableHilite()) {
-            Set<RowKey> keySet = m_rowKeys.get(groupKey);
+            Set<RowKey> keySet = rowKeys.get(groupKey);
             if (keySet == null) {
                 keySet = new HashSet<>();
-                m_rowKeys.put(groupKey, keySet);
+                rowKeys.put(groupKey, keySet);
             }
             keySet.add(key);
         }
     }
+
+    /** The groups of a segment of consecutive rows, aggregated by a task of the thread pool. */
+    private final class Segment implements Callable<Segment> {
+
+        private final Map<GroupKey, ColumnAggregator[]> m_vals = new LinkedHashMap<>();
+
+        private final Map<GroupKey, Set<RowKey>> m_rowKeys = new HashMap<>();
+
+        private List<DataRow> m_rows;
+
+        private final DataTableSpec m_spec;
+
+        private final int[] m_groupColIdx;
+
+        Segment(final List<DataRow> rows, final DataTableSpec spec, final int[] groupColIdx) {
+            m_rows = rows;
+            m_spec = spec;
+            m_groupColIdx = groupColIdx;
+        }
+
+        @Override
+        public Segment call() {
+            for (final DataRow row : m_rows) {
+                addRow(m_vals, m_rowKeys, m_spec, m_groupColIdx, row);
+            }
+            m_rows = null;
+            return this;
+        }
+    }
 }
@@ -190,37 +190,94 @@ private void addRow(final DataRow row) {
             cells[c] = right.getCell(i);
             c++;
         }
+        RowKey rightKey = OutputRow.getRightKey(row);
         RowKey joinedKey =
-                m_rowKeyFactory.createJoinedKey(left.getKey(),
-                        OutputRow.getRightKey(row));
-        DataRow joinedRow = new DefaultRow(joinedKey, cells);
+                m_rowKeyFactory.createJoinedKey(left.getKey(), rightKey);
+        addJoinedRow(new DefaultRow(joinedKey, cells), left.getKey(),
+                rightKey);
+    }
+
+    /**
+     * Creates the joined row of a row of the left and a row of the right
+     * input table. Other than {@link #addJoinedRow(DataRow, RowKey, RowKey)}
+     * this method can be called concurrently.
+     *
+     * @param left A row of the left input table that holds the cells of the
+     *            left survivors only or null for a right outer join.
+     * @param right A row of the right input table or null for a left outer
+     *            join.
+     * @return The joined row.
+     */
+    DataRow createJoinedRow(final DataRow left, final DataRow right) {
+        DataCell[] cells =
+                new DataCell[m_leftSurvivors.length + m_rightSurvivors.length];
+        int c = 0;
+        for (int i = 0; i < m_leftSurvivors.length; i++) {
+            cells[c] = null != left ? left.getCell(i)
+                    : DataType.getMissingCell();
+            c++;
+        }
+        for (int i = 0; i < m_rightSurvivors.length; i++) {
+            cells[c] = null != right ? right.getCell(m_rightSurvivors[i])
+                    : DataType.getMissingCell();
+            c++;
+        }
+        RowKey joinedKey = m_rowKeyFactory.createJoinedKey(
+                null != left ? left.getKey() : null,
+                null != right ? right.getKey() : null);
+        return new DefaultRow(joinedKey, cells);
+    }
 
+    /**
+     * Adds a joined row to the container.
+     *
+     * @param joinedRow The joined row.
+     * @param leftKey The row ID of the left row or null for a right outer
+     *            join.
+     * @param rightKey The row ID of the right row or null for a left outer
+     *            join.
+     */
+    void addJoinedRow(final DataRow joinedRow, final RowKey leftKey,
+            final RowKey rightKey) {
         m_dc.addRowToTable(joinedRow);
         if (m_enableHiLite) {
             // Remember RowKeys for HiLiting
-            if (null != left.getKey()) {
-                Set<RowKey> keySet = m_leftRowKeyMap.get(left.getKey());
+            RowKey joinedKey = joinedRow.getKey();
+            if (null != leftKey) {
+                Set<RowKey> keySet = m_leftRowKeyMap.get(leftKey);
                 if (null == keySet) {
                     keySet = new HashSet<RowKey>();
-                    m_leftRowKeyMap.put(left.getKey(), keySet);
+                    m_leftRowKeyMap.put(leftKey, keySet);
                 }
                 keySet.add(joinedKey);
             }
-            if (null != right.getKey()) {
-                Set<RowKey> keySet = m_rightRowKeyMap.get(right.getKey());
+            if (null != rightKey) {
+                Set<RowKey> keySet = m_rightRowKeyMap.get(rightKey);
                 if (null == keySet) {
                     keySet = new HashSet<RowKey>();
-                    m_rightRowKeyMap.put(right.getKey(), keySet);
+                    m_rightRowKeyMap.put(rightKey, keySet);
                 }
                 keySet.add(joinedKey);
             }
         }
     }
 
+    /**
+     * Creates the underlying container unless already done.
+     *
+     * @param exec The execution context
+     */
+    void open(final ExecutionContext exec) {
+        if (null == m_dc) {
+            m_dc = exec.createDataContainer(m_spec);
+        }
+    }
+
     /**
      * Close container.
      */
     public void close() {
+        m_leftIter.close();
         m_dc.close();
     }
 
@@ -285,9 +342,7 @@ public Iterator<DataCell> iterator() {
      */
     void addTableAndFilterDuplicates(final SortedTable table,
             final ExecutionContext exec) {
-        if (null == m_dc) {
-            m_dc = exec.createDataContainer(m_spec);
-        }
+        open(exec);
         if (null == table) {
             return;
         }
@@ -69,6 +69,14 @@ public JoinTuple(final DataCell[] cells) {
         m_cells = cells;
     }
 
+    /**
+     * @param index the index of the cell
+     * @return the cell at the given index
+     */
+    DataCell getCell(final int index) {
+        return m_cells[index];
+    }
+
     /**
      * {@inheritDoc}
      */
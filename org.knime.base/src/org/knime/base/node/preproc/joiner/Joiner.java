@@ -55,15 +55,20 @@
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.knime.base.data.sort.SortedTable;
 import org.knime.base.node.preproc.joiner.Joiner2Settings.CompositionMode;
 import org.knime.base.node.preproc.joiner.Joiner2Settings.DuplicateHandling;
+import org.knime.base.node.preproc.joiner.Joiner2Settings.JoinAlgorithm;
 import org.knime.base.node.preproc.joiner.Joiner2Settings.JoinMode;
+import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
 import org.knime.core.data.DataColumnSpecCreator;
 import org.knime.core.data.DataRow;
@@ -72,8 +77,10 @@
 import org.knime.core.data.DoubleValue;
 import org.knime.core.data.RowKey;
 import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.DoubleCell;
 import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
 import org.knime.core.data.def.StringCell;
 import org.knime.core.data.util.memory.MemoryAlertSystem;
 import org.knime.core.data.util.memory.MemoryAlertSystem.MemoryActionIndicator;
@@ -81,8 +88,11 @@
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.util.ConvenienceMethods;
+import org.knime.core.util.ThreadPool;
+import org.knime.core.util.ThreadUtils;
 import org.knime.core.util.UniqueNameGenerator;
 
 /**
@@ -95,6 +105,9 @@ public final class Joiner {
     private static final NodeLogger LOGGER = NodeLogger
     .getLogger(Joiner.class);
 
+    /** The number of rows of the right table that are probed in one task. */
+    private static final int BATCH_SIZE = 1024;
+
     private final DataTableSpec m_leftDataTableSpec;
     private final DataTableSpec m_rightDataTableSpec;
 
@@ -118,6 +131,22 @@ public final class Joiner {
      */
     private Set<Integer> m_globalLeftOuterJoins;
 
+    /**
+     * True when the join tuples are a single integer or long column, the
+     * partitions are then indexed by primitive long keys.
+     */
+    private boolean m_longKeys;
+
+    /**
+     * Not null when the row order need not be retained. The joined rows are
+     * then added to this container while the partitions are joined, which
+     * makes sorting and merging the joined partitions obsolete.
+     */
+    private DataHiliteOutputContainer m_directOutput;
+
+    /** The indices of the left survivors, used with m_directOutput. */
+    private int[] m_leftSurvivorIndices;
+
     private InputRow.Settings m_inputDataRowSettings;
     private OutputRow.Settings m_outputDataRowSettings;
 
@@ -422,6 +451,22 @@ public List<String> getRightIncluded(final DataTableSpec dataTableSpec)
         }
         return rightCols;
     }
+    /**
+     * @return The names of the columns of the left table that are part of
+     * the output, available after {@link #getOutputSpec()} was called.
+     */
+    List<String> getLeftSurvivors() {
+        return m_leftSurvivors;
+    }
+
+    /**
+     * @return The names of the columns of the right table that are part of
+     * the output, available after {@link #getOutputSpec()} was called.
+     */
+    List<String> getRightSurvivors() {
+        return m_rightSurvivors;
+    }
+
     /**
      * Get warnings which occurred when processing the method
      * <code>getOutputSpec</code>.
@@ -515,7 +560,9 @@ public BufferedDataTable computeJoinTable(
 
         m_inputDataRowSettings = createInputDataRowSettings(leftTable,
                 rightTable);
+        m_longKeys = useLongKeys(leftTable, rightTable);
         int[] rightSurvivors = getIndicesOf(rightTable, m_rightSurvivors);
+        int[] leftSurvivors = getIndicesOf(leftTable, m_leftSurvivors);
         m_outputDataRowSettings = new OutputRow.Settings(
                 rightTable.getDataTableSpec(),
                 rightSurvivors);
@@ -543,6 +590,14 @@ public BufferedDataTable computeJoinTable(
         }
 
 
+        // In the match any case a pair of rows can match more than once, the
+        // duplicates are filtered when the sorted partitions are merged.
+        if (!m_settings.getRetainRowOrder() && !m_matchAny) {
+            return computeUnorderedJoinTable(leftTable, rightTable,
+                joinedTableSpec, leftSurvivors, rightSurvivors, pendingParts,
+                exec);
+        }
+
         JoinContainer joinCont = new JoinContainer(
                 m_outputDataRowSettings);
 
@@ -594,13 +649,12 @@ public BufferedDataTable computeJoinTable(
 
         exec.setMessage("Merge Joined Partitions");
         // Build sorted table
-        int[] leftSurvivors = getIndicesOf(leftTable, m_leftSurvivors);
-
         DataHiliteOutputContainer oc =
             new DataHiliteOutputContainer(joinedTableSpec,
                     m_settings.getEnableHiLite(), leftTable,
                     leftSurvivors, rightSurvivors,
-                    createRowKeyFactory(leftTable, rightTable));
+                    createRowKeyFactory(leftTable.getDataTableSpec(),
+                        rightTable.getDataTableSpec()));
         oc.addTableAndFilterDuplicates(matches,
                 exec.createSubExecutionContext(
                         progressIntervals[2] * numMatches / totalNumJoins));
@@ -618,6 +672,45 @@ public BufferedDataTable computeJoinTable(
         return oc.getTable();
     }
 
+    /**
+     * Joins the tables without retaining the row order. The joined rows are
+     * added to the output in the order they are found, the partitions
+     * therefore need not be sorted and merged.
+     */
+    private BufferedDataTable computeUnorderedJoinTable(
+            final BufferedDataTable leftTable,
+            final BufferedDataTable rightTable,
+            final DataTableSpec joinedTableSpec, final int[] leftSurvivors,
+            final int[] rightSurvivors, final Set<Integer> pendingParts,
+            final ExecutionContext exec) throws CanceledExecutionException {
+        DataHiliteOutputContainer oc =
+            new DataHiliteOutputContainer(joinedTableSpec,
+                    m_settings.getEnableHiLite(), leftTable,
+                    leftSurvivors, rightSurvivors,
+                    createRowKeyFactory(leftTable.getDataTableSpec(),
+                        rightTable.getDataTableSpec()));
+        oc.open(exec);
+        m_directOutput = oc;
+        m_leftSurvivorIndices = leftSurvivors;
+        try {
+            exec.setProgress(0.0);
+            while (pendingParts.size() > 0) {
+                Collection<Integer> processedParts = performJoin(
+                        leftTable, rightTable,
+                        null, pendingParts, exec, 1.0);
+                pendingParts.removeAll(processedParts);
+            }
+        } finally {
+            m_directOutput = null;
+        }
+        oc.close();
+
+        m_leftRowKeyMap = oc.getLeftRowKeyMap();
+        m_rightRowKeyMap = oc.getRightRowKeyMap();
+
+        return oc.getTable();
+    }
+
     /** This method start with reading the partitions of the left table defined
      * in currParts. If memory is low, partitions will be skipped or the
      * number of partitions will be raised which leads to smaller partitions.
@@ -626,7 +719,8 @@ public BufferedDataTable computeJoinTable(
      *
      * @param leftTable The inner input table.
      * @param rightTable The right input table.
-     * @param outputContainer The container used for storing matches.
+     * @param outputContainer The container used for storing matches, null
+     * when the rows are added to the final output directly.
      * @param pendingParts The parts that are not processed yet.
      * @param exec The execution context.
      * @param progressDiff The difference in the progress monitor.
@@ -645,18 +739,13 @@ private Collection<Integer> performJoin(
         double numRows = leftTable.size() + rightTable.size();
         double inc = (progressDiff - progress) / numRows;
 
-        Collection<Integer> currParts = new ArrayList<Integer>();
+        Collection<Integer> currParts = new LinkedHashSet<Integer>();
         currParts.addAll(pendingParts);
         setMessage("Read", exec, pendingParts, currParts);
 
         // Partition left table
-        Map <Integer, Map<JoinTuple, Set<Integer>>> leftTableHashed =
-            new HashMap<Integer, Map<JoinTuple, Set<Integer>>>();
-        // This is only used when m_leftRetain is true and m_matchAny is false.
-        // It holds the row indices of the left table that do not match to
-        // any row of the right table
-        Map <Integer, Set<Integer>> leftOuterJoins =
-            new HashMap<Integer, Set<Integer>>();
+        Map<Integer, PartitionIndex> leftTableHashed =
+            new HashMap<Integer, PartitionIndex>();
 
         MemoryActionIndicator memIndicator = MemoryAlertSystem.getInstance().newIndicator();
 
@@ -679,8 +768,8 @@ private Collection<Integer> performJoin(
                 for (JoinTuple tuple : inputDataRow.getJoinTuples()) {
                     int partition = tuple.hashCode() & m_bitMask;
                     if (currParts.contains(partition)) {
-                        addRow(leftTableHashed, leftOuterJoins,
-                                partition, tuple, inputDataRow);
+                        addRow(leftTableHashed, partition, tuple, row,
+                                counter);
                         rowsAdded++;
                     }
                 }
@@ -708,9 +797,6 @@ private Collection<Integer> performJoin(
                     // remove collected data of the no longer processed
                     for (int i : removeParts) {
                         leftTableHashed.remove(i);
-                        if (m_retainLeft && !m_matchAny) {
-                            leftOuterJoins.remove(i);
-                        }
                     }
                     currParts.removeAll(removeParts);
                     LOGGER.debug("Skip partitions while "
@@ -743,8 +829,7 @@ private Collection<Integer> performJoin(
                         currParts.clear();
                         currParts.add(currPart);
                         // update chunk size
-                        retainPartitions(leftTableHashed, leftOuterJoins,
-                                currPart);
+                        retainPartitions(leftTableHashed, currPart);
                         // update increment for reporting progress
                         numRows += leftTable.size() + rightTable.size();
                         inc = (progressDiff - progress) / numRows;
@@ -771,8 +856,7 @@ private Collection<Integer> performJoin(
 
         setMessage("Join", exec, pendingParts, currParts);
         // Join with outer table
-        joinInMemory(leftTableHashed, leftOuterJoins,
-                currParts, rightTable,
+        joinInMemory(leftTableHashed, currParts, rightTable,
                 outputContainer,
                 exec, inc);
 
@@ -780,14 +864,13 @@ private Collection<Integer> performJoin(
         // Log which parts were successfully joined
         for (int part : currParts) {
             int numTuples = leftTableHashed.get(part) != null
-            ? leftTableHashed.get(part).values().size() : 0;
+            ? leftTableHashed.get(part).getNumKeys() : 0;
             LOGGER.debug("Joined " + part + " with "
                     + numTuples + " tuples.");
         }
 
         // Garbage collector has problems without this explicit clearance.
         leftTableHashed.clear();
-        leftOuterJoins.clear();
 
         // return successfully joined parts
         return currParts;
@@ -811,107 +894,157 @@ private void setMessage(final String activity,
     }
 
     /**
-     * Called when the number of partitions is doubled. The innerHash is
-     * traversed and only those entries that are in the given part are
-     * retained. The innerIndexMap is build up so that it contains only
-     * the entries that are in the given part.
+     * Called when the number of partitions is doubled. The index of the given
+     * part is replaced by an index that contains only the entries that are
+     * still in the given part.
      */
     private void retainPartitions(
-            final Map<Integer, Map<JoinTuple, Set<Integer>>> innerHash,
-            final Map<Integer, Set<Integer>> innerIndexMap,
+            final Map<Integer, PartitionIndex> innerHash,
             final int part) {
-        innerIndexMap.clear();
-
-        Map<JoinTuple, Set<Integer>> thisInnerHash = innerHash.get(part);
-        for (Iterator<JoinTuple> iter = thisInnerHash.keySet().iterator();
-        iter.hasNext();) {
-            JoinTuple tuple = iter.next();
-            int index = tuple.hashCode() & m_bitMask;
-            if (index != part) {
-                iter.remove();
-            } else if (m_retainLeft && !m_matchAny) {
-                Set<Integer> thisInnerIndexMap = innerIndexMap.get(index);
-                if (null == thisInnerIndexMap) {
-                    thisInnerIndexMap = new HashSet<Integer>();
-                    innerIndexMap.put(index, thisInnerIndexMap);
-                }
-                for (Integer rowIndex : thisInnerHash.get(tuple)) {
-                    thisInnerIndexMap.add(rowIndex);
-                }
-            }
-        }
+        PartitionIndex thisInnerHash = innerHash.get(part);
+        innerHash.put(part, thisInnerHash.retain(part, m_bitMask));
     }
 
     /**
-     * Add a row to innerHash and innerIndexMap.
+     * Add a row to the index of its partition.
      * @param partition The index of the partition.
      * @param joinTuple The join tuples of the row.
      * @param row The row to be added.
+     * @param rowIndex The index of the row in the left table.
      */
     private void addRow(
-            final Map <Integer, Map<JoinTuple, Set<Integer>>> leftTableHashed,
-            final Map <Integer, Set<Integer>> leftOuterJoins,
+            final Map<Integer, PartitionIndex> leftTableHashed,
             final int partition, final JoinTuple joinTuple,
-            final InputRow row) {
-        if (m_retainLeft  && !m_matchAny) {
-            Set<Integer> indices = leftOuterJoins.get(partition);
-            if (null == indices) {
-                indices = new HashSet<Integer>();
-                leftOuterJoins.put(partition, indices);
-            }
-            indices.add(row.getIndex());
-        }
-
-        Map<JoinTuple, Set<Integer>> partTuples =
-            leftTableHashed.get(partition);
+            final DataRow row, final int rowIndex) {
+        PartitionIndex partTuples = leftTableHashed.get(partition);
         if (null == partTuples) {
-            partTuples = new HashMap<JoinTuple, Set<Integer>>();
+            partTuples = PartitionIndex.create(m_longKeys,
+                    null != m_directOutput);
             leftTableHashed.put(partition, partTuples);
         }
-
-
-        Set<Integer> c = partTuples.get(joinTuple);
-        if (null != c) {
-            c.add(row.getIndex());
-        } else {
-            Set<Integer> list = new HashSet<Integer>();
-            list.add(row.getIndex());
-            partTuples.put(joinTuple, list);
+        DataRow survivors = null;
+        if (null != m_directOutput) {
+            // keep the cells of the output only
+            DataCell[] cells = new DataCell[m_leftSurvivorIndices.length];
+            for (int i = 0; i < cells.length; i++) {
+                cells[i] = row.getCell(m_leftSurvivorIndices[i]);
+            }
+            survivors = new DefaultRow(row.getKey(), cells);
         }
-
-
+        partTuples.add(joinTuple, rowIndex, survivors);
     }
 
 
     /**
      * Join given rows in memory and append joined row to the outputCont.
+     * The rows of the right table are read in batches which are probed
+     * concurrently; the results are added in the order of the right table.
      *
      * @param leftTableHashed Stores the rows of the left input table in parts.
-     * @param leftOuterJoins The same number as found in leftTableHashed used
-     * for left outer joins.
      * @param currParts The parts of the outer table that will be joined.
      * @param rightTable The outer table.
-     * @param outputCont The joined rows will be added to this container.
+     * @param outputCont The joined rows will be added to this container, null
+     * if they are added to m_directOutput.
      * @param exec The {@link ExecutionContext}
      * @param incProgress The progress increment.
      * @throws CanceledExecutionException When execution is canceled
      */
     private void joinInMemory(
-            final Map <Integer, Map<JoinTuple, Set<Integer>>> leftTableHashed,
-            final Map <Integer, Set<Integer>> leftOuterJoins,
+            final Map<Integer, PartitionIndex> leftTableHashed,
             final Collection<Integer> currParts,
             final BufferedDataTable rightTable,
             final JoinContainer outputCont,
             final ExecutionContext exec,
             final double incProgress) throws CanceledExecutionException {
         double progress = exec.getProgressMonitor().getProgress();
-        int counter = 0;
-        for (DataRow dataRow : rightTable) {
-            progress += incProgress;
-            exec.getProgressMonitor().setProgress(progress);
-            exec.checkCanceled();
+        Set<Integer> parts = new HashSet<Integer>(currParts);
+        int numThreads = rightTable.size() > 2L * BATCH_SIZE
+            ? KNIMEConstants.GLOBAL_THREAD_POOL.getMaxThreads() : 1;
+        ThreadPool pool = numThreads > 1
+            ? KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(numThreads)
+            : null;
+        List<Future<ProbeBatch>> pending = new ArrayList<Future<ProbeBatch>>();
+        try {
+            int counter = 0;
+            ProbeBatch batch = new ProbeBatch(counter);
+            for (DataRow dataRow : rightTable) {
+                progress += incProgress;
+                exec.getProgressMonitor().setProgress(progress);
+                exec.checkCanceled();
 
-            InputRow rightRow = new InputRow(dataRow, counter,
+                batch.m_rows.add(dataRow);
+                counter++;
+                if (batch.m_rows.size() == BATCH_SIZE) {
+                    if (pool != null) {
+                        pending.add(submit(pool, batch, leftTableHashed,
+                                parts));
+                        if (pending.size() >= 2 * numThreads) {
+                            addBatch(waitFor(pending.remove(0), exec),
+                                    outputCont, exec);
+                        }
+                    } else {
+                        addBatch(probe(batch, leftTableHashed, parts),
+                                outputCont, exec);
+                    }
+                    batch = new ProbeBatch(counter);
+                }
+            }
+            while (!pending.isEmpty()) {
+                addBatch(waitFor(pending.remove(0), exec), outputCont, exec);
+            }
+            addBatch(probe(batch, leftTableHashed, parts), outputCont, exec);
+        } finally {
+            for (Future<ProbeBatch> future : pending) {
+                future.cancel(true);
+            }
+        }
+
+        if (m_retainLeft && !m_matchAny) {
+            for (PartitionIndex index : leftTableHashed.values()) {
+                for (int pos = 0; pos < index.size(); pos++) {
+                    if (index.isMatched(pos)) {
+                        continue;
+                    }
+                    // add left outer join
+                    if (null != m_directOutput) {
+                        DataRow left = index.getRow(pos);
+                        m_directOutput.addJoinedRow(
+                                m_directOutput.createJoinedRow(left, null),
+                                left.getKey(), null);
+                    } else {
+                        DataRow outRow = OutputRow.createDataRow(
+                                outputCont.getRowCount(),
+                                index.getRowIndex(pos), -1,
+                                m_outputDataRowSettings);
+                        outputCont.addLeftOuter(outRow, exec);
+                    }
+                }
+            }
+        }
+
+    }
+
+    private Future<ProbeBatch> submit(final ThreadPool pool,
+            final ProbeBatch batch,
+            final Map<Integer, PartitionIndex> leftTableHashed,
+            final Set<Integer> currParts) {
+        return pool.enqueue(() -> probe(batch, leftTableHashed, currParts));
+    }
+
+    /**
+     * Looks up the matches of the rows in the batch. Only reads the
+     * partitions and may therefore run concurrently for different batches.
+     */
+    private ProbeBatch probe(final ProbeBatch batch,
+            final Map<Integer, PartitionIndex> leftTableHashed,
+            final Set<Integer> currParts) {
+        int numRows = batch.m_rows.size();
+        batch.m_firstMatch = new int[numRows + 1];
+        batch.m_rightOuter = new boolean[numRows];
+        for (int r = 0; r < numRows; r++) {
+            DataRow dataRow = batch.m_rows.get(r);
+            batch.m_firstMatch[r] = batch.m_matchIndex.size();
+            InputRow rightRow = new InputRow(dataRow, batch.m_firstRow + r,
                     InputRow.Settings.InDataPort.Right,
                     m_inputDataRowSettings);
 
@@ -926,8 +1059,7 @@ private void joinInMemory(
                     continue;
                 }
 
-                Map<JoinTuple, Set<Integer>> leftTuples =
-                    leftTableHashed.get(partition);
+                PartitionIndex leftTuples = leftTableHashed.get(partition);
                 if (null == leftTuples) {
                     // skip and check for outer join when the left table does not have rows that fall
                     // in this partition
@@ -935,62 +1067,134 @@ private void joinInMemory(
                     continue;
                 }
 
-                Set<Integer> localLeftOuterJoins = null;
-                if (m_retainLeft  && !m_matchAny) {
-                    localLeftOuterJoins = leftOuterJoins.get(partition);
-                }
-
-                Set<Integer> leftRows = leftTuples.get(joinTuple);
-                if (null != leftRows) {
+                for (int pos = leftTuples.find(joinTuple); pos >= 0;
+                        pos = leftTuples.getNext(pos)) {
                     matchFoundForRightRow = true;
-                    for (Integer leftRowIndex : leftRows) {
-                        // add inner join
-                        DataRow outRow = OutputRow.createDataRow(
-                                outputCont.getRowCount(),
-                                leftRowIndex, rightRow.getIndex(),
-                                dataRow,
-                                m_outputDataRowSettings);
-                        outputCont.addMatch(outRow, exec);
-                        if (m_retainLeft && !m_matchAny) {
-                            localLeftOuterJoins.remove(leftRowIndex);
-                        }
-                        if (m_retainLeft && m_matchAny) {
-                            m_globalLeftOuterJoins.remove(leftRowIndex);
-                        }
-                    }
+                    batch.addMatch(leftTuples, pos, null == m_directOutput
+                        ? null : m_directOutput.createJoinedRow(
+                                leftTuples.getRow(pos), dataRow));
                 }
             }
 
-
             if (m_retainRight && !matchFoundForRightRow && !deferMatch) {
-                long outRowIndex = outputCont.getRowCount();
-                // add right outer join
-                DataRow outRow = OutputRow.createDataRow(outRowIndex,
-                        -1, rightRow.getIndex(),
-                        dataRow,
-                        m_outputDataRowSettings);
-                outputCont.addRightOuter(outRow, exec);
+                batch.m_rightOuter[r] = true;
+                if (null != m_directOutput) {
+                    batch.m_joined.add(
+                            m_directOutput.createJoinedRow(null, dataRow));
+                }
             }
-            counter++;
         }
+        batch.m_firstMatch[numRows] = batch.m_matchIndex.size();
+        return batch;
+    }
 
-        if (m_retainLeft && !m_matchAny) {
-            for (int partition : leftOuterJoins.keySet()) {
-                for (Integer row : leftOuterJoins.get(partition)) {
-                    // add left outer join
+    /**
+     * Adds the matches of a probed batch to the output. Must be called by the
+     * thread that created the output.
+     */
+    private void addBatch(final ProbeBatch batch,
+            final JoinContainer outputCont, final ExecutionContext exec) {
+        Iterator<DataRow> joined = batch.m_joined.iterator();
+        for (int r = 0; r < batch.m_rows.size(); r++) {
+            DataRow dataRow = batch.m_rows.get(r);
+            long rightIndex = batch.m_firstRow + r;
+            for (int m = batch.m_firstMatch[r]; m < batch.m_firstMatch[r + 1];
+                    m++) {
+                PartitionIndex leftTuples = batch.m_matchIndex.get(m);
+                int pos = batch.m_matchPos[m];
+                int leftRowIndex = leftTuples.getRowIndex(pos);
+                // add inner join
+                if (null != m_directOutput) {
+                    m_directOutput.addJoinedRow(joined.next(),
+                            leftTuples.getRow(pos).getKey(),
+                            dataRow.getKey());
+                } else {
                     DataRow outRow = OutputRow.createDataRow(
                             outputCont.getRowCount(),
-                            row, -1,
+                            leftRowIndex, rightIndex,
+                            dataRow,
                             m_outputDataRowSettings);
-                    outputCont.addLeftOuter(outRow, exec);
+                    outputCont.addMatch(outRow, exec);
+                }
+                if (m_retainLeft && !m_matchAny) {
+                    leftTuples.setMatched(pos);
+                }
+                if (m_retainLeft && m_matchAny) {
+                    m_globalLeftOuterJoins.remove(leftRowIndex);
+                }
+            }
+
+            if (batch.m_rightOuter[r]) {
+                // add right outer join
+                if (null != m_directOutput) {
+                    m_directOutput.addJoinedRow(joined.next(), null,
+                            dataRow.getKey());
+                } else {
+                    long outRowIndex = outputCont.getRowCount();
+                    DataRow outRow = OutputRow.createDataRow(outRowIndex,
+                            -1, rightIndex,
+                            dataRow,
+                            m_outputDataRowSettings);
+                    outputCont.addRightOuter(outRow, exec);
                 }
             }
         }
+    }
 
+    private static ProbeBatch waitFor(final Future<ProbeBatch> future,
+            final ExecutionContext exec) throws CanceledExecutionException {
+        try {
+            return ThreadUtils.waitFor(future, exec);
+        } catch (ExecutionException ee) {
+            final Throwable cause = ee.getCause();
+            throw new IllegalStateException("Unable to join rows: "
+                    + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * A batch of consecutive rows of the right table and the matches found
+     * for them.
+     */
+    private static final class ProbeBatch {
+        private final int m_firstRow;
+
+        private final List<DataRow> m_rows =
+            new ArrayList<DataRow>(BATCH_SIZE);
+
+        /** Offsets into the matches, one per row plus the end offset. */
+        private int[] m_firstMatch;
+
+        private final List<PartitionIndex> m_matchIndex =
+            new ArrayList<PartitionIndex>();
+
+        private int[] m_matchPos = new int[BATCH_SIZE];
+
+        private boolean[] m_rightOuter;
+
+        /** The joined rows when they are added to the output directly. */
+        private final List<DataRow> m_joined = new ArrayList<DataRow>();
+
+        ProbeBatch(final int firstRow) {
+            m_firstRow = firstRow;
+        }
+
+        private void addMatch(final PartitionIndex index, final int pos,
+                final DataRow joined) {
+            int m = m_matchIndex.size();
+            if (m == m_matchPos.length) {
+                m_matchPos = Arrays.copyOf(m_matchPos, 2 * m);
+            }
+            m_matchIndex.add(index);
+            m_matchPos[m] = pos;
+            if (null != joined) {
+                m_joined.add(joined);
+            }
+        }
     }
 
     private List<Integer> getLeftJoinIndices(
-            final BufferedDataTable leftTable) {
+            final DataTableSpec leftTable) {
         // Create list of indices for the joining columns (Element of the list
         // is -1 if RowKey should be joined).
         int numJoinAttributes = m_settings.getLeftJoinColumns().length;
@@ -999,15 +1203,14 @@ private List<Integer> getLeftJoinIndices(
         for (int i = 0; i < numJoinAttributes; i++) {
             String joinAttribute = m_settings.getLeftJoinColumns()[i];
             leftTableJoinIndices.add(
-                    leftTable.getDataTableSpec().findColumnIndex(
-                            joinAttribute));
+                    leftTable.findColumnIndex(joinAttribute));
         }
         return leftTableJoinIndices;
     }
 
 
     private List<Integer> getRightJoinIndices(
-            final BufferedDataTable rightTable) {
+            final DataTableSpec rightTable) {
         // Create list of indices for the joining columns (Element of the list
         // is -1 if RowKey should be joined).
         int numJoinAttributes = m_settings.getLeftJoinColumns().length;
@@ -1015,15 +1218,20 @@ private List<Integer> getRightJoinIndices(
             new ArrayList<Integer>(numJoinAttributes);
         for (int i = 0; i < numJoinAttributes; i++) {
             String joinAttribute = m_settings.getRightJoinColumns()[i];
-            rightTableJoinIndices.add(rightTable.getDataTableSpec()
-                    .findColumnIndex(joinAttribute));
+            rightTableJoinIndices.add(
+                    rightTable.findColumnIndex(joinAttribute));
         }
         return rightTableJoinIndices;
     }
 
-    private JoinedRowKeyFactory createRowKeyFactory(
-            final BufferedDataTable leftTable,
-            final BufferedDataTable rightTable) {
+    /**
+     * @param leftTable The spec of the left input table.
+     * @param rightTable The spec of the right input table.
+     * @return The factory for the row ids of the joined rows.
+     */
+    JoinedRowKeyFactory createRowKeyFactory(
+            final DataTableSpec leftTable,
+            final DataTableSpec rightTable) {
 
 
         if (useSingleRowKeyFactory(leftTable, rightTable)) {
@@ -1039,8 +1247,8 @@ private JoinedRowKeyFactory createRowKeyFactory(
      * Gives true when the SingleRowKeyFactory should be used.
      */
     private boolean useSingleRowKeyFactory(
-           final BufferedDataTable leftTable,
-           final BufferedDataTable rightTable) {
+           final DataTableSpec leftTable,
+           final DataTableSpec rightTable) {
         List<Integer> leftTableJoinIndices = getLeftJoinIndices(leftTable);
         List<Integer> rightTableJoinIndices = getRightJoinIndices(rightTable);
 
@@ -1060,11 +1268,38 @@ private boolean useSingleRowKeyFactory(
                 && m_settings.useEnhancedRowIdHandling());
     }
 
+    /**
+     * Gives true when the partitions can be indexed by primitive long keys,
+     * that is when a single pair of integer or long columns is joined.
+     */
+    private boolean useLongKeys(final BufferedDataTable leftTable,
+            final BufferedDataTable rightTable) {
+        if (m_matchAny || m_settings.getLeftJoinColumns().length != 1) {
+            return false;
+        }
+        int leftIndex =
+            getLeftJoinIndices(leftTable.getDataTableSpec()).get(0);
+        int rightIndex =
+            getRightJoinIndices(rightTable.getDataTableSpec()).get(0);
+        if (leftIndex < 0 || rightIndex < 0) {
+            return false;
+        }
+        DataType leftType = leftTable.getDataTableSpec()
+            .getColumnSpec(leftIndex).getType();
+        DataType rightType = rightTable.getDataTableSpec()
+            .getColumnSpec(rightIndex).getType();
+        // cells of different types never match, see DataCell#equals
+        return leftType.equals(rightType) && (leftType.equals(IntCell.TYPE)
+            || leftType.equals(LongCell.TYPE));
+    }
+
     private InputRow.Settings createInputDataRowSettings(
             final BufferedDataTable leftTable,
             final BufferedDataTable rightTable) {
-        List<Integer> leftTableJoinIndices = getLeftJoinIndices(leftTable);
-        List<Integer> rightTableJoinIndices = getRightJoinIndices(rightTable);
+        List<Integer> leftTableJoinIndices =
+            getLeftJoinIndices(leftTable.getDataTableSpec());
+        List<Integer> rightTableJoinIndices =
+            getRightJoinIndices(rightTable.getDataTableSpec());
 
 
 
@@ -1125,6 +1360,16 @@ public static  void validateSettings(final Joiner2Settings s)
             throw new InvalidSettingsException(
             "No suffix for duplicate columns provided");
         }
+        if (s.getJoinAlgorithm() == null) {
+            throw new InvalidSettingsException("No join algorithm selected");
+        }
+        if (s.getJoinAlgorithm().equals(JoinAlgorithm.SortMergeJoin)
+            && s.getCompositionMode().equals(CompositionMode.MatchAny)
+            && s.getLeftJoinColumns().length > 1) {
+            throw new InvalidSettingsException(
+                "The sort-merge join supports \"Match all of the following\" "
+                + "only");
+        }
         if (s.getMaxOpenFiles() < 3) {
             throw new InvalidSettingsException(
             "Maximum number of open files must be at least 3.");
@@ -54,8 +54,11 @@
 import java.util.HashMap;
 import java.util.Set;
 
+import org.knime.base.node.preproc.joiner.Joiner2Settings.JoinAlgorithm;
+import org.knime.base.node.preproc.joiner.SortMergeJoiner.UnsortedInputException;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.RowKey;
+import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
@@ -65,10 +68,20 @@
 import org.knime.core.node.NodeSettings;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.port.PortObjectSpec;
 import org.knime.core.node.property.hilite.DefaultHiLiteMapper;
 import org.knime.core.node.property.hilite.HiLiteHandler;
 import org.knime.core.node.property.hilite.HiLiteMapper;
 import org.knime.core.node.property.hilite.HiLiteTranslator;
+import org.knime.core.node.streamable.BufferedDataTableRowOutput;
+import org.knime.core.node.streamable.DataTableRowInput;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.StreamableOperator;
 
 /**
  * This is the model of the joiner node. It delegates the dirty work to the
@@ -126,6 +139,13 @@ protected DataTableSpec[] configure(final DataTableSpec[] inSpecs)
     @Override
     protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
             final ExecutionContext exec) throws Exception {
+        if (JoinAlgorithm.SortMergeJoin.equals(
+                m_settings.getJoinAlgorithm())) {
+            BufferedDataTable joinedTable = executeSortMergeJoin(inData, exec);
+            if (null != joinedTable) {
+                return new BufferedDataTable[]{joinedTable};
+            }
+        }
         Joiner joiner =
                 new Joiner(inData[0].getDataTableSpec(), inData[1]
                         .getDataTableSpec(), m_settings);
@@ -148,6 +168,88 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
         return joinedTable;
     }
 
+    /**
+     * Joins the tables with the sort-merge join.
+     *
+     * @return the joined table or null if the inputs are not sorted
+     */
+    private BufferedDataTable executeSortMergeJoin(
+            final BufferedDataTable[] inData, final ExecutionContext exec)
+            throws Exception {
+        SortMergeJoiner joiner = new SortMergeJoiner(
+                inData[0].getDataTableSpec(), inData[1].getDataTableSpec(),
+                m_settings, m_settings.getEnableHiLite());
+        BufferedDataContainer cont =
+            exec.createDataContainer(joiner.getOutputSpec());
+        BufferedDataTableRowOutput output =
+            new BufferedDataTableRowOutput(cont);
+        try {
+            joiner.join(new DataTableRowInput(inData[0]),
+                new DataTableRowInput(inData[1]), output, exec,
+                inData[0].size());
+        } catch (UnsortedInputException e) {
+            cont.close();
+            exec.clearTable(cont.getTable());
+            exec.setProgress(0.0);
+            setWarningMessage(e.getMessage() + " Used the hash join "
+                + "instead.");
+            return null;
+        }
+        output.close();
+        m_leftRowKeyMap = joiner.getLeftRowKeyMap();
+        m_rightRowKeyMap = joiner.getRightRowKeyMap();
+        m_leftMapper = new DefaultHiLiteMapper(m_leftRowKeyMap);
+        m_rightMapper = new DefaultHiLiteMapper(m_rightRowKeyMap);
+        m_leftTranslator.setMapper(m_leftMapper);
+        m_rightTranslator.setMapper(m_rightMapper);
+        return output.getDataTable();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputPortRole[] getInputPortRoles() {
+        if (JoinAlgorithm.SortMergeJoin.equals(
+                m_settings.getJoinAlgorithm())) {
+            // both inputs are read once, in the order of the join key
+            return new InputPortRole[]{
+                InputPortRole.NONDISTRIBUTED_STREAMABLE,
+                InputPortRole.NONDISTRIBUTED_STREAMABLE};
+        }
+        return super.getInputPortRoles();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StreamableOperator createStreamableOperator(
+            final PartitionInfo partitionInfo,
+            final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        if (!JoinAlgorithm.SortMergeJoin.equals(
+                m_settings.getJoinAlgorithm())) {
+            return super.createStreamableOperator(partitionInfo, inSpecs);
+        }
+        final SortMergeJoiner joiner = new SortMergeJoiner(
+                (DataTableSpec)inSpecs[0], (DataTableSpec)inSpecs[1],
+                m_settings, false);
+        return new StreamableOperator() {
+            @Override
+            public void runFinal(final PortInput[] inputs,
+                    final PortOutput[] outputs, final ExecutionContext exec)
+                    throws Exception {
+                RowInput left = (RowInput)inputs[0];
+                RowInput right = (RowInput)inputs[1];
+                RowOutput out = (RowOutput)outputs[0];
+                joiner.join(left, right, out, exec, -1);
+                left.close();
+                right.close();
+                out.close();
+            }
+        };
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -74,6 +74,8 @@ public class Joiner2Settings {
     private static final String MAX_OPEN_FILES = "maxOpenFiles";
     private static final String ROW_KEY_SEPARATOR = "rowKeySeparator";
     private static final String ENABLE_HILITE = "enableHiLite";
+    private static final String RETAIN_ROW_ORDER = "retainRowOrder";
+    private static final String JOIN_ALGORITHM = "joinAlgorithm";
     private static final String VERSION = "version";
 
     /**
@@ -157,6 +159,35 @@ public enum CompositionMode {
     }
 
 
+    /**
+     * This enum holds the algorithms that can be used to join the tables.
+     *
+     * @since 3.6
+     */
+    public enum JoinAlgorithm {
+        /** Hybrid hash join, works for arbitrary input tables. */
+        HashJoin("Hash join"),
+        /**
+         * Merge join of tables that are sorted in ascending order by the
+         * joining columns. Supports streaming.
+         */
+        SortMergeJoin("Sort-merge join (inputs sorted by joining columns)");
+
+        private final String m_text;
+
+        private JoinAlgorithm(final String text) {
+            m_text = text;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return m_text;
+        }
+    }
+
     /** Internally used row key identifier. */
     static final String ROW_KEY_IDENTIFIER = "$RowID$";
 
@@ -184,6 +215,8 @@ public enum CompositionMode {
     private int m_maxOpenFiles = 200;
     private String m_rowKeySeparator = "_";
     private boolean m_enableHiLite = false;
+    private boolean m_retainRowOrder = true;
+    private JoinAlgorithm m_joinAlgorithm = JoinAlgorithm.HashJoin;
 
     private String m_version = VERSION_3;
 
@@ -495,6 +528,50 @@ public void setEnableHiLite(final boolean enableHiLite) {
         m_enableHiLite = enableHiLite;
     }
 
+    /**
+     * Returns true when the rows of the output table are sorted to match the
+     * order of the input tables. When false the joined rows are written in the
+     * order they are found which skips sorting and merging the joined
+     * partitions.
+     *
+     * @return the retainRowOrder
+     * @since 3.6
+     */
+    public boolean getRetainRowOrder() {
+        return m_retainRowOrder;
+    }
+
+    /**
+     * Set if the rows of the output table should follow the order of the input
+     * tables.
+     *
+     * @param retainRowOrder the retainRowOrder to set
+     * @since 3.6
+     */
+    public void setRetainRowOrder(final boolean retainRowOrder) {
+        m_retainRowOrder = retainRowOrder;
+    }
+
+    /**
+     * Returns the algorithm used to join the tables.
+     *
+     * @return the joinAlgorithm
+     * @since 3.6
+     */
+    public JoinAlgorithm getJoinAlgorithm() {
+        return m_joinAlgorithm;
+    }
+
+    /**
+     * Set the algorithm used to join the tables.
+     *
+     * @param joinAlgorithm the joinAlgorithm to set
+     * @since 3.6
+     */
+    public void setJoinAlgorithm(final JoinAlgorithm joinAlgorithm) {
+        m_joinAlgorithm = joinAlgorithm;
+    }
+
     /**
      * Loads the settings from the node settings object.
      *
@@ -531,6 +608,16 @@ public void loadSettings(final NodeSettingsRO settings)
         m_maxOpenFiles = settings.getInt(MAX_OPEN_FILES);
         m_rowKeySeparator = settings.getString(ROW_KEY_SEPARATOR);
         m_enableHiLite = settings.getBoolean(ENABLE_HILITE);
+        // added in 3.6
+        m_retainRowOrder = settings.getBoolean(RETAIN_ROW_ORDER, true);
+        String joinAlgorithm = settings.getString(JOIN_ALGORITHM,
+                JoinAlgorithm.HashJoin.name());
+        try {
+            m_joinAlgorithm = JoinAlgorithm.valueOf(joinAlgorithm);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new InvalidSettingsException("Unknown join algorithm: "
+                    + joinAlgorithm, e);
+        }
 
 
     }
@@ -583,6 +670,13 @@ public void loadSettingsForDialog(final NodeSettingsRO settings) {
         m_maxOpenFiles = settings.getInt(MAX_OPEN_FILES, 200);
         m_rowKeySeparator = settings.getString(ROW_KEY_SEPARATOR, "_");
         m_enableHiLite = settings.getBoolean(ENABLE_HILITE, false);
+        m_retainRowOrder = settings.getBoolean(RETAIN_ROW_ORDER, true);
+        try {
+            m_joinAlgorithm = JoinAlgorithm.valueOf(settings.getString(
+                    JOIN_ALGORITHM, JoinAlgorithm.HashJoin.name()));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            m_joinAlgorithm = JoinAlgorithm.HashJoin;
+        }
 
 
     }
@@ -611,6 +705,8 @@ public void saveSettings(final NodeSettingsWO settings) {
         settings.addInt(MAX_OPEN_FILES, m_maxOpenFiles);
         settings.addString(ROW_KEY_SEPARATOR, m_rowKeySeparator);
         settings.addBoolean(ENABLE_HILITE, m_enableHiLite);
+        settings.addBoolean(RETAIN_ROW_ORDER, m_retainRowOrder);
+        settings.addString(JOIN_ALGORITHM, m_joinAlgorithm.name());
         // save default values for settings that were removed in 2.5, so that
         // a workflow created with 2.5 can be opened in 2.4.
         settings.addInt("numBitsInitial", 6);
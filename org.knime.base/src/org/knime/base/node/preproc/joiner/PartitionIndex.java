@@ -0,0 +1,410 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.base.node.preproc.joiner;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.LongValue;
+
+/**
+ * Holds the rows of the left table that fall into one partition. Rows with
+ * equal join tuples are chained; a position in a chain gives access to the
+ * index of the row, the (optionally retained) row itself and whether the row
+ * was matched by a row of the right table.
+ *
+ * <p>Once built, an index can be probed concurrently. Adding rows and marking
+ * them as matched must be done by a single thread.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+abstract class PartitionIndex {
+
+    private int[] m_rowIndices = new int[8];
+
+    private int[] m_next = new int[8];
+
+    private DataRow[] m_rows;
+
+    private final BitSet m_matched = new BitSet();
+
+    private int m_size;
+
+    /**
+     * @param keepRows if the rows passed to
+     *            {@link #add(JoinTuple, int, DataRow)} are retained
+     */
+    PartitionIndex(final boolean keepRows) {
+        if (keepRows) {
+            m_rows = new DataRow[8];
+        }
+    }
+
+    /**
+     * Creates a new, empty index.
+     *
+     * @param longKeys if the join tuples consist of a single cell whose value
+     *            is an integer or long value
+     * @param keepRows if the added rows are retained, see
+     *            {@link #getRow(int)}
+     * @return a new index
+     */
+    static PartitionIndex create(final boolean longKeys,
+            final boolean keepRows) {
+        return longKeys ? new LongKeys(keepRows) : new TupleKeys(keepRows);
+    }
+
+    /**
+     * Adds a row.
+     *
+     * @param tuple the join tuple of the row
+     * @param rowIndex the index of the row in the left table
+     * @param row the row, only retained if this index keeps rows
+     */
+    final void add(final JoinTuple tuple, final int rowIndex,
+            final DataRow row) {
+        int pos = append(rowIndex, row);
+        m_next[pos] = link(tuple, pos);
+    }
+
+    /**
+     * Returns the position of the first row whose join tuple equals the given
+     * tuple; use {@link #getNext(int)} to get the positions of the other rows.
+     *
+     * @param tuple the tuple to look up
+     * @return a position or -1 if no row matches
+     */
+    abstract int find(JoinTuple tuple);
+
+    /** @return the number of distinct join tuples */
+    abstract int getNumKeys();
+
+    /**
+     * Creates a new index holding only the rows whose join tuple falls into
+     * the given partition. Called when the number of partitions is raised
+     * while the left table is read.
+     *
+     * @param part the partition to retain
+     * @param bitMask the mask used to derive the partition from the hash
+     *            code of a tuple
+     * @return a new index
+     */
+    abstract PartitionIndex retain(int part, int bitMask);
+
+    /**
+     * Makes the given position the new head of the chain of the tuple.
+     *
+     * @return the previous head or -1
+     */
+    abstract int link(JoinTuple tuple, int pos);
+
+    /** @return the number of rows, positions range from 0 to size - 1 */
+    final int size() {
+        return m_size;
+    }
+
+    /**
+     * @param pos a position
+     * @return the position of the next row with an equal tuple or -1
+     */
+    final int getNext(final int pos) {
+        return m_next[pos];
+    }
+
+    /**
+     * @param pos a position
+     * @return the index of the row in the left table
+     */
+    final int getRowIndex(final int pos) {
+        return m_rowIndices[pos];
+    }
+
+    /**
+     * @param pos a position
+     * @return the row, null if this index does not keep rows
+     */
+    final DataRow getRow(final int pos) {
+        return m_rows != null ? m_rows[pos] : null;
+    }
+
+    /** @param pos the position of a row that was matched */
+    final void setMatched(final int pos) {
+        m_matched.set(pos);
+    }
+
+    /**
+     * @param pos a position
+     * @return true when {@link #setMatched(int)} was called for it
+     */
+    final boolean isMatched(final int pos) {
+        return m_matched.get(pos);
+    }
+
+    final int append(final int rowIndex, final DataRow row) {
+        if (m_size == m_rowIndices.length) {
+            int capacity = m_size + (m_size >> 1);
+            m_rowIndices = Arrays.copyOf(m_rowIndices, capacity);
+            m_next = Arrays.copyOf(m_next, capacity);
+            if (m_rows != null) {
+                m_rows = Arrays.copyOf(m_rows, capacity);
+            }
+        }
+        m_rowIndices[m_size] = rowIndex;
+        if (m_rows != null) {
+            m_rows[m_size] = row;
+        }
+        m_next[m_size] = -1;
+        return m_size++;
+    }
+
+    final void setNext(final int pos, final int next) {
+        m_next[pos] = next;
+    }
+
+    final boolean keepsRows() {
+        return m_rows != null;
+    }
+
+    /** Index for arbitrary join tuples backed by a hash map. */
+    private static final class TupleKeys extends PartitionIndex {
+
+        private final Map<JoinTuple, Integer> m_heads =
+            new HashMap<JoinTuple, Integer>();
+
+        TupleKeys(final boolean keepRows) {
+            super(keepRows);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        int link(final JoinTuple tuple, final int pos) {
+            Integer previous = m_heads.put(tuple, pos);
+            return previous != null ? previous : -1;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        int find(final JoinTuple tuple) {
+            Integer head = m_heads.get(tuple);
+            return head != null ? head : -1;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        int getNumKeys() {
+            return m_heads.size();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        PartitionIndex retain(final int part, final int bitMask) {
+            TupleKeys result = new TupleKeys(keepsRows());
+            copyPartition(this, result, part, bitMask);
+            return result;
+        }
+
+        /**
+         * Adds the rows of all tuples that fall into the given partition to
+         * the result. The chains are stored in the owner, which is this
+         * index unless this index holds the tuples of a {@link LongKeys}
+         * index that are not long values.
+         */
+        void copyPartition(final PartitionIndex owner,
+                final PartitionIndex result, final int part,
+                final int bitMask) {
+            for (Map.Entry<JoinTuple, Integer> e : m_heads.entrySet()) {
+                if ((e.getKey().hashCode() & bitMask) == part) {
+                    for (int p = e.getValue(); p >= 0; p = owner.getNext(p)) {
+                        result.add(e.getKey(), owner.getRowIndex(p),
+                                owner.getRow(p));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Index for tuples of a single integer or long cell. The values are kept
+     * in an open addressing table of primitive longs, which avoids a map entry
+     * and a boxed head per distinct value. Tuples of other cells (e.g. missing
+     * cells, which never match) are kept in a map.
+     */
+    private static final class LongKeys extends PartitionIndex {
+
+        private long[] m_keys = new long[16];
+
+        /** Head position + 1, 0 marks an empty slot. */
+        private int[] m_heads = new int[16];
+
+        /** The hash codes of the tuples, needed to split the partition. */
+        private int[] m_hashes = new int[16];
+
+        private int m_numKeys;
+
+        private int m_shift = 64 - 4;
+
+        private TupleKeys m_others;
+
+        LongKeys(final boolean keepRows) {
+            super(keepRows);
+        }
+
+        private static boolean isLongKey(final DataCell cell) {
+            return !cell.isMissing() && cell instanceof LongValue;
+        }
+
+        private int slot(final long key) {
+            return (int)((key * 0x9E3779B97F4A7C15L) >>> m_shift);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        int link(final JoinTuple tuple, final int pos) {
+            DataCell cell = tuple.getCell(0);
+            if (!isLongKey(cell)) {
+                if (m_others == null) {
+                    m_others = new TupleKeys(false);
+                }
+                return m_others.link(tuple, pos);
+            }
+            return link(((LongValue)cell).getLongValue(), tuple.hashCode(),
+                    pos);
+        }
+
+        private int link(final long key, final int hash, final int pos) {
+            int mask = m_keys.length - 1;
+            int s = slot(key);
+            while (m_heads[s] != 0) {
+                if (m_keys[s] == key) {
+                    int previous = m_heads[s] - 1;
+                    m_heads[s] = pos + 1;
+                    return previous;
+                }
+                s = (s + 1) & mask;
+            }
+            m_keys[s] = key;
+            m_heads[s] = pos + 1;
+            m_hashes[s] = hash;
+            m_numKeys++;
+            if (2 * m_numKeys > m_keys.length) {
+                rehash();
+            }
+            return -1;
+        }
+
+        private void rehash() {
+            long[] keys = m_keys;
+            int[] heads = m_heads;
+            int[] hashes = m_hashes;
+            m_keys = new long[keys.length << 1];
+            m_heads = new int[keys.length << 1];
+            m_hashes = new int[keys.length << 1];
+            m_shift--;
+            int mask = m_keys.length - 1;
+            for (int i = 0; i < keys.length; i++) {
+                if (heads[i] != 0) {
+                    int s = slot(keys[i]);
+                    while (m_heads[s] != 0) {
+                        s = (s + 1) & mask;
+                    }
+                    m_keys[s] = keys[i];
+                    m_heads[s] = heads[i];
+                    m_hashes[s] = hashes[i];
+                }
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        int find(final JoinTuple tuple) {
+            DataCell cell = tuple.getCell(0);
+            if (!isLongKey(cell)) {
+                return m_others != null ? m_others.find(tuple) : -1;
+            }
+            long key = ((LongValue)cell).getLongValue();
+            int mask = m_keys.length - 1;
+            int s = slot(key);
+            while (m_heads[s] != 0) {
+                if (m_keys[s] == key) {
+                    return m_heads[s] - 1;
+                }
+                s = (s + 1) & mask;
+            }
+            return -1;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        int getNumKeys() {
+            return m_numKeys + (m_others != null ? m_others.getNumKeys() : 0);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        PartitionIndex retain(final int part, final int bitMask) {
+            LongKeys result = new LongKeys(keepsRows());
+            for (int s = 0; s < m_keys.length; s++) {
+                if (m_heads[s] != 0 && (m_hashes[s] & bitMask) == part) {
+                    for (int p = m_heads[s] - 1; p >= 0; p = getNext(p)) {
+                        int pos = result.append(getRowIndex(p), getRow(p));
+                        result.setNext(pos,
+                                result.link(m_keys[s], m_hashes[s], pos));
+                    }
+                }
+            }
+            if (m_others != null) {
+                m_others.copyPartition(this, result, part, bitMask);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,569 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.base.node.preproc.joiner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.knime.base.node.preproc.joiner.Joiner2Settings.JoinMode;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DataValueComparator;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+
+/**
+ * Joins two tables that are sorted in ascending order by their joining
+ * columns by merging them. Both inputs are read once; only the rows of the
+ * bottom table that share the current join key are kept, which makes the join
+ * streamable.
+ *
+ * <p>The order of the inputs is verified while they are read, an
+ * {@link UnsortedInputException} is thrown if a row is out of order. Rows with
+ * missing values in the joining columns never match and may appear anywhere.
+ * The joined rows are in the order of the join key; a left or right outer row
+ * appears at the position of its key.
+ *
+ * <p>The inputs are ordered by the comparators of the joining columns, but as
+ * in the hash join two keys only match if their cells are
+ * {@link DataCell#equals(Object) equal}. The comparator may consider cells of
+ * different types equal (e.g. the integer 1 and the double 1.0), such rows are
+ * in the same key run but are not joined.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class SortMergeJoiner {
+
+    /** The number of rows of a key run that are kept in memory. */
+    private static final int MAX_RUN_IN_MEMORY = 10000;
+
+    private final DataTableSpec m_outSpec;
+
+    private final DataTableSpec m_rightSpec;
+
+    private final int[] m_leftJoinIndices;
+
+    private final int[] m_rightJoinIndices;
+
+    private final int[] m_leftSurvivors;
+
+    private final int[] m_rightSurvivors;
+
+    private final DataValueComparator[] m_comparators;
+
+    private final JoinedRowKeyFactory m_rowKeyFactory;
+
+    private final boolean m_retainLeft;
+
+    private final boolean m_retainRight;
+
+    private final HashMap<RowKey, Set<RowKey>> m_leftRowKeyMap;
+
+    private final HashMap<RowKey, Set<RowKey>> m_rightRowKeyMap;
+
+    /**
+     * @param leftSpec The spec of the left input table.
+     * @param rightSpec The spec of the right input table.
+     * @param settings The settings of the join.
+     * @param enableHiLite If the row ids of the joined rows are recorded for
+     *            hiliting, must be false when streaming.
+     * @throws InvalidSettingsException If the settings do not fit the specs.
+     */
+    SortMergeJoiner(final DataTableSpec leftSpec,
+            final DataTableSpec rightSpec, final Joiner2Settings settings,
+            final boolean enableHiLite) throws InvalidSettingsException {
+        Joiner.validateSettings(settings);
+        Joiner joiner = new Joiner(leftSpec, rightSpec, settings);
+        m_outSpec = joiner.getOutputSpec();
+        m_rightSpec = rightSpec;
+        m_leftSurvivors = getIndices(leftSpec, joiner.getLeftSurvivors());
+        m_rightSurvivors = getIndices(rightSpec, joiner.getRightSurvivors());
+        String[] leftJoinCols = settings.getLeftJoinColumns();
+        String[] rightJoinCols = settings.getRightJoinColumns();
+        m_leftJoinIndices = new int[leftJoinCols.length];
+        m_rightJoinIndices = new int[leftJoinCols.length];
+        m_comparators = new DataValueComparator[leftJoinCols.length];
+        for (int i = 0; i < leftJoinCols.length; i++) {
+            m_leftJoinIndices[i] = leftSpec.findColumnIndex(leftJoinCols[i]);
+            m_rightJoinIndices[i] =
+                rightSpec.findColumnIndex(rightJoinCols[i]);
+            DataType leftType = m_leftJoinIndices[i] < 0 ? StringCell.TYPE
+                : leftSpec.getColumnSpec(m_leftJoinIndices[i]).getType();
+            DataType rightType = m_rightJoinIndices[i] < 0 ? StringCell.TYPE
+                : rightSpec.getColumnSpec(m_rightJoinIndices[i]).getType();
+            m_comparators[i] = DataType.getCommonSuperType(leftType,
+                rightType).getComparator();
+        }
+        m_rowKeyFactory = joiner.createRowKeyFactory(leftSpec, rightSpec);
+        JoinMode mode = settings.getJoinMode();
+        m_retainLeft = JoinMode.LeftOuterJoin.equals(mode)
+            || JoinMode.FullOuterJoin.equals(mode);
+        m_retainRight = JoinMode.RightOuterJoin.equals(mode)
+            || JoinMode.FullOuterJoin.equals(mode);
+        if (enableHiLite) {
+            m_leftRowKeyMap = new HashMap<RowKey, Set<RowKey>>();
+            m_rightRowKeyMap = new HashMap<RowKey, Set<RowKey>>();
+        } else {
+            m_leftRowKeyMap = null;
+            m_rightRowKeyMap = null;
+        }
+    }
+
+    private static int[] getIndices(final DataTableSpec spec,
+            final List<String> cols) {
+        int[] indices = new int[cols.size()];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = spec.findColumnIndex(cols.get(i));
+        }
+        return indices;
+    }
+
+    /**
+     * @return The spec of the joined table.
+     */
+    DataTableSpec getOutputSpec() {
+        return m_outSpec;
+    }
+
+    /**
+     * @return The map from the row ids of the left table to the row ids of
+     * the joined table, null if hiliting is disabled.
+     */
+    HashMap<RowKey, Set<RowKey>> getLeftRowKeyMap() {
+        return m_leftRowKeyMap;
+    }
+
+    /**
+     * @return The map from the row ids of the right table to the row ids of
+     * the joined table, null if hiliting is disabled.
+     */
+    HashMap<RowKey, Set<RowKey>> getRightRowKeyMap() {
+        return m_rightRowKeyMap;
+    }
+
+    /**
+     * Joins the inputs and pushes the joined rows to the output. Neither the
+     * inputs nor the output are closed.
+     *
+     * @param leftInput The left input, sorted by the joining columns.
+     * @param rightInput The right input, sorted by the joining columns.
+     * @param output The output for the joined rows.
+     * @param exec Used to report progress and to buffer long key runs.
+     * @param leftRowCount The number of rows of the left input or -1 if
+     *            unknown.
+     * @throws UnsortedInputException If an input is not sorted.
+     * @throws InterruptedException If reading or writing rows is interrupted.
+     * @throws CanceledExecutionException If execution is canceled.
+     */
+    void join(final RowInput leftInput, final RowInput rightInput,
+            final RowOutput output, final ExecutionContext exec,
+            final long leftRowCount) throws UnsortedInputException,
+            InterruptedException, CanceledExecutionException {
+        Side left = new Side(leftInput, m_leftJoinIndices, true, output);
+        Side right = new Side(rightInput, m_rightJoinIndices, false, output);
+        KeyRun run = new KeyRun(exec);
+        left.advance(exec);
+        right.advance(exec);
+        while (left.m_row != null && right.m_row != null) {
+            if (leftRowCount > 0) {
+                exec.setProgress(left.m_count / (double)leftRowCount);
+            }
+            int c = compareKeys(left.m_key, right.m_key);
+            if (c < 0) {
+                if (m_retainLeft) {
+                    push(output, left.m_row, null);
+                }
+                left.advance(exec);
+            } else if (c > 0) {
+                if (m_retainRight) {
+                    push(output, null, right.m_row);
+                }
+                right.advance(exec);
+            } else {
+                // collect all rows of the right table with this key
+                DataCell[] key = right.m_key;
+                do {
+                    run.add(right.m_row, right.m_key);
+                    right.advance(exec);
+                } while (right.m_row != null
+                        && compareKeys(key, right.m_key) == 0);
+                run.finish();
+                while (left.m_row != null
+                        && compareKeys(left.m_key, key) == 0) {
+                    if (!joinRun(output, left.m_row, left.m_key, run, right,
+                        exec) && m_retainLeft) {
+                        push(output, left.m_row, null);
+                    }
+                    left.advance(exec);
+                }
+                if (m_retainRight) {
+                    int index = 0;
+                    for (DataRow rightRow : run.getRows()) {
+                        if (!run.m_matched.get(index++)) {
+                            push(output, null, rightRow);
+                        }
+                    }
+                }
+                run.clear();
+            }
+        }
+        while (left.m_row != null) {
+            if (m_retainLeft) {
+                push(output, left.m_row, null);
+            }
+            left.advance(exec);
+        }
+        while (right.m_row != null) {
+            if (m_retainRight) {
+                push(output, null, right.m_row);
+            }
+            right.advance(exec);
+        }
+    }
+
+    /**
+     * Joins a row of the left table with all rows of the key run whose key is
+     * equal to the left key.
+     *
+     * @return whether the left row has been joined with at least one row
+     */
+    private boolean joinRun(final RowOutput output, final DataRow leftRow,
+            final DataCell[] leftKey, final KeyRun run, final Side right,
+            final ExecutionContext exec)
+            throws InterruptedException, CanceledExecutionException {
+        if (run.m_isUniform) {
+            // all keys of the run are equal, the common case
+            if (!Arrays.equals(leftKey, run.m_firstKey)) {
+                return false;
+            }
+            for (DataRow rightRow : run.getRows()) {
+                exec.checkCanceled();
+                push(output, leftRow, rightRow);
+            }
+            run.m_matched.set(0, run.m_size);
+            return true;
+        }
+        boolean matched = false;
+        int index = 0;
+        for (DataRow rightRow : run.getRows()) {
+            exec.checkCanceled();
+            if (Arrays.equals(leftKey, right.getKey(rightRow))) {
+                push(output, leftRow, rightRow);
+                run.m_matched.set(index);
+                matched = true;
+            }
+            index++;
+        }
+        return matched;
+    }
+
+    private int compareKeys(final DataCell[] key1, final DataCell[] key2) {
+        for (int i = 0; i < m_comparators.length; i++) {
+            int c = m_comparators[i].compare(key1[i], key2[i]);
+            if (c != 0) {
+                return c;
+            }
+        }
+        return 0;
+    }
+
+    /** Creates the joined row and pushes it, left or right can be null. */
+    private void push(final RowOutput output, final DataRow left,
+            final DataRow right) throws InterruptedException {
+        DataCell[] cells =
+            new DataCell[m_leftSurvivors.length + m_rightSurvivors.length];
+        int c = 0;
+        for (int i = 0; i < m_leftSurvivors.length; i++) {
+            cells[c++] = null != left ? left.getCell(m_leftSurvivors[i])
+                : DataType.getMissingCell();
+        }
+        for (int i = 0; i < m_rightSurvivors.length; i++) {
+            cells[c++] = null != right ? right.getCell(m_rightSurvivors[i])
+                : DataType.getMissingCell();
+        }
+        RowKey leftKey = null != left ? left.getKey() : null;
+        RowKey rightKey = null != right ? right.getKey() : null;
+        RowKey joinedKey = m_rowKeyFactory.createJoinedKey(leftKey, rightKey);
+        output.push(new DefaultRow(joinedKey, cells));
+        if (null != m_leftRowKeyMap) {
+            // Remember RowKeys for HiLiting
+            if (null != leftKey) {
+                addToMap(m_leftRowKeyMap, leftKey, joinedKey);
+            }
+            if (null != rightKey) {
+                addToMap(m_rightRowKeyMap, rightKey, joinedKey);
+            }
+        }
+    }
+
+    private static void addToMap(final HashMap<RowKey, Set<RowKey>> map,
+            final RowKey key, final RowKey joinedKey) {
+        Set<RowKey> keySet = map.get(key);
+        if (null == keySet) {
+            keySet = new HashSet<RowKey>();
+            map.put(key, keySet);
+        }
+        keySet.add(joinedKey);
+    }
+
+    /** Reads one of the inputs and verifies its order. */
+    private final class Side {
+        private final RowInput m_input;
+
+        private final int[] m_joinIndices;
+
+        private final boolean m_isLeft;
+
+        private final RowOutput m_output;
+
+        /** The current row or null when the input is exhausted. */
+        private DataRow m_row;
+
+        private DataCell[] m_key;
+
+        private DataCell[] m_previousKey;
+
+        private long m_count;
+
+        Side(final RowInput input, final int[] joinIndices,
+                final boolean isLeft, final RowOutput output) {
+            m_input = input;
+            m_joinIndices = joinIndices;
+            m_isLeft = isLeft;
+            m_output = output;
+        }
+
+        /**
+         * Moves to the next row. Rows with missing values in the joining
+         * columns are written as outer rows (if retained) and skipped.
+         */
+        void advance(final ExecutionContext exec)
+                throws UnsortedInputException, InterruptedException,
+                CanceledExecutionException {
+            while (true) {
+                exec.checkCanceled();
+                DataRow row = m_input.poll();
+                if (null == row) {
+                    m_row = null;
+                    m_key = null;
+                    return;
+                }
+                m_count++;
+                DataCell[] key = getKey(row);
+                if (null == key) {
+                    if (m_isLeft && m_retainLeft) {
+                        push(m_output, row, null);
+                    } else if (!m_isLeft && m_retainRight) {
+                        push(m_output, null, row);
+                    }
+                    continue;
+                }
+                if (null != m_previousKey
+                        && compareKeys(m_previousKey, key) > 0) {
+                    throw new UnsortedInputException("The "
+                        + (m_isLeft ? "top" : "bottom") + " input table is "
+                        + "not sorted in ascending order by the joining "
+                        + "columns (row \"" + row.getKey() + "\" is out of "
+                        + "order). Sort the table or use the hash join.");
+                }
+                m_previousKey = key;
+                m_row = row;
+                m_key = key;
+                return;
+            }
+        }
+
+        /** @return the join key of the row, null if it has missing cells */
+        private DataCell[] getKey(final DataRow row) {
+            DataCell[] key = new DataCell[m_joinIndices.length];
+            for (int i = 0; i < key.length; i++) {
+                DataCell cell = m_joinIndices[i] >= 0
+                    ? row.getCell(m_joinIndices[i])
+                    : new StringCell(row.getKey().getString());
+                if (cell.isMissing()) {
+                    return null;
+                }
+                key[i] = cell;
+            }
+            return key;
+        }
+    }
+
+    /**
+     * The rows of the right table that share the current key. Long runs are
+     * written to a temporary table.
+     */
+    private final class KeyRun {
+        private final ExecutionContext m_exec;
+
+        private final List<DataRow> m_rows = new ArrayList<DataRow>();
+
+        /** The rows that have been joined with a left row, by index. */
+        private final BitSet m_matched = new BitSet();
+
+        private int m_size;
+
+        private DataCell[] m_firstKey;
+
+        /** Whether all keys of the run are equal to the first key. */
+        private boolean m_isUniform;
+
+        private BufferedDataContainer m_container;
+
+        private BufferedDataTable m_table;
+
+        KeyRun(final ExecutionContext exec) {
+            m_exec = exec;
+        }
+
+        void add(final DataRow row, final DataCell[] key) {
+            if (m_size == 0) {
+                m_firstKey = key;
+                m_isUniform = true;
+            } else if (m_isUniform && !Arrays.equals(m_firstKey, key)) {
+                m_isUniform = false;
+            }
+            m_size++;
+            if (m_rows.size() < MAX_RUN_IN_MEMORY) {
+                m_rows.add(row);
+            } else {
+                if (null == m_container) {
+                    m_container = m_exec.createDataContainer(m_rightSpec);
+                }
+                m_container.addRowToTable(row);
+            }
+        }
+
+        void finish() {
+            if (null != m_container) {
+                m_container.close();
+                m_table = m_container.getTable();
+                m_container = null;
+            }
+        }
+
+        Iterable<DataRow> getRows() {
+            if (null == m_table) {
+                return m_rows;
+            }
+            return () -> new CloseableRowIterator() {
+                private int m_index;
+
+                private CloseableRowIterator m_tableIterator;
+
+                @Override
+                public boolean hasNext() {
+                    if (m_index < m_rows.size()) {
+                        return true;
+                    }
+                    if (null == m_tableIterator) {
+                        m_tableIterator = m_table.iterator();
+                    }
+                    return m_tableIterator.hasNext();
+                }
+
+                @Override
+                public DataRow next() {
+                    if (m_index < m_rows.size()) {
+                        return m_rows.get(m_index++);
+                    }
+                    hasNext();
+                    return m_tableIterator.next();
+                }
+
+                @Override
+                public void close() {
+                    if (null != m_tableIterator) {
+                        m_tableIterator.close();
+                    }
+                }
+            };
+        }
+
+        void clear() {
+            m_rows.clear();
+            m_matched.clear();
+            m_size = 0;
+            m_firstKey = null;
+            if (null != m_table) {
+                m_exec.clearTable(m_table);
+                m_table = null;
+            }
+        }
+    }
+
+    /**
+     * Thrown when an input of the sort-merge join is not sorted by the
+     * joining columns.
+     */
+    @SuppressWarnings("serial")
+    static final class UnsortedInputException extends Exception {
+        /**
+         * @param message The message.
+         */
+        UnsortedInputException(final String message) {
+            super(message);
+        }
+    }
+}
@@ -118,7 +118,12 @@ public DataCell getCell(final DataRow row) {
         return rankCell;
     }
 
-    private RankAssigner createRankAssigner(final String rankMode, final int[] rankColIndices) {
+    /**
+     * @param rankMode the name of the {@link RankNodeModel.RankMode}
+     * @param rankColIndices the indices of the ranking columns
+     * @return a new assigner for the rows of a single group, which are passed in sorted order
+     */
+    static RankAssigner createRankAssigner(final String rankMode, final int[] rankColIndices) {
         RankAssigner rankAssigner = null;
 
         // Create corresponding RankAssigner or throw an exception if there is no such mode
@@ -73,9 +73,11 @@
 import javax.swing.JPanel;
 import javax.swing.JRadioButton;
 import javax.swing.JScrollPane;
+import javax.swing.JSpinner;
 import javax.swing.JTable;
 import javax.swing.JTextField;
 import javax.swing.ListSelectionModel;
+import javax.swing.SpinnerNumberModel;
 import javax.swing.border.TitledBorder;
 import javax.swing.table.DefaultTableColumnModel;
 import javax.swing.table.DefaultTableModel;
@@ -90,6 +92,7 @@
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.NotConfigurableException;
 import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
+import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
 import org.knime.core.node.defaultnodesettings.SettingsModelStringArray;
 import org.knime.core.node.util.DataColumnSpecListCellRenderer;
@@ -122,12 +125,16 @@ public class RankNodeDialog extends NodeDialogPane {
 
     private final SettingsModelBoolean m_rankAsLong = RankNodeModel.createRankAsLongModel();
 
+    private final SettingsModelIntegerBounded m_topN = RankNodeModel.createTopNModel();
+
     private JTextField m_outColNameTextField;
 
     private JCheckBox m_retainOrderCheckBox;
 
     private JCheckBox m_rankAsLongCheckBox;
 
+    private JSpinner m_topNSpinner;
+
     private JTable m_rankJTable;
 
     private DefaultTableModel m_rankTableModel;
@@ -253,9 +260,21 @@ private Box initOtherOptionsBox() {
         rankAsLongCheckBox.add(rankAsLongCheckBoxLabel);
         rankAsLongCheckBox.add(m_rankAsLongCheckBox);
 
+        Box topNBox = Box.createHorizontalBox();
+        m_topNSpinner = new JSpinner(new SpinnerNumberModel(RankNodeModel.DEFAULT_TOPN, 0, Integer.MAX_VALUE, 1));
+        m_topNSpinner.setMaximumSize(m_outColNameTextField.getPreferredSize());
+        m_topNSpinner.setToolTipText("Only output rows with at most this rank within their group, 0 for all rows");
+        JLabel topNLabel = new JLabel("Top N per Group");
+        topNLabel.setMaximumSize(labelSize);
+        topNLabel.setMinimumSize(labelSize);
+        topNLabel.setPreferredSize(labelSize);
+        topNBox.add(topNLabel);
+        topNBox.add(m_topNSpinner);
+
         box.add(textBox);
         box.add(checkBox);
         box.add(rankAsLongCheckBox);
+        box.add(topNBox);
 
         return box;
     }
@@ -643,6 +662,8 @@ protected void saveSettingsTo(final NodeSettingsWO settings) throws InvalidSetti
 
         m_rankAsLong.setBooleanValue(m_rankAsLongCheckBox.isSelected());
 
+        m_topN.setIntValue(((Number)m_topNSpinner.getValue()).intValue());
+
         validateSettings(settings);
 
         // save settings models
@@ -653,6 +674,7 @@ protected void saveSettingsTo(final NodeSettingsWO settings) throws InvalidSetti
         m_rankOutColName.saveSettingsTo(settings);
         m_retainRowOrder.saveSettingsTo(settings);
         m_rankAsLong.saveSettingsTo(settings);
+        m_topN.saveSettingsTo(settings);
     }
 
     /**
@@ -682,6 +704,12 @@ protected void loadSettingsFrom(final NodeSettingsRO settings, final DataTableSp
             // TODO Auto-generated catch block
             e.printStackTrace();
         }
+        try {
+            m_topN.loadSettingsFrom(settings);
+        } catch (InvalidSettingsException e) {
+            // added in 3.6
+            m_topN.setIntValue(RankNodeModel.DEFAULT_TOPN);
+        }
 
 
         m_rankTableModel.setRowCount(0);
@@ -738,6 +766,9 @@ protected void loadSettingsFrom(final NodeSettingsRO settings, final DataTableSp
         // set rank as long checkbox
         m_rankAsLongCheckBox.setSelected(m_rankAsLong.getBooleanValue());
 
+        // set top n spinner
+        m_topNSpinner.setValue(m_topN.getIntValue());
+
     }
 
     private void validateSettings(final NodeSettingsWO settings) throws InvalidSettingsException {
@@ -60,11 +60,13 @@
 import org.knime.core.data.DataColumnSpecCreator;
 import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.LongValue;
 import org.knime.core.data.container.ColumnRearranger;
 import org.knime.core.data.container.SingleCellFactory;
 import org.knime.core.data.def.IntCell;
 import org.knime.core.data.def.LongCell;
 import org.knime.core.data.sort.BufferedDataTableSorter;
+import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
@@ -74,8 +76,19 @@
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.defaultnodesettings.SettingsModelBoolean;
+import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
 import org.knime.core.node.defaultnodesettings.SettingsModelString;
 import org.knime.core.node.defaultnodesettings.SettingsModelStringArray;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.streamable.BufferedDataTableRowOutput;
+import org.knime.core.node.streamable.DataTableRowInput;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.StreamableOperator;
 
 /**
  * This is the model implementation of Rank. This node ranks the input data based on the selected ranking field and
@@ -113,6 +126,9 @@ public String toString() {
 
     static final boolean DEFAULT_RANKASLONG = false;
 
+    /** 0 means that all rows are ranked. */
+    static final int DEFAULT_TOPN = 0;
+
     // available ranking modes
 //    static final String[] AVAILABLE_RANKMODES = new String[]{"Standard", "Dense", "Ordinal"};
 
@@ -131,6 +147,8 @@ public String toString() {
 
     private final SettingsModelBoolean m_rankAsLong = createRankAsLongModel();
 
+    private final SettingsModelIntegerBounded m_topN = createTopNModel();
+
     // static initiators for SettingsModels
     static SettingsModelStringArray createRankColumnsModel() {
         return new SettingsModelStringArray("RankingColumns", new String[]{});
@@ -160,6 +178,11 @@ static SettingsModelBoolean createRankAsLongModel() {
         return new SettingsModelBoolean("RankAsLong", DEFAULT_RANKASLONG);
     }
 
+    /** @return model for the maximum rank within each group to output, 0 for all rows (added in 3.6) */
+    static SettingsModelIntegerBounded createTopNModel() {
+        return new SettingsModelIntegerBounded("TopNPerGroup", DEFAULT_TOPN, 0, Integer.MAX_VALUE);
+    }
+
     /**
      * Constructor for the node model.
      */
@@ -204,6 +227,47 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
             setWarningMessage("Empty input table found");
         }
 
+        if (m_topN.getIntValue() > 0) {
+            // only the top N rows per group are selected and ranked, no need to sort the table
+            final DataTableSpec inSpec = table.getDataTableSpec();
+            BufferedDataContainer cont =
+                exec.createDataContainer(createOutSpec(inSpec, m_rankAsLong.getBooleanValue()));
+            BufferedDataTableRowOutput output = new BufferedDataTableRowOutput(cont);
+            BufferedDataTable remaining =
+                createTopNRanker(inSpec).rank(new DataTableRowInput(table), output, exec, table.size());
+            if (remaining != null) {
+                pushTopN(remaining, output, exec);
+            }
+            output.close();
+            return new BufferedDataTable[]{output.getDataTable()};
+        }
+        return new BufferedDataTable[]{rankTable(table, exec)};
+    }
+
+    /**
+     * Ranks all rows of the table, used if the top N rows of the groups exceed the memory. Pushes the rows with a
+     * rank of at most N to the output and clears the table.
+     */
+    private void pushTopN(final BufferedDataTable table, final RowOutput out, final ExecutionContext exec)
+        throws Exception {
+        final BufferedDataTable ranked = rankTable(table, exec);
+        final long topN = m_topN.getIntValue();
+        final int rankCol = ranked.getDataTableSpec().getNumColumns() - 1;
+        for (DataRow row : ranked) {
+            exec.checkCanceled();
+            final long rank = ((LongValue)row.getCell(rankCol)).getLongValue();
+            if (rank <= topN) {
+                out.push(row);
+            }
+        }
+        exec.clearTable(table);
+    }
+
+    /** Sorts the table by the ranking columns and appends the rank column. */
+    private BufferedDataTable rankTable(final BufferedDataTable inTable, final ExecutionContext exec)
+        throws Exception {
+        BufferedDataTable table = inTable;
+
         // get table spec
         DataTableSpec inSpec = table.getDataTableSpec();
 
@@ -279,7 +343,58 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
             out = exec.createColumnRearrangeTable(out, cr, exec.createSubExecutionContext(1 / numSteps));
         }
 
-        return new BufferedDataTable[]{out};
+        return out;
+    }
+
+    private TopNRanker createTopNRanker(final DataTableSpec inSpec) {
+        List<String> rankCols = Arrays.asList(m_rankColumns.getStringArrayValue());
+        String[] orderRank = m_rankOrder.getStringArrayValue();
+        boolean[] ascRank = new boolean[orderRank.length];
+        for (int i = 0; i < ascRank.length; i++) {
+            ascRank[i] = orderRank[i].equals("Ascending");
+        }
+        return new TopNRanker(BufferedDataTableSorter.createRowComparator(inSpec, rankCols, ascRank, false),
+            getIndicesFromColNameList(Arrays.asList(m_groupColumns.getStringArrayValue()), inSpec),
+            getIndicesFromColNameList(rankCols, inSpec), m_rankMode.getStringValue(), m_topN.getIntValue(),
+            m_rankAsLong.getBooleanValue(), m_retainRowOrder.getBooleanValue());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputPortRole[] getInputPortRoles() {
+        if (m_topN.getIntValue() > 0) {
+            // the input is read once, only the top N rows per group are kept
+            return new InputPortRole[]{InputPortRole.NONDISTRIBUTED_STREAMABLE};
+        }
+        return super.getInputPortRoles();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+        final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        if (m_topN.getIntValue() <= 0) {
+            return super.createStreamableOperator(partitionInfo, inSpecs);
+        }
+        final TopNRanker ranker = createTopNRanker((DataTableSpec)inSpecs[0]);
+        return new StreamableOperator() {
+            @Override
+            public void runFinal(final PortInput[] inputs, final PortOutput[] outputs, final ExecutionContext exec)
+                throws Exception {
+                RowInput in = (RowInput)inputs[0];
+                RowOutput out = (RowOutput)outputs[0];
+                BufferedDataTable remaining = ranker.rank(in, out, exec, -1);
+                in.close();
+                if (remaining != null) {
+                    pushTopN(remaining, out, exec);
+                }
+                out.close();
+            }
+        };
     }
 
     private int[] getIndicesFromColNameList(final List<String> colNames, final DataTableSpec inSpec) {
@@ -364,6 +479,7 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
         m_rankOutColName.saveSettingsTo(settings);
         m_retainRowOrder.saveSettingsTo(settings);
         m_rankAsLong.saveSettingsTo(settings);
+        m_topN.saveSettingsTo(settings);
 
     }
 
@@ -380,6 +496,12 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws I
         m_rankOutColName.loadSettingsFrom(settings);
         m_retainRowOrder.loadSettingsFrom(settings);
         m_rankAsLong.loadSettingsFrom(settings);
+        try {
+            m_topN.loadSettingsFrom(settings);
+        } catch (InvalidSettingsException e) {
+            // added in 3.6
+            m_topN.setIntValue(DEFAULT_TOPN);
+        }
 
     }
 
@@ -396,6 +518,10 @@ protected void validateSettings(final NodeSettingsRO settings) throws InvalidSet
         m_rankOutColName.validateSettings(settings);
         m_retainRowOrder.validateSettings(settings);
         m_rankAsLong.validateSettings(settings);
+        // added in 3.6
+        if (settings.containsKey(m_topN.getKey())) {
+            m_topN.validateSettings(settings);
+        }
     }
 
     /**
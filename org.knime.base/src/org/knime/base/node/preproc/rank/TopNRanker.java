@@ -0,0 +1,274 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.base.node.preproc.rank;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.append.AppendedColumnRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.sort.BufferedDataTableSorter;
+import org.knime.core.data.sort.TopKSelector;
+import org.knime.core.data.sort.TopKSelector.TieMode;
+import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.data.util.memory.MemoryAlertSystem.MemoryActionIndicator;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+
+/**
+ * Ranks only the top N rows of each group. Instead of sorting the entire table, the rows of each group are offered to
+ * a bounded {@link TopKSelector}, hence the input is read once and only the rows that end up in the output are kept
+ * in memory. The output equals the output of the full ranking restricted to rows with a rank of at most N.
+ * If too many rows are selected (e.g. many groups) or memory runs low, the ranker gives up and hands the rows over to
+ * the full ranking, see {@link #rank(RowInput, RowOutput, ExecutionContext, long)}.
+ * For this class to function properly it must not be used in a concurrent setup.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class TopNRanker {
+
+    /** A row along with its position in the input table, used to retain the row order and to break ties. */
+    private static final class IndexedRow {
+        private final long m_index;
+
+        private final DataRow m_row;
+
+        private long m_rank;
+
+        IndexedRow(final long index, final DataRow row) {
+            m_index = index;
+            m_row = row;
+        }
+    }
+
+    private final int[] m_groupColIndices;
+
+    private final int[] m_rankColIndices;
+
+    private final String m_rankMode;
+
+    private final long m_topN;
+
+    private final boolean m_rankAsLong;
+
+    private final boolean m_retainRowOrder;
+
+    private final Comparator<IndexedRow> m_comparator;
+
+    /** Maximum number of rows selected over all groups, only changed in unit tests. */
+    private int m_maxRowsInMemory = BufferedDataTableSorter.DEF_MAX_TOPK_IN_MEMORY;
+
+    /**
+     * @param rowComparator compares rows by the ranking columns
+     * @param groupColIndices the indices of the grouping columns
+     * @param rankColIndices the indices of the ranking columns
+     * @param rankMode the name of the {@link RankNodeModel.RankMode}
+     * @param topN the maximum rank to output, at least 1
+     * @param rankAsLong whether to output the rank as long
+     * @param retainRowOrder whether to output the rows in the order of the input rather than by rank
+     */
+    TopNRanker(final Comparator<DataRow> rowComparator, final int[] groupColIndices, final int[] rankColIndices,
+        final String rankMode, final long topN, final boolean rankAsLong, final boolean retainRowOrder) {
+        m_groupColIndices = groupColIndices;
+        m_rankColIndices = rankColIndices;
+        m_rankMode = rankMode;
+        m_topN = topN;
+        m_rankAsLong = rankAsLong;
+        m_retainRowOrder = retainRowOrder;
+        m_comparator = new Comparator<IndexedRow>() {
+            @Override
+            public int compare(final IndexedRow o1, final IndexedRow o2) {
+                return rowComparator.compare(o1.m_row, o2.m_row);
+            }
+        };
+    }
+
+    /**
+     * Set the maximum number of rows selected over all groups, defaults to
+     * {@link BufferedDataTableSorter#DEF_MAX_TOPK_IN_MEMORY}. Used in unit tests.
+     *
+     * @param maxRows the maximum number of rows selected in memory
+     */
+    void setMaxRowsInMemory(final int maxRows) {
+        m_maxRowsInMemory = maxRows;
+    }
+
+    /**
+     * Reads all rows from the input and pushes the top N rows of each group with their rank appended. Neither input
+     * nor output are closed.
+     *
+     * <p>
+     * If more than {@link BufferedDataTableSorter#DEF_MAX_TOPK_IN_MEMORY} rows are selected or memory runs low, nothing
+     * is pushed. Instead the selected rows and all remaining input rows are written, in the order of the input, to a
+     * table that is returned. Rows dropped so far can't get a rank of at most N and don't affect the ranks of the
+     * other rows, hence the full ranking of this table restricted to rows with a rank of at most N equals the
+     * output.
+     *
+     * @param in the input rows
+     * @param out the output receiving the ranked rows
+     * @param exec for progress and cancellation
+     * @param rowCount the number of input rows or -1 if unknown
+     * @return <code>null</code> if the ranked rows have been pushed, otherwise the table to rank fully
+     * @throws InterruptedException if interrupted while reading or writing
+     * @throws CanceledExecutionException if canceled
+     */
+    BufferedDataTable rank(final RowInput in, final RowOutput out, final ExecutionContext exec, final long rowCount)
+        throws InterruptedException, CanceledExecutionException {
+        final TieMode tieMode = getTieMode(m_rankMode);
+        final Map<DataCellTuple, TopKSelector<IndexedRow>> selectors =
+            new LinkedHashMap<DataCellTuple, TopKSelector<IndexedRow>>();
+        final MemoryActionIndicator memIndicator = MemoryAlertSystem.getInstance().newIndicator();
+        long selected = 0;
+        long index = 0;
+        DataRow row;
+        while ((row = in.poll()) != null) {
+            exec.checkCanceled();
+            final DataCellTuple group = new DataCellTuple(row, m_groupColIndices);
+            TopKSelector<IndexedRow> selector = selectors.get(group);
+            if (selector == null) {
+                selector = new TopKSelector<IndexedRow>(m_comparator, m_topN, tieMode);
+                selectors.put(group, selector);
+            }
+            final long sizeBefore = selector.size();
+            selector.add(new IndexedRow(index, row));
+            selected += selector.size() - sizeBefore;
+            index++;
+            if (rowCount > 0) {
+                exec.setProgress(index / (double)rowCount, "Reading row " + index + " of " + rowCount);
+            } else {
+                exec.setMessage("Reading row " + index);
+            }
+            if (selected > m_maxRowsInMemory || memIndicator.lowMemoryActionRequired()) {
+                return writeRemainingRows(selectors, in, exec);
+            }
+        }
+
+        final List<IndexedRow> result = new ArrayList<IndexedRow>();
+        for (TopKSelector<IndexedRow> selector : selectors.values()) {
+            final RankAssigner rankAssigner = RankCellFactory.createRankAssigner(m_rankMode, m_rankColIndices);
+            for (IndexedRow r : selector.getSelection()) {
+                r.m_rank = rankAssigner.getRank(r.m_row);
+                result.add(r);
+            }
+        }
+        selectors.clear();
+
+        // same order as the full ranking: by rank columns (ties in input order) or by input order
+        Collections.sort(result, new Comparator<IndexedRow>() {
+            @Override
+            public int compare(final IndexedRow o1, final IndexedRow o2) {
+                final int cmp = m_retainRowOrder ? 0 : m_comparator.compare(o1, o2);
+                return cmp != 0 ? cmp : Long.compare(o1.m_index, o2.m_index);
+            }
+        });
+        for (IndexedRow r : result) {
+            exec.checkCanceled();
+            final DataCell rankCell = m_rankAsLong ? new LongCell(r.m_rank) : new IntCell((int)r.m_rank);
+            out.push(new AppendedColumnRow(r.m_row, rankCell));
+        }
+        return null;
+    }
+
+    /** Writes the selected rows followed by the rows not yet read from the input to a new table. */
+    private static BufferedDataTable writeRemainingRows(final Map<DataCellTuple, TopKSelector<IndexedRow>> selectors,
+        final RowInput in, final ExecutionContext exec) throws InterruptedException, CanceledExecutionException {
+        exec.setMessage("Too many rows selected, writing rows to disk");
+        final List<IndexedRow> selection = new ArrayList<IndexedRow>();
+        for (TopKSelector<IndexedRow> selector : selectors.values()) {
+            selection.addAll(selector.getSelection());
+        }
+        selectors.clear();
+        Collections.sort(selection, new Comparator<IndexedRow>() {
+            @Override
+            public int compare(final IndexedRow o1, final IndexedRow o2) {
+                return Long.compare(o1.m_index, o2.m_index);
+            }
+        });
+        final BufferedDataContainer cont = exec.createDataContainer(in.getDataTableSpec());
+        for (IndexedRow r : selection) {
+            cont.addRowToTable(r.m_row);
+        }
+        selection.clear();
+        DataRow row;
+        while ((row = in.poll()) != null) {
+            exec.checkCanceled();
+            cont.addRowToTable(row);
+        }
+        cont.close();
+        return cont.getTable();
+    }
+
+    /**
+     * @param rankMode the name of the {@link RankNodeModel.RankMode}
+     * @return the tie mode selecting all rows whose rank in the given mode is at most N
+     */
+    private static TieMode getTieMode(final String rankMode) {
+        switch (rankMode) {
+            case "Standard":
+                return TieMode.INCLUDE_TIES;
+            case "Dense":
+                return TieMode.DISTINCT_VALUES;
+            case "Ordinal":
+                return TieMode.EXACT;
+            default:
+                throw new IllegalArgumentException("The rank mode \"" + rankMode + "\" does not exist.");
+        }
+    }
+
+}
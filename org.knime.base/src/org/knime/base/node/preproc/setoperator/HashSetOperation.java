@@ -0,0 +1,698 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.base.node.preproc.setoperator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DataValueComparator;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.sort.BufferedDataTableSorter;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.util.ThreadPool;
+import org.knime.core.util.ThreadUtils;
+
+/**
+ * Computes a {@link SetOperation} by hashing the elements of both sets instead of sorting them. Small inputs are
+ * processed as a single partition in memory. Larger inputs are split by the hash code of the elements into
+ * partitions that are written to temporary tables; the partitions are independent of each other and processed in
+ * parallel. Elements of integer or long columns are indexed in an open addressing table of primitive longs.
+ *
+ * <p>
+ * The result contains each element once, in the order of its first occurrence within its partition (first set
+ * before second set). If sorted output is requested the unsorted result table is sorted afterwards with a
+ * {@link BufferedDataTableSorter}, so that only the distinct elements of the partitions currently processed are kept
+ * in memory.
+ *
+ * <p>
+ * Two elements are considered equal if the comparator of the sort-based strategy considers them equal. For all
+ * cells other than {@link DoubleCell}s this is the case if they are {@link DataCell#equals(Object) equal}; double
+ * cells are compared by their bit pattern (as {@link Double#compare(double, double)} does), i.e. 0.0 and -0.0 are
+ * different elements while all NaN values are the same element.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class HashSetOperation {
+
+    /** Number of input rows up to which both sets are processed as a single partition without copying them. */
+    static final int ROWS_PER_PARTITION = 1 << 20;
+
+    /** Upper bound for the number of partitions. */
+    private static final int MAX_PARTITIONS = 256;
+
+    private final SetOperation m_op;
+
+    private final int m_col1Idx;
+
+    private final int m_col2Idx;
+
+    private final boolean m_differentType;
+
+    private final boolean m_skipMissing;
+
+    private final boolean m_keepRowKeys;
+
+    private final int m_rowsPerPartition;
+
+    /** The type of both columns if elements can be indexed as primitive longs, otherwise null. */
+    private final DataType m_longType;
+
+    private final AtomicLong m_duplicateCounter = new AtomicLong();
+
+    private final AtomicLong m_missingCounter = new AtomicLong();
+
+    /**
+     * @param op the operation
+     * @param col1Idx the index of the column of the first set or -1 for the row ID
+     * @param col2Idx the index of the column of the second set or -1 for the row ID
+     * @param elementType the common type of both columns, null if they differ (elements are compared as strings)
+     * @param skipMissing whether missing cells are skipped
+     * @param keepRowKeys whether the row keys of each element are collected for the hilite mapping
+     */
+    HashSetOperation(final SetOperation op, final int col1Idx, final int col2Idx, final DataType elementType,
+        final boolean skipMissing, final boolean keepRowKeys) {
+        this(op, col1Idx, col2Idx, elementType, skipMissing, keepRowKeys, ROWS_PER_PARTITION);
+    }
+
+    /**
+     * @param op the operation
+     * @param col1Idx the index of the column of the first set or -1 for the row ID
+     * @param col2Idx the index of the column of the second set or -1 for the row ID
+     * @param elementType the common type of both columns, null if they differ (elements are compared as strings)
+     * @param skipMissing whether missing cells are skipped
+     * @param keepRowKeys whether the row keys of each element are collected for the hilite mapping
+     * @param rowsPerPartition number of input rows up to which both sets are processed as a single partition
+     */
+    HashSetOperation(final SetOperation op, final int col1Idx, final int col2Idx, final DataType elementType,
+        final boolean skipMissing, final boolean keepRowKeys, final int rowsPerPartition) {
+        m_op = op;
+        m_col1Idx = col1Idx;
+        m_col2Idx = col2Idx;
+        m_differentType = elementType == null;
+        m_skipMissing = skipMissing;
+        m_keepRowKeys = keepRowKeys;
+        m_rowsPerPartition = rowsPerPartition;
+        if (IntCell.TYPE.equals(elementType) || LongCell.TYPE.equals(elementType)) {
+            m_longType = elementType;
+        } else {
+            m_longType = null;
+        }
+    }
+
+    /** @return the number of rows whose element was already part of the result */
+    long getDuplicateCounter() {
+        return m_duplicateCounter.get();
+    }
+
+    /** @return the number of skipped missing values */
+    long getMissingCounter() {
+        return m_missingCounter.get();
+    }
+
+    /**
+     * Computes the result set.
+     *
+     * @param exec for progress, cancellation and to create the temporary and result tables
+     * @param table1 the table of the first set
+     * @param table2 the table of the second set
+     * @param resultSpec the spec of the result table
+     * @param sortComparator the comparator to sort the result by or null to leave it unsorted
+     * @param hiliteMapping0 receives the rows of the first table of each result row, may be null
+     * @param hiliteMapping1 receives the rows of the second table of each result row, may be null
+     * @return the result table
+     * @throws CanceledExecutionException if canceled
+     */
+    BufferedDataTable execute(final ExecutionContext exec, final BufferedDataTable table1,
+        final BufferedDataTable table2, final DataTableSpec resultSpec, final DataValueComparator sortComparator,
+        final Map<RowKey, Set<RowKey>> hiliteMapping0, final Map<RowKey, Set<RowKey>> hiliteMapping1)
+        throws CanceledExecutionException {
+        final long rowCount = table1.size() + table2.size();
+        final int nrThreads = Runtime.getRuntime().availableProcessors();
+        final boolean sort = sortComparator != null;
+        // when sorting, the rows are renumbered in sort order and the hilite mapping is translated accordingly
+        final Map<RowKey, Set<RowKey>> unsortedMapping0 =
+            sort && hiliteMapping0 != null ? new HashMap<RowKey, Set<RowKey>>() : hiliteMapping0;
+        final Map<RowKey, Set<RowKey>> unsortedMapping1 =
+            sort && hiliteMapping1 != null ? new HashMap<RowKey, Set<RowKey>>() : hiliteMapping1;
+        final BufferedDataContainer dc = exec.createDataContainer(resultSpec);
+        final ResultWriter writer = new ResultWriter(dc, unsortedMapping0, unsortedMapping1);
+        if (rowCount <= m_rowsPerPartition) {
+            exec.setMessage("Hashing elements");
+            writer.write(process(table1, table2, false, exec.createSubProgress(sort ? 0.5 : 1), rowCount));
+        } else {
+            final int nrPartitions = (int)Math.min(MAX_PARTITIONS,
+                Math.max(nrThreads, (rowCount + m_rowsPerPartition - 1) / m_rowsPerPartition));
+            exec.setMessage("Partitioning elements");
+            final ExecutionContext partitionExec = exec.createSubExecutionContext(sort ? 0.3 : 0.5);
+            final BufferedDataTable[] parts1 = partition(partitionExec, table1, m_col1Idx, nrPartitions, rowCount, 0);
+            final BufferedDataTable[] parts2 =
+                partition(partitionExec, table2, m_col2Idx, nrPartitions, rowCount, table1.size());
+
+            exec.setMessage("Hashing partitions");
+            final ExecutionMonitor processExec = exec.createSubProgress(sort ? 0.2 : 0.5);
+            final ThreadPool pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(nrThreads);
+            final List<Future<PartitionResult>> futures = new ArrayList<Future<PartitionResult>>(nrPartitions);
+            for (int p = 0; p < nrPartitions; p++) {
+                final BufferedDataTable part1 = parts1[p];
+                final BufferedDataTable part2 = parts2[p];
+                futures.add(pool.enqueue(new Callable<PartitionResult>() {
+                    @Override
+                    public PartitionResult call() throws Exception {
+                        processExec.checkCanceled();
+                        return process(part1, part2, true, null, -1);
+                    }
+                }));
+            }
+            for (int p = 0; p < nrPartitions; p++) {
+                PartitionResult result = getResult(futures.get(p), processExec);
+                exec.clearTable(parts1[p]);
+                exec.clearTable(parts2[p]);
+                processExec.setProgress((p + 1) / (double)nrPartitions);
+                writer.write(result);
+            }
+        }
+        dc.close();
+        if (!sort) {
+            return dc.getTable();
+        }
+        exec.setMessage("Sorting result table");
+        return sortResult(exec.createSubExecutionContext(0.5), dc.getTable(), sortComparator, unsortedMapping0,
+            unsortedMapping1, hiliteMapping0, hiliteMapping1);
+    }
+
+    /**
+     * Sorts the result table and numbers its rows in sort order (as the sort-based strategy does).
+     *
+     * @param exec to sort and create the sorted table
+     * @param table the unsorted result table, cleared afterwards
+     * @param comparator to sort the elements by
+     * @param unsortedMapping0 the hilite mapping of the first set for the unsorted table, may be null
+     * @param unsortedMapping1 the hilite mapping of the second set for the unsorted table, may be null
+     * @param hiliteMapping0 receives the hilite mapping of the first set for the sorted table, may be null
+     * @param hiliteMapping1 receives the hilite mapping of the second set for the sorted table, may be null
+     * @return the sorted result table
+     */
+    private static BufferedDataTable sortResult(final ExecutionContext exec, final BufferedDataTable table,
+        final DataValueComparator comparator, final Map<RowKey, Set<RowKey>> unsortedMapping0,
+        final Map<RowKey, Set<RowKey>> unsortedMapping1, final Map<RowKey, Set<RowKey>> hiliteMapping0,
+        final Map<RowKey, Set<RowKey>> hiliteMapping1) throws CanceledExecutionException {
+        final BufferedDataTableSorter sorter =
+            new BufferedDataTableSorter(table, new SingleColRowComparator(0, comparator));
+        final BufferedDataTable sorted = sorter.sort(exec.createSubExecutionContext(0.7));
+        exec.clearTable(table);
+        final ExecutionMonitor renumberExec = exec.createSubProgress(0.3);
+        final BufferedDataContainer dc = exec.createDataContainer(sorted.getDataTableSpec());
+        final long rowCount = sorted.size();
+        long rowId = 0;
+        for (final DataRow row : sorted) {
+            renumberExec.checkCanceled();
+            final RowKey rowKey = RowKey.createRowKey(rowId++);
+            renumberExec.setProgress(rowId / (double)rowCount);
+            dc.addRowToTable(new DefaultRow(rowKey, row.getCell(0)));
+            if (hiliteMapping0 != null) {
+                final Set<RowKey> keys0 = unsortedMapping0.remove(row.getKey());
+                if (keys0 != null) {
+                    hiliteMapping0.put(rowKey, keys0);
+                }
+                final Set<RowKey> keys1 = unsortedMapping1.remove(row.getKey());
+                if (keys1 != null) {
+                    hiliteMapping1.put(rowKey, keys1);
+                }
+            }
+        }
+        dc.close();
+        exec.clearTable(sorted);
+        return dc.getTable();
+    }
+
+    /** @return the element of the given column or row ID, converted to a string if the set types differ */
+    private DataCell getElement(final DataRow row, final int colIdx) {
+        final DataCell cell;
+        if (colIdx < 0) {
+            cell = new StringCell(row.getKey().getString());
+        } else {
+            cell = row.getCell(colIdx);
+        }
+        if (m_differentType) {
+            // same conversion as in SetOperation#compute
+            return new StringCell(cell.toString());
+        }
+        return cell;
+    }
+
+    private static int partitionOf(final DataCell cell, final int nrPartitions) {
+        final int h = cell.hashCode() * 0x9E3779B9;
+        return (int)((h & 0xFFFFFFFFL) % nrPartitions);
+    }
+
+    /** Writes the elements of a table (row key and element) to one temporary table per partition. */
+    private BufferedDataTable[] partition(final ExecutionContext exec, final BufferedDataTable table,
+        final int colIdx, final int nrPartitions, final long rowCount, final long rowOffset)
+        throws CanceledExecutionException {
+        final DataType type = m_differentType ? StringCell.TYPE
+            : colIdx < 0 ? StringCell.TYPE : table.getDataTableSpec().getColumnSpec(colIdx).getType();
+        final DataTableSpec spec = new DataTableSpec(new DataColumnSpecCreator("Element", type).createSpec());
+        final BufferedDataContainer[] containers = new BufferedDataContainer[nrPartitions];
+        for (int p = 0; p < nrPartitions; p++) {
+            containers[p] = exec.createDataContainer(spec, false);
+        }
+        long rowIdx = rowOffset;
+        for (final DataRow row : table) {
+            exec.checkCanceled();
+            exec.setProgress(++rowIdx / (double)rowCount);
+            final DataCell element = getElement(row, colIdx);
+            if (m_skipMissing && element.isMissing()) {
+                m_missingCounter.incrementAndGet();
+                continue;
+            }
+            containers[partitionOf(element, nrPartitions)].addRowToTable(new DefaultRow(row.getKey(), element));
+        }
+        final BufferedDataTable[] tables = new BufferedDataTable[nrPartitions];
+        for (int p = 0; p < nrPartitions; p++) {
+            containers[p].close();
+            tables[p] = containers[p].getTable();
+        }
+        return tables;
+    }
+
+    /**
+     * Indexes the elements of both sets of a partition and selects the result elements.
+     *
+     * @param rows1 rows of the first set
+     * @param rows2 rows of the second set
+     * @param partitioned true if the rows are partition tables (element in the first column, missing cells already
+     *            skipped), false if they are the input tables
+     * @param exec for progress and cancellation, may be null
+     * @param rowCount the total number of rows for the progress
+     */
+    private PartitionResult process(final Iterable<DataRow> rows1, final Iterable<DataRow> rows2,
+        final boolean partitioned, final ExecutionMonitor exec, final long rowCount)
+        throws CanceledExecutionException {
+        final ElementIndex index = m_longType != null ? new LongIndex(m_longType) : new CellIndex();
+        final PartitionResult result = new PartitionResult(index, m_keepRowKeys);
+        long rowIdx = 0;
+        for (int set = 0; set < 2; set++) {
+            final int colIdx = set == 0 ? m_col1Idx : m_col2Idx;
+            for (final DataRow row : set == 0 ? rows1 : rows2) {
+                if (exec != null) {
+                    exec.checkCanceled();
+                    exec.setProgress(++rowIdx / (double)rowCount);
+                }
+                final DataCell element = partitioned ? row.getCell(0) : getElement(row, colIdx);
+                if (!partitioned && m_skipMissing && element.isMissing()) {
+                    m_missingCounter.incrementAndGet();
+                    continue;
+                }
+                result.add(index.getOrAdd(element), set, row.getKey());
+            }
+        }
+        result.select(m_op);
+        m_duplicateCounter.addAndGet(result.m_duplicates);
+        return result;
+    }
+
+    /**
+     * Waits for the partition; the calling thread doesn't count towards the limit of the global thread pool
+     * meanwhile, so the partitions are processed even if all threads of the pool are busy.
+     */
+    private static <T> T getResult(final Future<T> future, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        try {
+            return ThreadUtils.waitFor(future, exec);
+        } catch (final CanceledExecutionException e) {
+            future.cancel(true);
+            throw e;
+        } catch (final ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    /** The elements of a partition, which of the sets they are in and the selected result elements. */
+    private static final class PartitionResult {
+        private final ElementIndex m_index;
+
+        /** Bit 1: in first set, bit 2: in second set. */
+        private byte[] m_membership = new byte[16];
+
+        /** Number of rows per element. */
+        private int[] m_rowCounts = new int[16];
+
+        private final List<List<RowKey>> m_keys0;
+
+        private final List<List<RowKey>> m_keys1;
+
+        private int[] m_selected;
+
+        private long m_duplicates;
+
+        PartitionResult(final ElementIndex index, final boolean keepRowKeys) {
+            m_index = index;
+            m_keys0 = keepRowKeys ? new ArrayList<List<RowKey>>() : null;
+            m_keys1 = keepRowKeys ? new ArrayList<List<RowKey>>() : null;
+        }
+
+        void add(final int id, final int set, final RowKey key) {
+            if (id >= m_membership.length) {
+                m_membership = Arrays.copyOf(m_membership, Math.max(id + 1, 2 * m_membership.length));
+                m_rowCounts = Arrays.copyOf(m_rowCounts, m_membership.length);
+            }
+            m_membership[id] |= 1 << set;
+            m_rowCounts[id]++;
+            if (m_keys0 != null) {
+                final List<List<RowKey>> keys = set == 0 ? m_keys0 : m_keys1;
+                while (keys.size() <= id) {
+                    keys.add(null);
+                }
+                List<RowKey> list = keys.get(id);
+                if (list == null) {
+                    list = new ArrayList<RowKey>(1);
+                    keys.set(id, list);
+                }
+                list.add(key);
+            }
+        }
+
+        void select(final SetOperation op) {
+            final int size = m_index.size();
+            int[] selected = new int[size];
+            int nrSelected = 0;
+            for (int id = 0; id < size; id++) {
+                final boolean in1 = (m_membership[id] & 1) != 0;
+                final boolean in2 = (m_membership[id] & 2) != 0;
+                final boolean select;
+                switch (op) {
+                    case AND:
+                        select = in1 && in2;
+                        break;
+                    case OR:
+                        select = true;
+                        break;
+                    case MINUS:
+                        select = in1 && !in2;
+                        break;
+                    case XOR:
+                        select = in1 != in2;
+                        break;
+                    default:
+                        throw new IllegalStateException("Operation " + op.getName() + " not implemented");
+                }
+                if (select) {
+                    selected[nrSelected++] = id;
+                    m_duplicates += m_rowCounts[id] - 1;
+                }
+            }
+            m_selected = Arrays.copyOf(selected, nrSelected);
+            m_membership = null;
+            m_rowCounts = null;
+        }
+
+        int size() {
+            return m_selected.length;
+        }
+
+        DataCell getElement(final int i) {
+            return m_index.getCell(m_selected[i]);
+        }
+
+        Set<RowKey> getKeys(final int i, final int set) {
+            final List<List<RowKey>> keys = set == 0 ? m_keys0 : m_keys1;
+            final int id = m_selected[i];
+            if (keys == null || id >= keys.size() || keys.get(id) == null) {
+                return null;
+            }
+            return new LinkedHashSet<RowKey>(keys.get(id));
+        }
+    }
+
+    /** Writes result elements to the container and fills the hilite mapping. */
+    private static final class ResultWriter {
+        private final BufferedDataContainer m_dc;
+
+        private final Map<RowKey, Set<RowKey>> m_hiliteMapping0;
+
+        private final Map<RowKey, Set<RowKey>> m_hiliteMapping1;
+
+        private long m_rowId = 0;
+
+        ResultWriter(final BufferedDataContainer dc, final Map<RowKey, Set<RowKey>> hiliteMapping0,
+            final Map<RowKey, Set<RowKey>> hiliteMapping1) {
+            m_dc = dc;
+            m_hiliteMapping0 = hiliteMapping0;
+            m_hiliteMapping1 = hiliteMapping1;
+        }
+
+        void write(final PartitionResult result) {
+            for (int i = 0; i < result.size(); i++) {
+                write(result, i);
+            }
+        }
+
+        private void write(final PartitionResult result, final int i) {
+            final RowKey rowKey = RowKey.createRowKey(m_rowId++);
+            m_dc.addRowToTable(new DefaultRow(rowKey, result.getElement(i)));
+            if (m_hiliteMapping0 != null) {
+                final Set<RowKey> keys0 = result.getKeys(i, 0);
+                if (keys0 != null) {
+                    m_hiliteMapping0.put(rowKey, keys0);
+                }
+                final Set<RowKey> keys1 = result.getKeys(i, 1);
+                if (keys1 != null) {
+                    m_hiliteMapping1.put(rowKey, keys1);
+                }
+            }
+        }
+    }
+
+    /** Assigns consecutive ids to distinct elements. */
+    private abstract static class ElementIndex {
+        /**
+         * @param cell an element
+         * @return the id of the element, a new id if it was not seen before
+         */
+        abstract int getOrAdd(DataCell cell);
+
+        /** @return the number of distinct elements */
+        abstract int size();
+
+        /**
+         * @param id an id returned by {@link #getOrAdd(DataCell)}
+         * @return the element
+         */
+        abstract DataCell getCell(int id);
+    }
+
+    /**
+     * Index based on a hash map of cells. Double cells are looked up by a {@link Double}, as {@link DoubleCell}
+     * considers 0.0 and -0.0 equal but gives them different hash codes, whereas the comparator distinguishes them.
+     */
+    private static final class CellIndex extends ElementIndex {
+        private final Map<Object, Integer> m_ids = new HashMap<Object, Integer>();
+
+        private final List<DataCell> m_cells = new ArrayList<DataCell>();
+
+        @Override
+        int getOrAdd(final DataCell cell) {
+            final Object key = cell instanceof DoubleCell ? Double.valueOf(((DoubleCell)cell).getDoubleValue()) : cell;
+            Integer id = m_ids.get(key);
+            if (id == null) {
+                id = m_cells.size();
+                m_ids.put(key, id);
+                m_cells.add(cell);
+            }
+            return id;
+        }
+
+        @Override
+        int size() {
+            return m_cells.size();
+        }
+
+        @Override
+        DataCell getCell(final int id) {
+            return m_cells.get(id);
+        }
+    }
+
+    /**
+     * Index for integer and long cells. The values are kept in an open addressing table of primitive longs, which
+     * avoids boxing and the calls of {@link DataCell#hashCode()} and {@link DataCell#equals(Object)}. Other cells
+     * (i.e. missing cells) are kept in a map.
+     */
+    private static final class LongIndex extends ElementIndex {
+        private final DataType m_type;
+
+        private long[] m_keys = new long[16];
+
+        /** Id + 1, 0 marks an empty slot. */
+        private int[] m_slotIds = new int[16];
+
+        private int m_shift = 64 - 4;
+
+        /** The long value of each id. */
+        private long[] m_values = new long[16];
+
+        /** Cells that are not of the column type, by id. */
+        private Map<Integer, DataCell> m_otherCells;
+
+        private Map<DataCell, Integer> m_otherIds;
+
+        private int m_size;
+
+        LongIndex(final DataType type) {
+            m_type = type;
+        }
+
+        private int slot(final long key) {
+            return (int)((key * 0x9E3779B97F4A7C15L) >>> m_shift);
+        }
+
+        @Override
+        int getOrAdd(final DataCell cell) {
+            if (cell.isMissing() || !(cell instanceof LongValue) || !m_type.equals(cell.getType())) {
+                if (m_otherIds == null) {
+                    m_otherIds = new HashMap<DataCell, Integer>();
+                    m_otherCells = new HashMap<Integer, DataCell>();
+                }
+                Integer id = m_otherIds.get(cell);
+                if (id == null) {
+                    id = newId(0);
+                    m_otherIds.put(cell, id);
+                    m_otherCells.put(id, cell);
+                }
+                return id;
+            }
+            final long key = ((LongValue)cell).getLongValue();
+            final int mask = m_keys.length - 1;
+            int s = slot(key);
+            while (m_slotIds[s] != 0) {
+                if (m_keys[s] == key) {
+                    return m_slotIds[s] - 1;
+                }
+                s = (s + 1) & mask;
+            }
+            final int id = newId(key);
+            m_keys[s] = key;
+            m_slotIds[s] = id + 1;
+            if (2 * m_size > m_keys.length) {
+                rehash();
+            }
+            return id;
+        }
+
+        private int newId(final long value) {
+            if (m_size == m_values.length) {
+                m_values = Arrays.copyOf(m_values, 2 * m_size);
+            }
+            m_values[m_size] = value;
+            return m_size++;
+        }
+
+        private void rehash() {
+            final long[] keys = m_keys;
+            final int[] ids = m_slotIds;
+            m_keys = new long[keys.length << 1];
+            m_slotIds = new int[keys.length << 1];
+            m_shift--;
+            final int mask = m_keys.length - 1;
+            for (int i = 0; i < keys.length; i++) {
+                if (ids[i] != 0) {
+                    int s = slot(keys[i]);
+                    while (m_slotIds[s] != 0) {
+                        s = (s + 1) & mask;
+                    }
+                    m_keys[s] = keys[i];
+                    m_slotIds[s] = ids[i];
+                }
+            }
+        }
+
+        @Override
+        int size() {
+            return m_size;
+        }
+
+        @Override
+        DataCell getCell(final int id) {
+            if (m_otherCells != null) {
+                final DataCell cell = m_otherCells.get(id);
+                if (cell != null) {
+                    return cell;
+                }
+            }
+            if (IntCell.TYPE.equals(m_type)) {
+                return new IntCell((int)m_values[id]);
+            }
+            return new LongCell(m_values[id]);
+        }
+    }
+}
@@ -198,8 +198,44 @@ public SetOperationTable(final ExecutionContext exec,
             final SetOperation op, final boolean enableHilite,
             final boolean skipMissing)
     throws CanceledExecutionException, Exception {
-        this(exec, useRowID1, col1, table1, useRowID2, col2, table2, op, enableHilite, skipMissing, false);
+        this(exec, useRowID1, col1, table1, useRowID2, col2, table2, op, enableHilite, skipMissing, false, false,
+            true);
     }
+
+    /**Constructor for class SetOperationTable.
+     * @param exec the {@link ExecutionContext}
+     * @param useRowID1 <code>true</code> if the row id should be used instead
+     * of a column
+     * @param col1 the column name of the first set
+     * @param table1 the table of the first set
+     * @param useRowID2 <code>true</code> if the row id should be used instead
+     * of a column
+     * @param col2 the column name of the second set
+     * @param table2 the table of the second set
+     * @param op the {@link SetOperation} to perform
+     * @param enableHilite <code>true</code> if hilite translation should
+     * be performed
+     * @param skipMissing <code>true</code> if missing cells should be skipped
+     * @param useHashing <code>true</code> if the elements should be hashed
+     * (in parallel partitions) instead of sorting both input tables
+     * @param sortOutput <code>true</code> if the result should be sorted.
+     * Only evaluated if hashing is used, otherwise the result is always sorted.
+     * @throws CanceledExecutionException if the operation was canceled
+     * @throws Exception if the sorting failed
+     * @since 3.6
+     */
+    public SetOperationTable(final ExecutionContext exec,
+            final boolean useRowID1, final String col1,
+            final BufferedDataTable table1, final boolean useRowID2,
+            final String col2, final BufferedDataTable table2,
+            final SetOperation op, final boolean enableHilite,
+            final boolean skipMissing, final boolean useHashing,
+            final boolean sortOutput)
+    throws CanceledExecutionException, Exception {
+        this(exec, useRowID1, col1, table1, useRowID2, col2, table2, op, enableHilite, skipMissing, false, useHashing,
+            sortOutput);
+    }
+
     /**Constructor for class SetOperationTable.
      * @param exec the {@link ExecutionContext}
      * @param useRowID1 <code>true</code> if the row id should be used instead
@@ -229,6 +265,18 @@ public SetOperationTable(final ExecutionContext exec,
             final String col2, final BufferedDataTable table2,
             final SetOperation op, final boolean enableHilite,
             final boolean skipMissing, final boolean sortInMemory)
+    throws CanceledExecutionException, Exception {
+        this(exec, useRowID1, col1, table1, useRowID2, col2, table2, op, enableHilite, skipMissing, sortInMemory,
+            false, true);
+    }
+
+    private SetOperationTable(final ExecutionContext exec,
+            final boolean useRowID1, final String col1,
+            final BufferedDataTable table1, final boolean useRowID2,
+            final String col2, final BufferedDataTable table2,
+            final SetOperation op, final boolean enableHilite,
+            final boolean skipMissing, final boolean sortInMemory,
+            final boolean useHashing, final boolean sortOutput)
     throws CanceledExecutionException, Exception {
         if (exec == null) {
             throw new NullPointerException("exec must not be null");
@@ -303,6 +351,20 @@ public SetOperationTable(final ExecutionContext exec,
         } else {
             comp = op.getComparator(col1Spec, col2Spec);
         }
+        if (useHashing) {
+            final DataTableSpec resultSpec =
+                createResultTableSpec(op, col1Spec, col2Spec);
+            final boolean differentType = useRowID1 || useRowID2
+                    || !col1Spec.getType().equals(col2Spec.getType());
+            final HashSetOperation hashOp = new HashSetOperation(op, col1Idx,
+                col2Idx, differentType ? null : col1Spec.getType(),
+                skipMissing, m_hiliteMapping0 != null);
+            m_resultTable = hashOp.execute(exec, table1, table2, resultSpec,
+                sortOutput ? comp : null, m_hiliteMapping0, m_hiliteMapping1);
+            m_duplicateCounter = hashOp.getDuplicateCounter();
+            m_missingCounter = hashOp.getMissingCounter();
+            return;
+        }
         exec.setMessage("Sorting input tables...");
         final SingleColRowComparator rowComparator1 =
             new SingleColRowComparator(col1Idx, comp);
@@ -48,7 +48,10 @@
 
 package org.knime.base.node.preproc.setoperator;
 
+import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataValue;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NotConfigurableException;
 import org.knime.core.node.defaultnodesettings.DefaultNodeSettingsPane;
 import org.knime.core.node.defaultnodesettings.DialogComponent;
 import org.knime.core.node.defaultnodesettings.DialogComponentBoolean;
@@ -78,6 +81,10 @@ public class SetOperatorNodeDialog extends DefaultNodeSettingsPane {
 
     private final SettingsModelBoolean m_skipMissing;
 
+    private final SettingsModelBoolean m_useHashing = SetOperatorNodeModel.createUseHashingModel();
+
+    private final SettingsModelBoolean m_sortOutput = SetOperatorNodeModel.createSortOutputModel();
+
 
     /**Constructor for claprivaterNodeDialog.
      *
@@ -107,5 +114,21 @@ public SetOperatorNodeDialog() {
         setHorizontalPlacement(true);
         addDialogComponent(enableHilite);
         addDialogComponent(skipMissing);
+        setHorizontalPlacement(false);
+        m_useHashing.addChangeListener(e -> m_sortOutput.setEnabled(m_useHashing.getBooleanValue()));
+        createNewGroup("Strategy");
+        setHorizontalPlacement(true);
+        addDialogComponent(new DialogComponentBoolean(m_useHashing, "Hash elements (parallel)"));
+        addDialogComponent(new DialogComponentBoolean(m_sortOutput, "Sort result"));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void loadAdditionalSettingsFrom(final NodeSettingsRO settings, final DataTableSpec[] specs)
+        throws NotConfigurableException {
+        // the enable status saved with the sort option is not reliable (e.g. for workflows saved before 3.6)
+        m_sortOutput.setEnabled(m_useHashing.getBooleanValue());
     }
 }
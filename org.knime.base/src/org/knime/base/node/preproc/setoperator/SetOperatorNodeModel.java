@@ -91,6 +91,12 @@ public class SetOperatorNodeModel extends NodeModel {
     protected static final String CFG_SKIP_MISSING = "skipMissing";
     /**Configuration key for the enable hilite option.*/
     protected static final String CFG_ENABLE_HILITE = "enableHilite";
+    /**Configuration key for the hash-based strategy.
+     * @since 3.6*/
+    protected static final String CFG_USE_HASHING = "useHashing";
+    /**Configuration key for the sort output option of the hash-based strategy.
+     * @since 3.6*/
+    protected static final String CFG_SORT_OUTPUT = "sortOutput";
 
     private final SettingsModelColumnName m_col1 =
         new SettingsModelColumnName(SetOperatorNodeModel.CFG_COL1, null);
@@ -104,6 +110,10 @@ public class SetOperatorNodeModel extends NodeModel {
 
     private final SettingsModelBoolean m_skipMissing;
 
+    private final SettingsModelBoolean m_useHashing = createUseHashingModel();
+
+    private final SettingsModelBoolean m_sortOutput = createSortOutputModel();
+
     private static final String HILITE_MAPPING0 = "hilite_mapping0.xml.gz";
     private static final String HILITE_MAPPING1 = "hilite_mapping1.xml.gz";
 
@@ -122,6 +132,21 @@ protected SetOperatorNodeModel() {
         m_skipMissing = new SettingsModelBoolean(CFG_SKIP_MISSING, true);
     }
 
+    /**
+     * @return the settings model for the hash-based strategy, new nodes hash the elements instead of sorting the
+     *         input tables
+     */
+    static SettingsModelBoolean createUseHashingModel() {
+        return new SettingsModelBoolean(CFG_USE_HASHING, true);
+    }
+
+    /**
+     * @return the settings model for sorting the result of the hash-based strategy
+     */
+    static SettingsModelBoolean createSortOutputModel() {
+        return new SettingsModelBoolean(CFG_SORT_OUTPUT, false);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -156,6 +181,14 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings)
         m_setOp.loadSettingsFrom(settings);
         m_skipMissing.loadSettingsFrom(settings);
         m_enableHilite.loadSettingsFrom(settings);
+        try {
+            m_useHashing.loadSettingsFrom(settings);
+            m_sortOutput.loadSettingsFrom(settings);
+        } catch (final InvalidSettingsException e) {
+            // added in 3.6, old workflows keep the sort-based strategy
+            m_useHashing.setBooleanValue(false);
+            m_sortOutput.setBooleanValue(true);
+        }
     }
 
     /**
@@ -168,6 +201,8 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
         m_setOp.saveSettingsTo(settings);
         m_skipMissing.saveSettingsTo(settings);
         m_enableHilite.saveSettingsTo(settings);
+        m_useHashing.saveSettingsTo(settings);
+        m_sortOutput.saveSettingsTo(settings);
     }
 
     /**
@@ -251,7 +286,8 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
         final SetOperationTable table = new SetOperationTable(exec,
                 m_col1.useRowID(), m_col1.getColumnName(), inData[0],
                 m_col2.useRowID(), m_col2.getColumnName(), inData[1],
-                op, m_enableHilite.getBooleanValue(), m_skipMissing.getBooleanValue());
+                op, m_enableHilite.getBooleanValue(), m_skipMissing.getBooleanValue(),
+                m_useHashing.getBooleanValue(), m_sortOutput.getBooleanValue());
         if (m_enableHilite.getBooleanValue()) {
             m_trans0.setMapper(
                     new DefaultHiLiteMapper(table.getHiliteMapping0()));
@@ -159,6 +159,9 @@ protected void loadSettingsFrom(final NodeSettingsRO settings,
         // set the values on the panel
         m_panel.update(specs[SorterNodeModel.INPORT], list, sortOrder,
                 NRSORTITEMS, sortinMemory, sortMissingToEnd);
+        m_panel.setTopK(settings.getBoolean(SorterNodeModel.TOPK_KEY, false),
+                settings.getInt(SorterNodeModel.TOPK_COUNT_KEY,
+                        SorterNodeModel.DEFAULT_TOPK_COUNT));
     }
 
     /**
@@ -184,5 +187,8 @@ protected void saveSettingsTo(final NodeSettingsWO settings)
                 .sortInMemory());
         settings.addBoolean(SorterNodeModel.MISSING_TO_END_KEY,
                 m_panel.isSortMissingToEnd());
+        settings.addBoolean(SorterNodeModel.TOPK_KEY, m_panel.isTopK());
+        settings.addInt(SorterNodeModel.TOPK_COUNT_KEY,
+                m_panel.getTopKCount());
     }
 }
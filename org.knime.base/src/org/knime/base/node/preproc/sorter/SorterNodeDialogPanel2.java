@@ -122,6 +122,12 @@ public class SorterNodeDialogPanel2 extends JPanel {
      * chosen sort order. */
     private final JCheckBox m_sortMissingToEndChecker;
 
+    /** Checkbox to only retain the first rows of the sorted table. */
+    private final JCheckBox m_topKChecker;
+
+    /** Number of rows to retain if {@link #m_topKChecker} is selected. */
+    private final JSpinner m_topKSpinner;
+
     /**
      * Constructs a new empty JPanel used for displaying the three first
      * selected columns in the according order and the sorting order for each.
@@ -137,6 +143,20 @@ public class SorterNodeDialogPanel2 extends JPanel {
         m_sortMissingToEndChecker.setToolTipText("Missing values will be "
                 + "moved to the end independent of the sort order ("
                 + "otherwise they are considered to be the smallest elements)");
+        m_topKSpinner = new JSpinner(
+                new SpinnerNumberModel(10, 0, Integer.MAX_VALUE, 10));
+        m_topKSpinner.setMaximumSize(new Dimension(100, 25));
+        m_topKSpinner.setPreferredSize(new Dimension(100, 25));
+        m_topKChecker = new JCheckBox("Only retain the first rows: ");
+        m_topKChecker.setToolTipText("Selects the first rows of the sorted "
+                + "table in a single pass without sorting the entire table");
+        m_topKChecker.addActionListener(new ActionListener() {
+            @Override
+            public void actionPerformed(final ActionEvent e) {
+                m_topKSpinner.setEnabled(m_topKChecker.isSelected());
+            }
+        });
+        m_topKSpinner.setEnabled(false);
     }
 
     /**
@@ -293,6 +313,12 @@ public void actionPerformed(final ActionEvent ae) {
             m_sortMissingToEndChecker.setSelected(missingToEnd);
             missingToEndBox.add(m_sortMissingToEndChecker);
             super.add(missingToEndBox);
+
+            Box topKBox = Box.createHorizontalBox();
+            topKBox.add(m_topKChecker);
+            topKBox.add(m_topKSpinner);
+            topKBox.add(Box.createHorizontalGlue());
+            super.add(topKBox);
             revalidate();
         }
     }
@@ -349,6 +375,28 @@ public boolean[] getSortOrder() {
         return boolarray;
     }
 
+    /**
+     * Sets the top-k selection.
+     *
+     * @param topK whether to only retain the first rows
+     * @param topKCount the number of rows to retain
+     */
+    void setTopK(final boolean topK, final int topKCount) {
+        m_topKChecker.setSelected(topK);
+        m_topKSpinner.setValue(topKCount);
+        m_topKSpinner.setEnabled(topK);
+    }
+
+    /** @return whether only the first rows are retained */
+    boolean isTopK() {
+        return m_topKChecker.isSelected();
+    }
+
+    /** @return the number of rows to retain if {@link #isTopK()} */
+    int getTopKCount() {
+        return ((Number)m_topKSpinner.getValue()).intValue();
+    }
+
     /** @return the sortMissingToEnd checkbox property */
     boolean isSortMissingToEnd() {
         return m_sortMissingToEndChecker.isSelected();
@@ -50,10 +50,16 @@
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
+import org.knime.core.data.DataRow;
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.sort.BufferedDataTableSorter;
+import org.knime.core.data.sort.TopKSelector;
+import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.data.util.memory.MemoryAlertSystem.MemoryActionIndicator;
+import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionContext;
@@ -62,6 +68,14 @@
 import org.knime.core.node.NodeModel;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.StreamableOperator;
 import org.knime.core.node.util.ConvenienceMethods;
 
 /**
@@ -110,6 +124,21 @@ public class SorterNodeModel extends NodeModel {
      */
     static final String MISSING_TO_END_KEY = "missingToEnd";
 
+    /**
+     * Settings key: Only retain the first rows of the sorted table.
+     * @since 3.6
+     */
+    static final String TOPK_KEY = "topK";
+
+    /**
+     * Settings key: Number of rows to retain if {@link #TOPK_KEY} is set.
+     * @since 3.6
+     */
+    static final String TOPK_COUNT_KEY = "topKCount";
+
+    /** Default for {@link #TOPK_COUNT_KEY}. */
+    static final int DEFAULT_TOPK_COUNT = 10;
+
     /*
      * List contains the data cells to include.
      */
@@ -132,6 +161,15 @@ public class SorterNodeModel extends NodeModel {
      */
     private boolean m_missingToEnd = false;
 
+    /** Only retain the first {@link #m_topKCount} rows of the sorted table,
+     * which are selected without sorting the entire table.
+     * @since 3.6
+     */
+    private boolean m_topK = false;
+
+    /** Number of rows to retain if {@link #m_topK} is set. */
+    private int m_topKCount = DEFAULT_TOPK_COUNT;
+
     /**
      * Inits a new <code>SorterNodeModel</code> with one in- and one output.
      *
@@ -173,11 +211,112 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
         BufferedDataTableSorter sorter = new BufferedDataTableSorter(
                 inData[INPORT], m_inclList, m_sortOrder, m_missingToEnd);
         sorter.setSortInMemory(m_sortInMemory);
+        if (m_topK) {
+            sorter.setTopK(m_topKCount);
+        }
         BufferedDataTable sortedTable = sorter.sort(exec);
 
         return new BufferedDataTable[]{sortedTable};
     }
 
+    /** @return whether the first rows are selected from the streamed input,
+     * i.e. top-k selection with at least one sort column */
+    private boolean isStreamable() {
+        return m_topK && m_inclList != null && !m_inclList.isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputPortRole[] getInputPortRoles() {
+        if (isStreamable()) {
+            // the input is read once, only the selected rows are kept
+            return new InputPortRole[]{
+                InputPortRole.NONDISTRIBUTED_STREAMABLE};
+        }
+        return super.getInputPortRoles();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public StreamableOperator createStreamableOperator(
+            final PartitionInfo partitionInfo,
+            final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+        if (!isStreamable()) {
+            return super.createStreamableOperator(partitionInfo, inSpecs);
+        }
+        final DataTableSpec spec = (DataTableSpec)inSpecs[INPORT];
+        final Comparator<DataRow> comparator;
+        try {
+            comparator = BufferedDataTableSorter.createRowComparator(
+                    spec, m_inclList, m_sortOrder, m_missingToEnd);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidSettingsException(e.getMessage(), e);
+        }
+        return new StreamableOperator() {
+            @Override
+            public void runFinal(final PortInput[] inputs,
+                    final PortOutput[] outputs, final ExecutionContext exec)
+                    throws Exception {
+                RowInput in = (RowInput)inputs[INPORT];
+                RowOutput out = (RowOutput)outputs[OUTPORT];
+                TopKSelector<DataRow> selector =
+                    new TopKSelector<DataRow>(comparator, m_topKCount);
+                MemoryActionIndicator memIndicator =
+                    MemoryAlertSystem.getInstance().newIndicator();
+                // large selections are sorted on disk right away, like
+                // the sorter does for non-streamed input
+                BufferedDataContainer remaining = m_sortInMemory
+                    || m_topKCount <= BufferedDataTableSorter
+                        .DEF_MAX_TOPK_IN_MEMORY ? null
+                    : exec.createDataContainer(spec);
+                DataRow row;
+                while ((row = in.poll()) != null) {
+                    exec.checkCanceled();
+                    if (remaining != null) {
+                        remaining.addRowToTable(row);
+                        continue;
+                    }
+                    selector.add(row);
+                    exec.setMessage("Read row " + selector.getCount());
+                    if (!m_sortInMemory
+                            && memIndicator.lowMemoryActionRequired()) {
+                        // the selected rows precede all remaining rows,
+                        // hence the (stable) sort keeps the order of ties
+                        remaining = exec.createDataContainer(spec);
+                        for (DataRow r : selector.getSelection()) {
+                            remaining.addRowToTable(r);
+                        }
+                        selector.clear();
+                    }
+                }
+                in.close();
+                if (remaining == null) {
+                    for (DataRow r : selector.getSelection()) {
+                        exec.checkCanceled();
+                        out.push(r);
+                    }
+                } else {
+                    remaining.close();
+                    BufferedDataTableSorter sorter =
+                        new BufferedDataTableSorter(remaining.getTable(),
+                            m_inclList, m_sortOrder, m_missingToEnd);
+                    sorter.setTopK(m_topKCount);
+                    BufferedDataTable sorted = sorter.sort(exec);
+                    exec.clearTable(remaining.getTable());
+                    for (DataRow r : sorted) {
+                        exec.checkCanceled();
+                        out.push(r);
+                    }
+                }
+                out.close();
+            }
+        };
+    }
+
     /**
      * Resets all internal data.
      */
@@ -238,6 +377,9 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
         settings.addBoolean(SORTINMEMORY_KEY, m_sortInMemory);
         // added in 2.6
         settings.addBoolean(MISSING_TO_END_KEY, m_missingToEnd);
+        // added in 3.6
+        settings.addBoolean(TOPK_KEY, m_topK);
+        settings.addInt(TOPK_COUNT_KEY, m_topKCount);
     }
 
     /**
@@ -271,6 +413,13 @@ protected void validateSettings(final NodeSettingsRO settings)
             throw new InvalidSettingsException("No sort order specified.");
         }
         // no "missingToBottom" prior 2.6
+        // no top-k selection prior 3.6
+        int topKCount = settings.getInt(TOPK_COUNT_KEY, DEFAULT_TOPK_COUNT);
+        if (topKCount < 0) {
+            throw new InvalidSettingsException(
+                    "Number of rows to retain must not be negative: "
+                    + topKCount);
+        }
     }
 
     /**
@@ -293,6 +442,9 @@ protected void loadValidatedSettingsFrom(final NodeSettingsRO settings)
         }
         // added in 2.6, catch missing setting
         m_missingToEnd = settings.getBoolean(MISSING_TO_END_KEY, false);
+        // added in 3.6
+        m_topK = settings.getBoolean(TOPK_KEY, false);
+        m_topKCount = settings.getInt(TOPK_COUNT_KEY, DEFAULT_TOPK_COUNT);
     }
 
     /**
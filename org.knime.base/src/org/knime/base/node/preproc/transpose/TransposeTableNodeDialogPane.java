@@ -54,20 +54,25 @@
  */
 public class TransposeTableNodeDialogPane extends DefaultNodeSettingsPane {
 
+    /** Default for the maximum number of cells held in memory. */
+    static final int DEFAULT_MAX_CELLS_IN_MEMORY = 1000000;
+
     /**
-     * Create new dialog with option to set number of columns to chunk.
+     * Create new dialog with option to set the memory budget.
      */
     TransposeTableNodeDialogPane() {
         super.addDialogComponent(new DialogComponentNumber(
-                createChunkSizeModel(), "Chunk size (columns): ", 10)); 
+                createMaxCellsInMemoryModel(),
+                "Maximum number of cells in memory: ", 100000, 10));
     }
     
     /**
-     * @return bounded integer model for chunk size
+     * @return bounded integer model for the maximum number of cells held in
+     * memory (added in 3.6, replaces the chunk size)
      */
-    static final SettingsModelIntegerBounded createChunkSizeModel() {
-        return new SettingsModelIntegerBounded(
-                "chunk_size", 10, 1, Integer.MAX_VALUE);
+    static final SettingsModelIntegerBounded createMaxCellsInMemoryModel() {
+        return new SettingsModelIntegerBounded("max_cells_in_memory",
+                DEFAULT_MAX_CELLS_IN_MEMORY, 1, Integer.MAX_VALUE);
     }
     
 }
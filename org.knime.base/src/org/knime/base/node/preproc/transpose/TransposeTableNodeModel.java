@@ -48,8 +48,10 @@
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
@@ -64,27 +66,42 @@
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeModel;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.defaultnodesettings.SettingsModelIntegerBounded;
 import org.knime.core.node.property.hilite.HiLiteHandler;
 import org.knime.core.node.util.CheckUtils;
+import org.knime.core.util.ThreadPool;
+import org.knime.core.util.ThreadUtils;
 
 /**
  * Model of the transpose node which swaps rows and columns. In addition, a new
  * <code>HiLiteHandler</code> is provided at the output.
  *
+ * <p>
+ * If the table does not fit into the memory budget, the columns of the input
+ * are split into bands, each of which fits into memory once transposed. The
+ * input is read once (or once per {@link #MAX_OPEN_BANDS} bands) and each
+ * block of input rows is written to temporary tables holding the cells of one
+ * band each (the tiles), one band per thread. The output rows of a band are
+ * then assembled from its tile while the next band is read in the background.
+ *
  * @author Thomas Gabriel, University of Konstanz
  */
 final class TransposeTableNodeModel extends NodeModel {
 
+    /** Maximum number of tiles that are written during one pass over the
+     * input, limits the number of open files. */
+    static final int MAX_OPEN_BANDS = 128;
+
     /** Output hilite handler for new data generated during execute. */
     private final HiLiteHandler m_outHiLite;
 
-    /** Chunk size model. */
-    private final SettingsModelIntegerBounded m_chunkSize
-        = TransposeTableNodeDialogPane.createChunkSizeModel();
+    /** Maximum number of cells held in memory. */
+    private final SettingsModelIntegerBounded m_maxCellsInMemory
+        = TransposeTableNodeDialogPane.createMaxCellsInMemoryModel();
 
     /**
      * Creates a transpose model with one data in- and output.
@@ -100,7 +117,7 @@ final class TransposeTableNodeModel extends NodeModel {
      */
     @Override
     protected void saveSettingsTo(final NodeSettingsWO settings) {
-        m_chunkSize.saveSettingsTo(settings);
+        m_maxCellsInMemory.saveSettingsTo(settings);
     }
 
     /**
@@ -109,8 +126,10 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
     @Override
     protected void validateSettings(final NodeSettingsRO settings)
             throws InvalidSettingsException {
-        // TODO (tg) option not available before 2.0
-        // m_chunkSize.validateSettings(settings);
+        // option not available before 3.6 (replaces the chunk size)
+        if (settings.containsKey(m_maxCellsInMemory.getKey())) {
+            m_maxCellsInMemory.validateSettings(settings);
+        }
     }
 
     /**
@@ -120,10 +139,11 @@ protected void validateSettings(final NodeSettingsRO settings)
     protected void loadValidatedSettingsFrom(final NodeSettingsRO settings)
             throws InvalidSettingsException {
         try {
-            m_chunkSize.loadSettingsFrom(settings);
+            m_maxCellsInMemory.loadSettingsFrom(settings);
         } catch (InvalidSettingsException ise) {
-            // TODO (tg) before 2.0 this option was not available
-            m_chunkSize.setIntValue(1);
+            // before 3.6 the number of columns per pass was configured
+            m_maxCellsInMemory.setIntValue(
+                TransposeTableNodeDialogPane.DEFAULT_MAX_CELLS_IN_MEMORY);
         }
     }
 
@@ -172,19 +192,244 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
         // new number of columns = number of rows
         CheckUtils.checkState(inData[0].size() <= Integer.MAX_VALUE, "Transpose operation can't handle more rows than " + Integer.MAX_VALUE);
         final int newNrCols = (int)inData[0].size();
-        // new column names
-        final ArrayList<String> colNames = new ArrayList<String>();
-        // new column types
-        final ArrayList<DataType> colTypes = new ArrayList<DataType>();
-        // over entire table
-
-        // index for unique colNames if row id only contains whitespace
-        int idx = 0;
+        // new number of rows
+        final int newNrRows = spec.getNumColumns();
+        final long maxCells = m_maxCellsInMemory.getIntValue();
+        BufferedDataTable result;
+        if ((long)newNrRows * newNrCols <= maxCells) {
+            result = transposeInMemory(inData[0], exec);
+        } else {
+            result = transposeTiled(inData[0], maxCells, exec);
+        }
+        exec.setProgress(1.0, "Finished");
+        return new BufferedDataTable[]{result};
+    }
 
-        for (DataRow row : inData[0]) {
+    /** Transposes a table whose cells all fit into memory in one pass. */
+    static BufferedDataTable transposeInMemory(
+            final BufferedDataTable table, final ExecutionContext exec)
+            throws CanceledExecutionException {
+        final DataTableSpec spec = table.getDataTableSpec();
+        final int newNrCols = (int)table.size();
+        final int newNrRows = spec.getNumColumns();
+        final OutputColumns outColumns = new OutputColumns(newNrCols);
+        final DataCell[][] cells = new DataCell[newNrRows][newNrCols];
+        int rowIdx = 0;
+        for (DataRow row : table) {
+            exec.checkCanceled();
+            exec.setProgress(0.5 * rowIdx / newNrCols, "Transpose row \""
+                    + row.getKey().getString() + "\" to column.");
+            outColumns.add(row);
+            for (int c = 0; c < newNrRows; c++) {
+                cells[c][rowIdx] = row.getCell(c);
+            }
+            rowIdx++;
+        }
+        BufferedDataContainer cont =
+            exec.createDataContainer(outColumns.createSpec());
+        for (int r = 0; r < newNrRows; r++) {
             exec.checkCanceled();
-            exec.setMessage("Determine most-general column type for row: "
-                    + row.getKey().getString());
+            exec.setProgress(0.5 + 0.5 * r / newNrRows);
+            cont.addRowToTable(
+                new DefaultRow(spec.getColumnSpec(r).getName(), cells[r]));
+            cells[r] = null;
+        }
+        cont.close();
+        return cont.getTable();
+    }
+
+    /**
+     * Transposes a table by writing bands of columns to temporary tiles and
+     * assembling the output rows band by band.
+     */
+    static BufferedDataTable transposeTiled(
+            final BufferedDataTable table, final long maxCells,
+            final ExecutionContext exec) throws Exception {
+        final DataTableSpec spec = table.getDataTableSpec();
+        final int newNrCols = (int)table.size();
+        final int newNrRows = spec.getNumColumns();
+        if (newNrCols == 0 || newNrRows == 0) {
+            // nothing to split into bands
+            return transposeInMemory(table, exec);
+        }
+        // two bands are in memory at a time (one written, one read)
+        final int bandWidth = (int)Math.max(1,
+            Math.min(newNrRows, maxCells / 2 / newNrCols));
+        final int nrBands = (newNrRows + bandWidth - 1) / bandWidth;
+        // rows buffered before they are distributed to the tiles
+        final int blockSize = (int)Math.max(1,
+            Math.min(newNrCols, maxCells / 2 / newNrRows));
+        final int nrPasses = (nrBands + MAX_OPEN_BANDS - 1) / MAX_OPEN_BANDS;
+        final ThreadPool pool = KNIMEConstants.GLOBAL_THREAD_POOL
+            .createSubPool(KNIMEConstants.GLOBAL_THREAD_POOL.getMaxThreads());
+
+        final OutputColumns outColumns = new OutputColumns(newNrCols);
+        BufferedDataContainer cont = null;
+        for (int pass = 0; pass < nrPasses; pass++) {
+            final int firstBand = pass * MAX_OPEN_BANDS;
+            final int lastBand = Math.min(nrBands, firstBand + MAX_OPEN_BANDS);
+            ExecutionContext passExec =
+                exec.createSubExecutionContext(1.0 / nrPasses);
+            ExecutionMonitor writeExec = passExec.createSubProgress(0.5);
+            ExecutionMonitor readExec = passExec.createSubProgress(0.5);
+
+            // write the tiles of this pass, one task per tile
+            final BufferedDataContainer[] tiles =
+                new BufferedDataContainer[lastBand - firstBand];
+            for (int b = firstBand; b < lastBand; b++) {
+                int first = b * bandWidth;
+                int last = Math.min(newNrRows, first + bandWidth);
+                DataColumnSpec[] bandSpecs = new DataColumnSpec[last - first];
+                for (int c = first; c < last; c++) {
+                    bandSpecs[c - first] = spec.getColumnSpec(c);
+                }
+                // cells are written to disk immediately
+                tiles[b - firstBand] = passExec.createDataContainer(
+                    new DataTableSpec(bandSpecs), false, 0);
+            }
+            List<DataRow> block = new ArrayList<DataRow>(blockSize);
+            int rowIdx = 0;
+            for (DataRow row : table) {
+                writeExec.checkCanceled();
+                writeExec.setProgress((double)rowIdx / newNrCols,
+                    "Writing tiles of row \"" + row.getKey().getString()
+                    + "\" (pass " + (pass + 1) + " of " + nrPasses + ")");
+                if (pass == 0) {
+                    outColumns.add(row);
+                }
+                block.add(row);
+                if (block.size() == blockSize) {
+                    writeBlock(pool, block, tiles, firstBand, bandWidth, writeExec);
+                    block.clear();
+                }
+                rowIdx++;
+            }
+            writeBlock(pool, block, tiles, firstBand, bandWidth, writeExec);
+            block = null;
+            final BufferedDataTable[] tileTables =
+                new BufferedDataTable[tiles.length];
+            for (int t = 0; t < tiles.length; t++) {
+                tiles[t].close();
+                tileTables[t] = tiles[t].getTable();
+            }
+
+            if (cont == null) {
+                cont = exec.createDataContainer(outColumns.createSpec());
+            }
+            // assemble output rows, read the next tile in the background
+            Future<DataCell[][]> next = pool.enqueue(
+                createReadTileCallable(tileTables[0], newNrCols));
+            for (int t = 0; t < tileTables.length; t++) {
+                DataCell[][] bandCells = getResult(next, readExec);
+                passExec.clearTable(tileTables[t]);
+                if (t + 1 < tileTables.length) {
+                    next = pool.enqueue(createReadTileCallable(
+                        tileTables[t + 1], newNrCols));
+                }
+                int first = (firstBand + t) * bandWidth;
+                for (int c = 0; c < bandCells.length; c++) {
+                    readExec.checkCanceled();
+                    String rowKey = spec.getColumnSpec(first + c).getName();
+                    readExec.setProgress((double)(t * bandWidth + c)
+                        / ((lastBand - firstBand) * bandWidth),
+                        "Adding row \"" + rowKey + "\" to table.");
+                    cont.addRowToTable(new DefaultRow(rowKey, bandCells[c]));
+                    bandCells[c] = null;
+                }
+            }
+        }
+        cont.close();
+        return cont.getTable();
+    }
+
+    /** Appends the cells of a block of rows to the tiles, in parallel. */
+    private static void writeBlock(final ThreadPool pool,
+            final List<DataRow> block, final BufferedDataContainer[] tiles,
+            final int firstBand, final int bandWidth,
+            final ExecutionMonitor exec) throws CanceledExecutionException {
+        if (block.isEmpty()) {
+            return;
+        }
+        final List<Future<Void>> futures = new ArrayList<Future<Void>>();
+        for (int t = 0; t < tiles.length; t++) {
+            final BufferedDataContainer tile = tiles[t];
+            final int first = (firstBand + t) * bandWidth;
+            futures.add(pool.enqueue(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    final int width = tile.getTableSpec().getNumColumns();
+                    for (DataRow row : block) {
+                        DataCell[] cells = new DataCell[width];
+                        for (int c = 0; c < width; c++) {
+                            cells[c] = row.getCell(first + c);
+                        }
+                        tile.addRowToTable(new DefaultRow(row.getKey(), cells));
+                    }
+                    return null;
+                }
+            }));
+        }
+        for (Future<Void> f : futures) {
+            getResult(f, exec);
+        }
+    }
+
+    /** Reads the cells of a tile, transposed: one array per tile column. */
+    private static Callable<DataCell[][]> createReadTileCallable(
+            final BufferedDataTable tile, final int newNrCols) {
+        return new Callable<DataCell[][]>() {
+            @Override
+            public DataCell[][] call() throws Exception {
+                final int width = tile.getDataTableSpec().getNumColumns();
+                final DataCell[][] cells = new DataCell[width][newNrCols];
+                int rowIdx = 0;
+                for (DataRow row : tile) {
+                    for (int c = 0; c < width; c++) {
+                        cells[c][rowIdx] = row.getCell(c);
+                    }
+                    rowIdx++;
+                }
+                return cells;
+            }
+        };
+    }
+
+    /**
+     * Waits for the task; the calling thread doesn't count towards the limit
+     * of the global thread pool meanwhile, so the tasks can't starve.
+     */
+    private static <T> T getResult(final Future<T> future,
+            final ExecutionMonitor exec) throws CanceledExecutionException {
+        try {
+            return ThreadUtils.waitFor(future, exec);
+        } catch (final CanceledExecutionException e) {
+            future.cancel(true);
+            throw e;
+        } catch (final ExecutionException e) {
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    /**
+     * Collects the names and most-general types of the output columns, one
+     * per input row.
+     */
+    private static final class OutputColumns {
+        /** new column names. */
+        private final ArrayList<String> m_colNames;
+
+        /** new column types. */
+        private final ArrayList<DataType> m_colTypes;
+
+        /** index for unique colNames if row id only contains whitespace. */
+        private int m_idx = 0;
+
+        OutputColumns(final int newNrCols) {
+            m_colNames = new ArrayList<String>(newNrCols);
+            m_colTypes = new ArrayList<DataType>(newNrCols);
+        }
+
+        void add(final DataRow row) {
             DataType type = null;
             // and all cells
             for (int i = 0; i < row.getNumCells(); i++) {
@@ -200,67 +445,22 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData,
             }
             String colName = row.getKey().getString().trim();
             if (colName.isEmpty()) {
-                colName = "<empty_" + idx + ">";
-                idx++;
+                colName = "<empty_" + m_idx + ">";
+                m_idx++;
             }
-            colNames.add(colName);
-            colTypes.add(type);
-        }
-        // new number of rows
-        int newNrRows = spec.getNumColumns();
-        // create new specs
-        final DataColumnSpec[] colSpecs = new DataColumnSpec[newNrCols];
-        for (int c = 0; c < newNrCols; c++) {
-            colSpecs[c] = new DataColumnSpecCreator(colNames.get(c), colTypes
-                    .get(c)).createSpec();
-            exec.checkCanceled();
+            m_colNames.add(colName);
+            m_colTypes.add(type);
         }
-        BufferedDataContainer cont = exec
-                .createDataContainer(new DataTableSpec(colSpecs));
-        final int chunkSize = m_chunkSize.getIntValue();
-        // total number of chunks
-        final double nrChunks = Math.ceil((double) newNrRows / chunkSize);
-        for (int chunkIdx = 0; chunkIdx < nrChunks; chunkIdx++) {
-            // map of new row keys to cell arrays
-            Map<String, DataCell[]> map =
-                new LinkedHashMap<String, DataCell[]>(newNrRows);
-            int rowIdx = 0;
-            for (DataRow row : inData[0]) {
-                exec.setProgress(((rowIdx + 1) * (chunkIdx + 1))
-                        / (nrChunks * newNrCols), "Transpose row \""
-                        + row.getKey().getString() + "\" to column.");
-                int colIdx = chunkIdx * chunkSize;
-                // iterate chunk of columns
-                for (int r = colIdx;
-                        r < Math.min(newNrRows, colIdx + chunkSize); r++) {
-                    String newRowKey = spec.getColumnSpec(r).getName();
-                    DataCell[] cellArray = map.get(newRowKey);
-                    if (cellArray == null) {
-                        cellArray = new DataCell[newNrCols];
-                        map.put(newRowKey, cellArray);
-                    }
-                    cellArray[rowIdx] = row.getCell(r);
-                }
-                try {
-                    exec.checkCanceled();
-                } catch (CanceledExecutionException cee) {
-                    cont.close();
-                    throw cee;
-                }
-                rowIdx++;
-            }
-            // add chunk of rows to buffer
-            for (Map.Entry<String, DataCell[]> e : map.entrySet()) {
-                exec.setMessage("Adding row \"" + e.getKey() + "\" to table.");
-                DataRow row = new DefaultRow(
-                        e.getKey(), e.getValue());
-                cont.addRowToTable(row);
+
+        DataTableSpec createSpec() {
+            final DataColumnSpec[] colSpecs =
+                new DataColumnSpec[m_colNames.size()];
+            for (int c = 0; c < colSpecs.length; c++) {
+                colSpecs[c] = new DataColumnSpecCreator(m_colNames.get(c),
+                    m_colTypes.get(c)).createSpec();
             }
+            return new DataTableSpec(colSpecs);
         }
-        exec.setProgress(1.0, "Finished, closing buffer...");
-        cont.close();
-        return new BufferedDataTable[]{cont.getTable()};
-
     }
 
     /**
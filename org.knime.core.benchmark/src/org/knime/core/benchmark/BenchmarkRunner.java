@@ -0,0 +1,109 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.benchmark;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Entry point to run the benchmarks of this fragment from a launch configuration that starts the KNIME application
+ * (i.e. an OSGi framework with <code>org.knime.core</code> and the JMH bundles). The benchmarks run in the JVM of
+ * the runner ({@link org.openjdk.jmh.annotations.Fork @Fork(0)}), as the core doesn't initialize outside an OSGi
+ * framework. The benchmark classes must be compiled with the JMH annotation processor (enabled in the project
+ * settings). All arguments are passed to JMH (see <code>-h</code>); if no benchmark is selected, all benchmarks in
+ * <code>org.knime.core</code> are run. Parameters of the synthetic tables are set with <code>-p</code>, e.g.
+ * <code>-p rows=1000000 -p columnKinds=int,string</code>. If the first argument is <code>-smoke</code>, every
+ * benchmark is run once with small tables and the runner fails if any of them fails.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class BenchmarkRunner {
+
+    private static final String SMOKE_ARG = "-smoke";
+
+    private static final String ALL_BENCHMARKS = "org\\.knime\\.core\\..*Benchmark";
+
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * @param args JMH command line arguments, optionally preceded by <code>-smoke</code>
+     * @throws RunnerException if running the benchmarks fails
+     * @throws CommandLineOptionException if the arguments can't be parsed
+     */
+    public static void main(final String[] args) throws RunnerException, CommandLineOptionException {
+        final boolean smoke = args.length > 0 && SMOKE_ARG.equals(args[0]);
+        final CommandLineOptions cmdOptions =
+            new CommandLineOptions(smoke ? Arrays.copyOfRange(args, 1, args.length) : args);
+        final ChainedOptionsBuilder builder = new OptionsBuilder().parent(cmdOptions);
+        if (cmdOptions.getIncludes().isEmpty()) {
+            builder.include(ALL_BENCHMARKS);
+        }
+        if (smoke) {
+            builder.warmupIterations(0)
+                .measurementIterations(1)
+                .measurementTime(TimeValue.milliseconds(100))
+                .param("rows", "1000")
+                .param("cells", "1000")
+                .shouldFailOnError(true);
+        }
+        final Collection<RunResult> results = new Runner(builder.build()).run();
+        if (smoke && results.isEmpty()) {
+            throw new RunnerException("No benchmark has been run");
+        }
+    }
+}
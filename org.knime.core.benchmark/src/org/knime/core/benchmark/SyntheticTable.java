@@ -0,0 +1,303 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataTableSpecCreator;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.container.DataContainer;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.workflow.SingleNodeContainer.MemoryPolicy;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+
+/**
+ * Generates reproducible tables of a configurable shape for the benchmarks in this fragment. The shape is given by
+ * the number of rows and columns and a comma separated list of column kinds (see {@link ColumnKind}), which is
+ * repeated until all columns are assigned, e.g. <code>"int,double,string"</code> or <code>"mixed"</code> for all
+ * kinds in turn. Row <i>i</i> is always the same for a given seed, independent of the order in which rows are
+ * requested.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public final class SyntheticTable {
+
+    /** The kinds of columns a synthetic table can have. */
+    public enum ColumnKind {
+        /** {@link IntCell} column. */
+        INT(IntCell.TYPE),
+        /** {@link LongCell} column. */
+        LONG(LongCell.TYPE),
+        /** {@link DoubleCell} column. */
+        DOUBLE(DoubleCell.TYPE),
+        /** {@link StringCell} column, values are random strings of fixed length. */
+        STRING(StringCell.TYPE),
+        /** {@link BooleanCell} column. */
+        BOOLEAN(BooleanCell.TYPE);
+
+        private final DataType m_type;
+
+        ColumnKind(final DataType type) {
+            m_type = type;
+        }
+
+        /** @return the type of the column. */
+        public DataType getType() {
+            return m_type;
+        }
+
+        DataCell createCell(final Random random, final int stringLength, final int missingPercent) {
+            if (missingPercent > 0 && random.nextInt(100) < missingPercent) {
+                return DataType.getMissingCell();
+            }
+            switch (this) {
+                case INT:
+                    return new IntCell(random.nextInt());
+                case LONG:
+                    return new LongCell(random.nextLong());
+                case DOUBLE:
+                    return new DoubleCell(random.nextDouble());
+                case STRING:
+                    final char[] chars = new char[stringLength];
+                    for (int i = 0; i < chars.length; i++) {
+                        chars[i] = (char)('a' + random.nextInt(26));
+                    }
+                    return new StringCell(new String(chars));
+                case BOOLEAN:
+                    return random.nextBoolean() ? BooleanCell.TRUE : BooleanCell.FALSE;
+                default:
+                    throw new IllegalStateException("Unhandled column kind: " + this);
+            }
+        }
+    }
+
+    private final long m_rowCount;
+
+    private final ColumnKind[] m_columnKinds;
+
+    private final int m_stringLength;
+
+    private final int m_missingPercent;
+
+    private final long m_seed;
+
+    /**
+     * Creates a table shape without missing values and strings of length 16.
+     *
+     * @param rowCount number of rows
+     * @param columnCount number of columns
+     * @param columnKinds comma separated column kinds, case insensitive, or "mixed" for all kinds
+     */
+    public SyntheticTable(final long rowCount, final int columnCount, final String columnKinds) {
+        this(rowCount, columnCount, columnKinds, 16, 0, 42L);
+    }
+
+    /**
+     * @param rowCount number of rows
+     * @param columnCount number of columns
+     * @param columnKinds comma separated column kinds, case insensitive, or "mixed" for all kinds
+     * @param stringLength length of the values in string columns
+     * @param missingPercent percentage (0-100) of missing cells
+     * @param seed seed of the random value generator
+     * @throws IllegalArgumentException if any of the arguments is out of range or a column kind is unknown
+     */
+    public SyntheticTable(final long rowCount, final int columnCount, final String columnKinds,
+        final int stringLength, final int missingPercent, final long seed) {
+        if (rowCount < 0 || columnCount < 0 || stringLength < 0 || missingPercent < 0 || missingPercent > 100) {
+            throw new IllegalArgumentException(String.format(
+                "Invalid table shape (rows: %d, columns: %d, string length: %d, missing: %d%%)", rowCount,
+                columnCount, stringLength, missingPercent));
+        }
+        final ColumnKind[] kinds = parseColumnKinds(columnKinds);
+        m_columnKinds = new ColumnKind[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            m_columnKinds[i] = kinds[i % kinds.length];
+        }
+        m_rowCount = rowCount;
+        m_stringLength = stringLength;
+        m_missingPercent = missingPercent;
+        m_seed = seed;
+    }
+
+    private static ColumnKind[] parseColumnKinds(final String columnKinds) {
+        if (columnKinds == null || columnKinds.trim().isEmpty()
+            || "mixed".equalsIgnoreCase(columnKinds.trim())) {
+            return ColumnKind.values();
+        }
+        final List<ColumnKind> result = new ArrayList<>();
+        for (String s : columnKinds.split(",")) {
+            try {
+                result.add(ColumnKind.valueOf(s.trim().toUpperCase(Locale.US)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown column kind \"" + s.trim() + "\"", e);
+            }
+        }
+        return result.toArray(new ColumnKind[result.size()]);
+    }
+
+    /** @return the number of rows. */
+    public long getRowCount() {
+        return m_rowCount;
+    }
+
+    /** @return the number of columns. */
+    public int getColumnCount() {
+        return m_columnKinds.length;
+    }
+
+    /** @return the spec of the table, columns are named "Column 0", "Column 1", ... */
+    public DataTableSpec createSpec() {
+        final DataColumnSpec[] colSpecs = new DataColumnSpec[m_columnKinds.length];
+        for (int i = 0; i < colSpecs.length; i++) {
+            colSpecs[i] = new DataColumnSpecCreator("Column " + i, m_columnKinds[i].getType()).createSpec();
+        }
+        return new DataTableSpecCreator().addColumns(colSpecs).createSpec();
+    }
+
+    /**
+     * @param index the index of the row, 0 &lt;= index &lt; {@link #getRowCount()}
+     * @return the row with the given index, its key is "Row" + index
+     */
+    public DataRow createRow(final long index) {
+        final Random random = new Random(m_seed * 31 + index);
+        final DataCell[] cells = new DataCell[m_columnKinds.length];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = m_columnKinds[i].createCell(random, m_stringLength, m_missingPercent);
+        }
+        return new DefaultRow(RowKey.createRowKey(index), cells);
+    }
+
+    /**
+     * Creates all rows upfront so that benchmarks don't measure the generation.
+     *
+     * @return all rows of the table
+     * @throws IllegalStateException if the table has more than {@link Integer#MAX_VALUE} rows
+     */
+    public DataRow[] createRows() {
+        if (m_rowCount > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Too many rows to keep in an array: " + m_rowCount);
+        }
+        final DataRow[] rows = new DataRow[(int)m_rowCount];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = createRow(i);
+        }
+        return rows;
+    }
+
+    /**
+     * Writes the table into a {@link DataContainer}, which keeps no cells in memory, i.e. the table is written to
+     * disc.
+     *
+     * @return the table
+     */
+    public ContainerTable createContainerTable() {
+        final DataContainer container = new DataContainer(createSpec(), false, 0);
+        for (long i = 0; i < m_rowCount; i++) {
+            container.addRowToTable(createRow(i));
+        }
+        container.close();
+        return (ContainerTable)container.getTable();
+    }
+
+    /**
+     * @param exec the context to create the table with
+     * @return the table, created by a container of the given context
+     */
+    public BufferedDataTable createBufferedDataTable(final ExecutionContext exec) {
+        final BufferedDataContainer container = exec.createDataContainer(createSpec());
+        for (long i = 0; i < m_rowCount; i++) {
+            container.addRowToTable(createRow(i));
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    /**
+     * Creates an execution context of a dummy node, which is not part of any workflow.
+     *
+     * @param memoryPolicy the memory policy of tables created by the context
+     * @return a new context
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static ExecutionContext createExecutionContext(final MemoryPolicy memoryPolicy) {
+        final NodeFactory<NodeModel> dummyFactory =
+            (NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+        return new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(dummyFactory), memoryPolicy,
+            new HashMap<Integer, ContainerTable>());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return String.format("%d rows x %d columns", m_rowCount, m_columnKinds.length);
+    }
+}
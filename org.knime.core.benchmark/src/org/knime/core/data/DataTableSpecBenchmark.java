@@ -0,0 +1,138 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.core.benchmark.SyntheticTable;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.StringCell;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Creates {@link DataTableSpec} objects with and without column domains.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(0)
+public class DataTableSpecBenchmark {
+
+    /** Number of columns in the spec. */
+    @Param({"10", "100", "1000"})
+    public int columns;
+
+    /** Column kinds, see {@link SyntheticTable}. */
+    @Param({"mixed"})
+    public String columnKinds;
+
+    private DataType[] m_types;
+
+    private String[] m_names;
+
+    private DataCell[] m_possibleValues;
+
+    /** Computes column names and types. */
+    @Setup(Level.Trial)
+    public void setup() {
+        final DataTableSpec template = new SyntheticTable(0, columns, columnKinds).createSpec();
+        m_types = new DataType[columns];
+        m_names = new String[columns];
+        for (int i = 0; i < columns; i++) {
+            m_names[i] = template.getColumnSpec(i).getName();
+            m_types[i] = template.getColumnSpec(i).getType();
+        }
+        m_possibleValues = new DataCell[]{new StringCell("A"), new StringCell("B"), new StringCell("C")};
+    }
+
+    /** @return a spec without domains */
+    @Benchmark
+    public DataTableSpec createSpec() {
+        final DataTableSpecCreator creator = new DataTableSpecCreator();
+        for (int i = 0; i < columns; i++) {
+            creator.addColumns(new DataColumnSpecCreator(m_names[i], m_types[i]).createSpec());
+        }
+        return creator.createSpec();
+    }
+
+    /** @return a spec with bounds for numeric and possible values for other columns */
+    @Benchmark
+    public DataTableSpec createSpecWithDomains() {
+        final DataTableSpecCreator creator = new DataTableSpecCreator();
+        for (int i = 0; i < columns; i++) {
+            final DataColumnSpecCreator colCreator = new DataColumnSpecCreator(m_names[i], m_types[i]);
+            final DataColumnDomainCreator domainCreator = new DataColumnDomainCreator();
+            if (m_types[i].isCompatible(DoubleValue.class)) {
+                domainCreator.setLowerBound(new DoubleCell(0.0));
+                domainCreator.setUpperBound(new DoubleCell(i));
+            } else {
+                domainCreator.setValues(new LinkedHashSet<>(Arrays.asList(m_possibleValues)));
+            }
+            colCreator.setDomain(domainCreator.createDomain());
+            creator.addColumns(colCreator.createSpec());
+        }
+        return creator.createSpec();
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataCellSerializer;
+import org.knime.core.data.DataTypeRegistry;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.ComplexNumberCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.FuzzyIntervalCell;
+import org.knime.core.data.def.FuzzyNumberCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.IntervalCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Serializes and deserializes cells of the types in <code>org.knime.core.data.def</code> that provide a
+ * {@link DataCellSerializer}, using the same streams as the table files.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(0)
+public class DataCellSerializerBenchmark {
+
+    /** Simple name of the cell class in <code>org.knime.core.data.def</code>. */
+    @Param({"BooleanCell", "ComplexNumberCell", "DoubleCell", "FuzzyIntervalCell", "FuzzyNumberCell", "IntCell",
+        "IntervalCell", "LongCell", "StringCell", "TimestampCell"})
+    public String cellClass;
+
+    /** Number of cells (de)serialized per invocation. */
+    @Param({"10000"})
+    public int cells;
+
+    private DataCellSerializer<DataCell> m_serializer;
+
+    private DataCell[] m_cells;
+
+    private ByteArrayOutputStream m_outBuffer;
+
+    private byte[] m_serializedCells;
+
+    /** Creates the cells and serializes them once for the deserialization benchmark.
+     * @throws IOException if serialization fails */
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        final Random random = new Random(42L);
+        m_cells = new DataCell[cells];
+        for (int i = 0; i < cells; i++) {
+            m_cells[i] = createCell(cellClass, random);
+        }
+        final Class<? extends DataCell> cls = m_cells[0].getClass();
+        m_serializer = DataTypeRegistry.getInstance().getSerializer(cls)
+            .orElseThrow(() -> new IllegalStateException("No serializer for " + cls.getName()));
+        m_outBuffer = new ByteArrayOutputStream();
+        m_serializedCells = serializeAll();
+    }
+
+    @SuppressWarnings("deprecation")
+    private static DataCell createCell(final String cellClass, final Random random) {
+        final double d = random.nextDouble();
+        switch (cellClass) {
+            case "BooleanCell":
+                return random.nextBoolean() ? BooleanCell.TRUE : BooleanCell.FALSE;
+            case "ComplexNumberCell":
+                return new ComplexNumberCell(d, random.nextDouble());
+            case "DoubleCell":
+                return new DoubleCell(d);
+            case "FuzzyIntervalCell":
+                return new FuzzyIntervalCell(d, d + 1, d + 2, d + 3);
+            case "FuzzyNumberCell":
+                return new FuzzyNumberCell(d, d + 1, d + 2);
+            case "IntCell":
+                return new IntCell(random.nextInt());
+            case "IntervalCell":
+                return new IntervalCell(d, d + 1, true, false);
+            case "LongCell":
+                return new LongCell(random.nextLong());
+            case "StringCell":
+                return new StringCell(Long.toString(random.nextLong(), Character.MAX_RADIX));
+            case "TimestampCell":
+                return new org.knime.core.data.def.TimestampCell(new Date(random.nextInt() & Integer.MAX_VALUE));
+            default:
+                throw new IllegalArgumentException("Unsupported cell class: " + cellClass);
+        }
+    }
+
+    private byte[] serializeAll() throws IOException {
+        m_outBuffer.reset();
+        try (DCObjectOutputVersion2 out = new DCObjectOutputVersion2(m_outBuffer)) {
+            for (DataCell cell : m_cells) {
+                out.writeDataCellPerKNIMESerializer(m_serializer, cell);
+            }
+        }
+        return m_outBuffer.toByteArray();
+    }
+
+    /** @return the number of bytes written
+     * @throws IOException if serialization fails */
+    @Benchmark
+    public int serialize() throws IOException {
+        m_outBuffer.reset();
+        try (DCObjectOutputVersion2 out = new DCObjectOutputVersion2(m_outBuffer)) {
+            for (DataCell cell : m_cells) {
+                out.writeDataCellPerKNIMESerializer(m_serializer, cell);
+            }
+        }
+        return m_outBuffer.size();
+    }
+
+    /** @param blackhole consumes the read cells
+     * @throws IOException if deserialization fails */
+    @Benchmark
+    public void deserialize(final Blackhole blackhole) throws IOException {
+        final DCObjectInputVersion2 in = new DCObjectInputVersion2(new ByteArrayInputStream(m_serializedCells));
+        for (int i = 0; i < cells; i++) {
+            blackhole.consume(in.readDataCellPerKNIMESerializer(m_serializer));
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import java.util.concurrent.TimeUnit;
+
+import org.knime.core.benchmark.SyntheticTable;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.node.KNIMEConstants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Writes a synthetic table into a {@link DataContainer} that keeps no cells in memory, i.e. measures the time to
+ * write a table to disc with synchronous or asynchronous I/O. The tables are compressed with the format the
+ * benchmark JVM was started with (see {@link KNIMEConstants#PROPERTY_TABLE_COMPRESSION_FORMAT}).
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(0)
+public class DataContainerWriteBenchmark {
+
+    /** Number of rows in the table. */
+    @Param({"10000", "100000"})
+    public int rows;
+
+    /** Number of columns in the table. */
+    @Param({"10"})
+    public int columns;
+
+    /** Column kinds, see {@link SyntheticTable}. */
+    @Param({"mixed"})
+    public String columnKinds;
+
+    /** Whether to write synchronously, see {@link DataContainer#DataContainer(DataTableSpec, boolean, int, boolean)}. */
+    @Param({"true", "false"})
+    public boolean synchronousIO;
+
+    private DataTableSpec m_spec;
+
+    private DataRow[] m_rowsToWrite;
+
+    private ContainerTable m_table;
+
+    /** Creates the rows to write. */
+    @Setup(Level.Trial)
+    public void setup() {
+        final SyntheticTable table = new SyntheticTable(rows, columns, columnKinds);
+        m_spec = table.createSpec();
+        m_rowsToWrite = table.createRows();
+    }
+
+    /** @return the written table */
+    @Benchmark
+    public ContainerTable write() {
+        final DataContainer container = new DataContainer(m_spec, false, 0, synchronousIO);
+        for (DataRow row : m_rowsToWrite) {
+            container.addRowToTable(row);
+        }
+        container.close();
+        m_table = container.getBufferedTable();
+        return m_table;
+    }
+
+    /** Deletes the table written by the last invocation. */
+    @TearDown(Level.Invocation)
+    public void clearTable() {
+        if (m_table != null) {
+            m_table.clear();
+            m_table = null;
+        }
+    }
+}
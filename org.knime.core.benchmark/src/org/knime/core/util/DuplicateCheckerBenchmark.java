@@ -0,0 +1,135 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.util;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.core.benchmark.SyntheticTable;
+import org.knime.core.data.DataRow;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Checks the row keys of a synthetic table for duplicates with the {@link DuplicateChecker} or the
+ * {@link FingerprintDuplicateChecker}. Small chunk sizes force the checker to write sorted chunks (or the keys) to
+ * disc.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(0)
+public class DuplicateCheckerBenchmark {
+
+    /** Number of rows (keys) in the table. */
+    @Param({"100000", "1000000"})
+    public int rows;
+
+    /** Maximum number of keys kept in memory, see {@link DuplicateChecker#DuplicateChecker(int, int)}. */
+    @Param({"100000", "10000"})
+    public int maxChunkSize;
+
+    /** Whether the keys are added in random rather than table order. */
+    @Param({"false", "true"})
+    public boolean shuffle;
+
+    /** Whether to use the {@link FingerprintDuplicateChecker} instead of the sorting {@link DuplicateChecker}. */
+    @Param({"false", "true"})
+    public boolean fingerprint;
+
+    private String[] m_keys;
+
+    /** Creates the row keys. */
+    @Setup(Level.Trial)
+    public void setup() {
+        final SyntheticTable table = new SyntheticTable(rows, 0, null);
+        m_keys = new String[rows];
+        for (int i = 0; i < rows; i++) {
+            final DataRow row = table.createRow(i);
+            m_keys[i] = row.getKey().getString();
+        }
+        if (shuffle) {
+            final List<String> keyList = Arrays.asList(m_keys);
+            Collections.shuffle(keyList, new Random(42L));
+        }
+    }
+
+    /** @throws DuplicateKeyException never, the keys are unique
+     * @throws IOException if writing the chunks fails */
+    @Benchmark
+    public void addAndCheckKeys() throws DuplicateKeyException, IOException {
+        final DuplicateChecker checker = fingerprint ? new FingerprintDuplicateChecker(1, maxChunkSize)
+            : new DuplicateChecker(maxChunkSize, DuplicateChecker.MAX_STREAMS);
+        try {
+            for (String key : m_keys) {
+                checker.addKey(key);
+            }
+            checker.checkForDuplicates();
+        } finally {
+            checker.clear();
+        }
+    }
+}
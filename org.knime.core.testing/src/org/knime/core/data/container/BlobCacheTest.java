@@ -0,0 +1,156 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.container.BlobDataCell.BlobAddress;
+
+/**
+ * Tests the {@link BlobCache}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class BlobCacheTest {
+
+    @SuppressWarnings("serial")
+    private static final class TestBlobCell extends BlobDataCell {
+        @Override
+        public String toString() {
+            return "Test blob";
+        }
+
+        @Override
+        protected boolean equalsDataCell(final DataCell dc) {
+            return dc == this;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+
+    private static BlobAddress address(final int index) {
+        BlobAddress address = new BlobAddress(1, 0, false);
+        address.setIndexOfBlobInColumn(index);
+        return address;
+    }
+
+    /** Least recently used entries are evicted when the number of entries is exceeded. */
+    @Test
+    public void testMaxEntries() {
+        BlobCache cache = new BlobCache(1, 10, Long.MAX_VALUE);
+        TestBlobCell[] cells = new TestBlobCell[11];
+        for (int i = 0; i < 10; i++) {
+            cells[i] = new TestBlobCell();
+            cache.put(address(i), cells[i], 100);
+        }
+        assertSame(cells[0], cache.get(address(0))); // 1 is now the least recently used
+        cells[10] = new TestBlobCell();
+        cache.put(address(10), cells[10], 100);
+        assertEquals(10, cache.size());
+        assertNull(cache.get(address(1)));
+        assertSame(cells[0], cache.get(address(0)));
+        assertSame(cells[10], cache.get(address(10)));
+    }
+
+    /** Entries are evicted when the sum of the sizes is exceeded, blobs larger than the maximum are not cached. */
+    @Test
+    public void testMaxBytes() {
+        BlobCache cache = new BlobCache(1, 100, 1000);
+        TestBlobCell[] cells = new TestBlobCell[5];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = new TestBlobCell();
+            cache.put(address(i), cells[i], 300);
+        }
+        assertEquals(3, cache.size());
+        assertNull(cache.get(address(1)));
+        assertSame(cells[4], cache.get(address(4)));
+        cache.put(address(5), new TestBlobCell(), 1001);
+        assertNull(cache.get(address(5)));
+        assertEquals(3, cache.size());
+    }
+
+    /** Blobs larger than the share of a stripe are cached as long as they don't exceed the total limit. */
+    @Test
+    public void testLargeBlobInStripe() {
+        BlobCache cache = new BlobCache(8, 128, 8000);
+        TestBlobCell large = new TestBlobCell();
+        cache.put(address(0), large, 3000);
+        assertSame(large, cache.get(address(0)));
+        TestBlobCell tooLarge = new TestBlobCell();
+        cache.put(address(1), tooLarge, 8001);
+        assertNull(cache.get(address(1)));
+        assertSame(large, cache.get(address(0)));
+    }
+
+    /** Entries are distributed among stripes. */
+    @Test
+    public void testStripes() {
+        BlobCache cache = new BlobCache(4, 400, Long.MAX_VALUE);
+        TestBlobCell[] cells = new TestBlobCell[200];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = new TestBlobCell();
+            cache.put(address(i), cells[i], 10);
+        }
+        for (int i = 0; i < cells.length; i++) {
+            assertSame(cells[i], cache.get(address(i)));
+        }
+        cache.clear();
+        assertEquals(0, cache.size());
+        cache.put(address(0), cells[0], 10);
+        assertNotNull(cache.get(address(0)));
+    }
+
+}
@@ -0,0 +1,193 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests the {@link BlobSegmentStore}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class BlobSegmentStoreTest {
+
+    /** Directory of the store. */
+    @Rule
+    public TemporaryFolder m_tempFolder = new TemporaryFolder();
+
+    /** Small blobs are appended to the segment, large ones are written to individual files. */
+    @Test
+    public void testWriteAndRead() throws Exception {
+        File dir = m_tempFolder.newFolder();
+        Random random = new Random(42);
+        byte[][] blobs = new byte[50][];
+        for (int i = 0; i < blobs.length; i++) {
+            int length = i == 17 ? BlobSegmentStore.MAX_BLOB_SIZE + 1 : random.nextInt(1000);
+            blobs[i] = new byte[length];
+            random.nextBytes(blobs[i]);
+        }
+        File largeBlobFile = new File(dir, "17.bin");
+        try (BlobSegmentStore store = BlobSegmentStore.open(dir, true)) {
+            for (int i = 0; i < blobs.length; i++) {
+                try (OutputStream out = store.newBlobOutputStream(i, () -> largeBlobFile)) {
+                    // write in pieces to test switching to the file
+                    out.write(blobs[i], 0, blobs[i].length / 2);
+                    out.write(blobs[i], blobs[i].length / 2, blobs[i].length - blobs[i].length / 2);
+                }
+            }
+            // readable while writing
+            assertArrayEquals(blobs[3], store.read(3));
+        }
+        assertTrue(largeBlobFile.isFile());
+        assertArrayEquals(blobs[17], Files.readAllBytes(largeBlobFile.toPath()));
+
+        try (BlobSegmentStore store = BlobSegmentStore.open(dir, false)) {
+            for (int i = 0; i < blobs.length; i++) {
+                if (i == 17) {
+                    assertNull(store.read(i));
+                    assertEquals(-1L, store.getLength(i));
+                } else {
+                    assertArrayEquals(blobs[i], store.read(i));
+                    assertEquals(blobs[i].length, store.getLength(i));
+                }
+            }
+        }
+    }
+
+    /** Files are created on first append, a closed store opens its files again when accessed. */
+    @Test
+    public void testLazyOpen() throws Exception {
+        File dir = m_tempFolder.newFolder();
+        BlobSegmentStore store = BlobSegmentStore.open(dir, true);
+        try {
+            assertFalse(new File(dir, BlobSegmentStore.INDEX_FILE_NAME).exists());
+            assertFalse(new File(dir, BlobSegmentStore.DATA_FILE_NAME).exists());
+            store.append(0, new byte[]{1, 2, 3}, 3);
+            assertTrue(new File(dir, BlobSegmentStore.INDEX_FILE_NAME).isFile());
+            store.close();
+            assertArrayEquals(new byte[]{1, 2, 3}, store.read(0));
+        } finally {
+            store.close();
+        }
+    }
+
+    /** Columns written by previous versions have no store. */
+    @Test
+    public void testNoStore() throws Exception {
+        assertNull(BlobSegmentStore.open(m_tempFolder.newFolder(), false));
+    }
+
+    /** Blobs must be appended in the order of their index. */
+    @Test(expected = IOException.class)
+    public void testInvalidIndex() throws Exception {
+        try (BlobSegmentStore store = BlobSegmentStore.open(m_tempFolder.newFolder(), true)) {
+            store.append(0, new byte[10], 10);
+            store.append(2, new byte[10], 10);
+        }
+    }
+
+    /** Reading an unknown index fails. */
+    @Test(expected = IOException.class)
+    public void testReadInvalidIndex() throws Exception {
+        try (BlobSegmentStore store = BlobSegmentStore.open(m_tempFolder.newFolder(), true)) {
+            store.append(0, new byte[10], 10);
+            store.read(1);
+        }
+    }
+
+    /** Index entries pointing outside the data file are rejected before any memory is allocated. */
+    @Test
+    public void testReadCorruptIndexEntry() throws Exception {
+        File dir = m_tempFolder.newFolder();
+        try (BlobSegmentStore store = BlobSegmentStore.open(dir, true)) {
+            store.append(0, new byte[10], 10);
+            store.append(1, new byte[10], 10);
+        }
+        long[][] corruptEntries = {{0, Long.MAX_VALUE}, {0, Integer.MAX_VALUE + 1L}, {0, -1}, {15, 10},
+            {Long.MAX_VALUE, 10}};
+        for (long[] corrupt : corruptEntries) {
+            try (RandomAccessFile index = new RandomAccessFile(new File(dir, BlobSegmentStore.INDEX_FILE_NAME), "rw")) {
+                index.seek(16);
+                index.writeLong(corrupt[0]);
+                index.writeLong(corrupt[1]);
+            }
+            try (BlobSegmentStore store = BlobSegmentStore.open(dir, false)) {
+                assertEquals(10, store.read(0).length);
+                try {
+                    store.read(1);
+                    fail("Expected IOException for index entry (" + corrupt[0] + ", " + corrupt[1] + ")");
+                } catch (IOException e) {
+                    assertTrue(e.getMessage(), e.getMessage().startsWith("Corrupt index entry for blob 1"));
+                }
+                try {
+                    store.getLength(1);
+                    fail("Expected IOException for index entry (" + corrupt[0] + ", " + corrupt[1] + ")");
+                } catch (IOException e) {
+                    assertTrue(e.getMessage(), e.getMessage().startsWith("Corrupt index entry for blob 1"));
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,225 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.MissingCell;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.data.container.storage.AbstractTableStoreReader.TableStoreCloseableRowIterator;
+import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.xml.XMLCell;
+import org.knime.core.node.NodeSettings;
+
+/**
+ * Writes and reads tables using the {@link ColumnarTableStoreFormat}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ColumnarTableStoreFormatTest {
+
+    private static final DataTableSpec SPEC = new DataTableSpec(
+        new String[]{"int", "long", "double", "boolean", "string"},
+        new DataType[]{IntCell.TYPE, LongCell.TYPE, DoubleCell.TYPE, BooleanCell.TYPE, StringCell.TYPE});
+
+    private File m_file;
+
+    /** Creates the temp file. */
+    @Before
+    public void setUp() throws Exception {
+        m_file = File.createTempFile("columnar-test", ".bin.col");
+    }
+
+    /** Deletes the temp file. */
+    @After
+    public void tearDown() {
+        m_file.delete();
+    }
+
+    /** Accepts only primitive column types. */
+    @Test
+    public void testAccepts() {
+        ColumnarTableStoreFormat format = new ColumnarTableStoreFormat();
+        assertTrue(format.accepts(SPEC));
+        assertTrue(format.accepts(new DataTableSpec()));
+        assertFalse(format.accepts(new DataTableSpec(new String[]{"xml"}, new DataType[]{XMLCell.TYPE})));
+    }
+
+    /** Empty table. */
+    @Test
+    public void testEmptyTable() throws Exception {
+        assertEquals(0, writeAndRead(new ArrayList<DataRow>(), true).size());
+    }
+
+    /** Several chunks, including missing cells and cells that need to be serialized individually. */
+    @Test
+    public void testWriteRead() throws Exception {
+        long seed = System.currentTimeMillis();
+        Random r = new Random(seed);
+        int rowCount = 3 * ColumnarTableStoreFormat.getRowsPerChunk(SPEC.getNumColumns()) + 17;
+        List<DataRow> rows = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            DataCell[] cells = new DataCell[]{new IntCell(r.nextInt()), new LongCell(r.nextLong()),
+                new DoubleCell(r.nextGaussian()), BooleanCell.get(r.nextBoolean()),
+                new StringCell("Value " + r.nextInt(i % 2 == 0 ? 100 : 100000))};
+            int special = r.nextInt(40);
+            if (special < cells.length) {
+                cells[special] = DataType.getMissingCell();
+            } else if (special == cells.length) {
+                cells[r.nextInt(cells.length)] = new MissingCell("error in row " + i);
+            } else if (special == cells.length + 1) {
+                cells[2] = new IntCell(i); // compatible with double column, but not a double cell
+            }
+            rows.add(new DefaultRow("Row " + i, cells));
+        }
+        List<DataRow> result = writeAndRead(rows, true);
+        assertEquals("Row count (seed " + seed + ")", rows.size(), result.size());
+        for (int i = 0; i < rows.size(); i++) {
+            DataRow expected = rows.get(i);
+            DataRow actual = result.get(i);
+            assertEquals(expected.getKey(), actual.getKey());
+            for (int c = 0; c < expected.getNumCells(); c++) {
+                assertEquals("Row " + i + ", column " + c + " (seed " + seed + ")", expected.getCell(c),
+                    actual.getCell(c));
+                assertEquals(expected.getCell(c).getClass(), actual.getCell(c).getClass());
+            }
+        }
+    }
+
+    /** Row keys are not written for column appending tables. */
+    @Test
+    public void testNoRowKeys() throws Exception {
+        List<DataRow> rows = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            rows.add(new DefaultRow("Row " + i, new IntCell(i), new LongCell(i), new DoubleCell(i),
+                BooleanCell.TRUE, new StringCell("" + i)));
+        }
+        List<DataRow> result = writeAndRead(rows, false);
+        assertEquals(rows.size(), result.size());
+        assertEquals(KNIMEStreamConstants.DUMMY_ROW_KEY, result.get(0).getKey());
+        assertEquals(new StringCell("9"), result.get(9).getCell(4));
+    }
+
+    /** Reading with a {@link TableFilter} skips chunks and columns. */
+    @Test
+    public void testFilter() throws Exception {
+        int rowCount = 3 * ColumnarTableStoreFormat.getRowsPerChunk(SPEC.getNumColumns()) + 17;
+        List<DataRow> rows = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            rows.add(new DefaultRow("Row " + i, new IntCell(i), new LongCell(i), new DoubleCell(i),
+                BooleanCell.get(i % 7 == 0), new StringCell("" + i)));
+        }
+        ColumnarTableStoreFormat format = new ColumnarTableStoreFormat();
+        NodeSettings settings = write(format, rows, true);
+        long from = ColumnarTableStoreFormat.getRowsPerChunk(SPEC.getNumColumns()) + 5;
+        long to = rowCount - 3;
+        TableFilter filter = new TableFilter.Builder().withMaterializeColumnIndices(4).withFromRowIndex(from)
+            .withToRowIndex(to).withRowPredicate(3, c -> ((BooleanCell)c).getBooleanValue()).build();
+        TableStoreCloseableRowIterator it = format.createReader(m_file, SPEC, settings, null, -1, true)
+            .iteratorWithFilter(filter);
+        long expected = from + (7 - from % 7) % 7;
+        int count = 0;
+        while (expected <= to) {
+            DataRow row = it.next();
+            assertEquals(new RowKey("Row " + expected), row.getKey());
+            assertEquals(new StringCell("" + expected), row.getCell(4));
+            assertTrue("Column not materialized", row.getCell(0).isMissing());
+            expected += 7;
+            count++;
+        }
+        it.performClose();
+        assertTrue(count > 0);
+    }
+
+    private List<DataRow> writeAndRead(final List<DataRow> rows, final boolean writeRowKey) throws Exception {
+        ColumnarTableStoreFormat format = new ColumnarTableStoreFormat();
+        NodeSettings settings = write(format, rows, writeRowKey);
+        TableStoreCloseableRowIterator it = format.createReader(m_file, SPEC, settings, null,
+            -1, writeRowKey).iterator();
+        List<DataRow> result = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            result.add(it.next());
+        }
+        it.performClose();
+        return result;
+    }
+
+    private NodeSettings write(final ColumnarTableStoreFormat format, final List<DataRow> rows,
+        final boolean writeRowKey) throws Exception {
+        NodeSettings settings = new NodeSettings("columnar");
+        try (AbstractTableStoreWriter writer = format.createWriter(m_file, SPEC, writeRowKey)) {
+            for (DataRow row : rows) {
+                writer.writeRow(row);
+            }
+            writer.close();
+            writer.writeMetaInfoAfterWrite(settings);
+        }
+        return settings;
+    }
+}
@@ -45,7 +45,10 @@
  */
 package org.knime.core.data.container;
 
+import java.io.File;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -63,13 +66,16 @@
 import org.knime.core.data.DataType;
 import org.knime.core.data.RowIterator;
 import org.knime.core.data.RowKey;
+import org.knime.core.data.container.filter.TableFilter;
 import org.knime.core.data.def.DefaultRow;
 import org.knime.core.data.def.DoubleCell;
 import org.knime.core.data.def.IntCell;
 import org.knime.core.data.def.StringCell;
 import org.knime.core.data.util.ObjectToDataCellConverter;
 import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.NodeLogger;
+import org.knime.core.util.FileUtil;
 import org.knime.core.util.DuplicateKeyException;
 
 import junit.framework.Assert;
@@ -620,6 +626,154 @@ public void run() {
         }
     } // testBigFile()
 
+    /** Iterating a table with a {@link TableFilter}, read from file and from memory. */
+    public void testTableFilter() {
+        for (int maxCellsInMemory : new int[]{0, 100000}) {
+            DataContainer container = new DataContainer(SPEC_STR_INT_DBL, true, maxCellsInMemory);
+            for (int i = 0; i < 1000; i++) {
+                container.addRowToTable(new DefaultRow("Row " + i, new StringCell("String " + i), new IntCell(i),
+                    new DoubleCell(i / 2.0)));
+            }
+            container.close();
+            ContainerTable table = container.getBufferedTable();
+            assertEquals(maxCellsInMemory == 0, table.getBuffer().usesOutFile());
+
+            TableFilter filter = new TableFilter.Builder().withMaterializeColumnIndices(2)
+                .withFromRowIndex(100).withToRowIndex(299).build();
+            int count = 0;
+            try (CloseableRowIterator it = table.iteratorWithFilter(filter)) {
+                while (it.hasNext()) {
+                    DataRow row = it.next();
+                    assertEquals(new RowKey("Row " + (100 + count)), row.getKey());
+                    assertEquals(new DoubleCell((100 + count) / 2.0), row.getCell(2));
+                    if (maxCellsInMemory == 0) {
+                        assertTrue("Column not materialized", row.getCell(0).isMissing());
+                    }
+                    count++;
+                }
+            }
+            assertEquals(200, count);
+
+            filter = new TableFilter.Builder().withMaterializeColumnIndices(0)
+                .withRowPredicate(1, c -> ((IntCell)c).getIntValue() % 10 == 3).build();
+            count = 0;
+            try (CloseableRowIterator it = table.iteratorWithFilter(filter)) {
+                while (it.hasNext()) {
+                    DataRow row = it.next();
+                    assertEquals(new StringCell("String " + (10 * count + 3)), row.getCell(0));
+                    assertEquals(new IntCell(10 * count + 3), row.getCell(1));
+                    count++;
+                }
+            }
+            assertEquals(100, count);
+
+            // range beyond the end of the table
+            try (CloseableRowIterator it = table.iteratorWithFilter(
+                new TableFilter.Builder().withFromRowIndex(5000).build())) {
+                assertFalse(it.hasNext());
+            }
+        }
+    }
+
+    /** Rows added from multiple threads via a {@link ParallelRowWriter}, ordered and unordered. */
+    public void testParallelWriter() throws Exception {
+        final int nrBatches = 40;
+        final int batchSize = 250;
+        for (boolean isOrdered : new boolean[]{true, false}) {
+            DataContainer container = new DataContainer(SPEC_STR_INT_DBL, false, 1000);
+            final ParallelRowWriter writer = container.createParallelWriter(isOrdered);
+            try {
+                container.addRowToTable(generateRows(1).next());
+                fail("Expected " + IllegalStateException.class + " not thrown");
+            } catch (IllegalStateException e) {
+                NodeLogger.getLogger(getClass()).debug("Got expected exception: " + e.getClass(), e);
+            }
+            List<Thread> threads = new ArrayList<>();
+            final List<Throwable> throwables = Collections.synchronizedList(new ArrayList<Throwable>());
+            for (int t = 0; t < 4; t++) {
+                final int offset = t;
+                threads.add(new Thread(() -> {
+                    try {
+                        // threads process batches in reverse order to force out-of-order commits
+                        for (int b = nrBatches - 1 - offset; b >= 0; b -= 4) {
+                            try (ParallelRowWriter.RowBatch batch = writer.createBatch(b)) {
+                                for (int i = b * batchSize; i < (b + 1) * batchSize; i++) {
+                                    batch.addRowToTable(new DefaultRow(RowKey.createRowKey(i),
+                                        new StringCell("String " + i), new IntCell(i), new DoubleCell(i)));
+                                }
+                            }
+                        }
+                    } catch (Throwable th) {
+                        throwables.add(th);
+                    }
+                }));
+            }
+            threads.forEach(Thread::start);
+            for (Thread t : threads) {
+                t.join();
+            }
+            assertTrue("Exceptions in writer threads: " + throwables, throwables.isEmpty());
+            container.close();
+            DataTable table = container.getTable();
+            final int rowCount = nrBatches * batchSize;
+            assertEquals(rowCount, container.size());
+            boolean[] seen = new boolean[rowCount];
+            int index = 0;
+            for (DataRow row : table) {
+                int value = ((IntCell)row.getCell(1)).getIntValue();
+                if (isOrdered) {
+                    assertEquals(index, value);
+                    assertEquals(RowKey.createRowKey(index), row.getKey());
+                }
+                assertFalse("Row " + value + " seen twice", seen[value]);
+                seen[value] = true;
+                index++;
+            }
+            assertEquals(rowCount, index);
+        }
+
+        // duplicates across threads are detected (in the adding thread)
+        DataContainer container = new DataContainer(SPEC_STR_INT_DBL);
+        final ParallelRowWriter writer = container.createParallelWriter(false);
+        final List<DuplicateKeyException> duplicates =
+            Collections.synchronizedList(new ArrayList<DuplicateKeyException>());
+        Thread[] threads = new Thread[2];
+        for (int t = 0; t < threads.length; t++) {
+            final int offset = t * 1000;
+            threads[t] = new Thread(() -> {
+                // row 1000 is added by both threads
+                for (int i = offset; i <= offset + 1000; i++) {
+                    try {
+                        writer.addRowToTable(new DefaultRow(RowKey.createRowKey(i), new StringCell("String " + i),
+                            new IntCell(i), new DoubleCell(i)));
+                    } catch (DuplicateKeyException e) {
+                        duplicates.add(e);
+                    }
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+        assertEquals(1, duplicates.size());
+        assertEquals(RowKey.createRowKey(1000).toString(), duplicates.get(0).getKey());
+        container.close();
+        assertEquals(2000, container.size());
+
+        // ordered writer with a missing batch
+        container = new DataContainer(SPEC_STR_INT_DBL);
+        ParallelRowWriter orderedWriter = container.createParallelWriter(true);
+        orderedWriter.createBatch(0).commit();
+        orderedWriter.createBatch(2).commit();
+        try {
+            orderedWriter.close();
+            fail("Expected " + IllegalStateException.class + " not thrown");
+        } catch (IllegalStateException e) {
+            NodeLogger.getLogger(getClass()).debug("Got expected exception: " + e.getClass(), e);
+        }
+    }
+
     /** Test if the domain is retained. */
     public void testTableDomain() {
         RowKey r1Key = new RowKey("row 1");
@@ -733,4 +887,42 @@ private static DataRow createRandomRow(final int index, final int colCount, fina
         return new DefaultRow(key, cells);
     }
 
+    /**
+     * Saving a table a second time reuses the file of the first save.
+     * @throws Exception ...
+     */
+    public void testSaveToFileReusesSavedFile() throws Exception {
+        DataContainer container = new DataContainer(SPEC_STR_INT_DBL, true, 0);
+        for (RowIterator it = generateRows(1000); it.hasNext();) {
+            container.addRowToTable(it.next());
+        }
+        container.close();
+        ContainerTable table = (ContainerTable)container.getTable();
+        File dir = FileUtil.createTempDir(getClass().getSimpleName());
+        try {
+            File first = new File(dir, "first.zip");
+            table.saveToFile(first, null, new ExecutionMonitor());
+            byte[] content = Files.readAllBytes(first.toPath());
+            // same file, must not be written again
+            long lastModified = first.lastModified();
+            Thread.sleep(1100); // file time resolution may be 1s
+            table.saveToFile(first, null, new ExecutionMonitor());
+            assertEquals(lastModified, first.lastModified());
+
+            File second = new File(dir, "second.zip");
+            table.saveToFile(second, null, new ExecutionMonitor());
+            Assert.assertTrue(Arrays.equals(content, Files.readAllBytes(second.toPath())));
+
+            // modified file is written again
+            Files.write(second.toPath(), new byte[]{1, 2, 3});
+            Files.delete(first.toPath());
+            table.saveToFile(first, null, new ExecutionMonitor());
+            Assert.assertTrue(first.length() > 3);
+            Assert.assertTrue(Arrays.equals(new byte[]{1, 2, 3}, Files.readAllBytes(second.toPath())));
+        } finally {
+            FileUtil.deleteRecursively(dir);
+            container.dispose();
+        }
+    }
+
 }
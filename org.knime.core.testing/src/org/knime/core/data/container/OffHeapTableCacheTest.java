@@ -0,0 +1,187 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * Tests tables kept in the {@link OffHeapTableCache}, including eviction (spill to file) while iterating.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class OffHeapTableCacheTest {
+
+    private static final DataTableSpec SPEC =
+        new DataTableSpec(new String[]{"int", "string"}, new DataType[]{IntCell.TYPE, StringCell.TYPE});
+
+    private long m_originalBudget;
+
+    /** Enables the cache. */
+    @Before
+    public void setUp() {
+        m_originalBudget = OffHeapTableCache.getInstance().getBudget();
+        OffHeapTableCache.getInstance().setBudget(8L * OffHeapTableCache.CHUNK_SIZE);
+    }
+
+    /** Restores the original budget. */
+    @After
+    public void tearDown() {
+        OffHeapTableCache.getInstance().setBudget(m_originalBudget);
+    }
+
+    private static ContainerTable createTable(final int rowCount, final int stringLength) {
+        DataContainer container = new DataContainer(SPEC, false, Integer.MAX_VALUE);
+        Random random = new Random(rowCount);
+        char[] chars = new char[stringLength];
+        for (int i = 0; i < rowCount; i++) {
+            for (int c = 0; c < stringLength; c++) {
+                chars[c] = (char)('a' + random.nextInt(26));
+            }
+            container.addRowToTable(
+                new DefaultRow(RowKey.createRowKey(i), new IntCell(i), new StringCell(i + new String(chars))));
+        }
+        container.close();
+        return container.getBufferedTable();
+    }
+
+    private static void assertRows(final CloseableRowIterator it, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            assertTrue("Iterator ends at row " + i, it.hasNext());
+            DataRow row = it.next();
+            assertEquals(RowKey.createRowKey(i), row.getKey());
+            assertEquals(new IntCell(i), row.getCell(0));
+            assertTrue(((StringCell)row.getCell(1)).getStringValue().startsWith(Integer.toString(i)));
+        }
+    }
+
+    /** Tables are moved off-heap on close, spilled in LRU order and open iterators survive the spill. */
+    @Test
+    public void testSpill() {
+        OffHeapTableCache cache = OffHeapTableCache.getInstance();
+        ContainerTable table1 = createTable(1000, 10);
+        Buffer buffer1 = table1.getBuffer();
+        assertTrue(buffer1.isOffHeap());
+        assertFalse(buffer1.usesOutFile());
+        try (CloseableRowIterator it = table1.iterator()) {
+            assertRows(it, 0, 1000);
+            assertFalse(it.hasNext());
+        }
+
+        CloseableRowIterator openIterator = table1.iterator();
+        assertRows(openIterator, 0, 500);
+
+        ContainerTable table2 = createTable(1000, 10);
+        Buffer buffer2 = table2.getBuffer();
+        assertTrue(buffer2.isOffHeap());
+        // make table2 the least recently used one
+        table1.iterator().close();
+
+        cache.setBudget(cache.getUsedBytes() - 1);
+        assertFalse(buffer2.isOffHeap());
+        assertTrue(buffer2.usesOutFile());
+        assertTrue(buffer1.isOffHeap());
+        try (CloseableRowIterator it = table2.iterator()) {
+            assertRows(it, 0, 1000);
+            assertFalse(it.hasNext());
+        }
+
+        cache.setBudget(0L);
+        assertFalse(buffer1.isOffHeap());
+        assertTrue(buffer1.usesOutFile());
+        assertEquals(0L, cache.getUsedBytes());
+        // continues reading from memory
+        assertRows(openIterator, 500, 1000);
+        assertFalse(openIterator.hasNext());
+        openIterator.close();
+        try (CloseableRowIterator it = table1.iterator()) {
+            assertRows(it, 0, 1000);
+        }
+        table1.clear();
+        table2.clear();
+    }
+
+    /** Tables exceeding the budget stay on the heap; clearing a table gives back its memory. */
+    @Test
+    public void testBudget() {
+        OffHeapTableCache cache = OffHeapTableCache.getInstance();
+        cache.setBudget(OffHeapTableCache.CHUNK_SIZE);
+        // ~3MB of random characters, doesn't compress below the budget
+        ContainerTable large = createTable(3000, 1000);
+        assertFalse(large.getBuffer().isOffHeap());
+        assertFalse(large.getBuffer().usesOutFile());
+        assertEquals(0L, cache.getUsedBytes());
+        try (CloseableRowIterator it = large.iterator()) {
+            assertRows(it, 0, 3000);
+        }
+
+        ContainerTable small = createTable(100, 10);
+        assertTrue(small.getBuffer().isOffHeap());
+        assertTrue(cache.getUsedBytes() > 0);
+        assertTrue(cache.getUsedBytes() < OffHeapTableCache.CHUNK_SIZE);
+        small.clear();
+        large.clear();
+        assertEquals(0L, cache.getUsedBytes());
+        assertEquals(0, cache.getTableCount());
+    }
+
+}
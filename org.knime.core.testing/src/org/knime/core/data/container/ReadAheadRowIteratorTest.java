@@ -0,0 +1,194 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+
+/**
+ * Tests the {@link ReadAheadRowIterator}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class ReadAheadRowIteratorTest {
+
+    /** Source iterator generating rows, optionally failing at a given row. */
+    private static final class TestIterator extends CloseableRowIterator {
+
+        private final int m_rowCount;
+
+        private final int m_failAt;
+
+        private final AtomicBoolean m_isClosed = new AtomicBoolean();
+
+        private final AtomicBoolean m_isReadAfterClose = new AtomicBoolean();
+
+        private volatile Thread m_closingThread;
+
+        private int m_index;
+
+        TestIterator(final int rowCount, final int failAt) {
+            m_rowCount = rowCount;
+            m_failAt = failAt;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (m_isClosed.get()) {
+                m_isReadAfterClose.set(true);
+            }
+            return m_index < m_rowCount;
+        }
+
+        @Override
+        public DataRow next() {
+            if (m_isClosed.get()) {
+                m_isReadAfterClose.set(true);
+            }
+            if (m_index == m_failAt) {
+                throw new IllegalStateException("Failing at row " + m_index);
+            }
+            DataRow row = new DefaultRow(RowKey.createRowKey(m_index), new IntCell(m_index));
+            m_index++;
+            return row;
+        }
+
+        @Override
+        public void close() {
+            m_closingThread = Thread.currentThread();
+            m_isClosed.set(true);
+        }
+
+        void waitForClose() throws InterruptedException {
+            for (int i = 0; i < 100 && !m_isClosed.get(); i++) {
+                Thread.sleep(50);
+            }
+            assertTrue("Source iterator not closed", m_isClosed.get());
+        }
+    }
+
+    /** All rows are returned in order, also if the row count is not a multiple of the batch size. */
+    @Test
+    public void testIterate() throws Exception {
+        for (int rowCount : new int[]{0, 1, 7, 1000}) {
+            TestIterator source = new TestIterator(rowCount, -1);
+            int count = 0;
+            try (ReadAheadRowIterator it = new ReadAheadRowIterator(source, 7, 2)) {
+                while (it.hasNext()) {
+                    assertEquals(RowKey.createRowKey(count), it.next().getKey());
+                    count++;
+                }
+                assertFalse(it.hasNext());
+            }
+            assertEquals(rowCount, count);
+            source.waitForClose();
+        }
+    }
+
+    /**
+     * Closing the iterator early waits for the reading thread to stop and closes the source in the calling thread,
+     * which isn't accessed afterwards.
+     */
+    @Test
+    public void testEarlyClose() throws Exception {
+        TestIterator source = new TestIterator(Integer.MAX_VALUE, -1);
+        ReadAheadRowIterator it = new ReadAheadRowIterator(source, 10, 2);
+        for (int i = 0; i < 25; i++) {
+            assertEquals(RowKey.createRowKey(i), it.next().getKey());
+        }
+        it.close();
+        assertTrue("Source iterator not closed", source.m_isClosed.get());
+        assertSame(Thread.currentThread(), source.m_closingThread);
+        assertFalse(it.hasNext());
+        Thread.sleep(200);
+        assertFalse("Source iterator read after it was closed", source.m_isReadAfterClose.get());
+        it.close();
+    }
+
+    /** Closing the iterator before reading any row closes the source, whether the reading thread started or not. */
+    @Test
+    public void testImmediateClose() throws Exception {
+        for (int i = 0; i < 100; i++) {
+            TestIterator source = new TestIterator(Integer.MAX_VALUE, -1);
+            new ReadAheadRowIterator(source, 10, 2).close();
+            assertTrue("Source iterator not closed", source.m_isClosed.get());
+            assertFalse("Source iterator read after it was closed", source.m_isReadAfterClose.get());
+        }
+    }
+
+    /** Exceptions in the reading thread are rethrown in the consumer thread. */
+    @Test
+    public void testException() throws Exception {
+        TestIterator source = new TestIterator(1000, 55);
+        int count = 0;
+        try (ReadAheadRowIterator it = new ReadAheadRowIterator(source, 10, 2)) {
+            while (it.hasNext()) {
+                it.next();
+                count++;
+            }
+            fail("Expected exception not thrown");
+        } catch (IllegalStateException e) {
+            assertEquals("Failing at row 55", e.getMessage());
+        }
+        // rows of the batch containing the failing row are not returned
+        assertEquals(50, count);
+        source.waitForClose();
+    }
+
+}
@@ -0,0 +1,214 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.TableCacheManager.EvictionPolicy;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * Tests the {@link TableCacheManager}: size estimation, eviction policies, quotas and counters.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class TableCacheManagerTest {
+
+    private static final DataTableSpec SPEC =
+        new DataTableSpec(new String[]{"int", "string"}, new DataType[]{IntCell.TYPE, StringCell.TYPE});
+
+    private long m_originalBudget;
+
+    private long m_originalQuota;
+
+    private EvictionPolicy m_originalPolicy;
+
+    private final List<ContainerTable> m_tables = new ArrayList<>();
+
+    /** Saves the settings of the manager. */
+    @Before
+    public void setUp() {
+        TableCacheManager manager = TableCacheManager.getInstance();
+        m_originalBudget = manager.getBudget();
+        m_originalQuota = manager.getWorkflowQuota();
+        m_originalPolicy = manager.getPolicy();
+        manager.setBudget(Long.MAX_VALUE, Long.MAX_VALUE);
+        manager.resetCounters();
+    }
+
+    /** Clears the tables and restores the settings. */
+    @After
+    public void tearDown() {
+        m_tables.forEach(ContainerTable::clear);
+        TableCacheManager manager = TableCacheManager.getInstance();
+        manager.setBudget(m_originalBudget, m_originalQuota);
+        manager.setPolicy(m_originalPolicy);
+    }
+
+    private ContainerTable createTable(final int rowCount) {
+        DataContainer container = new DataContainer(SPEC, false, Integer.MAX_VALUE);
+        for (int i = 0; i < rowCount; i++) {
+            container.addRowToTable(new DefaultRow(RowKey.createRowKey(i), new IntCell(i),
+                new StringCell(String.format("%0100d", i))));
+        }
+        container.close();
+        ContainerTable table = container.getBufferedTable();
+        m_tables.add(table);
+        return table;
+    }
+
+    private static void iterate(final ContainerTable table, final int expectedRowCount) {
+        int count = 0;
+        try (CloseableRowIterator it = table.iterator()) {
+            while (it.hasNext()) {
+                DataRow row = it.next();
+                assertEquals(new IntCell(count), row.getCell(0));
+                count++;
+            }
+        }
+        assertEquals(expectedRowCount, count);
+    }
+
+    /** The size estimate is in a plausible range. */
+    @Test
+    public void testEstimateHeapSize() {
+        List<DataRow> rows = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            rows.add(new DefaultRow(RowKey.createRowKey(i), new IntCell(i), new StringCell(String.format("%0100d", i))));
+        }
+        long size = TableCacheManager.estimateHeapSize(rows);
+        // at least the characters of the strings, at most a few times that
+        assertTrue("Estimate too small: " + size, size > 5000 * 200);
+        assertTrue("Estimate too large: " + size, size < 5000 * 1000);
+        assertEquals(0L, TableCacheManager.estimateHeapSize(new ArrayList<DataRow>()));
+    }
+
+    /** Least recently used tables are written to disk first; iterations are counted as hits and misses. */
+    @Test
+    public void testLRUEviction() {
+        TableCacheManager manager = TableCacheManager.getInstance();
+        manager.setPolicy(EvictionPolicy.LRU);
+        ContainerTable t1 = createTable(1000);
+        long tableSize = manager.getUsedBytes();
+        assertTrue(tableSize > 0);
+        ContainerTable t2 = createTable(1000);
+        manager.setBudget(tableSize * 5 / 2, tableSize * 5 / 2);
+        assertEquals(2, manager.getTableCount());
+        iterate(t1, 1000);
+        assertEquals(1L, manager.getHitCount());
+
+        ContainerTable t3 = createTable(1000);
+        assertEquals(2, manager.getTableCount());
+        assertEquals(1L, manager.getEvictionCount());
+        assertFalse(t1.getBuffer().usesOutFile());
+        assertTrue(t2.getBuffer().usesOutFile());
+        assertFalse(t3.getBuffer().usesOutFile());
+        iterate(t2, 1000);
+        assertEquals(1L, manager.getMissCount());
+
+        t1.clear();
+        m_tables.remove(t1);
+        assertEquals(1, manager.getTableCount());
+        assertEquals(tableSize, manager.getUsedBytes());
+    }
+
+    /** Least frequently used tables are written to disk first. */
+    @Test
+    public void testLFUEviction() {
+        TableCacheManager manager = TableCacheManager.getInstance();
+        manager.setPolicy(EvictionPolicy.LFU);
+        ContainerTable t1 = createTable(1000);
+        ContainerTable t2 = createTable(1000);
+        long tableSize = manager.getUsedBytes() / 2;
+        for (int i = 0; i < 3; i++) {
+            iterate(t1, 1000);
+        }
+        iterate(t2, 1000);
+        manager.setBudget(tableSize * 3 / 2, Long.MAX_VALUE);
+        assertFalse(t1.getBuffer().usesOutFile());
+        assertTrue(t2.getBuffer().usesOutFile());
+        iterate(t2, 1000);
+        assertEquals(4L, manager.getHitCount());
+        assertEquals(1L, manager.getMissCount());
+    }
+
+    /** A workflow can't use more than its quota even if the global budget is not exhausted. */
+    @Test
+    public void testWorkflowQuota() {
+        TableCacheManager manager = TableCacheManager.getInstance();
+        manager.setPolicy(EvictionPolicy.LRU);
+        createTable(1000);
+        long tableSize = manager.getUsedBytes();
+        manager.setBudget(tableSize * 10, tableSize * 3 / 2);
+        assertEquals(1, manager.getTableCount());
+        createTable(1000);
+        createTable(1000);
+        assertEquals(1, manager.getTableCount());
+        assertEquals(2L, manager.getEvictionCount());
+        assertEquals(1, manager.getWorkflowUsage().size());
+        assertEquals(Long.valueOf(tableSize), manager.getWorkflowUsage().values().iterator().next());
+        for (ContainerTable table : m_tables) {
+            iterate(table, 1000);
+        }
+    }
+
+}
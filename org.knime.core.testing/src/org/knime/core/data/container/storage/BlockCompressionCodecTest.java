@@ -0,0 +1,264 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests the {@link BlockCompressionCodec} implementations and the block compressed streams.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class BlockCompressionCodecTest {
+
+    private static final BlockCompressionCodec[] CODECS = new BlockCompressionCodec[]{
+        new LZ4BlockCodec(), new SnappyBlockCodec()};
+
+    /** Compresses and decompresses single blocks of different content and size. */
+    @Test
+    public void testBlockRoundTrip() throws IOException {
+        long seed = System.currentTimeMillis();
+        Random r = new Random(seed);
+        for (BlockCompressionCodec codec : CODECS) {
+            for (int length : new int[]{0, 1, 5, 12, 13, 100, 4096, 70000, 300000}) {
+                for (byte[] data : new byte[][]{randomBytes(r, length), repetitiveBytes(r, length),
+                    new byte[length]}) {
+                    byte[] compressed = new byte[3 + codec.maxCompressedLength(length)];
+                    int compressedLength = codec.compress(data, 0, length, compressed, 3);
+                    byte[] result = new byte[length + 2];
+                    codec.decompress(compressed, 3, compressedLength, result, 2, length);
+                    assertArrayEquals(codec.getName() + ", length " + length + " (seed " + seed + ")", data,
+                        Arrays.copyOfRange(result, 2, length + 2));
+                }
+            }
+        }
+    }
+
+    /** Repetitive data must actually compress. */
+    @Test
+    public void testCompressionRatio() {
+        byte[] data = repetitiveBytes(new Random(0), 100000);
+        for (BlockCompressionCodec codec : CODECS) {
+            byte[] compressed = new byte[codec.maxCompressedLength(data.length)];
+            int compressedLength = codec.compress(data, 0, data.length, compressed, 0);
+            if (compressedLength > data.length / 2) {
+                fail(codec.getName() + " compressed " + data.length + " bytes to " + compressedLength);
+            }
+        }
+    }
+
+    /** Corrupt input results in an IOException. */
+    @Test
+    public void testCorruptBlock() {
+        byte[] data = repetitiveBytes(new Random(0), 10000);
+        for (BlockCompressionCodec codec : CODECS) {
+            byte[] compressed = new byte[codec.maxCompressedLength(data.length)];
+            int compressedLength = codec.compress(data, 0, data.length, compressed, 0);
+            try {
+                codec.decompress(compressed, 0, compressedLength / 2, new byte[data.length], 0, data.length);
+                fail(codec.getName() + " did not detect truncated block");
+            } catch (IOException e) {
+                // expected
+            }
+        }
+    }
+
+    /** Writes and reads streams, sequentially and with parallel block compression. */
+    @Test
+    public void testStreamRoundTrip() throws IOException {
+        long seed = System.currentTimeMillis();
+        Random r = new Random(seed);
+        byte[] data = repetitiveBytes(r, 1000000);
+        for (BlockCompressionCodec codec : CODECS) {
+            for (int nrThreads : new int[]{1, 3}) {
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                try (OutputStream out = new BlockCompressedOutputStream(bytes, codec, 10000, nrThreads)) {
+                    int pos = 0;
+                    while (pos < data.length) {
+                        if (r.nextBoolean()) {
+                            out.write(data[pos++]);
+                        } else {
+                            int count = Math.min(data.length - pos, r.nextInt(30000));
+                            out.write(data, pos, count);
+                            pos += count;
+                        }
+                    }
+                }
+                ByteArrayOutputStream result = new ByteArrayOutputStream();
+                try (InputStream in = new BlockCompressedInputStream(
+                    new ByteArrayInputStream(bytes.toByteArray()), codec)) {
+                    assertEquals(data[0] & 0xFF, in.read());
+                    result.write(data[0]);
+                    byte[] buffer = new byte[7777];
+                    int read;
+                    while ((read = in.read(buffer)) >= 0) {
+                        result.write(buffer, 0, read);
+                    }
+                }
+                assertArrayEquals(codec.getName() + ", " + nrThreads + " threads (seed " + seed + ")", data,
+                    result.toByteArray());
+            }
+        }
+    }
+
+    /**
+     * Streams with different numbers of threads are written at the same time (i.e. share the compression pool),
+     * opening a stream must not affect the streams opened before.
+     */
+    @Test
+    public void testConcurrentParallelStreams() throws IOException {
+        byte[] data = repetitiveBytes(new Random(0), 200000);
+        BlockCompressionCodec codec = new LZ4BlockCodec();
+        int[] nrThreads = new int[]{2, 4, 3, 64};
+        ByteArrayOutputStream[] bytes = new ByteArrayOutputStream[nrThreads.length];
+        OutputStream[] outs = new OutputStream[nrThreads.length];
+        for (int i = 0; i < nrThreads.length; i++) {
+            bytes[i] = new ByteArrayOutputStream();
+            outs[i] = new BlockCompressedOutputStream(bytes[i], codec, 1000, nrThreads[i]);
+            // each stream already has blocks pending in the pool when the next one is opened
+            outs[i].write(data, 0, 10000);
+        }
+        for (int i = 0; i < nrThreads.length; i++) {
+            outs[i].write(data, 10000, data.length - 10000);
+            outs[i].close();
+        }
+        for (int i = 0; i < nrThreads.length; i++) {
+            ByteArrayOutputStream result = new ByteArrayOutputStream();
+            try (InputStream in = new BlockCompressedInputStream(
+                new ByteArrayInputStream(bytes[i].toByteArray()), codec)) {
+                byte[] buffer = new byte[7777];
+                int read;
+                while ((read = in.read(buffer)) >= 0) {
+                    result.write(buffer, 0, read);
+                }
+            }
+            assertArrayEquals(nrThreads[i] + " threads", data, result.toByteArray());
+        }
+    }
+
+    /** A stream without end marker is detected. */
+    @Test(expected = IOException.class)
+    public void testTruncatedStream() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new BlockCompressedOutputStream(bytes, new LZ4BlockCodec(), 1000, 1)) {
+            out.write(repetitiveBytes(new Random(0), 5000));
+        }
+        byte[] truncated = Arrays.copyOf(bytes.toByteArray(), bytes.size() - 8);
+        try (InputStream in = new BlockCompressedInputStream(new ByteArrayInputStream(truncated),
+            new LZ4BlockCodec())) {
+            while (in.read() >= 0) {
+            }
+        }
+    }
+
+    /** Writing to or flushing a closed stream fails with an IOException (and not a NullPointerException). */
+    @Test
+    public void testWriteAfterClose() throws IOException {
+        OutputStream out = new BlockCompressedOutputStream(new ByteArrayOutputStream(), new LZ4BlockCodec(), 1000, 1);
+        out.write(1);
+        out.close();
+        out.close();
+        try {
+            out.write(2);
+            fail("Expected IOException when writing a byte to a closed stream");
+        } catch (IOException e) {
+            assertEquals("Stream closed", e.getMessage());
+        }
+        try {
+            out.write(new byte[10], 0, 10);
+            fail("Expected IOException when writing an array to a closed stream");
+        } catch (IOException e) {
+            assertEquals("Stream closed", e.getMessage());
+        }
+        try {
+            out.flush();
+            fail("Expected IOException when flushing a closed stream");
+        } catch (IOException e) {
+            assertEquals("Stream closed", e.getMessage());
+        }
+    }
+
+    private static byte[] randomBytes(final Random r, final int length) {
+        byte[] result = new byte[length];
+        r.nextBytes(result);
+        return result;
+    }
+
+    /** Text-like data with many (also overlapping and long) repetitions. */
+    private static byte[] repetitiveBytes(final Random r, final int length) {
+        byte[] result = new byte[length];
+        int pos = 0;
+        while (pos < length) {
+            int runLength = Math.min(length - pos, 1 + r.nextInt(300));
+            if (pos > 0 && r.nextInt(3) > 0) {
+                int offset = 1 + r.nextInt(Math.min(pos, 70000));
+                for (int i = 0; i < runLength; i++) {
+                    result[pos + i] = result[pos + i - offset];
+                }
+            } else {
+                for (int i = 0; i < runLength; i++) {
+                    result[pos + i] = (byte)('a' + r.nextInt(r.nextBoolean() ? 4 : 26));
+                }
+            }
+            pos += runLength;
+        }
+        return result;
+    }
+}
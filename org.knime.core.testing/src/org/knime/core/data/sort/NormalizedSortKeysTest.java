@@ -0,0 +1,152 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.sort;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DataValueComparator;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+
+/**
+ * Tests that {@link NormalizedSortKeys} orders rows like the comparators of the column types.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class NormalizedSortKeysTest {
+
+    private static final double[] DOUBLES =
+        {Double.NEGATIVE_INFINITY, -Double.MAX_VALUE, -1.5, -Double.MIN_VALUE, -0.0, 0.0, Double.MIN_VALUE, 1.5,
+            Double.MAX_VALUE, Double.POSITIVE_INFINITY, Double.NaN};
+
+    /** Sortable longs compare like {@link Double#compare(double, double)}. */
+    @Test
+    public void testSortableLong() {
+        for (double d1 : DOUBLES) {
+            for (double d2 : DOUBLES) {
+                assertEquals(d1 + " vs. " + d2, Integer.signum(Double.compare(d1, d2)), Integer.signum(
+                    Long.compare(NormalizedSortKeys.toSortableLong(d1), NormalizedSortKeys.toSortableLong(d2))));
+            }
+        }
+    }
+
+    /** Compares random rows with all kinds of keys in all sort orders. */
+    @Test
+    public void testCompareLikeColumnComparators() {
+        final DataTableSpec spec = new DataTableSpec(new String[]{"Int", "Long", "Double", "String", "Boolean"},
+            new DataType[]{IntCell.TYPE, LongCell.TYPE, DoubleCell.TYPE, StringCell.TYPE, BooleanCell.TYPE});
+        final Random rand = new Random(7);
+        final DataRow[] rows = new DataRow[60];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = new DefaultRow("Row" + rand.nextInt(3),
+                rand.nextInt(5) == 0 ? DataType.getMissingCell() : new IntCell(rand.nextInt(3) - 1),
+                rand.nextInt(5) == 0 ? DataType.getMissingCell() : new LongCell(rand.nextInt(3) - 1L),
+                rand.nextInt(5) == 0 ? DataType.getMissingCell() : new DoubleCell(DOUBLES[rand.nextInt(4) + 4]),
+                rand.nextInt(5) == 0 ? DataType.getMissingCell() : new StringCell(rand.nextBoolean() ? "a" : "b"),
+                rand.nextInt(5) == 0 ? DataType.getMissingCell()
+                    : (rand.nextBoolean() ? BooleanCell.TRUE : BooleanCell.FALSE));
+        }
+        final int[] indices = {0, 1, 2, 3, 4, -1};
+        for (int order = 0; order < (1 << indices.length); order++) {
+            final boolean[] ascending = new boolean[indices.length];
+            for (int i = 0; i < ascending.length; i++) {
+                ascending[i] = (order & (1 << i)) != 0;
+            }
+            for (boolean missingsToEnd : new boolean[]{false, true}) {
+                final NormalizedSortKeys keys = NormalizedSortKeys.create(indices, ascending, missingsToEnd, spec);
+                for (DataRow r1 : rows) {
+                    for (DataRow r2 : rows) {
+                        assertEquals(r1 + " vs. " + r2,
+                            Integer.signum(compare(r1, r2, indices, ascending, missingsToEnd, spec)),
+                            Integer.signum(keys.compare(keys.extract(r1), keys.extract(r2))));
+                    }
+                }
+            }
+        }
+    }
+
+    /** Reference implementation using the comparators of the column types. */
+    private static int compare(final DataRow r1, final DataRow r2, final int[] indices, final boolean[] ascending,
+        final boolean missingsToEnd, final DataTableSpec spec) {
+        for (int i = 0; i < indices.length; i++) {
+            int result;
+            if (indices[i] == -1) {
+                result = r1.getKey().getString().compareTo(r2.getKey().getString());
+            } else {
+                final DataCell c1 = r1.getCell(indices[i]);
+                final DataCell c2 = r2.getCell(indices[i]);
+                if (missingsToEnd && (c1.isMissing() || c2.isMissing())) {
+                    if (c1.isMissing() && c2.isMissing()) {
+                        result = 0;
+                    } else {
+                        // missing cells always last
+                        return c1.isMissing() ? 1 : -1;
+                    }
+                } else {
+                    final DataValueComparator comparator = spec.getColumnSpec(indices[i]).getType().getComparator();
+                    result = comparator.compare(c1, c2);
+                }
+            }
+            if (result != 0) {
+                return ascending[i] ? result : -result;
+            }
+        }
+        return 0;
+    }
+}
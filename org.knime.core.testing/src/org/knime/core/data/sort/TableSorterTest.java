@@ -50,6 +50,7 @@
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Random;
 
 import org.junit.After;
@@ -67,9 +68,11 @@
 import org.knime.core.data.RowIterator;
 import org.knime.core.data.container.ContainerTable;
 import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.DoubleCell;
 import org.knime.core.data.def.IntCell;
 import org.knime.core.data.def.StringCell;
 import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.node.BufferedDataContainer;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.DefaultNodeProgressMonitor;
@@ -141,6 +144,116 @@ public final void testMultiStageMerge() throws CanceledExecutionException {
         runMemoryTest(100, 5, 8);
     }
 
+    /**
+     * Test that sorting and merging chunks in parallel gives the same result as sorting sequentially in memory,
+     * including the order of rows that compare equal.
+     * @throws CanceledExecutionException
+     */
+    @Test
+    public final void testParallelMultiStageMerge() throws CanceledExecutionException {
+        DataTableSpec spec = new DataTableSpec(new String[]{"Int", "Double", "String"},
+            new DataType[]{IntCell.TYPE, DoubleCell.TYPE, StringCell.TYPE});
+        BufferedDataContainer container = m_exec.createDataContainer(spec);
+        Random rand = new Random(3);
+        for (int i = 0; i < 500; i++) {
+            DataCell intCell = rand.nextInt(10) == 0 ? DataType.getMissingCell() : new IntCell(rand.nextInt(5));
+            DataCell doubleCell = rand.nextInt(10) == 0 ? DataType.getMissingCell()
+                : new DoubleCell(rand.nextInt(3) == 0 ? Double.NaN : rand.nextInt(4) - 2.0);
+            container.addRowToTable(new DefaultRow("Row" + i, intCell, doubleCell,
+                new StringCell(Character.toString((char)('a' + rand.nextInt(3))))));
+        }
+        container.close();
+        BufferedDataTable bdt = container.getTable();
+        for (boolean sortMissingsToEnd : new boolean[]{false, true}) {
+            List<String> inclList = Arrays.asList("Int", "Double", "String");
+            boolean[] sortAscending = new boolean[]{true, false, true};
+            BufferedDataTableSorter sequential =
+                new BufferedDataTableSorter(bdt, inclList, sortAscending, sortMissingsToEnd);
+            sequential.setParallelSort(false);
+            sequential.setSortInMemory(true);
+            BufferedDataTableSorter parallel =
+                new BufferedDataTableSorter(bdt, inclList, sortAscending, sortMissingsToEnd);
+            parallel.setParallelSort(true);
+            parallel.setMaxRows(7);
+            parallel.setMaxOpenContainers(3);
+            BufferedDataTable sequentialResult = sequential.sort(m_exec);
+            BufferedDataTable parallelResult = parallel.sort(m_exec);
+            Assert.assertEquals(bdt.size(), parallelResult.size());
+            RowIterator sequentialIter = sequentialResult.iterator();
+            RowIterator parallelIter = parallelResult.iterator();
+            while (sequentialIter.hasNext()) {
+                Assert.assertEquals(sequentialIter.next().getKey(), parallelIter.next().getKey());
+            }
+            Assert.assertFalse(parallelIter.hasNext());
+        }
+    }
+
+    /**
+     * Test that selecting the first rows gives the first rows of the fully sorted table, including the order of rows
+     * that compare equal.
+     * @throws CanceledExecutionException
+     */
+    @Test
+    public final void testTopK() throws CanceledExecutionException {
+        DataTableSpec spec = new DataTableSpec(new String[]{"Int", "String"},
+            new DataType[]{IntCell.TYPE, StringCell.TYPE});
+        BufferedDataContainer container = m_exec.createDataContainer(spec);
+        Random rand = new Random(5);
+        for (int i = 0; i < 300; i++) {
+            DataCell intCell = rand.nextInt(10) == 0 ? DataType.getMissingCell() : new IntCell(rand.nextInt(20));
+            container.addRowToTable(new DefaultRow("Row" + i, intCell,
+                new StringCell(Character.toString((char)('a' + rand.nextInt(3))))));
+        }
+        container.close();
+        BufferedDataTable bdt = container.getTable();
+        List<String> inclList = Arrays.asList("Int", "String");
+        boolean[] sortAscending = new boolean[]{false, true};
+        BufferedDataTable fullResult = new BufferedDataTableSorter(bdt, inclList, sortAscending, true).sort(m_exec);
+        for (int k : new int[]{0, 1, 17, 299, 300, 1000}) {
+            BufferedDataTableSorter sorter = new BufferedDataTableSorter(bdt, inclList, sortAscending, true);
+            sorter.setTopK(k);
+            BufferedDataTable result = sorter.sort(m_exec);
+            Assert.assertEquals(Math.min(k, bdt.size()), result.size());
+            RowIterator fullIter = fullResult.iterator();
+            for (DataRow row : result) {
+                Assert.assertEquals(fullIter.next().getKey(), row.getKey());
+            }
+        }
+    }
+
+    /**
+     * Test that selecting more rows than are selected in memory sorts on disk and gives the first rows of the fully
+     * sorted table.
+     * @throws CanceledExecutionException
+     */
+    @Test
+    public final void testTopKOnDisk() throws CanceledExecutionException {
+        DataTableSpec spec = new DataTableSpec(new String[]{"Int"}, new DataType[]{IntCell.TYPE});
+        BufferedDataContainer container = m_exec.createDataContainer(spec);
+        Random rand = new Random(7);
+        for (int i = 0; i < 1000; i++) {
+            container.addRowToTable(new DefaultRow("Row" + i, new IntCell(rand.nextInt(100))));
+        }
+        container.close();
+        BufferedDataTable bdt = container.getTable();
+        List<String> inclList = Arrays.asList("Int");
+        boolean[] sortAscending = new boolean[]{false};
+        BufferedDataTable fullResult = new BufferedDataTableSorter(bdt, inclList, sortAscending).sort(m_exec);
+        for (int k : new int[]{0, 1, 17, 250, 999}) {
+            BufferedDataTableSorter sorter = new BufferedDataTableSorter(bdt, inclList, sortAscending);
+            sorter.setTopK(k);
+            sorter.setMaxTopKInMemory(0);
+            sorter.setMaxRows(40);
+            sorter.setMaxOpenContainers(4);
+            BufferedDataTable result = sorter.sort(m_exec);
+            Assert.assertEquals(k, result.size());
+            RowIterator fullIter = fullResult.iterator();
+            for (DataRow row : result) {
+                Assert.assertEquals(fullIter.next().getKey(), row.getKey());
+            }
+        }
+    }
+
     private void runMemoryTest(final int numRows,
             final int maxNumRowsPerContainer,
             final int maxOpenContainers) throws CanceledExecutionException {
@@ -0,0 +1,175 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.sort;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.knime.core.data.sort.TopKSelector.TieMode;
+
+/**
+ * Tests {@link TopKSelector} against a stable sort of all elements.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class TopKSelectorTest {
+
+    /** Compares the value (first entry), the second entry is the insertion index. */
+    private static final Comparator<int[]> COMPARATOR = new Comparator<int[]>() {
+        @Override
+        public int compare(final int[] o1, final int[] o2) {
+            return Integer.compare(o1[0], o2[0]);
+        }
+    };
+
+    private static List<int[]> createData(final int size, final int nrValues, final long seed) {
+        Random rand = new Random(seed);
+        List<int[]> data = new ArrayList<int[]>();
+        for (int i = 0; i < size; i++) {
+            data.add(new int[]{rand.nextInt(nrValues), i});
+        }
+        return data;
+    }
+
+    /** Computes the expected selection by sorting all elements and filtering by rank. */
+    private static List<int[]> expected(final List<int[]> data, final int k, final TieMode tieMode) {
+        List<int[]> sorted = new ArrayList<int[]>(data);
+        Collections.sort(sorted, COMPARATOR);
+        List<int[]> result = new ArrayList<int[]>();
+        int distinct = 0;
+        for (int i = 0; i < sorted.size(); i++) {
+            boolean newValue = i == 0 || sorted.get(i - 1)[0] != sorted.get(i)[0];
+            if (newValue) {
+                distinct++;
+            }
+            int standardRank = i + 1;
+            for (int j = i; j > 0 && sorted.get(j - 1)[0] == sorted.get(i)[0]; j--) {
+                standardRank = j;
+            }
+            boolean include;
+            switch (tieMode) {
+                case EXACT:
+                    include = i < k;
+                    break;
+                case INCLUDE_TIES:
+                    include = standardRank <= k;
+                    break;
+                default:
+                    include = distinct <= k;
+                    break;
+            }
+            if (include) {
+                result.add(sorted.get(i));
+            }
+        }
+        return result;
+    }
+
+    private static void assertSelection(final List<int[]> expected, final List<int[]> actual) {
+        Assert.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertSame("Element at position " + i, expected.get(i), actual.get(i));
+        }
+    }
+
+    /** Selection in all modes equals the filtered result of a stable sort, including the order of ties. */
+    @Test
+    public void testAgainstSort() {
+        for (TieMode tieMode : TieMode.values()) {
+            for (int nrValues : new int[]{1, 5, 50, 1000}) {
+                List<int[]> data = createData(500, nrValues, nrValues);
+                for (int k : new int[]{0, 1, 2, 7, 100, 499, 500, 600}) {
+                    TopKSelector<int[]> selector = new TopKSelector<int[]>(COMPARATOR, k, tieMode);
+                    for (int[] e : data) {
+                        selector.add(e);
+                    }
+                    List<int[]> expected = expected(data, k, tieMode);
+                    assertSelection(expected, selector.getSelection());
+                    Assert.assertEquals(expected.size(), selector.size());
+                    Assert.assertEquals(data.size(), selector.getCount());
+                }
+            }
+        }
+    }
+
+    /** Ties with the k-th element are only retained if requested. */
+    @Test
+    public void testTies() {
+        int[][] values = new int[][]{{3, 0}, {1, 1}, {2, 2}, {1, 3}, {2, 4}, {2, 5}};
+        TopKSelector<int[]> exact = new TopKSelector<int[]>(COMPARATOR, 3);
+        TopKSelector<int[]> ties = new TopKSelector<int[]>(COMPARATOR, 3, TieMode.INCLUDE_TIES);
+        TopKSelector<int[]> distinct = new TopKSelector<int[]>(COMPARATOR, 2, TieMode.DISTINCT_VALUES);
+        for (int[] v : values) {
+            exact.add(v);
+            ties.add(v);
+            distinct.add(v);
+        }
+        // 1, 1, 2 (first occurrence)
+        Assert.assertEquals(3, exact.size());
+        Assert.assertSame(values[2], exact.getSelection().get(2));
+        // 1, 1, 2, 2, 2
+        Assert.assertEquals(5, ties.size());
+        // the two smallest values 1 and 2
+        Assert.assertEquals(5, distinct.size());
+        Assert.assertSame(values[5], distinct.getSelection().get(4));
+        exact.clear();
+        Assert.assertEquals(0, exact.size());
+        Assert.assertTrue(exact.getSelection().isEmpty());
+    }
+
+    /** A negative k is rejected. */
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeK() {
+        new TopKSelector<int[]>(COMPARATOR, -1);
+    }
+}
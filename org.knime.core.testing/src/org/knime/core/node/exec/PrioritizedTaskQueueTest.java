@@ -0,0 +1,181 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.exec;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Tests {@link PrioritizedTaskQueue}, the ready queue of the {@link ThreadNodeExecutionJobManager} if a scheduling
+ * policy other than FIFO is used.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class PrioritizedTaskQueueTest {
+
+    /** Queued tasks are started by descending priority, tasks of equal priority in the order of submission. */
+    @Test(timeout = 10000)
+    public void testReadyQueueOrder() throws Exception {
+        final ThreadPool pool = new ThreadPool(1);
+        final PrioritizedTaskQueue queue = new PrioritizedTaskQueue(pool, Integer.MAX_VALUE);
+        final CountDownLatch blockerStarted = new CountDownLatch(1);
+        final CountDownLatch releaseBlocker = new CountDownLatch(1);
+        // occupies the only thread, all further tasks are queued
+        queue.submit(() -> {
+            blockerStarted.countDown();
+            await(releaseBlocker);
+        }, 0, false);
+        Assert.assertTrue(blockerStarted.await(5, TimeUnit.SECONDS));
+
+        final long[] priorities = new long[]{1, 5, 3, 5, -2, 3};
+        final List<Integer> order = Collections.synchronizedList(new ArrayList<Integer>());
+        final CountDownLatch finished = new CountDownLatch(priorities.length);
+        for (int i = 0; i < priorities.length; i++) {
+            final int index = i;
+            queue.submit(() -> {
+                order.add(index);
+                finished.countDown();
+            }, priorities[i], false);
+        }
+        releaseBlocker.countDown();
+        Assert.assertTrue(finished.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals("Unexpected execution order", Arrays.asList(1, 3, 2, 5, 0, 4), order);
+        pool.shutdown();
+    }
+
+    /** Memory intensive tasks exceeding the limit wait while other tasks are started. */
+    @Test(timeout = 10000)
+    public void testMemoryIntensiveLimit() throws Exception {
+        final ThreadPool pool = new ThreadPool(4);
+        final PrioritizedTaskQueue queue = new PrioritizedTaskQueue(pool, 1);
+        final CountDownLatch firstStarted = new CountDownLatch(1);
+        final CountDownLatch releaseFirst = new CountDownLatch(1);
+        final AtomicInteger nrRunning = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final CountDownLatch secondFinished = new CountDownLatch(1);
+        final CountDownLatch otherFinished = new CountDownLatch(1);
+
+        queue.submit(() -> {
+            enter(nrRunning, maxRunning);
+            firstStarted.countDown();
+            await(releaseFirst);
+            nrRunning.decrementAndGet();
+        }, 0, true);
+        Assert.assertTrue(firstStarted.await(5, TimeUnit.SECONDS));
+        // higher priority, but must wait for the first memory intensive task
+        queue.submit(() -> {
+            enter(nrRunning, maxRunning);
+            nrRunning.decrementAndGet();
+            secondFinished.countDown();
+        }, 10, true);
+        queue.submit(otherFinished::countDown, 0, false);
+
+        Assert.assertTrue("Task that is not memory intensive not started",
+            otherFinished.await(5, TimeUnit.SECONDS));
+        Assert.assertFalse("Memory intensive task started despite the limit",
+            secondFinished.await(200, TimeUnit.MILLISECONDS));
+        releaseFirst.countDown();
+        Assert.assertTrue("Memory intensive task not started after the running one finished",
+            secondFinished.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals("Limit of memory intensive tasks exceeded", 1, maxRunning.get());
+        pool.shutdown();
+    }
+
+    /** Many memory intensive tasks never run concurrently and all of them are run eventually. */
+    @Test(timeout = 20000)
+    public void testMemoryIntensiveTasksAllRun() throws Exception {
+        final ThreadPool pool = new ThreadPool(4);
+        final PrioritizedTaskQueue queue = new PrioritizedTaskQueue(pool, 2);
+        final AtomicInteger nrRunning = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final int nrTasks = 50;
+        final CountDownLatch finished = new CountDownLatch(nrTasks);
+        for (int i = 0; i < nrTasks; i++) {
+            final boolean isMemoryIntensive = i % 3 != 0;
+            queue.submit(() -> {
+                if (isMemoryIntensive) {
+                    enter(nrRunning, maxRunning);
+                }
+                try {
+                    Thread.sleep(2);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (isMemoryIntensive) {
+                    nrRunning.decrementAndGet();
+                }
+                finished.countDown();
+            }, i % 5, isMemoryIntensive);
+        }
+        Assert.assertTrue("Not all tasks finished", finished.await(15, TimeUnit.SECONDS));
+        Assert.assertTrue("Limit of memory intensive tasks exceeded: " + maxRunning.get(), maxRunning.get() <= 2);
+        pool.shutdown();
+    }
+
+    private static void enter(final AtomicInteger nrRunning, final AtomicInteger maxRunning) {
+        final int running = nrRunning.incrementAndGet();
+        maxRunning.accumulateAndGet(running, Math::max);
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.exec;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.def.DefaultRow;
+
+/**
+ * Tests {@link RowQueue}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class RowQueueTest {
+
+    private static DataRow row(final int i) {
+        return new DefaultRow("Row" + i, new DataCell[0]);
+    }
+
+    /** All rows offered by a producer thread are polled in order, followed by the end of the stream. */
+    @Test(timeout = 10000)
+    public void testProducerConsumer() throws Exception {
+        final RowQueue queue = new RowQueue(new DataTableSpec(), 3);
+        final int nrRows = 1000;
+        Thread producer = new Thread(() -> {
+            try {
+                for (int i = 0; i < nrRows; i++) {
+                    queue.offer(row(i));
+                }
+                queue.finish();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        List<DataRow> rows = new ArrayList<DataRow>();
+        DataRow r;
+        while ((r = queue.poll()) != null) {
+            rows.add(r);
+        }
+        Assert.assertEquals(nrRows, rows.size());
+        for (int i = 0; i < nrRows; i++) {
+            Assert.assertEquals("Row" + i, rows.get(i).getKey().getString());
+        }
+        Assert.assertNull(queue.poll());
+        producer.join();
+    }
+
+    /** A producer blocked on a full queue returns once the consumer closes its input. */
+    @Test(timeout = 10000)
+    public void testCloseUnblocksProducer() throws Exception {
+        final RowQueue queue = new RowQueue(new DataTableSpec(), 1);
+        Thread producer = new Thread(() -> {
+            try {
+                for (int i = 0; i < 100; i++) {
+                    queue.offer(row(i));
+                }
+                queue.finish();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        producer.start();
+        Assert.assertEquals("Row0", queue.poll().getKey().getString());
+        queue.close();
+        producer.join();
+        Assert.assertTrue(queue.isClosed());
+        Assert.assertNull(queue.poll());
+    }
+
+    /** A capacity of less than one is rejected. */
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCapacity() {
+        new RowQueue(new DataTableSpec(), 0);
+    }
+}
@@ -0,0 +1,360 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.streamable;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpecCreator;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.DefaultNodeProgressMonitor;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeFactory;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.port.PortType;
+import org.knime.core.node.streamable.simple.SimpleStreamableOperatorInternals;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.virtual.parchunk.VirtualParallelizedChunkPortObjectInNodeFactory;
+
+/**
+ * Tests for {@link PartitionedStreamableExecutor}, the results are compared to the ones of a non-partitioned
+ * execution of the same streamable operator.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class PartitionedStreamableExecutorTest {
+    private static final DataTableSpec IN_SPEC =
+        new DataTableSpec(new String[]{"Int", "String"}, new DataType[]{IntCell.TYPE, StringCell.TYPE});
+
+    private ExecutionContext m_exec;
+
+    /**
+     * @throws Exception if the execution context cannot be created
+     */
+    @Before
+    public void setUp() throws Exception {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        NodeFactory<NodeModel> dummyFactory =
+            (NodeFactory)new VirtualParallelizedChunkPortObjectInNodeFactory(new PortType[0]);
+        m_exec = new ExecutionContext(new DefaultNodeProgressMonitor(), new Node(dummyFactory),
+            SingleNodeContainer.MemoryPolicy.CacheSmallInMemory, new HashMap<Integer, ContainerTable>());
+    }
+
+    /**
+     * Small tables, some of them with fewer rows than partitions.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testSmallTables() throws Exception {
+        for (int size : new int[]{0, 1, 2, 7, 100}) {
+            for (int nrPartitions : new int[]{1, 2, 5}) {
+                checkExecution(createTable(size), nrPartitions);
+            }
+        }
+    }
+
+    /**
+     * A table that is split into more chunks than partitions, each partition processes several chunks.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testManyChunks() throws Exception {
+        final BufferedDataTable table =
+            createTable((int)(3 * PartitionedStreamableExecutor.MIN_ROWS_PER_PARTITION + 17));
+        checkExecution(table, 2);
+        checkExecution(table, 4);
+    }
+
+    /**
+     * Nodes with iterative data access are rejected.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test(expected = IllegalStateException.class)
+    public void testIterativeNodeRejected() throws Exception {
+        final CountingNodeModel model = new CountingNodeModel() {
+            @Override
+            public boolean iterate(final StreamableOperatorInternals internals) {
+                return true;
+            }
+        };
+        assertFalse("Iterative node must not be applicable", PartitionedStreamableExecutor.isApplicable(model));
+        PartitionedStreamableExecutor.execute(model, new PortObject[]{createTable(10)}, m_exec, 2);
+    }
+
+    /**
+     * Appending columns requires the output to start with the input columns.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testAppendingRequiresInputColumns() throws Exception {
+        final CountingNodeModel model = new CountingNodeModel() {
+            @Override
+            protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+                final PortObjectSpec[] specs = super.configure(inSpecs);
+                specs[0] = new DataTableSpec(new DataColumnSpecCreator("Doubled", IntCell.TYPE).createSpec());
+                return specs;
+            }
+        };
+        PartitionedStreamableExecutor.execute(model, new PortObject[]{createTable(10)}, m_exec, 2, true);
+    }
+
+    private void checkExecution(final BufferedDataTable table, final int nrPartitions) throws Exception {
+        final CountingNodeModel model = new CountingNodeModel();
+        assertTrue("Node must be applicable", PartitionedStreamableExecutor.isApplicable(model));
+        final PortObject[] reference = executeNonPartitioned(model, table);
+        for (boolean appendsColumns : new boolean[]{false, true}) {
+            final PortObject[] result = PartitionedStreamableExecutor.execute(model, new PortObject[]{table}, m_exec,
+                nrPartitions, appendsColumns);
+            final String msg =
+                table.size() + " rows, " + nrPartitions + " partitions, appending " + appendsColumns + ": ";
+            assertTablesEqual(msg, (BufferedDataTable)reference[0], (BufferedDataTable)result[0]);
+            assertTablesEqual(msg, (BufferedDataTable)reference[1], (BufferedDataTable)result[1]);
+        }
+    }
+
+    /** Runs a single operator on the entire table, like the streaming executor without distribution. */
+    private PortObject[] executeNonPartitioned(final NodeModel model, final BufferedDataTable table)
+        throws Exception {
+        final PortObjectSpec[] inSpecs = new PortObjectSpec[]{table.getDataTableSpec()};
+        final PortObjectSpec[] outSpecs = model.computeFinalOutputSpecs(null, inSpecs);
+        final BufferedDataTableRowOutput[] outputs = new BufferedDataTableRowOutput[2];
+        for (int i = 0; i < outputs.length; i++) {
+            outputs[i] = new BufferedDataTableRowOutput(m_exec.createDataContainer((DataTableSpec)outSpecs[i]));
+        }
+        final StreamableOperator operator = model.createStreamableOperator(new PartitionInfo(0, 1), inSpecs);
+        operator.runFinal(new PortInput[]{new DataTableRowInput(table)}, new PortOutput[]{outputs[0], null},
+            m_exec);
+        final StreamableOperatorInternals internals =
+            model.createMergeOperator().mergeFinal(new StreamableOperatorInternals[]{operator.saveInternals()});
+        model.finishStreamableExecution(internals, m_exec, new PortOutput[]{null, outputs[1]});
+        outputs[0].close();
+        outputs[1].close();
+        return new PortObject[]{outputs[0].getDataTable(), outputs[1].getDataTable()};
+    }
+
+    private static void assertTablesEqual(final String msg, final BufferedDataTable expected,
+        final BufferedDataTable actual) {
+        assertEquals(msg + "Unequal spec", expected.getDataTableSpec(), actual.getDataTableSpec());
+        assertEquals(msg + "Unequal number of rows", expected.size(), actual.size());
+        final Iterator<DataRow> actualIt = actual.iterator();
+        long index = 0;
+        for (DataRow expectedRow : expected) {
+            final DataRow actualRow = actualIt.next();
+            assertEquals(msg + "Unexpected row key at index " + index, expectedRow.getKey(), actualRow.getKey());
+            for (int i = 0; i < expectedRow.getNumCells(); i++) {
+                assertEquals(msg + "Unexpected cell in row " + expectedRow.getKey(), expectedRow.getCell(i),
+                    actualRow.getCell(i));
+            }
+            index++;
+        }
+    }
+
+    private BufferedDataTable createTable(final int size) {
+        final BufferedDataContainer cont = m_exec.createDataContainer(IN_SPEC);
+        for (int i = 0; i < size; i++) {
+            cont.addRowToTable(
+                new DefaultRow(RowKey.createRowKey((long)i), new IntCell(i * 31 % 101), new StringCell("s" + i)));
+        }
+        cont.close();
+        return cont.getTable();
+    }
+
+    /**
+     * Appends the doubled integer value to each row (distributed output) and counts the rows (non-distributed output,
+     * created from the merged internals).
+     */
+    private static class CountingNodeModel extends NodeModel {
+        private static final String CFG_COUNT = "count";
+
+        CountingNodeModel() {
+            super(1, 2);
+        }
+
+        @Override
+        protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+            final DataTableSpec inSpec = (DataTableSpec)inSpecs[0];
+            final DataTableSpec mappedSpec =
+                new DataTableSpec(inSpec, new DataTableSpec(new DataColumnSpecCreator("Doubled", IntCell.TYPE)
+                    .createSpec()));
+            final DataTableSpec countSpec =
+                new DataTableSpec(new DataColumnSpecCreator("Count", LongCell.TYPE).createSpec());
+            return new PortObjectSpec[]{mappedSpec, countSpec};
+        }
+
+        @Override
+        public InputPortRole[] getInputPortRoles() {
+            return new InputPortRole[]{InputPortRole.DISTRIBUTED_STREAMABLE};
+        }
+
+        @Override
+        public OutputPortRole[] getOutputPortRoles() {
+            return new OutputPortRole[]{OutputPortRole.DISTRIBUTED, OutputPortRole.NONDISTRIBUTED};
+        }
+
+        @Override
+        public StreamableOperator createStreamableOperator(final PartitionInfo partitionInfo,
+            final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
+            return new StreamableOperator() {
+                private long m_count;
+
+                @Override
+                public void runFinal(final PortInput[] inputs, final PortOutput[] outputs,
+                    final ExecutionContext exec) throws Exception {
+                    final RowInput input = (RowInput)inputs[0];
+                    final RowOutput output = (RowOutput)outputs[0];
+                    DataRow row;
+                    while ((row = input.poll()) != null) {
+                        final DataCell[] cells = new DataCell[row.getNumCells() + 1];
+                        for (int i = 0; i < row.getNumCells(); i++) {
+                            cells[i] = row.getCell(i);
+                        }
+                        cells[cells.length - 1] = new IntCell(2 * ((IntCell)row.getCell(0)).getIntValue());
+                        output.push(new DefaultRow(row.getKey(), cells));
+                        m_count++;
+                    }
+                    input.close();
+                    output.close();
+                }
+
+                @Override
+                public StreamableOperatorInternals saveInternals() {
+                    final SimpleStreamableOperatorInternals internals = new SimpleStreamableOperatorInternals();
+                    internals.getConfig().addLong(CFG_COUNT, m_count);
+                    return internals;
+                }
+            };
+        }
+
+        @Override
+        public MergeOperator createMergeOperator() {
+            return new MergeOperator() {
+                @Override
+                public StreamableOperatorInternals mergeFinal(final StreamableOperatorInternals[] operators) {
+                    long count = 0;
+                    for (StreamableOperatorInternals internals : operators) {
+                        count += ((SimpleStreamableOperatorInternals)internals).getConfig().getLong(CFG_COUNT, 0);
+                    }
+                    final SimpleStreamableOperatorInternals merged = new SimpleStreamableOperatorInternals();
+                    merged.getConfig().addLong(CFG_COUNT, count);
+                    return merged;
+                }
+            };
+        }
+
+        @Override
+        public void finishStreamableExecution(final StreamableOperatorInternals internals,
+            final ExecutionContext exec, final PortOutput[] output) throws Exception {
+            final long count = ((SimpleStreamableOperatorInternals)internals).getConfig().getLong(CFG_COUNT);
+            final RowOutput countOutput = (RowOutput)output[1];
+            countOutput.push(new DefaultRow(RowKey.createRowKey(0L), new LongCell(count)));
+            countOutput.close();
+        }
+
+        @Override
+        protected PortObject[] execute(final PortObject[] inObjects, final ExecutionContext exec) throws Exception {
+            throw new UnsupportedOperationException("Only streamed execution is tested");
+        }
+
+        @Override
+        protected void reset() {
+        }
+
+        @Override
+        protected void saveSettingsTo(final NodeSettingsWO settings) {
+        }
+
+        @Override
+        protected void validateSettings(final NodeSettingsRO settings) throws InvalidSettingsException {
+        }
+
+        @Override
+        protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws InvalidSettingsException {
+        }
+
+        @Override
+        protected void loadInternals(final File nodeInternDir, final ExecutionMonitor exec)
+            throws IOException, CanceledExecutionException {
+        }
+
+        @Override
+        protected void saveInternals(final File nodeInternDir, final ExecutionMonitor exec)
+            throws IOException, CanceledExecutionException {
+        }
+    }
+}
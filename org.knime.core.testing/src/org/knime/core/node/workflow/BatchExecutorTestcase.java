@@ -61,6 +61,8 @@
 import java.io.FileReader;
 import java.io.IOException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Collection;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.zip.ZipFile;
@@ -251,6 +253,25 @@ public void testExecuteFromZip() throws Exception {
         assertEquals("Wrong number of lines in written CSV file", 1001, countWrittenLines(csvOut));
     }
 
+    /**
+     * Test if the execution profile is written.
+     *
+     * @throws Exception if something goes wrong
+     */
+    @Test
+    public void testExecuteWithProfile() throws Exception {
+        File profile = File.createTempFile("BatchExecutorTest", ".json");
+        profile.deleteOnExit();
+        int ret =
+            BatchExecutor.mainRun(new String[]{"-workflowFile=" + standardTestWorkflowZip.getAbsolutePath(), "-nosave",
+                "-profile=" + profile.getAbsolutePath(),
+                "-workflow.variable=destinationFile," + csvOut.getAbsolutePath() + ",String"});
+        assertEquals("Non-zero return value", 0, ret);
+        String json = new String(Files.readAllBytes(profile.toPath()), StandardCharsets.UTF_8);
+        assertTrue("No node profiles in " + json, json.contains("\"wallTime\""));
+        assertTrue("No row counts in " + json, json.contains("\"rowsOut\""));
+    }
+
     /**
      * Test if workflows from a directory can be executed.
      *
@@ -0,0 +1,140 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.workflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.knime.core.node.workflow.InternalNodeContainerState.EXECUTED;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.exec.CriticalPathSchedulingPolicy;
+import org.knime.core.node.exec.ThreadNodeExecutionJobManager;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Tests that the estimated execution durations used by the {@link CriticalPathSchedulingPolicy} survive a save/load
+ * round trip and that they are not saved if nodes are executed in FIFO order (the default, unless the scheduling
+ * property {@link KNIMEConstants#PROPERTY_CRITICAL_PATH_SCHEDULING} is set).
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class CriticalPathSchedulingSaveLoadTest extends WorkflowTestCase {
+
+    private File m_tmpWorkflowDir;
+
+    @Before
+    public void setUp() throws Exception {
+        m_tmpWorkflowDir = FileUtil.createTempDir(getClass().getSimpleName());
+        FileUtil.copyDir(getWorkflowDirectory("simplechainofnodes"), m_tmpWorkflowDir);
+        loadAndSetWorkflow(m_tmpWorkflowDir);
+    }
+
+    /** Durations are saved and restored if the critical path scheduling policy is used. */
+    @Test
+    public void testDurationsSavedWithCriticalPathScheduling() throws Exception {
+        WorkflowManager m = getManager();
+        ThreadNodeExecutionJobManager jobManager =
+            new ThreadNodeExecutionJobManager(KNIMEConstants.GLOBAL_THREAD_POOL, new CriticalPathSchedulingPolicy(1));
+        for (SingleNodeContainer snc : iterateSNCs(m, false)) {
+            m.setJobManager(snc.getID(), jobManager);
+        }
+        executeAllAndWait();
+        checkState(m, EXECUTED);
+        Map<Integer, Long> durations = getEstimatedDurations(m);
+        for (Map.Entry<Integer, Long> e : durations.entrySet()) {
+            assertTrue("No duration for executed node " + e.getKey(), e.getValue() >= 0);
+        }
+        m.save(m_tmpWorkflowDir, new ExecutionMonitor(), true);
+        closeWorkflow();
+
+        loadAndSetWorkflow(m_tmpWorkflowDir);
+        assertEquals("Unexpected durations after load", durations, getEstimatedDurations(getManager()));
+    }
+
+    /** Durations are not saved if nodes are executed in FIFO order. */
+    @Test
+    public void testDurationsNotSavedWithFifoScheduling() throws Exception {
+        WorkflowManager m = getManager();
+        assertEquals(NodeSchedulingPolicy.FIFO, m.findJobManager().getSchedulingPolicy());
+        executeAllAndWait();
+        checkState(m, EXECUTED);
+        m.save(m_tmpWorkflowDir, new ExecutionMonitor(), true);
+        closeWorkflow();
+
+        loadAndSetWorkflow(m_tmpWorkflowDir);
+        for (Map.Entry<Integer, Long> e : getEstimatedDurations(getManager()).entrySet()) {
+            assertEquals("Unexpected duration of node " + e.getKey(), -1L, e.getValue().longValue());
+        }
+    }
+
+    /** @return the estimated execution duration of each node, by node index */
+    private static Map<Integer, Long> getEstimatedDurations(final WorkflowManager m) {
+        Map<Integer, Long> durations = new HashMap<Integer, Long>();
+        for (SingleNodeContainer snc : iterateSNCs(m, false)) {
+            durations.put(snc.getID().getIndex(), snc.getNodeTimer().getEstimatedExecutionDuration());
+        }
+        return durations;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @After
+    public void tearDown() throws Exception {
+        super.tearDown();
+        FileUtil.deleteRecursively(m_tmpWorkflowDir);
+    }
+
+}
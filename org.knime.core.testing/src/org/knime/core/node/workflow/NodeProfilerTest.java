@@ -0,0 +1,109 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.workflow;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Tests the retention and ordering of profiles in {@link NodeProfiler}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class NodeProfilerTest {
+
+    private static NodeProfile createProfile(final int index, final long wallTime) {
+        return new NodeProfile("0:" + index, "Node " + index, "Test", 0L, true, wallTime, -1, -1, -1, -1, -1, 0, 0);
+    }
+
+    /** Removes the profiles added by the tests. */
+    @After
+    public void clear() {
+        NodeProfiler.getInstance().clear();
+    }
+
+    /** Only the most recent profiles are retained, in order of completion. */
+    @Test
+    public void testRecentProfiles() {
+        NodeProfiler profiler = NodeProfiler.getInstance();
+        profiler.clear();
+        int count = NodeProfiler.MAX_RECENT_PROFILES + 10;
+        for (int i = 0; i < count; i++) {
+            profiler.add(createProfile(i, i));
+        }
+        List<NodeProfile> recent = profiler.getRecentProfiles();
+        assertEquals(NodeProfiler.MAX_RECENT_PROFILES, recent.size());
+        assertEquals("0:10", recent.get(0).getNodeID());
+        assertEquals("0:" + (count - 1), recent.get(recent.size() - 1).getNodeID());
+        assertEquals(count, profiler.getProfileCount());
+    }
+
+    /** Top profiles are sorted by descending wall time. */
+    @Test
+    public void testTopProfiles() {
+        NodeProfiler profiler = NodeProfiler.getInstance();
+        profiler.clear();
+        NodeProfile slow = createProfile(1, 500);
+        NodeProfile fast = createProfile(2, 5);
+        NodeProfile medium = createProfile(3, 50);
+        profiler.add(slow);
+        profiler.add(fast);
+        profiler.add(medium);
+        List<NodeProfile> top = profiler.getTopProfilesByWallTime(2);
+        assertEquals(2, top.size());
+        assertSame(slow, top.get(0));
+        assertSame(medium, top.get(1));
+        assertEquals(3, profiler.getTopProfilesByWallTime(10).size());
+        assertEquals(0, profiler.getTopProfilesByWallTime(0).size());
+    }
+}
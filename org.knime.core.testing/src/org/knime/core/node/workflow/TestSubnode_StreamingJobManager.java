@@ -0,0 +1,173 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.workflow;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.knime.core.node.workflow.InternalNodeContainerState.EXECUTED;
+import static org.knime.core.node.workflow.InternalNodeContainerState.IDLE;
+
+import java.io.File;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.exec.StreamingNodeExecutionJobManager;
+import org.knime.core.node.workflow.WorkflowPersistor.LoadResultEntry.LoadResultEntryType;
+import org.knime.core.node.workflow.WorkflowPersistor.WorkflowLoadResult;
+import org.knime.core.util.FileUtil;
+
+/**
+ * Runs a wrapped metanode with the {@link StreamingNodeExecutionJobManager} (data generator -&gt; column filter -&gt;
+ * output, all streamed). Then saves, loads, checks again.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class TestSubnode_StreamingJobManager extends WorkflowTestCase {
+
+    /** Number of rows created by the data generator. */
+    private static final long ROW_COUNT = 10000L;
+
+    private File m_tmpWorkflowDir;
+    private NodeID m_tableView_4;
+    private NodeID m_streamedSubnode_5;
+    private NodeID m_dataGenerator_5_1;
+    private NodeID m_columnFilter_5_2;
+    private NodeID m_subnodeOutput_5_5;
+
+    @Before
+    public void setUp() throws Exception {
+        m_tmpWorkflowDir = FileUtil.createTempDir(getClass().getSimpleName() + "-tempTestInstance");
+        FileUtil.copyDir(getDefaultWorkflowDirectory(), m_tmpWorkflowDir);
+        initWorkflowFromTemp();
+    }
+
+    private WorkflowLoadResult initWorkflowFromTemp() throws Exception {
+        WorkflowLoadResult loadResult = loadWorkflow(m_tmpWorkflowDir, new ExecutionMonitor());
+        setManager(loadResult.getWorkflowManager());
+        NodeID baseID = getManager().getID();
+        m_tableView_4 = baseID.createChild(4);
+        m_streamedSubnode_5 = baseID.createChild(5);
+        NodeID innerWFMID = m_streamedSubnode_5.createChild(0);
+        m_dataGenerator_5_1 = innerWFMID.createChild(1);
+        m_columnFilter_5_2 = innerWFMID.createChild(2);
+        m_subnodeOutput_5_5 = innerWFMID.createChild(5);
+        return loadResult;
+    }
+
+    /** Run and check the output of the wrapped metanode and the state of the streamed nodes. */
+    @Test(timeout = 30000L)
+    public void testExecute() throws Exception {
+        WorkflowManager manager = getManager();
+        checkState(manager, IDLE);
+        assertThat("Expected streaming job manager on wrapped metanode",
+            findNodeContainer(m_streamedSubnode_5).getJobManager(), instanceOf(StreamingNodeExecutionJobManager.class));
+        executeAllAndWait();
+        checkState(manager, EXECUTED);
+        checkStreamedContent();
+    }
+
+    /** Run, save all, close, load, check, reset and re-execute the wrapped metanode. */
+    @Test(timeout = 30000L)
+    public void testExecSaveLoadCheck() throws Exception {
+        WorkflowManager manager = getManager();
+        executeAllAndWait();
+        checkState(manager, EXECUTED);
+        manager.save(m_tmpWorkflowDir, new ExecutionMonitor(), true);
+
+        closeWorkflow();
+        assertNull(getManager());
+        WorkflowLoadResult loadResult = initWorkflowFromTemp();
+        assertFalse("should not have errors: " + loadResult.getFilteredError("", LoadResultEntryType.Warning),
+            loadResult.hasErrors());
+        manager = getManager();
+        checkState(manager, EXECUTED);
+        assertThat("Job manager not restored", findNodeContainer(m_streamedSubnode_5).getJobManager(),
+            instanceOf(StreamingNodeExecutionJobManager.class));
+        checkStreamedContent();
+
+        manager.resetAndConfigureNode(m_streamedSubnode_5);
+        executeAllAndWait();
+        checkState(manager, EXECUTED);
+        checkStreamedContent();
+    }
+
+    private void checkStreamedContent() throws Exception {
+        checkState(m_streamedSubnode_5, EXECUTED);
+        checkState(m_tableView_4, EXECUTED);
+        checkStateOfMany(EXECUTED, m_dataGenerator_5_1, m_columnFilter_5_2, m_subnodeOutput_5_5);
+        // streamed nodes have a placeholder output (no rows)
+        for (NodeID id : new NodeID[]{m_dataGenerator_5_1, m_columnFilter_5_2}) {
+            assertThat("Output of streamed node " + id, findNodeContainer(id).getOutPort(1).getPortObject(),
+                instanceOf(BufferedDataTable.class));
+        }
+        BufferedDataTable output =
+            (BufferedDataTable)findNodeContainer(m_streamedSubnode_5).getOutPort(1).getPortObject();
+        assertThat("Row count of wrapped metanode output", output.size(), is(ROW_COUNT));
+        DataTableSpec filterSpec =
+            (DataTableSpec)findNodeContainer(m_columnFilter_5_2).getOutPort(1).getPortObjectSpec();
+        assertTrue("Unexpected output spec: " + output.getDataTableSpec(),
+            filterSpec.equalStructure(output.getDataTableSpec()));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @After
+    public void tearDown() throws Exception {
+        super.tearDown();
+        FileUtil.deleteRecursively(m_tmpWorkflowDir);
+    }
+
+}
@@ -0,0 +1,236 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.util;
+
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link FingerprintDuplicateChecker}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class FingerprintDuplicateCheckerTest {
+
+    /**
+     * Adds unique keys, most of them after the in-memory keys have been written to disc, and then a duplicate.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testDuplicateAfterSpill() throws Exception {
+        FingerprintDuplicateChecker checker = new FingerprintDuplicateChecker(2, 1000);
+        try {
+            for (int i = 0; i < 200000; i++) {
+                checker.addKey("Row" + i);
+            }
+            checker.checkForDuplicates();
+            checkDuplicate(checker, "Row17");
+            checkDuplicate(checker, "Row199999");
+        } finally {
+            checker.clear();
+        }
+    }
+
+    /**
+     * Invalid UTF-16 strings (unpaired surrogates) must be compared exactly, also after being written to disc.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testInvalidStrings() throws Exception {
+        FingerprintDuplicateChecker checker = new FingerprintDuplicateChecker(1, 10);
+        try {
+            for (char c = 0xD800; c < 0xD900; c++) {
+                checker.addKey("Row" + c);
+            }
+            checkDuplicate(checker, "Row" + (char)0xD801);
+            checker.addKey("Row" + (char)0xDC01);
+        } finally {
+            checker.clear();
+        }
+    }
+
+    /**
+     * Checks that the checker can be used again after it has been cleared.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testClear() throws Exception {
+        FingerprintDuplicateChecker checker = new FingerprintDuplicateChecker(1, 10);
+        for (int i = 0; i < 100; i++) {
+            checker.addKey("Row" + i);
+        }
+        checker.clear();
+        for (int i = 0; i < 100; i++) {
+            checker.addKey("Row" + i);
+        }
+        checkDuplicate(checker, "Row0");
+        checker.clear();
+    }
+
+    /**
+     * Checks that clearing the checker releases the tables of all shards, also after keys have been written to disc.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testClearReleasesTables() throws Exception {
+        FingerprintDuplicateChecker checker = new FingerprintDuplicateChecker(4, 100);
+        assertEquals("No table expected before the first key", 0, checker.getTableBytes());
+        for (int i = 0; i < 10000; i++) {
+            checker.addKey("Row" + i);
+        }
+        assertTrue("Tables expected after adding keys", checker.getTableBytes() > 0);
+        checker.clear();
+        assertEquals("Tables not released", 0, checker.getTableBytes());
+    }
+
+    /**
+     * Adds keys from multiple threads concurrently.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testConcurrentWriters() throws Exception {
+        final FingerprintDuplicateChecker checker = new FingerprintDuplicateChecker(8, 10000);
+        final AtomicInteger duplicates = new AtomicInteger();
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int t = 0; t < 4; t++) {
+            // threads 0/1 and 2/3 add the same keys
+            final String prefix = "Thread" + (t / 2) + "-";
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 50000; i++) {
+                    try {
+                        checker.addKey(prefix + i);
+                    } catch (DuplicateKeyException e) {
+                        duplicates.incrementAndGet();
+                    } catch (Exception e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+            }));
+        }
+        try {
+            for (Thread t : threads) {
+                t.start();
+            }
+            for (Thread t : threads) {
+                t.join();
+            }
+            assertEquals("Unexpected number of duplicates", 100000, duplicates.get());
+        } finally {
+            checker.clear();
+        }
+    }
+
+    /**
+     * Exceeds the memory limit of the tables, so that the keys (partly from disc) are handed over to the sorting
+     * fallback, which must still detect duplicates among keys added before and after the hand-over.
+     *
+     * @throws Exception if an error occurs
+     */
+    @Test
+    public void testFallbackOnMemoryLimit() throws Exception {
+        FingerprintDuplicateChecker checker = new FingerprintDuplicateChecker(2, 100, 16 * 1024);
+        try {
+            for (int i = 0; i < 5000; i++) {
+                checker.addKey("Row" + i);
+            }
+            assertTrue("Checker should have fallen back to sorting", checker.usesFallback());
+            checker.checkForDuplicates();
+        } finally {
+            checker.clear();
+        }
+        for (String duplicate : new String[]{"Row3", "Row450", "Row4999"}) {
+            checker = new FingerprintDuplicateChecker(2, 100, 16 * 1024);
+            try {
+                for (int i = 0; i < 5000; i++) {
+                    checker.addKey("Row" + i);
+                }
+                checker.addKey(duplicate);
+                checker.checkForDuplicates();
+                fail("Duplicate key \"" + duplicate + "\" not detected");
+            } catch (DuplicateKeyException e) {
+                assertEquals("Wrong duplicate key", duplicate, e.getKey());
+            } finally {
+                checker.clear();
+            }
+        }
+        assertFalse("Cleared checker should use the tables again", checker.usesFallback());
+    }
+
+    /** Checks that similar strings get different fingerprints. */
+    @Test
+    public void testFingerprint() {
+        assertNotEquals(FingerprintDuplicateChecker.fingerprint("Row1"),
+            FingerprintDuplicateChecker.fingerprint("Row2"));
+        assertNotEquals(FingerprintDuplicateChecker.fingerprint(""), FingerprintDuplicateChecker.fingerprint("\0"));
+        assertNotEquals(0, FingerprintDuplicateChecker.fingerprint(""));
+    }
+
+    private static void checkDuplicate(final DuplicateChecker checker, final String key) throws Exception {
+        try {
+            checker.addKey(key);
+            fail("Duplicate key \"" + key + "\" not detected");
+        } catch (DuplicateKeyException e) {
+            assertEquals("Wrong duplicate key", key, e.getKey());
+        }
+    }
+}
@@ -75,6 +75,16 @@ public class ThreadPoolTest extends TestCase {
     /** Counter for finished threads. */
     private final AtomicInteger m_finished = new AtomicInteger(0);
 
+    /**
+     * Creates the root pool to test.
+     *
+     * @param maxThreads the maximum number of threads
+     * @return a new thread pool
+     */
+    protected ThreadPool createPool(final int maxThreads) {
+        return new ThreadPool(maxThreads);
+    }
+
     private class Tester implements Runnable {
         private final String m_name = "Tester " + count++;
         private final ThreadPool m_pool;
@@ -124,7 +134,7 @@ private int ack(final int n, final int m) {
      * @throws InterruptedException if the thread is interrupted
      */
     public void testRootPool() throws InterruptedException {
-        ThreadPool root = new ThreadPool(3);
+        ThreadPool root = createPool(3);
         final int loops = LOOPS;
 
         for (int i = 1; i <= loops; i++) {
@@ -170,7 +180,7 @@ public void testRootPool() throws InterruptedException {
      * @throws InterruptedException if the thread is interrupted
      */
     public void testRootInvisible() throws InterruptedException {
-        final ThreadPool root = new ThreadPool(3);
+        final ThreadPool root = createPool(3);
         final int loops = LOOPS;
 
         final Callable<?> submitter = new Callable<Void>() {
@@ -219,7 +229,7 @@ public void run() {
      * @throws InterruptedException if the thread is interrupted
      */
     public void testSubPools() throws InterruptedException {
-        ThreadPool root = new ThreadPool(20);
+        ThreadPool root = createPool(20);
         ThreadPool[] pools = new ThreadPool[4];
 
         pools[0] = root;
@@ -257,7 +267,7 @@ public void testSubPools() throws InterruptedException {
      * @throws InterruptedException if the thread is interrupted
      */
     public void testSubInvisible() throws InterruptedException {
-        final ThreadPool root = new ThreadPool(10);
+        final ThreadPool root = createPool(10);
         final ThreadPool sub1 = root.createSubPool(6);
         final ThreadPool sub2 = root.createSubPool(6);
         final int loops = LOOPS;
@@ -314,7 +324,7 @@ public void run() {
      * @throws InterruptedException if the thread is interrupted
      */
     public void testRootEnqueue() throws InterruptedException {
-        ThreadPool root = new ThreadPool(3);
+        ThreadPool root = createPool(3);
         final int loops = LOOPS;
 
         for (int i = 1; i <= loops; i++) {
@@ -371,7 +381,7 @@ public void testRootEnqueue() throws InterruptedException {
      * @throws InterruptedException if the thread is interrupted
      */
     public void testSubEnqueue() throws InterruptedException {
-        ThreadPool root = new ThreadPool(20);
+        ThreadPool root = createPool(20);
         ThreadPool[] pools = new ThreadPool[4];
 
         pools[0] = root;
@@ -414,7 +424,7 @@ public void testSubEnqueue() throws InterruptedException {
      * @throws Exception if an error occurs
      */
     public void testContextClassloader() throws Exception {
-        ThreadPool root = new ThreadPool(1);
+        ThreadPool root = createPool(1);
 
         Callable<ClassLoader> callable = new Callable<ClassLoader>() {
             @Override
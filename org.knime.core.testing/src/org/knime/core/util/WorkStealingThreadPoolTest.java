@@ -0,0 +1,248 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the thread pool tests against the {@link WorkStealingThreadPool} and tests nested waits.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+public class WorkStealingThreadPoolTest extends ThreadPoolTest {
+
+    /** {@inheritDoc} */
+    @Override
+    protected ThreadPool createPool(final int maxThreads) {
+        return new WorkStealingThreadPool(maxThreads);
+    }
+
+    private static int fib(final ThreadPool pool, final int n) throws InterruptedException, ExecutionException {
+        if (n < 2) {
+            return n;
+        }
+        Future<Integer> f = pool.enqueue(new Callable<Integer>() {
+            @Override
+            public Integer call() throws Exception {
+                return fib(pool, n - 1);
+            }
+        });
+        return fib(pool, n - 2) + f.get();
+    }
+
+    /**
+     * Tasks waiting for sub tasks must not deadlock, even if the pools are small.
+     *
+     * @throws Exception if an error occurs
+     */
+    public void testNestedWaits() throws Exception {
+        final WorkStealingThreadPool root = new WorkStealingThreadPool(2);
+        final ThreadPool sub = root.createSubPool(1);
+        List<Future<Integer>> futures = new ArrayList<Future<Integer>>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(sub.enqueue(new Callable<Integer>() {
+                @Override
+                public Integer call() throws Exception {
+                    return fib(root, 10);
+                }
+            }));
+        }
+        for (Future<Integer> f : futures) {
+            assertEquals(55, f.get().intValue());
+        }
+        root.waitForTermination();
+        assertEquals(0, root.getQueueDepth());
+        assertEquals(0, root.getRunningThreads());
+        assertTrue(root.getCompletedTaskCount() >= 4);
+    }
+
+    /**
+     * A task forked to the local queue of a worker that blocks without joining it is stolen by another worker.
+     *
+     * @throws Exception if an error occurs
+     */
+    public void testSteal() throws Exception {
+        final WorkStealingThreadPool root = new WorkStealingThreadPool(2);
+        final long initialStealCount = root.getStealCount();
+        final CountDownLatch latch = new CountDownLatch(1);
+        Future<Boolean> f = root.enqueue(new Callable<Boolean>() {
+            @Override
+            public Boolean call() throws Exception {
+                root.enqueue(new Runnable() {
+                    @Override
+                    public void run() {
+                        latch.countDown();
+                    }
+                });
+                // the sub task is in the local queue of this worker, which doesn't help with it
+                return latch.await(10, TimeUnit.SECONDS);
+            }
+        });
+        assertTrue("Forked task has not been stolen", f.get());
+        root.waitForTermination();
+        // steals are accounted after the stolen task has finished
+        final long deadline = System.currentTimeMillis() + 10000;
+        while (root.getStealCount() <= initialStealCount && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(root.getStealCount() > initialStealCount);
+    }
+
+    /**
+     * Tasks enqueued while the thread limit is raised (which replaces the fork/join pool) all run and don't block
+     * {@link ThreadPool#waitForTermination()}.
+     *
+     * @throws Exception if an error occurs
+     */
+    public void testRaiseMaxThreadsWhileEnqueuing() throws Exception {
+        final WorkStealingThreadPool root = new WorkStealingThreadPool(1);
+        final int nrTasks = 2000;
+        final AtomicInteger executed = new AtomicInteger();
+        final Runnable producer = new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < nrTasks; i++) {
+                    root.enqueue(new Runnable() {
+                        @Override
+                        public void run() {
+                            executed.incrementAndGet();
+                        }
+                    });
+                }
+            }
+        };
+        final List<Thread> producers = new ArrayList<Thread>();
+        for (int i = 0; i < 4; i++) {
+            producers.add(new Thread(producer));
+        }
+        for (Thread t : producers) {
+            t.start();
+        }
+        for (int i = 2; producers.get(0).isAlive() && i < 30000; i++) {
+            root.setMaxThreads(i);
+        }
+        for (Thread t : producers) {
+            t.join();
+        }
+
+        Thread waiter = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    root.waitForTermination();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        waiter.start();
+        waiter.join(30000);
+        assertFalse("Pool did not terminate", waiter.isAlive());
+        assertEquals(producers.size() * nrTasks, executed.get());
+        assertEquals(0, root.getRunningThreads());
+    }
+
+    /**
+     * Canceled tasks are removed from the queue and don't block {@link ThreadPool#waitForTermination()}.
+     *
+     * @throws Exception if an error occurs
+     */
+    public void testCancelQueued() throws Exception {
+        final WorkStealingThreadPool root = new WorkStealingThreadPool(1);
+        final Object lock = new Object();
+        Future<?> blocking;
+        Future<?> queued;
+        synchronized (lock) {
+            blocking = root.enqueue(new Runnable() {
+                @Override
+                public void run() {
+                    synchronized (lock) {
+                        // wait until the test thread releases the lock
+                    }
+                }
+            });
+            queued = root.enqueue(new Runnable() {
+                @Override
+                public void run() {
+                    fail("Canceled task must not run");
+                }
+            });
+            assertEquals(1, root.getQueueSize());
+            assertTrue(queued.cancel(true));
+            assertEquals(0, root.getQueueSize());
+        }
+        blocking.get();
+        root.waitForTermination();
+        assertTrue(queued.isCancelled());
+    }
+
+    /**
+     * {@link ThreadPool#currentPool()} returns the pool of the running task.
+     *
+     * @throws Exception if an error occurs
+     */
+    public void testCurrentPool() throws Exception {
+        final WorkStealingThreadPool root = new WorkStealingThreadPool(2);
+        final ThreadPool sub = root.createSubPool(1);
+        Future<ThreadPool> f = sub.enqueue(new Callable<ThreadPool>() {
+            @Override
+            public ThreadPool call() throws Exception {
+                return ThreadPool.currentPool();
+            }
+        });
+        assertSame(sub, f.get());
+        assertNull(ThreadPool.currentPool());
+    }
+}
@@ -49,6 +49,7 @@
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
 import org.knime.core.data.DataCell;
@@ -173,6 +174,15 @@ public InputStream openInputStream() throws IOException {
         return new ByteArrayInputStream(m_bytes);
     }
 
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    public ByteBuffer getByteBuffer() {
+        return ByteBuffer.wrap(m_bytes).asReadOnlyBuffer();
+    }
+
     /**
      * {@inheritDoc}
      */
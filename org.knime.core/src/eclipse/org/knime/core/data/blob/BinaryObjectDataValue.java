@@ -48,6 +48,7 @@
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 import javax.swing.Icon;
 
@@ -80,6 +81,21 @@ public interface BinaryObjectDataValue extends DataValue {
     @DataValueAccessMethod(name = "InputStream")
     InputStream openInputStream() throws IOException;
 
+    /** Returns a read-only view on the byte content, positioned at 0 with the limit set to the length. The default
+     * implementation reads the stream into a heap buffer; implementations override this method to avoid the copy
+     * (for instance by wrapping an in-memory array). Use it for random access and to pass the content to APIs working
+     * on buffers.
+     * @return A new buffer on the byte content, not null.
+     * @throws IOException If that fails for whatever I/O problems (or if the content has more than
+     *             {@link Integer#MAX_VALUE} bytes).
+     * @since 3.6
+     */
+    default ByteBuffer getByteBuffer() throws IOException {
+        try (InputStream in = openInputStream()) {
+            return ByteBuffer.wrap(IOUtils.toByteArray(in)).asReadOnlyBuffer();
+        }
+    }
+
     /** Implementations of the meta information of this value class. */
     final class BinaryObjectUtilityFactory extends ExtensibleUtilityFactory {
         /** Singleton icon to be used to display this cell type. */
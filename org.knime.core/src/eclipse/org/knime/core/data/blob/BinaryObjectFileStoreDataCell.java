@@ -50,6 +50,9 @@
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 
 import org.knime.core.data.DataCell;
@@ -169,6 +172,27 @@ public InputStream openInputStream() throws IOException {
         return new FileInputStream(getFileStore().getFile());
     }
 
+    /**
+     * {@inheritDoc} The file is read into a heap buffer; it's not memory-mapped as a mapping keeps the file open until
+     * the buffer is garbage collected, which prevents the file store from being deleted (on Windows).
+     * @since 3.6
+     */
+    @Override
+    public ByteBuffer getByteBuffer() throws IOException {
+        try (FileChannel channel = FileChannel.open(getFileStore().getFile().toPath(), StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Binary object too large to be accessed as buffer (" + size + " bytes)");
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int)size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // read until full
+            }
+            buffer.flip();
+            return buffer.asReadOnlyBuffer();
+        }
+    }
+
     /** Get file name path (shown in renderer).
      * @return file name path.
      */
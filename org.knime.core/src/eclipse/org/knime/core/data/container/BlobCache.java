@@ -0,0 +1,220 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import java.lang.ref.SoftReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.knime.core.data.container.BlobDataCell.BlobAddress;
+
+/**
+ * Cache for blobs read by a {@link Buffer}. Useful in cases where a blob is added multiple times to a table... the
+ * iterator will read the blob address, treat it as unseen and then ask the owning buffer to restore the blob.
+ *
+ * <p>The cache is split into stripes (by hash of the blob address), each of them a least recently used map with its
+ * own lock, so that concurrent iterators don't contend on a single lock. Each stripe is bounded by the number of
+ * entries and by the sum of the (serialized) sizes of its blobs; blobs are only softly referenced. A blob larger than
+ * the share of its stripe (but not larger than the total limit) is still cached, it replaces all other entries of
+ * its stripe.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class BlobCache {
+
+    /** Default number of stripes. */
+    static final int DEFAULT_STRIPE_COUNT = 8;
+
+    /** Default maximum number of cached blobs. */
+    static final int DEFAULT_MAX_ENTRIES = 128;
+
+    /** Default maximum sum of the sizes of the cached blobs (in bytes). */
+    static final long DEFAULT_MAX_BYTES = 32L << 20;
+
+    private final Stripe[] m_stripes;
+
+    /** Creates cache with default settings. */
+    BlobCache() {
+        this(DEFAULT_STRIPE_COUNT, DEFAULT_MAX_ENTRIES, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * @param stripeCount Number of stripes, &gt; 0.
+     * @param maxEntries Maximum number of blobs, distributed evenly among the stripes.
+     * @param maxBytes Maximum sum of the blob sizes, distributed evenly among the stripes.
+     */
+    BlobCache(final int stripeCount, final int maxEntries, final long maxBytes) {
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("Stripe count must be positive: " + stripeCount);
+        }
+        m_stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            m_stripes[i] =
+                new Stripe(Math.max(1, maxEntries / stripeCount), Math.max(1L, maxBytes / stripeCount), maxBytes);
+        }
+    }
+
+    private Stripe getStripe(final BlobAddress address) {
+        int hash = address.hashCode();
+        // the index in the column is in the upper bits of the address' hash code
+        hash ^= (hash >>> 16);
+        hash ^= (hash >>> 8);
+        return m_stripes[(hash & Integer.MAX_VALUE) % m_stripes.length];
+    }
+
+    /**
+     * @param address The address of the blob.
+     * @return The cached blob or null if not in cache (or garbage collected).
+     */
+    BlobDataCell get(final BlobAddress address) {
+        return getStripe(address).get(address);
+    }
+
+    /**
+     * Adds a blob to the cache. Blobs larger than the maximum size of the cache are not cached.
+     *
+     * @param address The address of the blob.
+     * @param cell The blob.
+     * @param size The (serialized) size of the blob in bytes.
+     */
+    void put(final BlobAddress address, final BlobDataCell cell, final long size) {
+        getStripe(address).put(address, cell, size);
+    }
+
+    /** @return The number of entries (including entries whose blob has been garbage collected). */
+    int size() {
+        int size = 0;
+        for (Stripe s : m_stripes) {
+            size += s.size();
+        }
+        return size;
+    }
+
+    /** Removes all entries. */
+    void clear() {
+        for (Stripe s : m_stripes) {
+            s.clear();
+        }
+    }
+
+    /** Cached blob and its size. */
+    private static final class CacheEntry {
+
+        private final SoftReference<BlobDataCell> m_cellRef;
+
+        private final long m_size;
+
+        CacheEntry(final BlobDataCell cell, final long size) {
+            m_cellRef = new SoftReference<>(cell);
+            m_size = size;
+        }
+    }
+
+    /** Least recently used map bounded by entries and bytes. */
+    private static final class Stripe {
+
+        private final LinkedHashMap<BlobAddress, CacheEntry> m_map = new LinkedHashMap<>(16, 0.75f, true);
+
+        private final int m_maxEntries;
+
+        private final long m_maxBytes;
+
+        /** The limit of the entire cache, larger blobs are not cached. */
+        private final long m_maxBlobBytes;
+
+        private long m_bytes;
+
+        Stripe(final int maxEntries, final long maxBytes, final long maxBlobBytes) {
+            m_maxEntries = maxEntries;
+            m_maxBytes = maxBytes;
+            m_maxBlobBytes = maxBlobBytes;
+        }
+
+        synchronized BlobDataCell get(final BlobAddress address) {
+            CacheEntry entry = m_map.get(address);
+            if (entry == null) {
+                return null;
+            }
+            BlobDataCell cell = entry.m_cellRef.get();
+            if (cell == null) {
+                m_map.remove(address);
+                m_bytes -= entry.m_size;
+            }
+            return cell;
+        }
+
+        synchronized void put(final BlobAddress address, final BlobDataCell cell, final long size) {
+            CacheEntry old = m_map.remove(address);
+            if (old != null) {
+                m_bytes -= old.m_size;
+            }
+            if (size > m_maxBlobBytes) {
+                return;
+            }
+            m_map.put(address, new CacheEntry(cell, size));
+            m_bytes += size;
+            // the new entry is the most recently used (last) one and is never evicted here
+            Iterator<Map.Entry<BlobAddress, CacheEntry>> it = m_map.entrySet().iterator();
+            while (m_map.size() > 1 && (m_map.size() > m_maxEntries || m_bytes > m_maxBytes)) {
+                m_bytes -= it.next().getValue().m_size;
+                it.remove();
+            }
+        }
+
+        synchronized int size() {
+            return m_map.size();
+        }
+
+        synchronized void clear() {
+            m_map.clear();
+            m_bytes = 0L;
+        }
+    }
+
+}
@@ -0,0 +1,382 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Append-only storage for the blobs of a column in a {@link Buffer}. Writing each blob into its own file is expensive
+ * for many small blobs (file creation, directory entries, zip entries when saved). This store appends the serialized
+ * blobs to a single data file and keeps offset and length of each blob in an index file, which has one entry per
+ * blob index in the column. Blobs larger than {@link #MAX_BLOB_SIZE} are still written to their own file (as
+ * determined by {@link Buffer#getBlobFile(int, int, boolean, boolean)}), they are marked in the index with a negative
+ * offset.
+ *
+ * <p>Columns written by previous versions have no index file, {@link #open(File, boolean)} returns null then and blobs
+ * are read from their individual files. Reads use positional channel reads and can run concurrently to each other
+ * and to appends. The file channels are opened on first access and kept open until the store is closed.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class BlobSegmentStore implements AutoCloseable {
+
+    /** Name of the file containing the blob data, located in the column's blob directory. */
+    static final String DATA_FILE_NAME = "blobs.seg";
+
+    /** Name of the index file, located in the column's blob directory. */
+    static final String INDEX_FILE_NAME = "blobs.idx";
+
+    /** Blobs with more (serialized) bytes are written to individual files. */
+    static final int MAX_BLOB_SIZE = 1 << 16;
+
+    /** Each index entry is a long offset (-1 for individual files) and a long length. */
+    private static final int INDEX_ENTRY_SIZE = 16;
+
+    private final File m_dataFile;
+
+    private final File m_indexFile;
+
+    private final boolean m_isWritable;
+
+    /** Opened on first access, guarded by this. */
+    private FileChannel m_dataChannel;
+
+    /** Opened on first access, guarded by this. */
+    private FileChannel m_indexChannel;
+
+    /** Number of index entries, guarded by this. */
+    private int m_count;
+
+    /** Size of the data file, guarded by this. */
+    private long m_dataSize;
+
+    private BlobSegmentStore(final File columnDir, final boolean isWritable) {
+        m_indexFile = new File(columnDir, INDEX_FILE_NAME);
+        m_dataFile = new File(columnDir, DATA_FILE_NAME);
+        m_isWritable = isWritable;
+        // length is 0 if the files don't exist (yet)
+        m_count = (int)(m_indexFile.length() / INDEX_ENTRY_SIZE);
+        m_dataSize = m_dataFile.length();
+    }
+
+    private synchronized FileChannel getIndexChannel() throws IOException {
+        if (m_indexChannel == null) {
+            m_indexChannel = openChannel(m_indexFile);
+        }
+        return m_indexChannel;
+    }
+
+    private synchronized FileChannel getDataChannel() throws IOException {
+        if (m_dataChannel == null) {
+            m_dataChannel = openChannel(m_dataFile);
+        }
+        return m_dataChannel;
+    }
+
+    private FileChannel openChannel(final File file) throws IOException {
+        StandardOpenOption[] options = m_isWritable
+            ? new StandardOpenOption[]{StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE}
+            : new StandardOpenOption[]{StandardOpenOption.READ};
+        return FileChannel.open(file.toPath(), options);
+    }
+
+    /**
+     * Opens the store of a column.
+     *
+     * @param columnDir The blob directory of the column.
+     * @param isWritable Whether blobs are to be appended; the files are created if necessary.
+     * @return The store or null if not writable and the column has no store (as written by previous versions).
+     */
+    static BlobSegmentStore open(final File columnDir, final boolean isWritable) {
+        if (!isWritable && !new File(columnDir, INDEX_FILE_NAME).isFile()) {
+            return null;
+        }
+        return new BlobSegmentStore(columnDir, isWritable);
+    }
+
+    /**
+     * Appends a blob.
+     *
+     * @param index The index of the blob in the column, must be the next index.
+     * @param blob The serialized blob.
+     * @param length The number of bytes in the array to append.
+     * @throws IOException If writing fails or the index is not the next index.
+     */
+    synchronized void append(final int index, final byte[] blob, final int length) throws IOException {
+        checkNextIndex(index);
+        ByteBuffer buffer = ByteBuffer.wrap(blob, 0, length);
+        long offset = m_dataSize;
+        FileChannel dataChannel = getDataChannel();
+        while (buffer.hasRemaining()) {
+            dataChannel.write(buffer, offset + buffer.position());
+        }
+        writeIndexEntry(offset, length);
+        m_dataSize += length;
+    }
+
+    /**
+     * Marks a blob as stored in an individual file.
+     *
+     * @param index The index of the blob in the column, must be the next index.
+     * @throws IOException If writing fails or the index is not the next index.
+     */
+    synchronized void appendExternal(final int index) throws IOException {
+        checkNextIndex(index);
+        writeIndexEntry(-1L, 0L);
+    }
+
+    private void checkNextIndex(final int index) throws IOException {
+        if (!m_isWritable) {
+            throw new IOException("Blob store is read-only");
+        }
+        if (index != m_count) {
+            throw new IOException("Invalid blob index " + index + ", expected " + m_count);
+        }
+    }
+
+    private void writeIndexEntry(final long offset, final long length) throws IOException {
+        ByteBuffer entry = ByteBuffer.allocate(INDEX_ENTRY_SIZE);
+        entry.putLong(offset).putLong(length).flip();
+        long position = (long)m_count * INDEX_ENTRY_SIZE;
+        FileChannel indexChannel = getIndexChannel();
+        while (entry.hasRemaining()) {
+            indexChannel.write(entry, position + entry.position());
+        }
+        m_count++;
+    }
+
+    /**
+     * Reads the serialized blob.
+     *
+     * @param index The index of the blob in the column.
+     * @return The serialized blob or null if the blob is stored in an individual file.
+     * @throws IOException If reading fails, the index is unknown or its entry is corrupt.
+     */
+    byte[] read(final int index) throws IOException {
+        ByteBuffer entry = readIndexEntry(index);
+        long offset = entry.getLong(0);
+        if (offset < 0) {
+            return null;
+        }
+        long length = entry.getLong(8);
+        checkSegmentBounds(index, offset, length);
+        byte[] result = new byte[(int)length];
+        readFully(getDataChannel(), ByteBuffer.wrap(result), offset);
+        return result;
+    }
+
+    /**
+     * @param index The index of the blob in the column.
+     * @return The size of the serialized blob or -1 if the blob is stored in an individual file.
+     * @throws IOException If reading fails, the index is unknown or its entry is corrupt.
+     */
+    long getLength(final int index) throws IOException {
+        ByteBuffer entry = readIndexEntry(index);
+        long offset = entry.getLong(0);
+        if (offset < 0) {
+            return -1L;
+        }
+        long length = entry.getLong(8);
+        checkSegmentBounds(index, offset, length);
+        return length;
+    }
+
+    /** Checks that a blob read from the index lies within the data file and fits into an array. */
+    private void checkSegmentBounds(final int index, final long offset, final long length) throws IOException {
+        long dataSize;
+        synchronized (this) {
+            dataSize = m_dataSize;
+        }
+        // offset is non-negative, no overflow
+        if (length < 0 || length > Integer.MAX_VALUE || offset > dataSize - length) {
+            throw new IOException("Corrupt index entry for blob " + index + " (offset " + offset + ", length "
+                + length + ", data file has " + dataSize + " bytes)");
+        }
+    }
+
+    private ByteBuffer readIndexEntry(final int index) throws IOException {
+        synchronized (this) {
+            if (index < 0 || index >= m_count) {
+                throw new IOException("Invalid blob index " + index + " (store has " + m_count + " entries)");
+            }
+        }
+        ByteBuffer entry = ByteBuffer.allocate(INDEX_ENTRY_SIZE);
+        readFully(getIndexChannel(), entry, (long)index * INDEX_ENTRY_SIZE);
+        return entry;
+    }
+
+    private static void readFully(final FileChannel channel, final ByteBuffer buffer, final long position)
+        throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException("Unexpected end of blob store");
+            }
+        }
+    }
+
+    /**
+     * Creates a stream to write a blob. The bytes are kept in memory and appended to this store when the stream is
+     * closed; if more than {@link #MAX_BLOB_SIZE} bytes are written the blob is written to the file provided by the
+     * argument instead.
+     *
+     * @param index The index of the blob in the column, must be the next index when the stream is closed.
+     * @param fileSupplier Provides the individual file for large blobs.
+     * @return A new stream, to be closed by the caller.
+     */
+    OutputStream newBlobOutputStream(final int index, final BlobFileSupplier fileSupplier) {
+        return new BlobOutputStream(index, fileSupplier);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            if (m_indexChannel != null) {
+                m_indexChannel.close();
+            }
+        } finally {
+            m_indexChannel = null;
+            if (m_dataChannel != null) {
+                m_dataChannel.close();
+            }
+            m_dataChannel = null;
+        }
+    }
+
+    /** Provides the file for blobs that are too large to be stored in the segment. */
+    @FunctionalInterface
+    interface BlobFileSupplier {
+        /**
+         * @return The file to write the blob to, its directory must exist.
+         * @throws IOException If the file can't be determined.
+         */
+        File getFile() throws IOException;
+    }
+
+    /** Stream for a single blob, switches from memory to an individual file when the blob gets large. */
+    private final class BlobOutputStream extends OutputStream {
+
+        private final int m_index;
+
+        private final BlobFileSupplier m_fileSupplier;
+
+        private ExposedByteArrayOutputStream m_memoryOut = new ExposedByteArrayOutputStream();
+
+        private OutputStream m_fileOut;
+
+        private boolean m_isClosed;
+
+        BlobOutputStream(final int index, final BlobFileSupplier fileSupplier) {
+            m_index = index;
+            m_fileSupplier = fileSupplier;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void write(final int b) throws IOException {
+            ensureCapacity(1).write(b);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            ensureCapacity(len).write(b, off, len);
+        }
+
+        private OutputStream ensureCapacity(final int len) throws IOException {
+            if (m_fileOut == null && m_memoryOut.size() + len > MAX_BLOB_SIZE) {
+                File file = m_fileSupplier.getFile();
+                m_fileOut = new FileOutputStream(file);
+                Buffer.onFileCreated(file);
+                m_memoryOut.writeTo(m_fileOut);
+                m_memoryOut = null;
+            }
+            return m_fileOut != null ? m_fileOut : m_memoryOut;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void flush() throws IOException {
+            if (m_fileOut != null) {
+                m_fileOut.flush();
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void close() throws IOException {
+            if (m_isClosed) {
+                return;
+            }
+            m_isClosed = true;
+            if (m_fileOut != null) {
+                m_fileOut.close();
+                appendExternal(m_index);
+            } else {
+                append(m_index, m_memoryOut.getBuffer(), m_memoryOut.size());
+                m_memoryOut = null;
+            }
+        }
+    }
+
+    /** Gives access to the internal array to avoid a copy. */
+    private static final class ExposedByteArrayOutputStream extends ByteArrayOutputStream {
+        byte[] getBuffer() {
+            return buf;
+        }
+    }
+
+}
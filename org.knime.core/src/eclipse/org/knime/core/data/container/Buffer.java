@@ -57,7 +57,6 @@
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.lang.management.ManagementFactory;
-import java.lang.ref.SoftReference;
 import java.lang.ref.WeakReference;
 import java.lang.reflect.Field;
 import java.nio.file.Files;
@@ -68,10 +67,8 @@
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Set;
@@ -99,6 +96,8 @@
 import org.knime.core.data.collection.CollectionDataValue;
 import org.knime.core.data.container.BlobDataCell.BlobAddress;
 import org.knime.core.data.container.storage.AbstractTableStoreReader;
+import org.knime.core.data.container.filter.FilterDelegateRowIterator;
+import org.knime.core.data.container.filter.TableFilter;
 import org.knime.core.data.container.storage.AbstractTableStoreReader.TableStoreCloseableRowIterator;
 import org.knime.core.data.container.storage.AbstractTableStoreWriter;
 import org.knime.core.data.container.storage.TableStoreFormat;
@@ -125,6 +124,7 @@
 import org.knime.core.node.NodeSettings;
 import org.knime.core.node.NodeSettingsRO;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.node.workflow.NodeTimer;
 import org.knime.core.util.FileUtil;
 import org.knime.core.util.PathUtils;
 import org.knime.core.util.ThreadUtils;
@@ -220,10 +220,10 @@ public class Buffer implements KNIMEStreamConstants {
     private static final String CFG_SIZE_L = "table.size.long";
 
     /** Current version string. */
-    private static final String VERSION = "container_10";
+    private static final String VERSION = "container_11";
 
     /** The version number corresponding to VERSION. */
-    private static final int IVERSION = 10;
+    private static final int IVERSION = 11;
 
     private static final HashMap<String, Integer> COMPATIBILITY_MAP;
 
@@ -238,7 +238,8 @@ public class Buffer implements KNIMEStreamConstants {
         COMPATIBILITY_MAP.put("container_7", 7); // 2.0.0 (final)
         COMPATIBILITY_MAP.put("container_8", 8); // version 2.0.1
         COMPATIBILITY_MAP.put("container_9", 9); // never released - some workflow tests contain it (BW used a nightly)
-        COMPATIBILITY_MAP.put(VERSION, IVERSION); // version 3.6++ (multiple table formats)
+        COMPATIBILITY_MAP.put("container_10", 10); // version 3.6 (multiple table formats)
+        COMPATIBILITY_MAP.put(VERSION, IVERSION); // version 3.6++ (blobs packed in segment files)
         // NOTE consider to also
         // - increment the workflow.knime version number when updating this list
         // - update list in NoKeyBuffer
@@ -295,11 +296,15 @@ public void run() {
     }
 
     /**
-     * Hash used to reduce the overhead of reading a blob cell over and over again. Useful in cases where a blob is
+     * Cache used to reduce the overhead of reading a blob cell over and over again. Useful in cases where a blob is
      * added multiple times to a table... the iterator will read the blob address, treat it as unseen and then ask the
      * owning Buffer to restore the blob.
      */
-    private final BlobLRUCache m_blobLRUCache = new BlobLRUCache();
+    private final BlobCache m_blobCache = new BlobCache();
+
+    /** Segment stores of the blob columns, indexed by column; a null value indicates that the column has no store
+     * (written by a previous version). Guarded by the map itself. */
+    private final Map<Integer, BlobSegmentStore> m_blobSegmentStores = new HashMap<>();
 
     static boolean isUseCompressionForBlobs(final CellClassInfo cellClassInfo) {
         @SuppressWarnings("unchecked")
@@ -340,12 +345,6 @@ static boolean isUseCompressionForBlobs(final CellClassInfo cellClassInfo) {
         return result;
     }
 
-    /** Compression on the binary (main) file. */
-    enum CompressionFormat {
-        Gzip,
-        None;
-    }
-
     /** the file to write to. */
     private File m_binFile;
 
@@ -355,6 +354,9 @@ enum CompressionFormat {
     /** true if any row contained in this buffer contains blob cells. */
     private boolean m_containsBlobs;
 
+    /** Time spent writing rows to the temp file (nanoseconds), reported to the node's profile on close. */
+    private long m_writeTimeNanos;
+
     /**
      * The ID of this buffer. Used for blob serialization. This field is -1 when this buffer is not used within a
      * BufferedDataTable (i.e. for node outport serialization).
@@ -398,6 +400,15 @@ enum CompressionFormat {
     /** the list that keeps up to m_maxRowsInMem in memory. */
     private List<BlobSupportDataRow> m_list;
 
+    /**
+     * The serialized rows if the (closed) table is kept in the {@link OffHeapTableCache} (then m_list is null and
+     * the reader reads from this store until the table is spilled to m_binFile).
+     */
+    private OffHeapTableStore m_offHeapStore;
+
+    /** The entry in the {@link TableCacheManager} if the closed table is kept in memory and the manager is enabled. */
+    private TableCacheManager.CacheEntry m_cacheEntry;
+
     private int[] m_indicesOfBlobInColumns;
 
     /** the spec the rows comply with, no checking is done, however. */
@@ -599,7 +610,9 @@ synchronized void addRow(final DataRow r, final boolean isCopyOfExisting, final
                 }
             } else {
                 flushBuffer();
+                final long start = System.nanoTime();
                 m_outputWriter.writeRow(row);
+                m_writeTimeNanos += System.nanoTime() - start;
             }
         } catch (Exception e) {
             if (!(e instanceof IOException)) {
@@ -642,9 +655,11 @@ final int writeAllRowsFromListToFile() throws IOException {
 
         if (m_list != null) {
             int result = m_list.size();
+            final long start = System.nanoTime();
             for (BlobSupportDataRow rowInList : m_list) {
                 m_outputWriter.writeRow(rowInList);
             }
+            m_writeTimeNanos += System.nanoTime() - start;
             return result;
         } else {
             return 0;
@@ -847,9 +862,7 @@ private DataCell handleIncomingBlob(final DataCell cell, final int col, final in
             if (b != null && !isToCloneForVersionHop) {
                 int indexBlobInCol = m_indicesOfBlobInColumns[col]++;
                 rewrite.setIndexOfBlobInColumn(indexBlobInCol);
-                File source = b.getBlobFile(ad.getIndexOfBlobInColumn(), ad.getColumn(), false, ad.isUseCompression());
-                File dest = getBlobFile(indexBlobInCol, col, true, ad.isUseCompression());
-                FileUtil.copy(source, dest);
+                copyBlob(b, ad, indexBlobInCol, col);
                 wc = new BlobWrapperDataCell(this, rewrite, cl);
             } else {
                 BlobDataCell bc;
@@ -902,7 +915,6 @@ private void writeBlobDataCell(final BlobDataCell cell, final BlobAddress a) thr
         int indexInColumn = m_indicesOfBlobInColumns[column]++;
         a.setIndexOfBlobInColumn(indexInColumn);
         boolean isToCompress = Buffer.isUseCompressionForBlobs(CellClassInfo.get(cell));
-        File outFile = getBlobFile(indexInColumn, column, true, isToCompress);
         BlobAddress originalBA = cell.getBlobAddress();
         if (!Objects.equals(originalBA, a)) {
             int originalBufferIndex = originalBA.getBufferID();
@@ -917,16 +929,11 @@ private void writeBlobDataCell(final BlobDataCell cell, final BlobAddress a) thr
                 }
             }
             if (originalBuffer != null) {
-                int index = originalBA.getIndexOfBlobInColumn();
-                int col = originalBA.getColumn();
-                boolean compress = originalBA.isUseCompression();
-                File source = originalBuffer.getBlobFile(index, col, false, compress);
-                FileUtil.copy(source, outFile);
+                copyBlob(originalBuffer, originalBA, indexInColumn, column);
                 return;
             }
         }
-        OutputStream out = new BufferedOutputStream(new FileOutputStream(outFile));
-        Buffer.onFileCreated(outFile);
+        OutputStream out = new BufferedOutputStream(openBlobOutputStream(indexInColumn, column, isToCompress));
         if (isToCompress) {
             out = new GZIPOutputStream(out);
             // buffering the gzip stream brings another performance boost
@@ -982,10 +989,27 @@ private long getAndIncrementSize() {
      *
      * @param spec The spec the rows have to follow. No sanity check is done.
      */
-    synchronized void close(final DataTableSpec spec) {
+    void close(final DataTableSpec spec) {
         assert spec != null : "Buffer is not open.";
-        closeInternal();
-        m_spec = spec;
+        final long inMemorySize;
+        synchronized (this) {
+            closeInternal();
+            m_spec = spec;
+            inMemorySize = estimateHeapSize();
+        }
+        // registration may write other tables to disk, must not hold the lock on this buffer
+        TableCacheManager cacheManager = TableCacheManager.getInstance();
+        if (inMemorySize > 0 && cacheManager.isEnabled()) {
+            TableCacheManager.CacheEntry cacheEntry = cacheManager.register(this, inMemorySize);
+            synchronized (this) {
+                m_cacheEntry = cacheEntry;
+            }
+        }
+    }
+
+    /** @return the estimated heap size of the rows kept in memory, 0 if the rows are not (or no longer) in memory. */
+    synchronized long estimateHeapSize() {
+        return m_list == null ? 0L : TableCacheManager.estimateHeapSize(m_list);
     }
 
     /** Closes by creating shortcut array for file access. */
@@ -993,16 +1017,26 @@ void closeInternal() {
         assert Thread.holdsLock(this);
         // everything is in the list, i.e. in memory
         if (m_outputWriter == null) {
-            // disallow modification
-            List<BlobSupportDataRow> newList = Collections.unmodifiableList(m_list);
-            m_list = newList;
-            if (!m_list.isEmpty()) {
-                registerMemoryAlertListener();
+            if (!m_list.isEmpty() && moveListOffHeap()) {
+                // rows are serialized in direct memory, nothing to free on the heap in case of memory alerts
+            } else {
+                // disallow modification
+                List<BlobSupportDataRow> newList = Collections.unmodifiableList(m_list);
+                m_list = newList;
+                // if enabled, the table cache manager handles low memory conditions for all tables
+                if (!m_list.isEmpty() && !TableCacheManager.getInstance().isEnabled()) {
+                    registerMemoryAlertListener();
+                }
             }
         } else {
             try {
                 flushBuffer();
+                final long start = System.nanoTime();
                 m_outputWriter.close();
+                m_writeTimeNanos += System.nanoTime() - start;
+                NodeTimer.addTableWrite(m_binFile.length(), m_writeTimeNanos);
+                // no more blobs are appended, stores are opened read-only on demand
+                closeBlobSegmentStores();
                 NodeSettings nodeSettings = new NodeSettings("table-format-meta-info");
                 m_outputWriter.writeMetaInfoAfterWrite(nodeSettings);
                 m_list = null;
@@ -1019,6 +1053,78 @@ void closeInternal() {
         m_localRepository = null;
     } // close()
 
+    /**
+     * Serializes the rows in m_list into the off-heap table cache if the cache is enabled and the table qualifies
+     * (default table format, no blobs). The serialization uses LZ4 compression independent of the configured file
+     * compression as it's decoded whenever the table is iterated.
+     *
+     * @return true if the rows were moved (m_list is null then), false if they are to be kept on the heap
+     */
+    private boolean moveListOffHeap() {
+        assert Thread.holdsLock(this);
+        OffHeapTableCache cache = OffHeapTableCache.getInstance();
+        if (!cache.isEnabled() || m_containsBlobs || !(m_outputFormat instanceof DefaultTableStoreFormat)) {
+            return false;
+        }
+        OffHeapTableStore store = cache.createStore();
+        try {
+            DefaultTableStoreWriter writer = new DefaultTableStoreWriter(m_spec, store.getOutputStream(),
+                !shouldSkipRowKey(), DefaultTableStoreFormat.CompressionFormat.Lz4);
+            writer.setFileStoreHandler((IWriteFileStoreHandler)m_fileStoreHandler);
+            for (BlobSupportDataRow row : m_list) {
+                writer.writeRow(row);
+            }
+            writer.close();
+            NodeSettings nodeSettings = new NodeSettings("table-format-meta-info");
+            writer.writeMetaInfoAfterWrite(nodeSettings);
+            ensureTempFileExists();
+            initOutputReader(nodeSettings, IVERSION);
+            ((DefaultTableStoreReader)m_outputReader).setOffHeapStore(store);
+        } catch (IOException | InvalidSettingsException e) {
+            cache.release(store);
+            m_outputReader = null;
+            LOGGER.debug("Keeping table on heap, unable to move it into off-heap cache: " + e.getMessage(), e);
+            return false;
+        }
+        cache.register(this, store);
+        m_offHeapStore = store;
+        LOGGER.debugWithFormat("Moved %d rows (%d bytes) into off-heap table cache", m_list.size(), store.size());
+        m_list = null;
+        return true;
+    }
+
+    /**
+     * Called by the {@link OffHeapTableCache} when the table is evicted: writes the serialized rows to the temp file,
+     * subsequent iterators read from the file. Iterators that are currently open continue reading from the off-heap
+     * memory.
+     */
+    synchronized void spillOffHeapTable() {
+        final OffHeapTableStore store = m_offHeapStore;
+        if (store == null) {
+            return; // cleared in the meantime
+        }
+        try {
+            Buffer.onFileCreated(m_binFile);
+            try (OutputStream out = new FileOutputStream(m_binFile)) {
+                store.writeTo(out);
+            }
+        } catch (IOException ioe) {
+            LOGGER.error("Unable to spill off-heap table to file \"" + m_binFile.getAbsolutePath() + "\": "
+                + ioe.getMessage(), ioe);
+            return;
+        }
+        ((DefaultTableStoreReader)m_outputReader).setOffHeapStore(null);
+        m_offHeapStore = null;
+        OffHeapTableCache.getInstance().release(store);
+        LOGGER.debug("Spilled off-heap table (" + store.size() + " bytes) to file \"" + m_binFile.getAbsolutePath()
+            + "\"");
+    }
+
+    /** @return whether the table content is currently held in the off-heap cache (used in tests). */
+    synchronized boolean isOffHeap() {
+        return m_offHeapStore != null;
+    }
+
     private MemoryAlertListener m_memoryAlertListener;
 
     private void registerMemoryAlertListener() {
@@ -1039,6 +1145,20 @@ public void run() {
         MemoryAlertSystem.getInstance().addListener(m_memoryAlertListener);
     }
 
+    /**
+     * Called by the {@link TableCacheManager} to evict this table: writes the rows to the temp file and releases them.
+     *
+     * @return true if the rows were written, false if they were not in memory (any more)
+     */
+    synchronized boolean writeToDiskForCache() {
+        if (m_list == null || m_list.isEmpty()) {
+            return false;
+        }
+        flushBuffer();
+        closeInternal();
+        return true;
+    }
+
     private synchronized void onMemoryAlert() {
         if (m_list == null) {
             // concurrent close or addRow() caused this to be flushed (this method may stall long on Buffer.this)
@@ -1188,7 +1308,7 @@ private void initOutputReader(final NodeSettingsRO outputFormatSettings, final i
      * @return true If it does.
      */
     boolean usesOutFile() {
-        return m_list == null;
+        return m_list == null && m_offHeapStore == null;
     }
 
     /**
@@ -1289,20 +1409,123 @@ BlobDataCell readBlobDataCell(final BlobAddress blobAddress, final CellClassInfo
             Buffer blobBuffer = cnTbl.getBuffer();
             return blobBuffer.readBlobDataCell(blobAddress, cl);
         }
-        SoftReference<BlobDataCell> softRef = m_blobLRUCache.get(blobAddress);
-        BlobDataCell result = softRef != null ? softRef.get() : null;
+        BlobDataCell result = m_blobCache.get(blobAddress);
         if (result != null) {
             return result;
         }
+        final long size;
         if (getReadVersion() <= 5) { // 2.0 TechPreview and earlier
             result = BufferFromFileIteratorVersion1x.readBlobDataCell(this, blobAddress, cl);
+            size = 0L; // rarely used, not worth determining
         } else {
             result = BufferFromFileIteratorVersion20.readBlobDataCell(blobAddress, cl, this);
+            size = getBlobSize(blobAddress.getIndexOfBlobInColumn(), blobAddress.getColumn(),
+                blobAddress.isUseCompression());
         }
-        m_blobLRUCache.put(blobAddress, new SoftReference<BlobDataCell>(result));
+        m_blobCache.put(blobAddress, result, size);
         return result;
     }
 
+    /**
+     * Get the segment store of a blob column.
+     *
+     * @param column The column index.
+     * @param isWritable Whether blobs are to be appended (creates the store if necessary).
+     * @return The store or null if not writable and the column has no store (blobs written by a previous version).
+     * @throws IOException If the store can't be opened.
+     */
+    private BlobSegmentStore getBlobSegmentStore(final int column, final boolean isWritable) throws IOException {
+        synchronized (m_blobSegmentStores) {
+            BlobSegmentStore store = m_blobSegmentStores.get(column);
+            if (store != null || (!isWritable && m_blobSegmentStores.containsKey(column))) {
+                return store;
+            }
+            if (isWritable) {
+                ensureBlobDirExists();
+            } else if (m_blobDir == null) {
+                throw new IOException("No blob directory set (blob in column " + column + " requested)");
+            }
+            File columnDir = new File(m_blobDir, "col_" + column);
+            if (isWritable && !columnDir.isDirectory() && !columnDir.mkdirs()) {
+                throw new IOException("Unable to create directory " + columnDir.getAbsolutePath());
+            }
+            store = BlobSegmentStore.open(columnDir, isWritable);
+            m_blobSegmentStores.put(column, store);
+            return store;
+        }
+    }
+
+    /** @return whether blobs are (possibly) stored in segment stores, false for tables written prior container_11 */
+    private boolean usesBlobSegmentStores() {
+        return getReadVersion() >= 11;
+    }
+
+    /** Closes the segment stores of the blob columns, they are opened again when needed. */
+    private void closeBlobSegmentStores() {
+        synchronized (m_blobSegmentStores) {
+            for (BlobSegmentStore store : m_blobSegmentStores.values()) {
+                if (store != null) {
+                    try {
+                        store.close();
+                    } catch (IOException ioe) {
+                        LOGGER.debug("Unable to close blob store: " + ioe.getMessage(), ioe);
+                    }
+                }
+            }
+            m_blobSegmentStores.clear();
+        }
+    }
+
+    /**
+     * Opens a stream on the serialized blob (which is still compressed if it was written compressed).
+     *
+     * @param indexBlobInCol The index of the blob in the column.
+     * @param column The column index.
+     * @param isCompressed If the blob is compressed.
+     * @return A new stream, to be closed by the caller.
+     * @throws IOException If that fails.
+     */
+    InputStream openBlobInputStream(final int indexBlobInCol, final int column, final boolean isCompressed)
+        throws IOException {
+        BlobSegmentStore store = usesBlobSegmentStores() ? getBlobSegmentStore(column, false) : null;
+        byte[] blob = store != null ? store.read(indexBlobInCol) : null;
+        if (blob != null) {
+            return new ByteArrayInputStream(blob);
+        }
+        return new BufferedInputStream(new FileInputStream(getBlobFile(indexBlobInCol, column, false, isCompressed)));
+    }
+
+    /** Size of the serialized blob in bytes. */
+    private long getBlobSize(final int indexBlobInCol, final int column, final boolean isCompressed)
+        throws IOException {
+        BlobSegmentStore store = usesBlobSegmentStores() ? getBlobSegmentStore(column, false) : null;
+        long size = store != null ? store.getLength(indexBlobInCol) : -1L;
+        if (size >= 0) {
+            return size;
+        }
+        return getBlobFile(indexBlobInCol, column, false, isCompressed).length();
+    }
+
+    /**
+     * Opens a stream to write a serialized blob, small blobs are appended to the column's segment store, large ones
+     * are written to an individual file.
+     */
+    private OutputStream openBlobOutputStream(final int indexBlobInCol, final int column, final boolean isCompressed)
+        throws IOException {
+        return getBlobSegmentStore(column, true).newBlobOutputStream(indexBlobInCol,
+            () -> getBlobFile(indexBlobInCol, column, true, isCompressed));
+    }
+
+    /** Copies a serialized blob from another buffer into this buffer. */
+    private void copyBlob(final Buffer source, final BlobAddress sourceAddress, final int indexBlobInCol,
+        final int column) throws IOException {
+        try (InputStream in = source.openBlobInputStream(sourceAddress.getIndexOfBlobInColumn(),
+            sourceAddress.getColumn(), sourceAddress.isUseCompression());
+                OutputStream out = openBlobOutputStream(indexBlobInCol, column, sourceAddress.isUseCompression())) {
+            IOUtils.copyLarge(in, out);
+        }
+    }
+
     private void ensureBlobDirExists() throws IOException {
         if (m_blobDir == null) {
             ensureTempFileExists();
@@ -1416,6 +1639,9 @@ private static String getFileName(final int fileIndex) {
      * @return a new Iterator over all rows.
      */
     synchronized CloseableRowIterator iterator() {
+        if (m_cacheEntry != null) {
+            TableCacheManager.getInstance().recordAccess(m_cacheEntry);
+        }
         if (usesOutFile()) {
             if (m_useBackIntoMemoryIterator) {
                 // the order of the following lines is very important!
@@ -1425,29 +1651,73 @@ synchronized CloseableRowIterator iterator() {
                 m_list = new ArrayList<BlobSupportDataRow>((int) size());
                 return new FromListIterator();
             }
-            try {
-                LOGGER.debug("Opening input stream on file \"" + m_binFile.getAbsolutePath() + "\", "
-                        + m_nrOpenInputStreams + " open streams");
-
-                TableStoreCloseableRowIterator iterator = m_outputReader.iterator();
-                iterator.setBuffer(this);
-                m_nrOpenInputStreams.incrementAndGet();
-                synchronized (m_openIteratorSet) {
-                    m_openIteratorSet.put(iterator, DUMMY);
-                }
-                return iterator;
-            } catch (IOException ioe) {
-                StringBuilder b = new StringBuilder("Cannot read file \"");
-                b.append(m_binFile != null ? m_binFile.getName() : "<unknown>");
-                b.append("\"");
-                checkAndReportOpenFiles(ioe);
-                throw new RuntimeException(b.toString(), ioe);
-            }
+            return readAhead(openFileIterator(null));
+        } else if (m_offHeapStore != null) {
+            OffHeapTableCache.getInstance().touch(m_offHeapStore);
+            return readAhead(openFileIterator(null));
         } else {
             return new FromListIterator();
         }
     }
 
+    /**
+     * Get a new iterator that only returns the rows and materializes the columns as defined by the filter. If the
+     * data is read from file the filter is pushed into the table store reader, which skips the deserialization of
+     * filtered cells and rows.
+     *
+     * @param filter the filter, not null
+     * @return a new iterator
+     * @since 3.6
+     */
+    synchronized CloseableRowIterator iteratorWithFilter(final TableFilter filter) {
+        if (usesOutFile() && !m_useBackIntoMemoryIterator) {
+            if (m_cacheEntry != null) {
+                TableCacheManager.getInstance().recordAccess(m_cacheEntry);
+            }
+            return readAhead(openFileIterator(filter));
+        } else if (m_offHeapStore != null) {
+            OffHeapTableCache.getInstance().touch(m_offHeapStore);
+            return readAhead(openFileIterator(filter));
+        }
+        return new FilterDelegateRowIterator(iterator(), filter);
+    }
+
+    /**
+     * Wraps the file iterator so that rows are read in a background thread, if enabled (see
+     * {@link org.knime.core.node.KNIMEConstants#PROPERTY_ASYNC_READ_AHEAD}) and the number of IO threads permits.
+     */
+    private static CloseableRowIterator readAhead(final CloseableRowIterator fileIterator) {
+        if (DataContainer.READ_AHEAD_BATCH_COUNT > 0 && !DataContainer.SYNCHRONOUS_IO
+            && DataContainer.ASYNC_EXECUTORS.getActiveCount() <= DataContainer.MAX_ASYNC_WRITE_THREADS) {
+            return new ReadAheadRowIterator(fileIterator, DataContainer.READ_AHEAD_BATCH_SIZE,
+                DataContainer.READ_AHEAD_BATCH_COUNT);
+        }
+        return fileIterator;
+    }
+
+    /** Opens a new iterator on the binary file and registers it, the filter is possibly null. */
+    private CloseableRowIterator openFileIterator(final TableFilter filter) {
+        try {
+            LOGGER.debug("Opening input stream on file \"" + m_binFile.getAbsolutePath() + "\", "
+                    + m_nrOpenInputStreams + " open streams");
+
+            TableStoreCloseableRowIterator iterator =
+                filter == null ? m_outputReader.iterator() : m_outputReader.iteratorWithFilter(filter);
+            iterator.setBuffer(this);
+            m_nrOpenInputStreams.incrementAndGet();
+            synchronized (m_openIteratorSet) {
+                m_openIteratorSet.put(iterator, DUMMY);
+            }
+            return iterator;
+        } catch (IOException ioe) {
+            StringBuilder b = new StringBuilder("Cannot read file \"");
+            b.append(m_binFile != null ? m_binFile.getName() : "<unknown>");
+            b.append("\"");
+            checkAndReportOpenFiles(ioe);
+            throw new RuntimeException(b.toString(), ioe);
+        }
+    }
+
 
     private static List<OutputStream> DEBUG_STREAMS = new ArrayList<>();
 
@@ -1711,7 +1981,17 @@ public synchronized void clearIteratorInstance(final TableStoreCloseableRowItera
     synchronized void clear() {
         BufferTracker.getInstance().bufferCleared(this);
         m_list = null;
+        if (m_cacheEntry != null) {
+            TableCacheManager.getInstance().remove(m_cacheEntry);
+            m_cacheEntry = null;
+        }
+        if (m_offHeapStore != null) {
+            ((DefaultTableStoreReader)m_outputReader).setOffHeapStore(null);
+            OffHeapTableCache.getInstance().release(m_offHeapStore);
+            m_offHeapStore = null;
+        }
         unregisterMemoryAlertListener();
+        closeBlobSegmentStores();
         if (m_binFile != null) {
             synchronized (m_openIteratorSet) {
                 m_openIteratorSet.keySet().stream().filter(f -> f != null)
@@ -1727,9 +2007,7 @@ synchronized void clear() {
         if (m_fileStoreHandler instanceof NotInWorkflowWriteFileStoreHandler) {
             m_fileStoreHandler.clearAndDispose();
         }
-        if (m_blobLRUCache != null) {
-            m_blobLRUCache.clear();
-        }
+        m_blobCache.clear();
         m_binFile = null;
         m_blobDir = null;
     }
@@ -1787,36 +2065,6 @@ synchronized void flushBuffer() {
         }
     }
 
-    /** Last recently used cache for blobs. */
-    private static final class BlobLRUCache extends LinkedHashMap<BlobAddress, SoftReference<BlobDataCell>> {
-
-        /** Default constructor, instructs for access order. */
-        BlobLRUCache() {
-            super(16, 0.75f, true); // args copied from HashMap implementation
-        }
-
-        /** {@inheritDoc} */
-        @Override
-        protected synchronized boolean removeEldestEntry(final Entry<BlobAddress, SoftReference<BlobDataCell>> eldest) {
-            return size() >= 100;
-        }
-
-        /** {@inheritDoc} */
-        @Override
-        public synchronized SoftReference<BlobDataCell> get(final Object key) {
-            return super.get(key);
-        }
-
-        /** {@inheritDoc} */
-        @Override
-        public synchronized SoftReference<BlobDataCell> put(final BlobAddress key,
-                                                            final SoftReference<BlobDataCell> value) {
-            return super.put(key, value);
-        }
-
-    }
-
-
     /**
      * Iterator to be used when data is contained in m_list. It uses access by index rather than wrapping an
      * java.util.Iterator as the list may be simultaneously modified while reading (in case the content is fetched from
@@ -48,8 +48,6 @@
 package org.knime.core.data.container;
 
 import java.io.BufferedInputStream;
-import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Arrays;
@@ -62,6 +60,8 @@
 import org.knime.core.data.RowKey;
 import org.knime.core.data.container.BlobDataCell.BlobAddress;
 import org.knime.core.data.container.DefaultTableStoreReader.FromFileIterator;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.data.container.storage.BlockCompressedInputStream;
 import org.knime.core.data.filestore.FileStoreCell;
 import org.knime.core.data.filestore.FileStoreKey;
 import org.knime.core.data.filestore.FileStoreUtil;
@@ -99,22 +99,39 @@ final class BufferFromFileIteratorVersion20 extends FromFileIterator {
     /** Utility object with designated functionality to deserialize datacell. */
     private DataCellStreamReader m_dataCellStreamReader;
 
+    /** Columns to deserialize, null if all columns are read. Other cells are skipped and returned as missing. */
+    private final boolean[] m_materializeMask;
+
+    /** Index of the row after the last row to return (bound by the table size). */
+    private final long m_endIndex;
+
+    /** The filter if it has a row predicate, otherwise null. */
+    private final TableFilter m_predicateFilter;
+
+    /** The next row accepted by the row predicate (read ahead in {@link #hasNext()}). */
+    private BlobSupportDataRow m_nextFilteredRow;
+
     /** Inits iterator, opens input stream.
      * @param tableFormatReader The associated buffer.
      * @throws IOException If stream reading fails.
      */
     BufferFromFileIteratorVersion20(final DefaultTableStoreReader tableFormatReader) throws IOException {
+        this(tableFormatReader, TableFilter.NONE);
+    }
+
+    /** Inits iterator, opens input stream and skips all rows before the first row of the filter range.
+     * @param tableFormatReader The associated buffer.
+     * @param filter Defines the columns to materialize and the rows to return.
+     * @throws IOException If stream reading fails.
+     */
+    BufferFromFileIteratorVersion20(final DefaultTableStoreReader tableFormatReader, final TableFilter filter)
+        throws IOException {
         m_pointer = 0;
-        if (tableFormatReader.getBinFile() == null) {
-            throw new IOException("Unable to read table from file, "
-                    + "table has been cleared.");
-        }
         m_tableFormatReader = tableFormatReader;
         assert m_tableFormatReader.getReadVersion() >= 6 : "Iterator is not backward "
             + "compatible, use instead "
             + BufferFromFileIteratorVersion1x.class.getSimpleName();
-        BufferedInputStream bufferedStream =
-            new BufferedInputStream(new FileInputStream(tableFormatReader.getBinFile()));
+        BufferedInputStream bufferedStream = new BufferedInputStream(tableFormatReader.openBinInputStream());
         InputStream in;
         switch (tableFormatReader.getBinFileCompressionFormat()) {
             case Gzip:
@@ -125,17 +142,44 @@ final class BufferFromFileIteratorVersion20 extends FromFileIterator {
             case None:
                 in = bufferedStream;
                 break;
+            case Lz4:
+            case Snappy:
+                in = new BlockCompressedInputStream(bufferedStream,
+                    tableFormatReader.getBinFileCompressionFormat().getCodec());
+                break;
             default:
                 throw new IOException("Unsupported compression format: " + tableFormatReader.getBinFileCompressionFormat());
         }
         m_dataCellStreamReader = new DataCellStreamReader(tableFormatReader);
         m_inStream = new DCObjectInputVersion2(in, m_dataCellStreamReader);
+        m_materializeMask = filter.getMaterializeMask(tableFormatReader.getTableSpec().getNumColumns());
+        m_predicateFilter = filter.hasRowPredicate() ? filter : null;
+        long toIndex = filter.getToRowIndex();
+        m_endIndex = Math.min(tableFormatReader.size(), toIndex == Long.MAX_VALUE ? toIndex : toIndex + 1);
+        final long fromIndex = Math.min(filter.getFromRowIndex(), m_endIndex);
+        try {
+            while (m_pointer < fromIndex) {
+                skipRow();
+            }
+        } catch (IOException ioe) {
+            m_inStream.close();
+            throw ioe;
+        }
     }
 
     /** {@inheritDoc} */
     @Override
     public synchronized boolean hasNext() {
-        boolean hasNext = m_pointer < m_tableFormatReader.size();
+        if (m_nextFilteredRow != null) {
+            return true;
+        }
+        boolean hasNext = m_pointer < m_endIndex;
+        if (hasNext && m_predicateFilter != null) {
+            do {
+                m_nextFilteredRow = readNextRow();
+            } while (m_nextFilteredRow == null && m_pointer < m_endIndex);
+            hasNext = m_nextFilteredRow != null;
+        }
         if (!hasNext && (m_inStream != null)) {
             close();
         }
@@ -148,6 +192,17 @@ public synchronized BlobSupportDataRow next() {
         if (!hasNext()) {
             throw new NoSuchElementException("Iterator at end");
         }
+        if (m_nextFilteredRow != null) {
+            BlobSupportDataRow row = m_nextFilteredRow;
+            m_nextFilteredRow = null;
+            return row;
+        }
+        return readNextRow();
+    }
+
+    /** Reads the next row from the stream, skipping cells that are not materialized.
+     * @return That row or null if it's not accepted by the row predicate (the remainder of the row is skipped). */
+    private BlobSupportDataRow readNextRow() {
         final DCObjectInputVersion2 inStream = m_inStream;
         int colCount = m_tableFormatReader.getTableSpec().getNumColumns();
         if (inStream == null) { // iterator was closed
@@ -173,11 +228,16 @@ public synchronized BlobSupportDataRow next() {
             key = new RowKey(keyS);
         }
         DataCell[] cells = new DataCell[colCount];
+        boolean isAccepted = true;
         for (int i = 0; i < colCount; i++) {
             DataCell nextCell;
             try {
                 try {
-                    nextCell = m_dataCellStreamReader.readDataCell(m_inStream);
+                    if (isAccepted && (m_materializeMask == null || m_materializeMask[i])) {
+                        nextCell = m_dataCellStreamReader.readDataCell(m_inStream);
+                    } else {
+                        nextCell = DataType.getMissingCell();
+                    }
                 } finally {
                     m_inStream.endBlock();
                 }
@@ -186,6 +246,9 @@ public synchronized BlobSupportDataRow next() {
                 nextCell = DataType.getMissingCell();
             }
             cells[i] = nextCell;
+            if (m_predicateFilter != null && i == m_predicateFilter.getPredicateColumnIndex()) {
+                isAccepted = m_predicateFilter.acceptsCell(nextCell);
+            }
         }
         try {
             byte eoRow = inStream.readControlByte();
@@ -198,7 +261,24 @@ public synchronized BlobSupportDataRow next() {
         } finally {
             m_pointer++;
         }
-        return new BlobSupportDataRow(key, cells);
+        return isAccepted ? new BlobSupportDataRow(key, cells) : null;
+    }
+
+    /** Skips a row without deserializing any of its content.
+     * @throws IOException If the stream is corrupt. */
+    private void skipRow() throws IOException {
+        if (m_tableFormatReader.isReadRowKey()) {
+            m_inStream.endBlock();
+        }
+        int colCount = m_tableFormatReader.getTableSpec().getNumColumns();
+        for (int i = 0; i < colCount; i++) {
+            m_inStream.endBlock();
+        }
+        byte eoRow = m_inStream.readControlByte();
+        if (eoRow != BYTE_ROW_SEPARATOR) {
+            throw new IOException("Expected end of row byte, got '" + eoRow + "', (byte " + (int)eoRow + ")");
+        }
+        m_pointer++;
     }
 
     /** Reads a row key from the stream and ends the block. In case of buffers
@@ -281,8 +361,7 @@ static BlobDataCell readBlobDataCell(final BlobAddress blobAddress, final CellCl
         int column = blobAddress.getColumn();
         int indexInColumn = blobAddress.getIndexOfBlobInColumn();
         boolean isCompress = blobAddress.isUseCompression();
-        File inFile = buffer.getBlobFile(indexInColumn, column, false, isCompress);
-        InputStream in = new BufferedInputStream(new FileInputStream(inFile));
+        InputStream in = buffer.openBlobInputStream(indexInColumn, column, isCompress);
         if (isCompress) {
             in = new GZIPInputStream(in);
             // that buffering is important
@@ -0,0 +1,197 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.container.storage.AbstractTableStoreReader;
+import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+import org.knime.core.data.container.storage.TableStoreFormat;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+
+/**
+ * Column-oriented table format. Rows are collected into fixed-size chunks; each chunk is written column by column
+ * using primitive arrays (int, long, double, bit sets) and, for strings, a chunk-local dictionary. The reader reads
+ * one chunk at a time and only decodes the columns that are needed.
+ *
+ * <p>Only tables whose columns are all of type {@link IntCell}, {@link LongCell}, {@link DoubleCell},
+ * {@link BooleanCell} or {@link StringCell} are accepted, everything else is written using the
+ * {@link DefaultTableStoreFormat}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @noextend This class is not intended to be subclassed by clients.
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class ColumnarTableStoreFormat implements TableStoreFormat {
+
+    /** Config key for the file format version (int). */
+    static final String CFG_FORMAT_VERSION = "columnar.version";
+
+    /** Config key for the number of rows per chunk (int). */
+    static final String CFG_CHUNK_SIZE = "columnar.chunk.rows";
+
+    /** Current version of the file layout. */
+    static final int FORMAT_VERSION = 1;
+
+    /** Magic number at the start and end of each file ('KCOL'). */
+    static final int MAGIC = 0x4B434F4C;
+
+    /** Number of cells (rows x columns) that are kept in memory while writing a chunk. */
+    private static final int CELLS_PER_CHUNK = 1 << 20;
+
+    /** Upper bound for the number of rows in a chunk (narrow tables). */
+    private static final int MAX_ROWS_PER_CHUNK = 1 << 16;
+
+    /** Lower bound for the number of rows in a chunk (very wide tables). */
+    private static final int MIN_ROWS_PER_CHUNK = 1 << 10;
+
+    /** The primitive representation of a column. The ordinal is persisted, don't change the order. */
+    enum ColumnType {
+        /** {@link IntCell}. */
+        INT(IntCell.TYPE),
+        /** {@link LongCell}. */
+        LONG(LongCell.TYPE),
+        /** {@link DoubleCell}. */
+        DOUBLE(DoubleCell.TYPE),
+        /** {@link BooleanCell}. */
+        BOOLEAN(BooleanCell.TYPE),
+        /** {@link StringCell}, dictionary encoded. */
+        STRING(StringCell.TYPE);
+
+        private final DataType m_type;
+
+        ColumnType(final DataType type) {
+            m_type = type;
+        }
+
+        /** @return the cell class that is stored natively. */
+        Class<?> getCellClass() {
+            return m_type.getCellClass();
+        }
+
+        /**
+         * @param type a column type
+         * @return the corresponding column type or null if not supported
+         */
+        static ColumnType get(final DataType type) {
+            for (ColumnType t : values()) {
+                if (t.m_type.equals(type)) {
+                    return t;
+                }
+            }
+            return null;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "Columnar";
+    }
+
+    @Override
+    public String getFilenameSuffix() {
+        return ".bin.col";
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean accepts(final DataTableSpec spec) {
+        for (DataColumnSpec col : spec) {
+            if (ColumnType.get(col.getType()) == null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractTableStoreWriter createWriter(final File binFile, final DataTableSpec spec,
+        final boolean writeRowKey) throws IOException {
+        return createWriter(new FileOutputStream(binFile), spec, writeRowKey);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractTableStoreWriter createWriter(final OutputStream output, final DataTableSpec spec,
+        final boolean writeRowKey) throws IOException {
+        return new ColumnarTableStoreWriter(spec, output, writeRowKey, getRowsPerChunk(spec.getNumColumns()));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbstractTableStoreReader createReader(final File binFile, final DataTableSpec spec,
+        final NodeSettingsRO settings, final Map<Integer, ContainerTable> tblRep, final int version,
+        final boolean isReadRowKey) throws IOException, InvalidSettingsException {
+        return new ColumnarTableStoreReader(binFile, spec, settings, isReadRowKey);
+    }
+
+    /**
+     * Number of rows in a chunk so that a chunk holds roughly {@link #CELLS_PER_CHUNK} cells.
+     * @param nrColumns number of columns in the table
+     * @return rows per chunk, within [{@value #MIN_ROWS_PER_CHUNK}, {@value #MAX_ROWS_PER_CHUNK}]
+     */
+    static int getRowsPerChunk(final int nrColumns) {
+        int rows = CELLS_PER_CHUNK / Math.max(1, nrColumns);
+        return Math.max(MIN_ROWS_PER_CHUNK, Math.min(MAX_ROWS_PER_CHUNK, rows));
+    }
+
+}
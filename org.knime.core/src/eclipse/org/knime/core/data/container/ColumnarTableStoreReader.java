@@ -0,0 +1,553 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataCellSerializer;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.DataTypeRegistry;
+import org.knime.core.data.RowKey;
+import org.knime.core.data.container.ColumnarTableStoreFormat.ColumnType;
+import org.knime.core.data.container.filter.TableFilter;
+import org.knime.core.data.container.storage.AbstractTableStoreReader;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.NodeSettingsRO;
+
+/**
+ * Reader for files written by the {@link ColumnarTableStoreWriter}. Chunks are read one at a time; the
+ * columns of a chunk are decoded into primitive arrays and cells are only created when a row is returned.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ColumnarTableStoreReader extends AbstractTableStoreReader implements KNIMEStreamConstants {
+
+    private final File m_binFile;
+
+    private final ColumnType[] m_types;
+
+    private final boolean m_isReadRowKey;
+
+    /** Offset, length and row count of each chunk, read lazily from the file trailer. */
+    private long[][] m_chunkIndex;
+
+    /**
+     * @param binFile file to read from
+     * @param spec the table spec
+     * @param settings as written by {@link ColumnarTableStoreWriter#writeMetaInfoAfterWrite(
+     *            org.knime.core.node.NodeSettingsWO)}
+     * @param isReadRowKey whether row keys were written
+     * @throws InvalidSettingsException if the settings are invalid or the file has a newer version
+     */
+    ColumnarTableStoreReader(final File binFile, final DataTableSpec spec, final NodeSettingsRO settings,
+        final boolean isReadRowKey) throws InvalidSettingsException {
+        int version = settings.getInt(ColumnarTableStoreFormat.CFG_FORMAT_VERSION);
+        if (version > ColumnarTableStoreFormat.FORMAT_VERSION) {
+            throw new InvalidSettingsException("Unsupported columnar table version " + version
+                + " (expected at most " + ColumnarTableStoreFormat.FORMAT_VERSION + ")");
+        }
+        m_binFile = binFile;
+        m_isReadRowKey = isReadRowKey;
+        m_types = new ColumnType[spec.getNumColumns()];
+        for (int i = 0; i < m_types.length; i++) {
+            m_types[i] = ColumnType.get(spec.getColumnSpec(i).getType());
+            if (m_types[i] == null) {
+                throw new InvalidSettingsException("Column \"" + spec.getColumnSpec(i).getName()
+                    + "\" has unsupported type " + spec.getColumnSpec(i).getType());
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public TableStoreCloseableRowIterator iterator() throws IOException {
+        return new ColumnarFromFileIterator(this, TableFilter.NONE);
+    }
+
+    /**
+     * {@inheritDoc} Chunks outside the row range are not read and only the materialized columns are decoded.
+     */
+    @Override
+    public TableStoreCloseableRowIterator iteratorWithFilter(final TableFilter filter) throws IOException {
+        return new ColumnarFromFileIterator(this, filter);
+    }
+
+    /** @return the binary file */
+    File getBinFile() {
+        return m_binFile;
+    }
+
+    /** Reads (once) the chunk index from the end of the file. */
+    private synchronized long[][] getChunkIndex(final FileChannel channel) throws IOException {
+        if (m_chunkIndex == null) {
+            long fileLength = channel.size();
+            if (fileLength < 8 + ColumnarTableStoreWriter.TRAILER_LENGTH) {
+                throw new IOException("File \"" + m_binFile.getName() + "\" is too short (" + fileLength + " bytes)");
+            }
+            ByteBuffer trailer = ByteBuffer.allocate(ColumnarTableStoreWriter.TRAILER_LENGTH);
+            readFully(channel, trailer, fileLength - ColumnarTableStoreWriter.TRAILER_LENGTH);
+            int chunkCount = trailer.getInt();
+            trailer.getInt(); // rows per chunk, informative only
+            long indexOffset = trailer.getLong();
+            if (trailer.getInt() != ColumnarTableStoreFormat.MAGIC) {
+                throw new IOException("File \"" + m_binFile.getName() + "\" is not a columnar table file");
+            }
+            ByteBuffer index = ByteBuffer.allocate(chunkCount * 20);
+            readFully(channel, index, indexOffset);
+            long[][] chunkIndex = new long[chunkCount][];
+            for (int i = 0; i < chunkCount; i++) {
+                chunkIndex[i] = new long[]{index.getLong(), index.getLong(), index.getInt()};
+            }
+            m_chunkIndex = chunkIndex;
+        }
+        return m_chunkIndex;
+    }
+
+    private static void readFully(final FileChannel channel, final ByteBuffer buffer, final long position)
+        throws IOException {
+        long pos = position;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, pos);
+            if (read < 0) {
+                throw new IOException("Unexpected end of file");
+            }
+            pos += read;
+        }
+        buffer.flip();
+    }
+
+    /** The decoded content of one column in one chunk. Cells are created on access. */
+    static final class ColumnChunk {
+
+        private final ColumnType m_type;
+
+        private long[] m_missing;
+
+        private Map<Integer, DataCell> m_foreignCells;
+
+        private int[] m_ints;
+
+        private long[] m_longs;
+
+        private double[] m_doubles;
+
+        private StringCell[] m_dictionary;
+
+        private ColumnChunk(final ColumnType type) {
+            m_type = type;
+        }
+
+        /**
+         * @param row index of row within chunk
+         * @return the cell at that position, not null
+         */
+        DataCell getCell(final int row) {
+            if (m_missing != null && (m_missing[row >>> 6] & (1L << row)) != 0L) {
+                return DataType.getMissingCell();
+            }
+            if (m_foreignCells != null) {
+                DataCell foreign = m_foreignCells.get(row);
+                if (foreign != null) {
+                    return foreign;
+                }
+            }
+            switch (m_type) {
+                case INT:
+                    return new IntCell(m_ints[row]);
+                case LONG:
+                    return new LongCell(m_longs[row]);
+                case DOUBLE:
+                    return new DoubleCell(m_doubles[row]);
+                case BOOLEAN:
+                    return BooleanCell.get((m_longs[row >>> 6] & (1L << row)) != 0L);
+                case STRING:
+                    return m_dictionary[m_ints[row]];
+                default:
+                    throw new IllegalStateException("Unsupported type: " + m_type);
+            }
+        }
+
+        /**
+         * Decodes a column section.
+         * @param section the section, positioned at its start
+         * @param type the column type
+         * @param rowCount number of rows in the chunk
+         * @return the decoded column
+         * @throws IOException if the section is corrupt
+         */
+        static ColumnChunk decode(final ByteBuffer section, final ColumnType type, final int rowCount)
+            throws IOException {
+            ColumnChunk result = new ColumnChunk(type);
+            int bitSetLength = ColumnarTableStoreWriter.bitSetLength(rowCount);
+            byte flags = section.get();
+            if ((flags & ColumnarTableStoreWriter.FLAG_HAS_MISSING) != 0) {
+                result.m_missing = readLongs(section, bitSetLength);
+            }
+            if ((flags & ColumnarTableStoreWriter.FLAG_HAS_FOREIGN) != 0) {
+                int count = section.getInt();
+                result.m_foreignCells = new HashMap<>(2 * count);
+                for (int i = 0; i < count; i++) {
+                    int row = section.getInt();
+                    byte[] className = new byte[section.getInt()];
+                    section.get(className);
+                    byte[] bytes = new byte[section.getInt()];
+                    section.get(bytes);
+                    result.m_foreignCells.put(row, deserialize(new String(className, StandardCharsets.UTF_8), bytes));
+                }
+            }
+            switch (type) {
+                case INT:
+                    result.m_ints = new int[rowCount];
+                    section.asIntBuffer().get(result.m_ints);
+                    break;
+                case LONG:
+                    result.m_longs = readLongs(section, rowCount);
+                    break;
+                case DOUBLE:
+                    result.m_doubles = new double[rowCount];
+                    section.asDoubleBuffer().get(result.m_doubles);
+                    break;
+                case BOOLEAN:
+                    result.m_longs = readLongs(section, bitSetLength);
+                    break;
+                case STRING:
+                    decodeDictionary(section, rowCount, result);
+                    break;
+                default:
+                    throw new IOException("Unsupported type: " + type);
+            }
+            return result;
+        }
+
+        private static void decodeDictionary(final ByteBuffer section, final int rowCount, final ColumnChunk result)
+            throws IOException {
+            StringCell[] dictionary = new StringCell[section.getInt()];
+            for (int i = 0; i < dictionary.length; i++) {
+                byte[] bytes = new byte[section.getInt()];
+                section.get(bytes);
+                dictionary[i] = new StringCell(new String(bytes, StandardCharsets.UTF_8));
+            }
+            int[] codes = new int[rowCount];
+            byte width = section.get();
+            switch (width) {
+                case 1:
+                    for (int i = 0; i < rowCount; i++) {
+                        codes[i] = section.get() & 0xFF;
+                    }
+                    break;
+                case 2:
+                    for (int i = 0; i < rowCount; i++) {
+                        codes[i] = section.getShort() & 0xFFFF;
+                    }
+                    break;
+                case 4:
+                    section.asIntBuffer().get(codes);
+                    break;
+                default:
+                    throw new IOException("Invalid dictionary code width: " + width);
+            }
+            result.m_dictionary = dictionary;
+            result.m_ints = codes;
+        }
+
+        private static long[] readLongs(final ByteBuffer section, final int length) {
+            long[] result = new long[length];
+            section.asLongBuffer().get(result);
+            section.position(section.position() + 8 * length);
+            return result;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static DataCell deserialize(final String className, final byte[] bytes) throws IOException {
+            Class<? extends DataCell> cl = DataTypeRegistry.getInstance().getCellClass(className)
+                .orElseThrow(() -> new IOException("Can't load data cell class '" + className + "'"));
+            DataCellSerializer<? extends DataCell> ser = CellClassInfo.get(cl, null).getSerializer();
+            if (ser == null) {
+                throw new IOException("No serializer for data cell class '" + className + "'");
+            }
+            DCObjectInputVersion2 inStream = new DCObjectInputVersion2(new ByteArrayInputStream(bytes));
+            try {
+                return inStream.readDataCellPerKNIMESerializer(ser);
+            } finally {
+                inStream.close();
+            }
+        }
+    }
+
+    /** Iterator over all chunks, maps one chunk at a time. */
+    static final class ColumnarFromFileIterator extends TableStoreCloseableRowIterator {
+
+        private final ColumnarTableStoreReader m_reader;
+
+        private final long[][] m_chunkIndex;
+
+        /** Columns to decode, null if all columns are decoded. */
+        private final boolean[] m_materializeMask;
+
+        /** Index of the row after the last row to return. */
+        private final long m_endIndex;
+
+        /** The filter if it has a row predicate, otherwise null. */
+        private final TableFilter m_predicateFilter;
+
+        private RandomAccessFile m_file;
+
+        private FileChannel m_channel;
+
+        private int m_nextChunk;
+
+        /** Table row index of the first row in the current chunk. */
+        private long m_chunkStartIndex;
+
+        private int m_rowInChunk;
+
+        private int m_rowsInChunk;
+
+        private RowKey[] m_rowKeys;
+
+        /** The decoded columns of the current chunk, elements are null for columns that are not materialized. */
+        private ColumnChunk[] m_columns;
+
+        /** Holds the bytes of the current chunk, reused for the next chunk if large enough. */
+        private ByteBuffer m_chunkBuffer;
+
+        private BlobSupportDataRow m_nextFilteredRow;
+
+        ColumnarFromFileIterator(final ColumnarTableStoreReader reader, final TableFilter filter)
+            throws IOException {
+            if (reader.getBinFile() == null) {
+                throw new IOException("Unable to read table from file, table has been cleared.");
+            }
+            m_reader = reader;
+            m_materializeMask = filter.getMaterializeMask(reader.m_types.length);
+            m_predicateFilter = filter.hasRowPredicate() ? filter : null;
+            long toIndex = filter.getToRowIndex();
+            m_endIndex = toIndex == Long.MAX_VALUE ? toIndex : toIndex + 1;
+            m_file = new RandomAccessFile(reader.getBinFile(), "r");
+            m_channel = m_file.getChannel();
+            try {
+                m_chunkIndex = reader.getChunkIndex(m_channel);
+            } catch (IOException ioe) {
+                m_file.close();
+                throw ioe;
+            }
+            // skip chunks before the row range, they are never read
+            final long fromIndex = filter.getFromRowIndex();
+            while (m_nextChunk < m_chunkIndex.length && m_chunkStartIndex + m_chunkIndex[m_nextChunk][2] <= fromIndex) {
+                m_chunkStartIndex += m_chunkIndex[m_nextChunk][2];
+                m_nextChunk++;
+            }
+            m_rowInChunk = m_nextChunk < m_chunkIndex.length ? (int)(fromIndex - m_chunkStartIndex) : 0;
+            m_rowsInChunk = m_rowInChunk; // forces reading of the next chunk
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public synchronized boolean hasNext() {
+            if (m_nextFilteredRow != null) {
+                return true;
+            }
+            boolean hasNext = hasNextUnfiltered();
+            if (hasNext && m_predicateFilter != null) {
+                do {
+                    BlobSupportDataRow row = readNextRow();
+                    if (m_predicateFilter.acceptsRow(row)) {
+                        m_nextFilteredRow = row;
+                    }
+                } while (m_nextFilteredRow == null && hasNextUnfiltered());
+                hasNext = m_nextFilteredRow != null;
+            }
+            if (!hasNext && m_channel != null) {
+                close();
+            }
+            return hasNext;
+        }
+
+        private boolean hasNextUnfiltered() {
+            return m_channel != null && m_chunkStartIndex + m_rowInChunk < m_endIndex
+                && (m_rowInChunk < m_rowsInChunk || m_nextChunk < m_chunkIndex.length);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public synchronized BlobSupportDataRow next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("Iterator at end");
+            }
+            if (m_nextFilteredRow != null) {
+                BlobSupportDataRow row = m_nextFilteredRow;
+                m_nextFilteredRow = null;
+                return row;
+            }
+            return readNextRow();
+        }
+
+        private BlobSupportDataRow readNextRow() {
+            if (m_rowInChunk >= m_rowsInChunk) {
+                try {
+                    readNextChunk();
+                } catch (IOException ioe) {
+                    throw new RuntimeException("Unable to read chunk " + m_nextChunk + " from file \""
+                        + m_reader.getBinFile().getName() + "\": " + ioe.getMessage(), ioe);
+                }
+            }
+            final int row = m_rowInChunk++;
+            DataCell[] cells = new DataCell[m_columns.length];
+            for (int i = 0; i < cells.length; i++) {
+                cells[i] = m_columns[i] != null ? m_columns[i].getCell(row) : DataType.getMissingCell();
+            }
+            RowKey key = m_rowKeys != null ? m_rowKeys[row] : DUMMY_ROW_KEY;
+            return new BlobSupportDataRow(key, cells);
+        }
+
+        private void readNextChunk() throws IOException {
+            if (m_columns != null) { // not the first chunk
+                m_chunkStartIndex += m_rowsInChunk;
+                m_rowInChunk = 0;
+            }
+            long[] chunk = m_chunkIndex[m_nextChunk++];
+            if (chunk[1] > Integer.MAX_VALUE) {
+                throw new IOException("Invalid chunk length: " + chunk[1]);
+            }
+            // positional read into a heap buffer, a mapping of the file would only be released on garbage collection
+            final int length = (int)chunk[1];
+            if (m_chunkBuffer == null || m_chunkBuffer.capacity() < length) {
+                m_chunkBuffer = ByteBuffer.allocate(length);
+            }
+            final ByteBuffer chunkBytes = m_chunkBuffer;
+            chunkBytes.clear();
+            chunkBytes.limit(length);
+            readFully(m_channel, chunkBytes, chunk[0]);
+            int rowCount = chunkBytes.getInt();
+            int sectionCount = chunkBytes.getInt();
+            if (rowCount != (int)chunk[2] || sectionCount != m_reader.m_types.length + 1) {
+                throw new IOException("Inconsistent chunk header (rows: " + rowCount + ", sections: "
+                    + sectionCount + ")");
+            }
+            long[] sectionLengths = new long[sectionCount];
+            for (int i = 0; i < sectionCount; i++) {
+                sectionLengths[i] = chunkBytes.getLong();
+            }
+            int position = chunkBytes.position();
+            m_rowKeys = null;
+            if (m_reader.m_isReadRowKey) {
+                m_rowKeys = decodeRowKeys(slice(chunkBytes, position, sectionLengths[0]), rowCount);
+            }
+            position += (int)sectionLengths[0];
+            ColumnChunk[] columns = new ColumnChunk[m_reader.m_types.length];
+            for (int i = 0; i < columns.length; i++) {
+                if (m_materializeMask == null || m_materializeMask[i]) {
+                    columns[i] = ColumnChunk.decode(slice(chunkBytes, position, sectionLengths[i + 1]),
+                        m_reader.m_types[i], rowCount);
+                }
+                position += (int)sectionLengths[i + 1];
+            }
+            m_columns = columns;
+            m_rowsInChunk = rowCount;
+        }
+
+        private static ByteBuffer slice(final ByteBuffer buffer, final int position, final long length) {
+            ByteBuffer duplicate = buffer.duplicate();
+            duplicate.position(position);
+            duplicate.limit(position + (int)length);
+            return duplicate.slice();
+        }
+
+        private static RowKey[] decodeRowKeys(final ByteBuffer section, final int rowCount) {
+            int[] lengths = new int[rowCount];
+            section.asIntBuffer().get(lengths);
+            section.position(4 * rowCount);
+            RowKey[] keys = new RowKey[rowCount];
+            byte[] bytes = new byte[Arrays.stream(lengths).max().orElse(0)];
+            for (int i = 0; i < rowCount; i++) {
+                section.get(bytes, 0, lengths[i]);
+                keys[i] = new RowKey(new String(bytes, 0, lengths[i], StandardCharsets.UTF_8));
+            }
+            return keys;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public synchronized boolean performClose() throws IOException {
+            if (m_channel == null) {
+                return false;
+            }
+            m_channel = null;
+            m_columns = null;
+            m_rowKeys = null;
+            m_chunkBuffer = null;
+            m_file.close();
+            return true;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void finalize() throws Throwable {
+            super.finalize();
+            close();
+        }
+    }
+
+}
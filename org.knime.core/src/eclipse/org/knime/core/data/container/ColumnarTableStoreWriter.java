@@ -0,0 +1,500 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataCellSerializer;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataType;
+import org.knime.core.data.container.ColumnarTableStoreFormat.ColumnType;
+import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.DoubleCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.def.LongCell;
+import org.knime.core.data.def.StringCell;
+import org.knime.core.data.filestore.FileStoreCell;
+import org.knime.core.node.NodeSettingsWO;
+
+/**
+ * Writer for the {@link ColumnarTableStoreFormat}. Rows are collected in primitive per-column arrays until a chunk
+ * is full, the chunk is then written column by column. The file layout is
+ *
+ * <pre>
+ * file    := MAGIC VERSION chunk* index trailer
+ * chunk   := rowCount sectionCount sectionLength[sectionCount] rowKeySection columnSection*
+ * index   := (chunkOffset chunkLength chunkRowCount)*
+ * trailer := chunkCount rowsPerChunk indexOffset MAGIC
+ * </pre>
+ *
+ * Each column section starts with a flag byte, followed by an optional missing-value bit set, an optional list of
+ * cells that are not of the column's native cell class (serialized individually) and the primitive payload.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ColumnarTableStoreWriter extends AbstractTableStoreWriter {
+
+    /** Flag in column section: section contains bit set of missing cells. */
+    static final byte FLAG_HAS_MISSING = 1;
+
+    /** Flag in column section: section contains cells that are serialized individually. */
+    static final byte FLAG_HAS_FOREIGN = 2;
+
+    /** Size of the trailer at the end of the file in bytes. */
+    static final int TRAILER_LENGTH = 4 + 4 + 8 + 4;
+
+    private final DataOutputStream m_out;
+
+    private final int m_rowsPerChunk;
+
+    private final ColumnBuilder[] m_columns;
+
+    private final String[] m_rowKeys;
+
+    /** Offset, length and row count of each chunk written so far. */
+    private final List<long[]> m_chunkIndex = new ArrayList<>();
+
+    private int m_rowsInChunk;
+
+    private long m_position;
+
+    private boolean m_isClosed;
+
+    /**
+     * @param spec non-null spec, all types must be accepted by {@link ColumnarTableStoreFormat#accepts(DataTableSpec)}
+     * @param output to write to
+     * @param writeRowKey whether to persist row keys
+     * @param rowsPerChunk number of rows in a chunk
+     * @throws IOException if writing the header fails
+     */
+    ColumnarTableStoreWriter(final DataTableSpec spec, final OutputStream output, final boolean writeRowKey,
+        final int rowsPerChunk) throws IOException {
+        super(spec, writeRowKey);
+        m_rowsPerChunk = rowsPerChunk;
+        m_columns = new ColumnBuilder[spec.getNumColumns()];
+        for (int i = 0; i < m_columns.length; i++) {
+            ColumnType type = ColumnType.get(spec.getColumnSpec(i).getType());
+            if (type == null) {
+                throw new IOException("Column \"" + spec.getColumnSpec(i).getName()
+                    + "\" is not supported by the columnar table format");
+            }
+            m_columns[i] = new ColumnBuilder(type, rowsPerChunk);
+        }
+        m_rowKeys = writeRowKey ? new String[rowsPerChunk] : null;
+        m_out = new DataOutputStream(new BufferedOutputStream(output, 1 << 16));
+        m_out.writeInt(ColumnarTableStoreFormat.MAGIC);
+        m_out.writeInt(ColumnarTableStoreFormat.FORMAT_VERSION);
+        m_position = 8;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeRow(final DataRow row) throws IOException {
+        final int index = m_rowsInChunk;
+        if (m_rowKeys != null) {
+            m_rowKeys[index] = row.getKey().getString();
+        }
+        for (int i = 0; i < m_columns.length; i++) {
+            m_columns[i].set(index, row.getCell(i));
+        }
+        m_rowsInChunk += 1;
+        if (m_rowsInChunk == m_rowsPerChunk) {
+            writeChunk();
+        }
+    }
+
+    /** Writes the current chunk (if not empty) and resets the column builders. */
+    private void writeChunk() throws IOException {
+        final int rowCount = m_rowsInChunk;
+        if (rowCount == 0) {
+            return;
+        }
+        int sectionCount = m_columns.length + 1;
+        byte[][] sections = new byte[sectionCount][];
+        sections[0] = m_rowKeys != null ? encodeRowKeys(m_rowKeys, rowCount) : new byte[0];
+        for (int i = 0; i < m_columns.length; i++) {
+            sections[i + 1] = m_columns[i].encode(rowCount);
+        }
+        long chunkOffset = m_position;
+        m_out.writeInt(rowCount);
+        m_out.writeInt(sectionCount);
+        for (byte[] s : sections) {
+            m_out.writeLong(s.length);
+        }
+        long chunkLength = 8L + 8L * sectionCount;
+        for (byte[] s : sections) {
+            m_out.write(s);
+            chunkLength += s.length;
+        }
+        m_position += chunkLength;
+        m_chunkIndex.add(new long[]{chunkOffset, chunkLength, rowCount});
+        m_rowsInChunk = 0;
+        if (m_rowKeys != null) {
+            Arrays.fill(m_rowKeys, null);
+        }
+    }
+
+    private static byte[] encodeRowKeys(final String[] keys, final int rowCount) throws IOException {
+        byte[][] encoded = new byte[rowCount][];
+        int totalLength = 0;
+        for (int i = 0; i < rowCount; i++) {
+            encoded[i] = keys[i].getBytes(StandardCharsets.UTF_8);
+            totalLength += encoded[i].length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(4 * rowCount + totalLength);
+        for (int i = 0; i < rowCount; i++) {
+            buffer.putInt(encoded[i].length);
+        }
+        for (int i = 0; i < rowCount; i++) {
+            buffer.put(encoded[i]);
+        }
+        return buffer.array();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void writeMetaInfoAfterWrite(final NodeSettingsWO settings) {
+        settings.addInt(ColumnarTableStoreFormat.CFG_FORMAT_VERSION, ColumnarTableStoreFormat.FORMAT_VERSION);
+        settings.addInt(ColumnarTableStoreFormat.CFG_CHUNK_SIZE, m_rowsPerChunk);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+        if (m_isClosed) {
+            return;
+        }
+        m_isClosed = true;
+        writeChunk();
+        long indexOffset = m_position;
+        for (long[] chunk : m_chunkIndex) {
+            m_out.writeLong(chunk[0]);
+            m_out.writeLong(chunk[1]);
+            m_out.writeInt((int)chunk[2]);
+        }
+        m_out.writeInt(m_chunkIndex.size());
+        m_out.writeInt(m_rowsPerChunk);
+        m_out.writeLong(indexOffset);
+        m_out.writeInt(ColumnarTableStoreFormat.MAGIC);
+        m_out.close();
+    }
+
+    /** Collects the cells of one column in a chunk. */
+    private static final class ColumnBuilder {
+
+        private final ColumnType m_type;
+
+        private int[] m_ints;
+
+        private long[] m_longs;
+
+        private double[] m_doubles;
+
+        /** Dictionary for string columns, value to code. */
+        private Map<String, Integer> m_dictionary;
+
+        private List<String> m_dictionaryValues;
+
+        private final long[] m_missing;
+
+        private boolean m_hasMissing;
+
+        /** Row indices and cells that are not of the native cell class (e.g. missing cells with error cause). */
+        private final List<Object[]> m_foreignCells = new ArrayList<>();
+
+        ColumnBuilder(final ColumnType type, final int capacity) {
+            m_type = type;
+            m_missing = new long[bitSetLength(capacity)];
+            switch (type) {
+                case INT:
+                    m_ints = new int[capacity];
+                    break;
+                case LONG:
+                    m_longs = new long[capacity];
+                    break;
+                case DOUBLE:
+                    m_doubles = new double[capacity];
+                    break;
+                case BOOLEAN:
+                    m_longs = new long[bitSetLength(capacity)];
+                    break;
+                case STRING:
+                    m_ints = new int[capacity];
+                    m_dictionary = new HashMap<>();
+                    m_dictionaryValues = new ArrayList<>();
+                    break;
+                default:
+                    throw new IllegalStateException("Unsupported type: " + type);
+            }
+        }
+
+        void set(final int index, final DataCell cell) throws IOException {
+            if (cell == DataType.getMissingCell()) {
+                m_missing[index >>> 6] |= 1L << index;
+                m_hasMissing = true;
+                setDefault(index);
+            } else if (cell.getClass() != m_type.getCellClass()) {
+                checkForeignCell(cell);
+                m_foreignCells.add(new Object[]{index, cell});
+                setDefault(index);
+            } else {
+                switch (m_type) {
+                    case INT:
+                        m_ints[index] = ((IntCell)cell).getIntValue();
+                        break;
+                    case LONG:
+                        m_longs[index] = ((LongCell)cell).getLongValue();
+                        break;
+                    case DOUBLE:
+                        m_doubles[index] = ((DoubleCell)cell).getDoubleValue();
+                        break;
+                    case BOOLEAN:
+                        if (((BooleanCell)cell).getBooleanValue()) {
+                            m_longs[index >>> 6] |= 1L << index;
+                        } else {
+                            m_longs[index >>> 6] &= ~(1L << index);
+                        }
+                        break;
+                    case STRING:
+                        String value = ((StringCell)cell).getStringValue();
+                        Integer code = m_dictionary.get(value);
+                        if (code == null) {
+                            code = m_dictionaryValues.size();
+                            m_dictionary.put(value, code);
+                            m_dictionaryValues.add(value);
+                        }
+                        m_ints[index] = code;
+                        break;
+                    default:
+                        throw new IllegalStateException("Unsupported type: " + m_type);
+                }
+            }
+        }
+
+        private void setDefault(final int index) {
+            switch (m_type) {
+                case INT:
+                    m_ints[index] = 0;
+                    break;
+                case LONG:
+                    m_longs[index] = 0L;
+                    break;
+                case DOUBLE:
+                    m_doubles[index] = 0.0;
+                    break;
+                case BOOLEAN:
+                    m_longs[index >>> 6] &= ~(1L << index);
+                    break;
+                case STRING:
+                    m_ints[index] = -1;
+                    break;
+                default:
+                    throw new IllegalStateException("Unsupported type: " + m_type);
+            }
+        }
+
+        private static void checkForeignCell(final DataCell cell) throws IOException {
+            CellClassInfo info = CellClassInfo.get(cell);
+            if (info.getSerializer() == null || info.getCollectionElementType() != null
+                || cell instanceof BlobDataCell || cell instanceof BlobWrapperDataCell
+                || cell instanceof FileStoreCell) {
+                throw new IOException("Cell of class \"" + cell.getClass().getName()
+                    + "\" can't be written by the columnar table format");
+            }
+        }
+
+        /** Encodes the first rowCount elements and resets this builder. */
+        byte[] encode(final int rowCount) throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(estimateSize(rowCount));
+            DataOutputStream out = new DataOutputStream(bytes);
+            int bitSetLength = bitSetLength(rowCount);
+            byte flags = 0;
+            if (m_hasMissing) {
+                flags |= FLAG_HAS_MISSING;
+            }
+            if (!m_foreignCells.isEmpty()) {
+                flags |= FLAG_HAS_FOREIGN;
+            }
+            out.writeByte(flags);
+            if (m_hasMissing) {
+                writeLongs(out, m_missing, bitSetLength);
+            }
+            if (!m_foreignCells.isEmpty()) {
+                out.writeInt(m_foreignCells.size());
+                for (Object[] foreign : m_foreignCells) {
+                    DataCell cell = (DataCell)foreign[1];
+                    out.writeInt((Integer)foreign[0]);
+                    byte[] className = cell.getClass().getName().getBytes(StandardCharsets.UTF_8);
+                    out.writeInt(className.length);
+                    out.write(className);
+                    byte[] serialized = serialize(cell);
+                    out.writeInt(serialized.length);
+                    out.write(serialized);
+                }
+            }
+            switch (m_type) {
+                case INT:
+                    writeInts(out, m_ints, rowCount);
+                    break;
+                case LONG:
+                    writeLongs(out, m_longs, rowCount);
+                    break;
+                case DOUBLE:
+                    ByteBuffer doubleBuffer = ByteBuffer.allocate(8 * rowCount);
+                    doubleBuffer.asDoubleBuffer().put(m_doubles, 0, rowCount);
+                    out.write(doubleBuffer.array());
+                    break;
+                case BOOLEAN:
+                    writeLongs(out, m_longs, bitSetLength);
+                    break;
+                case STRING:
+                    writeDictionaryCodes(out, rowCount);
+                    break;
+                default:
+                    throw new IllegalStateException("Unsupported type: " + m_type);
+            }
+            out.close();
+            reset();
+            return bytes.toByteArray();
+        }
+
+        /** Dictionary followed by the codes, using 1, 2 or 4 bytes per code depending on the dictionary size. */
+        private void writeDictionaryCodes(final DataOutputStream out, final int rowCount) throws IOException {
+            out.writeInt(m_dictionaryValues.size());
+            for (String s : m_dictionaryValues) {
+                byte[] b = s.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(b.length);
+                out.write(b);
+            }
+            // code -1 (missing) is stored as max value of the respective width
+            int dictSize = m_dictionaryValues.size();
+            if (dictSize < 0xFF) {
+                out.writeByte(1);
+                byte[] codes = new byte[rowCount];
+                for (int i = 0; i < rowCount; i++) {
+                    codes[i] = (byte)m_ints[i];
+                }
+                out.write(codes);
+            } else if (dictSize < 0xFFFF) {
+                out.writeByte(2);
+                ByteBuffer buffer = ByteBuffer.allocate(2 * rowCount);
+                for (int i = 0; i < rowCount; i++) {
+                    buffer.putShort((short)m_ints[i]);
+                }
+                out.write(buffer.array());
+            } else {
+                out.writeByte(4);
+                writeInts(out, m_ints, rowCount);
+            }
+        }
+
+        private int estimateSize(final int rowCount) {
+            return 64 + (m_type == ColumnType.BOOLEAN ? 8 * bitSetLength(rowCount) : 8 * rowCount);
+        }
+
+        private void reset() {
+            if (m_hasMissing) {
+                Arrays.fill(m_missing, 0L);
+                m_hasMissing = false;
+            }
+            m_foreignCells.clear();
+            if (m_type == ColumnType.STRING) {
+                m_dictionary.clear();
+                m_dictionaryValues.clear();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static byte[] serialize(final DataCell cell) throws IOException {
+            DataCellSerializer<DataCell> ser = (DataCellSerializer<DataCell>)CellClassInfo.get(cell).getSerializer();
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DCObjectOutputVersion2 outStream = new DCObjectOutputVersion2(bytes)) {
+                outStream.writeDataCellPerKNIMESerializer(ser, cell);
+            }
+            return bytes.toByteArray();
+        }
+
+        private static void writeInts(final DataOutputStream out, final int[] values, final int length)
+            throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(4 * length);
+            buffer.asIntBuffer().put(values, 0, length);
+            out.write(buffer.array());
+        }
+
+        private static void writeLongs(final DataOutputStream out, final long[] values, final int length)
+            throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(8 * length);
+            buffer.asLongBuffer().put(values, 0, length);
+            out.write(buffer.array());
+        }
+
+    }
+
+    /**
+     * @param bits number of bits
+     * @return number of longs needed to store the bits
+     */
+    static int bitSetLength(final int bits) {
+        return (bits + 63) >>> 6;
+    }
+
+}
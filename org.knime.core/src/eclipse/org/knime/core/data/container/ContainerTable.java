@@ -49,17 +49,21 @@
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.util.HashMap;
 import java.util.zip.ZipOutputStream;
 
 import org.knime.core.data.DataTable;
 import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.filter.TableFilter;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.BufferedDataTable.KnowsRowCountTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.NodeSettingsWO;
+import org.knime.core.util.FileUtil;
 
 
 /**
@@ -84,6 +88,12 @@ public final class ContainerTable implements DataTable, KnowsRowCountTable {
     private CopyOnAccessTask m_readTask;
     private DataTableSpec m_spec;
 
+    /** The data file written by the last save and its length and modification time, used to detect that the file
+     * is unchanged when the table is saved again. Guarded by this. */
+    private File m_savedFile;
+    private long m_savedFileLength;
+    private long m_savedFileLastModified;
+
     /**
      * Create new Table based on a Buffer. This constructor is called from
      * <code>DataContainer.getTable()</code>.
@@ -126,6 +136,16 @@ public CloseableRowIterator iterator() {
         return m_buffer.iterator();
     }
 
+    /**
+     * {@inheritDoc}
+     * @since 3.6
+     */
+    @Override
+    public CloseableRowIterator iteratorWithFilter(final TableFilter filter) {
+        ensureBufferOpen();
+        return m_buffer.iteratorWithFilter(filter);
+    }
+
     /**
      * {@inheritDoc}
      * @deprecated use {@link #size()} instead which supports more than {@link Integer#MAX_VALUE} rows
@@ -184,14 +204,64 @@ protected void restoreIntoMemory() {
      * {@inheritDoc}
      */
     @Override
-    public void saveToFile(final File f, final NodeSettingsWO settings,
+    public synchronized void saveToFile(final File f, final NodeSettingsWO settings,
             final ExecutionMonitor exec) throws IOException,
             CanceledExecutionException {
+        // the content of the table doesn't change, so the file of the last save (or the file the table was
+        // read from) can be reused as long as it is not modified
+        if (isSavedFileUnchanged()) {
+            if (f.exists() && Files.isSameFile(m_savedFile.toPath(), f.toPath())) {
+                LOGGER.debugWithFormat("Table file \"%s\" unchanged since last save", f.getAbsolutePath());
+                return;
+            }
+            copySavedFile(m_savedFile, f);
+            setSavedFile(f);
+            return;
+        }
+        CopyOnAccessTask readTask = m_readTask;
+        if (readTask != null) {
+            synchronized (readTask) {
+                if (m_readTask != null && m_readTask.copyFileTo(f)) {
+                    setSavedFile(f);
+                    return;
+                }
+            }
+        }
         ensureBufferOpen();
+        // don't write through a link to a file of another save
+        Files.deleteIfExists(f.toPath());
         ZipOutputStream zipOut = new ZipOutputStream(
                 new BufferedOutputStream(new FileOutputStream(f)));
         m_buffer.addToZipFile(zipOut, exec);
         zipOut.close();
+        setSavedFile(f);
+    }
+
+    private boolean isSavedFileUnchanged() {
+        return m_savedFile != null && m_savedFile.isFile() && m_savedFile.length() == m_savedFileLength
+            && m_savedFile.lastModified() == m_savedFileLastModified;
+    }
+
+    private void setSavedFile(final File f) {
+        m_savedFile = f;
+        m_savedFileLength = f.length();
+        m_savedFileLastModified = f.lastModified();
+    }
+
+    /** Copies a saved table file to another location, or links it if enabled by
+     * {@link KNIMEConstants#PROPERTY_TABLE_SAVE_LINK}. An existing destination file is deleted first, so the old file
+     * (or another file linked to it) is never written.
+     * @param source The saved table file.
+     * @param dest The file to write.
+     * @throws IOException If that fails for any reason.
+     */
+    static void copySavedFile(final File source, final File dest) throws IOException {
+        if (Boolean.getBoolean(KNIMEConstants.PROPERTY_TABLE_SAVE_LINK)) {
+            FileUtil.linkOrCopy(source, dest);
+        } else {
+            Files.deleteIfExists(dest.toPath());
+            Files.copy(source.toPath(), dest.toPath());
+        }
     }
 
     /**
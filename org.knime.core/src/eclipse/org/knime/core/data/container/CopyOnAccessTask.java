@@ -264,6 +264,28 @@ Buffer createBuffer(final InputStream in) throws IOException {
         return buffer;
     }
 
+    /** Copies (or links) the file this table is read from to the argument file, used to save the table without
+     * extracting it first. Nothing is done if both files are the same.
+     * @param dest The file to write.
+     * @return true if the file was written, false if the source file doesn't exist (anymore).
+     * @throws IOException If that fails for any reason.
+     */
+    boolean copyFileTo(final File dest) throws IOException {
+        m_fileRef.lock();
+        try {
+            final File file = m_fileRef.getFile();
+            if (!file.isFile()) {
+                return false;
+            }
+            if (!(dest.exists() && Files.isSameFile(file.toPath(), dest.toPath()))) {
+                ContainerTable.copySavedFile(file, dest);
+            }
+            return true;
+        } finally {
+            m_fileRef.unlock();
+        }
+    }
+
     /** Get name of file to copy from. Used for better error messages.
      * @return source file
      */
@@ -95,8 +95,10 @@
 import org.knime.core.node.NodeSettings;
 import org.knime.core.node.NodeSettingsWO;
 import org.knime.core.node.workflow.NodeContext;
+import org.knime.core.util.ConcurrentDuplicateChecker;
 import org.knime.core.util.DuplicateChecker;
 import org.knime.core.util.DuplicateKeyException;
+import org.knime.core.util.FingerprintDuplicateChecker;
 import org.knime.core.util.FileUtil;
 
 /**
@@ -150,6 +152,13 @@ public class DataContainer implements RowAppender {
      */
     public static final int DEF_ASYNC_CACHE_SIZE = 10;
 
+    /**
+     * Number of rows in a batch read ahead by table iterators, see {@link KNIMEConstants#PROPERTY_ASYNC_READ_AHEAD}.
+     *
+     * @since 3.6
+     */
+    public static final int READ_AHEAD_BATCH_SIZE = 256;
+
     /**
      * The default number of possible values being kept at most. If the number of possible values in a column exceeds
      * this values, no values will be memorized. Can be changed via system property
@@ -234,6 +243,23 @@ public class DataContainer implements RowAppender {
             }
         }
         ASYNC_CACHE_SIZE = asyncCacheSize;
+
+        int readAheadBatchCount = 0;
+        String valReadAhead = System.getProperty(KNIMEConstants.PROPERTY_ASYNC_READ_AHEAD);
+        if (valReadAhead != null) {
+            try {
+                int newCount = Integer.parseInt(valReadAhead.trim());
+                if (newCount < 0) {
+                    throw new NumberFormatException("read ahead batch count < 0: " + newCount);
+                }
+                readAheadBatchCount = newCount;
+                LOGGER.debug("Setting asynchronous read ahead to " + readAheadBatchCount + " batch(es)");
+            } catch (NumberFormatException e) {
+                LOGGER.warn("Unable to parse property " + KNIMEConstants.PROPERTY_ASYNC_READ_AHEAD
+                    + ", read ahead is disabled", e);
+            }
+        }
+        READ_AHEAD_BATCH_COUNT = readAheadBatchCount;
         if (Boolean.getBoolean(KNIMEConstants.PROPERTY_SYNCHRONOUS_IO)) {
             LOGGER.debug("Using synchronous IO; " + KNIMEConstants.PROPERTY_SYNCHRONOUS_IO + " is set");
             SYNCHRONOUS_IO = true;
@@ -269,7 +295,10 @@ public class DataContainer implements RowAppender {
     /** Size of buffers. */
     static final int ASYNC_CACHE_SIZE;
 
-    /** The executor, which runs the IO tasks. Currently used only while writing rows. */
+    /** Number of row batches read ahead by file iterators, 0 if disabled. */
+    static final int READ_AHEAD_BATCH_COUNT;
+
+    /** The executor, which runs the IO tasks, i.e. writing rows and reading ahead rows. */
     static final ThreadPoolExecutor ASYNC_EXECUTORS =
     // see also Executors.newCachedThreadPool(ThreadFactory)
         new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60L, TimeUnit.SECONDS, new SynchronousQueue<Runnable>(),
@@ -294,6 +323,13 @@ public Thread newThread(final Runnable r) {
      */
     static final int MAX_ASYNC_WRITE_THREADS;
 
+    /**
+     * Whether row keys are checked for duplicates with the sorting {@link DuplicateChecker} instead of the
+     * {@link FingerprintDuplicateChecker}, see {@link KNIMEConstants#PROPERTY_SORTING_ROWID_DUPLICATE_CHECK}.
+     */
+    private static final boolean SORTING_DUPLICATE_CHECK =
+        Boolean.getBoolean(KNIMEConstants.PROPERTY_SORTING_ROWID_DUPLICATE_CHECK);
+
     /** Put into write queue to signal end of writing process. */
     private static final Object CONTAINER_CLOSE = new Object();
 
@@ -343,6 +379,9 @@ public Thread newThread(final Runnable r) {
     /** Holds the keys of the added rows to check for duplicates. */
     private DuplicateChecker m_duplicateChecker;
 
+    /** The writer used for concurrent adds, null unless {@link #createParallelWriter(boolean)} was called. */
+    private ParallelRowWriter m_parallelWriter;
+
     /** The tablespec of the return table. */
     private DataTableSpec m_spec;
 
@@ -427,7 +466,8 @@ protected DataContainer(final DataTableSpec spec, final boolean initDomain, fina
             throw new IllegalArgumentException("Spec must not be null!");
         }
         m_spec = spec;
-        m_duplicateChecker = new DuplicateChecker();
+        m_duplicateChecker = SORTING_DUPLICATE_CHECK ? new DuplicateChecker()
+            : new FingerprintDuplicateChecker(1, DuplicateChecker.MAX_CHUNK_SIZE);
         boolean isSynchronousWrite = forceSynchronousIO || SYNCHRONOUS_IO;
         if (!isSynchronousWrite && ASYNC_EXECUTORS.getActiveCount() > MAX_ASYNC_WRITE_THREADS) {
             LOGGER.debug("Number of Table IO write threads exceeds " + MAX_ASYNC_WRITE_THREADS
@@ -458,6 +498,14 @@ protected DataContainer(final DataTableSpec spec, final boolean initDomain, fina
     }
 
     private void addRowToTableWrite(final DataRow row) {
+        checkRow(row);
+        m_domainCreator.updateDomain(row);
+        addRowKeyForDuplicateCheck(row.getKey());
+        m_buffer.addRow(row, false, m_forceCopyOfBlobs);
+    }
+
+    /** Checks cell count and cell types of the argument row against the spec; called from any thread. */
+    private void checkRow(final DataRow row) {
         // let's do every possible sanity check
         int numCells = row.getNumCells();
         RowKey key = row.getKey();
@@ -494,9 +542,6 @@ private void addRowToTableWrite(final DataRow row) {
                     + "not comply with its supposed superclass " + columnClass.toString());
             }
         } // for all cells
-        m_domainCreator.updateDomain(row);
-        addRowKeyForDuplicateCheck(key);
-        m_buffer.addRow(row, false, m_forceCopyOfBlobs);
     }
 
     private void checkAsyncWriteThrowable() {
@@ -606,11 +651,10 @@ public void close() {
         if (isClosed()) {
             return;
         }
-        if (m_buffer == null) {
-            m_buffer =
-                m_bufferCreator.createBuffer(m_spec, m_maxRowsInMemory, createInternalBufferID(),
-                    getGlobalTableRepository(), getLocalTableRepository(), getFileStoreHandler());
+        if (m_parallelWriter != null && !m_parallelWriter.isClosed()) {
+            m_parallelWriter.close();
         }
+        ensureBufferCreated();
         if (!m_isSynchronousWrite) {
             try {
                 offerToAsynchronousQueue(CONTAINER_CLOSE);
@@ -640,6 +684,7 @@ public void close() {
         m_spec = null;
         m_duplicateChecker.clear();
         m_duplicateChecker = null;
+        m_parallelWriter = null;
         m_domainCreator = null;
         m_size = -1;
     }
@@ -760,17 +805,10 @@ public void addRowToTable(final DataRow row) {
         if (row == null) {
             throw new NullPointerException("Can't add null rows to container");
         }
-        if (m_buffer == null) {
-            int bufID = createInternalBufferID();
-            Map<Integer, ContainerTable> globalTableRep = getGlobalTableRepository();
-            Map<Integer, ContainerTable> localTableRep = getLocalTableRepository();
-            IWriteFileStoreHandler fileStoreHandler = getFileStoreHandler();
-            m_buffer =
-                m_bufferCreator.createBuffer(m_spec, m_maxRowsInMemory, bufID, globalTableRep, localTableRep, fileStoreHandler);
-            if (m_buffer == null) {
-                throw new NullPointerException("Implementation error, must not return a null buffer.");
-            }
+        if (m_parallelWriter != null) {
+            throw new IllegalStateException("Cannot add row: rows must be added through the parallel writer");
         }
+        ensureBufferCreated();
         if (m_isSynchronousWrite) {
             if (MemoryAlertSystem.getInstance().isMemoryLow()) {
                 m_buffer.flushBuffer();
@@ -786,6 +824,87 @@ public void addRowToTable(final DataRow row) {
         m_size += 1;
     } // addRowToTable(DataRow)
 
+    /** Creates the buffer using the buffer creator unless it's already created. */
+    private void ensureBufferCreated() {
+        if (m_buffer == null) {
+            int bufID = createInternalBufferID();
+            Map<Integer, ContainerTable> globalTableRep = getGlobalTableRepository();
+            Map<Integer, ContainerTable> localTableRep = getLocalTableRepository();
+            IWriteFileStoreHandler fileStoreHandler = getFileStoreHandler();
+            m_buffer =
+                m_bufferCreator.createBuffer(m_spec, m_maxRowsInMemory, bufID, globalTableRep, localTableRep, fileStoreHandler);
+            if (m_buffer == null) {
+                throw new NullPointerException("Implementation error, must not return a null buffer.");
+            }
+        }
+    }
+
+    /**
+     * Creates a writer that allows multiple threads to add rows to this container concurrently. Row checks and the
+     * duplicate row ID check are done in the calling threads, only the final write into the buffer is synchronized.
+     * Once the writer is created rows can no longer be added via {@link #addRowToTable(DataRow)}. The writer must be
+     * closed (or this container, which closes the writer) when all threads are done.
+     *
+     * @param isOrdered if true the rows are written in the order of the batch sequence numbers (see
+     *            {@link ParallelRowWriter#createBatch(long)}), otherwise in the order the batches are committed.
+     * @return a new writer
+     * @throws IllegalStateException if the container is not open, already contains rows or a parallel writer has
+     *             already been created.
+     * @since 3.6
+     */
+    public ParallelRowWriter createParallelWriter(final boolean isOrdered) {
+        if (!isOpen()) {
+            throw new IllegalStateException("Cannot create parallel writer: container is not open.");
+        }
+        if (m_parallelWriter != null) {
+            throw new IllegalStateException("Parallel writer has already been created.");
+        }
+        if (m_size > 0) {
+            throw new IllegalStateException("Cannot create parallel writer: container already has rows.");
+        }
+        // no keys added yet, the checker created with the container is replaced by a thread-safe one
+        m_duplicateChecker.clear();
+        m_duplicateChecker =
+            SORTING_DUPLICATE_CHECK ? new ConcurrentDuplicateChecker() : new FingerprintDuplicateChecker();
+        ensureBufferCreated();
+        m_parallelWriter = new ParallelRowWriter(this, isOrdered);
+        return m_parallelWriter;
+    }
+
+    /**
+     * Called from any thread adding rows through the {@link ParallelRowWriter}: checks the row against the spec and
+     * adds its key for the duplicate check.
+     *
+     * @param row the row to check, not null
+     */
+    void checkRowFromParallelWriter(final DataRow row) {
+        if (row == null) {
+            throw new NullPointerException("Can't add null rows to container");
+        }
+        checkRow(row);
+        addRowKeyForDuplicateCheck(row.getKey());
+    }
+
+    /**
+     * Called by the {@link ParallelRowWriter} (never concurrently) to add a batch of checked rows. The rows are
+     * written directly into the buffer, the asynchronous write thread (if any) stays idle.
+     *
+     * @param rows the rows, previously passed to {@link #checkRowFromParallelWriter(DataRow)}
+     */
+    void addRowsFromParallelWriter(final List<DataRow> rows) {
+        if (!isOpen()) {
+            throw new IllegalStateException("Cannot add rows: container has been closed.");
+        }
+        for (DataRow row : rows) {
+            if (MemoryAlertSystem.getInstance().isMemoryLow()) {
+                m_buffer.flushBuffer();
+            }
+            m_domainCreator.updateDomain(row);
+            m_buffer.addRow(row, false, m_forceCopyOfBlobs);
+            m_size += 1;
+        }
+    }
+
     /** @return size of buffer temp file in bytes, -1 if not set. Only for debugging/test purposes. */
     long getBufferFileSize() {
         Buffer b = m_table != null ? m_table.getBuffer() : m_buffer;
@@ -51,11 +51,15 @@
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.Arrays;
 import java.util.Map;
 
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.container.storage.AbstractTableStoreReader;
 import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+import org.knime.core.data.container.storage.BlockCompressionCodec;
+import org.knime.core.data.container.storage.LZ4BlockCodec;
+import org.knime.core.data.container.storage.SnappyBlockCodec;
 import org.knime.core.data.container.storage.TableStoreFormat;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.KNIMEConstants;
@@ -86,11 +90,56 @@ public final class DefaultTableStoreFormat implements TableStoreFormat {
     static final String CFG_CELL_SINGLE_ELEMENT_TYPE = "collection.element.type";
 
     /**
-     * Static field to enable/disable the usage of a GZipInput/OutpuStream when writing the binary data. This option
-     * defaults to {@value DataContainer#DEF_GZIP_COMPRESSION}. */
-    static final boolean IS_USE_GZIP;
+     * Static field defining the compression of the binary data. Determined by the property
+     * {@link KNIMEConstants#PROPERTY_TABLE_COMPRESSION_FORMAT} or, if not set, by
+     * {@link KNIMEConstants#PROPERTY_TABLE_GZIP_COMPRESSION} (which defaults to
+     * {@value DataContainer#DEF_GZIP_COMPRESSION}). */
+    static final CompressionFormat COMPRESSION_FORMAT;
+
+    /** Number of threads used to compress blocks of block compressed streams (LZ4, Snappy), see
+     * {@link KNIMEConstants#PROPERTY_TABLE_COMPRESSION_THREADS}. */
+    static final int COMPRESSION_THREADS;
 
     static {
+        String formatString = System.getProperty(KNIMEConstants.PROPERTY_TABLE_COMPRESSION_FORMAT);
+        CompressionFormat format = null;
+        if (formatString != null) {
+            for (CompressionFormat f : CompressionFormat.values()) {
+                if (f.name().equalsIgnoreCase(formatString.trim())) {
+                    format = f;
+                }
+            }
+            if (format == null) {
+                LOGGER.warn("Unable to read property " + KNIMEConstants.PROPERTY_TABLE_COMPRESSION_FORMAT + " (\""
+                    + formatString + "\"); valid values are " + Arrays.toString(CompressionFormat.values()));
+            } else {
+                LOGGER.debug("Setting table stream compression to " + format);
+            }
+        }
+        if (format == null) {
+            format = readGzipProperty() ? CompressionFormat.Gzip : CompressionFormat.None;
+        }
+        COMPRESSION_FORMAT = format;
+
+        int defThreads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+        int threads = defThreads;
+        String threadsString = System.getProperty(KNIMEConstants.PROPERTY_TABLE_COMPRESSION_THREADS);
+        if (threadsString != null) {
+            try {
+                threads = Integer.parseInt(threadsString.trim());
+                if (threads < 1) {
+                    throw new NumberFormatException("Not a positive number");
+                }
+            } catch (NumberFormatException nfe) {
+                LOGGER.warn("Unable to read property " + KNIMEConstants.PROPERTY_TABLE_COMPRESSION_THREADS + " (\""
+                    + threadsString + "\"); defaulting to " + defThreads);
+                threads = defThreads;
+            }
+        }
+        COMPRESSION_THREADS = threads;
+    }
+
+    private static boolean readGzipProperty() {
         // prefer this block over Boolean.getBoolean(...) to cover typos
         // on command line (warn on console)
         String isUseGzipString = System.getProperty(KNIMEConstants.PROPERTY_TABLE_GZIP_COMPRESSION);
@@ -99,25 +148,43 @@ public final class DefaultTableStoreFormat implements TableStoreFormat {
             isUseGzipString = Boolean.toString(DataContainer.DEF_GZIP_COMPRESSION);
             debugLog = false;
         }
+        boolean isUseGzip;
         if ("true".equals(isUseGzipString)) {
-            IS_USE_GZIP = true;
+            isUseGzip = true;
         } else if ("false".equals(isUseGzipString)) {
-            IS_USE_GZIP = false;
+            isUseGzip = false;
         } else {
             debugLog = false;
             LOGGER.warn("Unable to read property " + KNIMEConstants.PROPERTY_TABLE_GZIP_COMPRESSION + " (\""
                     + isUseGzipString + "\"); defaulting to " + DataContainer.DEF_GZIP_COMPRESSION);
-            IS_USE_GZIP = DataContainer.DEF_GZIP_COMPRESSION;
+            isUseGzip = DataContainer.DEF_GZIP_COMPRESSION;
         }
         if (debugLog) {
-            LOGGER.debug("Setting table stream compression to " + IS_USE_GZIP);
+            LOGGER.debug("Setting table stream compression to " + isUseGzip);
         }
+        return isUseGzip;
     }
 
-    /** Compression on the binary (main) file. */
+    /** Compression on the binary (main) file. The name is persisted in the table's meta data. */
     enum CompressionFormat {
         Gzip,
-        None;
+        None,
+        /** Block compressed, see {@link LZ4BlockCodec}. */
+        Lz4,
+        /** Block compressed, see {@link SnappyBlockCodec}. */
+        Snappy;
+
+        /** @return the codec for block compressed formats or null (Gzip, None). */
+        BlockCompressionCodec getCodec() {
+            switch (this) {
+                case Lz4:
+                    return new LZ4BlockCodec();
+                case Snappy:
+                    return new SnappyBlockCodec();
+                default:
+                    return null;
+            }
+        }
     }
 
     @Override
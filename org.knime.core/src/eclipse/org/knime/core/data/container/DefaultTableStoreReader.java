@@ -48,7 +48,9 @@
 package org.knime.core.data.container;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Map;
 import java.util.Set;
 
@@ -56,7 +58,8 @@
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
 import org.knime.core.data.DataTypeRegistry;
-import org.knime.core.data.container.Buffer.CompressionFormat;
+import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
+import org.knime.core.data.container.filter.TableFilter;
 import org.knime.core.data.container.storage.AbstractTableStoreReader;
 import org.knime.core.node.InvalidSettingsException;
 import org.knime.core.node.NodeLogger;
@@ -75,6 +78,8 @@ final class DefaultTableStoreReader extends AbstractTableStoreReader implements
     private int m_version;
     private final boolean m_isReadRowKey;
     private Buffer m_buffer;
+    /** Non-null while the table content is held in the off-heap cache (instead of the bin file). */
+    private volatile OffHeapTableStore m_offHeapStore;
 
     /**
      * @param binFile
@@ -106,11 +111,49 @@ public TableStoreCloseableRowIterator iterator() throws IOException {
         }
     }
 
+    /**
+     * {@inheritDoc} Cells in columns that are not materialized and rows outside the row range are skipped without
+     * being deserialized (only for tables written with KNIME 2.0 or later).
+     */
+    @Override
+    public TableStoreCloseableRowIterator iteratorWithFilter(final TableFilter filter) throws IOException {
+        if (m_version <= 5) {
+            return super.iteratorWithFilter(filter);
+        } else {
+            return new BufferFromFileIteratorVersion20(this, filter);
+        }
+    }
+
     /** @return Whether stream is zipped. */
     CompressionFormat getBinFileCompressionFormat() {
         return m_compressionFormat;
     }
 
+    /**
+     * @param offHeapStore the store holding the data while the table is kept off-heap; null once the data has been
+     *            written to the bin file
+     */
+    void setOffHeapStore(final OffHeapTableStore offHeapStore) {
+        m_offHeapStore = offHeapStore;
+    }
+
+    /**
+     * Opens a new (unbuffered) stream on the raw data, either in the off-heap cache or in the bin file.
+     *
+     * @return a new stream
+     * @throws IOException if the file can't be opened or the table has been cleared
+     */
+    InputStream openBinInputStream() throws IOException {
+        OffHeapTableStore offHeapStore = m_offHeapStore;
+        if (offHeapStore != null) {
+            return offHeapStore.newInputStream();
+        }
+        if (m_binFile == null) {
+            throw new IOException("Unable to read table from file, table has been cleared.");
+        }
+        return new FileInputStream(m_binFile);
+    }
+
     /** @return Underlying binary file. */
     final File getBinFile() {
         return m_binFile;
@@ -63,6 +63,7 @@
 import org.knime.core.data.RowKey;
 import org.knime.core.data.container.DefaultTableStoreFormat.CompressionFormat;
 import org.knime.core.data.container.storage.AbstractTableStoreWriter;
+import org.knime.core.data.container.storage.BlockCompressedOutputStream;
 import org.knime.core.data.filestore.FileStoreKey;
 import org.knime.core.node.NodeSettingsWO;
 
@@ -95,8 +96,22 @@ final class DefaultTableStoreWriter extends AbstractTableStoreWriter implements
      */
     public DefaultTableStoreWriter(final DataTableSpec spec, final OutputStream outputStream,
         final boolean writeRowKey) throws IOException {
+        this(spec, outputStream, writeRowKey, DefaultTableStoreFormat.COMPRESSION_FORMAT);
+    }
+
+    /**
+     * Writer using a specific compression format (independent of the global setting).
+     *
+     * @param spec the spec of the table
+     * @param outputStream to write to
+     * @param writeRowKey whether to write the row keys
+     * @param compressionFormat the compression format, not null
+     * @throws IOException if the stream can't be initialized
+     */
+    DefaultTableStoreWriter(final DataTableSpec spec, final OutputStream outputStream, final boolean writeRowKey,
+        final CompressionFormat compressionFormat) throws IOException {
         super(spec, writeRowKey);
-        m_compressionFormat = DefaultTableStoreFormat.IS_USE_GZIP ? CompressionFormat.Gzip : CompressionFormat.None;
+        m_compressionFormat = compressionFormat;
         m_outStream = initOutFile(new BufferedOutputStream(outputStream));
     }
 
@@ -189,6 +204,11 @@ private DCObjectOutputVersion2 initOutFile(final OutputStream outStream) throws
             case None:
                 wrap = outStream;
                 break;
+            case Lz4:
+            case Snappy:
+                wrap = new BlockCompressedOutputStream(outStream, m_compressionFormat.getCodec(),
+                    BlockCompressedOutputStream.DEFAULT_BLOCK_SIZE, DefaultTableStoreFormat.COMPRESSION_THREADS);
+                break;
             default:
                 throw new IOException("Unsupported compression format: " + m_compressionFormat);
         }
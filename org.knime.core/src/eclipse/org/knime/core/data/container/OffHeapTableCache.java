@@ -0,0 +1,260 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Global, memory-budgeted cache of tables whose (serialized) content is held in direct memory rather than as java
+ * objects on the heap, see {@link KNIMEConstants#PROPERTY_TABLE_OFFHEAP_CACHE_SIZE}. If the budget is exhausted the
+ * least recently used tables are spilled to their temp file (see {@link Buffer#spillOffHeapTable()}).
+ *
+ * <p>
+ * The budget is independent of the java heap size. Memory is allocated in chunks of {@value #CHUNK_SIZE} bytes; it
+ * is given back to the operating system when the chunks are garbage collected (i.e. when no iterator is reading a
+ * spilled or cleared table any more).
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.6
+ */
+final class OffHeapTableCache {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(OffHeapTableCache.class);
+
+    /** Size of a memory chunk. */
+    static final int CHUNK_SIZE = 1 << 20;
+
+    private static final OffHeapTableCache INSTANCE = new OffHeapTableCache(readBudgetProperty());
+
+    /** The tables in access order (least recently used first); the buffer reference may be cleared. */
+    private final LinkedHashMap<OffHeapTableStore, WeakReference<Buffer>> m_tables =
+        new LinkedHashMap<>(16, 0.75f, true);
+
+    private long m_budget;
+
+    private long m_usedBytes;
+
+    /**
+     * @param budget the budget in bytes, 0 to disable the cache
+     */
+    OffHeapTableCache(final long budget) {
+        m_budget = budget;
+    }
+
+    /** @return the singleton instance configured by the system property. */
+    static OffHeapTableCache getInstance() {
+        return INSTANCE;
+    }
+
+    private static long readBudgetProperty() {
+        String sizeString = System.getProperty(KNIMEConstants.PROPERTY_TABLE_OFFHEAP_CACHE_SIZE);
+        if (sizeString == null) {
+            return 0L;
+        }
+        try {
+            long sizeInMB = Long.parseLong(sizeString.trim());
+            if (sizeInMB < 0) {
+                throw new NumberFormatException("Negative size");
+            }
+            LOGGER.debug("Off-heap table cache size is " + sizeInMB + "MB");
+            return sizeInMB << 20;
+        } catch (NumberFormatException nfe) {
+            LOGGER.warn("Unable to read property " + KNIMEConstants.PROPERTY_TABLE_OFFHEAP_CACHE_SIZE + " (\""
+                + sizeString + "\"); off-heap table cache is disabled");
+            return 0L;
+        }
+    }
+
+    /** @return whether tables should be moved into this cache, i.e. the budget is positive. */
+    synchronized boolean isEnabled() {
+        return m_budget > 0;
+    }
+
+    /** @return the budget in bytes. */
+    synchronized long getBudget() {
+        return m_budget;
+    }
+
+    /**
+     * Changes the budget; if the cache holds more than the new budget tables are spilled.
+     *
+     * @param budget the new budget in bytes, 0 to disable the cache
+     */
+    void setBudget(final long budget) {
+        if (budget < 0) {
+            throw new IllegalArgumentException("Budget must not be negative: " + budget);
+        }
+        synchronized (this) {
+            m_budget = budget;
+        }
+        reserve(null, 0L);
+    }
+
+    /** @return number of bytes currently reserved by tables in the cache (or being written to it). */
+    synchronized long getUsedBytes() {
+        return m_usedBytes;
+    }
+
+    /** @return number of tables in the cache. */
+    synchronized int getTableCount() {
+        return m_tables.size();
+    }
+
+    /** @return a new, empty store, whose memory is accounted by this cache. */
+    OffHeapTableStore createStore() {
+        return new OffHeapTableStore(this);
+    }
+
+    /**
+     * Adds a completely written store, the store is spilled via the argument buffer if it needs to be evicted.
+     *
+     * @param buffer the buffer owning the store
+     * @param store the store
+     */
+    synchronized void register(final Buffer buffer, final OffHeapTableStore store) {
+        m_tables.put(store, new WeakReference<>(buffer));
+    }
+
+    /**
+     * Marks the store as recently used.
+     *
+     * @param store the store
+     */
+    synchronized void touch(final OffHeapTableStore store) {
+        m_tables.get(store);
+    }
+
+    /**
+     * Removes the store from the cache and gives back the memory to the budget. Called when the table is spilled or
+     * cleared or if writing the store failed.
+     *
+     * @param store the store
+     */
+    synchronized void release(final OffHeapTableStore store) {
+        m_tables.remove(store);
+        m_usedBytes -= store.getReservedBytes();
+        store.setReservedBytes(0L);
+    }
+
+    /**
+     * Gives back part of the memory reserved by the store.
+     *
+     * @param store the store
+     * @param bytes number of bytes
+     */
+    synchronized void releaseBytes(final OffHeapTableStore store, final long bytes) {
+        long released = Math.min(bytes, store.getReservedBytes());
+        m_usedBytes -= released;
+        store.setReservedBytes(store.getReservedBytes() - released);
+    }
+
+    /**
+     * Allocates a new chunk for the store, spilling other tables if needed.
+     *
+     * @param store the store being written
+     * @return a new chunk
+     * @throws IOException if the chunk does not fit into the budget (even after spilling all other tables) or the
+     *             direct memory of the JVM is exhausted
+     */
+    ByteBuffer allocateChunk(final OffHeapTableStore store) throws IOException {
+        if (!reserve(store, CHUNK_SIZE)) {
+            throw new IOException("Table exceeds the off-heap table cache size of " + (getBudget() >> 20) + "MB");
+        }
+        try {
+            return ByteBuffer.allocateDirect(CHUNK_SIZE);
+        } catch (OutOfMemoryError oome) {
+            releaseBytes(store, CHUNK_SIZE);
+            throw new IOException("Unable to allocate direct memory for off-heap table (consider increasing "
+                + "-XX:MaxDirectMemorySize): " + oome.getMessage(), oome);
+        }
+    }
+
+    /**
+     * Reserves the bytes for the store (which may be null if nothing is to be reserved), spilling least recently
+     * used tables until the bytes fit into the budget. Spilling is done outside the lock on this cache.
+     */
+    private boolean reserve(final OffHeapTableStore store, final long bytes) {
+        while (true) {
+            OffHeapTableStore victim;
+            WeakReference<Buffer> victimBuffer;
+            synchronized (this) {
+                if (m_usedBytes + bytes <= m_budget) {
+                    m_usedBytes += bytes;
+                    if (store != null) {
+                        store.setReservedBytes(store.getReservedBytes() + bytes);
+                    }
+                    return true;
+                }
+                Iterator<Map.Entry<OffHeapTableStore, WeakReference<Buffer>>> it = m_tables.entrySet().iterator();
+                if (!it.hasNext()) {
+                    return false;
+                }
+                Map.Entry<OffHeapTableStore, WeakReference<Buffer>> eldest = it.next();
+                it.remove();
+                victim = eldest.getKey();
+                victimBuffer = eldest.getValue();
+            }
+            Buffer buffer = victimBuffer.get();
+            if (buffer == null) {
+                // buffer was garbage collected without being cleared
+                release(victim);
+            } else {
+                buffer.spillOffHeapTable();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,280 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The serialized content of a table held in direct (off-heap) memory. The data is written once using the stream
+ * returned by {@link #getOutputStream()} and can then be read by any number of (concurrent) input streams. Memory is
+ * allocated in chunks from the {@link OffHeapTableCache}, which accounts for it in its budget.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.6
+ */
+final class OffHeapTableStore {
+
+    private final OffHeapTableCache m_cache;
+
+    private final List<ByteBuffer> m_chunks = new ArrayList<>();
+
+    /** The chunks, flipped for reading; null until the output stream is closed. */
+    private ByteBuffer[] m_readChunks;
+
+    private long m_size;
+
+    /** Number of bytes reserved in the cache, guarded by the cache. */
+    private long m_reservedBytes;
+
+    private OutputStream m_outputStream;
+
+    /**
+     * @param cache the cache allocating the memory
+     */
+    OffHeapTableStore(final OffHeapTableCache cache) {
+        m_cache = cache;
+    }
+
+    /**
+     * @return the stream to write the data to; closing it completes the store
+     */
+    synchronized OutputStream getOutputStream() {
+        if (m_outputStream == null) {
+            m_outputStream = new ChunkOutputStream();
+        }
+        return m_outputStream;
+    }
+
+    /** @return number of bytes written. */
+    long size() {
+        return m_size;
+    }
+
+    /** @return bytes reserved in the cache (access guarded by the cache). */
+    long getReservedBytes() {
+        return m_reservedBytes;
+    }
+
+    /** @param reservedBytes bytes reserved in the cache (access guarded by the cache). */
+    void setReservedBytes(final long reservedBytes) {
+        m_reservedBytes = reservedBytes;
+    }
+
+    /**
+     * @return a new stream reading the data from the start
+     * @throws IllegalStateException if the data has not been written completely
+     */
+    InputStream newInputStream() {
+        return new ChunkInputStream(getReadChunks());
+    }
+
+    /**
+     * Copies the data to the argument stream (which is not closed).
+     *
+     * @param out to write to
+     * @throws IOException if writing fails
+     */
+    void writeTo(final OutputStream out) throws IOException {
+        byte[] buffer = new byte[1 << 16];
+        for (ByteBuffer chunk : getReadChunks()) {
+            ByteBuffer c = chunk.duplicate();
+            while (c.hasRemaining()) {
+                int count = Math.min(buffer.length, c.remaining());
+                c.get(buffer, 0, count);
+                out.write(buffer, 0, count);
+            }
+        }
+    }
+
+    private synchronized ByteBuffer[] getReadChunks() {
+        if (m_readChunks == null) {
+            throw new IllegalStateException("Off-heap table has not been written completely");
+        }
+        return m_readChunks;
+    }
+
+    /** Writes into chunks allocated from the cache. */
+    private final class ChunkOutputStream extends OutputStream {
+
+        private ByteBuffer m_current;
+
+        private boolean m_isClosed;
+
+        /** {@inheritDoc} */
+        @Override
+        public void write(final int b) throws IOException {
+            ensureCapacity().put((byte)b);
+            m_size += 1;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            int offset = off;
+            int remaining = len;
+            while (remaining > 0) {
+                ByteBuffer chunk = ensureCapacity();
+                int count = Math.min(remaining, chunk.remaining());
+                chunk.put(b, offset, count);
+                offset += count;
+                remaining -= count;
+                m_size += count;
+            }
+        }
+
+        private ByteBuffer ensureCapacity() throws IOException {
+            if (m_isClosed) {
+                throw new IOException("Stream closed");
+            }
+            if (m_current == null || !m_current.hasRemaining()) {
+                m_current = m_cache.allocateChunk(OffHeapTableStore.this);
+                m_chunks.add(m_current);
+            }
+            return m_current;
+        }
+
+        /** Completes the store; a mostly empty last chunk is replaced by one of the exact size. */
+        @Override
+        public void close() throws IOException {
+            if (m_isClosed) {
+                return;
+            }
+            m_isClosed = true;
+            if (m_current != null && m_current.position() < m_current.capacity() / 2) {
+                ByteBuffer trimmed = ByteBuffer.allocateDirect(m_current.position());
+                m_current.flip();
+                trimmed.put(m_current);
+                m_chunks.set(m_chunks.size() - 1, trimmed);
+                m_cache.releaseBytes(OffHeapTableStore.this, m_current.capacity() - trimmed.capacity());
+            }
+            m_current = null;
+            ByteBuffer[] readChunks = new ByteBuffer[m_chunks.size()];
+            for (int i = 0; i < readChunks.length; i++) {
+                ByteBuffer c = m_chunks.get(i);
+                c.flip();
+                readChunks[i] = c.asReadOnlyBuffer();
+            }
+            synchronized (OffHeapTableStore.this) {
+                m_readChunks = readChunks;
+            }
+        }
+    }
+
+    /** Reads from (duplicates of) the chunks. */
+    private static final class ChunkInputStream extends InputStream {
+
+        private final ByteBuffer[] m_chunks;
+
+        private int m_chunkIndex = -1;
+
+        private ByteBuffer m_current;
+
+        ChunkInputStream(final ByteBuffer[] chunks) {
+            m_chunks = chunks;
+        }
+
+        /** Returns the current chunk if it has remaining bytes, otherwise advances; null at the end. */
+        private ByteBuffer current() {
+            while (m_current == null || !m_current.hasRemaining()) {
+                if (m_chunkIndex + 1 >= m_chunks.length) {
+                    return null;
+                }
+                m_current = m_chunks[++m_chunkIndex].duplicate();
+            }
+            return m_current;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int read() {
+            ByteBuffer c = current();
+            return c == null ? -1 : c.get() & 0xFF;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (len == 0) {
+                return 0;
+            }
+            ByteBuffer c = current();
+            if (c == null) {
+                return -1;
+            }
+            int count = Math.min(len, c.remaining());
+            c.get(b, off, count);
+            return count;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public long skip(final long n) {
+            long skipped = 0;
+            ByteBuffer c;
+            while (skipped < n && (c = current()) != null) {
+                int count = (int)Math.min(n - skipped, c.remaining());
+                c.position(c.position() + count);
+                skipped += count;
+            }
+            return skipped;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int available() {
+            ByteBuffer c = current();
+            return c == null ? 0 : c.remaining();
+        }
+    }
+
+}
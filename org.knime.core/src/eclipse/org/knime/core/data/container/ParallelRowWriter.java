@@ -0,0 +1,306 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+import org.knime.core.data.DataRow;
+
+/**
+ * Allows multiple threads to add rows to one {@link DataContainer} concurrently. Instances are created using
+ * {@link DataContainer#createParallelWriter(boolean)}.
+ *
+ * <p>
+ * Rows are collected in batches that are filled by the producing threads without any synchronization. The sanity
+ * checks on each row (cell count and types) and the row ID duplicate check (on a
+ * {@link org.knime.core.util.ConcurrentDuplicateChecker}) are also done in the producing thread. Only the merge of a
+ * full batch into the container's buffer is synchronized. Batches are merged
+ * <ul>
+ * <li><b>unordered</b>: in the order they are committed, or</li>
+ * <li><b>ordered</b>: in the order of their sequence number, as passed to {@link #createBatch(long)}. The sequence
+ * numbers must be 0, 1, 2, ... without gaps; batches committed early are kept until all their predecessors have been
+ * merged.</li>
+ * </ul>
+ *
+ * <p>
+ * Typical usage (ordered, one batch per chunk of input rows):
+ *
+ * <pre>
+ * ParallelRowWriter writer = container.createParallelWriter(true);
+ * // in worker thread processing chunk i
+ * try (ParallelRowWriter.RowBatch batch = writer.createBatch(i)) {
+ *     batch.addRowToTable(row);
+ *     ...
+ * }
+ * // when all workers are done
+ * writer.close();
+ * container.close();
+ * </pre>
+ *
+ * In unordered mode rows can also be added directly using {@link #addRowToTable(DataRow)}, which uses a batch per
+ * calling thread.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.6
+ */
+public final class ParallelRowWriter implements RowAppender, AutoCloseable {
+
+    /** Number of rows in the per-thread batches used by {@link #addRowToTable(DataRow)}. */
+    static final int THREAD_BATCH_SIZE = 500;
+
+    private final DataContainer m_container;
+
+    private final boolean m_isOrdered;
+
+    /** Per-thread batches used by {@link #addRowToTable(DataRow)}, only in unordered mode. */
+    private final ThreadLocal<RowBatch> m_threadBatch;
+
+    /** All thread batches ever created, flushed on {@link #close()}. Guarded by itself. */
+    private final List<RowBatch> m_threadBatches;
+
+    /** Batches committed ahead of their turn (ordered mode). Guarded by the merge lock. */
+    private final TreeMap<Long, List<DataRow>> m_pendingBatches;
+
+    private final Object m_mergeLock = new Object();
+
+    /** Sequence number of the next batch to merge (ordered mode). Guarded by the merge lock. */
+    private long m_nextSequence;
+
+    private volatile boolean m_isClosed;
+
+    /**
+     * @param container the container to write to
+     * @param isOrdered whether batches are merged in the order of their sequence number
+     */
+    ParallelRowWriter(final DataContainer container, final boolean isOrdered) {
+        m_container = container;
+        m_isOrdered = isOrdered;
+        m_pendingBatches = isOrdered ? new TreeMap<Long, List<DataRow>>() : null;
+        m_threadBatches = new ArrayList<>();
+        m_threadBatch = isOrdered ? null : ThreadLocal.withInitial(() -> {
+            RowBatch batch = new RowBatch(-1L);
+            synchronized (m_threadBatches) {
+                m_threadBatches.add(batch);
+            }
+            return batch;
+        });
+    }
+
+    /** @return whether batches are merged in the order of their sequence number. */
+    public boolean isOrdered() {
+        return m_isOrdered;
+    }
+
+    /**
+     * Creates a new batch. The batch must only be used by one thread and must be committed (or closed) to become part
+     * of the table.
+     *
+     * @param sequence the sequence number of the batch (0, 1, 2, ...), only relevant in ordered mode
+     * @return a new batch
+     * @throws IllegalStateException if this writer has been closed
+     */
+    public RowBatch createBatch(final long sequence) {
+        checkNotClosed();
+        if (m_isOrdered && sequence < 0) {
+            throw new IllegalArgumentException("Sequence number must not be negative: " + sequence);
+        }
+        return new RowBatch(sequence);
+    }
+
+    /**
+     * Adds a row to the batch of the calling thread; that batch is merged into the table whenever it's full and when
+     * this writer is closed. Only available in unordered mode. {@inheritDoc}
+     *
+     * @throws IllegalStateException if this writer is ordered or closed
+     */
+    @Override
+    public void addRowToTable(final DataRow row) {
+        if (m_isOrdered) {
+            throw new IllegalStateException("Rows of an ordered writer must be added through a batch");
+        }
+        checkNotClosed();
+        RowBatch batch = m_threadBatch.get();
+        batch.addRowToTable(row);
+        if (batch.m_rows.size() >= THREAD_BATCH_SIZE) {
+            batch.flush();
+        }
+    }
+
+    /**
+     * Merges all remaining rows into the container. Must only be called when all producing threads are done; the
+     * container can be closed afterwards.
+     *
+     * @throws IllegalStateException in ordered mode, if batches are missing (the sequence has gaps)
+     */
+    @Override
+    public void close() {
+        if (m_isClosed) {
+            return;
+        }
+        m_isClosed = true;
+        synchronized (m_threadBatches) {
+            for (RowBatch batch : m_threadBatches) {
+                batch.flush();
+            }
+            m_threadBatches.clear();
+        }
+        synchronized (m_mergeLock) {
+            if (m_isOrdered && !m_pendingBatches.isEmpty()) {
+                long missing = m_nextSequence;
+                m_pendingBatches.clear();
+                throw new IllegalStateException("Batch with sequence number " + missing
+                    + " has not been committed, rows of subsequent batches are lost");
+            }
+        }
+    }
+
+    /** @return whether {@link #close()} has been called. */
+    boolean isClosed() {
+        return m_isClosed;
+    }
+
+    private void checkNotClosed() {
+        if (m_isClosed) {
+            throw new IllegalStateException("Parallel writer has been closed");
+        }
+    }
+
+    /** Merges the rows of a batch into the container (or keeps them until it's their turn). */
+    private void merge(final long sequence, final List<DataRow> rows) {
+        synchronized (m_mergeLock) {
+            if (!m_isOrdered) {
+                m_container.addRowsFromParallelWriter(rows);
+                return;
+            }
+            if (sequence < m_nextSequence || m_pendingBatches.containsKey(sequence)) {
+                throw new IllegalStateException("Batch with sequence number " + sequence + " committed twice");
+            }
+            if (sequence != m_nextSequence) {
+                m_pendingBatches.put(sequence, rows);
+                return;
+            }
+            m_container.addRowsFromParallelWriter(rows);
+            m_nextSequence++;
+            List<DataRow> next;
+            while ((next = m_pendingBatches.remove(m_nextSequence)) != null) {
+                m_container.addRowsFromParallelWriter(next);
+                m_nextSequence++;
+            }
+        }
+    }
+
+    /** A batch of rows filled by a single thread. */
+    public final class RowBatch implements RowAppender, AutoCloseable {
+
+        private final long m_sequence;
+
+        private List<DataRow> m_rows = new ArrayList<>();
+
+        private boolean m_isCommitted;
+
+        private RowBatch(final long sequence) {
+            m_sequence = sequence;
+        }
+
+        /** @return the sequence number as passed to {@link ParallelRowWriter#createBatch(long)}. */
+        public long getSequence() {
+            return m_sequence;
+        }
+
+        /**
+         * Checks the row (cell count and types, row ID duplicates) and adds it to this batch. {@inheritDoc}
+         *
+         * @throws IllegalStateException if the batch has been committed
+         */
+        @Override
+        public void addRowToTable(final DataRow row) {
+            if (m_isCommitted) {
+                throw new IllegalStateException("Batch has been committed");
+            }
+            m_container.checkRowFromParallelWriter(row);
+            m_rows.add(row);
+        }
+
+        /** @return number of rows in this batch (not yet committed). */
+        public int size() {
+            return m_rows.size();
+        }
+
+        /**
+         * Merges the rows into the table, no rows can be added afterwards. In ordered mode each batch (including empty
+         * ones) must be committed to allow subsequent batches to be merged.
+         */
+        public void commit() {
+            if (m_isCommitted) {
+                return;
+            }
+            m_isCommitted = true;
+            List<DataRow> rows = m_rows;
+            m_rows = null;
+            merge(m_sequence, rows);
+        }
+
+        /** Same as {@link #commit()}. */
+        @Override
+        public void close() {
+            commit();
+        }
+
+        /** Merges the current content of a (reusable) thread batch. */
+        private void flush() {
+            if (!m_rows.isEmpty()) {
+                List<DataRow> rows = m_rows;
+                m_rows = new ArrayList<>();
+                merge(m_sequence, rows);
+            }
+        }
+    }
+
+}
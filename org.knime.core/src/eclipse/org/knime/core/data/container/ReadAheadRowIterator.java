@@ -0,0 +1,292 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.node.workflow.NodeContext;
+
+/**
+ * Iterator that reads rows from another (file) iterator in a background thread. Rows are handed over in batches
+ * through a bounded queue so that decompression and deserialization of the next rows overlaps with the processing
+ * of the current rows in the consumer thread. This is the read counterpart of the asynchronous write in
+ * {@link DataContainer} and runs on the same executor. Enabled for table file iterators via
+ * {@link org.knime.core.node.KNIMEConstants#PROPERTY_ASYNC_READ_AHEAD}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.6
+ */
+final class ReadAheadRowIterator extends CloseableRowIterator {
+
+    /** Put into queue after the last batch. */
+    private static final Object END_OF_TABLE = new Object();
+
+    private final BlockingQueue<Object> m_queue;
+
+    private final AtomicBoolean m_isClosed = new AtomicBoolean();
+
+    private final ReadAheadTask m_task;
+
+    private List<DataRow> m_batch = Collections.emptyList();
+
+    private int m_index;
+
+    private boolean m_isEndOfTable;
+
+    /**
+     * Creates the iterator and starts reading.
+     *
+     * @param source the iterator to read from, it's closed when all rows are read or when this iterator is closed
+     * @param batchSize number of rows in a batch, &gt; 0
+     * @param batchCount maximum number of batches read ahead, &gt; 0
+     */
+    ReadAheadRowIterator(final CloseableRowIterator source, final int batchSize, final int batchCount) {
+        if (batchSize <= 0 || batchCount <= 0) {
+            throw new IllegalArgumentException("Batch size and count must be positive: " + batchSize + ", "
+                + batchCount);
+        }
+        // one additional slot for the end marker or the exception
+        m_queue = new ArrayBlockingQueue<>(batchCount + 1);
+        m_task = new ReadAheadTask(this, source, batchSize);
+        DataContainer.ASYNC_EXECUTORS.execute(m_task);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasNext() {
+        if (m_index < m_batch.size()) {
+            return true;
+        }
+        if (m_isEndOfTable) {
+            return false;
+        }
+        Object item;
+        try {
+            item = m_queue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new DataContainerException("Interrupted while waiting for rows being read", e);
+        }
+        if (item == END_OF_TABLE) {
+            m_isEndOfTable = true;
+            m_batch = Collections.emptyList();
+            return false;
+        } else if (item instanceof Throwable) {
+            close();
+            Throwable t = (Throwable)item;
+            if (t instanceof RuntimeException) {
+                throw (RuntimeException)t;
+            } else if (t instanceof Error) {
+                throw (Error)t;
+            }
+            throw new DataContainerException("Reading rows threw exception: " + t.getMessage(), t);
+        }
+        @SuppressWarnings("unchecked")
+        List<DataRow> batch = (List<DataRow>)item;
+        m_batch = batch;
+        m_index = 0;
+        return true; // batches are never empty
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DataRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more rows");
+        }
+        return m_batch.get(m_index++);
+    }
+
+    /**
+     * Stops the reading thread and closes the source iterator. Waits until the reading thread has stopped, hence the
+     * source is closed in the calling thread and not accessed anymore when this method returns.
+     */
+    @Override
+    public void close() {
+        m_isEndOfTable = true;
+        m_batch = Collections.emptyList();
+        m_isClosed.set(true);
+        m_queue.clear(); // unblock reader
+        m_task.awaitStop();
+        m_queue.clear(); // release a batch put by the reader before it noticed the close
+        m_task.closeSource();
+    }
+
+    /**
+     * Reads the batches. Only holds a weak reference to the iterator, so that reading stops when the iterator is
+     * discarded without being closed.
+     */
+    private static final class ReadAheadTask implements Runnable {
+
+        private static final int NOT_STARTED = 0;
+
+        private static final int RUNNING = 1;
+
+        private static final int STOPPED = 2;
+
+        private final WeakReference<ReadAheadRowIterator> m_iteratorRef;
+
+        private final BlockingQueue<Object> m_queue;
+
+        private final AtomicBoolean m_isClosed;
+
+        private final CloseableRowIterator m_source;
+
+        private final int m_batchSize;
+
+        private final NodeContext m_context;
+
+        private final AtomicInteger m_state = new AtomicInteger(NOT_STARTED);
+
+        private final CountDownLatch m_stopped = new CountDownLatch(1);
+
+        private final AtomicBoolean m_isSourceClosed = new AtomicBoolean();
+
+        ReadAheadTask(final ReadAheadRowIterator iterator, final CloseableRowIterator source,
+            final int batchSize) {
+            m_iteratorRef = new WeakReference<>(iterator);
+            m_queue = iterator.m_queue;
+            m_isClosed = iterator.m_isClosed;
+            m_source = source;
+            m_batchSize = batchSize;
+            m_context = NodeContext.getContext();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void run() {
+            if (!m_state.compareAndSet(NOT_STARTED, RUNNING)) {
+                return; // closed before the task started
+            }
+            NodeContext.pushContext(m_context);
+            try {
+                Object last = END_OF_TABLE;
+                try {
+                    while (!isCancelled() && m_source.hasNext()) {
+                        List<DataRow> batch = new ArrayList<>(m_batchSize);
+                        while (batch.size() < m_batchSize && m_source.hasNext()) {
+                            batch.add(m_source.next());
+                        }
+                        if (!put(batch)) {
+                            break;
+                        }
+                    }
+                } catch (Throwable t) {
+                    last = t;
+                }
+                // a closed iterator closes the source itself after this task has stopped
+                if (!m_isClosed.get()) {
+                    closeSource();
+                    put(last);
+                }
+            } finally {
+                NodeContext.removeLastContext();
+                m_state.set(STOPPED);
+                m_stopped.countDown();
+            }
+        }
+
+        /** Waits until the task has stopped reading, or prevents it from starting. Not interruptible. */
+        void awaitStop() {
+            if (m_state.compareAndSet(NOT_STARTED, STOPPED)) {
+                m_stopped.countDown();
+                return;
+            }
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    m_stopped.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /** Closes the source unless it has been closed already. */
+        void closeSource() {
+            if (m_isSourceClosed.compareAndSet(false, true)) {
+                m_source.close();
+            }
+        }
+
+        private boolean isCancelled() {
+            return m_isClosed.get() || m_iteratorRef.get() == null;
+        }
+
+        /** Puts the item into the queue unless the iterator is closed or discarded in the meantime. */
+        private boolean put(final Object item) {
+            try {
+                while (!isCancelled()) {
+                    if (m_queue.offer(item, 100, TimeUnit.MILLISECONDS)) {
+                        return true;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,533 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.knime.core.data.BoundedValue;
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.StringValue;
+import org.knime.core.data.collection.CollectionDataValue;
+import org.knime.core.data.def.BooleanCell;
+import org.knime.core.data.def.IntCell;
+import org.knime.core.data.util.memory.MemoryAlert;
+import org.knime.core.data.util.memory.MemoryAlertListener;
+import org.knime.core.data.util.memory.MemoryAlertSystem;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.workflow.NodeContext;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.util.ThreadUtils;
+
+/**
+ * Central manager for tables whose rows are kept in memory (on the heap), shared by all workflows in the JVM. It is
+ * enabled by setting a global budget (see {@link KNIMEConstants#PROPERTY_TABLE_CACHE_SIZE}); otherwise each table
+ * decides alone whether to stay in memory.
+ *
+ * <p>
+ * In-memory tables are registered when they are closed, along with an estimate of their heap size and the workflow
+ * that created them. Whenever the global budget or the quota of the workflow is exceeded, tables are written to disk
+ * (and their rows released) in the order defined by the {@link EvictionPolicy}. On low memory conditions (see
+ * {@link MemoryAlertSystem}) tables are written to disk until the cache uses at most half of what it used before,
+ * irrespective of the workflow that triggered the condition.
+ *
+ * <p>
+ * Hit, miss and eviction counters are available for monitoring. A hit is an iteration on a cached table, a miss an
+ * iteration on a table that had been evicted from the cache.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.6
+ * @noextend This class is not intended to be subclassed by clients.
+ */
+public final class TableCacheManager {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(TableCacheManager.class);
+
+    /** Policy to choose the tables to write to disk. */
+    public enum EvictionPolicy {
+            /** Least recently used tables first. */
+            LRU,
+            /** Least frequently used tables first (ties are broken by recency). */
+            LFU;
+    }
+
+    /** Workflow key used for tables created outside a workflow. */
+    private static final String NO_WORKFLOW = "<no workflow>";
+
+    /** Default share (in percent) of the budget a single workflow may use. */
+    private static final int DEFAULT_WORKFLOW_QUOTA_PERCENT = 50;
+
+    /** Maximum number of rows inspected to estimate the size of a table. */
+    private static final int SIZE_ESTIMATE_SAMPLE_SIZE = 1000;
+
+    private static final TableCacheManager INSTANCE = new TableCacheManager();
+
+    private final Set<CacheEntry> m_entries = new HashSet<>();
+
+    private long m_budget;
+
+    private long m_workflowQuota;
+
+    private EvictionPolicy m_policy;
+
+    private long m_usedBytes;
+
+    /** Logical clock for the recency of accesses, guarded by this. */
+    private long m_clock;
+
+    private final AtomicLong m_hitCount = new AtomicLong();
+
+    private final AtomicLong m_missCount = new AtomicLong();
+
+    private final AtomicLong m_evictionCount = new AtomicLong();
+
+    private final AtomicBoolean m_isAlertEvictionRunning = new AtomicBoolean();
+
+    private MemoryAlertListener m_memoryAlertListener;
+
+    private TableCacheManager() {
+        long budget = readSizeProperty(KNIMEConstants.PROPERTY_TABLE_CACHE_SIZE, 0L);
+        int quotaPercent = (int)readSizeProperty(KNIMEConstants.PROPERTY_TABLE_CACHE_WORKFLOW_QUOTA,
+            DEFAULT_WORKFLOW_QUOTA_PERCENT);
+        if (quotaPercent < 1 || quotaPercent > 100) {
+            LOGGER.warn("Invalid value for property " + KNIMEConstants.PROPERTY_TABLE_CACHE_WORKFLOW_QUOTA + " ("
+                + quotaPercent + "); defaulting to " + DEFAULT_WORKFLOW_QUOTA_PERCENT);
+            quotaPercent = DEFAULT_WORKFLOW_QUOTA_PERCENT;
+        }
+        EvictionPolicy policy = EvictionPolicy.LRU;
+        String policyString = System.getProperty(KNIMEConstants.PROPERTY_TABLE_CACHE_POLICY);
+        if (policyString != null) {
+            try {
+                policy = EvictionPolicy.valueOf(policyString.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException iae) {
+                LOGGER.warn("Unable to read property " + KNIMEConstants.PROPERTY_TABLE_CACHE_POLICY + " (\""
+                    + policyString + "\"); defaulting to " + EvictionPolicy.LRU);
+            }
+        }
+        m_policy = policy;
+        setBudget(budget << 20, (budget << 20) * quotaPercent / 100);
+    }
+
+    private static long readSizeProperty(final String property, final long defaultValue) {
+        String value = System.getProperty(property);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            long result = Long.parseLong(value.trim());
+            if (result < 0) {
+                throw new NumberFormatException("Negative value");
+            }
+            return result;
+        } catch (NumberFormatException nfe) {
+            LOGGER.warn("Unable to read property " + property + " (\"" + value + "\"); defaulting to "
+                + defaultValue);
+            return defaultValue;
+        }
+    }
+
+    /** @return the singleton instance. */
+    public static TableCacheManager getInstance() {
+        return INSTANCE;
+    }
+
+    /** @return whether the manager is enabled, i.e. the budget is positive. */
+    public synchronized boolean isEnabled() {
+        return m_budget > 0;
+    }
+
+    /** @return the global budget in bytes (0 if disabled). */
+    public synchronized long getBudget() {
+        return m_budget;
+    }
+
+    /** @return the maximum number of bytes the tables of a single workflow may use. */
+    public synchronized long getWorkflowQuota() {
+        return m_workflowQuota;
+    }
+
+    /**
+     * Sets new limits; tables are written to disk if the cache exceeds them. Setting a budget of 0 disables the
+     * manager for tables closed afterwards (tables already in the cache remain managed until they are cleared).
+     *
+     * @param budget the global budget in bytes, 0 to disable
+     * @param workflowQuota the maximum number of bytes the tables of a single workflow may use
+     * @throws IllegalArgumentException if any of the arguments is negative
+     */
+    public void setBudget(final long budget, final long workflowQuota) {
+        if (budget < 0 || workflowQuota < 0) {
+            throw new IllegalArgumentException("Budget and quota must not be negative: " + budget + ", "
+                + workflowQuota);
+        }
+        synchronized (this) {
+            m_budget = budget;
+            m_workflowQuota = workflowQuota;
+            if (budget > 0 && m_memoryAlertListener == null) {
+                m_memoryAlertListener = new MemoryAlertListener() {
+                    @Override
+                    protected boolean memoryAlert(final MemoryAlert alert) {
+                        onMemoryAlert();
+                        return false;
+                    }
+                };
+                MemoryAlertSystem.getInstance().addListener(m_memoryAlertListener);
+            }
+        }
+        evict(null, Long.MAX_VALUE);
+        for (Object workflowKey : getWorkflowKeys()) {
+            evict(workflowKey, Long.MAX_VALUE);
+        }
+    }
+
+    /** @return the eviction policy. */
+    public synchronized EvictionPolicy getPolicy() {
+        return m_policy;
+    }
+
+    /** @param policy the new eviction policy, not null */
+    public synchronized void setPolicy(final EvictionPolicy policy) {
+        if (policy == null) {
+            throw new NullPointerException("Policy must not be null");
+        }
+        m_policy = policy;
+    }
+
+    /** @return the estimated number of bytes used by the tables in the cache. */
+    public synchronized long getUsedBytes() {
+        return m_usedBytes;
+    }
+
+    /** @return the number of tables in the cache. */
+    public synchronized int getTableCount() {
+        return m_entries.size();
+    }
+
+    /**
+     * @return the estimated number of bytes used per workflow (key is the workflow name, or
+     *         &quot;&lt;no workflow&gt;&quot; for tables created outside a workflow)
+     */
+    public synchronized Map<String, Long> getWorkflowUsage() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (CacheEntry e : m_entries) {
+            result.merge(e.m_workflowName, e.m_size, Long::sum);
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /** @return number of iterations on tables in the cache. */
+    public long getHitCount() {
+        return m_hitCount.get();
+    }
+
+    /** @return number of iterations on tables that have been evicted from the cache. */
+    public long getMissCount() {
+        return m_missCount.get();
+    }
+
+    /** @return number of tables written to disk by this manager. */
+    public long getEvictionCount() {
+        return m_evictionCount.get();
+    }
+
+    /** Resets the hit, miss and eviction counters. */
+    public void resetCounters() {
+        m_hitCount.set(0L);
+        m_missCount.set(0L);
+        m_evictionCount.set(0L);
+    }
+
+    /**
+     * Registers a closed in-memory table, possibly writing tables (including the argument) to disk if the limits are
+     * exceeded. Must not be called while holding the lock on a buffer.
+     *
+     * @param buffer the buffer holding the rows
+     * @param estimatedSize the estimated size in bytes, see {@link #estimateHeapSize(List)}
+     * @return the cache entry to be passed to {@link #recordAccess(CacheEntry)} and {@link #remove(CacheEntry)}
+     */
+    CacheEntry register(final Buffer buffer, final long estimatedSize) {
+        Object workflowKey = NO_WORKFLOW;
+        String workflowName = NO_WORKFLOW;
+        NodeContext context = NodeContext.getContext();
+        WorkflowManager wfm = context == null ? null : context.getWorkflowManager();
+        if (wfm != null) {
+            workflowKey = wfm.getID();
+            workflowName = wfm.getNameWithID();
+        }
+        CacheEntry entry = new CacheEntry(buffer, estimatedSize, workflowKey, workflowName);
+        synchronized (this) {
+            entry.m_lastAccess = ++m_clock;
+            m_entries.add(entry);
+            m_usedBytes += estimatedSize;
+        }
+        evict(workflowKey, Long.MAX_VALUE);
+        evict(null, Long.MAX_VALUE);
+        return entry;
+    }
+
+    /**
+     * Records an iteration on a table, counting a hit if the table is cached and a miss if it has been evicted.
+     *
+     * @param entry the entry as returned by {@link #register(Buffer, long)}
+     */
+    void recordAccess(final CacheEntry entry) {
+        synchronized (this) {
+            if (!entry.m_isEvicted) {
+                entry.m_lastAccess = ++m_clock;
+                entry.m_accessCount++;
+                m_hitCount.incrementAndGet();
+                return;
+            }
+        }
+        m_missCount.incrementAndGet();
+    }
+
+    /**
+     * Removes the entry without writing its table to disk, called when the table is cleared.
+     *
+     * @param entry the entry as returned by {@link #register(Buffer, long)}
+     */
+    synchronized void remove(final CacheEntry entry) {
+        if (m_entries.remove(entry)) {
+            m_usedBytes -= entry.m_size;
+        }
+    }
+
+    private synchronized List<Object> getWorkflowKeys() {
+        List<Object> keys = new ArrayList<>();
+        for (CacheEntry e : m_entries) {
+            if (!keys.contains(e.m_workflowKey)) {
+                keys.add(e.m_workflowKey);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Evicts tables (of the given workflow or of all workflows if the key is null) until the limit (quota or global
+     * budget) is met and, in addition, at least the given number of bytes is below the current usage. Tables are
+     * written to disk outside the lock on this manager.
+     */
+    private void evict(final Object workflowKey, final long targetBytes) {
+        while (true) {
+            CacheEntry victim;
+            synchronized (this) {
+                long used = workflowKey == null ? m_usedBytes : getUsage(workflowKey);
+                long limit = Math.min(targetBytes, workflowKey == null ? m_budget : m_workflowQuota);
+                if (used <= limit || m_budget == 0) {
+                    return;
+                }
+                victim = selectVictim(workflowKey);
+                if (victim == null) {
+                    return;
+                }
+                m_entries.remove(victim);
+                m_usedBytes -= victim.m_size;
+                victim.m_isEvicted = true;
+            }
+            Buffer buffer = victim.m_buffer.get();
+            if (buffer != null && buffer.writeToDiskForCache()) {
+                m_evictionCount.incrementAndGet();
+                LOGGER.debugWithFormat("Wrote table (~%d bytes, workflow \"%s\") to disk to free table cache",
+                    victim.m_size, victim.m_workflowName);
+            }
+        }
+    }
+
+    private long getUsage(final Object workflowKey) {
+        assert Thread.holdsLock(this);
+        long usage = 0L;
+        for (CacheEntry e : m_entries) {
+            if (e.m_workflowKey.equals(workflowKey)) {
+                usage += e.m_size;
+            }
+        }
+        return usage;
+    }
+
+    /** Picks the next entry to evict according to the policy; entries of garbage collected buffers go first. */
+    private CacheEntry selectVictim(final Object workflowKey) {
+        assert Thread.holdsLock(this);
+        CacheEntry victim = null;
+        for (CacheEntry e : m_entries) {
+            if (workflowKey != null && !e.m_workflowKey.equals(workflowKey)) {
+                continue;
+            }
+            if (e.m_buffer.get() == null) {
+                return e;
+            }
+            if (victim == null || isEvictedBefore(e, victim)) {
+                victim = e;
+            }
+        }
+        return victim;
+    }
+
+    private boolean isEvictedBefore(final CacheEntry e1, final CacheEntry e2) {
+        if (m_policy == EvictionPolicy.LFU && e1.m_accessCount != e2.m_accessCount) {
+            return e1.m_accessCount < e2.m_accessCount;
+        }
+        return e1.m_lastAccess < e2.m_lastAccess;
+    }
+
+    /** Frees half of the cache in a separate thread (listeners must return quickly). */
+    private void onMemoryAlert() {
+        if (getUsedBytes() == 0 || !m_isAlertEvictionRunning.compareAndSet(false, true)) {
+            return;
+        }
+        ThreadUtils.threadWithContext(() -> {
+            try {
+                long before = getUsedBytes();
+                evict(null, before / 2);
+                LOGGER.debug("Low memory: reduced table cache from " + before + " to " + getUsedBytes() + " bytes");
+            } finally {
+                m_isAlertEvictionRunning.set(false);
+            }
+        }, "KNIME Table Cache Evictor").start();
+    }
+
+    /**
+     * Estimates the heap size of the rows by inspecting a sample of rows.
+     *
+     * @param rows the rows
+     * @return the estimated size in bytes
+     */
+    static long estimateHeapSize(final List<? extends DataRow> rows) {
+        final int rowCount = rows.size();
+        if (rowCount == 0) {
+            return 0L;
+        }
+        final int sampleSize = Math.min(rowCount, SIZE_ESTIMATE_SAMPLE_SIZE);
+        long sampledBytes = 0L;
+        for (int i = 0; i < sampleSize; i++) {
+            DataRow row = rows.get((int)((long)i * rowCount / sampleSize));
+            // row object, key object and its string, cell array
+            sampledBytes += 24 + 16 + estimateStringSize(row.getKey().getString()) + 16 + 4L * row.getNumCells();
+            for (int c = 0; c < row.getNumCells(); c++) {
+                DataCell cell = row instanceof BlobSupportDataRow ? ((BlobSupportDataRow)row).getRawCell(c)
+                    : row.getCell(c);
+                sampledBytes += estimateCellSize(cell, 0);
+            }
+        }
+        return sampledBytes * rowCount / sampleSize;
+    }
+
+    private static long estimateCellSize(final DataCell cell, final int depth) {
+        if (cell.isMissing()) {
+            return 16;
+        } else if (cell instanceof IntCell || cell instanceof BooleanCell) {
+            return 16;
+        } else if (cell instanceof BlobWrapperDataCell) {
+            return 48;
+        } else if (cell instanceof StringValue && !(cell instanceof CollectionDataValue)) {
+            return 16 + estimateStringSize(((StringValue)cell).getStringValue());
+        } else if (cell instanceof CollectionDataValue && depth < 2) {
+            CollectionDataValue collection = (CollectionDataValue)cell;
+            long size = 32;
+            int sampled = 0;
+            long sampledBytes = 0;
+            for (DataCell element : collection) {
+                if (sampled++ >= 10) {
+                    break;
+                }
+                sampledBytes += 4 + estimateCellSize(element, depth + 1);
+            }
+            return sampled == 0 ? size : size + sampledBytes * collection.size() / Math.min(sampled, 10);
+        } else if (cell instanceof BoundedValue) {
+            return 24;
+        }
+        return 32;
+    }
+
+    private static long estimateStringSize(final String s) {
+        // String object plus char array
+        return 24 + 16 + 2L * s.length();
+    }
+
+    /** The cache entry of a table. Fields other than the final ones are guarded by the manager. */
+    static final class CacheEntry {
+
+        private final WeakReference<Buffer> m_buffer;
+
+        private final long m_size;
+
+        private final Object m_workflowKey;
+
+        private final String m_workflowName;
+
+        private long m_lastAccess;
+
+        private long m_accessCount;
+
+        private boolean m_isEvicted;
+
+        private CacheEntry(final Buffer buffer, final long size, final Object workflowKey,
+            final String workflowName) {
+            m_buffer = new WeakReference<>(buffer);
+            m_size = size;
+            m_workflowKey = workflowKey;
+            m_workflowName = workflowName;
+        }
+
+        /** @return the estimated size of the table in bytes. */
+        long getSize() {
+            return m_size;
+        }
+    }
+
+}
@@ -0,0 +1,124 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container.filter;
+
+import java.util.NoSuchElementException;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.container.CloseableRowIterator;
+
+/**
+ * Applies a {@link TableFilter} on top of an arbitrary iterator. Rows are fully materialized by the delegate, only
+ * the row index range and the predicate are applied. Used by tables that cannot push the filter into their storage.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.6
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class FilterDelegateRowIterator extends CloseableRowIterator {
+
+    private final CloseableRowIterator m_delegate;
+
+    private final TableFilter m_filter;
+
+    /** Index of the next row returned by the delegate. */
+    private long m_index;
+
+    private DataRow m_nextRow;
+
+    private boolean m_isClosed;
+
+    /**
+     * @param delegate the unfiltered iterator, will be closed when this iterator is closed
+     * @param filter the filter to apply
+     */
+    public FilterDelegateRowIterator(final CloseableRowIterator delegate, final TableFilter filter) {
+        m_delegate = delegate;
+        m_filter = filter;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasNext() {
+        if (m_nextRow != null) {
+            return true;
+        }
+        while (!m_isClosed && m_index <= m_filter.getToRowIndex() && m_delegate.hasNext()) {
+            DataRow row = m_delegate.next();
+            long index = m_index++;
+            if (index >= m_filter.getFromRowIndex() && m_filter.acceptsRow(row)) {
+                m_nextRow = row;
+                return true;
+            }
+        }
+        // release resources early, e.g. when the end of the row range is reached
+        close();
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DataRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("Iterator at end");
+        }
+        DataRow row = m_nextRow;
+        m_nextRow = null;
+        return row;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        if (!m_isClosed) {
+            m_isClosed = true;
+            m_delegate.close();
+        }
+    }
+
+}
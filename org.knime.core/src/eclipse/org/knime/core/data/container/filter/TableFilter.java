@@ -0,0 +1,300 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container.filter;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+
+/**
+ * Describes which part of a table is read when iterating it: the columns that need to be materialized, a range of
+ * row indices and an optional predicate on the cells of a single column. Table implementations that know how to
+ * handle a filter (for instance tables read from disc) will not deserialize cells or rows that are filtered out.
+ *
+ * <p>
+ * Rows returned by an iterator created with a filter have the full width of the table. Cells in columns that are not
+ * materialized are undefined &ndash; they may be missing cells or the actual value, clients must not access them.
+ *
+ * <p>
+ * Instances are created using a {@link Builder}:
+ *
+ * <pre>
+ * TableFilter filter = new TableFilter.Builder()
+ *     .withMaterializeColumnIndices(0, 3)
+ *     .withToRowIndex(999)
+ *     .withRowPredicate(3, c -&gt; !c.isMissing())
+ *     .build();
+ * try (CloseableRowIterator it = table.filter(filter)) {
+ *     ...
+ * }
+ * </pre>
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.6
+ */
+public final class TableFilter {
+
+    /** Filter that materializes everything. */
+    public static final TableFilter NONE = new Builder().build();
+
+    private final int[] m_materializeColumnIndices;
+
+    private final long m_fromRowIndex;
+
+    private final long m_toRowIndex;
+
+    private final int m_predicateColumnIndex;
+
+    private final Predicate<DataCell> m_predicate;
+
+    private TableFilter(final Builder builder) {
+        int[] cols = builder.m_materializeColumnIndices;
+        if (cols != null && builder.m_predicate != null) {
+            cols = Arrays.copyOf(cols, cols.length + 1);
+            cols[cols.length - 1] = builder.m_predicateColumnIndex;
+        }
+        m_materializeColumnIndices = cols == null ? null : Arrays.stream(cols).sorted().distinct().toArray();
+        m_fromRowIndex = builder.m_fromRowIndex;
+        m_toRowIndex = builder.m_toRowIndex;
+        m_predicateColumnIndex = builder.m_predicateColumnIndex;
+        m_predicate = builder.m_predicate;
+    }
+
+    /**
+     * Convenience short cut to create a filter that materializes only the argument columns.
+     *
+     * @param columnIndices indices of the columns to materialize
+     * @return a new filter
+     */
+    public static TableFilter materializeCols(final int... columnIndices) {
+        return new Builder().withMaterializeColumnIndices(columnIndices).build();
+    }
+
+    /** @return sorted indices of the columns to materialize or <code>null</code> if all columns are materialized. */
+    public int[] getMaterializeColumnIndices() {
+        return m_materializeColumnIndices == null ? null : m_materializeColumnIndices.clone();
+    }
+
+    /**
+     * @param nrColumns number of columns in the table
+     * @return an array of length <code>nrColumns</code> with <code>true</code> for all columns to be materialized or
+     *         <code>null</code> if all columns are materialized.
+     */
+    public boolean[] getMaterializeMask(final int nrColumns) {
+        if (m_materializeColumnIndices == null) {
+            return null;
+        }
+        boolean[] mask = new boolean[nrColumns];
+        for (int i : m_materializeColumnIndices) {
+            mask[i] = true;
+        }
+        return mask;
+    }
+
+    /**
+     * @param columnIndex a column index
+     * @return whether that column is materialized
+     */
+    public boolean isMaterialized(final int columnIndex) {
+        return m_materializeColumnIndices == null || Arrays.binarySearch(m_materializeColumnIndices, columnIndex) >= 0;
+    }
+
+    /** @return index of the first row to be returned (inclusive), 0 by default. */
+    public long getFromRowIndex() {
+        return m_fromRowIndex;
+    }
+
+    /** @return index of the last row to be returned (inclusive), {@link Long#MAX_VALUE} by default. */
+    public long getToRowIndex() {
+        return m_toRowIndex;
+    }
+
+    /** @return whether a row predicate is set. */
+    public boolean hasRowPredicate() {
+        return m_predicate != null;
+    }
+
+    /** @return the column the row predicate is evaluated on or -1 if no predicate is set. */
+    public int getPredicateColumnIndex() {
+        return m_predicateColumnIndex;
+    }
+
+    /**
+     * Tests the cell in the predicate column.
+     *
+     * @param cell the cell of the predicate column
+     * @return whether the row is accepted (always true if no predicate is set)
+     */
+    public boolean acceptsCell(final DataCell cell) {
+        return m_predicate == null || m_predicate.test(cell);
+    }
+
+    /**
+     * Tests a fully materialized row against the predicate (but not the row index range).
+     *
+     * @param row the row
+     * @return whether the row is accepted (always true if no predicate is set)
+     */
+    public boolean acceptsRow(final DataRow row) {
+        return m_predicate == null || m_predicate.test(row.getCell(m_predicateColumnIndex));
+    }
+
+    /**
+     * Checks that all column indices are valid for the argument spec.
+     *
+     * @param spec the spec of the table to be filtered
+     * @throws IndexOutOfBoundsException if a column index is out of range
+     */
+    public void validate(final DataTableSpec spec) {
+        int nrColumns = spec.getNumColumns();
+        if (m_materializeColumnIndices != null && m_materializeColumnIndices.length > 0
+            && m_materializeColumnIndices[m_materializeColumnIndices.length - 1] >= nrColumns) {
+            throw new IndexOutOfBoundsException("Column index "
+                + m_materializeColumnIndices[m_materializeColumnIndices.length - 1] + " out of range, table has "
+                + nrColumns + " column(s)");
+        }
+        if (m_predicateColumnIndex >= nrColumns) {
+            throw new IndexOutOfBoundsException("Predicate column index " + m_predicateColumnIndex
+                + " out of range, table has " + nrColumns + " column(s)");
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        StringBuilder b = new StringBuilder("TableFilter[columns=");
+        b.append(m_materializeColumnIndices == null ? "all" : Arrays.toString(m_materializeColumnIndices));
+        b.append(", rows=").append(m_fromRowIndex).append("..");
+        b.append(m_toRowIndex == Long.MAX_VALUE ? "" : Long.toString(m_toRowIndex));
+        if (m_predicate != null) {
+            b.append(", predicate on column ").append(m_predicateColumnIndex);
+        }
+        return b.append("]").toString();
+    }
+
+    /** Builder for {@link TableFilter}. */
+    public static final class Builder {
+
+        private int[] m_materializeColumnIndices;
+
+        private long m_fromRowIndex = 0L;
+
+        private long m_toRowIndex = Long.MAX_VALUE;
+
+        private int m_predicateColumnIndex = -1;
+
+        private Predicate<DataCell> m_predicate;
+
+        /**
+         * @param columnIndices indices of the columns to materialize (all columns if not called)
+         * @return this
+         */
+        public Builder withMaterializeColumnIndices(final int... columnIndices) {
+            for (int i : columnIndices) {
+                if (i < 0) {
+                    throw new IndexOutOfBoundsException("Column index must not be negative: " + i);
+                }
+            }
+            m_materializeColumnIndices = columnIndices.clone();
+            return this;
+        }
+
+        /**
+         * @param fromRowIndex index of the first row to return (inclusive), &gt;= 0
+         * @return this
+         */
+        public Builder withFromRowIndex(final long fromRowIndex) {
+            if (fromRowIndex < 0) {
+                throw new IllegalArgumentException("Row index must not be negative: " + fromRowIndex);
+            }
+            m_fromRowIndex = fromRowIndex;
+            return this;
+        }
+
+        /**
+         * @param toRowIndex index of the last row to return (inclusive), &gt;= 0
+         * @return this
+         */
+        public Builder withToRowIndex(final long toRowIndex) {
+            if (toRowIndex < 0) {
+                throw new IllegalArgumentException("Row index must not be negative: " + toRowIndex);
+            }
+            m_toRowIndex = toRowIndex;
+            return this;
+        }
+
+        /**
+         * Sets a predicate on a single column. Rows whose cell is not accepted are skipped (the row index range refers
+         * to the unfiltered table). The column is implicitly materialized.
+         *
+         * @param columnIndex index of the column the predicate is evaluated on
+         * @param predicate the predicate, not null
+         * @return this
+         */
+        public Builder withRowPredicate(final int columnIndex, final Predicate<DataCell> predicate) {
+            if (columnIndex < 0) {
+                throw new IndexOutOfBoundsException("Column index must not be negative: " + columnIndex);
+            }
+            if (predicate == null) {
+                throw new NullPointerException("Predicate must not be null");
+            }
+            m_predicateColumnIndex = columnIndex;
+            m_predicate = predicate;
+            return this;
+        }
+
+        /** @return a new filter */
+        public TableFilter build() {
+            return new TableFilter(this);
+        }
+    }
+
+}
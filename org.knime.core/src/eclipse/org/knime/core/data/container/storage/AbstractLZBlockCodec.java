@@ -0,0 +1,177 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container.storage;
+
+import java.util.Arrays;
+
+/**
+ * Common match finding of the LZ77-style codecs ({@link LZ4BlockCodec}, {@link SnappyBlockCodec}). Matches are found
+ * using a hash table of 4-byte sequences; the encoding of literals and matches is left to the subclass.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+abstract class AbstractLZBlockCodec implements BlockCompressionCodec {
+
+    /** Minimum length of a match. */
+    static final int MIN_MATCH = 4;
+
+    /** The last bytes of a block are always encoded as literals. */
+    static final int LAST_LITERALS = 5;
+
+    /** Matches must not start within the last bytes of the block. */
+    static final int MF_LIMIT = 12;
+
+    /** Maximum backward distance of a match (2-byte offsets). */
+    static final int MAX_DISTANCE = 0xFFFF;
+
+    private static final int HASH_LOG = 14;
+
+    /** Hash tables are reused per thread (the compression thread pool is small). */
+    private static final ThreadLocal<int[]> HASH_TABLE = new ThreadLocal<int[]>() {
+        @Override
+        protected int[] initialValue() {
+            return new int[1 << HASH_LOG];
+        }
+    };
+
+    /** {@inheritDoc} */
+    @Override
+    public final int compress(final byte[] src, final int srcOff, final int srcLength, final byte[] dest,
+        final int destOff) {
+        final int srcEnd = srcOff + srcLength;
+        int d = writeHeader(dest, destOff, srcLength);
+        int anchor = srcOff;
+        if (srcLength > MF_LIMIT) {
+            final int[] table = HASH_TABLE.get();
+            Arrays.fill(table, 0);
+            final int matchLimit = srcEnd - LAST_LITERALS;
+            final int mfLimit = srcEnd - MF_LIMIT;
+            int p = srcOff;
+            while (p < mfLimit) {
+                final int sequence = readInt(src, p);
+                final int h = hash(sequence);
+                final int candidate = table[h] - 1 + srcOff;
+                table[h] = p - srcOff + 1;
+                if (candidate >= srcOff && p - candidate <= MAX_DISTANCE && readInt(src, candidate) == sequence) {
+                    int ref = candidate;
+                    while (p > anchor && ref > srcOff && src[p - 1] == src[ref - 1]) {
+                        p--;
+                        ref--;
+                    }
+                    int matchLength = MIN_MATCH;
+                    while (p + matchLength < matchLimit && src[p + matchLength] == src[ref + matchLength]) {
+                        matchLength++;
+                    }
+                    d = writeSequence(src, anchor, p - anchor, p - ref, matchLength, dest, d);
+                    p += matchLength;
+                    anchor = p;
+                } else {
+                    // skip faster through incompressible data
+                    p += 1 + ((p - anchor) >>> 6);
+                }
+            }
+        }
+        return writeLastLiterals(src, anchor, srcEnd - anchor, dest, d) - destOff;
+    }
+
+    /**
+     * Writes a block header (if any).
+     * @param dest to write to
+     * @param d position in dest
+     * @param uncompressedLength length of the uncompressed block
+     * @return new position in dest
+     */
+    abstract int writeHeader(byte[] dest, int d, int uncompressedLength);
+
+    /**
+     * Writes literals followed by a match.
+     *
+     * @param src source array
+     * @param literalStart start of the literals in src
+     * @param literalLength number of literals (possibly 0)
+     * @param offset backward distance of the match, in [1, {@value #MAX_DISTANCE}]
+     * @param matchLength length of the match, at least {@value #MIN_MATCH}
+     * @param dest to write to
+     * @param d position in dest
+     * @return new position in dest
+     */
+    abstract int writeSequence(byte[] src, int literalStart, int literalLength, int offset, int matchLength,
+        byte[] dest, int d);
+
+    /**
+     * Writes the trailing literals of a block.
+     *
+     * @param src source array
+     * @param literalStart start of the literals in src
+     * @param literalLength number of literals (possibly 0)
+     * @param dest to write to
+     * @param d position in dest
+     * @return new position in dest
+     */
+    abstract int writeLastLiterals(byte[] src, int literalStart, int literalLength, byte[] dest, int d);
+
+    /** Copies a match that may overlap with its destination (offset smaller than length). */
+    static void copyMatch(final byte[] dest, final int ref, final int d, final int length) {
+        if (d - ref >= length) {
+            System.arraycopy(dest, ref, dest, d, length);
+        } else {
+            for (int i = 0; i < length; i++) {
+                dest[d + i] = dest[ref + i];
+            }
+        }
+    }
+
+    private static int hash(final int sequence) {
+        return (sequence * -1640531535) >>> (32 - HASH_LOG);
+    }
+
+    private static int readInt(final byte[] b, final int i) {
+        return (b[i] & 0xFF) | ((b[i + 1] & 0xFF) << 8) | ((b[i + 2] & 0xFF) << 16) | ((b[i + 3] & 0xFF) << 24);
+    }
+
+}
@@ -50,7 +50,10 @@
 import java.io.IOException;
 
 import org.knime.core.data.container.Buffer;
+import org.knime.core.data.DataRow;
 import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.filter.FilterDelegateRowIterator;
+import org.knime.core.data.container.filter.TableFilter;
 import org.knime.core.data.filestore.internal.FileStoreHandlerRepository;
 
 /**
@@ -78,6 +81,20 @@ public final void setFileStoreHandlerRepository(final FileStoreHandlerRepository
 
     public abstract TableStoreCloseableRowIterator iterator() throws IOException;
 
+    /**
+     * Creates an iterator that only returns the rows and materializes the columns defined by the filter. This
+     * implementation reads all rows and applies the filter afterwards, subclasses should override it to skip the
+     * deserialization of filtered content.
+     *
+     * @param filter the filter, not null
+     * @return a new iterator
+     * @throws IOException if the underlying file can't be opened
+     * @since 3.6
+     */
+    public TableStoreCloseableRowIterator iteratorWithFilter(final TableFilter filter) throws IOException {
+        return new FilterDelegateTableStoreRowIterator(iterator(), filter);
+    }
+
     public static abstract class TableStoreCloseableRowIterator extends CloseableRowIterator {
 
         private Buffer m_buffer;
@@ -98,4 +115,39 @@ public final void close() {
         public abstract boolean performClose() throws IOException;
     }
 
+    /** Applies a filter on top of an unfiltered iterator. */
+    private static final class FilterDelegateTableStoreRowIterator extends TableStoreCloseableRowIterator {
+
+        private final TableStoreCloseableRowIterator m_delegate;
+
+        private final FilterDelegateRowIterator m_filterIterator;
+
+        FilterDelegateTableStoreRowIterator(final TableStoreCloseableRowIterator delegate, final TableFilter filter) {
+            m_delegate = delegate;
+            m_filterIterator = new FilterDelegateRowIterator(delegate, filter);
+        }
+
+        /** The delegate closes itself at the end of the table, it needs to know the buffer. */
+        @Override
+        public void setBuffer(final Buffer buffer) {
+            super.setBuffer(buffer);
+            m_delegate.setBuffer(buffer);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return m_filterIterator.hasNext();
+        }
+
+        @Override
+        public DataRow next() {
+            return m_filterIterator.next();
+        }
+
+        @Override
+        public boolean performClose() throws IOException {
+            return m_delegate.performClose();
+        }
+    }
+
 }
@@ -0,0 +1,199 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container.storage;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads a stream written by {@link BlockCompressedOutputStream}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.6
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class BlockCompressedInputStream extends InputStream {
+
+    private final InputStream m_in;
+
+    private final BlockCompressionCodec m_codec;
+
+    private final byte[] m_header = new byte[8];
+
+    private byte[] m_compressed = new byte[0];
+
+    private byte[] m_block = new byte[0];
+
+    private int m_blockLength;
+
+    private int m_blockPos;
+
+    private boolean m_isEndOfStream;
+
+    /**
+     * @param in to read from
+     * @param codec the codec used to write the stream, not null
+     */
+    public BlockCompressedInputStream(final InputStream in, final BlockCompressionCodec codec) {
+        if (in == null || codec == null) {
+            throw new NullPointerException("Arguments must not be null");
+        }
+        m_in = in;
+        m_codec = codec;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read() throws IOException {
+        if (m_blockPos == m_blockLength && !readBlock()) {
+            return -1;
+        }
+        return m_block[m_blockPos++] & 0xFF;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (m_blockPos == m_blockLength && !readBlock()) {
+            return -1;
+        }
+        int count = Math.min(len, m_blockLength - m_blockPos);
+        System.arraycopy(m_block, m_blockPos, b, off, count);
+        m_blockPos += count;
+        return count;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long skip(final long n) throws IOException {
+        long skipped = 0;
+        while (skipped < n) {
+            if (m_blockPos == m_blockLength && !readBlock()) {
+                break;
+            }
+            int count = (int)Math.min(n - skipped, m_blockLength - m_blockPos);
+            m_blockPos += count;
+            skipped += count;
+        }
+        return skipped;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int available() throws IOException {
+        return m_blockLength - m_blockPos;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+        m_isEndOfStream = true;
+        m_block = null;
+        m_compressed = null;
+        m_blockLength = 0;
+        m_blockPos = 0;
+        m_in.close();
+    }
+
+    /** Reads and decompresses the next frame, returns false if the end marker was read. */
+    private boolean readBlock() throws IOException {
+        if (m_isEndOfStream) {
+            return false;
+        }
+        readFully(m_header, 8);
+        final int rawLength = getInt(m_header, 0);
+        final int compressedField = getInt(m_header, 4);
+        if (rawLength == 0) {
+            m_isEndOfStream = true;
+            return false;
+        }
+        final boolean isStoredRaw = (compressedField & BlockCompressedOutputStream.RAW_FLAG) != 0;
+        final int compressedLength = compressedField & ~BlockCompressedOutputStream.RAW_FLAG;
+        if (rawLength < 0 || compressedLength < 0 || (isStoredRaw && compressedLength != rawLength)) {
+            throw new IOException("Corrupt block header (length " + rawLength + ", compressed length "
+                + compressedLength + ")");
+        }
+        if (m_block.length < rawLength) {
+            m_block = new byte[rawLength];
+        }
+        if (isStoredRaw) {
+            readFully(m_block, rawLength);
+        } else {
+            if (m_compressed.length < compressedLength) {
+                m_compressed = new byte[compressedLength];
+            }
+            readFully(m_compressed, compressedLength);
+            m_codec.decompress(m_compressed, 0, compressedLength, m_block, 0, rawLength);
+        }
+        m_blockLength = rawLength;
+        m_blockPos = 0;
+        return true;
+    }
+
+    private void readFully(final byte[] b, final int len) throws IOException {
+        int off = 0;
+        while (off < len) {
+            int count = m_in.read(b, off, len - off);
+            if (count < 0) {
+                throw new EOFException("Unexpected end of " + m_codec.getName()
+                    + " compressed stream (truncated file?)");
+            }
+            off += count;
+        }
+    }
+
+    private static int getInt(final byte[] b, final int off) {
+        return ((b[off] & 0xFF) << 24) | ((b[off + 1] & 0xFF) << 16) | ((b[off + 2] & 0xFF) << 8)
+            | (b[off + 3] & 0xFF);
+    }
+
+}
@@ -0,0 +1,301 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container.storage;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Output stream that splits the data into blocks of fixed size and compresses each of them independently using a
+ * {@link BlockCompressionCodec}. Each block is written as a frame
+ *
+ * <pre>
+ * int rawLength, int compressedLength (highest bit set if the block is stored uncompressed), byte[] data
+ * </pre>
+ *
+ * and the stream is terminated by a frame with <code>rawLength</code> 0. Blocks can optionally be compressed in a
+ * thread pool of fixed size shared by all streams, they are written in order. Read using
+ * {@link BlockCompressedInputStream}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.6
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class BlockCompressedOutputStream extends OutputStream {
+
+    /** Default size of an uncompressed block. */
+    public static final int DEFAULT_BLOCK_SIZE = 1 << 18;
+
+    /** Bit in the compressed length of a frame indicating the block is stored raw. */
+    static final int RAW_FLAG = 0x80000000;
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    /** Number of threads in the pool shared by all parallel compressing streams. */
+    private static final int COMPRESSION_POOL_SIZE = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private static ExecutorService compressionPool;
+
+    private final OutputStream m_out;
+
+    private final BlockCompressionCodec m_codec;
+
+    private final int m_blockSize;
+
+    private final ExecutorService m_executor;
+
+    private final int m_maxPendingBlocks;
+
+    private final Deque<Future<byte[]>> m_pendingBlocks = new ArrayDeque<>();
+
+    private byte[] m_buffer;
+
+    private int m_bufferPos;
+
+    private boolean m_isClosed;
+
+    /**
+     * Creates a stream compressing blocks in the calling thread.
+     *
+     * @param out to write to
+     * @param codec the codec, not null
+     */
+    public BlockCompressedOutputStream(final OutputStream out, final BlockCompressionCodec codec) {
+        this(out, codec, DEFAULT_BLOCK_SIZE, 1);
+    }
+
+    /**
+     * Creates a new stream.
+     *
+     * @param out to write to
+     * @param codec the codec, not null
+     * @param blockSize size of an uncompressed block, &gt; 0
+     * @param nrThreads number of blocks compressed concurrently by this stream in the shared pool, which has a
+     *            fixed size of one thread per processor (a value &lt;= 1 will compress in the calling thread)
+     */
+    public BlockCompressedOutputStream(final OutputStream out, final BlockCompressionCodec codec,
+        final int blockSize, final int nrThreads) {
+        if (out == null || codec == null) {
+            throw new NullPointerException("Arguments must not be null");
+        }
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Block size must be positive: " + blockSize);
+        }
+        m_out = out;
+        m_codec = codec;
+        m_blockSize = blockSize;
+        m_executor = nrThreads > 1 ? getCompressionPool() : null;
+        m_maxPendingBlocks = 2 * Math.min(nrThreads, COMPRESSION_POOL_SIZE);
+        m_buffer = new byte[blockSize];
+    }
+
+    /**
+     * Lazily creates the pool of daemon threads used by all parallel compressing streams. The pool is never shut
+     * down (streams keep a reference to it), idle threads terminate after a minute.
+     */
+    private static synchronized ExecutorService getCompressionPool() {
+        if (compressionPool == null) {
+            ThreadFactory factory = r -> {
+                Thread t = new Thread(r, "KNIME-Table-Compressor-" + THREAD_COUNTER.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            };
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(COMPRESSION_POOL_SIZE, COMPRESSION_POOL_SIZE, 60,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(), factory);
+            pool.allowCoreThreadTimeOut(true);
+            compressionPool = pool;
+        }
+        return compressionPool;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void write(final int b) throws IOException {
+        ensureOpen();
+        if (m_bufferPos == m_blockSize) {
+            flushBlock();
+        }
+        m_buffer[m_bufferPos++] = (byte)b;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        ensureOpen();
+        int offset = off;
+        int remaining = len;
+        while (remaining > 0) {
+            if (m_bufferPos == m_blockSize) {
+                flushBlock();
+            }
+            int count = Math.min(remaining, m_blockSize - m_bufferPos);
+            System.arraycopy(b, offset, m_buffer, m_bufferPos, count);
+            m_bufferPos += count;
+            offset += count;
+            remaining -= count;
+        }
+    }
+
+    /**
+     * Writes all blocks that are pending in the thread pool and flushes the underlying stream. A partially filled
+     * block is not written (a block is only written when full or when the stream is closed).
+     * {@inheritDoc}
+     */
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        while (!m_pendingBlocks.isEmpty()) {
+            writePendingBlock();
+        }
+        m_out.flush();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+        if (m_isClosed) {
+            return;
+        }
+        try {
+            if (m_bufferPos > 0) {
+                flushBlock();
+            }
+            while (!m_pendingBlocks.isEmpty()) {
+                writePendingBlock();
+            }
+            writeInt(m_out, 0);
+            writeInt(m_out, 0);
+        } finally {
+            m_isClosed = true;
+            m_buffer = null;
+            m_out.close();
+        }
+    }
+
+    private void flushBlock() throws IOException {
+        ensureOpen();
+        final byte[] block = m_buffer;
+        final int length = m_bufferPos;
+        if (m_executor == null) {
+            m_out.write(compressBlock(block, length));
+        } else {
+            while (m_pendingBlocks.size() >= m_maxPendingBlocks) {
+                writePendingBlock();
+            }
+            m_pendingBlocks.addLast(m_executor.submit(() -> compressBlock(block, length)));
+            m_buffer = new byte[m_blockSize];
+        }
+        m_bufferPos = 0;
+    }
+
+    private void writePendingBlock() throws IOException {
+        Future<byte[]> future = m_pendingBlocks.removeFirst();
+        try {
+            m_out.write(future.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for block compression");
+        } catch (ExecutionException e) {
+            throw new IOException("Unable to compress block: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    /** Compresses a block and returns the full frame (header and data). */
+    private byte[] compressBlock(final byte[] block, final int length) {
+        byte[] frame = new byte[8 + m_codec.maxCompressedLength(length)];
+        int compressedLength = m_codec.compress(block, 0, length, frame, 8);
+        int frameLength;
+        if (compressedLength >= length) {
+            System.arraycopy(block, 0, frame, 8, length);
+            putInt(frame, 4, length | RAW_FLAG);
+            frameLength = 8 + length;
+        } else {
+            putInt(frame, 4, compressedLength);
+            frameLength = 8 + compressedLength;
+        }
+        putInt(frame, 0, length);
+        if (frameLength == frame.length) {
+            return frame;
+        }
+        byte[] result = new byte[frameLength];
+        System.arraycopy(frame, 0, result, 0, frameLength);
+        return result;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (m_isClosed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    private static void putInt(final byte[] b, final int off, final int value) {
+        b[off] = (byte)(value >>> 24);
+        b[off + 1] = (byte)(value >>> 16);
+        b[off + 2] = (byte)(value >>> 8);
+        b[off + 3] = (byte)value;
+    }
+
+    private static void writeInt(final OutputStream out, final int value) throws IOException {
+        out.write(value >>> 24);
+        out.write(value >>> 16);
+        out.write(value >>> 8);
+        out.write(value);
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container.storage;
+
+import java.io.IOException;
+
+/**
+ * A codec that compresses independent blocks of bytes. Codecs are stateless and thread-safe, which allows blocks of
+ * a stream to be compressed concurrently (see {@link BlockCompressedOutputStream}).
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.6
+ * @noreference This interface is not intended to be referenced by clients.
+ */
+public interface BlockCompressionCodec {
+
+    /** @return non-blank name of the codec, e.g. "LZ4". */
+    public String getName();
+
+    /**
+     * @param length length of an uncompressed block
+     * @return upper bound of the compressed length of a block of the given length
+     */
+    public int maxCompressedLength(int length);
+
+    /**
+     * Compresses a block.
+     *
+     * @param src the uncompressed data
+     * @param srcOff offset in <code>src</code>
+     * @param srcLength number of bytes to compress
+     * @param dest destination array, must have at least {@link #maxCompressedLength(int)} bytes available after
+     *            <code>destOff</code>
+     * @param destOff offset in <code>dest</code>
+     * @return number of bytes written to <code>dest</code>
+     */
+    public int compress(byte[] src, int srcOff, int srcLength, byte[] dest, int destOff);
+
+    /**
+     * Decompresses a block previously written with {@link #compress(byte[], int, int, byte[], int)}.
+     *
+     * @param src the compressed data
+     * @param srcOff offset in <code>src</code>
+     * @param srcLength number of compressed bytes
+     * @param dest destination array
+     * @param destOff offset in <code>dest</code>
+     * @param uncompressedLength the expected number of uncompressed bytes
+     * @throws IOException if the data is corrupt
+     */
+    public void decompress(byte[] src, int srcOff, int srcLength, byte[] dest, int destOff, int uncompressedLength)
+        throws IOException;
+
+}
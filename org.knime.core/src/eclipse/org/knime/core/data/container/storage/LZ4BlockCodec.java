@@ -0,0 +1,187 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.container.storage;
+
+import java.io.IOException;
+
+/**
+ * Pure Java implementation of the LZ4 block format: a sequence of tokens, each holding a literal run followed by a
+ * match with a 2-byte little endian offset. Very fast in both directions at a moderate compression ratio.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.6
+ * @noreference This class is not intended to be referenced by clients.
+ */
+public final class LZ4BlockCodec extends AbstractLZBlockCodec {
+
+    private static final int RUN_MASK = 0x0F;
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName() {
+        return "LZ4";
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int maxCompressedLength(final int length) {
+        return length + length / 255 + 16;
+    }
+
+    @Override
+    int writeHeader(final byte[] dest, final int d, final int uncompressedLength) {
+        return d;
+    }
+
+    @Override
+    int writeSequence(final byte[] src, final int literalStart, final int literalLength, final int offset,
+        final int matchLength, final byte[] dest, final int dArg) {
+        int d = dArg;
+        final int tokenPos = d++;
+        int token;
+        if (literalLength >= RUN_MASK) {
+            token = RUN_MASK << 4;
+            d = writeLength(literalLength - RUN_MASK, dest, d);
+        } else {
+            token = literalLength << 4;
+        }
+        System.arraycopy(src, literalStart, dest, d, literalLength);
+        d += literalLength;
+        dest[d++] = (byte)offset;
+        dest[d++] = (byte)(offset >>> 8);
+        final int ml = matchLength - MIN_MATCH;
+        if (ml >= RUN_MASK) {
+            token |= RUN_MASK;
+            d = writeLength(ml - RUN_MASK, dest, d);
+        } else {
+            token |= ml;
+        }
+        dest[tokenPos] = (byte)token;
+        return d;
+    }
+
+    @Override
+    int writeLastLiterals(final byte[] src, final int literalStart, final int literalLength, final byte[] dest,
+        final int dArg) {
+        int d = dArg;
+        if (literalLength >= RUN_MASK) {
+            dest[d++] = (byte)(RUN_MASK << 4);
+            d = writeLength(literalLength - RUN_MASK, dest, d);
+        } else {
+            dest[d++] = (byte)(literalLength << 4);
+        }
+        System.arraycopy(src, literalStart, dest, d, literalLength);
+        return d + literalLength;
+    }
+
+    private static int writeLength(final int length, final byte[] dest, final int dArg) {
+        int d = dArg;
+        int remaining = length;
+        while (remaining >= 0xFF) {
+            dest[d++] = (byte)0xFF;
+            remaining -= 0xFF;
+        }
+        dest[d++] = (byte)remaining;
+        return d;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void decompress(final byte[] src, final int srcOff, final int srcLength, final byte[] dest,
+        final int destOff, final int uncompressedLength) throws IOException {
+        final int srcEnd = srcOff + srcLength;
+        final int destEnd = destOff + uncompressedLength;
+        int s = srcOff;
+        int d = destOff;
+        try {
+            while (s < srcEnd) {
+                final int token = src[s++] & 0xFF;
+                int literalLength = token >>> 4;
+                if (literalLength == RUN_MASK) {
+                    int b;
+                    do {
+                        b = src[s++] & 0xFF;
+                        literalLength += b;
+                    } while (b == 0xFF);
+                }
+                if (d + literalLength > destEnd) {
+                    throw new IOException("Literal run exceeds block size");
+                }
+                System.arraycopy(src, s, dest, d, literalLength);
+                s += literalLength;
+                d += literalLength;
+                if (s >= srcEnd) {
+                    break; // last literals
+                }
+                final int offset = (src[s++] & 0xFF) | ((src[s++] & 0xFF) << 8);
+                int matchLength = token & RUN_MASK;
+                if (matchLength == RUN_MASK) {
+                    int b;
+                    do {
+                        b = src[s++] & 0xFF;
+                        matchLength += b;
+                    } while (b == 0xFF);
+                }
+                matchLength += MIN_MATCH;
+                final int ref = d - offset;
+                if (offset == 0 || ref < destOff || d + matchLength > destEnd) {
+                    throw new IOException("Invalid match (offset " + offset + ", length " + matchLength + ")");
+                }
+                copyMatch(dest, ref, d, matchLength);
+                d += matchLength;
+            }
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new IOException("Corrupt LZ4 block", e);
+        }
+        if (d != destEnd) {
+            throw new IOException("LZ4 block decompressed to " + (d - destOff) + " bytes, expected "
+                + uncompressedLength);
+        }
+    }
+
+}
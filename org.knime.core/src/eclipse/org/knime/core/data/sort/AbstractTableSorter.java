@@ -62,6 +62,7 @@
 import java.util.PriorityQueue;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.Future;
 
 import org.knime.core.data.DataCell;
 import org.knime.core.data.DataColumnSpec;
@@ -71,13 +72,16 @@
 import org.knime.core.data.DataTableSpec;
 import org.knime.core.data.DataType;
 import org.knime.core.data.DataValueComparator;
+import org.knime.core.data.container.CloseableRowIterator;
 import org.knime.core.data.container.DataContainer;
 import org.knime.core.data.def.StringCell;
+import org.knime.core.data.sort.NormalizedSortKeys.KeyedRow;
 import org.knime.core.data.util.memory.MemoryAlertSystem;
 import org.knime.core.data.util.memory.MemoryAlertSystem.MemoryActionIndicator;
 import org.knime.core.node.BufferedDataTable;
 import org.knime.core.node.CanceledExecutionException;
 import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
 
 /**
@@ -98,6 +102,13 @@ abstract class AbstractTableSorter {
      */
     public static final int DEF_MAX_OPENCONTAINER = 40;
 
+    /**
+     * The maximum number of rows selected in memory if only the first rows are retained. See {@link #setTopK(int)}
+     * for details.
+     * @since 3.6
+     */
+    public static final int DEF_MAX_TOPK_IN_MEMORY = 100000;
+
     private MemoryAlertSystem m_memService = MemoryAlertSystem.getInstance();
 
     private final DataTable m_inputTable;
@@ -116,11 +127,26 @@ abstract class AbstractTableSorter {
      */
     private int m_maxRowsPerChunk = Integer.MAX_VALUE;
 
+    /**
+     * Maximum number of rows selected in memory, larger selections are sorted on disk. Only changed in unit test.
+     * Defaults to {@link #DEF_MAX_TOPK_IN_MEMORY}.
+     */
+    private int m_maxTopKInMemory = DEF_MAX_TOPK_IN_MEMORY;
+
     private boolean m_sortInMemory = false;
 
+    private boolean m_parallelSort = SortExecutor.isParallelSortAvailable();
+
+    /** Number of rows to retain, see {@link #setTopK(int)}; negative if all rows are sorted. */
+    private int m_topK = -1;
+
     /** The RowComparator to compare two DataRows (inner class). */
     private Comparator<DataRow> m_rowComparator;
 
+    /** Keys extracted from the rows, only set if sorted according to {@link #setSortColumns(Collection, boolean[])},
+     * otherwise null (a custom row comparator is used). */
+    private NormalizedSortKeys m_sortKeys;
+
     private DataContainer m_currentContainer;
 
     private Queue<Iterable<DataRow>> m_chunksContainer = new LinkedList<Iterable<DataRow>>();
@@ -278,6 +304,7 @@ public void setRowComparator(final Comparator<DataRow> rowComparator) {
             throw new NullPointerException("Argument must not be null.");
         }
         m_rowComparator = rowComparator;
+        m_sortKeys = null;
     }
 
     /**
@@ -323,8 +350,14 @@ public void setSortColumns(final Collection<String> inclList, final boolean[] so
                 throw new IllegalArgumentException("Argument collection must " + "not contain duplicates: " + inclList);
             }
         }
-        int[] indices = new int[sortAscending.length];
         final DataTableSpec spec = m_inputTable.getDataTableSpec();
+        int[] indices = findSortColumnIndices(spec, inclList);
+        setRowComparator(new RowComparator(indices, sortAscending, sortMissingsToEnd, spec));
+        m_sortKeys = NormalizedSortKeys.create(indices, sortAscending, sortMissingsToEnd, spec);
+    }
+
+    private static int[] findSortColumnIndices(final DataTableSpec spec, final Collection<String> inclList) {
+        int[] indices = new int[inclList.size()];
         int curIndex = 0;
         for (String name : inclList) {
             int index = spec.findColumnIndex(name);
@@ -333,7 +366,34 @@ public void setSortColumns(final Collection<String> inclList, final boolean[] so
             }
             indices[curIndex++] = index;
         }
-        setRowComparator(new RowComparator(indices, sortAscending, sortMissingsToEnd, spec));
+        return indices;
+    }
+
+    /**
+     * Creates the comparator that is used by a sorter configured with
+     * {@link #setSortColumns(Collection, boolean[], boolean)} on a table with the given spec. Useful to process rows
+     * that are not available as a table, for instance to select the first rows of a stream with a
+     * {@link TopKSelector}.
+     *
+     * @param spec the spec of the rows to compare
+     * @param inclList the columns to sort by, see {@link #setSortColumns(Collection, boolean[], boolean)}
+     * @param sortAscending the sort order for each column
+     * @param sortMissingsToEnd whether to sort missing values always to the end
+     * @return a new comparator
+     * @throws NullPointerException If any argument is null.
+     * @throws IllegalArgumentException If arguments are inconsistent.
+     * @since 3.6
+     */
+    public static Comparator<DataRow> createRowComparator(final DataTableSpec spec,
+        final Collection<String> inclList, final boolean[] sortAscending, final boolean sortMissingsToEnd) {
+        if (spec == null || sortAscending == null || inclList == null) {
+            throw new NullPointerException("Argument must not be null.");
+        }
+        if (inclList.size() != sortAscending.length) {
+            throw new IllegalArgumentException("Length of arguments vary: " + inclList.size() + " vs. "
+                + sortAscending.length);
+        }
+        return new RowComparator(findSortColumnIndices(spec, inclList), sortAscending, sortMissingsToEnd, spec);
     }
 
     /**
@@ -372,6 +432,16 @@ void setMaxRows(final int maxRows) {
         m_maxRowsPerChunk = maxRows;
     }
 
+    /**
+     * Set the maximum number of rows selected in memory, defaults to {@link #DEF_MAX_TOPK_IN_MEMORY}. This field is
+     * modified from the testing framework.
+     *
+     * @param maxRows the maximum number of rows selected in memory
+     */
+    void setMaxTopKInMemory(final int maxRows) {
+        m_maxTopKInMemory = maxRows;
+    }
+
     /**
      * Set memory service. Used in unit test.
      *
@@ -405,6 +475,58 @@ public void setSortInMemory(final boolean sortInMemory) {
         m_sortInMemory = sortInMemory;
     }
 
+    /**
+     * @return the parallelSort field, see {@link #setParallelSort(boolean)} for details.
+     * @since 3.6
+     */
+    public boolean isParallelSort() {
+        return m_parallelSort;
+    }
+
+    /**
+     * Sorts and merges chunks of the table concurrently (if argument is true). The chunks are sorted and merged in a
+     * sub pool of the {@link KNIMEConstants#GLOBAL_THREAD_POOL} shared by all sorters, whose size is set via
+     * {@link KNIMEConstants#PROPERTY_SORT_THREADS}. Rows that compare equal retain their order in the input table.
+     *
+     * <p>
+     * The default value for this option is <b>true</b> unless parallel sorting is disabled via the property, in
+     * which case this method has no effect.
+     *
+     * @param parallelSort <code>true</code> to sort in parallel, <code>false</code> to sort in the calling thread.
+     * @since 3.6
+     */
+    public void setParallelSort(final boolean parallelSort) {
+        m_parallelSort = parallelSort && SortExecutor.isParallelSortAvailable();
+    }
+
+    /**
+     * @return the number of rows retained in the output, see {@link #setTopK(int)} for details; negative if all rows
+     *         are sorted
+     * @since 3.6
+     */
+    public int getTopK() {
+        return m_topK;
+    }
+
+    /**
+     * Restricts the output to the first <code>k</code> rows of the sorted table (if argument is not negative). If
+     * <code>k</code> is small, the rows are selected in a single pass over the input using a {@link TopKSelector},
+     * which keeps at most <code>k</code> rows in memory and takes <i>O(n log k)</i> time; the full sorted table is
+     * never written. Larger selections, and selections that run low on memory (unless sorting in memory is forced via
+     * {@link #setSortInMemory(boolean)}), are sorted on disk as described in the class description and only the first
+     * <code>k</code> rows are written to the output. Rows that compare equal retain their order in the input table,
+     * hence the output equals the first <code>k</code> rows of the fully sorted table.
+     *
+     * <p>
+     * The default value for this option is <b>-1</b> (sort all rows).
+     *
+     * @param k the number of rows to retain or a negative number to sort all rows
+     * @since 3.6
+     */
+    public void setTopK(final int k) {
+        m_topK = k < 0 ? -1 : k;
+    }
+
     /**
      * Sorts the table passed in the constructor according to the settings and returns the sorted output table.
      *
@@ -414,7 +536,12 @@ public void setSortInMemory(final boolean sortInMemory) {
      */
     DataTable sortInternal(final ExecutionMonitor exec) throws CanceledExecutionException {
         DataTable result;
-        if (m_sortInMemory && (m_rowsInInputTable <= Integer.MAX_VALUE)) {
+        if (m_topK >= 0 && (m_rowsInInputTable < 0 || m_topK < m_rowsInInputTable)) {
+            result = m_sortInMemory || m_topK <= m_maxTopKInMemory ? selectTopK(exec) : null;
+            if (result == null) {
+                result = sortOnDisk(exec);
+            }
+        } else if (m_sortInMemory && (m_rowsInInputTable <= Integer.MAX_VALUE)) {
             result = sortInMemory(exec);
         } else {
             if (m_rowsInInputTable > Integer.MAX_VALUE) {
@@ -451,7 +578,7 @@ private DataTable sortInMemory(final ExecutionMonitor exec) throws CanceledExecu
         }
 
         exec.setMessage("Sorting");
-        Collections.sort(rowList, m_rowComparator);
+        sortRows(rowList, m_parallelSort, exec);
 
         exec.setMessage("Creating sorted table");
 
@@ -472,6 +599,46 @@ private DataTable sortInMemory(final ExecutionMonitor exec) throws CanceledExecu
         return dc.getTable();
     }
 
+    /**
+     * Selects the first rows in memory.
+     *
+     * @return the selected rows or null if memory ran low, in which case the table needs to be sorted on disk
+     */
+    private DataTable selectTopK(final ExecutionMonitor exec) throws CanceledExecutionException {
+        final TopKSelector<DataRow> selector = new TopKSelector<DataRow>(m_rowComparator, m_topK);
+        final long rowCount = m_rowsInInputTable;
+        final MemoryActionIndicator memObservable = m_memService.newIndicator();
+        exec.setMessage("Selecting first " + m_topK + " rows");
+        final ExecutionMonitor readExec = exec.createSubProgress(0.9);
+        long progress = 0;
+        for (final DataRow r : m_inputTable) {
+            readExec.checkCanceled();
+            if (rowCount > 0) {
+                readExec.setProgress(progress / (double)rowCount, r.getKey().getString());
+            } else {
+                readExec.setMessage(r.getKey() + " (row " + progress + ")");
+            }
+            selector.add(r);
+            progress++;
+            if (!m_sortInMemory && selector.size() >= m_maxOpenContainers
+                && memObservable.lowMemoryActionRequired()) {
+                LOGGER.debug("Low memory while selecting first " + m_topK + " rows (" + selector.size()
+                    + " selected) - sorting on disk - mem usage: " + getMemUsage());
+                selector.clear();
+                return null;
+            }
+        }
+
+        exec.setMessage("Creating sorted table");
+        final DataContainer dc = createDataContainer(m_inputTable.getDataTableSpec(), false);
+        for (DataRow r : selector.getSelection()) {
+            exec.checkCanceled();
+            dc.addRowToTable(r);
+        }
+        dc.close();
+        return dc.getTable();
+    }
+
     /**
      * Creates data container, either a buffered data container or a plain one.
      *
@@ -504,7 +671,7 @@ private DataTable sortOnDisk(final ExecutionMonitor exec) throws CanceledExecuti
         long counter = createInitialChunks(exec, dataTable);
         // no or one row only in input table, can exit immediately
         // (can't rely on global rowCount - might not be set)
-        if (counter <= 1) {
+        if (counter <= 1 && (m_topK < 0 || counter <= m_topK)) {
             return m_inputTable;
         }
 
@@ -517,9 +684,13 @@ private DataTable sortOnDisk(final ExecutionMonitor exec) throws CanceledExecuti
         // The final output container, leave it to the
         // system to do the caching (bug 1809)
         DataContainer resultContainer = createDataContainer(dataTable.getDataTableSpec(), false);
-        while (result.hasNext()) {
+        // only the first rows are written if restricted via setTopK
+        for (long i = 0; result.hasNext() && (m_topK < 0 || i < m_topK); i++) {
             resultContainer.addRowToTable(result.next());
         }
+        if (result instanceof MergingIterator) {
+            ((MergingIterator)result).clear();
+        }
         resultContainer.close();
         return resultContainer.getTable();
     }
@@ -533,6 +704,9 @@ private DataTable sortOnDisk(final ExecutionMonitor exec) throws CanceledExecuti
      */
     Iterator<DataRow> mergeChunks(final ExecutionMonitor exec, final boolean mergeCompletely)
         throws CanceledExecutionException {
+        if (m_parallelSort) {
+            mergeChunksInParallel(exec);
+        }
         while (!m_chunksContainer.isEmpty()) {
             exec.setMessage("Merging temporary tables, " + m_chunksContainer.size() + " remaining");
             if (m_chunksContainer.size() < m_maxOpenContainers) {
@@ -550,7 +724,8 @@ Iterator<DataRow> mergeChunks(final ExecutionMonitor exec, final boolean mergeCo
             Queue<MergeEntry> containersToMerge = new ArrayDeque<>();
 
             for (int i = 0; !m_chunksContainer.isEmpty() && i < m_maxOpenContainers; i++) {
-                containersToMerge.add(new MergeEntry(m_chunksContainer.poll(), i, m_rowComparator));
+                containersToMerge.add(
+                    new MergeEntry(m_chunksContainer.poll(), i, m_rowComparator, m_sortKeys, true));
             }
 
             MergingIterator mergingIterator = new MergingIterator(containersToMerge);
@@ -585,73 +760,252 @@ private long createInitialChunks(final ExecutionMonitor exec, final DataTable da
         ArrayList<DataRow> buffer = new ArrayList<DataRow>();
         long chunkStartRow = 0;
         int rowsInCurrentChunk = 0;
+        // chunks sorted and written concurrently, in the order of the input
+        final Queue<PendingChunk> pendingChunks = new ArrayDeque<>();
+        long pendingRows = 0;
 
         MemoryActionIndicator memObservable = m_memService.newIndicator();
 
         exec.setMessage("Reading table");
-        for (Iterator<DataRow> iter = dataTable.iterator(); iter.hasNext();) {
-            counter++;
-            rowsInCurrentChunk++;
-            exec.checkCanceled();
-            String message = "Reading table, " + counter + " rows read";
-            if (m_rowsInInputTable > 0) {
-                m_progress += m_incProgress;
-                exec.setProgress(m_progress, message);
-            } else {
-                exec.setMessage(message);
-            }
-            DataRow row = iter.next();
-            buffer.add(row);
-            if ((memObservable.lowMemoryActionRequired() && (rowsInCurrentChunk >= m_maxOpenContainers))
-                || (counter % m_maxRowsPerChunk == 0)) {
-                LOGGER.debug("Writing chunk [" + chunkStartRow + ":" + counter + "] - mem usage: " + getMemUsage());
+        try {
+            for (Iterator<DataRow> iter = dataTable.iterator(); iter.hasNext();) {
+                counter++;
+                rowsInCurrentChunk++;
+                exec.checkCanceled();
+                String message = "Reading table, " + counter + " rows read";
                 if (m_rowsInInputTable > 0) {
-                    long estimatedIncrements = m_rowsInInputTable - counter + buffer.size();
-                    m_incProgress = (0.5 - m_progress) / estimatedIncrements;
+                    m_progress += m_incProgress;
+                    exec.setProgress(m_progress, message);
+                } else {
+                    exec.setMessage(message);
                 }
-                exec.setMessage("Sorting temporary buffer");
-                // sort buffer
-                Collections.sort(buffer, m_rowComparator);
-                // write buffer to disk
-                openChunk();
-                final int totalBufferSize = buffer.size();
-                for (int i = 0; i < totalBufferSize; i++) {
-                    exec.setMessage("Writing temporary table -- " + i + "/" + totalBufferSize);
-                    // must not use Iterator#remove as it causes
-                    // array copies
-                    DataRow next = buffer.set(i, null);
-                    addRowToChunk(next);
-                    exec.checkCanceled();
+                DataRow row = iter.next();
+                buffer.add(row);
+                final boolean isLowMemory =
+                    memObservable.lowMemoryActionRequired() && (rowsInCurrentChunk >= m_maxOpenContainers);
+                if (isLowMemory || (counter % m_maxRowsPerChunk == 0)) {
+                    LOGGER.debug("Writing chunk [" + chunkStartRow + ":" + counter + "] - mem usage: "
+                        + getMemUsage());
                     if (m_rowsInInputTable > 0) {
-                        m_progress += m_incProgress;
-                        exec.setProgress(m_progress);
+                        long estimatedIncrements = m_rowsInInputTable - counter + buffer.size() + pendingRows;
+                        m_incProgress = (0.5 - m_progress) / estimatedIncrements;
+                    }
+                    if (m_parallelSort) {
+                        // sort and write in the pool while the next chunk is read
+                        pendingChunks.add(submitSortChunk(buffer, exec));
+                        pendingRows += buffer.size();
+                        buffer = new ArrayList<DataRow>();
+                        // don't keep more rows in memory than necessary when memory is low
+                        while (!pendingChunks.isEmpty()
+                            && (isLowMemory || pendingChunks.size() >= SortExecutor.getParallelism())) {
+                            pendingRows -= completeChunk(pendingChunks.poll(), m_chunksContainer, exec);
+                        }
+                    } else {
+                        exec.setMessage("Sorting temporary buffer");
+                        // sort buffer
+                        sortRows(buffer, false, exec);
+                        // write buffer to disk
+                        openChunk();
+                        final int totalBufferSize = buffer.size();
+                        for (int i = 0; i < totalBufferSize; i++) {
+                            exec.setMessage("Writing temporary table -- " + i + "/" + totalBufferSize);
+                            // must not use Iterator#remove as it causes
+                            // array copies
+                            DataRow next = buffer.set(i, null);
+                            addRowToChunk(next);
+                            exec.checkCanceled();
+                            if (m_rowsInInputTable > 0) {
+                                m_progress += m_incProgress;
+                                exec.setProgress(m_progress);
+                            }
+                        }
+                        buffer.clear();
+                        closeChunk();
                     }
-                }
-                buffer.clear();
-                closeChunk();
 
-                LOGGER.debug("Wrote chunk [" + chunkStartRow + ":" + counter + "] - mem usage: " + getMemUsage());
-                chunkStartRow = counter + 1;
-                rowsInCurrentChunk = 0;
+                    LOGGER.debug("Wrote chunk [" + chunkStartRow + ":" + counter + "] - mem usage: "
+                        + getMemUsage());
+                    chunkStartRow = counter + 1;
+                    rowsInCurrentChunk = 0;
+                }
             }
+            while (!pendingChunks.isEmpty()) {
+                completeChunk(pendingChunks.poll(), m_chunksContainer, exec);
+            }
+        } finally {
+            cancelChunks(pendingChunks);
         }
         // Add buffer to the chunks
         if (!buffer.isEmpty()) {
             // sort buffer
-            Collections.sort(buffer, m_rowComparator);
+            sortRows(buffer, m_parallelSort, exec);
             m_chunksContainer.add(buffer);
         }
         outerCounter = counter;
         return outerCounter;
     }
 
+    /**
+     * Sorts the rows according to the row comparator. If sorted by columns, the keys of the rows are extracted once
+     * (see {@link NormalizedSortKeys}) instead of calling the comparators of the column types for each comparison.
+     *
+     * @param rows the rows to sort, sorted in place
+     * @param parallel whether to use all sort threads
+     * @param exec to check for cancelation
+     * @throws CanceledExecutionException if canceled
+     */
+    private void sortRows(final List<DataRow> rows, final boolean parallel, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        final int size = rows.size();
+        if (m_sortKeys == null) {
+            DataRow[] array = rows.toArray(new DataRow[size]);
+            SortExecutor.sort(array, m_rowComparator, parallel, exec);
+            for (int i = 0; i < size; i++) {
+                rows.set(i, array[i]);
+            }
+        } else {
+            KeyedRow[] array = new KeyedRow[size];
+            for (int i = 0; i < size; i++) {
+                array[i] = m_sortKeys.extract(rows.get(i));
+            }
+            SortExecutor.sort(array, m_sortKeys, parallel, exec);
+            for (int i = 0; i < size; i++) {
+                rows.set(i, array[i].getRow());
+            }
+        }
+    }
+
+    /**
+     * Submits a task to the pool that sorts the rows and writes them into a new chunk container. The container is
+     * created in the calling thread; it's closed by {@link #completeChunk(PendingChunk, Queue, ExecutionMonitor)}.
+     */
+    private PendingChunk submitSortChunk(final List<DataRow> rows, final ExecutionMonitor exec) {
+        final DataContainer container = createChunkContainer();
+        final Future<Long> future = SortExecutor.submit(() -> {
+            sortRows(rows, false, exec);
+            final int size = rows.size();
+            for (int i = 0; i < size; i++) {
+                container.addRowToTable(rows.set(i, null));
+                exec.checkCanceled();
+            }
+            return (long)size;
+        });
+        return new PendingChunk(container, future, Collections.<Iterable<DataRow>> emptyList());
+    }
+
+    /**
+     * Submits a task to the pool that merges the chunks into a new chunk container. The chunks are cleared by
+     * {@link #completeChunk(PendingChunk, Queue, ExecutionMonitor)}.
+     */
+    private PendingChunk submitMergeChunks(final List<Iterable<DataRow>> chunks, final ExecutionMonitor exec) {
+        final DataContainer container = createChunkContainer();
+        final Queue<MergeEntry> entries = new ArrayDeque<>();
+        for (int i = 0; i < chunks.size(); i++) {
+            entries.add(new MergeEntry(chunks.get(i), i, m_rowComparator, m_sortKeys, false));
+        }
+        final Future<Long> future = SortExecutor.submit(() -> {
+            long count = 0;
+            for (MergingIterator it = new MergingIterator(entries); it.hasNext();) {
+                container.addRowToTable(it.next());
+                count++;
+                exec.checkCanceled();
+            }
+            return count;
+        });
+        return new PendingChunk(container, future, chunks);
+    }
+
+    /**
+     * Waits for the task of the chunk, closes its container, adds the table to the argument queue and clears the
+     * chunks that have been merged into it. Updates the progress by the number of rows written.
+     *
+     * @return the number of rows in the chunk
+     */
+    private long completeChunk(final PendingChunk chunk, final Queue<Iterable<DataRow>> chunks,
+        final ExecutionMonitor exec) throws CanceledExecutionException {
+        final long rowCount = SortExecutor.waitFor(chunk.m_future, exec);
+        chunk.m_container.close();
+        if (rowCount > 0) {
+            chunks.offer(chunk.m_container.getTable());
+        } else {
+            clearTable(chunk.m_container.getTable());
+        }
+        for (Iterable<DataRow> mergedChunk : chunk.m_mergedChunks) {
+            if (mergedChunk instanceof DataTable) {
+                clearTable((DataTable)mergedChunk);
+            }
+        }
+        if (m_rowsInInputTable > 0) {
+            m_progress += rowCount * m_incProgress;
+            exec.setProgress(m_progress);
+        }
+        return rowCount;
+    }
+
+    /** Cancels the tasks of the chunks that haven't completed (called when sorting failed or was canceled). */
+    private static void cancelChunks(final Queue<PendingChunk> chunks) {
+        for (PendingChunk chunk : chunks) {
+            chunk.m_future.cancel(true);
+        }
+        chunks.clear();
+    }
+
+    /**
+     * Merges consecutive groups of at most {@link #m_maxOpenContainers} chunks concurrently until there are no more
+     * than {@link #m_maxOpenContainers} chunks left. Merging consecutive chunks retains the order of rows that
+     * compare equal.
+     */
+    private void mergeChunksInParallel(final ExecutionMonitor exec) throws CanceledExecutionException {
+        while (m_chunksContainer.size() > m_maxOpenContainers) {
+            final int chunkCount = m_chunksContainer.size();
+            exec.setMessage("Merging temporary tables, " + chunkCount + " remaining");
+            if (m_rowsInInputTable > 0) {
+                int rounds = 1;
+                for (int c = chunkCount; c > m_maxOpenContainers; c = (c + m_maxOpenContainers - 1)
+                    / m_maxOpenContainers) {
+                    rounds++;
+                }
+                m_incProgress = (1.0 - m_progress) / ((double)rounds * m_rowsInInputTable);
+            }
+            // distribute the chunks evenly, each group is merged by one task
+            final int groupCount = (chunkCount + m_maxOpenContainers - 1) / m_maxOpenContainers;
+            final Queue<Iterable<DataRow>> mergedChunks = new LinkedList<Iterable<DataRow>>();
+            final Queue<PendingChunk> pendingChunks = new ArrayDeque<>();
+            try {
+                for (int g = 0; g < groupCount; g++) {
+                    final int groupSize = chunkCount / groupCount + (g < chunkCount % groupCount ? 1 : 0);
+                    final List<Iterable<DataRow>> group = new ArrayList<>(groupSize);
+                    for (int i = 0; i < groupSize; i++) {
+                        group.add(m_chunksContainer.poll());
+                    }
+                    pendingChunks.add(submitMergeChunks(group, exec));
+                    while (pendingChunks.size() >= SortExecutor.getParallelism()) {
+                        completeChunk(pendingChunks.poll(), mergedChunks, exec);
+                    }
+                }
+                while (!pendingChunks.isEmpty()) {
+                    completeChunk(pendingChunks.poll(), mergedChunks, exec);
+                }
+            } finally {
+                cancelChunks(pendingChunks);
+            }
+            m_chunksContainer = mergedChunks;
+        }
+    }
+
     /**
      * Opens a chunk data container to accept rows using {@link #addRowToChunk(DataRow)}, {@link #closeChunk()} closes
      * the current container and adds it to the chunk list.
      */
     void openChunk() {
-        m_currentContainer = createDataContainer(m_dataTableSpec, true);
-        m_currentContainer.setMaxPossibleValues(0);
+        m_currentContainer = createChunkContainer();
+    }
+
+    /** @return a new container for a temporary chunk, flushing rows to disk immediately */
+    private DataContainer createChunkContainer() {
+        final DataContainer container = createDataContainer(m_dataTableSpec, true);
+        container.setMaxPossibleValues(0);
+        return container;
     }
 
     /**
@@ -693,9 +1047,30 @@ private String getMemUsage() {
         return "avail: " + availS + "MB, total: " + totalS + "MB, free: " + freeS + "MB";
     }
 
+    /** A chunk whose rows are written into a container by a task of the {@link SortExecutor}. */
+    private static final class PendingChunk {
+
+        private final DataContainer m_container;
+
+        private final Future<Long> m_future;
+
+        /** The chunks merged into this one, cleared when completed. */
+        private final List<Iterable<DataRow>> m_mergedChunks;
+
+        PendingChunk(final DataContainer container, final Future<Long> future,
+            final List<Iterable<DataRow>> mergedChunks) {
+            m_container = container;
+            m_future = future;
+            m_mergedChunks = mergedChunks;
+        }
+    }
+
     private final class MergeEntry implements Comparable<MergeEntry>, Iterator<DataRow> {
         private DataRow m_row;
 
+        /** The keys of the current row, only set if sorted by columns. */
+        private KeyedRow m_key;
+
         private Iterable<DataRow> m_iterable;
 
         private Iterator<DataRow> m_iterator;
@@ -704,26 +1079,52 @@ private final class MergeEntry implements Comparable<MergeEntry>, Iterator<DataR
 
         private Comparator<DataRow> m_comparator;
 
+        private final NormalizedSortKeys m_sortKeys;
+
+        private final boolean m_clearWhenDone;
+
         /**
-         * @param iterator
-         * @param index
-         * @param comparator
+         * @param iterable the chunk
+         * @param index the index of the chunk, rows of chunks with smaller index are returned first if equal
+         * @param comparator the row comparator
+         * @param sortKeys the sort keys or null (compare using the row comparator)
+         * @param clearWhenDone whether to clear the chunk after its last row has been read (only allowed in the
+         *            thread that created the chunk)
          */
-        MergeEntry(final Iterable<DataRow> iterable, final int index, final Comparator<DataRow> comparator) {
+        MergeEntry(final Iterable<DataRow> iterable, final int index, final Comparator<DataRow> comparator,
+            final NormalizedSortKeys sortKeys, final boolean clearWhenDone) {
             m_iterable = iterable;
             m_index = index;
             m_comparator = comparator;
+            m_sortKeys = sortKeys;
+            m_clearWhenDone = clearWhenDone;
         }
 
         private void open() {
             if (m_iterator == null) {
                 m_iterator = m_iterable.iterator();
                 if (m_iterator.hasNext()) {
-                    m_row = m_iterator.next();
+                    setRow(m_iterator.next());
                 }
             }
         }
 
+        private void setRow(final DataRow row) {
+            m_row = row;
+            m_key = row != null && m_sortKeys != null ? m_sortKeys.extract(row) : null;
+        }
+
+        /** Clears the chunk (if requested) although not all of its rows have been read. */
+        private void clear() {
+            if (m_iterator instanceof CloseableRowIterator) {
+                ((CloseableRowIterator)m_iterator).close();
+            }
+            setRow(null);
+            if (m_clearWhenDone && m_iterable instanceof DataTable) {
+                clearTable((DataTable)m_iterable);
+            }
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -731,7 +1132,7 @@ private void open() {
         public boolean hasNext() {
             // open the file lazily
             if (m_row == null) {
-                if (m_iterable instanceof DataTable) {
+                if (m_clearWhenDone && m_iterable instanceof DataTable) {
                     clearTable((DataTable)m_iterable);
                 }
                 return false;
@@ -749,7 +1150,7 @@ public DataRow next() {
                 throw new NoSuchElementException();
             }
             DataRow toReturn = m_row;
-            m_row = m_iterator.hasNext() ? m_iterator.next() : null;
+            setRow(m_iterator.hasNext() ? m_iterator.next() : null);
             return toReturn;
         }
 
@@ -766,7 +1167,8 @@ public void remove() {
          */
         @Override
         public int compareTo(final MergeEntry that) {
-            int value = m_comparator.compare(this.m_row, that.m_row);
+            int value = m_key != null && that.m_key != null ? m_sortKeys.compare(this.m_key, that.m_key)
+                : m_comparator.compare(this.m_row, that.m_row);
             if (value == 0) {
                 return this.m_index - that.m_index;
             } else {
@@ -840,6 +1242,14 @@ public boolean hasNext() {
             return !m_containerToMerge.isEmpty();
         }
 
+        /** Clears the chunks whose rows have not all been returned, e.g. if only the first rows are needed. */
+        private void clear() {
+            for (MergeEntry entry : m_containerToMerge) {
+                entry.clear();
+            }
+            m_containerToMerge.clear();
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -0,0 +1,270 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.sort;
+
+import java.util.Comparator;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.DataValueComparator;
+import org.knime.core.data.DoubleValue;
+import org.knime.core.data.DoubleValueComparator;
+import org.knime.core.data.IntValue;
+import org.knime.core.data.IntValueComparator;
+import org.knime.core.data.LongValue;
+import org.knime.core.data.LongValueComparator;
+import org.knime.core.data.StringValue;
+import org.knime.core.data.StringValueComparator;
+
+/**
+ * Extracts the sort columns of a row into a {@link KeyedRow} once so that sorting and merging compare primitive
+ * values instead of calling the {@link DataValueComparator} of each column. Int, long and double columns are
+ * normalized into <code>long</code> keys that compare like the values, string columns and the row key are kept as
+ * {@link String}; all other columns fall back to the comparator of the column type. Missing cells are recorded in a
+ * bit mask. The order defined by {@link #compare(KeyedRow, KeyedRow)} is identical to the one of the row comparator
+ * created by {@link AbstractTableSorter#setSortColumns(java.util.Collection, boolean[], boolean)}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class NormalizedSortKeys implements Comparator<NormalizedSortKeys.KeyedRow> {
+
+    /** Kinds of keys, determined by the comparator of the column type. */
+    private enum KeyKind {
+        INT, LONG, DOUBLE, STRING, ROW_KEY, GENERIC;
+    }
+
+    /** Maximum number of sort columns, limited by the bit mask of missing cells. */
+    static final int MAX_SORT_COLUMNS = Long.SIZE;
+
+    /** A row along with the keys extracted from it. */
+    static final class KeyedRow {
+
+        private final DataRow m_row;
+
+        private final long[] m_keys;
+
+        private final Object[] m_objects;
+
+        private final long m_missingMask;
+
+        private KeyedRow(final DataRow row, final long[] keys, final Object[] objects, final long missingMask) {
+            m_row = row;
+            m_keys = keys;
+            m_objects = objects;
+            m_missingMask = missingMask;
+        }
+
+        /** @return the row the keys were extracted from */
+        DataRow getRow() {
+            return m_row;
+        }
+    }
+
+    private final int[] m_indices;
+
+    private final KeyKind[] m_kinds;
+
+    private final DataValueComparator[] m_comparators;
+
+    private final boolean[] m_sortAscending;
+
+    private final boolean m_sortMissingsToEnd;
+
+    /** Whether any key is stored as long or object, used to avoid allocating unused arrays. */
+    private final boolean m_hasLongKeys;
+
+    private final boolean m_hasObjectKeys;
+
+    private NormalizedSortKeys(final int[] indices, final boolean[] sortAscending, final boolean sortMissingsToEnd,
+        final DataTableSpec spec) {
+        m_indices = indices;
+        m_sortAscending = sortAscending;
+        m_sortMissingsToEnd = sortMissingsToEnd;
+        m_kinds = new KeyKind[indices.length];
+        m_comparators = new DataValueComparator[indices.length];
+        boolean hasLongKeys = false;
+        boolean hasObjectKeys = false;
+        for (int i = 0; i < indices.length; i++) {
+            if (indices[i] == -1) {
+                m_kinds[i] = KeyKind.ROW_KEY;
+            } else {
+                final DataValueComparator comparator = spec.getColumnSpec(indices[i]).getType().getComparator();
+                m_comparators[i] = comparator;
+                // only use the exact comparator classes, subclasses may define a different order
+                final Class<?> comparatorClass = comparator.getClass();
+                if (comparatorClass == IntValueComparator.class) {
+                    m_kinds[i] = KeyKind.INT;
+                } else if (comparatorClass == LongValueComparator.class) {
+                    m_kinds[i] = KeyKind.LONG;
+                } else if (comparatorClass == DoubleValueComparator.class) {
+                    m_kinds[i] = KeyKind.DOUBLE;
+                } else if (comparatorClass == StringValueComparator.class) {
+                    m_kinds[i] = KeyKind.STRING;
+                } else {
+                    m_kinds[i] = KeyKind.GENERIC;
+                }
+            }
+            switch (m_kinds[i]) {
+                case INT:
+                case LONG:
+                case DOUBLE:
+                    hasLongKeys = true;
+                    break;
+                default:
+                    hasObjectKeys = true;
+            }
+        }
+        m_hasLongKeys = hasLongKeys;
+        m_hasObjectKeys = hasObjectKeys;
+    }
+
+    /**
+     * @param indices the indices of the sort columns, -1 for the row key
+     * @param sortAscending the sort order of each column
+     * @param sortMissingsToEnd whether missing cells are sorted to the end independent of the sort order
+     * @param spec the spec of the table
+     * @return the key extractor or null if there are more than {@link #MAX_SORT_COLUMNS} sort columns
+     */
+    static NormalizedSortKeys create(final int[] indices, final boolean[] sortAscending,
+        final boolean sortMissingsToEnd, final DataTableSpec spec) {
+        if (indices.length > MAX_SORT_COLUMNS) {
+            return null;
+        }
+        return new NormalizedSortKeys(indices, sortAscending, sortMissingsToEnd, spec);
+    }
+
+    /**
+     * @param row the row to extract the keys from, not null
+     * @return the row along with its keys
+     */
+    KeyedRow extract(final DataRow row) {
+        final long[] keys = m_hasLongKeys ? new long[m_indices.length] : null;
+        final Object[] objects = m_hasObjectKeys ? new Object[m_indices.length] : null;
+        long missingMask = 0L;
+        for (int i = 0; i < m_indices.length; i++) {
+            if (m_kinds[i] == KeyKind.ROW_KEY) {
+                objects[i] = row.getKey().getString();
+                continue;
+            }
+            final DataCell cell = row.getCell(m_indices[i]);
+            if (cell.isMissing()) {
+                missingMask |= 1L << i;
+                continue;
+            }
+            switch (m_kinds[i]) {
+                case INT:
+                    keys[i] = ((IntValue)cell).getIntValue();
+                    break;
+                case LONG:
+                    keys[i] = ((LongValue)cell).getLongValue();
+                    break;
+                case DOUBLE:
+                    keys[i] = toSortableLong(((DoubleValue)cell).getDoubleValue());
+                    break;
+                case STRING:
+                    objects[i] = ((StringValue)cell).getStringValue();
+                    break;
+                default:
+                    objects[i] = cell;
+            }
+        }
+        return new KeyedRow(row, keys, objects, missingMask);
+    }
+
+    /**
+     * Maps a double to a long so that the longs compare like {@link Double#compare(double, double)} compares the
+     * doubles (including -0.0 &lt; 0.0 and NaN being larger than any other value).
+     */
+    static long toSortableLong(final double d) {
+        final long bits = Double.doubleToLongBits(d);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int compare(final KeyedRow r1, final KeyedRow r2) {
+        if (r1 == r2) {
+            return 0;
+        }
+        for (int i = 0; i < m_kinds.length; i++) {
+            int cellComparison;
+            final boolean c1Missing = (r1.m_missingMask & (1L << i)) != 0;
+            final boolean c2Missing = (r2.m_missingMask & (1L << i)) != 0;
+            if (c1Missing || c2Missing) {
+                // same as in the row comparator: missing cells are smaller unless sorted to the end
+                if (c1Missing && c2Missing) {
+                    cellComparison = 0;
+                } else if (m_sortMissingsToEnd) {
+                    cellComparison = (c1Missing == m_sortAscending[i]) ? +1 : -1;
+                } else {
+                    cellComparison = c1Missing ? -1 : +1;
+                }
+            } else {
+                switch (m_kinds[i]) {
+                    case INT:
+                    case LONG:
+                    case DOUBLE:
+                        cellComparison = Long.compare(r1.m_keys[i], r2.m_keys[i]);
+                        break;
+                    case STRING:
+                    case ROW_KEY:
+                        cellComparison = ((String)r1.m_objects[i]).compareTo((String)r2.m_objects[i]);
+                        break;
+                    default:
+                        cellComparison =
+                            m_comparators[i].compare((DataCell)r1.m_objects[i], (DataCell)r2.m_objects[i]);
+                }
+            }
+            if (cellComparison != 0) {
+                return m_sortAscending[i] ? cellComparison : -cellComparison;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.util.ThreadPool;
+import org.knime.core.util.ThreadUtils;
+
+/**
+ * Sub pool of the {@link KNIMEConstants#GLOBAL_THREAD_POOL} shared by all table sorters running in parallel mode
+ * (see {@link AbstractTableSorter#setParallelSort(boolean)}). Its size is set via
+ * {@link KNIMEConstants#PROPERTY_SORT_THREADS} but never exceeds the thread limit of the global pool; parallel
+ * sorting is unavailable if the size is 1.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class SortExecutor {
+
+    private static final int THREADS =
+        ThreadUtils.getThreadCount(KNIMEConstants.PROPERTY_SORT_THREADS, Runtime.getRuntime().availableProcessors());
+
+    private static final ThreadPool POOL = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(THREADS);
+
+    /** Arrays are only split into slices sorted concurrently if each slice gets at least that many elements. */
+    private static final int MIN_SLICE_LENGTH = 1 << 13;
+
+    private SortExecutor() {
+    }
+
+    /** @return whether there is more than one sort thread */
+    static boolean isParallelSortAvailable() {
+        return getParallelism() > 1;
+    }
+
+    /** @return the number of sort threads, also the number of chunks sorted or merged at the same time */
+    static int getParallelism() {
+        return Math.min(THREADS, KNIMEConstants.GLOBAL_THREAD_POOL.getMaxThreads());
+    }
+
+    /**
+     * Runs the task in the pool. The current {@link org.knime.core.node.workflow.NodeContext} is set while the task
+     * runs.
+     *
+     * @param task the task
+     * @return the future of the task
+     */
+    static <V> Future<V> submit(final Callable<V> task) {
+        return POOL.enqueue(task);
+    }
+
+    /**
+     * Sorts the array (stable), using all sort threads if <code>parallel</code> is set and parallel sorting is
+     * available. The array is split into one slice per thread, the slices are sorted concurrently and merged
+     * pairwise afterwards.
+     *
+     * @param array to sort
+     * @param comparator the order
+     * @param parallel whether to sort in parallel
+     * @param exec to check for cancelation while waiting for the parallel sort
+     * @throws CanceledExecutionException if canceled
+     */
+    static <T> void sort(final T[] array, final Comparator<? super T> comparator, final boolean parallel,
+        final ExecutionMonitor exec) throws CanceledExecutionException {
+        final int length = array.length;
+        final int slices = parallel ? Math.min(getParallelism(), length / MIN_SLICE_LENGTH) : 1;
+        if (slices < 2) {
+            Arrays.sort(array, comparator);
+            return;
+        }
+        int[] bounds = new int[slices + 1];
+        for (int i = 0; i <= slices; i++) {
+            bounds[i] = (int)((long)length * i / slices);
+        }
+        final List<Future<Void>> futures = new ArrayList<>(slices);
+        for (int i = 0; i < slices; i++) {
+            final int from = bounds[i];
+            final int to = bounds[i + 1];
+            futures.add(submit(() -> {
+                Arrays.sort(array, from, to, comparator);
+                return null;
+            }));
+        }
+        waitForAll(futures, exec);
+        T[] source = array;
+        T[] target = array.clone();
+        while (bounds.length > 2) {
+            final int runs = bounds.length - 1;
+            final int[] mergedBounds = new int[(runs + 1) / 2 + 1];
+            for (int i = 0; i < runs; i += 2) {
+                final int from = bounds[i];
+                final int middle = bounds[i + 1];
+                final int to = i + 2 <= runs ? bounds[i + 2] : middle;
+                mergedBounds[i / 2] = from;
+                final T[] src = source;
+                final T[] dest = target;
+                futures.add(submit(() -> {
+                    merge(src, dest, from, middle, to, comparator);
+                    return null;
+                }));
+            }
+            mergedBounds[mergedBounds.length - 1] = length;
+            waitForAll(futures, exec);
+            bounds = mergedBounds;
+            final T[] merged = target;
+            target = source;
+            source = merged;
+        }
+        if (source != array) {
+            System.arraycopy(source, 0, array, 0, length);
+        }
+    }
+
+    /**
+     * Merges the sorted runs <code>[from, middle)</code> and <code>[middle, to)</code> of the source into the same
+     * range of the target. Elements of the first run come first if equal.
+     */
+    private static <T> void merge(final T[] source, final T[] target, final int from, final int middle,
+        final int to, final Comparator<? super T> comparator) {
+        int left = from;
+        int right = middle;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < middle && comparator.compare(source[left], source[right]) <= 0)) {
+                target[i] = source[left++];
+            } else {
+                target[i] = source[right++];
+            }
+        }
+    }
+
+    /** Waits for all tasks, the list is cleared afterwards; remaining tasks are canceled if one fails. */
+    private static void waitForAll(final List<Future<Void>> futures, final ExecutionMonitor exec)
+        throws CanceledExecutionException {
+        try {
+            for (Future<Void> future : futures) {
+                waitFor(future, exec);
+            }
+        } finally {
+            for (Future<Void> future : futures) {
+                future.cancel(true);
+            }
+            futures.clear();
+        }
+    }
+
+    /**
+     * Waits for the task and rethrows its exception. The waiting thread doesn't occupy a thread of the pool.
+     *
+     * @param future the future of the task
+     * @param exec to check for cancelation while waiting
+     * @return the result of the task
+     * @throws CanceledExecutionException if canceled (either the monitor or the task)
+     */
+    static <V> V waitFor(final Future<V> future, final ExecutionMonitor exec) throws CanceledExecutionException {
+        try {
+            return ThreadUtils.waitFor(future, exec);
+        } catch (ExecutionException ee) {
+            final Throwable cause = ee.getCause();
+            throw new RuntimeException("Sort task failed: " + cause.getMessage(), cause);
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.data.sort;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Selects the smallest <code>k</code> elements of a stream according to a comparator without sorting (or even
+ * storing) the whole stream. The retained elements are kept in a bounded ordered map whose largest entry is evicted
+ * once more than <code>k</code> elements are retained, hence adding <code>n</code> elements costs
+ * <i>O(n log k)</i> time and <i>O(k)</i> memory. Most elements of a long stream are rejected after a single comparison
+ * with the current largest retained element.
+ *
+ * <p>
+ * The selection is stable: elements comparing equal are returned in the order in which they were added and, if only
+ * some of them fit into the selection, the ones added first are retained. The {@link TieMode} determines whether
+ * elements that tie with the <code>k</code>-th element are retained as well.
+ *
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <T> the type of the selected elements, usually {@link org.knime.core.data.DataRow}
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.6
+ */
+public final class TopKSelector<T> {
+
+    /** Determines how elements that compare equal to the <code>k</code>-th smallest element are treated. */
+    public enum TieMode {
+        /** Exactly <code>min(k, n)</code> elements are retained, ties are decided by the order of insertion. */
+        EXACT,
+        /** All elements comparing equal to the <code>k</code>-th smallest element are retained in addition. This
+         * corresponds to a standard competition rank (1, 2, 2, 4) being at most <code>k</code>. */
+        INCLUDE_TIES,
+        /** All elements of the <code>k</code> smallest distinct values are retained. This corresponds to a dense rank
+         * (1, 2, 2, 3) being at most <code>k</code>. */
+        DISTINCT_VALUES;
+    }
+
+    private final Comparator<? super T> m_comparator;
+
+    private final long m_k;
+
+    private final TieMode m_tieMode;
+
+    /** The first element of each group of equal elements, mapped to all elements of that group in insertion order. */
+    private final TreeMap<T, Deque<T>> m_groups;
+
+    private long m_size;
+
+    private long m_count;
+
+    /**
+     * Creates a selector that retains exactly <code>k</code> elements, see {@link TieMode#EXACT}.
+     *
+     * @param comparator the comparator defining the order, not null
+     * @param k the number of elements to select, at least 0
+     */
+    public TopKSelector(final Comparator<? super T> comparator, final long k) {
+        this(comparator, k, TieMode.EXACT);
+    }
+
+    /**
+     * Creates a selector.
+     *
+     * @param comparator the comparator defining the order, not null
+     * @param k the number of elements (or distinct values in mode {@link TieMode#DISTINCT_VALUES}) to select, at
+     *            least 0
+     * @param tieMode how ties with the <code>k</code>-th element are treated, not null
+     */
+    public TopKSelector(final Comparator<? super T> comparator, final long k, final TieMode tieMode) {
+        if (comparator == null || tieMode == null) {
+            throw new NullPointerException("Arguments must not be null.");
+        }
+        if (k < 0) {
+            throw new IllegalArgumentException("Number of elements to select must not be negative: " + k);
+        }
+        m_comparator = comparator;
+        m_k = k;
+        m_tieMode = tieMode;
+        m_groups = new TreeMap<T, Deque<T>>(comparator);
+    }
+
+    /**
+     * Offers the next element of the stream.
+     *
+     * @param element the element, not null
+     * @return whether the element is (at this point) part of the selection; <code>false</code> if it was rejected
+     */
+    public boolean add(final T element) {
+        m_count++;
+        if (m_k == 0) {
+            return false;
+        }
+        if (isFull()) {
+            final int cmp = m_comparator.compare(element, m_groups.lastKey());
+            if (cmp > 0 || (cmp == 0 && m_tieMode == TieMode.EXACT)) {
+                return false;
+            }
+        }
+        Deque<T> group = m_groups.get(element);
+        if (group == null) {
+            group = new ArrayDeque<T>(1);
+            m_groups.put(element, group);
+        }
+        group.addLast(element);
+        m_size++;
+        evict();
+        return true;
+    }
+
+    /** @return whether the next element needs to compare at most equal to the largest retained element. */
+    private boolean isFull() {
+        if (m_tieMode == TieMode.DISTINCT_VALUES) {
+            return m_groups.size() >= m_k;
+        }
+        return m_size >= m_k;
+    }
+
+    private void evict() {
+        switch (m_tieMode) {
+            case EXACT:
+                if (m_size > m_k) {
+                    final Map.Entry<T, Deque<T>> last = m_groups.lastEntry();
+                    last.getValue().pollLast();
+                    if (last.getValue().isEmpty()) {
+                        m_groups.pollLastEntry();
+                    }
+                    m_size--;
+                }
+                break;
+            case INCLUDE_TIES:
+                while (m_size - m_groups.lastEntry().getValue().size() >= m_k) {
+                    m_size -= m_groups.pollLastEntry().getValue().size();
+                }
+                break;
+            case DISTINCT_VALUES:
+                if (m_groups.size() > m_k) {
+                    m_size -= m_groups.pollLastEntry().getValue().size();
+                }
+                break;
+            default:
+                throw new IllegalStateException("Unknown tie mode: " + m_tieMode);
+        }
+    }
+
+    /**
+     * @return the selected elements in ascending order, elements comparing equal in insertion order; the list is a
+     *         copy and can be modified by the caller
+     */
+    public List<T> getSelection() {
+        final List<T> result = new ArrayList<T>((int)Math.min(m_size, Integer.MAX_VALUE));
+        for (Deque<T> group : m_groups.values()) {
+            result.addAll(group);
+        }
+        return result;
+    }
+
+    /** @return the number of currently selected elements */
+    public long size() {
+        return m_size;
+    }
+
+    /** @return the number of elements passed to {@link #add(Object)} so far, including rejected ones */
+    public long getCount() {
+        return m_count;
+    }
+
+    /** @return the k passed in the constructor */
+    public long getK() {
+        return m_k;
+    }
+
+    /** @return the tie mode passed in the constructor */
+    public TieMode getTieMode() {
+        return m_tieMode;
+    }
+
+    /** Removes all elements, the selector can be reused afterwards. */
+    public void clear() {
+        m_groups.clear();
+        m_size = 0;
+        m_count = 0;
+    }
+
+}
@@ -53,6 +53,7 @@
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -81,6 +82,8 @@
 import org.knime.core.data.container.TableSpecReplacerTable;
 import org.knime.core.data.container.VoidTable;
 import org.knime.core.data.container.WrappedTable;
+import org.knime.core.data.container.filter.FilterDelegateRowIterator;
+import org.knime.core.data.container.filter.TableFilter;
 import org.knime.core.data.filestore.internal.FileStoreHandlerRepository;
 import org.knime.core.internal.ReferencedFile;
 import org.knime.core.node.config.Config;
@@ -88,6 +91,7 @@
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.port.PortType;
 import org.knime.core.node.port.PortTypeRegistry;
+import org.knime.core.node.util.CheckUtils;
 import org.knime.core.node.workflow.BufferedDataTableView;
 import org.knime.core.util.MutableBoolean;
 
@@ -325,6 +329,24 @@ public CloseableRowIterator iterator() {
         return m_delegate.iterator();
     }
 
+    /**
+     * Get an iterator that only returns the rows and materializes the columns defined by the argument filter. Tables
+     * read from disc skip the deserialization of cells in columns that are not materialized and of rows that are
+     * filtered out, which is much cheaper than iterating the full table if only a few columns or rows are needed.
+     * Cells in columns that are not materialized must not be accessed (they may be missing cells).
+     *
+     * @param filter the filter, not null
+     * @return a new iterator
+     * @throws IndexOutOfBoundsException if the filter refers to columns not present in this table
+     * @see TableFilter
+     * @since 3.6
+     */
+    public CloseableRowIterator filter(final TableFilter filter) {
+        CheckUtils.checkArgumentNotNull(filter, "Filter must not be null");
+        filter.validate(getDataTableSpec());
+        return m_delegate.iteratorWithFilter(filter);
+    }
+
     /**
      * Get an iterator instance that will return missing values when the table
      * is cleared as part of a node reset.
@@ -457,7 +479,8 @@ public void close() {
      * @since 2.6 */
     private static final String TABLE_TYPE_REFERENCE_IN_SAME_NODE = "reference_from_same_node_table";
     private static final String TABLE_TYPE_EXTENSION = "extension_table";
-    private static final String TABLE_FILE = "data.zip";
+    /** Name of the data file of a table, kept when the table is saved again (see {@link FileNodePersistor}). */
+    static final String TABLE_FILE = "data.zip";
     private static final String TABLE_DESCRIPTION_FILE = "data.xml";
     private static final String TABLE_SPEC_FILE = "spec.xml";
 
@@ -475,15 +498,40 @@ public void close() {
      */
     void save(final File dir, final Set<Integer> savedTableIDs, final ExecutionMonitor exec)
         throws IOException, CanceledExecutionException {
+        ParallelTableSaver tableSaver = new ParallelTableSaver();
+        try {
+            save(dir, savedTableIDs, tableSaver, exec);
+            tableSaver.waitForCompletion(exec);
+        } finally {
+            tableSaver.cancel();
+        }
+    }
+
+    /** Saves the table as {@link #save(File, Set, ExecutionMonitor)} but the data file of a {@link ContainerTable}
+     * may be written asynchronously by the argument saver.
+     * @param dir The directory to write to.
+     * @param savedTableIDs Ids of tables that were previously saved.
+     * @param tableSaver Writes the data files, caller needs to wait for its completion.
+     * @param exec The progress monitor for cancellation.
+     * @throws IOException If writing fails.
+     * @throws CanceledExecutionException If canceled.
+     */
+    void save(final File dir, final Set<Integer> savedTableIDs, final ParallelTableSaver tableSaver,
+        final ExecutionMonitor exec) throws IOException, CanceledExecutionException {
         NodeSettings s = new NodeSettings(CFG_TABLE_META);
         Integer bufferedTableID = getBufferedTableId();
         s.addInt(CFG_TABLE_ID, bufferedTableID);
         File outFile = new File(dir, TABLE_FILE);
+        boolean isDataFileWritten;
         if (!savedTableIDs.add(bufferedTableID)) {
             s.addString(CFG_TABLE_TYPE, TABLE_TYPE_REFERENCE_IN_SAME_NODE);
+            Files.deleteIfExists(outFile.toPath());
+            isDataFileWritten = false;
         } else if (m_delegate instanceof ContainerTable) {
             s.addString(CFG_TABLE_TYPE, TABLE_TYPE_CONTAINER);
-            m_delegate.saveToFile(outFile, s, exec);
+            // the container table doesn't write to the settings and always creates the file
+            tableSaver.submit(() -> m_delegate.saveToFile(outFile, s, exec));
+            isDataFileWritten = true;
         } else {
             if (m_delegate instanceof RearrangeColumnsTable) {
                 s.addString(CFG_TABLE_TYPE, TABLE_TYPE_REARRANGE_COLUMN);
@@ -516,15 +564,18 @@ void save(final File dir, final Set<Integer> savedTableIDs, final ExecutionMonit
                         throw new IOException("Unable to write directory " + subDir.getAbsolutePath());
                     }
                     referenceDirs.add(dirName);
-                    reference.save(subDir, savedTableIDs, exec);
+                    reference.save(subDir, savedTableIDs, tableSaver, exec);
                 }
             }
             s.addStringArray(CFG_TABLE_REFERENCE,
                     referenceDirs.toArray(new String[referenceDirs.size()]));
+            // the directory may contain the data file of a previous save
+            Files.deleteIfExists(outFile.toPath());
             m_delegate.saveToFile(outFile, s, exec);
+            isDataFileWritten = outFile.exists();
         }
         // only write the data file to the settings if it has been created
-        if (outFile.exists()) {
+        if (isDataFileWritten) {
             s.addString(CFG_TABLE_FILE_NAME, TABLE_FILE);
         } else {
             s.addString(CFG_TABLE_FILE_NAME, null);
@@ -859,6 +910,19 @@ void saveToFile(final File f, final NodeSettingsWO settings,
         @Override
         public CloseableRowIterator iterator();
 
+        /**
+         * Implementation of {@link BufferedDataTable#filter(TableFilter)}. The default reads the full table and
+         * applies the filter on top of it; implementations that can skip the deserialization of cells should
+         * override it.
+         *
+         * @param filter the (validated) filter, not null
+         * @return a new iterator
+         * @since 3.6
+         */
+        default CloseableRowIterator iteratorWithFilter(final TableFilter filter) {
+            return new FilterDelegateRowIterator(iterator(), filter);
+        }
+
         /** Reference to the underlying tables, if any. A reference
          * table exists if this object is just a wrapper, such as a
          * RearrangeColumnsTable or if this table concatenates a set of
@@ -1225,11 +1225,19 @@ public static void save(final NativeNodeContainer nnc, final NodeSettingsWO sett
          * table is returned in multiple outputs or if an output table is used
          * as "internal" held table. See bug 2117. */
         final Set<Integer> savedTableIDs = new HashSet<Integer>();
-        execMon.setMessage("Ports");
-        savePorts(node, nodeDirRef, settings, savedTableIDs, portMon, isSaveData);
+        // data files of tables are written concurrently, everything else is written in this thread
+        final ParallelTableSaver tableSaver = new ParallelTableSaver();
+        try {
+            execMon.setMessage("Ports");
+            savePorts(node, nodeDirRef, settings, savedTableIDs, tableSaver, portMon, isSaveData);
+            execMon.setMessage("Internal Tables");
+            saveInternalHeldTables(node, nodeDirRef, settings, savedTableIDs, tableSaver, internalMon, isSaveData);
+            execMon.setMessage("Table Data");
+            tableSaver.waitForCompletion(portMon);
+        } finally {
+            tableSaver.cancel();
+        }
         portMon.setProgress(1.0);
-        execMon.setMessage("Internal Tables");
-        saveInternalHeldTables(node, nodeDirRef, settings, savedTableIDs, internalMon, isSaveData);
         intTblsMon.setProgress(1.0);
         // save them last as now all tables have been saved (all cells ran through persistor) and all
         // FileStore#getFile() have been called and saved
@@ -1240,8 +1248,8 @@ public static void save(final NativeNodeContainer nnc, final NodeSettingsWO sett
     }
 
     private static void savePorts(final Node node, final ReferencedFile nodeDirRef, final NodeSettingsWO settings,
-        final Set<Integer> savedTableIDs, final ExecutionMonitor exec, final boolean saveData) throws IOException,
-        CanceledExecutionException {
+        final Set<Integer> savedTableIDs, final ParallelTableSaver tableSaver, final ExecutionMonitor exec,
+        final boolean saveData) throws IOException, CanceledExecutionException {
         if (node.getNrOutPorts() == 0) {
             return;
         }
@@ -1256,12 +1264,11 @@ private static void savePorts(final Node node, final ReferencedFile nodeDirRef,
             singlePortSetting.addInt("index", i);
             PortObject object = node.getOutputObject(i);
             String portDirName;
+            File portDir = new ReferencedFile(nodeDirRef, portName).getFile();
             if (object != null && saveData) {
                 portDirName = portName;
-                ReferencedFile portDirRef = new ReferencedFile(nodeDirRef, portDirName);
-                File portDir = portDirRef.getFile();
                 subProgress.setMessage("Cleaning directory " + portDir.getAbsolutePath());
-                FileUtil.deleteRecursively(portDir);
+                cleanPortDirectory(portDir, object instanceof BufferedDataTable);
                 if (!portDir.mkdir() && !portDir.isDirectory()) {
                     throw new IOException("Cannot create port directory " + portDir.getAbsolutePath() + " ("
                         + "exists: " + portDir.exists() + ", isDir: " + portDir.isDirectory() + ", "
@@ -1272,9 +1279,11 @@ private static void savePorts(final Node node, final ReferencedFile nodeDirRef,
                 if (!portDir.canWrite()) {
                     throw new IOException("Cannot write to port directory " + portDir.getAbsolutePath());
                 }
-                savePort(node, portDir, singlePortSetting, savedTableIDs, subProgress, i, saveData);
+                savePort(node, portDir, singlePortSetting, savedTableIDs, tableSaver, subProgress, i, saveData);
             } else {
                 portDirName = null;
+                // data of a previous save (e.g. a data.zip kept by cleanPortDirectory) is stale now
+                FileUtil.deleteRecursively(portDir);
             }
             singlePortSetting.addString("port_dir_location", portDirName);
             subProgress.setProgress(1.0);
@@ -1282,16 +1291,18 @@ private static void savePorts(final Node node, final ReferencedFile nodeDirRef,
     }
 
     private static void saveInternalHeldTables(final Node node, final ReferencedFile nodeDirRef,
-        final NodeSettingsWO settings, final Set<Integer> savedTableIDs, final ExecutionMonitor exec,
-        final boolean saveData) throws IOException, CanceledExecutionException {
+        final NodeSettingsWO settings, final Set<Integer> savedTableIDs, final ParallelTableSaver tableSaver,
+        final ExecutionMonitor exec, final boolean saveData) throws IOException, CanceledExecutionException {
         PortObject[] internalObjects = node.getInternalHeldPortObjects();
+        String subDirName = INTERNAL_TABLE_FOLDER_PREFIX;
+        ReferencedFile subDirFile = new ReferencedFile(nodeDirRef, subDirName);
         if (internalObjects == null || !saveData) {
+            // remove tables of a previous save
+            FileUtil.deleteRecursively(subDirFile.getFile());
             return;
         }
         final int internalTblsCount = internalObjects.length;
         NodeSettingsWO subSettings = settings.addNodeSettings("internalObjects");
-        String subDirName = INTERNAL_TABLE_FOLDER_PREFIX;
-        ReferencedFile subDirFile = new ReferencedFile(nodeDirRef, subDirName);
         subSettings.addString("location", subDirName);
         NodeSettingsWO portSettings = subSettings.addNodeSettings("content");
         FileUtil.deleteRecursively(subDirFile.getFile());
@@ -1310,7 +1321,7 @@ private static void saveInternalHeldTables(final Node node, final ReferencedFile
                 singlePortSetting.addString("type", "null");
             } else if (t instanceof BufferedDataTable) {
                 BufferedDataTable table = (BufferedDataTable)t;
-                saveBufferedDataTable(table, savedTableIDs, createDirectory(portDir), exec);
+                saveBufferedDataTable(table, savedTableIDs, tableSaver, createDirectory(portDir), exec);
                 singlePortSetting.addString("type", "table");
                 singlePortSetting.addString("table_dir_location", objName);
             } else {
@@ -1330,6 +1341,22 @@ private static void saveInternalHeldTables(final Node node, final ReferencedFile
         }
     }
 
+    /** Deletes the content of a port directory. The data file of a table is kept if the port holds a table as
+     * it's likely the same table that was saved before, which is then not written again (it's overwritten
+     * otherwise). */
+    private static void cleanPortDirectory(final File portDir, final boolean keepTableFile) {
+        File[] files = portDir.listFiles();
+        if (!keepTableFile || files == null) {
+            FileUtil.deleteRecursively(portDir);
+            return;
+        }
+        for (File f : files) {
+            if (!BufferedDataTable.TABLE_FILE.equals(f.getName())) {
+                FileUtil.deleteRecursively(f);
+            }
+        }
+    }
+
     /** Check if argument is a directory and can be read, otherwise throws exception. */
     private static File readDirectory(final File dir) throws IOException {
         if (!(dir.isDirectory() && dir.canRead())) {
@@ -1348,8 +1375,8 @@ private static File createDirectory(final File portDir) throws IOException {
     }
 
     private static void savePort(final Node node, final File portDir, final NodeSettingsWO settings,
-        final Set<Integer> savedTableIDs, final ExecutionMonitor exec, final int portIdx, final boolean saveData)
-        throws IOException, CanceledExecutionException {
+        final Set<Integer> savedTableIDs, final ParallelTableSaver tableSaver, final ExecutionMonitor exec,
+        final int portIdx, final boolean saveData) throws IOException, CanceledExecutionException {
         PortObjectSpec spec = node.getOutputSpec(portIdx);
         PortObject object = node.getOutputObject(portIdx);
         String summary = node.getOutputObjectSummary(portIdx);
@@ -1368,7 +1395,7 @@ private static void savePort(final Node node, final File portDir, final NodeSett
                 + object.getClass().getSimpleName();
             // executed and instructed to save data
             if (saveData && object != null) {
-                saveBufferedDataTable((BufferedDataTable)object, savedTableIDs, portDir, exec);
+                saveBufferedDataTable((BufferedDataTable)object, savedTableIDs, tableSaver, portDir, exec);
             }
         } else {
             if (isSaveObject) {
@@ -1461,8 +1488,9 @@ private static void saveFileStoreObjects(final Node node, final ReferencedFile n
     }
 
     private static void saveBufferedDataTable(final BufferedDataTable table, final Set<Integer> savedTableIDs,
-        final File directory, final ExecutionMonitor exec) throws IOException, CanceledExecutionException {
-        table.save(directory, savedTableIDs, exec);
+        final ParallelTableSaver tableSaver, final File directory, final ExecutionMonitor exec)
+        throws IOException, CanceledExecutionException {
+        table.save(directory, savedTableIDs, tableSaver, exec);
     }
 
     private static void saveHasContent(final Node node, final NodeSettingsWO settings) {
@@ -69,6 +69,7 @@
 import org.knime.core.eclipseUtil.OSGIHelper;
 import org.knime.core.internal.KNIMEPath;
 import org.knime.core.util.ThreadPool;
+import org.knime.core.util.WorkStealingThreadPool;
 import org.osgi.framework.Bundle;
 
 /**
@@ -103,6 +104,22 @@ public final class KNIMEConstants {
     public static final String PROPERTY_MAX_THREAD_COUNT =
         "org.knime.core.maxThreads";
 
+    /** Java property to back the {@link #GLOBAL_THREAD_POOL} by a work-stealing fork/join pool (see
+     * {@link org.knime.core.util.WorkStealingThreadPool}) instead of dedicated worker threads. The thread limits of the
+     * pool and its sub pools are the same, but tasks waiting for other tasks are managed blocks and may run the awaited
+     * task themselves. Values must be either "true" or "false" (default).
+     * @since 3.6
+     */
+    public static final String PROPERTY_WORK_STEALING_THREAD_POOL = "knime.threadpool.workstealing";
+
+    /** Java property to execute nodes queued by the local job manager in the order of their estimated remaining
+     * downstream work (critical path first, see {@link org.knime.core.node.exec.CriticalPathSchedulingPolicy})
+     * instead of the order in which they become executable. The value is the maximum number of memory intensive
+     * nodes executing at the same time, a positive number. If not set, nodes are executed in queuing order.
+     * @since 3.6
+     */
+    public static final String PROPERTY_CRITICAL_PATH_SCHEDULING = "knime.scheduling.criticalpath";
+
     /** Java property name to specify the default temp directory for
      * KNIME temp files (such as data files). This can be changed in the
      * preference pages and is by default the same as the java.io.tmpdir */
@@ -130,6 +147,15 @@ public final class KNIMEConstants {
     public static final String PROPERTY_ASYNC_WRITE_CACHE_SIZE =
         "knime.async.io.cachesize";
 
+    /** Java property to enable asynchronous read-ahead when iterating tables stored on disk. It specifies the
+     * number of row batches (of {@value org.knime.core.data.container.DataContainer#READ_AHEAD_BATCH_SIZE} rows
+     * each) that are decompressed and deserialized in a background thread while the consumer processes the current
+     * rows. The default is 0 (rows are read in the iterating thread). This property has no effect if
+     * {@link #PROPERTY_SYNCHRONOUS_IO} is set.
+     * @since 3.6
+     */
+    public static final String PROPERTY_ASYNC_READ_AHEAD = "knime.async.io.readahead";
+
     /** The number of nominal values kept in the domain when adding rows to a table. This is only the default and
      * may be overruled by individual node implementations. If not specified the default is {@value
      * org.knime.core.data.container.DataContainer#DEF_MAX_POSSIBLE_VALUES}.
@@ -162,6 +188,89 @@ public final class KNIMEConstants {
     public static final String PROPERTY_TABLE_GZIP_COMPRESSION =
         "knime.compress.io";
 
+    /** Java property to choose the compression of table streams, one of "gzip", "none", "lz4" or "snappy" (case
+     * insensitive). LZ4 and Snappy compress blocks of the stream independently (optionally in parallel), they are
+     * considerably faster than gzip at a somewhat lower compression ratio. If not set, the compression is
+     * determined by {@link #PROPERTY_TABLE_GZIP_COMPRESSION}. Tables written with a different compression can still
+     * be read as the format is stored with each table.
+     * @since 3.6
+     */
+    public static final String PROPERTY_TABLE_COMPRESSION_FORMAT = "knime.compress.io.format";
+
+    /** Java property to set the number of threads used to compress table streams if the compression format
+     * (see {@link #PROPERTY_TABLE_COMPRESSION_FORMAT}) is "lz4" or "snappy". The default is half the number of
+     * available processors, at most 4; a value of 1 compresses in the writing thread.
+     * @since 3.6
+     */
+    public static final String PROPERTY_TABLE_COMPRESSION_THREADS = "knime.compress.io.threads";
+
+    /** Java property to set the size (in MB) of the off-heap cache for in-memory tables. If set to a positive
+     * value, tables that are kept in memory are serialized into direct (off-heap) memory when they are closed and
+     * are only decoded while being iterated. If the cache is full the least recently used tables are written to
+     * their temp file. The default is 0 (disabled, tables are kept as java objects on the heap). Note that the
+     * JVM's <code>-XX:MaxDirectMemorySize</code> must be at least as large as the cache.
+     * @since 3.6
+     */
+    public static final String PROPERTY_TABLE_OFFHEAP_CACHE_SIZE = "knime.table.offheap.cache.size";
+
+    /** Java property to set the global budget (in MB) for tables kept in memory (on the heap) across all
+     * workflows. If set, a central cache manager decides which tables are written to disk when the budget, a
+     * workflow's quota (see {@link #PROPERTY_TABLE_CACHE_WORKFLOW_QUOTA}) or the available memory is exceeded. The
+     * default is 0, in which case each table decides alone (based on its size and on low memory conditions).
+     * @since 3.6
+     */
+    public static final String PROPERTY_TABLE_CACHE_SIZE = "knime.table.cache.size";
+
+    /** Java property to set the maximum share (in percent, 1-100) of the global table cache budget (see
+     * {@link #PROPERTY_TABLE_CACHE_SIZE}) that the tables of a single workflow may use. The default is 50.
+     * @since 3.6
+     */
+    public static final String PROPERTY_TABLE_CACHE_WORKFLOW_QUOTA = "knime.table.cache.workflowquota";
+
+    /** Java property to set the policy used to choose tables to write to disk if the table cache (see
+     * {@link #PROPERTY_TABLE_CACHE_SIZE}) is full, either "lru" (least recently used, default) or "lfu" (least
+     * frequently used).
+     * @since 3.6
+     */
+    public static final String PROPERTY_TABLE_CACHE_POLICY = "knime.table.cache.policy";
+
+    /** Java property to set the number of threads used to write the data files of the tables of a node concurrently
+     * when a workflow is saved. A value of 1 saves the tables one after the other in the saving thread. The default
+     * is the number of available processors, at most 4.
+     * @since 3.6
+     */
+    public static final String PROPERTY_TABLE_SAVE_THREADS = "knime.table.save.threads";
+
+    /** Java property to save the data file of an unchanged table as a hard link to the file of a previous save (or
+     * the file the table was loaded from) instead of copying it. Both files then share their content; this is safe
+     * as the core never modifies a table file in place but deletes it before it is written again. Other processes
+     * (or users) must not modify saved table files either. The default is false (files are copied).
+     * @since 3.6
+     */
+    public static final String PROPERTY_TABLE_SAVE_LINK = "knime.table.save.link";
+
+    /** Java property to set the number of threads used by table sorters to sort and merge chunks of a table
+     * concurrently. A value of 1 disables parallel sorting. The default is the number of available processors. The
+     * sort threads are taken from the {@link #GLOBAL_THREAD_POOL}, so its thread limit applies as well.
+     * @since 3.6
+     */
+    public static final String PROPERTY_SORT_THREADS = "knime.sort.threads";
+
+    /** Java property to let the GroupBy node aggregate tables that are not processed in memory by hash partitioning
+     * the groups (HashGroupByTable) instead of sorting the whole table first. Disabled by default.
+     * @since 3.6
+     */
+    public static final String PROPERTY_GROUPBY_HASH = "knime.groupby.hash";
+
+    /** Java property to switch the row ID duplicate check of tables back to the sorting
+     * {@link org.knime.core.util.DuplicateChecker}, which writes sorted chunks of the keys to disc and merges them
+     * when the table is closed. If not set (default), the
+     * {@link org.knime.core.util.FingerprintDuplicateChecker} is used, which detects duplicates on the fly by
+     * means of a hash table of key fingerprints.
+     * @since 3.6
+     */
+    public static final String PROPERTY_SORTING_ROWID_DUPLICATE_CHECK = "knime.rowid.duplicatecheck.sorting";
+
     /** Java property to enable/disable row ID duplicate checks on tables.
      * Tables in KNIME are supposed to have unique IDs, whereby the uniqueness
      * is asserted using a duplicate checker. This property will disable this
@@ -418,7 +527,11 @@ public final class KNIMEConstants {
                     + "\"org.knime.core.maxThreads\" (\"" + maxThreadsString
                     + "\") as number: " + nfe.getMessage());
         }
-        GLOBAL_THREAD_POOL = new ThreadPool(maxThreads);
+        if (Boolean.getBoolean(PROPERTY_WORK_STEALING_THREAD_POOL)) {
+            GLOBAL_THREAD_POOL = new WorkStealingThreadPool(maxThreads);
+        } else {
+            GLOBAL_THREAD_POOL = new ThreadPool(maxThreads);
+        }
         boolean flag;
         try {
             assert false;
@@ -0,0 +1,167 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.knime.core.util.ThreadUtils;
+
+/**
+ * Writes the data files of the tables of a node concurrently when the node is saved. Used by the
+ * {@link FileNodePersistor}: the (expensive) zipping of {@link org.knime.core.data.container.ContainerTable}s is
+ * submitted while the node's settings are written in the saving thread; {@link #waitForCompletion(ExecutionMonitor)}
+ * must be called before the file stores of the node are saved. All instances share one bounded pool of daemon
+ * threads, its size is set via {@link KNIMEConstants#PROPERTY_TABLE_SAVE_THREADS}.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class ParallelTableSaver {
+
+    private static final int MAX_THREADS = ThreadUtils.getThreadCount(KNIMEConstants.PROPERTY_TABLE_SAVE_THREADS,
+        Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private static final ThreadPoolExecutor EXECUTOR;
+
+    static {
+        if (MAX_THREADS > 1) {
+            ThreadFactory factory = r -> {
+                Thread t = new Thread(r, "KNIME-Table-Saver-" + THREAD_COUNTER.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            };
+            EXECUTOR = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, 10L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), factory);
+            EXECUTOR.allowCoreThreadTimeOut(true);
+        } else {
+            EXECUTOR = null;
+        }
+    }
+
+    private final List<Future<Void>> m_futures = new ArrayList<>();
+
+    /** A task writing a table file. */
+    @FunctionalInterface
+    interface SaveTask {
+        /**
+         * Writes the table.
+         * @throws IOException If writing fails
+         * @throws CanceledExecutionException If canceled
+         */
+        void save() throws IOException, CanceledExecutionException;
+    }
+
+    /**
+     * Runs the task in the pool, or in the calling thread if saving in parallel is disabled. The current
+     * {@link org.knime.core.node.workflow.NodeContext} is set while the task runs.
+     *
+     * @param task The task to run.
+     * @throws IOException If the task is run in the calling thread and fails.
+     * @throws CanceledExecutionException If the task is run in the calling thread and is canceled.
+     */
+    void submit(final SaveTask task) throws IOException, CanceledExecutionException {
+        if (EXECUTOR == null) {
+            task.save();
+            return;
+        }
+        m_futures.add(EXECUTOR.submit(ThreadUtils.callableWithContext(() -> {
+            task.save();
+            return null;
+        }, false)));
+    }
+
+    /**
+     * Waits for all submitted tasks and rethrows the first exception. Remaining tasks are canceled if a task fails
+     * or the monitor is canceled.
+     *
+     * @param exec To check for cancelation.
+     * @throws IOException If writing a table failed.
+     * @throws CanceledExecutionException If canceled.
+     */
+    void waitForCompletion(final ExecutionMonitor exec) throws IOException, CanceledExecutionException {
+        try {
+            for (Future<Void> future : m_futures) {
+                waitFor(future, exec);
+            }
+        } finally {
+            cancel();
+        }
+    }
+
+    /** Cancels all tasks that haven't finished yet (called when saving the node failed). */
+    void cancel() {
+        for (Future<Void> future : m_futures) {
+            future.cancel(true);
+        }
+        m_futures.clear();
+    }
+
+    private static void waitFor(final Future<Void> future, final ExecutionMonitor exec)
+        throws IOException, CanceledExecutionException {
+        try {
+            ThreadUtils.waitFor(future, exec);
+        } catch (ExecutionException ee) {
+            final Throwable cause = ee.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException)cause;
+            }
+            throw new IOException("Unable to save table: " + cause.getMessage(), cause);
+        }
+    }
+
+}
@@ -0,0 +1,151 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.exec;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.knime.core.node.workflow.ConnectionContainer;
+import org.knime.core.node.workflow.NativeNodeContainer;
+import org.knime.core.node.workflow.NodeContainer;
+import org.knime.core.node.workflow.NodeID;
+import org.knime.core.node.workflow.NodeSchedulingPolicy;
+import org.knime.core.node.workflow.NodeTimer;
+import org.knime.core.node.workflow.SingleNodeContainer.MemoryPolicy;
+import org.knime.core.node.workflow.WorkflowManager;
+
+/**
+ * Scheduling policy that executes the nodes on the critical path first. The priority of a node is the estimated
+ * remaining work downstream of it, i.e. the longest path of estimated execution durations from the node to the end of
+ * its workflow. Durations are taken from the {@link NodeTimer} of each node, which includes the durations saved with
+ * the workflow; nodes without execution history count with {@value #UNKNOWN_DURATION}ms so that among unknown nodes
+ * longer chains are preferred.
+ *
+ * <p>Native nodes that keep their output in memory ({@link MemoryPolicy#CacheInMemory}) are considered memory
+ * intensive.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.6
+ */
+public class CriticalPathSchedulingPolicy implements NodeSchedulingPolicy {
+
+    /** The duration assumed for nodes that have not been executed yet. */
+    static final long UNKNOWN_DURATION = 1L;
+
+    private final int m_maxConcurrentMemoryIntensiveJobs;
+
+    /**
+     * @param maxConcurrentMemoryIntensiveJobs the maximum number of memory intensive nodes executing at the same
+     *            time, at least 1
+     */
+    public CriticalPathSchedulingPolicy(final int maxConcurrentMemoryIntensiveJobs) {
+        if (maxConcurrentMemoryIntensiveJobs < 1) {
+            throw new IllegalArgumentException(
+                "Number of memory intensive jobs must be at least 1: " + maxConcurrentMemoryIntensiveJobs);
+        }
+        m_maxConcurrentMemoryIntensiveJobs = maxConcurrentMemoryIntensiveJobs;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long getPriority(final NodeContainer nc) {
+        WorkflowManager parent = nc.getParent();
+        if (parent == null) {
+            return getEstimatedDuration(nc);
+        }
+        return getRemainingWork(parent, nc, new HashMap<NodeID, Long>());
+    }
+
+    /** Longest path of estimated durations starting at the argument node, memoized per call. */
+    private static long getRemainingWork(final WorkflowManager parent, final NodeContainer nc,
+        final Map<NodeID, Long> cache) {
+        Long cached = cache.get(nc.getID());
+        if (cached != null) {
+            return cached;
+        }
+        long maxSuccessorWork = 0L;
+        for (ConnectionContainer cc : parent.getOutgoingConnectionsFor(nc.getID())) {
+            NodeID dest = cc.getDest();
+            if (dest.equals(parent.getID())) {
+                // connection to an outport of the enclosing metanode
+                continue;
+            }
+            maxSuccessorWork =
+                Math.max(maxSuccessorWork, getRemainingWork(parent, parent.getNodeContainer(dest), cache));
+        }
+        long work = getEstimatedDuration(nc) + maxSuccessorWork;
+        cache.put(nc.getID(), work);
+        return work;
+    }
+
+    private static long getEstimatedDuration(final NodeContainer nc) {
+        long duration = nc.getNodeTimer().getEstimatedExecutionDuration();
+        return duration >= 0 ? Math.max(duration, UNKNOWN_DURATION) : UNKNOWN_DURATION;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isMemoryIntensive(final NodeContainer nc) {
+        // wrapped metanodes are excluded as they wait for their content, which might be limited itself
+        return nc instanceof NativeNodeContainer
+            && ((NativeNodeContainer)nc).getOutDataMemoryPolicy() == MemoryPolicy.CacheInMemory;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int getMaxConcurrentMemoryIntensiveJobs() {
+        return m_maxConcurrentMemoryIntensiveJobs;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "Critical path (max. " + m_maxConcurrentMemoryIntensiveJobs + " memory intensive jobs)";
+    }
+
+}
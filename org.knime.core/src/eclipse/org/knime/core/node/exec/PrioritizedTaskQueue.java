@@ -0,0 +1,175 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.exec;
+
+import java.util.PriorityQueue;
+
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Runs tasks in a (FIFO) thread pool in the order of their priority. For each submitted task a placeholder is queued
+ * in the pool, which runs the most urgent eligible task once it gets a thread. This keeps the pool's thread limits and
+ * invisible-thread handling. The number of concurrently running memory intensive tasks is limited; memory intensive
+ * tasks exceeding the limit are queued again when a running one finishes.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class PrioritizedTaskQueue {
+
+    private final ThreadPool m_pool;
+
+    private final int m_maxConcurrentMemoryIntensiveTasks;
+
+    /** Tasks waiting for a pool thread (non memory intensive ones), guarded by itself. */
+    private final PriorityQueue<ScheduledTask> m_pendingTasks = new PriorityQueue<ScheduledTask>();
+
+    /** Memory intensive tasks waiting for a pool thread, guarded by {@link #m_pendingTasks}. */
+    private final PriorityQueue<ScheduledTask> m_pendingMemoryIntensiveTasks = new PriorityQueue<ScheduledTask>();
+
+    /** Number of {@link #runNext()} calls queued in the pool, guarded by {@link #m_pendingTasks}. */
+    private int m_nrQueuedSlots;
+
+    /** Guarded by {@link #m_pendingTasks}. */
+    private int m_nrRunningMemoryIntensiveTasks;
+
+    /** Guarded by {@link #m_pendingTasks}. */
+    private long m_nrSubmittedTasks;
+
+    /**
+     * @param pool the pool running the tasks
+     * @param maxConcurrentMemoryIntensiveTasks the maximum number of memory intensive tasks running at the same time
+     */
+    PrioritizedTaskQueue(final ThreadPool pool, final int maxConcurrentMemoryIntensiveTasks) {
+        m_pool = pool;
+        m_maxConcurrentMemoryIntensiveTasks = maxConcurrentMemoryIntensiveTasks;
+    }
+
+    /**
+     * Queues a task. Tasks with higher priority are started first, tasks with equal priority in the order of
+     * submission.
+     *
+     * @param task the task, exceptions should be handled by the task itself (e.g. a future task)
+     * @param priority the priority of the task
+     * @param isMemoryIntensive whether the task counts against the limit of memory intensive tasks
+     */
+    void submit(final Runnable task, final long priority, final boolean isMemoryIntensive) {
+        synchronized (m_pendingTasks) {
+            ScheduledTask scheduledTask = new ScheduledTask(task, priority, isMemoryIntensive, m_nrSubmittedTasks++);
+            (isMemoryIntensive ? m_pendingMemoryIntensiveTasks : m_pendingTasks).add(scheduledTask);
+            m_nrQueuedSlots++;
+        }
+        m_pool.enqueue(this::runNext);
+    }
+
+    /** Runs the most urgent pending task that can be run, if any. Called by the placeholders queued in the pool. */
+    private void runNext() {
+        ScheduledTask next;
+        synchronized (m_pendingTasks) {
+            m_nrQueuedSlots--;
+            ScheduledTask candidate = m_pendingTasks.peek();
+            if (m_nrRunningMemoryIntensiveTasks < m_maxConcurrentMemoryIntensiveTasks) {
+                ScheduledTask memoryIntensiveCandidate = m_pendingMemoryIntensiveTasks.peek();
+                if (memoryIntensiveCandidate != null
+                    && (candidate == null || memoryIntensiveCandidate.compareTo(candidate) < 0)) {
+                    candidate = memoryIntensiveCandidate;
+                }
+            }
+            if (candidate == null) {
+                // only memory intensive tasks left, queued again once a running one finishes
+                return;
+            }
+            next = candidate.m_isMemoryIntensive ? m_pendingMemoryIntensiveTasks.poll() : m_pendingTasks.poll();
+            if (next.m_isMemoryIntensive) {
+                m_nrRunningMemoryIntensiveTasks++;
+            }
+        }
+        try {
+            next.m_task.run();
+        } finally {
+            if (next.m_isMemoryIntensive) {
+                int nrMissingSlots;
+                synchronized (m_pendingTasks) {
+                    m_nrRunningMemoryIntensiveTasks--;
+                    nrMissingSlots = Math.max(0,
+                        m_pendingTasks.size() + m_pendingMemoryIntensiveTasks.size() - m_nrQueuedSlots);
+                    m_nrQueuedSlots += nrMissingSlots;
+                }
+                for (int i = 0; i < nrMissingSlots; i++) {
+                    m_pool.enqueue(this::runNext);
+                }
+            }
+        }
+    }
+
+    /** A submitted task waiting for a pool thread; ordered by descending priority, then by submission. */
+    private static final class ScheduledTask implements Comparable<ScheduledTask> {
+
+        private final Runnable m_task;
+
+        private final long m_priority;
+
+        private final boolean m_isMemoryIntensive;
+
+        private final long m_index;
+
+        ScheduledTask(final Runnable task, final long priority, final boolean isMemoryIntensive, final long index) {
+            m_task = task;
+            m_priority = priority;
+            m_isMemoryIntensive = isMemoryIntensive;
+            m_index = index;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int compareTo(final ScheduledTask o) {
+            int cmp = Long.compare(o.m_priority, m_priority);
+            return cmp != 0 ? cmp : Long.compare(m_index, o.m_index);
+        }
+    }
+
+}
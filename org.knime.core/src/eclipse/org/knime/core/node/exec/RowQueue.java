@@ -0,0 +1,190 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.exec;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.node.streamable.RowInput;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Bounded in-memory queue of rows connecting a streamed producer with a streamed consumer. The consumer reads the
+ * queue as {@link RowInput}, the producer adds rows via {@link #offer(DataRow)} and signals the end of the stream via
+ * {@link #finish()}. The producer blocks as long as the queue is full; if the consumer closes its input before the
+ * stream ends (for instance because it has read enough rows), the remaining rows are discarded.
+ *
+ * <p>Producer and consumer usually run in the same (limited) {@link ThreadPool}. While blocked on the queue a thread
+ * is therefore {@linkplain ThreadPool#runInvisible(Callable) invisible} to its pool, allowing the counterpart to be
+ * started even if all threads of the pool are taken.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class RowQueue extends RowInput {
+
+    /** Marks the end of the stream (compared by identity). */
+    private static final DataRow END_OF_STREAM = new DefaultRow("<end of stream>", new DataCell[0]);
+
+    /** Interval in which a blocked producer checks whether the consumer is closed. */
+    private static final long OFFER_TIMEOUT_MS = 100;
+
+    private final DataTableSpec m_spec;
+
+    private final BlockingQueue<DataRow> m_queue;
+
+    private volatile boolean m_isClosed;
+
+    private boolean m_isFinished;
+
+    /**
+     * @param spec the spec of the rows, not null
+     * @param capacity the maximum number of rows held in the queue, at least 1
+     */
+    RowQueue(final DataTableSpec spec, final int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Queue capacity must be at least 1: " + capacity);
+        }
+        m_spec = spec;
+        m_queue = new ArrayBlockingQueue<DataRow>(capacity);
+    }
+
+    /**
+     * Adds a row, blocks while the queue is full. Does nothing if the consumer closed its input.
+     *
+     * @param row the row to add
+     * @throws InterruptedException if interrupted while waiting
+     */
+    void offer(final DataRow row) throws InterruptedException {
+        if (m_isClosed || m_queue.offer(row)) {
+            return;
+        }
+        waitInvisibly(() -> {
+            while (!m_isClosed) {
+                if (m_queue.offer(row, OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                    break;
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Signals the end of the stream, blocks while the queue is full.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    void finish() throws InterruptedException {
+        offer(END_OF_STREAM);
+    }
+
+    /** @return whether the consumer closed its input, i.e. further rows are discarded */
+    boolean isClosed() {
+        return m_isClosed;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DataTableSpec getDataTableSpec() {
+        return m_spec;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public DataRow poll() throws InterruptedException {
+        if (m_isFinished || m_isClosed) {
+            return null;
+        }
+        DataRow row = m_queue.poll();
+        if (row == null) {
+            row = waitInvisibly(m_queue::take);
+        }
+        if (row == END_OF_STREAM) {
+            m_isFinished = true;
+            return null;
+        }
+        return row;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() {
+        m_isClosed = true;
+        m_queue.clear();
+    }
+
+    /**
+     * Runs the blocking wait for the counterpart. If the current thread is taken out of a {@link ThreadPool} it does
+     * not count towards the pool's limit while waiting.
+     */
+    private static <T> T waitInvisibly(final Callable<T> wait) throws InterruptedException {
+        final ThreadPool pool = ThreadPool.currentPool();
+        try {
+            return pool != null ? pool.runInvisible(wait) : wait.call();
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof InterruptedException) {
+                throw (InterruptedException)cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
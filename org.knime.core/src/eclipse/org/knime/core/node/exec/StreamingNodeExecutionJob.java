@@ -0,0 +1,745 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.exec;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.ContainerTable;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.BufferedDataTableHolder;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.InvalidSettingsException;
+import org.knime.core.node.Node;
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectHolder;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.node.port.flowvariable.FlowVariablePortObject;
+import org.knime.core.node.port.inactive.InactiveBranchConsumer;
+import org.knime.core.node.port.inactive.InactiveBranchPortObject;
+import org.knime.core.node.streamable.DataTableRowInput;
+import org.knime.core.node.streamable.InputPortRole;
+import org.knime.core.node.streamable.MergeOperator;
+import org.knime.core.node.streamable.PartitionInfo;
+import org.knime.core.node.streamable.PortInput;
+import org.knime.core.node.streamable.PortObjectInput;
+import org.knime.core.node.streamable.PortObjectOutput;
+import org.knime.core.node.streamable.PortOutput;
+import org.knime.core.node.streamable.RowOutput;
+import org.knime.core.node.streamable.StreamableOperator;
+import org.knime.core.node.streamable.StreamableOperatorInternals;
+import org.knime.core.node.workflow.ConnectionContainer;
+import org.knime.core.node.workflow.FlowObjectStack;
+import org.knime.core.node.workflow.FlowScopeContext;
+import org.knime.core.node.workflow.FlowVariable;
+import org.knime.core.node.workflow.NativeNodeContainer;
+import org.knime.core.node.workflow.NodeContainer;
+import org.knime.core.node.workflow.NodeContext;
+import org.knime.core.node.workflow.NodeExecutionJob;
+import org.knime.core.node.workflow.NodeID;
+import org.knime.core.node.workflow.NodeMessage;
+import org.knime.core.node.workflow.NodeOutPort;
+import org.knime.core.node.workflow.ScopeEndNode;
+import org.knime.core.node.workflow.ScopeStartNode;
+import org.knime.core.node.workflow.SingleNodeContainer;
+import org.knime.core.node.workflow.SubNodeContainer;
+import org.knime.core.node.workflow.WorkflowLock;
+import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.node.workflow.WorkflowPersistor.LoadResult;
+import org.knime.core.node.workflow.WorkflowPersistor.LoadResultEntry.LoadResultEntryType;
+import org.knime.core.node.workflow.execresult.NativeNodeContainerExecutionResult;
+import org.knime.core.node.workflow.execresult.NodeContainerExecutionStatus;
+import org.knime.core.node.workflow.execresult.NodeExecutionResult;
+import org.knime.core.util.ThreadPool;
+
+/**
+ * Executes the content of a {@link SubNodeContainer} with consecutive streamable nodes being pipelined. Each node
+ * of the inner workflow runs on its own thread:
+ * <ul>
+ * <li>A node is <i>streamed</i> if it implements
+ * {@link NodeModel#createStreamableOperator(PartitionInfo, PortObjectSpec[])}, all its table inputs are
+ * {@linkplain InputPortRole#isStreamable() streamable}, it is not part of a flow scope (loops, try-catch, switches) and
+ * all nodes connected to its outputs are streamed as well (connected via data ports). The rows passed between streamed
+ * nodes are handed over in bounded in-memory {@link RowQueue queues}; the output of a streamed node is never
+ * materialized, after execution its output tables are {@linkplain ExecutionContext#createVoidTable(DataTableSpec)
+ * void tables}.</li>
+ * <li>All other nodes are executed as usual once their predecessors are executed, their output tables serve as
+ * input for streamed successors. These are the boundaries at which tables are materialized.</li>
+ * </ul>
+ * The flow variables of a streamed node are those available when the streamed part of the workflow starts, variables
+ * created by upstream streamed nodes during execution are not propagated (all nodes run concurrently). A streamed
+ * node that creates or changes variables during execution gets a warning that lists them; the variables are
+ * available at its output once the job is done.
+ * <p>The output of a streamed node is set as {@linkplain NativeNodeContainer#loadExecutionResult execution result},
+ * like other executors do that run the node model themselves.
+ * <p>The nodes are run in a sub pool of the job manager's thread pool; threads blocked on a queue are not counted
+ * towards the pool's limit (otherwise the pipeline would deadlock once it has more nodes than the pool has threads).
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ */
+final class StreamingNodeExecutionJob extends NodeExecutionJob {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(StreamingNodeExecutionJob.class);
+
+    private final int m_queueCapacity;
+
+    private final ThreadPool m_pool;
+
+    private Future<?> m_future;
+
+    /**
+     * @param subNode the node to execute
+     * @param data its input data
+     * @param queueCapacity the capacity of the queues between streamed nodes, see
+     *            {@link StreamingNodeExecutionJobManager#getQueueCapacity()}
+     * @param pool the pool running this job, the contained nodes are run in a sub pool of it
+     */
+    StreamingNodeExecutionJob(final SubNodeContainer subNode, final PortObject[] data, final int queueCapacity,
+        final ThreadPool pool) {
+        super(subNode, data);
+        m_queueCapacity = queueCapacity;
+        m_pool = pool;
+    }
+
+    /**
+     * Set the future that represents the pending execution.
+     *
+     * @param future the future to set
+     */
+    void setFuture(final Future<?> future) {
+        m_future = future;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean cancel() {
+        if (m_future == null) {
+            throw new IllegalStateException("Future that represents the execution has not been set.");
+        }
+        return m_future.cancel(true);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean isReConnecting() {
+        return false;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected NodeContainerExecutionStatus mainExecute() {
+        final SubNodeContainer subNode = (SubNodeContainer)getNodeContainer();
+        final WorkflowManager wfm = subNode.getWorkflowManager();
+        final List<NativeNodeContainer> nodes;
+        try {
+            nodes = getNodesInTopologicalOrder(wfm);
+        } catch (IllegalStateException e) {
+            subNode.setNodeMessage(new NodeMessage(NodeMessage.Type.ERROR, e.getMessage()));
+            return NodeContainerExecutionStatus.FAILURE;
+        }
+
+        // plan: streamed nodes, in reverse order as it depends on the successors
+        final Map<NodeID, NodeTask> tasks = new LinkedHashMap<NodeID, NodeTask>();
+        for (NativeNodeContainer nnc : nodes) {
+            tasks.put(nnc.getID(), new NodeTask(wfm, nnc));
+        }
+        for (int i = nodes.size() - 1; i >= 0; i--) {
+            final NodeTask task = tasks.get(nodes.get(i).getID());
+            task.m_isStreamed = isStreamable(wfm, task.m_nnc, tasks);
+        }
+        for (NodeTask task : tasks.values()) {
+            task.connectInputs(tasks, m_queueCapacity);
+        }
+        LOGGER.debugWithFormat("Streaming %d of %d nodes in %s", tasks.values().stream().filter(t -> t.m_isStreamed)
+            .count(), tasks.size(), subNode.getNameWithID());
+
+        // run all nodes, each as separate task (streamed nodes block on each other)
+        final ThreadPool nodePool = m_pool.createSubPool();
+        final Map<NodeID, Future<Boolean>> futures = new ConcurrentHashMap<NodeID, Future<Boolean>>();
+        final Map<Integer, NodeContainerExecutionStatus> childStatus =
+            new HashMap<Integer, NodeContainerExecutionStatus>();
+        boolean isCanceled;
+        try {
+            for (NodeTask task : tasks.values()) {
+                task.m_futures = futures;
+                futures.put(task.m_nnc.getID(), nodePool.enqueue(task));
+            }
+            final Callable<Boolean> waitForAll = () -> waitForTasks(tasks.values(), futures, childStatus);
+            final ThreadPool pool = ThreadPool.currentPool();
+            if (pool != null) {
+                // mark this thread as idle while waiting, see SubNodeContainer#performExecuteNode
+                isCanceled = pool.runInvisible(waitForAll);
+            } else {
+                isCanceled = waitForAll.call();
+            }
+        } catch (Exception e) {
+            LOGGER.error(e.getClass().getSimpleName() + " while waiting for streamed nodes to complete", e);
+            isCanceled = false;
+        } finally {
+            // no-op for completed tasks
+            for (Future<Boolean> future : futures.values()) {
+                future.cancel(true);
+            }
+        }
+
+        final boolean success = !isCanceled && tasks.keySet().stream()
+            .allMatch(id -> childStatus.getOrDefault(id.getIndex(), NodeContainerExecutionStatus.FAILURE).isSuccess());
+        if (isCanceled) {
+            subNode.setNodeMessage(new NodeMessage(NodeMessage.Type.WARNING, "Execution canceled"));
+        } else if (!success) {
+            subNode.setNodeMessage(new NodeMessage(NodeMessage.Type.ERROR, "Not all contained nodes are executed"));
+        }
+        return new StreamingExecutionStatus(success, childStatus);
+    }
+
+    /**
+     * Waits for all tasks in the given order. If a task fails, all remaining ones are canceled as they might wait for
+     * rows that are never produced (or consumed).
+     *
+     * @return whether the execution was canceled
+     */
+    private static boolean waitForTasks(final Collection<NodeTask> tasks, final Map<NodeID, Future<Boolean>> futures,
+        final Map<Integer, NodeContainerExecutionStatus> childStatus) {
+        boolean isCanceled = false;
+        boolean isAborted = false;
+        for (NodeTask task : tasks) {
+            final NodeID id = task.m_nnc.getID();
+            boolean success;
+            try {
+                success = futures.get(id).get();
+            } catch (InterruptedException e) {
+                isCanceled = true;
+                success = false;
+            } catch (ExecutionException | RuntimeException e) {
+                // includes cancellation
+                success = false;
+            }
+            childStatus.put(id.getIndex(),
+                success ? NodeContainerExecutionStatus.SUCCESS : NodeContainerExecutionStatus.FAILURE);
+            if (!success && !isAborted) {
+                isAborted = true;
+                for (Future<Boolean> future : futures.values()) {
+                    future.cancel(true);
+                }
+            }
+        }
+        return isCanceled;
+    }
+
+    /**
+     * @return the nodes of the workflow that are not executed, predecessors before successors
+     * @throws IllegalStateException if the workflow contains metanodes or wrapped metanodes
+     */
+    private static List<NativeNodeContainer> getNodesInTopologicalOrder(final WorkflowManager wfm) {
+        final Map<NodeID, Integer> nrPending = new LinkedHashMap<NodeID, Integer>();
+        final List<NativeNodeContainer> result = new ArrayList<NativeNodeContainer>();
+        try (WorkflowLock lock = wfm.lock()) {
+            for (NodeContainer nc : wfm.getNodeContainers()) {
+                if (!(nc instanceof NativeNodeContainer)) {
+                    throw new IllegalStateException("Streaming execution does not support nested metanodes or "
+                        + "wrapped metanodes (" + nc.getNameWithID() + ")");
+                }
+                if (!nc.getNodeContainerState().isExecuted()) {
+                    nrPending.put(nc.getID(), 0);
+                }
+            }
+            for (NodeID id : nrPending.keySet()) {
+                for (ConnectionContainer cc : wfm.getIncomingConnectionsFor(id)) {
+                    if (nrPending.containsKey(cc.getSource())) {
+                        nrPending.put(id, nrPending.get(id) + 1);
+                    }
+                }
+            }
+            final List<NodeID> ready = new ArrayList<NodeID>();
+            nrPending.forEach((id, count) -> {
+                if (count == 0) {
+                    ready.add(id);
+                }
+            });
+            for (int i = 0; i < ready.size(); i++) {
+                final NodeID id = ready.get(i);
+                result.add((NativeNodeContainer)wfm.getNodeContainer(id));
+                for (ConnectionContainer cc : wfm.getOutgoingConnectionsFor(id)) {
+                    final Integer count = nrPending.get(cc.getDest());
+                    if (count != null) {
+                        nrPending.put(cc.getDest(), count - 1);
+                        if (count == 1) {
+                            ready.add(cc.getDest());
+                        }
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Determines whether a node is streamed. Called for successors before predecessors.
+     */
+    private static boolean isStreamable(final WorkflowManager wfm, final NativeNodeContainer nnc,
+        final Map<NodeID, NodeTask> tasks) {
+        final NodeModel model = nnc.getNodeModel();
+        if (model instanceof ScopeStartNode || model instanceof ScopeEndNode || model instanceof InactiveBranchConsumer
+            || nnc.getFlowObjectStack().peek(FlowScopeContext.class) != null) {
+            return false;
+        }
+        try {
+            if (model.getClass().getMethod("createStreamableOperator", PartitionInfo.class, PortObjectSpec[].class)
+                .getDeclaringClass() == NodeModel.class) {
+                // default implementation executes the node as a whole
+                return false;
+            }
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+        // all (connected) table inputs must be streamable
+        final InputPortRole[] inRoles = model.getInputPortRoles();
+        for (int i = 1; i < nnc.getNrInPorts(); i++) {
+            if (wfm.getIncomingConnectionFor(nnc.getID(), i) != null
+                && BufferedDataTable.TYPE.equals(nnc.getInPort(i).getPortType())
+                && !inRoles[i - 1].isStreamable()) {
+                return false;
+            }
+        }
+        // the operator must get along with a single pass over the input
+        final StreamableOperatorInternals internals = model.createInitialStreamableOperatorInternals();
+        if (internals != null && model.iterate(internals)) {
+            return false;
+        }
+        // output specs are needed for the queues and the void output tables
+        for (int p = 1; p < nnc.getNrOutPorts(); p++) {
+            if (BufferedDataTable.TYPE.equals(nnc.getOutPort(p).getPortType())) {
+                if (!(nnc.getOutPort(p).getPortObjectSpec() instanceof DataTableSpec)) {
+                    return false;
+                }
+            } else if (!wfm.getOutgoingConnectionsFor(nnc.getID(), p).isEmpty()) {
+                return false;
+            }
+        }
+        // all successors must be streamed, otherwise the output needs to be materialized anyway
+        for (ConnectionContainer cc : wfm.getOutgoingConnectionsFor(nnc.getID())) {
+            final NodeTask successor = tasks.get(cc.getDest());
+            if (successor == null || !successor.m_isStreamed || cc.getSourcePort() == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Executes a single node of the inner workflow, either streamed or as usual. */
+    private static final class NodeTask implements Callable<Boolean> {
+
+        private final WorkflowManager m_wfm;
+
+        private final NativeNodeContainer m_nnc;
+
+        private boolean m_isStreamed;
+
+        /** The queues read by this node (streamed nodes only), indexed by node port (0 is flow variable port). */
+        private RowQueue[] m_inputQueues;
+
+        /** The queues fed by this node (streamed nodes only), indexed by node port (0 is flow variable port). */
+        private List<List<RowQueue>> m_outputQueues;
+
+        /** Predecessors that need to finish before this node can start. */
+        private final List<NodeID> m_predecessors = new ArrayList<NodeID>();
+
+        private Map<NodeID, Future<Boolean>> m_futures;
+
+        NodeTask(final WorkflowManager wfm, final NativeNodeContainer nnc) {
+            m_wfm = wfm;
+            m_nnc = nnc;
+        }
+
+        /** Creates the queues from streamed predecessors, all others need to be waited for. */
+        void connectInputs(final Map<NodeID, NodeTask> tasks, final int queueCapacity) {
+            m_inputQueues = new RowQueue[m_nnc.getNrInPorts()];
+            m_outputQueues = new ArrayList<List<RowQueue>>();
+            for (int p = 0; p < m_nnc.getNrOutPorts(); p++) {
+                m_outputQueues.add(new ArrayList<RowQueue>(1));
+            }
+            for (int i = 0; i < m_nnc.getNrInPorts(); i++) {
+                final ConnectionContainer cc = m_wfm.getIncomingConnectionFor(m_nnc.getID(), i);
+                if (cc == null) {
+                    continue;
+                }
+                final NodeTask predecessor = tasks.get(cc.getSource());
+                if (predecessor == null) {
+                    // already executed
+                    continue;
+                }
+                if (predecessor.m_isStreamed) {
+                    assert m_isStreamed : "Successor of streamed node must be streamed";
+                    final NodeOutPort source = predecessor.m_nnc.getOutPort(cc.getSourcePort());
+                    final RowQueue queue = new RowQueue((DataTableSpec)source.getPortObjectSpec(), queueCapacity);
+                    m_inputQueues[i] = queue;
+                    predecessor.m_outputQueues.get(cc.getSourcePort()).add(queue);
+                } else if (!m_predecessors.contains(cc.getSource())) {
+                    m_predecessors.add(cc.getSource());
+                }
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Boolean call() throws Exception {
+            for (NodeID id : m_predecessors) {
+                if (!m_futures.get(id).get()) {
+                    return false;
+                }
+            }
+            final NodeOutPort[] sources = new NodeOutPort[m_nnc.getNrInPorts()];
+            final PortObject[] inData = new PortObject[sources.length];
+            final FlowObjectStack[] stacks = new FlowObjectStack[sources.length];
+            try (WorkflowLock lock = m_wfm.lock()) {
+                for (int i = 0; i < sources.length; i++) {
+                    final ConnectionContainer cc = m_wfm.getIncomingConnectionFor(m_nnc.getID(), i);
+                    if (cc != null) {
+                        final SingleNodeContainer source = (SingleNodeContainer)m_wfm.getNodeContainer(cc.getSource());
+                        sources[i] = source.getOutPort(cc.getSourcePort());
+                        stacks[i] = sources[i].getFlowObjectStack();
+                        // the out port hides the object until the source is marked executed (which only happens
+                        // once this job is done) - ask the node directly; null for streamed inputs
+                        inData[i] = m_inputQueues[i] == null ? source.getOutputObject(cc.getSourcePort()) : null;
+                    }
+                }
+                // the stacks of executed predecessors contain the variables they created
+                m_wfm.createAndSetFlowObjectStackFor(m_nnc, stacks);
+            }
+            if (!m_isStreamed) {
+                return m_nnc.performExecuteNode(inData).isSuccess();
+            }
+            NodeContext.pushContext(m_nnc);
+            try {
+                return executeStreamed(sources, inData);
+            } finally {
+                NodeContext.removeLastContext();
+            }
+        }
+
+        /** @return whether all consumers of this (streamed) node closed their input, false if it has no consumers */
+        private boolean isOutputClosed() {
+            return m_outputQueues.stream().anyMatch(queues -> !queues.isEmpty())
+                && m_outputQueues.stream().flatMap(List::stream).allMatch(RowQueue::isClosed);
+        }
+
+        private boolean executeStreamed(final NodeOutPort[] sources, final PortObject[] inData)
+            throws InterruptedException {
+            final Node node = m_nnc.getNode();
+            final NodeModel model = m_nnc.getNodeModel();
+            final ExecutionContext exec = m_nnc.createExecutionContext();
+            // the variables the successors see, the out port keeps them until the node is marked executed
+            final FlowObjectStack passedOnStack = m_nnc.getOutPort(0).getFlowObjectStack();
+            final Map<String, FlowVariable> passedOnVariables = passedOnStack == null
+                ? new HashMap<String, FlowVariable>()
+                : passedOnStack.getAvailableFlowVariables(FlowVariable.Type.values());
+            node.openFileStoreHandler(exec);
+            final PortInput[] inputs = new PortInput[sources.length - 1];
+            final PortObjectSpec[] inSpecs = new PortObjectSpec[sources.length - 1];
+            final PortOutput[] outputs = new PortOutput[m_nnc.getNrOutPorts() - 1];
+            for (int p = 0; p < outputs.length; p++) {
+                if (BufferedDataTable.TYPE.equals(m_nnc.getOutPort(p + 1).getPortType())) {
+                    outputs[p] = new FanOutRowOutput(m_outputQueues.get(p + 1), this::isOutputClosed);
+                } else {
+                    // not connected (see isStreamable), result is discarded
+                    outputs[p] = new PortObjectOutput();
+                }
+            }
+            try {
+                for (int i = 1; i < sources.length; i++) {
+                    if (m_inputQueues[i] != null) {
+                        inputs[i - 1] = m_inputQueues[i];
+                        inSpecs[i - 1] = m_inputQueues[i].getDataTableSpec();
+                    } else if (sources[i] != null) {
+                        final PortObject object = inData[i];
+                        if (object == null || object instanceof InactiveBranchPortObject) {
+                            throw new IllegalStateException(
+                                "No data available from predecessor (Port No. " + i + ")");
+                        }
+                        inputs[i - 1] = object instanceof BufferedDataTable
+                            ? new DataTableRowInput((BufferedDataTable)object) : new PortObjectInput(object);
+                        inSpecs[i - 1] = sources[i].getPortObjectSpec();
+                    }
+                }
+                final StreamableOperatorInternals internals = model.createInitialStreamableOperatorInternals();
+                final StreamableOperator operator =
+                    model.createStreamableOperator(new PartitionInfo(0, 1), inSpecs);
+                if (internals != null) {
+                    operator.loadInternals(internals);
+                }
+                try {
+                    operator.runFinal(inputs, outputs, exec);
+                } catch (RowOutput.OutputClosedException e) {
+                    // all consumers are done
+                }
+                final MergeOperator mergeOperator = model.createMergeOperator();
+                if (mergeOperator != null) {
+                    final StreamableOperatorInternals merged =
+                        mergeOperator.mergeFinal(new StreamableOperatorInternals[]{operator.saveInternals()});
+                    model.finishStreamableExecution(merged, exec, outputs);
+                }
+                final PortObject[] outData = new PortObject[outputs.length + 1];
+                outData[0] = FlowVariablePortObject.INSTANCE;
+                for (int p = 0; p < outputs.length; p++) {
+                    if (outputs[p] instanceof FanOutRowOutput) {
+                        ((FanOutRowOutput)outputs[p]).close();
+                        // rows are not retained, see class comment
+                        outData[p + 1] =
+                            exec.createVoidTable((DataTableSpec)m_nnc.getOutPort(p + 1).getPortObjectSpec());
+                    } else {
+                        outData[p + 1] = ((PortObjectOutput)outputs[p]).getPortObject();
+                    }
+                }
+                if (!loadOutput(outData, exec)) {
+                    return false;
+                }
+                warnOnDroppedVariables(passedOnVariables);
+                return true;
+            } catch (InterruptedException e) {
+                node.createWarningMessageAndNotify("Execution canceled", null);
+                throw e;
+            } catch (Throwable th) {
+                if (th instanceof CanceledExecutionException || Thread.currentThread().isInterrupted()) {
+                    node.createWarningMessageAndNotify("Execution canceled", null);
+                    return false;
+                }
+                final String message =
+                    th instanceof InvalidSettingsException ? "Configure failed: " : "Execute failed: ";
+                node.createErrorMessageAndNotify(message + (th.getMessage() != null ? th.getMessage()
+                    : "(\"" + th.getClass().getSimpleName() + "\")"), th);
+                return false;
+            } finally {
+                // unblock producers in case the operator did not read the entire input; the outputs of a failed
+                // operator are deliberately not closed so that consumers don't mistake a partial stream for the
+                // complete one (they are canceled once the failure is noticed)
+                for (int i = 1; i < m_inputQueues.length; i++) {
+                    if (m_inputQueues[i] != null) {
+                        m_inputQueues[i].close();
+                    } else if (inputs[i - 1] instanceof DataTableRowInput) {
+                        ((DataTableRowInput)inputs[i - 1]).close();
+                    }
+                }
+            }
+        }
+
+        /**
+         * Sets the output of the streamed node on the node container as if it was loaded from an execution result.
+         *
+         * @return whether the output is valid and was set (an error message is set otherwise)
+         */
+        private boolean loadOutput(final PortObject[] outData, final ExecutionContext exec) {
+            final Node node = m_nnc.getNode();
+            final PortObjectSpec[] outSpecs = new PortObjectSpec[outData.length];
+            for (int p = 0; p < outData.length; p++) {
+                if (outData[p] == null) {
+                    node.createErrorMessageAndNotify("Execute failed: No output at port " + p, null);
+                    return false;
+                }
+                outSpecs[p] = outData[p].getSpec();
+            }
+            final NodeMessage message = m_nnc.getNodeMessage();
+            final NodeExecutionResult nodeResult = new StreamedNodeExecutionResult();
+            nodeResult.setPortObjects(outData);
+            nodeResult.setPortObjectSpecs(outSpecs);
+            nodeResult.setInternalHeldPortObjects(getInternalHeldPortObjects(m_nnc.getNodeModel()));
+            if (message.getMessageType() == NodeMessage.Type.WARNING) {
+                nodeResult.setWarningMessage(message.getMessage());
+            }
+            final NativeNodeContainerExecutionResult result = new NativeNodeContainerExecutionResult();
+            result.setNodeExecutionResult(nodeResult);
+            result.setMessage(message);
+            result.setSuccess(true);
+            final LoadResult loadResult = new LoadResult("Output of streamed node " + m_nnc.getNameWithID());
+            m_nnc.loadExecutionResult(result, exec, loadResult);
+            if (loadResult.hasErrors() || result.needsResetAfterLoad() || nodeResult.needsResetAfterLoad()) {
+                node.createErrorMessageAndNotify("Execute failed: Invalid output ("
+                    + loadResult.getFilteredError("", LoadResultEntryType.Warning) + ")", null);
+                return false;
+            }
+            // tables created by the operator that are not part of the output are cleared with the node
+            final Map<Integer, ContainerTable> globalRep = m_wfm.getGlobalTableRepository();
+            final Set<ContainerTable> localTables = Node.getLocalTableRepositoryFromContext(exec).values().stream()
+                .filter(t -> !globalRep.containsKey(t.getBufferID())).collect(Collectors.toSet());
+            node.addToTemporaryTables(localTables);
+            return true;
+        }
+
+        /**
+         * Sets a warning on the node if it created or changed variables during execution, which is too late for its
+         * (concurrently running) successors.
+         */
+        private void warnOnDroppedVariables(final Map<String, FlowVariable> passedOnVariables) {
+            if (m_wfm.getOutgoingConnectionsFor(m_nnc.getID()).isEmpty()) {
+                return;
+            }
+            final String dropped = m_nnc.getOutgoingFlowObjectStack()
+                .getAvailableFlowVariables(FlowVariable.Type.values()).values().stream()
+                .filter(v -> v.getScope() == FlowVariable.Scope.Flow && !v.equals(passedOnVariables.get(v.getName())))
+                .map(FlowVariable::getName).sorted().collect(Collectors.joining(", "));
+            if (dropped.isEmpty()) {
+                return;
+            }
+            final String warning = "Flow variables created during streamed execution are not passed to downstream "
+                + "nodes: " + dropped;
+            final NodeMessage message = m_nnc.getNodeMessage();
+            m_nnc.getNode().createWarningMessageAndNotify(message.getMessageType() == NodeMessage.Type.WARNING
+                ? message.getMessage() + "\n" + warning : warning, null);
+        }
+
+        /** @return the objects held by the model (if any), see {@link Node#getInternalHeldPortObjects()} */
+        private static PortObject[] getInternalHeldPortObjects(final NodeModel model) {
+            if (model instanceof PortObjectHolder) {
+                return ((PortObjectHolder)model).getInternalPortObjects();
+            } else if (model instanceof BufferedDataTableHolder) {
+                return ((BufferedDataTableHolder)model).getInternalTables();
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Result of a streamed node. The model was executed, so its internals need to be saved with the workflow even though
+     * there is no directory to load them from.
+     */
+    private static final class StreamedNodeExecutionResult extends NodeExecutionResult {
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean hasContent() {
+            return true;
+        }
+    }
+
+    /**
+     * Output of a streamed node, passes each row to the queues of all consumers. Rows are discarded if all consumers
+     * of the port closed their input; once the consumers of all ports of the node are closed an
+     * {@link RowOutput.OutputClosedException} is thrown to stop the producing operator.
+     */
+    private static final class FanOutRowOutput extends RowOutput {
+
+        private final List<RowQueue> m_queues;
+
+        private final BooleanSupplier m_isNodeOutputClosed;
+
+        private boolean m_isClosed;
+
+        FanOutRowOutput(final List<RowQueue> queues, final BooleanSupplier isNodeOutputClosed) {
+            m_queues = queues;
+            m_isNodeOutputClosed = isNodeOutputClosed;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void push(final DataRow row) throws InterruptedException {
+            boolean isConsumed = false;
+            for (RowQueue queue : m_queues) {
+                if (!queue.isClosed()) {
+                    queue.offer(row);
+                    isConsumed = true;
+                }
+            }
+            if (!isConsumed && m_isNodeOutputClosed.getAsBoolean()) {
+                throw new OutputClosedException();
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void close() throws InterruptedException {
+            // may be called by the operator and again by the job
+            if (!m_isClosed) {
+                m_isClosed = true;
+                for (RowQueue queue : m_queues) {
+                    queue.finish();
+                }
+            }
+        }
+    }
+
+    /** Status with the status of the inner nodes as children. */
+    private static final class StreamingExecutionStatus implements NodeContainerExecutionStatus {
+
+        private final boolean m_isSuccess;
+
+        private final Map<Integer, NodeContainerExecutionStatus> m_childStatus;
+
+        StreamingExecutionStatus(final boolean isSuccess,
+            final Map<Integer, NodeContainerExecutionStatus> childStatus) {
+            m_isSuccess = isSuccess;
+            m_childStatus = childStatus;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isSuccess() {
+            return m_isSuccess;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public NodeContainerExecutionStatus getChildStatus(final int idSuffix) {
+            return m_childStatus.getOrDefault(idSuffix, NodeContainerExecutionStatus.FAILURE);
+        }
+    }
+}
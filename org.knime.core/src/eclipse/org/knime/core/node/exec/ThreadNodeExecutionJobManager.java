@@ -49,12 +49,15 @@
 
 import java.net.URL;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeLogger;
 import org.knime.core.node.port.PortObject;
 import org.knime.core.node.workflow.AbstractNodeExecutionJobManager;
 import org.knime.core.node.workflow.NodeContainer;
 import org.knime.core.node.workflow.NodeExecutionJob;
+import org.knime.core.node.workflow.NodeSchedulingPolicy;
 import org.knime.core.node.workflow.SingleNodeContainer;
 import org.knime.core.util.ThreadPool;
 
@@ -69,15 +72,52 @@ public class ThreadNodeExecutionJobManager extends AbstractNodeExecutionJobManag
 
     private final ThreadPool m_pool;
 
+    private final NodeSchedulingPolicy m_schedulingPolicy;
+
+    /** Orders the jobs if the scheduling policy is not {@link NodeSchedulingPolicy#FIFO}, otherwise null. */
+    private final PrioritizedTaskQueue m_taskQueue;
+
     public ThreadNodeExecutionJobManager() {
         this(KNIMEConstants.GLOBAL_THREAD_POOL);
     }
 
     public ThreadNodeExecutionJobManager(final ThreadPool pool) {
-        if (pool == null) {
+        this(pool, createDefaultSchedulingPolicy());
+    }
+
+    /**
+     * Creates a job manager that runs the jobs in the given pool in the order determined by the scheduling policy.
+     *
+     * @param pool the pool running the jobs
+     * @param schedulingPolicy the order in which queued jobs are started
+     * @since 3.6
+     */
+    public ThreadNodeExecutionJobManager(final ThreadPool pool, final NodeSchedulingPolicy schedulingPolicy) {
+        if (pool == null || schedulingPolicy == null) {
             throw new NullPointerException("arg must not be null");
         }
         m_pool = pool;
+        m_schedulingPolicy = schedulingPolicy;
+        m_taskQueue = schedulingPolicy == NodeSchedulingPolicy.FIFO ? null
+            : new PrioritizedTaskQueue(pool, schedulingPolicy.getMaxConcurrentMemoryIntensiveJobs());
+    }
+
+    /**
+     * @return the policy set via {@link KNIMEConstants#PROPERTY_CRITICAL_PATH_SCHEDULING} or
+     *         {@link NodeSchedulingPolicy#FIFO}
+     */
+    private static NodeSchedulingPolicy createDefaultSchedulingPolicy() {
+        String value = System.getProperty(KNIMEConstants.PROPERTY_CRITICAL_PATH_SCHEDULING);
+        if (value == null) {
+            return NodeSchedulingPolicy.FIFO;
+        }
+        try {
+            return new CriticalPathSchedulingPolicy(Integer.parseInt(value.trim()));
+        } catch (IllegalArgumentException e) {
+            NodeLogger.getLogger(ThreadNodeExecutionJobManager.class).warn("Unable to parse system property \""
+                + KNIMEConstants.PROPERTY_CRITICAL_PATH_SCHEDULING + "\" (\"" + value + "\"): " + e.getMessage());
+            return NodeSchedulingPolicy.FIFO;
+        }
     }
 
     /** {@inheritDoc} */
@@ -88,11 +128,23 @@ public NodeExecutionJob submitJob(final NodeContainer nc, final PortObject[] dat
                     + " is not able to execute a metanode: " + nc.getNameWithID());
         }
         LocalNodeExecutionJob job = new LocalNodeExecutionJob((SingleNodeContainer)nc, data);
-        Future<?> future = m_pool.enqueue(job);
-        job.setFuture(future);
+        if (m_taskQueue == null) {
+            Future<?> future = m_pool.enqueue(job);
+            job.setFuture(future);
+            return job;
+        }
+        FutureTask<Void> task = new FutureTask<Void>(job, null);
+        job.setFuture(task);
+        m_taskQueue.submit(task, m_schedulingPolicy.getPriority(nc), m_schedulingPolicy.isMemoryIntensive(nc));
         return job;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public NodeSchedulingPolicy getSchedulingPolicy() {
+        return m_schedulingPolicy;
+    }
+
     /** {@inheritDoc} */
     @Override
     public String getID() {
@@ -0,0 +1,758 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.streamable;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.core.data.DataCell;
+import org.knime.core.data.DataColumnSpec;
+import org.knime.core.data.DataRow;
+import org.knime.core.data.DataTableSpec;
+import org.knime.core.data.container.AbstractCellFactory;
+import org.knime.core.data.container.CloseableRowIterator;
+import org.knime.core.data.container.ColumnRearranger;
+import org.knime.core.data.def.DefaultRow;
+import org.knime.core.node.BufferedDataContainer;
+import org.knime.core.node.BufferedDataTable;
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionContext;
+import org.knime.core.node.ExecutionMonitor;
+import org.knime.core.node.KNIMEConstants;
+import org.knime.core.node.NodeModel;
+import org.knime.core.node.port.PortObject;
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.util.ThreadPool;
+import org.knime.core.util.ThreadUtils;
+
+/**
+ * Executes a node by running several instances of its {@link StreamableOperator} concurrently on the rows of the
+ * distributed input tables (as declared by {@link NodeModel#getInputPortRoles()}), one operator per thread. The input
+ * tables are read once, sequentially, by the calling thread, which hands chunks of consecutive rows to the operators
+ * in turn (chunk <i>c</i> to operator <i>c</i> modulo the number of operators); at most
+ * {@value #CHUNKS_AHEAD_PER_THREAD} chunks per operator are held in memory. The operators run in a sub pool of the
+ * {@link KNIMEConstants#GLOBAL_THREAD_POOL}; their {@link StreamableOperatorInternals} are combined by the node's
+ * {@link MergeOperator} and passed to
+ * {@link NodeModel#finishStreamableExecution(StreamableOperatorInternals, ExecutionContext, PortOutput[])}.
+ *
+ * <p>
+ * Each operator writes its rows of a distributed table output to a temporary table. A row is attributed to the chunk
+ * of the input row the operator polled last, hence operators have to push the rows derived from an input row before
+ * they poll the next one (as {@link StreamableFunction}s do); the output then has the same row order as a
+ * non-partitioned execution. The output table is assembled from the temporary tables in chunk order:
+ * <ul>
+ * <li>By default the rows are copied into a new table.</li>
+ * <li>If the operators only append cells to the rows of the (single) distributed input table, for instance operators
+ * created from a {@link ColumnRearranger} that only appends columns, the caller should pass
+ * <code>appendsColumns</code> to {@link #execute(NodeModel, PortObject[], ExecutionContext, int, boolean)}. The
+ * temporary tables then only contain the appended cells, which are joined to the input table by means of
+ * {@link ExecutionContext#createColumnRearrangeTable(BufferedDataTable, ColumnRearranger, ExecutionMonitor)}, i.e.
+ * the cells of the input table are not copied.</li>
+ * </ul>
+ *
+ * <p>
+ * Nodes have to opt in explicitly, typically via a setting of the node, since the result may differ from the one of
+ * the node's own execute method (e.g. in the attached table specs or the progress messages):
+ *
+ * <pre>
+ * protected PortObject[] execute(final PortObject[] inObjects, final ExecutionContext exec) throws Exception {
+ *     BufferedDataTable data = (BufferedDataTable)inObjects[1];
+ *     int nrPartitions = PartitionedStreamableExecutor.getPartitionCount(data.size());
+ *     if (m_executeConcurrently &amp;&amp; nrPartitions &gt; 1) {
+ *         return PartitionedStreamableExecutor.execute(this, inObjects, exec, nrPartitions, true);
+ *     }
+ *     ...
+ * }
+ * </pre>
+ *
+ * Nodes that require an iteration on the data (see {@link NodeModel#iterate(StreamableOperatorInternals)}) are not
+ * supported.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.6
+ */
+public final class PartitionedStreamableExecutor {
+
+    /** Minimum number of rows per partition, smaller inputs are not worth the overhead of concurrent execution. */
+    public static final long MIN_ROWS_PER_PARTITION = 10000;
+
+    /** Maximum number of rows per chunk, bounds the rows held in memory for a single operator. */
+    private static final long MAX_ROWS_PER_CHUNK = MIN_ROWS_PER_PARTITION;
+
+    /** Number of chunks per operator that are read ahead of the running operators. */
+    private static final int CHUNKS_AHEAD_PER_THREAD = 2;
+
+    private PartitionedStreamableExecutor() {
+    }
+
+    /**
+     * Suggests the number of partitions for an input of the given size, which is bound by the maximum number of
+     * threads of the global thread pool and such that each partition has at least {@link #MIN_ROWS_PER_PARTITION}
+     * rows.
+     *
+     * @param rowCount the number of rows of the distributed input
+     * @return the number of partitions, at least 1
+     */
+    public static int getPartitionCount(final long rowCount) {
+        final long maxPartitions = Math.max(1, KNIMEConstants.GLOBAL_THREAD_POOL.getMaxThreads());
+        return (int)Math.max(1, Math.min(maxPartitions, rowCount / MIN_ROWS_PER_PARTITION));
+    }
+
+    /**
+     * Whether the node can be executed by this class, i.e. it has a distributed table input, all non-distributed
+     * outputs can be created from the merged internals and it does not require iterative access on the data.
+     *
+     * @param model the node model
+     * @return true if {@link #execute(NodeModel, PortObject[], ExecutionContext, int)} can be called
+     */
+    public static boolean isApplicable(final NodeModel model) {
+        return checkApplicable(model) == null;
+    }
+
+    /**
+     * Executes the node on the given input with (at most) the given number of concurrently running operators, the
+     * rows of the distributed table outputs are copied into new tables.
+     *
+     * @param model the node model, whose operators, merge operator and finish method are used
+     * @param inData the input data of the node (without the flow variable port), as passed to
+     *            {@link NodeModel#execute(PortObject[], ExecutionContext)}
+     * @param exec the context of the node execution, for progress, cancelation and table creation
+     * @param nrPartitions the number of concurrently running operators, at least 1
+     * @return the output of the node
+     * @throws IllegalStateException if the node is not applicable (see {@link #isApplicable(NodeModel)})
+     * @throws CanceledExecutionException if canceled
+     * @throws Exception any exception thrown by the operators or the node
+     * @see #execute(NodeModel, PortObject[], ExecutionContext, int, boolean)
+     */
+    public static PortObject[] execute(final NodeModel model, final PortObject[] inData, final ExecutionContext exec,
+        final int nrPartitions) throws Exception {
+        return execute(model, inData, exec, nrPartitions, false);
+    }
+
+    /**
+     * Executes the node on the given input with (at most) the given number of concurrently running operators, one
+     * per partition. The number of partitions is reduced if the distributed inputs are split into fewer chunks of at
+     * most {@value #MAX_ROWS_PER_CHUNK} rows.
+     *
+     * @param model the node model, whose operators, merge operator and finish method are used
+     * @param inData the input data of the node (without the flow variable port), as passed to
+     *            {@link NodeModel#execute(PortObject[], ExecutionContext)}
+     * @param exec the context of the node execution, for progress, cancelation and table creation
+     * @param nrPartitions the number of concurrently running operators, at least 1
+     * @param appendsColumns whether the operators push each row of the single distributed input table, in the same
+     *            order and with cells appended, to the distributed table outputs. If so, only the appended cells are
+     *            stored and joined to the input table
+     * @return the output of the node
+     * @throws IllegalStateException if the node is not applicable (see {@link #isApplicable(NodeModel)}), or if
+     *             <code>appendsColumns</code> is set and the operators don't push one row per input row
+     * @throws IllegalArgumentException if <code>appendsColumns</code> is set and the node has more than one
+     *             distributed input table or the spec of a distributed output doesn't start with the input columns
+     * @throws CanceledExecutionException if canceled
+     * @throws Exception any exception thrown by the operators or the node
+     */
+    public static PortObject[] execute(final NodeModel model, final PortObject[] inData, final ExecutionContext exec,
+        final int nrPartitions, final boolean appendsColumns) throws Exception {
+        if (nrPartitions < 1) {
+            throw new IllegalArgumentException("Number of partitions must be at least 1: " + nrPartitions);
+        }
+        final String notApplicableReason = checkApplicable(model);
+        if (notApplicableReason != null) {
+            throw new IllegalStateException(notApplicableReason);
+        }
+        final InputPortRole[] inRoles = model.getInputPortRoles();
+        final OutputPortRole[] outRoles = model.getOutputPortRoles();
+        final PortObjectSpec[] inSpecs = new PortObjectSpec[inData.length];
+        long maxRowCount = 0;
+        int appendedInput = -1;
+        for (int i = 0; i < inData.length; i++) {
+            if (inData[i] instanceof BufferedDataTable) {
+                inSpecs[i] = ((BufferedDataTable)inData[i]).getDataTableSpec();
+                if (inRoles[i].isDistributable()) {
+                    maxRowCount = Math.max(maxRowCount, ((BufferedDataTable)inData[i]).size());
+                    if (appendsColumns && appendedInput >= 0) {
+                        throw new IllegalArgumentException(
+                            "Columns can only be appended to a single distributed input table");
+                    }
+                    appendedInput = i;
+                }
+            } else if (inData[i] != null) {
+                inSpecs[i] = inData[i].getSpec();
+            }
+        }
+        final long rowsPerChunk =
+            Math.max(1, Math.min(MAX_ROWS_PER_CHUNK, (maxRowCount + nrPartitions - 1) / nrPartitions));
+        final int nrChunks = (int)Math.max(1, (maxRowCount + rowsPerChunk - 1) / rowsPerChunk);
+        // each operator gets at least one chunk
+        final int nrThreads = Math.min(nrPartitions, nrChunks);
+        final StreamableOperatorInternals initialInternals = model.createInitialStreamableOperatorInternals();
+        final PortObjectSpec[] outSpecs = model.computeFinalOutputSpecs(initialInternals, inSpecs);
+
+        // the spec of the temporary tables and the number of leading cells not stored, per distributed output
+        final DataTableSpec[] storedSpecs = new DataTableSpec[outRoles.length];
+        final int[] skippedCells = new int[outRoles.length];
+        for (int o = 0; o < outRoles.length; o++) {
+            if (!outRoles[o].isDistributable()) {
+                continue;
+            }
+            if (!(outSpecs[o] instanceof DataTableSpec)) {
+                throw new IllegalStateException("Distributed output " + o + " is not a data table");
+            }
+            storedSpecs[o] = (DataTableSpec)outSpecs[o];
+            if (appendsColumns) {
+                skippedCells[o] = ((DataTableSpec)inSpecs[appendedInput]).getNumColumns();
+                storedSpecs[o] = getAppendedSpec((DataTableSpec)inSpecs[appendedInput], storedSpecs[o]);
+            }
+        }
+
+        exec.setMessage("Processing " + nrChunks + " chunks with " + nrThreads + " threads");
+        final ExecutionContext partitionsExec = exec.createSubExecutionContext(0.8);
+        final ThreadPool pool = KNIMEConstants.GLOBAL_THREAD_POOL.createSubPool(nrThreads);
+        final Partition[] partitions = new Partition[nrThreads];
+        final List<Future<StreamableOperatorInternals>> futures =
+            new ArrayList<Future<StreamableOperatorInternals>>(nrThreads);
+        final StreamableOperatorInternals[] internals = new StreamableOperatorInternals[nrThreads];
+        final CloseableRowIterator[] iterators = new CloseableRowIterator[inData.length];
+        final long[] rowIndices = new long[inData.length];
+        try {
+            for (int p = 0; p < nrThreads; p++) {
+                final Partition partition = new Partition(inData, inRoles, storedSpecs, skippedCells);
+                final PartitionInfo partitionInfo = new PartitionInfo(p, nrThreads);
+                final ExecutionContext partExec = partitionsExec.createSubExecutionContext(1.0 / nrThreads);
+                partitions[p] = partition;
+                futures.add(pool.enqueue(() -> {
+                    partExec.checkCanceled();
+                    return partition.run(model, partitionInfo, inData, inSpecs, initialInternals, partExec);
+                }));
+            }
+            for (int i = 0; i < inData.length; i++) {
+                if (partitions[0].m_inputs[i] != null) {
+                    iterators[i] = ((BufferedDataTable)inData[i]).iterator();
+                }
+            }
+            for (int c = 0; c < nrChunks; c++) {
+                exec.checkCanceled();
+                final int p = c % nrThreads;
+                // the single sequential read of the distributed inputs, each chunk takes the next range of rows
+                for (int i = 0; i < inData.length; i++) {
+                    if (iterators[i] != null) {
+                        final long end = ((BufferedDataTable)inData[i]).size() * (c + 1) / nrChunks;
+                        final ArrayDeque<DataRow> rows = new ArrayDeque<DataRow>((int)(end - rowIndices[i]));
+                        for (; rowIndices[i] < end; rowIndices[i]++) {
+                            rows.add(iterators[i].next());
+                        }
+                        if (!partitions[p].m_inputs[i].offer(rows, futures.get(p))) {
+                            // the operator is done; throws its exception if it failed
+                            waitFor(futures.get(p), exec);
+                        }
+                    }
+                }
+            }
+            for (int p = 0; p < nrThreads; p++) {
+                partitions[p].finishInputs(futures.get(p));
+            }
+            for (int p = 0; p < nrThreads; p++) {
+                internals[p] = waitFor(futures.get(p), exec);
+            }
+        } finally {
+            for (CloseableRowIterator iterator : iterators) {
+                if (iterator != null) {
+                    iterator.close();
+                }
+            }
+            for (Future<StreamableOperatorInternals> future : futures) {
+                future.cancel(true);
+            }
+        }
+
+        final PortObject[] outData = new PortObject[outRoles.length];
+        final ExecutionContext finishExec = exec.createSubExecutionContext(0.2);
+        final MergeOperator mergeOperator = model.createMergeOperator();
+        if (mergeOperator != null) {
+            exec.setMessage("Merging partitions");
+            final StreamableOperatorInternals mergedInternals = mergeOperator.mergeFinal(internals);
+            final PortOutput[] outputs = new PortOutput[outRoles.length];
+            for (int o = 0; o < outputs.length; o++) {
+                if (!outRoles[o].isDistributable()) {
+                    outputs[o] = createOutput(outSpecs[o], finishExec);
+                }
+            }
+            model.finishStreamableExecution(mergedInternals, finishExec, outputs);
+            for (int o = 0; o < outputs.length; o++) {
+                if (outputs[o] != null) {
+                    outData[o] = getOutput(outputs[o]);
+                }
+            }
+        }
+        for (int o = 0; o < outData.length; o++) {
+            if (outRoles[o].isDistributable()) {
+                exec.setMessage("Assembling output " + o);
+                final ChunkOutput[] chunkOutputs = new ChunkOutput[nrThreads];
+                for (int p = 0; p < nrThreads; p++) {
+                    chunkOutputs[p] = partitions[p].m_outputs[o];
+                }
+                try (OrderedRowIterator it = new OrderedRowIterator(chunkOutputs, nrChunks)) {
+                    if (appendsColumns) {
+                        outData[o] = joinAppendedCells((BufferedDataTable)inData[appendedInput], storedSpecs[o], it,
+                            finishExec);
+                    } else {
+                        outData[o] = copyRows((DataTableSpec)outSpecs[o], it, finishExec);
+                    }
+                }
+                for (ChunkOutput chunkOutput : chunkOutputs) {
+                    exec.clearTable(chunkOutput.getTable());
+                }
+            }
+        }
+        return outData;
+    }
+
+    /** @return null if the node can be executed partitioned, otherwise the reason why not */
+    private static String checkApplicable(final NodeModel model) {
+        boolean hasDistributedInput = false;
+        for (InputPortRole role : model.getInputPortRoles()) {
+            hasDistributedInput |= role.isDistributable();
+        }
+        if (!hasDistributedInput) {
+            return "Node has no distributable input";
+        }
+        boolean hasNonDistributedOutput = false;
+        for (OutputPortRole role : model.getOutputPortRoles()) {
+            hasNonDistributedOutput |= !role.isDistributable();
+        }
+        if (hasNonDistributedOutput && model.createMergeOperator() == null) {
+            return "Node has non-distributable outputs but no merge operator";
+        }
+        final StreamableOperatorInternals internals = model.createInitialStreamableOperatorInternals();
+        if (internals != null && model.iterate(internals)) {
+            return "Nodes with iterative data access can't be executed partitioned";
+        }
+        return null;
+    }
+
+    /** @return the spec of the appended columns, i.e. the columns of the output spec following the input columns */
+    private static DataTableSpec getAppendedSpec(final DataTableSpec inSpec, final DataTableSpec outSpec) {
+        final int inColumns = inSpec.getNumColumns();
+        if (outSpec.getNumColumns() < inColumns) {
+            throw new IllegalArgumentException(
+                "Output has fewer columns than the input table, it doesn't append columns to the input table");
+        }
+        for (int c = 0; c < inColumns; c++) {
+            if (!inSpec.getColumnSpec(c).equals(outSpec.getColumnSpec(c))) {
+                throw new IllegalArgumentException("Output column " + c + " (\"" + outSpec.getColumnSpec(c).getName()
+                    + "\") differs from the input column, the output doesn't append columns to the input table");
+            }
+        }
+        final DataColumnSpec[] appendedSpecs = new DataColumnSpec[outSpec.getNumColumns() - inColumns];
+        for (int c = 0; c < appendedSpecs.length; c++) {
+            appendedSpecs[c] = outSpec.getColumnSpec(inColumns + c);
+        }
+        return new DataTableSpec(appendedSpecs);
+    }
+
+    /** Joins the appended cells to the rows of the input table, only the appended cells are written. */
+    private static BufferedDataTable joinAppendedCells(final BufferedDataTable table, final DataTableSpec appendedSpec,
+        final OrderedRowIterator appendedRows, final ExecutionContext exec) throws CanceledExecutionException {
+        final DataColumnSpec[] appendedSpecs = new DataColumnSpec[appendedSpec.getNumColumns()];
+        for (int c = 0; c < appendedSpecs.length; c++) {
+            appendedSpecs[c] = appendedSpec.getColumnSpec(c);
+        }
+        final ColumnRearranger rearranger = new ColumnRearranger(table.getDataTableSpec());
+        rearranger.append(new AbstractCellFactory(appendedSpecs) {
+            @Override
+            public DataCell[] getCells(final DataRow row) {
+                final DataRow appended = appendedRows.next();
+                if (appended == null || !appended.getKey().equals(row.getKey())) {
+                    throw new IllegalStateException("Operators appending columns have to push one row per input "
+                        + "row, with the same row key and in the same order (input row \"" + row.getKey() + "\")");
+                }
+                final DataCell[] cells = new DataCell[appended.getNumCells()];
+                for (int c = 0; c < cells.length; c++) {
+                    cells[c] = appended.getCell(c);
+                }
+                return cells;
+            }
+        });
+        final BufferedDataTable result = exec.createColumnRearrangeTable(table, rearranger, exec);
+        if (appendedRows.next() != null) {
+            throw new IllegalStateException("Operators appending columns pushed more rows than the input table has");
+        }
+        return result;
+    }
+
+    /** Copies the rows into a new table. */
+    private static BufferedDataTable copyRows(final DataTableSpec spec, final OrderedRowIterator rows,
+        final ExecutionContext exec) throws CanceledExecutionException {
+        final BufferedDataContainer container = exec.createDataContainer(spec);
+        for (DataRow row = rows.next(); row != null; row = rows.next()) {
+            exec.checkCanceled();
+            container.addRowToTable(row);
+        }
+        container.close();
+        return container.getTable();
+    }
+
+    private static PortOutput createOutput(final PortObjectSpec spec, final ExecutionContext exec) {
+        if (spec instanceof DataTableSpec) {
+            return new BufferedDataTableRowOutput(exec.createDataContainer((DataTableSpec)spec));
+        }
+        return new PortObjectOutput();
+    }
+
+    private static PortObject getOutput(final PortOutput output) throws InterruptedException {
+        if (output instanceof BufferedDataTableRowOutput) {
+            final BufferedDataTableRowOutput rowOutput = (BufferedDataTableRowOutput)output;
+            // closing is idempotent, operators usually close their outputs themselves
+            rowOutput.close();
+            return rowOutput.getDataTable();
+        }
+        return ((PortObjectOutput)output).getPortObject();
+    }
+
+    /** Waits for the operator (invisible to the thread pool) and rethrows its exception. */
+    private static <T> T waitFor(final Future<T> future, final ExecutionMonitor exec) throws Exception {
+        try {
+            return ThreadUtils.waitFor(future, exec);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof Exception) {
+                throw (Exception)e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    /** The inputs and outputs of one operator. */
+    private static final class Partition {
+        /** The chunked inputs per input port, null if the port isn't a distributed table. */
+        private final ChunkInput[] m_inputs;
+
+        /** The temporary outputs per output port, null if the port isn't distributed. */
+        private final ChunkOutput[] m_outputs;
+
+        private final DataTableSpec[] m_storedSpecs;
+
+        private final int[] m_skippedCells;
+
+        /** Index of the operator's chunk containing the row polled last, -1 before the first chunk. */
+        private int m_chunk = -1;
+
+        Partition(final PortObject[] inData, final InputPortRole[] inRoles, final DataTableSpec[] storedSpecs,
+            final int[] skippedCells) {
+            m_inputs = new ChunkInput[inData.length];
+            for (int i = 0; i < inData.length; i++) {
+                if (inRoles[i].isDistributable() && inData[i] instanceof BufferedDataTable) {
+                    m_inputs[i] = new ChunkInput(((BufferedDataTable)inData[i]).getDataTableSpec(), this);
+                }
+            }
+            m_outputs = new ChunkOutput[storedSpecs.length];
+            m_storedSpecs = storedSpecs;
+            m_skippedCells = skippedCells;
+        }
+
+        /** Runs the operator on the chunks and returns its internals. */
+        StreamableOperatorInternals run(final NodeModel model, final PartitionInfo partitionInfo,
+            final PortObject[] inData, final PortObjectSpec[] inSpecs,
+            final StreamableOperatorInternals initialInternals, final ExecutionContext exec) throws Exception {
+            final InputPortRole[] inRoles = model.getInputPortRoles();
+            final PortInput[] inputs = new PortInput[inData.length];
+            final PortOutput[] outputs = new PortOutput[m_outputs.length];
+            try {
+                for (int i = 0; i < inputs.length; i++) {
+                    if (m_inputs[i] != null) {
+                        inputs[i] = m_inputs[i];
+                    } else if (inData[i] instanceof BufferedDataTable) {
+                        final BufferedDataTable table = (BufferedDataTable)inData[i];
+                        if (inRoles[i].isStreamable()) {
+                            inputs[i] = new DataTableRowInput(table);
+                        } else {
+                            inputs[i] = new PortObjectInput(table);
+                        }
+                    } else if (inData[i] != null) {
+                        inputs[i] = new PortObjectInput(inData[i]);
+                    }
+                }
+                for (int o = 0; o < outputs.length; o++) {
+                    if (m_storedSpecs[o] != null) {
+                        m_outputs[o] =
+                            new ChunkOutput(exec.createDataContainer(m_storedSpecs[o]), m_skippedCells[o], this);
+                        outputs[o] = m_outputs[o];
+                    }
+                }
+                final StreamableOperator operator = model.createStreamableOperator(partitionInfo, inSpecs);
+                if (initialInternals != null) {
+                    operator.loadInternals(initialInternals);
+                }
+                operator.runFinal(inputs, outputs, exec);
+                for (ChunkOutput output : m_outputs) {
+                    if (output != null) {
+                        // closing is idempotent, operators usually close their outputs themselves
+                        output.close();
+                    }
+                }
+                return operator.saveInternals();
+            } finally {
+                for (PortInput input : inputs) {
+                    if (input instanceof RowInput) {
+                        ((RowInput)input).close();
+                    }
+                }
+            }
+        }
+
+        /** Signals the end of the chunked inputs. */
+        void finishInputs(final Future<?> operator) throws Exception {
+            for (ChunkInput input : m_inputs) {
+                if (input != null) {
+                    input.offer(ChunkInput.END_OF_INPUT, operator);
+                }
+            }
+        }
+    }
+
+    /**
+     * Row input of an operator on the chunks handed over by the reading thread, the rows are released as soon as
+     * they are polled. While waiting for the counterpart the operator and the reading thread are
+     * {@linkplain ThreadUtils#runInvisible(java.util.concurrent.Callable) invisible} to their thread pool.
+     */
+    private static final class ChunkInput extends RowInput {
+        /** Marks the end of the input (compared by identity). */
+        private static final ArrayDeque<DataRow> END_OF_INPUT = new ArrayDeque<DataRow>(0);
+
+        /** Interval in which a blocked reader checks whether the operator is done or closed its input. */
+        private static final long OFFER_TIMEOUT_MS = 100;
+
+        private final DataTableSpec m_spec;
+
+        private final Partition m_partition;
+
+        private final BlockingQueue<ArrayDeque<DataRow>> m_chunks =
+            new ArrayBlockingQueue<ArrayDeque<DataRow>>(CHUNKS_AHEAD_PER_THREAD);
+
+        private ArrayDeque<DataRow> m_rows = new ArrayDeque<DataRow>(0);
+
+        private int m_chunk = -1;
+
+        private boolean m_isFinished;
+
+        private volatile boolean m_isClosed;
+
+        ChunkInput(final DataTableSpec spec, final Partition partition) {
+            m_spec = spec;
+            m_partition = partition;
+        }
+
+        /**
+         * Hands over the next chunk, blocks while the operator has {@value #CHUNKS_AHEAD_PER_THREAD} pending chunks.
+         *
+         * @return false if the chunk has been discarded since the operator is done
+         */
+        boolean offer(final ArrayDeque<DataRow> rows, final Future<?> operator) throws Exception {
+            if (m_isClosed || m_chunks.offer(rows)) {
+                return true;
+            }
+            return ThreadUtils.runInvisible(() -> {
+                while (!m_isClosed && !operator.isDone()) {
+                    if (m_chunks.offer(rows, OFFER_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                        return true;
+                    }
+                }
+                return m_isClosed;
+            });
+        }
+
+        @Override
+        public DataTableSpec getDataTableSpec() {
+            return m_spec;
+        }
+
+        @Override
+        public DataRow poll() throws InterruptedException {
+            while (m_rows.isEmpty()) {
+                if (m_isFinished) {
+                    return null;
+                }
+                ArrayDeque<DataRow> next = m_chunks.poll();
+                if (next == null) {
+                    next = takeInvisibly();
+                }
+                if (next == END_OF_INPUT) {
+                    m_isFinished = true;
+                    return null;
+                }
+                m_rows = next;
+                m_chunk++;
+                m_partition.m_chunk = Math.max(m_partition.m_chunk, m_chunk);
+            }
+            return m_rows.poll();
+        }
+
+        private ArrayDeque<DataRow> takeInvisibly() throws InterruptedException {
+            try {
+                return ThreadUtils.runInvisible(m_chunks::take);
+            } catch (InterruptedException | RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void close() {
+            m_isClosed = true;
+            m_chunks.clear();
+            m_rows.clear();
+        }
+    }
+
+    /**
+     * Writes the rows pushed by an operator to a temporary table, without the leading cells if the operator appends
+     * columns, and counts the rows per chunk of the operator's input.
+     */
+    private static final class ChunkOutput extends RowOutput {
+        private final BufferedDataContainer m_container;
+
+        private final int m_skippedCells;
+
+        private final Partition m_partition;
+
+        private long[] m_rowCounts = new long[16];
+
+        ChunkOutput(final BufferedDataContainer container, final int skippedCells, final Partition partition) {
+            m_container = container;
+            m_skippedCells = skippedCells;
+            m_partition = partition;
+        }
+
+        @Override
+        public void push(final DataRow row) throws InterruptedException {
+            final int chunk = Math.max(0, m_partition.m_chunk);
+            if (chunk >= m_rowCounts.length) {
+                m_rowCounts = Arrays.copyOf(m_rowCounts, Math.max(2 * m_rowCounts.length, chunk + 1));
+            }
+            m_rowCounts[chunk]++;
+            if (m_skippedCells == 0) {
+                m_container.addRowToTable(row);
+            } else {
+                final DataCell[] cells = new DataCell[row.getNumCells() - m_skippedCells];
+                for (int c = 0; c < cells.length; c++) {
+                    cells[c] = row.getCell(m_skippedCells + c);
+                }
+                m_container.addRowToTable(new DefaultRow(row.getKey(), cells));
+            }
+        }
+
+        @Override
+        public void close() {
+            m_container.close();
+        }
+
+        /** @return the number of rows pushed for the operator's chunk with the given index */
+        long getRowCount(final int chunk) {
+            return chunk < m_rowCounts.length ? m_rowCounts[chunk] : 0;
+        }
+
+        BufferedDataTable getTable() {
+            return m_container.getTable();
+        }
+    }
+
+    /**
+     * Iterates the rows of a distributed output in input order, taking the rows of each chunk from the temporary
+     * table of the operator that processed the chunk.
+     */
+    private static final class OrderedRowIterator implements AutoCloseable {
+        private final ChunkOutput[] m_outputs;
+
+        private final CloseableRowIterator[] m_iterators;
+
+        private final int m_nrChunks;
+
+        private int m_chunk;
+
+        private long m_rowsLeft;
+
+        private CloseableRowIterator m_current;
+
+        OrderedRowIterator(final ChunkOutput[] outputs, final int nrChunks) {
+            m_outputs = outputs;
+            m_nrChunks = nrChunks;
+            m_iterators = new CloseableRowIterator[outputs.length];
+            for (int p = 0; p < outputs.length; p++) {
+                m_iterators[p] = outputs[p].getTable().iterator();
+            }
+        }
+
+        /** @return the next row or null if there are no more rows */
+        DataRow next() {
+            while (m_rowsLeft == 0) {
+                if (m_chunk == m_nrChunks) {
+                    return null;
+                }
+                final int p = m_chunk % m_outputs.length;
+                m_rowsLeft = m_outputs[p].getRowCount(m_chunk / m_outputs.length);
+                m_current = m_iterators[p];
+                m_chunk++;
+            }
+            m_rowsLeft--;
+            return m_current.next();
+        }
+
+        @Override
+        public void close() {
+            for (CloseableRowIterator iterator : m_iterators) {
+                iterator.close();
+            }
+        }
+    }
+}
@@ -388,6 +388,13 @@ protected static class WorkflowConfiguration {
         /** A collection of node options. */
         public final Collection<Option> nodeOptions = new ArrayList<BatchExecutor.Option>();
 
+        /**
+         * The file the execution profiles of all nodes are written to after execution, null if no profile is written.
+         *
+         * @since 3.6
+         */
+        public File profileFile;
+
         /** The (temporary) workflow location which should be used to load the workflow. */
         File workflowLocation;
     }
@@ -556,6 +563,11 @@ protected void handleCommandlineArgument(final String[] parts, final String s, f
                 throw new IllegalOptionException("Couldn't parse -destDir argument: " + s);
             }
             config.outputDir = new File(parts[1]);
+        } else if ("-profile".equals(parts[0])) {
+            if (parts.length != 2) {
+                throw new IllegalOptionException("Couldn't parse -profile argument: " + s);
+            }
+            config.profileFile = new File(parts[1]);
         } else if ("-workflow.variable".equals(parts[0])) {
             if (parts.length != 2) {
                 throw new IllegalOptionException("Couldn't parse -workflow.variable argument: " + s);
@@ -622,6 +634,8 @@ public static String getOptionsString() {
                 + "                      if omitted the workflow is only saved in place\n"
                 + " -destDir=...      => directory where the executed workflow is saved to\n"
                 + "                      if omitted the workflow is only saved in place\n"
+                + " -profile=...      => JSON file the execution profile of all nodes (wall and CPU\n"
+                + "                      time, allocated bytes, rows, disk I/O) is written to\n"
                 + " -workflow.variable=name,value,type => define or overwrite workflow variable\n"
                 + "                      'name' with value 'value' (possibly enclosed by quotes). The\n"
                 + "                      'type' must be one of \"String\", \"int\" or \"double\".";
@@ -941,6 +955,9 @@ private int runOne(final WorkflowConfiguration config) {
                 LOGGER.debug("------------------------------------");
                 dumpWorkflowToDebugLog(wfm);
                 LOGGER.debug("------------------------------------");
+                if (config.profileFile != null) {
+                    writeProfile(wfm, config.profileFile);
+                }
             }
 
             try {
@@ -1217,6 +1234,15 @@ private static void applyWorkflowVariables(final WorkflowManager wfm, final bool
         wfm.addWorkflowVariables(!reset, wkfVars.toArray(new FlowVariable[wkfVars.size()]));
     }
 
+    private static void writeProfile(final WorkflowManager wfm, final File profileFile) {
+        try {
+            NodeProfiler.writeReport(wfm, profileFile);
+            LOGGER.info("Execution profile written to " + profileFile.getAbsolutePath());
+        } catch (IOException ex) {
+            LOGGER.error("IO error while writing execution profile: " + ex.getMessage(), ex);
+        }
+    }
+
     private static void dumpWorkflowToDebugLog(final WorkflowManager wfm) {
         String str = wfm.printNodeSummary(wfm.getID(), 0);
         BufferedReader reader = new BufferedReader(new StringReader(str));
@@ -74,6 +74,7 @@
     private final NodeMessage m_nodeMessage;
     private NodeUIInformation m_uiInformation;
     private final NodeLocks m_nodeLock;
+    private final long m_executionDurationEstimate;
     private final ReferencedFile m_ncDirRef;
 
     /** Create copy persistor.
@@ -117,6 +118,7 @@
         boolean isDeletable = !preserveDeletableFlag || original.isDeletable();
         //don't copy reset- and configure-locks
         m_nodeLock = new NodeLocks(!isDeletable, false, false);
+        m_executionDurationEstimate = original.getNodeTimer().getEstimatedExecutionDuration();
         if (isUndoableDeleteCommand) {
             m_ncDirRef = original.getNodeContainerDirectory();
         } else {
@@ -202,6 +204,12 @@ public NodeLocks getNodeLocks() {
         return m_nodeLock;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public long getExecutionDurationEstimate() {
+        return m_executionDurationEstimate;
+    }
+
     /** {@inheritDoc} */
     @Override
     public boolean load(final NodeSettingsRO settings,
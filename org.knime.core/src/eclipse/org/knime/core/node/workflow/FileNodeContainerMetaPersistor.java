@@ -72,6 +72,8 @@ class FileNodeContainerMetaPersistor implements NodeContainerMetaPersistor {
 
     private static final String CFG_HAS_CONFIGURE_LOCK = "hasConfigureLock";
 
+    private static final String CFG_EXECUTION_DURATION = "execution_duration";
+
     private static final String CFG_JOB_MANAGER_CONFIG = "job.manager";
 
     private static final String CFG_JOB_MANAGER_DIR = "job.manager.dir";
@@ -100,6 +102,8 @@ class FileNodeContainerMetaPersistor implements NodeContainerMetaPersistor {
 
     private NodeLocks m_nodeLock = new NodeLocks(false, false, false);
 
+    private long m_executionDurationEstimate = -1;
+
     private boolean m_isDirtyAfterLoad;
 
     private final ReferencedFile m_nodeSettingsFile;
@@ -205,6 +209,12 @@ public NodeLocks getNodeLocks() {
         return m_nodeLock;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public long getExecutionDurationEstimate() {
+        return m_executionDurationEstimate;
+    }
+
     /** {@inheritDoc} */
     @Override
     public boolean isDirtyAfterLoad() {
@@ -318,6 +328,7 @@ ReferencedFile getNodeSettingsFile() {
             getLogger().warn(e, ise);
         }
         m_nodeLock = loadNodeLocks(settings);
+        m_executionDurationEstimate = loadExecutionDuration(settings);
         return isResetRequired;
     }
 
@@ -555,6 +566,7 @@ public static void save(final NodeSettingsWO settings, final NodeContainer nc, f
             saveJobManagerInternalsDirectory(settings, nc, targetDir);
             saveNodeMessage(settings, nc);
             saveNodeLocks(settings, nc);
+            saveExecutionDuration(settings, nc);
         }
     }
 
@@ -652,6 +664,46 @@ protected static void saveNodeLocks(final NodeSettingsWO settings, final NodeCon
 
     }
 
+    /**
+     * Reads the estimated execution duration of the node as saved by
+     * {@link #saveExecutionDuration(NodeSettingsWO, long)}.
+     *
+     * @param settings to load from
+     * @return the duration in milliseconds or -1 if not saved
+     */
+    static long loadExecutionDuration(final NodeSettingsRO settings) {
+        // added in 3.6, only present if the workflow was saved with a scheduling policy other than FIFO
+        return settings.getLong(CFG_EXECUTION_DURATION, -1L);
+    }
+
+    /**
+     * Saves the estimated execution duration of the node, used to prioritize the node in subsequent sessions. It is
+     * only saved if the job manager of the node uses a scheduling policy other than
+     * {@link NodeSchedulingPolicy#FIFO}, which ignores durations.
+     *
+     * @param settings to save to
+     * @param nc the node
+     * @see NodeTimer#getEstimatedExecutionDuration()
+     */
+    protected static void saveExecutionDuration(final NodeSettingsWO settings, final NodeContainer nc) {
+        NodeExecutionJobManager jobManager = nc.findJobManager();
+        if (jobManager != null && jobManager.getSchedulingPolicy() != NodeSchedulingPolicy.FIFO) {
+            saveExecutionDuration(settings, nc.getNodeTimer().getEstimatedExecutionDuration());
+        }
+    }
+
+    /**
+     * Saves an estimated execution duration.
+     *
+     * @param settings to save to
+     * @param duration the duration in milliseconds, not saved if negative (unknown)
+     */
+    static void saveExecutionDuration(final NodeSettingsWO settings, final long duration) {
+        if (duration >= 0) {
+            settings.addLong(CFG_EXECUTION_DURATION, duration);
+        }
+    }
+
     protected static void saveNodeMessage(final NodeSettingsWO settings, final NodeContainer nc) {
         NodeMessage message = nc.getNodeMessage();
         if (message != null && !message.getMessageType().equals(Type.RESET)) {
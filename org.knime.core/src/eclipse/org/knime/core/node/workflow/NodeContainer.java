@@ -253,6 +253,7 @@ public boolean executionInProgress() {
 
         m_uiInformation = persistor.getUIInfo();
         m_nodeLocks = persistor.getNodeLocks();
+        m_nodeTimer.setPersistedExecutionDuration(persistor.getExecutionDurationEstimate());
 
         setNodeMessage(persistor.getNodeMessage());
         if (!persistor.getLoadHelper().isTemplateFlow()) {
@@ -391,6 +392,7 @@ boolean queue(final PortObject[] inData) {
                 return false;
             }
             // queue job if state change was successful
+            m_nodeTimer.queuedExec(inData);
             NodeExecutionJobManager jobManager = findJobManager();
             NodeContext.pushContext(this);
             try {
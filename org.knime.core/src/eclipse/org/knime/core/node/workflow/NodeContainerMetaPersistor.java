@@ -92,6 +92,12 @@ interface NodeContainerMetaPersistor {
 
     NodeLocks getNodeLocks();
 
+    /**
+     * @return the estimated execution duration of the node in milliseconds as recorded by its {@link NodeTimer}, or
+     *         -1 if unknown
+     */
+    long getExecutionDurationEstimate();
+
     boolean isDirtyAfterLoad();
 
     void setUIInfo(final NodeUIInformation uiInfo);
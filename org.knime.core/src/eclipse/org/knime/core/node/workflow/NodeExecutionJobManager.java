@@ -147,6 +147,18 @@ default public boolean canExecute(final NodeContainer nc) {
         return true;
     }
 
+    /**
+     * Returns the policy that determines the order in which submitted nodes are executed by this job manager if they
+     * can't all be executed at once. Job managers that execute each submitted job immediately can ignore it. By
+     * default this method returns {@link NodeSchedulingPolicy#FIFO}.
+     *
+     * @return the scheduling policy, not null
+     * @since 3.6
+     */
+    default public NodeSchedulingPolicy getSchedulingPolicy() {
+        return NodeSchedulingPolicy.FIFO;
+    }
+
     /**
      * Saves all the information necessary to reconnect to the specified job
      * after it is disconnected.
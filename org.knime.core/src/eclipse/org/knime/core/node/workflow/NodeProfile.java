@@ -0,0 +1,183 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.workflow;
+
+/**
+ * Resource usage of a single node execution as recorded by the node's {@link NodeTimer}. Durations are in
+ * milliseconds; values that could not be determined are -1. CPU time and allocated bytes are measured for the thread
+ * executing the node only, i.e. they don't include work the node delegates to other threads (for instance the content
+ * of a wrapped metanode or parallel chunks of a node).
+ *
+ * <p>Instances are immutable. The getters follow the JavaBeans convention so that profiles are exposed as composite
+ * data by the {@link NodeProfiler} MXBean.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.6
+ * @noinstantiate This class is not intended to be instantiated by clients.
+ */
+public final class NodeProfile {
+
+    private final String m_nodeID;
+
+    private final String m_nodeName;
+
+    private final String m_nodeType;
+
+    private final long m_startTime;
+
+    private final boolean m_success;
+
+    private final long m_wallTime;
+
+    private final long m_cpuTime;
+
+    private final long m_allocatedBytes;
+
+    private final long m_queueWaitTime;
+
+    private final long m_rowsIn;
+
+    private final long m_rowsOut;
+
+    private final long m_bytesSpilled;
+
+    private final long m_tableIOTime;
+
+    NodeProfile(final String nodeID, final String nodeName, final String nodeType, final long startTime,
+        final boolean success, final long wallTime, final long cpuTime, final long allocatedBytes,
+        final long queueWaitTime, final long rowsIn, final long rowsOut, final long bytesSpilled,
+        final long tableIOTime) {
+        m_nodeID = nodeID;
+        m_nodeName = nodeName;
+        m_nodeType = nodeType;
+        m_startTime = startTime;
+        m_success = success;
+        m_wallTime = wallTime;
+        m_cpuTime = cpuTime;
+        m_allocatedBytes = allocatedBytes;
+        m_queueWaitTime = queueWaitTime;
+        m_rowsIn = rowsIn;
+        m_rowsOut = rowsOut;
+        m_bytesSpilled = bytesSpilled;
+        m_tableIOTime = tableIOTime;
+    }
+
+    /** @return the ID of the node, e.g. "0:3:12" */
+    public String getNodeID() {
+        return m_nodeID;
+    }
+
+    /** @return the name of the node */
+    public String getNodeName() {
+        return m_nodeName;
+    }
+
+    /** @return the node type, i.e. the class name of the node factory (or node container) */
+    public String getNodeType() {
+        return m_nodeType;
+    }
+
+    /** @return the time the execution started (milliseconds since the epoch) */
+    public long getStartTime() {
+        return m_startTime;
+    }
+
+    /** @return whether the execution was successful */
+    public boolean isSuccess() {
+        return m_success;
+    }
+
+    /** @return the elapsed time of the execution */
+    public long getWallTime() {
+        return m_wallTime;
+    }
+
+    /** @return the CPU time consumed by the executing thread, -1 if not available */
+    public long getCpuTime() {
+        return m_cpuTime;
+    }
+
+    /** @return the number of bytes allocated by the executing thread, -1 if not available */
+    public long getAllocatedBytes() {
+        return m_allocatedBytes;
+    }
+
+    /** @return the time the node was queued in its job manager before the execution started, -1 if unknown */
+    public long getQueueWaitTime() {
+        return m_queueWaitTime;
+    }
+
+    /** @return the total number of rows of the input tables, -1 if unknown or the node has no table inputs */
+    public long getRowsIn() {
+        return m_rowsIn;
+    }
+
+    /** @return the total number of rows of the output tables, -1 if unknown or the node has no table outputs */
+    public long getRowsOut() {
+        return m_rowsOut;
+    }
+
+    /** @return the number of bytes of tables created by the node that were written to disk */
+    public long getBytesSpilled() {
+        return m_bytesSpilled;
+    }
+
+    /** @return the time spent writing tables created by the node to disk, the remainder is node logic */
+    public long getTableIOTime() {
+        return m_tableIOTime;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return m_nodeName + " (" + m_nodeID + "): " + m_wallTime + "ms wall, " + m_cpuTime + "ms CPU, "
+            + m_allocatedBytes + " bytes allocated, " + m_queueWaitTime + "ms queued, " + m_rowsIn + " rows in, "
+            + m_rowsOut + " rows out, " + m_bytesSpilled + " bytes spilled in " + m_tableIOTime + "ms";
+    }
+
+}
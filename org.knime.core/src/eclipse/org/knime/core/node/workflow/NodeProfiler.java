@@ -0,0 +1,211 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.node.workflow;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonWriter;
+import javax.json.stream.JsonGenerator;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Collects the {@linkplain NodeProfile profiles} of the most recent node executions in this KNIME instance and exposes
+ * them via JMX (see {@link NodeProfilerMXBean}). Also creates machine-readable reports of the last executions of all
+ * nodes in a workflow, as used by the batch executor.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.6
+ */
+public final class NodeProfiler implements NodeProfilerMXBean {
+
+    /** The name under which the profiler is registered with the platform MBean server. */
+    public static final String OBJECT_NAME = "org.knime.core:type=NodeProfiler";
+
+    /** The number of recent profiles retained. */
+    static final int MAX_RECENT_PROFILES = 1000;
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(NodeProfiler.class);
+
+    private static final NodeProfiler INSTANCE = new NodeProfiler();
+
+    private static final Comparator<NodeProfile> WALL_TIME_DESCENDING =
+        (p1, p2) -> Long.compare(p2.getWallTime(), p1.getWallTime());
+
+    private final Deque<NodeProfile> m_recentProfiles = new ArrayDeque<NodeProfile>();
+
+    private long m_profileCount;
+
+    private NodeProfiler() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+        } catch (JMException | SecurityException e) {
+            LOGGER.debug("Unable to register node profiler with the MBean server: " + e.getMessage(), e);
+        }
+    }
+
+    /** @return the singleton instance */
+    public static NodeProfiler getInstance() {
+        return INSTANCE;
+    }
+
+    /** Adds the profile of a finished execution, called by {@link NodeTimer}. */
+    synchronized void add(final NodeProfile profile) {
+        if (m_recentProfiles.size() >= MAX_RECENT_PROFILES) {
+            m_recentProfiles.removeFirst();
+        }
+        m_recentProfiles.addLast(profile);
+        m_profileCount++;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized List<NodeProfile> getRecentProfiles() {
+        return new ArrayList<NodeProfile>(m_recentProfiles);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<NodeProfile> getTopProfilesByWallTime(final int n) {
+        List<NodeProfile> profiles = getRecentProfiles();
+        Collections.sort(profiles, WALL_TIME_DESCENDING);
+        return profiles.subList(0, Math.max(0, Math.min(n, profiles.size())));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized long getProfileCount() {
+        return m_profileCount;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void clear() {
+        m_recentProfiles.clear();
+        m_profileCount = 0;
+    }
+
+    /**
+     * Collects the profiles of the last execution of all nodes in the workflow, including the content of metanodes
+     * and wrapped metanodes. Nodes that have not been executed in this session are omitted.
+     *
+     * @param wfm the workflow
+     * @return the profiles, ordered by descending wall time
+     */
+    public static List<NodeProfile> collectProfiles(final WorkflowManager wfm) {
+        List<NodeProfile> profiles = new ArrayList<NodeProfile>();
+        collectProfiles(wfm, profiles);
+        Collections.sort(profiles, WALL_TIME_DESCENDING);
+        return profiles;
+    }
+
+    private static void collectProfiles(final WorkflowManager wfm, final List<NodeProfile> profiles) {
+        for (NodeContainer nc : wfm.getNodeContainers()) {
+            NodeProfile profile = nc.getNodeTimer().getLastProfile();
+            if (profile != null) {
+                profiles.add(profile);
+            }
+            if (nc instanceof WorkflowManager) {
+                collectProfiles((WorkflowManager)nc, profiles);
+            } else if (nc instanceof SubNodeContainer) {
+                collectProfiles(((SubNodeContainer)nc).getWorkflowManager(), profiles);
+            }
+        }
+    }
+
+    /**
+     * Writes the {@linkplain #collectProfiles(WorkflowManager) profiles of all nodes} in the workflow as JSON
+     * document. Durations are in milliseconds, unknown values are -1.
+     *
+     * @param wfm the workflow
+     * @param file the file to write to, overwritten if it exists
+     * @throws IOException if writing fails
+     */
+    public static void writeReport(final WorkflowManager wfm, final File file) throws IOException {
+        JsonArrayBuilder nodes = Json.createArrayBuilder();
+        for (NodeProfile p : collectProfiles(wfm)) {
+            nodes.add(Json.createObjectBuilder()
+                .add("nodeID", p.getNodeID())
+                .add("nodeName", p.getNodeName())
+                .add("nodeType", p.getNodeType())
+                .add("startTime", p.getStartTime())
+                .add("success", p.isSuccess())
+                .add("wallTime", p.getWallTime())
+                .add("cpuTime", p.getCpuTime())
+                .add("allocatedBytes", p.getAllocatedBytes())
+                .add("queueWaitTime", p.getQueueWaitTime())
+                .add("rowsIn", p.getRowsIn())
+                .add("rowsOut", p.getRowsOut())
+                .add("bytesSpilled", p.getBytesSpilled())
+                .add("tableIOTime", p.getTableIOTime()));
+        }
+        JsonObjectBuilder report = Json.createObjectBuilder()
+            .add("workflow", wfm.getName())
+            .add("nodes", nodes);
+        Map<String, Boolean> cfg = Collections.singletonMap(JsonGenerator.PRETTY_PRINTING, Boolean.TRUE);
+        try (JsonWriter jw = Json.createWriterFactory(cfg).createWriter(new FileOutputStream(file))) {
+            jw.write(report.build());
+        }
+    }
+
+}
@@ -53,6 +53,9 @@
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
 import java.net.URLEncoder;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
@@ -60,6 +63,8 @@
 import java.util.Date;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.json.Json;
 import javax.json.JsonArray;
@@ -96,6 +101,7 @@
 import org.knime.core.node.ExecutionContext;
 import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
+import org.knime.core.node.port.PortObject;
 import org.knime.core.util.EclipseUtil;
 import org.osgi.framework.Version;
 import org.osgi.service.prefs.Preferences;
@@ -121,6 +127,17 @@ public final class NodeTimer {
     private long m_executionDurationOverall;
     private int m_numberOfExecutionsSinceReset;
     private int m_numberOfExecutionsOverall;
+    private long m_persistedExecutionDuration = -1;
+
+    /* Profiling of the current/last execution, see NodeProfile. */
+    private long m_queueTime = -1;
+    private long m_rowsIn = -1;
+    private long m_startThreadID = -1;
+    private long m_startCpuTime = -1;
+    private long m_startAllocatedBytes = -1;
+    private final AtomicLong m_bytesSpilled = new AtomicLong();
+    private final AtomicLong m_tableIOTimeNanos = new AtomicLong();
+    private NodeProfile m_lastProfile;
 
     /**
      * Container holding stats for the entire instance and all nodes that have been used/timed.
@@ -632,6 +649,73 @@ private Integer compareVersionString(final String str1, final String str2)
 
     public static final GlobalNodeStats GLOBAL_TIMER = new GlobalNodeStats();
 
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    /** com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long), null if not available in this VM. */
+    private static final Method GET_THREAD_ALLOCATED_BYTES = getThreadAllocatedBytesMethod();
+
+    private static Method getThreadAllocatedBytesMethod() {
+        try {
+            Class<?> cl = Class.forName("com.sun.management.ThreadMXBean");
+            if (!cl.isInstance(THREAD_MX_BEAN)
+                || !(Boolean)cl.getMethod("isThreadAllocatedMemoryEnabled").invoke(THREAD_MX_BEAN)) {
+                return null;
+            }
+            return cl.getMethod("getThreadAllocatedBytes", long.class);
+        } catch (Exception | LinkageError e) {
+            return null;
+        }
+    }
+
+    /** @return the CPU time of the current thread in nanoseconds or -1 if not supported */
+    private static long getCurrentThreadCpuTime() {
+        if (THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported() && THREAD_MX_BEAN.isThreadCpuTimeEnabled()) {
+            return THREAD_MX_BEAN.getCurrentThreadCpuTime();
+        }
+        return -1;
+    }
+
+    /** @return the bytes allocated by the current thread or -1 if not supported */
+    private static long getCurrentThreadAllocatedBytes() {
+        if (GET_THREAD_ALLOCATED_BYTES != null) {
+            try {
+                return (Long)GET_THREAD_ALLOCATED_BYTES.invoke(THREAD_MX_BEAN, Thread.currentThread().getId());
+            } catch (Exception e) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /** @return total number of rows of the tables in the argument, -1 if it contains no table */
+    private static long countRows(final PortObject[] portObjects) {
+        long rows = -1;
+        for (PortObject po : portObjects) {
+            if (po instanceof BufferedDataTable) {
+                rows = Math.max(rows, 0) + ((BufferedDataTable)po).size();
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Records that a table created by the node currently executing in this thread (according to its
+     * {@link NodeContext}) was written to disk. Called by the table implementation; ignored if there is no context.
+     *
+     * @param bytes the number of bytes written to disk
+     * @param nanos the time spent writing, in nanoseconds
+     * @since 3.6
+     */
+    public static void addTableWrite(final long bytes, final long nanos) {
+        NodeContext context = NodeContext.getContext();
+        NodeContainer nc = context == null ? null : context.getNodeContainer();
+        if (nc != null) {
+            NodeTimer timer = nc.getNodeTimer();
+            timer.m_bytesSpilled.addAndGet(bytes);
+            timer.m_tableIOTimeNanos.addAndGet(nanos);
+        }
+    }
+
     private static String getCanonicalName(final NodeContainer nc) {
         String cname = "NodeContainer";
         if (nc instanceof NativeNodeContainer) {
@@ -671,6 +755,38 @@ public int getNrExecsSinceStart() {
         return m_numberOfExecutionsOverall;
     }
 
+    /**
+     * Estimates the duration of the next execution of the node. This is the average duration of the executions in
+     * this session or, if the node was not executed yet, the duration that was saved with the workflow.
+     *
+     * @return the estimated duration in milliseconds or -1 if the node has no execution history
+     * @since 3.6
+     */
+    public long getEstimatedExecutionDuration() {
+        if (m_numberOfExecutionsOverall > 0) {
+            return m_executionDurationOverall / m_numberOfExecutionsOverall;
+        }
+        return m_persistedExecutionDuration;
+    }
+
+    /**
+     * Sets the execution duration as restored from the saved workflow, used by
+     * {@link #getEstimatedExecutionDuration()} as long as the node has not been executed in this session.
+     *
+     * @param duration the duration in milliseconds or -1 if unknown
+     */
+    void setPersistedExecutionDuration(final long duration) {
+        m_persistedExecutionDuration = duration;
+    }
+
+    /**
+     * @return the profile of the last execution of the node or null if the node was not executed in this session
+     * @since 3.6
+     */
+    public NodeProfile getLastProfile() {
+        return m_lastProfile;
+    }
+
     private void initialize() {
         m_startTime = -1;
         m_lastExecutionDuration = -1;
@@ -685,8 +801,23 @@ public void resetNode() {
         m_executionDurationSinceReset = 0;
     }
 
+    /**
+     * Called when the node is submitted to its job manager, used to profile the time until the execution starts.
+     *
+     * @param inData the input data of the execution
+     */
+    void queuedExec(final PortObject[] inData) {
+        m_queueTime = System.currentTimeMillis();
+        m_rowsIn = countRows(inData);
+    }
+
     public void startExec() {
         m_startTime = System.currentTimeMillis();
+        m_startThreadID = Thread.currentThread().getId();
+        m_startCpuTime = getCurrentThreadCpuTime();
+        m_startAllocatedBytes = getCurrentThreadAllocatedBytes();
+        m_bytesSpilled.set(0);
+        m_tableIOTimeNanos.set(0);
     }
 
     public void endExec(final boolean success) {
@@ -700,8 +831,40 @@ public void endExec(final boolean success) {
             m_numberOfExecutionsSinceReset++;
             String cname = getCanonicalName(m_parent);
             GLOBAL_TIMER.addExecutionTime(cname, success, m_lastExecutionDuration);
+            m_lastProfile = createProfile(cname, success);
+            NodeProfiler.getInstance().add(m_lastProfile);
         }
         m_startTime = -1;
+        m_queueTime = -1;
+    }
+
+    private NodeProfile createProfile(final String canonicalName, final boolean success) {
+        // CPU time and allocations can only be determined if execution ends in the thread it started in
+        boolean sameThread = Thread.currentThread().getId() == m_startThreadID;
+        long cpuTime = -1;
+        long allocatedBytes = -1;
+        if (sameThread && m_startCpuTime >= 0) {
+            long currentCpuTime = getCurrentThreadCpuTime();
+            cpuTime = currentCpuTime >= 0 ? TimeUnit.NANOSECONDS.toMillis(currentCpuTime - m_startCpuTime) : -1;
+        }
+        if (sameThread && m_startAllocatedBytes >= 0) {
+            long currentAllocatedBytes = getCurrentThreadAllocatedBytes();
+            allocatedBytes = currentAllocatedBytes >= 0 ? currentAllocatedBytes - m_startAllocatedBytes : -1;
+        }
+        long queueWaitTime = m_queueTime > 0 ? Math.max(m_startTime - m_queueTime, 0) : -1;
+        // the out ports hide their objects until the state is EXECUTED, which is set afterwards
+        PortObject[] outData = new PortObject[0];
+        if (success && m_parent instanceof SingleNodeContainer) {
+            SingleNodeContainer snc = (SingleNodeContainer)m_parent;
+            outData = new PortObject[snc.getNrOutPorts()];
+            for (int i = 0; i < outData.length; i++) {
+                outData[i] = snc.getOutputObject(i);
+            }
+        }
+        String nodeType = canonicalName.split(GlobalNodeStats.NODE_NAME_SEP, 2)[0];
+        return new NodeProfile(m_parent.getID().toString(), m_parent.getName(), nodeType, m_startTime, success,
+            m_lastExecutionDuration, cpuTime, allocatedBytes, queueWaitTime, m_rowsIn, countRows(outData),
+            m_bytesSpilled.get(), TimeUnit.NANOSECONDS.toMillis(m_tableIOTimeNanos.get()));
     }
 
 }
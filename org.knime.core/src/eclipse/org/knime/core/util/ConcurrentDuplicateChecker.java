@@ -0,0 +1,141 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.util;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+/**
+ * A {@link DuplicateChecker} that can be fed from multiple threads concurrently. Keys are distributed by their hash
+ * code onto a number of independent shards (each being an ordinary {@link DuplicateChecker} with its own lock), so
+ * that equal keys always end up in the same shard. The final {@link #checkForDuplicates()} processes all shards in
+ * parallel.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.6
+ */
+public final class ConcurrentDuplicateChecker extends DuplicateChecker {
+
+    private final DuplicateChecker[] m_shards;
+
+    /**
+     * Creates a new checker with one shard per available processor (at least 2, at most 16) and the default chunk
+     * size distributed among the shards.
+     */
+    public ConcurrentDuplicateChecker() {
+        this(Math.max(2, Math.min(16, Runtime.getRuntime().availableProcessors())), MAX_CHUNK_SIZE, MAX_STREAMS);
+    }
+
+    /**
+     * Creates a new checker.
+     *
+     * @param nrShards number of shards, &gt; 0
+     * @param maxChunkSize the maximum number of keys kept in memory (in total, i.e. summed up over all shards)
+     * @param maxStreams the maximum number of streams that are kept open during the merge process (per shard), must
+     *            be at least 2
+     */
+    public ConcurrentDuplicateChecker(final int nrShards, final int maxChunkSize, final int maxStreams) {
+        super(maxChunkSize, maxStreams);
+        if (nrShards <= 0) {
+            throw new IllegalArgumentException("Number of shards must be positive: " + nrShards);
+        }
+        m_shards = new DuplicateChecker[nrShards];
+        for (int i = 0; i < nrShards; i++) {
+            m_shards[i] = new DuplicateChecker(Math.max(1, maxChunkSize / nrShards), maxStreams);
+        }
+    }
+
+    /**
+     * {@inheritDoc} This method is thread-safe.
+     */
+    @Override
+    public void addKey(final String s) throws DuplicateKeyException, IOException {
+        DuplicateChecker shard = m_shards[(s.hashCode() & Integer.MAX_VALUE) % m_shards.length];
+        synchronized (shard) {
+            shard.addKey(s);
+        }
+    }
+
+    /**
+     * {@inheritDoc} The shards are checked in parallel. Must not be called while keys are added.
+     */
+    @Override
+    public void checkForDuplicates() throws DuplicateKeyException, IOException {
+        final AtomicReference<Exception> failure = new AtomicReference<>();
+        IntStream.range(0, m_shards.length).parallel().forEach(i -> {
+            if (failure.get() != null) {
+                return;
+            }
+            try {
+                synchronized (m_shards[i]) {
+                    m_shards[i].checkForDuplicates();
+                }
+            } catch (DuplicateKeyException | IOException e) {
+                failure.compareAndSet(null, e);
+            }
+        });
+        Exception e = failure.get();
+        if (e instanceof DuplicateKeyException) {
+            throw (DuplicateKeyException)e;
+        } else if (e != null) {
+            throw (IOException)e;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clear() {
+        for (DuplicateChecker shard : m_shards) {
+            synchronized (shard) {
+                shard.clear();
+            }
+        }
+    }
+
+}
@@ -306,6 +306,33 @@ public static void copy(final File file, final File destination)
         }
     }
 
+    /**
+     * Creates a hard link <code>destination</code> to an existing file. If the file system doesn't support hard links
+     * (or the files are on different file systems) the file is copied instead. An existing destination file is
+     * replaced. Only use this for files that are not modified after creation as changes to either file will be visible
+     * in the other one.
+     *
+     * @param file The file to link to.
+     * @param destination The destination file, fully qualified (do not provide a directory).
+     * @return <code>true</code> if a link was created, <code>false</code> if the file was copied.
+     * @throws IOException If that fails for any reason.
+     * @since 3.6
+     */
+    public static boolean linkOrCopy(final File file, final File destination) throws IOException {
+        Path source = file.toPath();
+        Path target = destination.toPath();
+        Files.deleteIfExists(target);
+        try {
+            Files.createLink(target, source);
+            return true;
+        } catch (UnsupportedOperationException | IOException e) {
+            LOGGER.debug("Unable to link \"" + destination.getAbsolutePath() + "\" to \"" + file.getAbsolutePath()
+                + "\", copying file instead (" + e.getMessage() + ")");
+        }
+        Files.copy(source, target);
+        return false;
+    }
+
     /**
      * Deletes a given directory recursively. If the argument represents a file,
      * the file will be deleted. If it represents a symbolic link, it won't
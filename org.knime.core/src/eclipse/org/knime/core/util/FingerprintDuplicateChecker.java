@@ -0,0 +1,553 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.util;
+
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.knime.core.data.util.memory.MemoryAlertSystem;
+
+/**
+ * A {@link DuplicateChecker} that keeps a 64 bit fingerprint (hash) of each key in a primitive open-addressing hash
+ * table instead of the keys themselves. The keys are only needed to rule out a fingerprint collision: as long as
+ * there are few keys they are kept in memory, afterwards they are appended to a temporary file and only read back
+ * (by their file offset stored next to the fingerprint) if a new key has the same fingerprint as an existing one.
+ * The tables and the temporary files are released in {@link #clear()}.
+ *
+ * <p>Contrary to the {@link DuplicateChecker} all duplicates are detected in {@link #addKey(String)}, there is no
+ * sorting and merging of chunks in {@link #checkForDuplicates()}. The heap memory used by the tables is bounded
+ * though (by default a quarter of the maximum heap size) and the tables don't grow while the
+ * {@link MemoryAlertSystem} reports low memory; in either case all keys added so far are handed over to a
+ * {@link ConcurrentDuplicateChecker}, which then checks the remaining keys by sorting chunks.
+ *
+ * <p>The table is split into independent shards (chosen by the fingerprint), each with its own lock. This
+ * implementation is therefore thread-safe and can be fed from multiple threads concurrently.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.6
+ */
+public final class FingerprintDuplicateChecker extends DuplicateChecker {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    /** Default limit of the memory used by the tables of all shards, in bytes. */
+    private static final long DEFAULT_MAX_TABLE_BYTES = Runtime.getRuntime().maxMemory() / 4;
+
+    private final Shard[] m_shards;
+
+    private final int m_maxKeysInMemory;
+
+    private final long m_maxTableBytes;
+
+    /** Memory currently allocated by the tables of all shards, in bytes. */
+    private final AtomicLong m_tableBytes = new AtomicLong();
+
+    /** The checker all keys are passed to once the tables exceeded the memory limit, null before. */
+    private volatile DuplicateChecker m_fallback;
+
+    /**
+     * Creates a new checker with one shard per available processor (rounded up to a power of 2, at most 64), which
+     * keeps at most {@link #MAX_CHUNK_SIZE} keys in memory.
+     */
+    public FingerprintDuplicateChecker() {
+        this(Math.min(64, Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1))),
+            MAX_CHUNK_SIZE);
+    }
+
+    /**
+     * Creates a new checker.
+     *
+     * @param nrShards number of shards, a power of 2; use 1 if the checker is only used by a single thread
+     * @param maxKeysInMemory the maximum number of keys kept in memory (summed up over all shards), further keys are
+     *            written to temporary files
+     */
+    public FingerprintDuplicateChecker(final int nrShards, final int maxKeysInMemory) {
+        this(nrShards, maxKeysInMemory, DEFAULT_MAX_TABLE_BYTES);
+    }
+
+    /**
+     * Creates a new checker.
+     *
+     * @param nrShards number of shards, a power of 2
+     * @param maxKeysInMemory the maximum number of keys kept in memory (summed up over all shards)
+     * @param maxTableBytes the maximum memory used by the fingerprint tables of all shards before the checker falls
+     *            back to sorting chunks of keys
+     */
+    FingerprintDuplicateChecker(final int nrShards, final int maxKeysInMemory, final long maxTableBytes) {
+        super(maxKeysInMemory, MAX_STREAMS);
+        if (nrShards <= 0 || Integer.bitCount(nrShards) != 1) {
+            throw new IllegalArgumentException("Number of shards must be a positive power of 2: " + nrShards);
+        }
+        m_maxKeysInMemory = maxKeysInMemory;
+        m_maxTableBytes = maxTableBytes;
+        m_shards = new Shard[nrShards];
+        for (int i = 0; i < nrShards; i++) {
+            m_shards[i] = new Shard(Math.max(1, maxKeysInMemory / nrShards));
+        }
+    }
+
+    /**
+     * {@inheritDoc} This method is thread-safe.
+     *
+     * @throws DuplicateKeyException if the key has been added before
+     */
+    @Override
+    public void addKey(final String s) throws DuplicateKeyException, IOException {
+        if (DISABLE_DUPLICATE_CHECK) {
+            return;
+        }
+        final long fingerprint = fingerprint(s);
+        final Shard shard = m_shards[(int)(fingerprint >>> 32) & (m_shards.length - 1)];
+        synchronized (shard) {
+            if (!shard.isHandedOver() && shard.add(s, fingerprint)) {
+                return;
+            }
+        }
+        // not holding the shard's lock here, the hand-over locks all shards one after another
+        handOverToFallback().addKey(s);
+    }
+
+    /**
+     * Passes the keys of all shards to the fallback checker (if not done before) and releases the tables.
+     *
+     * @return the fallback checker
+     */
+    private synchronized DuplicateChecker handOverToFallback() throws DuplicateKeyException, IOException {
+        if (m_fallback == null) {
+            final DuplicateChecker fallback =
+                new ConcurrentDuplicateChecker(m_shards.length, m_maxKeysInMemory, MAX_STREAMS);
+            for (Shard shard : m_shards) {
+                synchronized (shard) {
+                    shard.handOver(fallback);
+                }
+            }
+            m_fallback = fallback;
+        }
+        return m_fallback;
+    }
+
+    /**
+     * Does nothing unless the tables exceeded the memory limit, as duplicates are otherwise already detected when
+     * they are added. Must not be called while keys are added.
+     */
+    @Override
+    public void checkForDuplicates() throws DuplicateKeyException, IOException {
+        final DuplicateChecker fallback = m_fallback;
+        if (fallback != null) {
+            fallback.checkForDuplicates();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public synchronized void clear() {
+        for (Shard shard : m_shards) {
+            synchronized (shard) {
+                shard.clear();
+            }
+        }
+        if (m_fallback != null) {
+            m_fallback.clear();
+            m_fallback = null;
+        }
+    }
+
+    /** @return the memory currently allocated by the tables of all shards, in bytes (for tests) */
+    long getTableBytes() {
+        return m_tableBytes.get();
+    }
+
+    /** @return whether the keys have been handed over to the fallback checker (for tests) */
+    boolean usesFallback() {
+        return m_fallback != null;
+    }
+
+    /**
+     * Computes the 64 bit fingerprint of a string (murmur3 like mixing of four chars at a time), never 0.
+     *
+     * @param s the string
+     * @return its fingerprint, not 0
+     */
+    static long fingerprint(final String s) {
+        final int length = s.length();
+        long h = 0x9E3779B97F4A7C15L ^ length;
+        int i = 0;
+        for (; i + 4 <= length; i += 4) {
+            long k = s.charAt(i) | (long)s.charAt(i + 1) << 16 | (long)s.charAt(i + 2) << 32
+                | (long)s.charAt(i + 3) << 48;
+            h ^= mixKey(k);
+            h = Long.rotateLeft(h, 27) * 5 + 0x52DCE729L;
+        }
+        long k = 0;
+        for (int shift = 0; i < length; i++, shift += 16) {
+            k |= (long)s.charAt(i) << shift;
+        }
+        h ^= mixKey(k);
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h == 0 ? 1 : h;
+    }
+
+    private static long mixKey(final long k) {
+        return Long.rotateLeft(k * 0x87C37B91114253D5L, 31) * 0x4CF5AD432745937FL;
+    }
+
+    /** Open-addressing table of fingerprints and key locations, guarded by its own monitor. */
+    private final class Shard {
+
+        private final int m_maxKeysInMemory;
+
+        /** The table, created with the first key and null again once the shard has been cleared or handed over. */
+        private Slots m_slots;
+
+        /** Whether the keys have been handed over to the fallback checker. */
+        private boolean m_handedOver;
+
+        private int m_size;
+
+        /** The keys while they are kept in memory, the location of a key is its index in this list. */
+        private List<String> m_keysInMemory;
+
+        /** The file containing the keys once there are too many, the location of a key is its offset. */
+        private KeyLog m_log;
+
+        Shard(final int maxKeysInMemory) {
+            m_maxKeysInMemory = maxKeysInMemory;
+        }
+
+        boolean isHandedOver() {
+            return m_handedOver;
+        }
+
+        /**
+         * Adds a key unless it is a duplicate.
+         *
+         * @return false if the table is full and cannot grow any more, the key has then not been added
+         */
+        boolean add(final String s, final long fingerprint) throws DuplicateKeyException, IOException {
+            if (m_slots == null) {
+                m_keysInMemory = new ArrayList<String>();
+                m_slots = new Slots(INITIAL_CAPACITY);
+                m_tableBytes.addAndGet(m_slots.bytes());
+            }
+            if (m_size >= m_slots.capacity() - (m_slots.capacity() >> 2) && !grow()) {
+                return false;
+            }
+            final int mask = m_slots.capacity() - 1;
+            int i = (int)fingerprint & mask;
+            long f;
+            while ((f = m_slots.fingerprint(i)) != 0) {
+                if (f == fingerprint && getKey(m_slots.location(i)).equals(s)) {
+                    throw new DuplicateKeyException(s);
+                }
+                i = (i + 1) & mask;
+            }
+            m_slots.set(i, fingerprint, storeKey(s));
+            m_size++;
+            return true;
+        }
+
+        private String getKey(final long location) throws IOException {
+            return m_log == null ? m_keysInMemory.get((int)location) : m_log.read(location);
+        }
+
+        private long storeKey(final String s) throws IOException {
+            if (m_log == null) {
+                if (m_keysInMemory.size() < m_maxKeysInMemory) {
+                    // bug fix #1737: keys may be just wrappers of very large strings
+                    m_keysInMemory.add(new String(s));
+                    return m_keysInMemory.size() - 1;
+                }
+                spill();
+            }
+            return m_log.append(s);
+        }
+
+        /** Writes the keys kept in memory to a new key log and replaces their locations by the file offsets. */
+        private void spill() throws IOException {
+            final KeyLog log = new KeyLog();
+            final long[] offsets = new long[m_keysInMemory.size()];
+            for (int i = 0; i < offsets.length; i++) {
+                offsets[i] = log.append(m_keysInMemory.get(i));
+            }
+            for (int i = 0; i < m_slots.capacity(); i++) {
+                final long f = m_slots.fingerprint(i);
+                if (f != 0) {
+                    m_slots.set(i, f, offsets[(int)m_slots.location(i)]);
+                }
+            }
+            m_log = log;
+            m_keysInMemory = null;
+        }
+
+        /** Doubles the table size, returns false if that would exceed the capacity or memory limit. */
+        private boolean grow() {
+            final Slots old = m_slots;
+            if (old.capacity() >= MAX_CAPACITY || MemoryAlertSystem.getInstance().isMemoryLow()
+                || !reserve(old.bytes())) {
+                return false;
+            }
+            final Slots slots;
+            try {
+                slots = new Slots(old.capacity() << 1);
+            } catch (OutOfMemoryError e) {
+                release(old.bytes());
+                return false;
+            }
+            final int mask = slots.capacity() - 1;
+            for (int j = 0; j < old.capacity(); j++) {
+                final long f = old.fingerprint(j);
+                if (f != 0) {
+                    int i = (int)f & mask;
+                    while (slots.fingerprint(i) != 0) {
+                        i = (i + 1) & mask;
+                    }
+                    slots.set(i, f, old.location(j));
+                }
+            }
+            m_slots = slots;
+            release(old.bytes());
+            return true;
+        }
+
+        /** Adds all keys to the fallback checker and releases the table and the keys. */
+        void handOver(final DuplicateChecker fallback) throws DuplicateKeyException, IOException {
+            if (m_handedOver) {
+                return;
+            }
+            if (m_log != null) {
+                m_log.readAll(fallback::addKey);
+            } else if (m_keysInMemory != null) {
+                for (String key : m_keysInMemory) {
+                    fallback.addKey(key);
+                }
+            }
+            clear();
+            m_handedOver = true;
+        }
+
+        /** Releases the table and deletes the temporary file, the shard can be used again afterwards. */
+        void clear() {
+            if (m_log != null) {
+                m_log.dispose();
+                m_log = null;
+            }
+            if (m_slots != null) {
+                release(m_slots.bytes());
+                m_slots = null;
+            }
+            m_keysInMemory = null;
+            m_size = 0;
+            m_handedOver = false;
+        }
+    }
+
+    /** Reserves memory for the tables, returns false (and reserves nothing) if that would exceed the limit. */
+    private boolean reserve(final long bytes) {
+        if (m_tableBytes.addAndGet(bytes) > m_maxTableBytes) {
+            m_tableBytes.addAndGet(-bytes);
+            return false;
+        }
+        return true;
+    }
+
+    private void release(final long bytes) {
+        m_tableBytes.addAndGet(-bytes);
+    }
+
+    /**
+     * Fixed size array of slots, each holding a fingerprint (0 = empty) and a key location. The slots are split into
+     * segments as a single array is limited to 2^31 entries.
+     */
+    private static final class Slots {
+
+        static final int SEGMENT_BITS = 22;
+
+        static final int SEGMENT_MASK = (1 << SEGMENT_BITS) - 1;
+
+        private final int m_capacity;
+
+        private final long[][] m_segments;
+
+        Slots(final int capacity) {
+            m_capacity = capacity;
+            final int segmentSlots = Math.min(capacity, 1 << SEGMENT_BITS);
+            m_segments = new long[capacity / segmentSlots][];
+            for (int i = 0; i < m_segments.length; i++) {
+                m_segments[i] = new long[segmentSlots << 1];
+            }
+        }
+
+        int capacity() {
+            return m_capacity;
+        }
+
+        /** @return the memory allocated by the slots, in bytes */
+        long bytes() {
+            return 16L * m_capacity;
+        }
+
+        long fingerprint(final int i) {
+            return m_segments[i >>> SEGMENT_BITS][(i & SEGMENT_MASK) << 1];
+        }
+
+        long location(final int i) {
+            return m_segments[i >>> SEGMENT_BITS][((i & SEGMENT_MASK) << 1) + 1];
+        }
+
+        void set(final int i, final long fingerprint, final long location) {
+            final long[] segment = m_segments[i >>> SEGMENT_BITS];
+            final int index = (i & SEGMENT_MASK) << 1;
+            segment[index] = fingerprint;
+            segment[index + 1] = location;
+        }
+    }
+
+    /**
+     * Temporary file the keys are appended to (length and UTF-16 chars, so that also invalid strings are restored
+     * exactly), keys are read back by their offset.
+     */
+    private static final class KeyLog {
+        private final File m_file;
+
+        private final DataOutputStream m_out;
+
+        private RandomAccessFile m_in;
+
+        private long m_length;
+
+        private boolean m_isFlushed = true;
+
+        KeyLog() throws IOException {
+            m_file = FileUtil.createTempFile("KNIME_DuplicateChecker", ".bin", false);
+            m_out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(m_file)));
+        }
+
+        long append(final String s) throws IOException {
+            final long offset = m_length;
+            m_out.writeInt(s.length());
+            m_out.writeChars(s);
+            m_length += 4 + 2L * s.length();
+            m_isFlushed = false;
+            return offset;
+        }
+
+        String read(final long offset) throws IOException {
+            flush();
+            if (m_in == null) {
+                m_in = new RandomAccessFile(m_file, "r");
+            }
+            m_in.seek(offset);
+            final int length = m_in.readInt();
+            final byte[] bytes = new byte[2 * length];
+            m_in.readFully(bytes);
+            final char[] chars = new char[length];
+            for (int i = 0; i < length; i++) {
+                chars[i] = (char)((bytes[2 * i] & 0xFF) << 8 | (bytes[2 * i + 1] & 0xFF));
+            }
+            return new String(chars);
+        }
+
+        /** Passes all keys in the order they were appended to the consumer. */
+        void readAll(final KeyConsumer consumer) throws DuplicateKeyException, IOException {
+            flush();
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(m_file)))) {
+                for (long read = 0; read < m_length;) {
+                    final int length = in.readInt();
+                    final char[] chars = new char[length];
+                    for (int i = 0; i < length; i++) {
+                        chars[i] = in.readChar();
+                    }
+                    consumer.accept(new String(chars));
+                    read += 4 + 2L * length;
+                }
+            }
+        }
+
+        private void flush() throws IOException {
+            if (!m_isFlushed) {
+                m_out.flush();
+                m_isFlushed = true;
+            }
+        }
+
+        void dispose() {
+            try {
+                m_out.close();
+                if (m_in != null) {
+                    m_in.close();
+                }
+            } catch (IOException ex) {
+                // ignore, the file is deleted anyway
+            }
+            m_file.delete();
+        }
+    }
+
+    /** Receives the keys read from a {@link KeyLog}. */
+    @FunctionalInterface
+    private interface KeyConsumer {
+        void accept(String key) throws DuplicateKeyException, IOException;
+    }
+}
@@ -798,10 +798,21 @@ public static ThreadPool currentPool() {
         if (Thread.currentThread() instanceof Worker) {
             return ((Worker)Thread.currentThread()).m_startedFrom;
         } else {
-            return null;
+            return WorkStealingThreadPool.currentWorkStealingPool();
         }
     }
 
+    /**
+     * Returns whether the future has been returned by a thread pool. Waiting for such a future in a thread taken
+     * out of a pool doesn't count towards the limit of the pool anyway (see {@link MyFuture#get()}).
+     *
+     * @param future any future
+     * @return <code>true</code> if the future belongs to a thread pool
+     */
+    static boolean isPoolFuture(final Future<?> future) {
+        return future instanceof MyFuture;
+    }
+
     /**
      * Returns the size of the future queue (needed by the unit test).
      *
@@ -50,6 +50,7 @@
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
@@ -57,11 +58,14 @@
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.ExecutionMonitor;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.workflow.NodeContext;
 
 /**
- * This class contains utility methods for handling {@link NodeContext}s with new threads.
+ * This class contains utility methods for handling {@link NodeContext}s with new threads and for waiting on tasks
+ * submitted to a {@link ThreadPool}.
  *
  * @author Thorsten Meinl, KNIME AG, Zurich, Switzerland
  * @since 2.8
@@ -487,4 +491,130 @@ protected void runWithContext() {
             }
         };
     }
+
+    /**
+     * Reads the number of threads to use for a task from a system property.
+     *
+     * @param property the name of the system property
+     * @param defaultValue the value returned if the property is not set or isn't a positive number (a warning is
+     *            logged in the latter case)
+     * @return the number of threads
+     * @since 3.6
+     * @noreference This method is not intended to be referenced by clients.
+     */
+    public static int getThreadCount(final String property, final int defaultValue) {
+        final String value = System.getProperty(property);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            final int result = Integer.parseInt(value.trim());
+            if (result < 1) {
+                throw new NumberFormatException("Value must be positive");
+            }
+            return result;
+        } catch (NumberFormatException nfe) {
+            logger.warn("Unable to read property " + property + " (\"" + value + "\"); defaulting to "
+                + defaultValue, nfe);
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Runs a blocking call (e.g. a wait for another thread) in the current thread. If the current thread is taken out
+     * of a {@link ThreadPool} it doesn't count towards the limit of its pool while the call blocks (see
+     * {@link ThreadPool#runInvisible(Callable)}), otherwise the call is simply run.
+     *
+     * @param blockingCall the call
+     * @param <V> the result type of the call
+     * @return the result of the call
+     * @throws Exception any exception thrown by the call
+     * @since 3.6
+     * @noreference This method is not intended to be referenced by clients.
+     */
+    public static <V> V runInvisible(final Callable<V> blockingCall) throws Exception {
+        final ThreadPool pool = ThreadPool.currentPool();
+        if (pool == null) {
+            return blockingCall.call();
+        }
+        try {
+            return pool.runInvisible(blockingCall);
+        } catch (ExecutionException ee) {
+            // runInvisible wraps the exceptions of the call
+            final Throwable cause = ee.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception)cause;
+            }
+            throw ee;
+        }
+    }
+
+    /**
+     * Waits for the task and returns its result, checking the monitor for cancelation every 250ms. The waiting
+     * thread doesn't count towards the limit of its {@link ThreadPool} (see {@link #runInvisible(Callable)}). Tasks
+     * submitted to a sub pool of e.g. the {@link org.knime.core.node.KNIMEConstants#GLOBAL_THREAD_POOL} can therefore
+     * run even if all threads of the pool are busy waiting for them.
+     *
+     * @param future the future of the task
+     * @param exec to check for cancelation while waiting
+     * @param <V> the result type of the task
+     * @return the result of the task
+     * @throws CanceledExecutionException if the monitor or the task has been canceled or the thread is interrupted
+     * @throws ExecutionException if the task failed with a checked exception; runtime exceptions and errors of the
+     *             task are rethrown as they are
+     * @since 3.6
+     * @noreference This method is not intended to be referenced by clients.
+     */
+    public static <V> V waitFor(final Future<V> future, final ExecutionMonitor exec)
+        throws CanceledExecutionException, ExecutionException {
+        if (!future.isDone()) {
+            final Callable<Void> poll = () -> {
+                while (true) {
+                    exec.checkCanceled();
+                    try {
+                        future.get(250, TimeUnit.MILLISECONDS);
+                        return null;
+                    } catch (TimeoutException te) {
+                        // check cancelation and wait again
+                    } catch (ExecutionException | CancellationException e) {
+                        // done, the result is retrieved below
+                        return null;
+                    }
+                }
+            };
+            try {
+                if (ThreadPool.isPoolFuture(future)) {
+                    // waits invisibly by itself, must not be hidden twice
+                    poll.call();
+                } else {
+                    runInvisible(poll);
+                }
+            } catch (CanceledExecutionException | RuntimeException e) {
+                throw e;
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new CanceledExecutionException("Interrupted while waiting for task");
+            } catch (Exception e) {
+                throw new IllegalStateException("Unable to wait for task: " + e.getMessage(), e);
+            }
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new CanceledExecutionException("Interrupted while waiting for task");
+        } catch (CancellationException ce) {
+            throw new CanceledExecutionException("Task has been canceled");
+        } catch (ExecutionException ee) {
+            final Throwable cause = ee.getCause();
+            if (cause instanceof CanceledExecutionException) {
+                throw (CanceledExecutionException)cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            } else if (cause instanceof Error) {
+                throw (Error)cause;
+            }
+            throw ee;
+        }
+    }
 }
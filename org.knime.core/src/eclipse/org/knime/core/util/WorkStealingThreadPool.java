@@ -0,0 +1,888 @@
+/*
+ * ------------------------------------------------------------------------
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * -------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.util;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.concurrent.ForkJoinPool.ManagedBlocker;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.knime.core.node.CanceledExecutionException;
+import org.knime.core.node.NodeLogger;
+
+/**
+ * A {@link ThreadPool} whose threads are provided by a work-stealing {@link ForkJoinPool}. The API and the semantics
+ * of the thread limits are the same as in the classic pool: a task is only started if neither its pool nor any of
+ * the pool's ancestors exceed their maximum number of running threads; other tasks wait in a queue shared by the
+ * whole pool hierarchy.
+ *
+ * <p>
+ * The differences are in the handling of threads:
+ * <ul>
+ * <li>Tasks started from within a task are pushed to the local queue of the current worker thread, from where idle
+ * workers steal them.</li>
+ * <li>A task waiting for the result of another task that has not been started yet runs that task itself instead of
+ * parking its thread (provided the limits of the other task's pool permit it). If another worker has taken the task
+ * already, the waiting worker joins it, i.e. it helps with the tasks of that worker.</li>
+ * <li>Waits of tasks on futures, in {@link #runInvisible(Callable)} and in {@link #waitForTermination()} are
+ * managed blocks, i.e. the fork/join pool is informed and compensates the blocked thread. The waiting thread does not
+ * count towards the limits of its pool and any of its ancestors while waiting.</li>
+ * </ul>
+ * In addition the pool provides some metrics such as its queue depth and the number of stolen tasks.
+ *
+ * @author KNIME AG, Zurich, Switzerland
+ * @since 3.6
+ */
+public class WorkStealingThreadPool extends ThreadPool {
+
+    /** The task run by the current thread, null if the thread doesn't run a task of a work-stealing pool. */
+    private static final ThreadLocal<Task<?>> CURRENT_TASK = new ThreadLocal<Task<?>>();
+
+    private static final AtomicInteger WORKER_COUNTER = new AtomicInteger();
+
+    /** Maximum parallelism of a fork/join pool. */
+    private static final int MAX_PARALLELISM = 0x7fff;
+
+    private final class Task<T> extends FutureTask<T> {
+        private final CountDownLatch m_startWaiter = new CountDownLatch(1);
+
+        private final ClassLoader m_contextClassloader = Thread.currentThread().getContextClassLoader();
+
+        private volatile Thread m_thread;
+
+        /** The fork/join task running this task, null as long as it waits for a thread. */
+        private volatile ForkJoinTask<?> m_forkJoinTask;
+
+        /** The fork/join pool the task was handed to. */
+        private volatile ForkJoinPool m_forkJoinPool;
+
+        /** Whether the task waits for a thread in the queue, guarded by the queue. */
+        private boolean m_isQueued;
+
+        Task(final Callable<T> callable) {
+            super(ThreadUtils.callableWithContext(callable, false));
+        }
+
+        Task(final Runnable runnable, final T result) {
+            super(ThreadUtils.runnableWithContext(runnable, false), result);
+        }
+
+        WorkStealingThreadPool getPool() {
+            return WorkStealingThreadPool.this;
+        }
+
+        @Override
+        public void run() {
+            m_startWaiter.countDown();
+            final Thread thread = Thread.currentThread();
+            final Task<?> previousTask = CURRENT_TASK.get();
+            // set context classloader of thread that created this task
+            final ClassLoader previousContextClassloader = thread.getContextClassLoader();
+            thread.setContextClassLoader(m_contextClassloader);
+            CURRENT_TASK.set(this);
+            m_thread = thread;
+            try {
+                super.run();
+                logException();
+            } finally {
+                m_thread = null;
+                thread.setContextClassLoader(previousContextClassloader);
+                if (previousTask == null) {
+                    CURRENT_TASK.remove();
+                    // don't pass a pending interrupt (e.g. from a cancelation) on to the next task of the worker
+                    Thread.interrupted();
+                } else {
+                    CURRENT_TASK.set(previousTask);
+                }
+                taskFinished(this);
+            }
+        }
+
+        private void logException() {
+            try {
+                super.get();
+            } catch (InterruptedException ex) {
+                NodeLogger.getLogger(ThreadPool.class).debug("Thread was interrupted");
+            } catch (CancellationException ex) {
+                NodeLogger.getLogger(ThreadPool.class).debug("Future was canceled");
+            } catch (ExecutionException ex) {
+                if (!(ex.getCause() instanceof CanceledExecutionException)) {
+                    // canceled execution exception is fine and will not be reported
+                    NodeLogger.getLogger(ThreadPool.class).error("An exception occurred while executing a runnable.",
+                        ex.getCause());
+                }
+            }
+        }
+
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning) {
+            boolean b = super.cancel(mayInterruptIfRunning);
+            if (b) {
+                m_startWaiter.countDown();
+                removeQueuedTask(this);
+            }
+            return b;
+        }
+
+        void waitUntilStarted() throws InterruptedException {
+            m_startWaiter.await();
+        }
+
+        boolean isStarted() {
+            return m_startWaiter.getCount() == 0;
+        }
+
+        /**
+         * Runs this task in the current thread if it still waits for a thread and its pool permits to run it in place
+         * of the current task, which waits for it anyway.
+         */
+        private boolean tryRunQueuedInline(final Task<?> currentTask) {
+            final WorkStealingThreadPool waitingPool = currentTask.getPool();
+            if (waitingPool.m_queuedTasks != m_queuedTasks) {
+                return false;
+            }
+            synchronized (m_queuedTasks) {
+                if (!m_isQueued) {
+                    return false;
+                }
+                waitingPool.addInvisible(1);
+                if (!getPool().tryAcquire(this)) {
+                    waitingPool.addInvisible(-1);
+                    return false;
+                }
+                m_queuedTasks.remove(this);
+                m_isQueued = false;
+            }
+            try {
+                run();
+            } finally {
+                waitingPool.endInvisible();
+            }
+            return true;
+        }
+
+        /** Runs this task in the current thread if it is still in the local queue of the current worker. */
+        private boolean tryRunInline() {
+            final ForkJoinTask<?> forkJoinTask = m_forkJoinTask;
+            if (forkJoinTask != null && forkJoinTask.tryUnfork()) {
+                run();
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Waits for the completion of the task. If the task has been taken by another worker of the same fork/join
+         * pool, the current worker joins it, i.e. it runs tasks of the thief in the meantime and only blocks
+         * (compensated by the fork/join pool) if there is nothing to help with. Joining is not interruptible.
+         */
+        private void await() throws InterruptedException {
+            final ForkJoinTask<?> forkJoinTask = m_forkJoinTask;
+            if (forkJoinTask != null && ForkJoinTask.getPool() == m_forkJoinPool) {
+                forkJoinTask.quietlyJoin();
+            } else {
+                ForkJoinPool.managedBlock(new FutureBlocker(-1));
+            }
+        }
+
+        @Override
+        public T get() throws InterruptedException, ExecutionException {
+            final Task<?> currentTask = CURRENT_TASK.get();
+            if (currentTask != null && !isDone() && !tryRunQueuedInline(currentTask) && !tryRunInline()) {
+                currentTask.getPool().beginInvisible();
+                try {
+                    await();
+                } finally {
+                    currentTask.getPool().endInvisible();
+                }
+            }
+            return super.get();
+        }
+
+        @Override
+        public T get(final long timeout, final TimeUnit unit)
+            throws InterruptedException, ExecutionException, TimeoutException {
+            final Task<?> currentTask = CURRENT_TASK.get();
+            if (currentTask == null || isDone()) {
+                return super.get(timeout, unit);
+            }
+            if (!tryRunQueuedInline(currentTask) && !tryRunInline()) {
+                currentTask.getPool().beginInvisible();
+                try {
+                    ForkJoinPool.managedBlock(new FutureBlocker(System.nanoTime() + unit.toNanos(timeout)));
+                } finally {
+                    currentTask.getPool().endInvisible();
+                }
+            }
+            if (!isDone()) {
+                throw new TimeoutException();
+            }
+            return super.get();
+        }
+
+        /** Waits for the completion of the task (or the deadline). The result is evaluated by the caller. */
+        private final class FutureBlocker implements ManagedBlocker {
+            /** Deadline in terms of {@link System#nanoTime()}, negative for none. */
+            private final long m_deadline;
+
+            FutureBlocker(final long deadline) {
+                m_deadline = deadline;
+            }
+
+            @Override
+            public boolean block() throws InterruptedException {
+                try {
+                    if (m_deadline < 0) {
+                        Task.super.get();
+                    } else {
+                        final long remaining = m_deadline - System.nanoTime();
+                        if (remaining > 0) {
+                            Task.super.get(remaining, TimeUnit.NANOSECONDS);
+                        }
+                    }
+                } catch (ExecutionException | CancellationException | TimeoutException ex) {
+                    // evaluated by the caller
+                }
+                return true;
+            }
+
+            @Override
+            public boolean isReleasable() {
+                return isDone() || (m_deadline >= 0 && System.nanoTime() >= m_deadline);
+            }
+        }
+    }
+
+    /** Runs a callable as managed block and keeps its result. */
+    private static final class CallableBlocker<T> implements ManagedBlocker {
+        private final Callable<T> m_callable;
+
+        private T m_result;
+
+        private Exception m_exception;
+
+        private boolean m_done;
+
+        CallableBlocker(final Callable<T> callable) {
+            m_callable = callable;
+        }
+
+        @Override
+        public boolean block() {
+            try {
+                m_result = m_callable.call();
+            } catch (Exception ex) {
+                m_exception = ex;
+            }
+            m_done = true;
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            return m_done;
+        }
+
+        T getResult() throws ExecutionException {
+            if (m_exception != null) {
+                throw new ExecutionException(m_exception);
+            }
+            return m_result;
+        }
+    }
+
+    private static final class WorkerThreadFactory implements ForkJoinWorkerThreadFactory {
+        @Override
+        public ForkJoinWorkerThread newThread(final ForkJoinPool pool) {
+            final ForkJoinWorkerThread thread = new ForkJoinWorkerThread(pool) {
+            };
+            thread.setName("KNIME-WS-Worker-" + WORKER_COUNTER.getAndIncrement());
+            thread.setPriority(Thread.MIN_PRIORITY + 2);
+            return thread;
+        }
+    }
+
+    private final WorkStealingThreadPool m_parent;
+
+    /** The fork/join pool providing the threads, only set in the root pool. */
+    private volatile ForkJoinPool m_forkJoinPool;
+
+    /** Tasks waiting for a thread, shared by the pool hierarchy and used as lock for the thread accounting. */
+    private final LinkedList<Task<?>> m_queuedTasks;
+
+    private final AtomicInteger m_maxThreads = new AtomicInteger();
+
+    private final AtomicInteger m_pendingJobs = new AtomicInteger();
+
+    private final AtomicLong m_completedTasks = new AtomicLong();
+
+    /** Tasks started in this pool and its sub pools that have not finished yet. */
+    private final Set<Task<?>> m_runningTasks = new HashSet<Task<?>>();
+
+    /** Number of running tasks of this pool and its sub pools that currently wait. */
+    private int m_invisibleThreads;
+
+    /**
+     * Creates a new pool with a maximum number of threads.
+     *
+     * @param maxThreads the maximum number of threads
+     */
+    public WorkStealingThreadPool(final int maxThreads) {
+        super(maxThreads);
+        m_parent = null;
+        m_maxThreads.set(maxThreads);
+        m_queuedTasks = new LinkedList<Task<?>>();
+        m_forkJoinPool = createForkJoinPool(maxThreads);
+    }
+
+    /**
+     * Creates a new sub pool.
+     *
+     * @param maxThreads the maximum number of threads in the pool
+     * @param parent the parent pool
+     */
+    protected WorkStealingThreadPool(final int maxThreads, final WorkStealingThreadPool parent) {
+        super(maxThreads, parent);
+        m_parent = parent;
+        m_maxThreads.set(maxThreads);
+        m_queuedTasks = parent.m_queuedTasks;
+        m_forkJoinPool = null;
+    }
+
+    /**
+     * The parallelism equals the thread limit of the root pool, so the fork/join pool only creates further threads to
+     * compensate blocked ones.
+     */
+    private static ForkJoinPool createForkJoinPool(final int maxThreads) {
+        return new ForkJoinPool(Math.max(1, Math.min(MAX_PARALLELISM, maxThreads)), new WorkerThreadFactory(), null,
+            false);
+    }
+
+    private ForkJoinPool getForkJoinPool() {
+        return getRoot().m_forkJoinPool;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ThreadPool createSubPool() {
+        return new WorkStealingThreadPool(m_maxThreads.get(), this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ThreadPool createSubPool(final int maxThreads) {
+        return new WorkStealingThreadPool(maxThreads, this);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> Future<T> enqueue(final Callable<T> task) {
+        if (task == null) {
+            throw new IllegalArgumentException("Task must not be null");
+        }
+        return start(new Task<T>(task), true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<?> enqueue(final Runnable r) {
+        return start(new Task<Object>(r, null), true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> Future<T> trySubmit(final Callable<T> t) {
+        return start(new Task<T>(t), false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<?> trySubmit(final Runnable r) {
+        return start(new Task<Object>(r, null), false);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> Future<T> submit(final Callable<T> task) throws InterruptedException {
+        Task<T> ftask = (Task<T>)enqueue(task);
+        ftask.waitUntilStarted();
+        return ftask;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Future<?> submit(final Runnable task) throws InterruptedException {
+        Task<?> ftask = (Task<?>)enqueue(task);
+        ftask.waitUntilStarted();
+        return ftask;
+    }
+
+    /**
+     * Starts the task if the limits permit, otherwise queues it (if requested).
+     *
+     * @return the task or null if it was neither started nor queued
+     */
+    private <T> Task<T> start(final Task<T> task, final boolean enqueue) {
+        final boolean started;
+        synchronized (m_queuedTasks) {
+            started = tryAcquire(task);
+            if (started || enqueue) {
+                incrementPendingJobs();
+            }
+            if (!started && enqueue) {
+                m_queuedTasks.add(task);
+                task.m_isQueued = true;
+            }
+        }
+        if (started) {
+            fork(task);
+        } else if (!enqueue) {
+            return null;
+        }
+        return task;
+    }
+
+    /**
+     * Hands the task to the fork/join pool, to the local queue of the current worker if possible. If the pool has
+     * been replaced by {@link #setMaxThreads(int)} in the meantime, the task is handed to the new pool. A task that
+     * is rejected nevertheless is canceled and releases its thread slot, so that it doesn't block
+     * {@link #waitForTermination()}.
+     */
+    private void fork(final Task<?> task) {
+        final ForkJoinTask<?> forkJoinTask = ForkJoinTask.adapt(task);
+        ForkJoinPool forkJoinPool = getForkJoinPool();
+        while (true) {
+            task.m_forkJoinPool = forkJoinPool;
+            task.m_forkJoinTask = forkJoinTask;
+            try {
+                if (ForkJoinTask.getPool() == forkJoinPool) {
+                    forkJoinTask.fork();
+                } else {
+                    forkJoinPool.execute(forkJoinTask);
+                }
+                return;
+            } catch (RejectedExecutionException ex) {
+                final ForkJoinPool currentPool = getForkJoinPool();
+                if (currentPool == forkJoinPool) {
+                    NodeLogger.getLogger(ThreadPool.class).error("Task was rejected by the fork/join pool", ex);
+                    task.m_forkJoinTask = null;
+                    task.cancel(false);
+                    task.getPool().taskFinished(task);
+                    return;
+                }
+                forkJoinPool = currentPool;
+            }
+        }
+    }
+
+    /** Accounts the task as running in this pool and its ancestors if none of them exceeds its limit. */
+    private boolean tryAcquire(final Task<?> task) {
+        assert Thread.holdsLock(m_queuedTasks);
+        for (WorkStealingThreadPool p = this; p != null; p = p.m_parent) {
+            if (p.m_runningTasks.size() - p.m_invisibleThreads >= p.m_maxThreads.get()) {
+                return false;
+            }
+        }
+        for (WorkStealingThreadPool p = this; p != null; p = p.m_parent) {
+            p.m_runningTasks.add(task);
+        }
+        return true;
+    }
+
+    /** Starts queued tasks as far as the limits of their pools permit. */
+    private void dispatch() {
+        final List<Task<?>> startedTasks = new ArrayList<Task<?>>();
+        synchronized (m_queuedTasks) {
+            final WorkStealingThreadPool root = getRoot();
+            for (Iterator<Task<?>> it = m_queuedTasks.iterator(); it.hasNext()
+                && root.m_runningTasks.size() - root.m_invisibleThreads < root.m_maxThreads.get();) {
+                final Task<?> task = it.next();
+                if (task.getPool().tryAcquire(task)) {
+                    it.remove();
+                    task.m_isQueued = false;
+                    startedTasks.add(task);
+                }
+            }
+        }
+        for (Task<?> task : startedTasks) {
+            fork(task);
+        }
+    }
+
+    private WorkStealingThreadPool getRoot() {
+        WorkStealingThreadPool root = this;
+        while (root.m_parent != null) {
+            root = root.m_parent;
+        }
+        return root;
+    }
+
+    private void removeQueuedTask(final Task<?> task) {
+        final boolean removed;
+        synchronized (m_queuedTasks) {
+            removed = task.m_isQueued && m_queuedTasks.remove(task);
+            task.m_isQueued = false;
+        }
+        if (removed) {
+            decrementPendingJobs();
+        }
+    }
+
+    /** Called when a started task has finished (or was canceled before it ran). */
+    private void taskFinished(final Task<?> task) {
+        synchronized (m_queuedTasks) {
+            for (WorkStealingThreadPool p = this; p != null; p = p.m_parent) {
+                p.m_runningTasks.remove(task);
+                p.m_completedTasks.incrementAndGet();
+            }
+        }
+        decrementPendingJobs();
+        dispatch();
+    }
+
+    /** The current thread (running a task of this pool) starts waiting, another thread may run in its place. */
+    private void beginInvisible() {
+        synchronized (m_queuedTasks) {
+            addInvisible(1);
+        }
+        dispatch();
+    }
+
+    private void endInvisible() {
+        synchronized (m_queuedTasks) {
+            addInvisible(-1);
+        }
+    }
+
+    private void addInvisible(final int delta) {
+        assert Thread.holdsLock(m_queuedTasks);
+        for (WorkStealingThreadPool p = this; p != null; p = p.m_parent) {
+            p.m_invisibleThreads += delta;
+        }
+    }
+
+    private void incrementPendingJobs() {
+        m_pendingJobs.incrementAndGet();
+        if (m_parent != null) {
+            m_parent.incrementPendingJobs();
+        }
+    }
+
+    private void decrementPendingJobs() {
+        if (m_parent != null) {
+            m_parent.decrementPendingJobs();
+        }
+        if (m_pendingJobs.decrementAndGet() == 0) {
+            synchronized (m_pendingJobs) {
+                m_pendingJobs.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getMaxThreads() {
+        return m_maxThreads.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getRunningThreads() {
+        synchronized (m_queuedTasks) {
+            return m_runningTasks.size() - m_invisibleThreads;
+        }
+    }
+
+    /**
+     * Executes the callable in the current thread as managed block of the fork/join pool. The thread does not
+     * count towards the limits of the pool of its task (and its ancestors) while the callable runs.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> T runInvisible(final Callable<T> r) throws ExecutionException {
+        final Task<?> currentTask = CURRENT_TASK.get();
+        if (currentTask == null) {
+            throw new IllegalThreadStateException("The current thread is not taken out of a thread pool");
+        }
+        final WorkStealingThreadPool pool = currentTask.getPool();
+        if (pool.m_queuedTasks != m_queuedTasks) {
+            throw new IllegalThreadStateException("The current thread is not taken out of this thread pool");
+        }
+        final CallableBlocker<T> blocker = new CallableBlocker<T>(r);
+        pool.beginInvisible();
+        try {
+            ForkJoinPool.managedBlock(blocker);
+        } catch (InterruptedException ex) {
+            // not thrown by the blocker
+            Thread.currentThread().interrupt();
+            throw new ExecutionException(ex);
+        } finally {
+            pool.endInvisible();
+        }
+        return blocker.getResult();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setMaxThreads(final int newValue) {
+        if (newValue < 0) {
+            throw new IllegalArgumentException("Thread count must be >= 0");
+        }
+        m_maxThreads.set(newValue);
+        if (m_parent == null) {
+            ForkJoinPool oldPool = null;
+            synchronized (m_queuedTasks) {
+                if (newValue > m_forkJoinPool.getParallelism()) {
+                    // the parallelism of a fork/join pool is fixed; running tasks finish in the old pool, tasks
+                    // that are concurrently handed to the old pool are handed to the new one (see #fork)
+                    oldPool = m_forkJoinPool;
+                    m_forkJoinPool = createForkJoinPool(newValue);
+                }
+            }
+            if (oldPool != null) {
+                oldPool.shutdown();
+            }
+        }
+        dispatch();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void shutdown() {
+        final List<Task<?>> canceledTasks = new ArrayList<Task<?>>();
+        synchronized (m_queuedTasks) {
+            for (Iterator<Task<?>> it = m_queuedTasks.iterator(); it.hasNext();) {
+                Task<?> task = it.next();
+                if (task.getPool() == this) {
+                    it.remove();
+                    task.m_isQueued = false;
+                    canceledTasks.add(task);
+                }
+            }
+        }
+        for (Task<?> task : canceledTasks) {
+            decrementPendingJobs();
+            task.cancel(true);
+        }
+        setMaxThreads(0);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void interruptAll() {
+        synchronized (m_queuedTasks) {
+            for (Task<?> task : m_runningTasks) {
+                Thread thread = task.m_thread;
+                if (thread != null) {
+                    thread.interrupt();
+                }
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void waitForTermination() throws InterruptedException {
+        final Task<?> currentTask = CURRENT_TASK.get();
+        if (currentTask != null) {
+            currentTask.getPool().beginInvisible();
+        }
+        try {
+            ForkJoinPool.managedBlock(new ManagedBlocker() {
+                @Override
+                public boolean block() throws InterruptedException {
+                    synchronized (m_pendingJobs) {
+                        while (m_pendingJobs.get() != 0) {
+                            m_pendingJobs.wait();
+                        }
+                    }
+                    return true;
+                }
+
+                @Override
+                public boolean isReleasable() {
+                    return m_pendingJobs.get() == 0;
+                }
+            });
+        } finally {
+            if (currentTask != null) {
+                currentTask.getPool().endInvisible();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of tasks of this pool and its sub pools that have been submitted but not started yet,
+     * either because the thread limits are reached or because no worker thread has taken them yet.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        int depth = 0;
+        synchronized (m_queuedTasks) {
+            for (Task<?> task : m_queuedTasks) {
+                if (isAncestorOf(task.getPool())) {
+                    depth++;
+                }
+            }
+            for (Task<?> task : m_runningTasks) {
+                if (!task.isStarted()) {
+                    depth++;
+                }
+            }
+        }
+        return depth;
+    }
+
+    private boolean isAncestorOf(final WorkStealingThreadPool pool) {
+        for (WorkStealingThreadPool p = pool; p != null; p = p.m_parent) {
+            if (p == this) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of tasks stolen by idle worker threads from the queues of other worker threads. The worker
+     * threads are shared by the entire pool hierarchy, hence this is a global count.
+     *
+     * @return an estimate of the number of stolen tasks
+     * @see ForkJoinPool#getStealCount()
+     */
+    public long getStealCount() {
+        return getForkJoinPool().getStealCount();
+    }
+
+    /**
+     * Returns the number of tasks of this pool and its sub pools that have finished (including canceled ones).
+     *
+     * @return the number of completed tasks
+     */
+    public long getCompletedTaskCount() {
+        return m_completedTasks.get();
+    }
+
+    /**
+     * Returns the number of worker threads currently alive, which are shared by the entire pool hierarchy. This
+     * includes threads that wait and idle threads that have not been terminated yet.
+     *
+     * @return the number of worker threads
+     */
+    public int getPoolSize() {
+        return getForkJoinPool().getPoolSize();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    int getQueueSize() {
+        synchronized (m_queuedTasks) {
+            return m_queuedTasks.size();
+        }
+    }
+
+    /**
+     * Returns the pool of the task run by the current thread.
+     *
+     * @return a pool or <code>null</code> if the current thread doesn't run a task of a work-stealing pool
+     * @see ThreadPool#currentPool()
+     */
+    static ThreadPool currentWorkStealingPool() {
+        final Task<?> task = CURRENT_TASK.get();
+        return task == null ? null : task.getPool();
+    }
+}
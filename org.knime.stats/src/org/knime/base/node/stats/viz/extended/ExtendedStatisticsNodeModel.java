@@ -135,6 +135,12 @@ class ExtendedStatisticsNodeModel extends NodeModel {
      */
     private static final String CFGKEY_COMPUTE_MEDIAN = "compute_median";
 
+    /** The median is computed exactly by default. */
+    private static final boolean DEFAULT_APPROXIMATE_MEDIAN = false;
+
+    /** Configuration key for estimating the median in a single pass, added in 3.6. */
+    private static final String CFGKEY_APPROXIMATE_MEDIAN = "approximate_median";
+
     /**
      *
      */
@@ -257,6 +263,13 @@ static SettingsModelBoolean createMedianModel() {
         return new SettingsModelBoolean(CFGKEY_COMPUTE_MEDIAN, DEFAULT_COMPUTE_MEDIAN);
     }
 
+    /**
+     * @return boolean model to estimate the median instead of computing it exactly
+     */
+    static SettingsModelBoolean createApproximateMedianModel() {
+        return new SettingsModelBoolean(CFGKEY_APPROXIMATE_MEDIAN, DEFAULT_APPROXIMATE_MEDIAN);
+    }
+
     /**
      * @return int model to restrict number of nominal values
      */
@@ -298,6 +311,8 @@ static SettingsModelIntegerBounded createNominalValuesModelOutput() {
 
     private final SettingsModelBoolean m_computeMedian = createMedianModel();
 
+    private final SettingsModelBoolean m_approximateMedian = createApproximateMedianModel();
+
     private final SettingsModelIntegerBounded m_nominalValues = createNominalValuesModel();
 
     private final SettingsModelIntegerBounded m_nominalValuesOutput = createNominalValuesModelOutput();
@@ -326,8 +341,8 @@ protected BufferedDataTable[] execute(final BufferedDataTable[] inData, final Ex
         DataTableSpec dataSpec = inData[0].getDataTableSpec();
         List<String> includes = nominalColumns(dataSpec);
         m_statTable =
-            new Statistics3Table(inData[0], m_computeMedian.getBooleanValue(), numOfNominalValuesOutput(), includes,
-                init);
+            new Statistics3Table(inData[0], m_computeMedian.getBooleanValue(), m_approximateMedian.getBooleanValue(),
+                numOfNominalValuesOutput(), includes, init);
         if (getStatTable().getWarning() != null) {
             setWarningMessage(getStatTable().getWarning());
         }
@@ -541,6 +556,7 @@ protected DataTableSpec[] configure(final DataTableSpec[] inSpecs) throws Invali
     @Override
     protected void saveSettingsTo(final NodeSettingsWO settings) {
         m_computeMedian.saveSettingsTo(settings);
+        m_approximateMedian.saveSettingsTo(settings);
         m_nominalValues.saveSettingsTo(settings);
         m_nominalValuesOutput.saveSettingsTo(settings);
         m_nominalFilter.saveSettingsTo(settings);
@@ -557,6 +573,12 @@ protected void saveSettingsTo(final NodeSettingsWO settings) {
     @Override
     protected void loadValidatedSettingsFrom(final NodeSettingsRO settings) throws InvalidSettingsException {
         m_computeMedian.loadSettingsFrom(settings);
+        try {
+            m_approximateMedian.loadSettingsFrom(settings);
+        } catch (InvalidSettingsException e) {
+            // added in 3.6, older workflows compute the exact median
+            m_approximateMedian.setBooleanValue(DEFAULT_APPROXIMATE_MEDIAN);
+        }
         m_nominalValues.loadSettingsFrom(settings);
         m_nominalValuesOutput.loadSettingsFrom(settings);
         m_nominalFilter.loadSettingsFrom(settings);
@@ -97,6 +97,14 @@ IN_TYPE, new OperatorData("Duration date time", "Duration", "Duration", false, f
             globalSettings, AggregationOperator.setInclMissingFlag(opColSettings, false));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsMerge() {
+        return getClass() == LocalDateTimeDurationOperator.class;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -95,6 +95,14 @@ public LocalTimeDurationOperator(final GlobalSettings globalSettings, final Oper
             globalSettings, AggregationOperator.setInclMissingFlag(opColSettings, false));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsMerge() {
+        return getClass() == LocalTimeDurationOperator.class;
+    }
+
     /**
      * {@inheritDoc}
      */
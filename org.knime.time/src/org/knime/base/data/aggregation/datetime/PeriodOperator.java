@@ -94,6 +94,14 @@ public PeriodOperator(final GlobalSettings globalSettings, final OperatorColumnS
             AggregationOperator.setInclMissingFlag(opColSettings, false));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean supportsMerge() {
+        return getClass() == PeriodOperator.class;
+    }
+
     /**
      * {@inheritDoc}
      */